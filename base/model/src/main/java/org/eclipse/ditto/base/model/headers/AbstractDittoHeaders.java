@@ -84,10 +84,22 @@ public abstract class AbstractDittoHeaders implements DittoHeaders {
      * @param headers headers indexed by lower-case keys.
      * @param flag unused disambiguation parameter.
      */
-    @SuppressWarnings("unused")
     protected AbstractDittoHeaders(final Map<String, Header> headers, final boolean flag) {
+        this(headers, flag, true);
+    }
+
+    /**
+     * Construct a new {@code AbstractDittoHeaders} from a known case insensitive map, optionally without copying it.
+     *
+     * @param headers headers indexed by lower-case keys.
+     * @param flag unused disambiguation parameter.
+     * @param copy whether to copy {@code headers}. Only builders pass {@code false}; they copy the map themselves
+     * before modifying it again.
+     */
+    @SuppressWarnings("unused")
+    AbstractDittoHeaders(final Map<String, Header> headers, final boolean flag, final boolean copy) {
         checkNotNull(headers, "headers");
-        this.headers = new LinkedHashMap<>(headers);
+        this.headers = copy ? new LinkedHashMap<>(headers) : headers;
     }
 
     @Override
@@ -161,7 +173,9 @@ public abstract class AbstractDittoHeaders implements DittoHeaders {
     }
 
     protected Optional<String> getStringForDefinition(final HeaderDefinition definition) {
-        return Optional.ofNullable(get(definition.getKey()));
+        // keys of definitions are lower-case already
+        @Nullable final Header header = headers.get(definition.getKey());
+        return null != header ? Optional.of(header.getValue()) : Optional.empty();
     }
 
     @Override
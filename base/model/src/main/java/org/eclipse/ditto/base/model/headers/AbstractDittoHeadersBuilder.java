@@ -58,6 +58,10 @@ import org.eclipse.ditto.json.JsonValueContainer;
  * This implementation does already most of the work including header value validation. Insertion order and
  * re-insertion order is maintained via a linked hash map. Since Java linked hash map does not maintain
  * re-insertion order, each entry is removed from the map before they are added.
+ * <p>
+ * A builder based on existing {@code DittoHeaders} shares their map and copies it only on its first modification.
+ * Likewise, built {@code DittoHeaders} share the map of the builder until the builder is modified again. Header values
+ * taken over from existing {@code DittoHeaders} are not validated again.
  */
 @NotThreadSafe
 public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeadersBuilder<S, R>, R extends DittoHeaders>
@@ -79,7 +83,8 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     }
 
     protected final S myself;
-    private final Map<String, Header> headers;
+    private Map<String, Header> headers;
+    private boolean headersShared;
     private final Map<String, HeaderDefinition> definitions;
     private MetadataHeaders metadataHeaders;
     private JsonFieldSelector getMetadataFieldSelector;
@@ -168,12 +173,48 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         checkNotNull(initialHeaders, "initialHeaders");
         checkNotNull(definitions, "definitions");
         myself = (S) selfType.cast(this);
-        headers = preserveCaseSensitivity(initialHeaders);
-        metadataHeaders = MetadataHeaders.newInstance();
-        metadataHeaders.addAll(extractMetadataHeaders(headers));
         this.definitions = getHeaderDefinitionsAsMap(definitions);
-        getMetadataFieldSelector = extractMetadataFieldSelector(headers, DittoHeaderDefinition.GET_METADATA);
-        deleteMetadataFieldSelector = extractMetadataFieldSelector(headers, DittoHeaderDefinition.DELETE_METADATA);
+        metadataHeaders = MetadataHeaders.newInstance();
+        if (initialHeaders instanceof AbstractDittoHeaders &&
+                !containsMetadataHeaders(((AbstractDittoHeaders) initialHeaders).headers)) {
+
+            // copy on first modification
+            headers = ((AbstractDittoHeaders) initialHeaders).headers;
+            headersShared = true;
+            getMetadataFieldSelector = JsonFactory.emptyFieldSelector();
+            deleteMetadataFieldSelector = JsonFactory.emptyFieldSelector();
+        } else {
+            headers = preserveCaseSensitivity(initialHeaders);
+            metadataHeaders.addAll(extractMetadataHeaders(headers));
+            getMetadataFieldSelector = extractMetadataFieldSelector(headers, DittoHeaderDefinition.GET_METADATA);
+            deleteMetadataFieldSelector = extractMetadataFieldSelector(headers, DittoHeaderDefinition.DELETE_METADATA);
+        }
+    }
+
+    private static boolean containsMetadataHeaders(final Map<String, Header> headers) {
+        return headers.containsKey(DittoHeaderDefinition.PUT_METADATA.getKey()) ||
+                headers.containsKey(DittoHeaderDefinition.GET_METADATA.getKey()) ||
+                headers.containsKey(DittoHeaderDefinition.DELETE_METADATA.getKey());
+    }
+
+    /**
+     * Returns the headers of this builder for modification. Copies them first if they are shared with
+     * {@code DittoHeaders}.
+     *
+     * @return the modifiable headers.
+     */
+    private Map<String, Header> mutableHeaders() {
+        if (headersShared) {
+            headers = new LinkedHashMap<>(headers);
+            headersShared = false;
+        }
+        return headers;
+    }
+
+    private void removeIfPresent(final String key) {
+        if (headers.containsKey(key)) {
+            mutableHeaders().remove(key);
+        }
     }
 
     /**
@@ -213,14 +254,15 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         final String key = DittoHeaderDefinition.CORRELATION_ID.getKey();
         if (correlationId != null) {
             checkNotEmpty(correlationId, "correlationId");
-            final Header previousCorrelationId = headers.remove(key);
+            final Map<String, Header> mutableHeaders = mutableHeaders();
+            final Header previousCorrelationId = mutableHeaders.remove(key);
             if (previousCorrelationId != null) {
-                headers.put(key, Header.of(previousCorrelationId.getKey(), correlationId.toString()));
+                mutableHeaders.put(key, Header.of(previousCorrelationId.getKey(), correlationId.toString()));
             } else {
-                headers.put(key, Header.of(key, correlationId.toString()));
+                mutableHeaders.put(key, Header.of(key, correlationId.toString()));
             }
         } else {
-            headers.remove(key);
+            removeIfPresent(key);
         }
         return myself;
     }
@@ -236,8 +278,9 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     protected void putCharSequence(final HeaderDefinition definition, @Nullable final CharSequence value) {
         if (null != value) {
             checkNotEmpty(value, definition.getKey());
-            headers.remove(definition.getKey());
-            headers.put(definition.getKey(), Header.of(definition.getKey(), value.toString()));
+            final Map<String, Header> mutableHeaders = mutableHeaders();
+            mutableHeaders.remove(definition.getKey());
+            mutableHeaders.put(definition.getKey(), Header.of(definition.getKey(), value.toString()));
         } else {
             removeHeader(definition.getKey());
         }
@@ -509,10 +552,16 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
 
     @Override
     public S putHeader(final CharSequence key, final CharSequence value) {
+        return putHeader(key, value, false);
+    }
+
+    private S putHeader(final CharSequence key, final CharSequence value, final boolean builtInValueValidated) {
         validateKey(key);
         checkNotNull(value, "value");
         final String keyString = key.toString().toLowerCase();
-        validateValueType(keyString, value);
+        if (!builtInValueValidated || !BUILT_IN_DEFINITIONS.containsKey(keyString)) {
+            validateValueType(keyString, value);
+        }
         if (isPutMetadataKey(keyString)) {
             metadataHeaders = MetadataHeaders.parseMetadataHeaders(value);
         } else if (isGetMetadataKey(keyString)) {
@@ -524,8 +573,9 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         } else if (DittoHeaderDefinition.CORRELATION_ID.getKey().equals(keyString)) {
             correlationId(value);
         } else {
-            headers.remove(keyString);
-            headers.put(keyString, Header.of(key.toString(), value.toString()));
+            final Map<String, Header> mutableHeaders = mutableHeaders();
+            mutableHeaders.remove(keyString);
+            mutableHeaders.put(keyString, Header.of(key.toString(), value.toString()));
         }
         return myself;
     }
@@ -556,7 +606,12 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     @Override
     public S putHeaders(final Map<String, String> headers) {
         checkNotNull(headers, "headers");
-        headers.forEach(this::putHeader);
+        if (headers instanceof AbstractDittoHeaders) {
+            // values of built-in definitions were validated when the DittoHeaders were built
+            headers.forEach((key, value) -> putHeader(key, value, true));
+        } else {
+            headers.forEach(this::putHeader);
+        }
         return myself;
     }
 
@@ -564,7 +619,7 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     public S removeHeader(final CharSequence key) {
         validateKey(key);
         final String keyString = key.toString().toLowerCase();
-        headers.remove(keyString);
+        removeIfPresent(keyString);
         if (isPutMetadataKey(keyString)) {
             metadataHeaders.clear();
         }
@@ -580,8 +635,8 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
 
     @Override
     public S removePreconditionHeaders() {
-        headers.remove(DittoHeaderDefinition.IF_MATCH.getKey());
-        headers.remove(DittoHeaderDefinition.IF_NONE_MATCH.getKey());
+        removeIfPresent(DittoHeaderDefinition.IF_MATCH.getKey());
+        removeIfPresent(DittoHeaderDefinition.IF_NONE_MATCH.getKey());
         return myself;
     }
 
@@ -607,27 +662,29 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         putGetMetadataFieldSelectorToRegularHeaders();
         putDeleteMetadataFieldSelectorToRegularHeaders();
 
+        // the built headers take over the map; it is copied on the next modification of this builder
+        headersShared = true;
         final ImmutableDittoHeaders dittoHeaders = ImmutableDittoHeaders.fromBuilder(headers);
         return doBuild(dittoHeaders);
     }
 
     private void putMetadataHeadersToRegularHeaders() {
         if (!metadataHeaders.isEmpty()) {
-            headers.put(DittoHeaderDefinition.PUT_METADATA.getKey(),
+            mutableHeaders().put(DittoHeaderDefinition.PUT_METADATA.getKey(),
                     Header.of(DittoHeaderDefinition.PUT_METADATA.getKey(), metadataHeaders.toJsonString()));
         }
     }
 
     private void putGetMetadataFieldSelectorToRegularHeaders() {
         if (!getMetadataFieldSelector.isEmpty()) {
-            headers.put(DittoHeaderDefinition.GET_METADATA.getKey(),
+            mutableHeaders().put(DittoHeaderDefinition.GET_METADATA.getKey(),
                     Header.of(DittoHeaderDefinition.GET_METADATA.getKey(), getMetadataFieldSelector.toString()));
         }
     }
 
     private void putDeleteMetadataFieldSelectorToRegularHeaders() {
         if (!deleteMetadataFieldSelector.isEmpty()) {
-            headers.put(DittoHeaderDefinition.DELETE_METADATA.getKey(),
+            mutableHeaders().put(DittoHeaderDefinition.DELETE_METADATA.getKey(),
                     Header.of(DittoHeaderDefinition.DELETE_METADATA.getKey(), deleteMetadataFieldSelector.toString()));
         }
     }
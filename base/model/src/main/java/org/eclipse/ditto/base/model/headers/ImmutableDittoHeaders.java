@@ -27,8 +27,8 @@ final class ImmutableDittoHeaders extends AbstractDittoHeaders implements DittoH
         super(headers);
     }
 
-    private ImmutableDittoHeaders(final Map<String, Header> headers, final boolean flag) {
-        super(headers, flag);
+    private ImmutableDittoHeaders(final Map<String, Header> headers, final boolean flag, final boolean copy) {
+        super(headers, flag, copy);
     }
 
     /**
@@ -42,8 +42,15 @@ final class ImmutableDittoHeaders extends AbstractDittoHeaders implements DittoH
         return new ImmutableDittoHeaders(headers);
     }
 
+    /**
+     * Returns an instance of {@code ImmutableDittoHeaders} which takes over the map of a builder without copying it.
+     *
+     * @param builderHeaders the headers of the builder indexed by lower-case keys. The builder must copy the map
+     * before modifying it again.
+     * @return the instance.
+     */
     static ImmutableDittoHeaders fromBuilder(final Map<String, Header> builderHeaders) {
-        return new ImmutableDittoHeaders(builderHeaders, true);
+        return new ImmutableDittoHeaders(builderHeaders, true, false);
     }
 
     @Override
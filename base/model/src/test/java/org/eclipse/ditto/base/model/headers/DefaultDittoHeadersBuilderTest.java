@@ -129,6 +129,29 @@ public final class DefaultDittoHeadersBuilderTest {
         assertThat(dittoHeaders).isEqualTo(anotherDittoHeaders);
     }
 
+    @Test
+    public void modifyingBuilderAfterBuildDoesNotModifyBuiltHeaders() {
+        final DittoHeaders first = underTest.correlationId(CORRELATION_ID).build();
+        final DittoHeaders second = underTest.putHeader("foo", "bar").build();
+        final DittoHeaders third = first.toBuilder().removeHeader(DittoHeaderDefinition.CORRELATION_ID.getKey())
+                .build();
+
+        assertThat(first).containsOnly(entry(DittoHeaderDefinition.CORRELATION_ID.getKey(), CORRELATION_ID));
+        assertThat(second).containsOnly(entry(DittoHeaderDefinition.CORRELATION_ID.getKey(), CORRELATION_ID),
+                entry("foo", "bar"));
+        assertThat(third).isEmpty();
+    }
+
+    @Test
+    public void buildingUnmodifiedHeadersReturnsEqualHeaders() {
+        final DittoHeaders dittoHeaders = underTest.correlationId(CORRELATION_ID)
+                .putMetadata(MetadataHeaderKey.parse("/foo"), JsonValue.of("bar"))
+                .build();
+
+        assertThat(dittoHeaders.toBuilder().build()).isEqualTo(dittoHeaders);
+        assertThat(DittoHeaders.newBuilder().putHeaders(dittoHeaders).build()).isEqualTo(dittoHeaders);
+    }
+
     @Test
     public void buildWithEmptyCorrelationIdThrowsIllegalArgumentException() {
         DittoBaseAssertions.assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() ->
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.base.model.headers;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.base.model.headers.entitytag.EntityTag;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the headers of a signal on its way from the gateway via the things service to the search service: the
+ * headers are built once from the HTTP request and then modified and read several times.
+ * Run with {@code -prof gc} to compare the bytes allocated per lifecycle ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+public class DittoHeadersLifecycleBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final AuthorizationSubject SUBJECT = AuthorizationSubject.newInstance("integration:user");
+    private static final AuthorizationContext AUTHORIZATION_CONTEXT =
+            AuthorizationContext.newInstance(DittoAuthorizationContextType.JWT, SUBJECT);
+    private static final EntityTag ETAG = EntityTag.fromString("\"rev:42\"");
+
+    private final Map<String, String> httpHeaders;
+
+    public DittoHeadersLifecycleBenchmark() {
+        final Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("Content-Type", "application/json");
+        headers.put("Accept", "application/json");
+        headers.put("response-required", "true");
+        headers.put("timeout", "10s");
+        headers.put("If-Match", "\"rev:41\"");
+        headers.put("traceparent", "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+        headers.put("X-Custom-Header", "custom-value");
+        httpHeaders = Collections.unmodifiableMap(headers);
+    }
+
+    /**
+     * Measures the complete lifecycle of the headers of a modifying command within one JVM.
+     *
+     * @param blackhole consumes the values read from the headers.
+     * @return the headers as seen by the search service.
+     */
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public DittoHeaders benchmark_gatewayToThingsToSearch(final Blackhole blackhole) {
+        final DittoHeaders gatewayHeaders = gateway();
+        final DittoHeaders thingsHeaders = things(gatewayHeaders, blackhole);
+        return search(thingsHeaders, blackhole);
+    }
+
+    /**
+     * Measures copying all headers into a new builder, as done when headers of one signal are taken over by another.
+     *
+     * @param gatewayHeaders the headers to copy.
+     * @return the copied headers.
+     */
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public DittoHeaders benchmark_putHeadersOfDittoHeaders(final GatewayHeaders gatewayHeaders) {
+        return DittoHeaders.newBuilder().putHeaders(gatewayHeaders.dittoHeaders).build();
+    }
+
+    private DittoHeaders gateway() {
+        return DittoHeaders.newBuilder(httpHeaders)
+                .correlationId("a6a1c5f6-8a3c-4cfb-9d4b-0e7a1c1fd3b0")
+                .schemaVersion(JsonSchemaVersion.V_2)
+                .authorizationContext(AUTHORIZATION_CONTEXT)
+                .build();
+    }
+
+    private static DittoHeaders things(final DittoHeaders gatewayHeaders, final Blackhole blackhole) {
+        // enforcement
+        blackhole.consume(gatewayHeaders.getAuthorizationContext());
+        blackhole.consume(gatewayHeaders.getIfMatch());
+        final DittoHeaders enforcedHeaders = gatewayHeaders.toBuilder()
+                .readGrantedSubjects(Collections.singleton(SUBJECT))
+                .build();
+
+        // persistence
+        blackhole.consume(enforcedHeaders.isResponseRequired());
+        blackhole.consume(enforcedHeaders.getTimeout());
+        blackhole.consume(enforcedHeaders.getCorrelationId());
+        return enforcedHeaders.toBuilder()
+                .removePreconditionHeaders()
+                .eTag(ETAG)
+                .build();
+    }
+
+    private static DittoHeaders search(final DittoHeaders thingsHeaders, final Blackhole blackhole) {
+        blackhole.consume(thingsHeaders.getReadGrantedSubjects());
+        blackhole.consume(thingsHeaders.getSchemaVersion());
+        final DittoHeaders updaterHeaders = DittoHeaders.newBuilder()
+                .putHeaders(thingsHeaders)
+                .responseRequired(false)
+                .build();
+        blackhole.consume(updaterHeaders.getCorrelationId());
+        blackhole.consume(updaterHeaders.getChannel());
+        return updaterHeaders;
+    }
+
+    /**
+     * Headers as built by the gateway.
+     */
+    @State(Scope.Benchmark)
+    public static class GatewayHeaders {
+
+        private final DittoHeaders dittoHeaders = new DittoHeadersLifecycleBenchmark().gateway();
+
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.model;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.json.FieldType;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.base.model.json.Jsonifiable;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+
+/**
+ * Options of a {@link Target} to coalesce thing events which are published to the target: of all thing events
+ * affecting the same resource path of a Thing within the configured window, only the latest one is published.
+ */
+public interface Coalescing extends Jsonifiable.WithFieldSelectorAndPredicate<JsonField> {
+
+    /**
+     * Returns the window in which thing events are collected before the latest ones are published.
+     *
+     * @return the coalescing window.
+     */
+    Duration getWindow();
+
+    /**
+     * Indicates whether {@code ThingMerged} events of the same resource path are merged into one event instead of
+     * being published one after another.
+     *
+     * @return {@code true} if merge events are combined.
+     */
+    boolean isMergeEnabled();
+
+    @Override
+    default JsonObject toJson() {
+        return toJson(FieldType.notHidden());
+    }
+
+    @Override
+    default JsonObject toJson(final JsonSchemaVersion schemaVersion, final JsonFieldSelector fieldSelector) {
+        return toJson(schemaVersion, FieldType.notHidden()).get(fieldSelector);
+    }
+
+    /**
+     * An enumeration of the known {@code JsonField}s of a {@code Coalescing}.
+     */
+    @Immutable
+    final class JsonFields {
+
+        /**
+         * JSON field containing the coalescing window, e.g. {@code "1s"}.
+         */
+        public static final JsonFieldDefinition<String> WINDOW =
+                JsonFactory.newStringFieldDefinition("window", FieldType.REGULAR, JsonSchemaVersion.V_2);
+
+        /**
+         * JSON field containing whether merge events are combined.
+         */
+        public static final JsonFieldDefinition<Boolean> MERGE =
+                JsonFactory.newBooleanFieldDefinition("merge", FieldType.REGULAR, JsonSchemaVersion.V_2);
+
+        private JsonFields() {
+            throw new AssertionError();
+        }
+    }
+
+}
@@ -927,6 +927,31 @@ public final class ConnectivityModelFactory {
         return ImmutableEnforcement.of(enforcement.getInput(), enforcement.getFilters());
     }
 
+    /**
+     * New instance of {@link Coalescing} options of a target.
+     *
+     * @param window the window in which thing events are coalesced.
+     * @param mergeEnabled whether merge events of the same resource path are combined.
+     * @return the coalescing instance.
+     * @throws NullPointerException if {@code window} is {@code null}.
+     * @throws IllegalArgumentException if {@code window} is not positive.
+     */
+    public static Coalescing newCoalescing(final Duration window, final boolean mergeEnabled) {
+        return ImmutableCoalescing.of(window, mergeEnabled);
+    }
+
+    /**
+     * Creates a new {@code Coalescing} object from the specified JSON object.
+     *
+     * @param jsonObject a JSON object which provides the data for the Coalescing to be created.
+     * @return a new Coalescing which is initialised with the extracted data from {@code jsonObject}.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if {@code jsonObject} is not an appropriate JSON object.
+     */
+    public static Coalescing coalescingFromJson(final JsonObject jsonObject) {
+        return ImmutableCoalescing.fromJson(jsonObject);
+    }
+
     /**
      * Returns singleton of a header mapping without any mappings defined
      *
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.model;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkArgument;
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.common.DittoDuration;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonParseException;
+
+/**
+ * Immutable implementation of {@link Coalescing}.
+ */
+@Immutable
+final class ImmutableCoalescing implements Coalescing {
+
+    private final Duration window;
+    private final boolean mergeEnabled;
+
+    private ImmutableCoalescing(final Duration window, final boolean mergeEnabled) {
+        this.window = window;
+        this.mergeEnabled = mergeEnabled;
+    }
+
+    /**
+     * Creates a new ImmutableCoalescing instance.
+     *
+     * @param window the coalescing window.
+     * @param mergeEnabled whether merge events are combined.
+     * @return the new ImmutableCoalescing instance.
+     * @throws NullPointerException if {@code window} is {@code null}.
+     * @throws IllegalArgumentException if {@code window} is not positive.
+     */
+    static ImmutableCoalescing of(final Duration window, final boolean mergeEnabled) {
+        checkNotNull(window, "window");
+        checkArgument(window, d -> !d.isZero() && !d.isNegative(),
+                () -> "The coalescing window must be positive!");
+        return new ImmutableCoalescing(window, mergeEnabled);
+    }
+
+    @Override
+    public Duration getWindow() {
+        return window;
+    }
+
+    @Override
+    public boolean isMergeEnabled() {
+        return mergeEnabled;
+    }
+
+    @Override
+    public JsonObject toJson(final JsonSchemaVersion schemaVersion, final Predicate<JsonField> thePredicate) {
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        final JsonObjectBuilder jsonObjectBuilder = JsonFactory.newObjectBuilder();
+
+        jsonObjectBuilder.set(JsonFields.WINDOW, windowToString(), predicate);
+        jsonObjectBuilder.set(JsonFields.MERGE, mergeEnabled, predicate);
+
+        return jsonObjectBuilder.build();
+    }
+
+    /**
+     * Creates a new {@code Coalescing} object from the specified JSON object.
+     *
+     * @param jsonObject a JSON object which provides the data for the Coalescing to be created.
+     * @return a new Coalescing which is initialised with the extracted data from {@code jsonObject}.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if {@code jsonObject} is not an appropriate JSON object.
+     */
+    public static Coalescing fromJson(final JsonObject jsonObject) {
+        final String readWindow = jsonObject.getValueOrThrow(JsonFields.WINDOW);
+        final boolean readMerge = jsonObject.getValue(JsonFields.MERGE).orElse(false);
+        try {
+            return of(DittoDuration.parseDuration(readWindow).getDuration(), readMerge);
+        } catch (final IllegalArgumentException e) {
+            throw JsonParseException.newBuilder()
+                    .message("The coalescing window <" + readWindow + "> is invalid: " + e.getMessage())
+                    .cause(e)
+                    .build();
+        }
+    }
+
+    private String windowToString() {
+        final long millis = window.toMillis();
+        return millis % 1000 == 0 ? (millis / 1000) + "s" : millis + "ms";
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ImmutableCoalescing that = (ImmutableCoalescing) o;
+        return mergeEnabled == that.mergeEnabled &&
+                Objects.equals(window, that.window);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(window, mergeEnabled);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "window=" + window +
+                ", mergeEnabled=" + mergeEnabled +
+                "]";
+    }
+}
@@ -66,6 +66,7 @@ final class ImmutableTarget implements Target {
     @Nullable private final AcknowledgementLabel issuedAcknowledgementLabel;
     private final HeaderMapping headerMapping;
     private final PayloadMapping payloadMapping;
+    @Nullable private final Coalescing coalescing;
 
     private ImmutableTarget(final Builder builder) {
         address = checkNotNull(builder.address, "address");
@@ -77,6 +78,7 @@ final class ImmutableTarget implements Target {
         issuedAcknowledgementLabel = builder.issuedAcknowledgementLabel;
         headerMapping = builder.headerMapping;
         payloadMapping = builder.payloadMapping;
+        coalescing = builder.coalescing;
     }
 
     @Override
@@ -124,6 +126,11 @@ final class ImmutableTarget implements Target {
         return payloadMapping;
     }
 
+    @Override
+    public Optional<Coalescing> getCoalescing() {
+        return Optional.ofNullable(coalescing);
+    }
+
     @Override
     public JsonObject toJson(final JsonSchemaVersion schemaVersion, final Predicate<JsonField> thePredicate) {
         final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
@@ -156,6 +163,10 @@ final class ImmutableTarget implements Target {
             jsonObjectBuilder.set(JsonFields.PAYLOAD_MAPPING, payloadMapping.toJson(), predicate);
         }
 
+        if (coalescing != null) {
+            jsonObjectBuilder.set(JsonFields.COALESCING, coalescing.toJson(schemaVersion, thePredicate), predicate);
+        }
+
         return jsonObjectBuilder.build();
     }
 
@@ -201,6 +212,11 @@ final class ImmutableTarget implements Target {
                         .map(ImmutablePayloadMapping::fromJson)
                         .orElse(ConnectivityModelFactory.emptyPayloadMapping());
 
+        final Coalescing readCoalescing =
+                jsonObject.getValue(JsonFields.COALESCING)
+                        .map(ImmutableCoalescing::fromJson)
+                        .orElse(null);
+
         return new Builder()
                 .address(jsonObject.getValueOrThrow(JsonFields.ADDRESS))
                 .topics(readTopics)
@@ -209,6 +225,7 @@ final class ImmutableTarget implements Target {
                 .issuedAcknowledgementLabel(readIssuedAcknowledgementLabel)
                 .headerMapping(readHeaderMapping)
                 .payloadMapping(readMapping)
+                .coalescing(readCoalescing)
                 .build();
 
     }
@@ -225,7 +242,8 @@ final class ImmutableTarget implements Target {
                 originalAddress.equals(that.originalAddress) &&
                 Objects.equals(issuedAcknowledgementLabel, that.issuedAcknowledgementLabel) &&
                 Objects.equals(headerMapping, that.headerMapping) &&
-                payloadMapping.equals(that.payloadMapping);
+                payloadMapping.equals(that.payloadMapping) &&
+                Objects.equals(coalescing, that.coalescing);
     }
 
     @Override
@@ -237,7 +255,8 @@ final class ImmutableTarget implements Target {
                 originalAddress,
                 issuedAcknowledgementLabel,
                 headerMapping,
-                payloadMapping);
+                payloadMapping,
+                coalescing);
     }
 
     @Override
@@ -251,6 +270,7 @@ final class ImmutableTarget implements Target {
                 ", issuedAcknowledgementLabel=" + issuedAcknowledgementLabel +
                 ", headerMapping=" + headerMapping +
                 ", payloadMapping=" + payloadMapping +
+                ", coalescing=" + coalescing +
                 "]";
     }
 
@@ -268,6 +288,7 @@ final class ImmutableTarget implements Target {
         @Nullable private AuthorizationContext authorizationContext;
         @Nullable private AcknowledgementLabel issuedAcknowledgementLabel;
         private HeaderMapping headerMapping = ConnectivityModelFactory.emptyHeaderMapping();
+        @Nullable private Coalescing coalescing;
 
         Builder() {
         }
@@ -279,7 +300,8 @@ final class ImmutableTarget implements Target {
                     .headerMapping(target.getHeaderMapping())
                     .qos(target.getQos().orElse(null))
                     .issuedAcknowledgementLabel(target.getIssuedAcknowledgementLabel().orElse(null))
-                    .payloadMapping(target.getPayloadMapping());
+                    .payloadMapping(target.getPayloadMapping())
+                    .coalescing(target.getCoalescing().orElse(null));
         }
 
         @Override
@@ -356,6 +378,12 @@ final class ImmutableTarget implements Target {
             return this;
         }
 
+        @Override
+        public TargetBuilder coalescing(@Nullable final Coalescing coalescing) {
+            this.coalescing = coalescing;
+            return this;
+        }
+
         @Override
         public Target build() {
             checkNotNull(address, "address");
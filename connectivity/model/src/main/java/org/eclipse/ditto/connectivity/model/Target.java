@@ -93,6 +93,14 @@ public interface Target extends Jsonifiable.WithFieldSelectorAndPredicate<JsonFi
      */
     PayloadMapping getPayloadMapping();
 
+    /**
+     * Defines the optional coalescing of thing events published to this target. If present, of all thing events
+     * affecting the same resource path of a Thing within the coalescing window only the latest one is published.
+     *
+     * @return the optional coalescing options.
+     */
+    Optional<Coalescing> getCoalescing();
+
     /**
      * Returns all non-hidden marked fields of this {@code Connection}.
      *
@@ -160,6 +168,12 @@ public interface Target extends Jsonifiable.WithFieldSelectorAndPredicate<JsonFi
         public static final JsonFieldDefinition<JsonArray> PAYLOAD_MAPPING =
                 JsonFactory.newJsonArrayFieldDefinition("payloadMapping", FieldType.REGULAR, JsonSchemaVersion.V_2);
 
+        /**
+         * JSON field containing the {@code Target} coalescing options.
+         */
+        public static final JsonFieldDefinition<JsonObject> COALESCING =
+                JsonFactory.newJsonObjectFieldDefinition("coalescing", FieldType.REGULAR, JsonSchemaVersion.V_2);
+
         private JsonFields() {
             throw new AssertionError();
         }
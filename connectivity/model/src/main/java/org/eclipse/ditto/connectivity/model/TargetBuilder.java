@@ -108,6 +108,14 @@ public interface TargetBuilder {
      */
     TargetBuilder payloadMapping(PayloadMapping payloadMapping);
 
+    /**
+     * Sets the coalescing options for the target.
+     *
+     * @param coalescing the coalescing options or {@code null} to publish every thing event
+     * @return this builder
+     */
+    TargetBuilder coalescing(@Nullable Coalescing coalescing);
+
     /**
      * Build the {@link Target} instance.
      *
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link ImmutableCoalescing}.
+ */
+public final class ImmutableCoalescingTest {
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(ImmutableCoalescing.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(ImmutableCoalescing.class, areImmutable());
+    }
+
+    @Test
+    public void toJsonReturnsExpected() {
+        final JsonObject expected = JsonObject.newBuilder()
+                .set(Coalescing.JsonFields.WINDOW, "250ms")
+                .set(Coalescing.JsonFields.MERGE, false)
+                .build();
+
+        final JsonObject actual = ImmutableCoalescing.of(Duration.ofMillis(250), false).toJson();
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    public void fromJsonDefaultsToMergeDisabled() {
+        final JsonObject jsonObject = JsonObject.newBuilder()
+                .set(Coalescing.JsonFields.WINDOW, "2s")
+                .build();
+
+        final Coalescing actual = ImmutableCoalescing.fromJson(jsonObject);
+
+        assertThat(actual).isEqualTo(ImmutableCoalescing.of(Duration.ofSeconds(2), false));
+    }
+
+    @Test
+    public void fromJsonWithZeroWindowFails() {
+        final JsonObject jsonObject = JsonObject.newBuilder()
+                .set(Coalescing.JsonFields.WINDOW, "0s")
+                .build();
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> ImmutableCoalescing.fromJson(jsonObject));
+    }
+
+}
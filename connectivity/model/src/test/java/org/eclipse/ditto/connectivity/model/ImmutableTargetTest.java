@@ -17,6 +17,8 @@ import static org.mutabilitydetector.unittesting.AllowedReason.provided;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
+import java.time.Duration;
+
 import org.eclipse.ditto.base.model.acks.AcknowledgementLabel;
 import org.eclipse.ditto.base.model.auth.AuthorizationContext;
 import org.eclipse.ditto.base.model.auth.AuthorizationModelFactory;
@@ -77,6 +79,26 @@ public final class ImmutableTargetTest {
             .set(Target.JsonFields.HEADER_MAPPING, JsonObject.empty())
             .build();
 
+    private static final String TELEMETRY_ADDRESS = "amqp/telemetry";
+
+    private static final Target COALESCING_TARGET = ConnectivityModelFactory.newTargetBuilder()
+            .address(TELEMETRY_ADDRESS)
+            .authorizationContext(AUTHORIZATION_CONTEXT)
+            .topics(Topic.TWIN_EVENTS)
+            .coalescing(ConnectivityModelFactory.newCoalescing(Duration.ofSeconds(1), true))
+            .build();
+
+    private static final JsonObject COALESCING_TARGET_JSON = JsonObject.newBuilder()
+            .set(Target.JsonFields.ADDRESS, TELEMETRY_ADDRESS)
+            .set(Target.JsonFields.TOPICS, JsonFactory.newArrayBuilder().add(Topic.TWIN_EVENTS.getName()).build())
+            .set(Target.JsonFields.AUTHORIZATION_CONTEXT, JsonFactory.newArrayBuilder().add("eclipse", "ditto").build())
+            .set(Target.JsonFields.HEADER_MAPPING, JsonObject.empty())
+            .set(Target.JsonFields.COALESCING, JsonObject.newBuilder()
+                    .set(Coalescing.JsonFields.WINDOW, "1s")
+                    .set(Coalescing.JsonFields.MERGE, true)
+                    .build())
+            .build();
+
     @Test
     public void testHashCodeAndEquals() {
         EqualsVerifier.forClass(ImmutableTarget.class)
@@ -91,7 +113,8 @@ public final class ImmutableTargetTest {
                         FilteredTopic.class,
                         HeaderMapping.class,
                         AcknowledgementLabel.class,
-                        PayloadMapping.class).areAlsoImmutable());
+                        PayloadMapping.class,
+                        Coalescing.class).areAlsoImmutable());
     }
 
     @Test
@@ -122,4 +145,18 @@ public final class ImmutableTargetTest {
         assertThat(actual).isEqualTo(MQTT_TARGET);
     }
 
+    @Test
+    public void coalescingToJsonReturnsExpected() {
+        final JsonObject actual = COALESCING_TARGET.toJson();
+
+        assertThat(actual).isEqualTo(COALESCING_TARGET_JSON);
+    }
+
+    @Test
+    public void coalescingFromJsonReturnsExpected() {
+        final Target actual = ImmutableTarget.fromJson(COALESCING_TARGET_JSON);
+
+        assertThat(actual).isEqualTo(COALESCING_TARGET);
+    }
+
 }
@@ -19,6 +19,7 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.base.service.config.supervision.DefaultExponentialBackOffConfig;
 import org.eclipse.ditto.base.service.config.supervision.ExponentialBackOffConfig;
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
 import org.eclipse.ditto.internal.utils.config.DittoConfigError;
 
 import com.typesafe.config.Config;
@@ -39,6 +40,8 @@ final class DefaultKafkaConsumerConfig implements KafkaConsumerConfig {
     private final Config alpakkaConfig;
     private final Duration metricCollectingInterval;
     private final long initTimeoutSeconds;
+    private final boolean partitioned;
+    private final int maxPartitions;
 
     private DefaultKafkaConsumerConfig(final Config kafkaConsumerScopedConfig) {
         throttlingConfig = ConnectionThrottlingConfig.of(kafkaConsumerScopedConfig);
@@ -51,6 +54,11 @@ final class DefaultKafkaConsumerConfig implements KafkaConsumerConfig {
             throw new DittoConfigError("The Kafka consumer metric collecting interval has to be positive.");
         }
         initTimeoutSeconds = kafkaConsumerScopedConfig.getLong(ConfigValue.INIT_TIMEOUT_SECONDS.getConfigPath());
+        partitioned = kafkaConsumerScopedConfig.getBoolean(ConfigValue.PARTITIONED.getConfigPath());
+        maxPartitions = kafkaConsumerScopedConfig.getInt(ConfigValue.MAX_PARTITIONS.getConfigPath());
+        if (maxPartitions <= 0) {
+            throw new DittoConfigError("The maximum number of partitions of the Kafka consumer has to be positive.");
+        }
     }
 
     /**
@@ -61,7 +69,8 @@ final class DefaultKafkaConsumerConfig implements KafkaConsumerConfig {
      * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
      */
     public static DefaultKafkaConsumerConfig of(final Config config) {
-        return new DefaultKafkaConsumerConfig(getConfigOrEmpty(config, CONFIG_PATH));
+        return new DefaultKafkaConsumerConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ConfigValue.values()));
     }
 
     private static Config getConfigOrEmpty(final Config config, final String configKey) {
@@ -93,6 +102,16 @@ final class DefaultKafkaConsumerConfig implements KafkaConsumerConfig {
         return initTimeoutSeconds;
     }
 
+    @Override
+    public boolean isPartitioned() {
+        return partitioned;
+    }
+
+    @Override
+    public int getMaxPartitions() {
+        return maxPartitions;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -106,13 +125,15 @@ final class DefaultKafkaConsumerConfig implements KafkaConsumerConfig {
                 Objects.equals(restartBackOffConfig, that.restartBackOffConfig) &&
                 Objects.equals(alpakkaConfig, that.alpakkaConfig) &&
                 Objects.equals(metricCollectingInterval, that.metricCollectingInterval) &&
-                Objects.equals(initTimeoutSeconds, that.initTimeoutSeconds);
+                Objects.equals(initTimeoutSeconds, that.initTimeoutSeconds) &&
+                partitioned == that.partitioned &&
+                maxPartitions == that.maxPartitions;
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(throttlingConfig, restartBackOffConfig, alpakkaConfig, metricCollectingInterval,
-                initTimeoutSeconds);
+                initTimeoutSeconds, partitioned, maxPartitions);
     }
 
     @Override
@@ -123,6 +144,8 @@ final class DefaultKafkaConsumerConfig implements KafkaConsumerConfig {
                 ", alpakkaConfig=" + alpakkaConfig +
                 ", metricCollectingInterval=" + metricCollectingInterval +
                 ", initTimeoutSeconds=" + initTimeoutSeconds +
+                ", partitioned=" + partitioned +
+                ", maxPartitions=" + maxPartitions +
                 "]";
     }
 
@@ -61,6 +61,23 @@ public interface KafkaConsumerConfig {
      */
     long getInitTimeoutSeconds();
 
+    /**
+     * Indicates whether "at least once" consumers process each assigned partition by an independent stream with its
+     * own throttling, maximum number of messages in flight and offset commits.
+     *
+     * @return {@code true} if partitions are processed independently, {@code false} if all assigned partitions are
+     * processed by one stream.
+     */
+    boolean isPartitioned();
+
+    /**
+     * Returns the maximum number of partitions a partitioned consumer processes in parallel. The consumer fails if
+     * more partitions are assigned to it.
+     *
+     * @return the maximum number of partitions.
+     */
+    int getMaxPartitions();
+
     /**
      * Returns an instance of {@code KafkaConsumerConfig} based on the settings of the specified Config.
      *
@@ -83,7 +100,17 @@ public interface KafkaConsumerConfig {
          */
         METRIC_COLLECTING_INTERVAL("metric-collecting-interval", Duration.ofSeconds(10L)),
 
-        INIT_TIMEOUT_SECONDS("init-timeout-seconds", 3);
+        INIT_TIMEOUT_SECONDS("init-timeout-seconds", 3),
+
+        /**
+         * Whether "at least once" consumers process each assigned partition independently.
+         */
+        PARTITIONED("partitioned", false),
+
+        /**
+         * The maximum number of partitions a partitioned consumer processes in parallel.
+         */
+        MAX_PARTITIONS("max-partitions", 64);
 
         private final String path;
         private final Object defaultValue;
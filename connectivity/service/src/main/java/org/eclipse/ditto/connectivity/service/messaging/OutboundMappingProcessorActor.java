@@ -18,6 +18,7 @@ import static org.eclipse.ditto.connectivity.model.MetricType.MAPPED;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -76,6 +77,7 @@ import org.eclipse.ditto.internal.models.signalenrichment.SignalEnrichmentFacade
 import org.eclipse.ditto.internal.utils.akka.controlflow.AbstractGraphActor;
 import org.eclipse.ditto.internal.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
 import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.internal.utils.pubsub.StreamingType;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonField;
@@ -149,6 +151,7 @@ public final class OutboundMappingProcessorActor
     private final int processorPoolSize;
     private final DittoRuntimeExceptionToErrorResponseFunction toErrorResponseFunction;
     private final List<OutboundMappingProcessor> outboundMappingProcessors;
+    @Nullable private final OutboundSignalCoalescer outboundSignalCoalescer;
 
     @SuppressWarnings("unused")
     private OutboundMappingProcessorActor(final ActorRef clientActor,
@@ -178,6 +181,18 @@ public final class OutboundMappingProcessorActor
         signalEnrichmentFacade = ConnectivitySignalEnrichmentProvider.get(system, dittoExtensionConfig).getFacade(this.connection.getId());
         this.processorPoolSize = determinePoolSize(processorPoolSize, mappingConfig.getMaxPoolSize());
         toErrorResponseFunction = DittoRuntimeExceptionToErrorResponseFunction.of(DittoHeadersValidator.get(system, dittoExtensionConfig));
+        outboundSignalCoalescer = createOutboundSignalCoalescer(connection);
+    }
+
+    @Nullable
+    private OutboundSignalCoalescer createOutboundSignalCoalescer(final Connection connection) {
+        if (connection.getTargets().stream().anyMatch(target -> target.getCoalescing().isPresent())) {
+            return new OutboundSignalCoalescer(
+                    DittoMetrics.counter("connection_coalesced_signals").tag("id", connection.getId().toString()),
+                    this::scheduleFlushOfCoalescedSignals);
+        } else {
+            return null;
+        }
     }
 
     /**
@@ -303,6 +318,9 @@ public final class OutboundMappingProcessorActor
                                 getSender()))
                 .match(CommandResponse.class, response -> handleCommandResponse(response, null, getSender()))
                 .match(Signal.class, signal -> handleSignal(signal, getSender()))
+                .match(OutboundSignal.class, outbound -> !(outbound instanceof OutboundSignalWithSender),
+                        outbound -> coalesceOutboundSignal(outbound, getSender()))
+                .match(FlushCoalescedSignals.class, this::flushCoalescedSignals)
                 .match(DittoRuntimeException.class, this::mapDittoRuntimeException)
                 .match(Status.Failure.class, f -> {
                     logger.warning("Got failure with cause {}: {}",
@@ -333,6 +351,44 @@ public final class OutboundMappingProcessorActor
         return Done.getInstance();
     }
 
+    private Object coalesceOutboundSignal(final OutboundSignal outboundSignal, final ActorRef sender) {
+        if (null == outboundSignalCoalescer) {
+            return outboundSignal;
+        }
+        final List<Target> targets = outboundSignal.getTargets();
+        final List<Target> remainingTargets =
+                outboundSignalCoalescer.coalesce(outboundSignal.getSource(), targets, sender);
+        if (remainingTargets.size() == targets.size()) {
+            return outboundSignal;
+        } else if (remainingTargets.isEmpty()) {
+            // held back for all targets until the coalescing window elapsed
+            return Done.getInstance();
+        } else {
+            return OutboundSignalWithSender.of(
+                    OutboundSignalFactory.newOutboundSignal(outboundSignal.getSource(), remainingTargets), sender);
+        }
+    }
+
+    private void scheduleFlushOfCoalescedSignals(final Target target, final Duration window) {
+        getContext().getSystem()
+                .scheduler()
+                .scheduleOnce(window, getSelf(), new FlushCoalescedSignals(target), getContext().getDispatcher(),
+                        ActorRef.noSender());
+    }
+
+    private Object flushCoalescedSignals(final FlushCoalescedSignals flushCoalescedSignals) {
+        if (null != outboundSignalCoalescer) {
+            final Target target = flushCoalescedSignals.target();
+            outboundSignalCoalescer.flush(target).forEach(pendingSignal -> {
+                final OutboundSignal outboundSignal =
+                        OutboundSignalFactory.newOutboundSignal(pendingSignal.signal(), List.of(target));
+                getSelf().tell(OutboundSignalWithSender.of(outboundSignal, pendingSignal.sender()),
+                        pendingSignal.sender());
+            });
+        }
+        return Done.getInstance();
+    }
+
     private Object mapDittoRuntimeException(final DittoRuntimeException exception) {
         final ErrorResponse<?> errorResponse = toErrorResponseFunction.apply(exception, null);
         return handleErrorResponse(exception, errorResponse, getSender());
@@ -867,6 +923,13 @@ public final class OutboundMappingProcessorActor
         return Acknowledgement.of(label, entityId, dre.getHttpStatus(), dittoHeaders, payload);
     }
 
+    /**
+     * Message to publish the signals held back for a target with coalescing options.
+     *
+     * @param target the target whose coalescing window elapsed.
+     */
+    private record FlushCoalescedSignals(Target target) {}
+
     static final class OutboundSignalWithSender implements OutboundSignal {
 
         private final OutboundSignal delegate;
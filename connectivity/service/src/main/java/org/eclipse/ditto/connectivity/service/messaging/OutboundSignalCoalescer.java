@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.connectivity.model.Coalescing;
+import org.eclipse.ditto.connectivity.model.Target;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+import org.eclipse.ditto.things.model.signals.events.ThingMerged;
+
+import akka.actor.ActorRef;
+
+/**
+ * Holds back twin events published to targets with {@link Coalescing} options and keeps only the latest event per
+ * Thing and resource path until the coalescing window of the target elapsed.
+ * <ul>
+ * <li>An event replaces a pending event of the same Thing and resource path.</li>
+ * <li>A {@code ThingMerged} event is combined with a pending {@code ThingMerged} event of the same Thing and resource
+ * path if merging is enabled, otherwise both are kept.</li>
+ * <li>Events requesting acknowledgements are never replaced.</li>
+ * </ul>
+ * Pending events are kept in the order of their latest update, so the order of events affecting different resource
+ * paths may change.
+ */
+@NotThreadSafe
+final class OutboundSignalCoalescer {
+
+    private final Map<Target, Map<Object, PendingSignal>> pendingSignalsByTarget;
+    private final Counter coalescedCounter;
+    private final BiConsumer<Target, Duration> flushScheduler;
+
+    /**
+     * Creates a new coalescer.
+     *
+     * @param coalescedCounter the counter to increment for each event which is not published due to coalescing.
+     * @param flushScheduler called with the target and its coalescing window whenever the first pending event of the
+     * target was held back. {@link #flush(Target)} must be called for the target once the window elapsed.
+     */
+    OutboundSignalCoalescer(final Counter coalescedCounter, final BiConsumer<Target, Duration> flushScheduler) {
+        this.coalescedCounter = coalescedCounter;
+        this.flushScheduler = flushScheduler;
+        pendingSignalsByTarget = new HashMap<>();
+    }
+
+    /**
+     * Holds back the signal for all passed targets with coalescing options.
+     *
+     * @param signal the signal to publish.
+     * @param targets the targets to publish the signal to.
+     * @param sender the sender of the signal.
+     * @return the targets the signal has to be published to right away.
+     */
+    List<Target> coalesce(final Signal<?> signal, final List<Target> targets, final ActorRef sender) {
+        if (!(signal instanceof ThingEvent<?> thingEvent) || Signal.isChannelLive(signal)) {
+            return targets;
+        }
+        final List<Target> remainingTargets = new ArrayList<>(targets.size());
+        for (final Target target : targets) {
+            final Optional<Coalescing> coalescing = target.getCoalescing();
+            if (coalescing.isPresent()) {
+                holdBack(target, coalescing.get(), thingEvent, sender);
+            } else {
+                remainingTargets.add(target);
+            }
+        }
+
+        return remainingTargets;
+    }
+
+    /**
+     * Removes the pending signals of a target.
+     *
+     * @param target the target whose coalescing window elapsed.
+     * @return the signals to publish to the target in their order.
+     */
+    List<PendingSignal> flush(final Target target) {
+        final Map<Object, PendingSignal> pendingSignals = pendingSignalsByTarget.remove(target);
+        if (null == pendingSignals) {
+            return List.of();
+        }
+
+        return List.copyOf(pendingSignals.values());
+    }
+
+    private void holdBack(final Target target, final Coalescing coalescing, final ThingEvent<?> thingEvent,
+            final ActorRef sender) {
+
+        Map<Object, PendingSignal> pendingSignals = pendingSignalsByTarget.get(target);
+        if (null == pendingSignals) {
+            pendingSignals = new LinkedHashMap<>();
+            pendingSignalsByTarget.put(target, pendingSignals);
+            flushScheduler.accept(target, coalescing.getWindow());
+        }
+
+        if (!thingEvent.getDittoHeaders().getAcknowledgementRequests().isEmpty()) {
+            // the acknowledgements must be issued for this very event, so it is never replaced
+            pendingSignals.put(new Object(), new PendingSignal(thingEvent, sender));
+            return;
+        }
+
+        final CoalescingKey key = new CoalescingKey(thingEvent.getEntityId(), thingEvent.getResourcePath());
+        final PendingSignal previous = pendingSignals.remove(key);
+        final ThingEvent<?> eventToHoldBack;
+        if (null == previous) {
+            eventToHoldBack = thingEvent;
+        } else if (!(thingEvent instanceof ThingMerged thingMerged)) {
+            coalescedCounter.increment();
+            eventToHoldBack = thingEvent;
+        } else if (coalescing.isMergeEnabled() && previous.signal() instanceof ThingMerged previousThingMerged) {
+            coalescedCounter.increment();
+            eventToHoldBack = merge(previousThingMerged, thingMerged);
+        } else {
+            // a merge patch does not replace previous changes of the same path
+            pendingSignals.put(new Object(), previous);
+            eventToHoldBack = thingEvent;
+        }
+        pendingSignals.put(key, new PendingSignal(eventToHoldBack, sender));
+    }
+
+    private static ThingMerged merge(final ThingMerged previous, final ThingMerged latest) {
+        final JsonValue previousValue = previous.getValue();
+        final JsonValue latestValue = latest.getValue();
+        final JsonValue mergedValue;
+        if (previousValue.isObject() && latestValue.isObject()) {
+            mergedValue = JsonFactory.newObject(latestValue.asObject(), previousValue.asObject());
+        } else {
+            mergedValue = latestValue;
+        }
+
+        return ThingMerged.of(latest.getEntityId(), latest.getResourcePath(), mergedValue, latest.getRevision(),
+                latest.getTimestamp().orElse(null), latest.getDittoHeaders(), latest.getMetadata().orElse(null));
+    }
+
+    /**
+     * A signal held back for a target together with its sender.
+     *
+     * @param signal the signal.
+     * @param sender the sender of the signal.
+     */
+    record PendingSignal(Signal<?> signal, ActorRef sender) {}
+
+    private record CoalescingKey(ThingId thingId, JsonPointer resourcePath) {}
+
+}
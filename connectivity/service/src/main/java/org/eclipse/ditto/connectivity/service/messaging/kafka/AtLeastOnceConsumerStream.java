@@ -13,13 +13,18 @@
 package org.eclipse.ditto.connectivity.service.messaging.kafka;
 
 import java.nio.ByteBuffer;
+import java.text.MessageFormat;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.connectivity.api.ExternalMessage;
 import org.eclipse.ditto.connectivity.model.ConnectionId;
@@ -27,11 +32,13 @@ import org.eclipse.ditto.connectivity.service.config.ConnectionThrottlingConfig;
 import org.eclipse.ditto.connectivity.service.messaging.AcknowledgeableMessage;
 import org.eclipse.ditto.connectivity.service.messaging.monitoring.ConnectionMonitor;
 import org.eclipse.ditto.internal.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.metrics.instruments.timer.PreparedTimer;
 import org.slf4j.Logger;
 
 import akka.Done;
 import akka.NotUsed;
 import akka.kafka.CommitterSettings;
+import akka.kafka.ConsumerMessage;
 import akka.kafka.ConsumerMessage.CommittableOffset;
 import akka.kafka.javadsl.Committer;
 import akka.kafka.javadsl.Consumer;
@@ -70,6 +77,36 @@ final class AtLeastOnceConsumerStream implements KafkaConsumerStream {
             final ConnectionId connectionId,
             final String consumerId) {
 
+        this(sourceSupplier, committerSettings, throttlingConfig, kafkaMessageTransformer, dryRun, materializer,
+                inboundMonitor, ackMonitor, inboundMappingSink, exceptionSink, connectionId, consumerId, false, 1);
+    }
+
+    /**
+     * Creates the stream either consuming all assigned partitions by one stream or consuming each assigned partition
+     * by an independent sub-stream. Sub-streams apply throttling, the maximum number of messages in flight and
+     * offset commits per partition, so that a slowly processed message holds back only its own partition.
+     * The partitioned stream fails if more than {@code maxPartitions} partitions are assigned at the same time instead
+     * of leaving the excess partitions unconsumed.
+     *
+     * @param partitioned whether each assigned partition is consumed by an independent sub-stream.
+     * @param maxPartitions the maximum number of partitions consumed in parallel if {@code partitioned} is true.
+     */
+    AtLeastOnceConsumerStream(
+            final AtLeastOnceKafkaConsumerSourceSupplier sourceSupplier,
+            final CommitterSettings committerSettings,
+            final ConnectionThrottlingConfig throttlingConfig,
+            final KafkaMessageTransformer kafkaMessageTransformer,
+            final boolean dryRun,
+            final Materializer materializer,
+            final ConnectionMonitor inboundMonitor,
+            final ConnectionMonitor ackMonitor,
+            final Sink<AcknowledgeableMessage, NotUsed> inboundMappingSink,
+            final Sink<DittoRuntimeException, ?> exceptionSink,
+            final ConnectionId connectionId,
+            final String consumerId,
+            final boolean partitioned,
+            final int maxPartitions) {
+
         this.ackMonitor = ackMonitor;
 
         // Pre materialize sinks with MergeHub to avoid multiple materialization per kafka record in processTransformationResult
@@ -91,23 +128,34 @@ final class AtLeastOnceConsumerStream implements KafkaConsumerStream {
 
         this.materializer = materializer;
 
-        final var source = sourceSupplier.get()
-                .filter(committableMessage -> isNotDryRun(committableMessage.record(), dryRun))
-                .map(kafkaMessageTransformer::transform);
-
-        final Source<CommittableTransformationResult, Consumer.Control> throttledSource;
-        if (throttlingConfig.isEnabled()) {
-            throttledSource = source.throttle(throttlingConfig.getLimit(), throttlingConfig.getInterval());
+        if (partitioned) {
+            final AtomicInteger assignedPartitions = new AtomicInteger();
+            consumerControl = sourceSupplier.getPartitioned()
+                    // one slot more than allowed, so that an excess partition is detected instead of waiting forever
+                    .mapAsyncUnordered(maxPartitions + 1, partitionSource -> {
+                        final TopicPartition topicPartition = partitionSource.first();
+                        if (assignedPartitions.incrementAndGet() > maxPartitions) {
+                            throw tooManyPartitions(topicPartition, maxPartitions, connectionId);
+                        }
+                        final PreparedTimer processingTimer = KafkaConsumerMetrics.getProcessingTimer(connectionId,
+                                consumerId, topicPartition);
+                        // the partition source completes as soon as the partition is revoked
+                        final Source<ConsumerMessage.CommittableMessage<String, ByteBuffer>, NotUsed> messages =
+                                partitionSource.second().watchTermination((notUsed, revoked) -> {
+                                    revoked.whenComplete((done, error) -> assignedPartitions.decrementAndGet());
+                                    return notUsed;
+                                });
+                        return process(messages, throttlingConfig, kafkaMessageTransformer, dryRun, processingTimer)
+                                .runWith(Committer.sink(committerSettings), materializer);
+                    })
+                    .toMat(Sink.ignore(), Consumer::createDrainingControl)
+                    .run(materializer);
         } else {
-            throttledSource = source;
+            consumerControl = process(sourceSupplier.get(), throttlingConfig, kafkaMessageTransformer, dryRun, null)
+                    .toMat(Committer.sink(committerSettings), Consumer::createDrainingControl)
+                    .run(materializer);
         }
 
-        consumerControl = throttledSource
-                .flatMapConcat(this::processTransformationResult)
-                .mapAsync(throttlingConfig.getMaxInFlight(), x -> x)
-                .toMat(Committer.sink(committerSettings), Consumer::createDrainingControl)
-                .run(materializer);
-
         consumerMetrics = KafkaConsumerMetrics.newInstance(consumerControl, connectionId, consumerId);
     }
 
@@ -126,6 +174,50 @@ final class AtLeastOnceConsumerStream implements KafkaConsumerStream {
         consumerMetrics.reportMetrics();
     }
 
+    private static IllegalStateException tooManyPartitions(final TopicPartition topicPartition,
+            final int maxPartitions, final ConnectionId connectionId) {
+
+        final String message = MessageFormat.format("Partition <{0}> exceeds the maximum of <{1}> partitions " +
+                        "consumed in parallel. Increase the Kafka consumer config <max-partitions> or reduce the " +
+                        "number of partitions assigned to each client of connection <{2}>.",
+                topicPartition, maxPartitions, connectionId);
+        LOGGER.error(message);
+        return new IllegalStateException(message);
+    }
+
+    private <M> Source<CommittableOffset, M> process(
+            final Source<ConsumerMessage.CommittableMessage<String, ByteBuffer>, M> committableMessages,
+            final ConnectionThrottlingConfig throttlingConfig,
+            final KafkaMessageTransformer kafkaMessageTransformer,
+            final boolean dryRun,
+            @Nullable final PreparedTimer processingTimer) {
+
+        final var source = committableMessages
+                .filter(committableMessage -> isNotDryRun(committableMessage.record(), dryRun))
+                .map(kafkaMessageTransformer::transform);
+
+        final Source<CommittableTransformationResult, M> throttledSource;
+        if (throttlingConfig.isEnabled()) {
+            throttledSource = source.throttle(throttlingConfig.getLimit(), throttlingConfig.getInterval());
+        } else {
+            throttledSource = source;
+        }
+
+        return throttledSource
+                .flatMapConcat(result -> null != processingTimer
+                        ? processTransformationResult(result).map(offsetFuture -> timed(offsetFuture, processingTimer))
+                        : processTransformationResult(result))
+                .mapAsync(throttlingConfig.getMaxInFlight(), x -> x);
+    }
+
+    private static CompletableFuture<CommittableOffset> timed(final CompletableFuture<CommittableOffset> offsetFuture,
+            final PreparedTimer processingTimer) {
+
+        final long startNanos = System.nanoTime();
+        return offsetFuture.whenComplete((offset, error) ->
+                processingTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS));
+    }
+
     private Source<CompletableFuture<CommittableOffset>, NotUsed> processTransformationResult(
             final CommittableTransformationResult result) {
 
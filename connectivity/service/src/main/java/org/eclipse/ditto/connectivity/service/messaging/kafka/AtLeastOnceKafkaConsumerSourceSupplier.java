@@ -16,7 +16,10 @@ import java.nio.ByteBuffer;
 import java.util.function.Supplier;
 
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
 
+import akka.NotUsed;
+import akka.japi.Pair;
 import akka.kafka.AutoSubscription;
 import akka.kafka.ConsumerMessage;
 import akka.kafka.ConsumerSettings;
@@ -44,10 +47,28 @@ class AtLeastOnceKafkaConsumerSourceSupplier
 
     @Override
     public Source<ConsumerMessage.CommittableMessage<String, ByteBuffer>, Consumer.Control> get() {
-        final ConsumerSettings<String, ByteBuffer> consumerSettings = propertiesFactory.getConsumerSettings(dryRun)
+        return Consumer.committableSource(getConsumerSettings(), getSubscription());
+    }
+
+    /**
+     * Supplies a source emitting one sub-source per partition assigned to the consumer. Each sub-source completes
+     * when its partition is revoked.
+     *
+     * @return the source of partitions and their messages.
+     */
+    Source<Pair<TopicPartition, Source<ConsumerMessage.CommittableMessage<String, ByteBuffer>, NotUsed>>,
+            Consumer.Control> getPartitioned() {
+
+        return Consumer.committablePartitionedSource(getConsumerSettings(), getSubscription());
+    }
+
+    private ConsumerSettings<String, ByteBuffer> getConsumerSettings() {
+        return propertiesFactory.getConsumerSettings(dryRun)
                 .withProperty(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
-        final AutoSubscription subscription = Subscriptions.topics(sourceAddress);
-        return Consumer.committableSource(consumerSettings, subscription);
+    }
+
+    private AutoSubscription getSubscription() {
+        return Subscriptions.topics(sourceAddress);
     }
 
 }
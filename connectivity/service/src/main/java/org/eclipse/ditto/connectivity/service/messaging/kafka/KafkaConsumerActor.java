@@ -80,7 +80,9 @@ final class KafkaConsumerActor extends BaseConsumerActor {
                                         inboundAcknowledgedMonitor, getMessageMappingSink(),
                                         getDittoRuntimeExceptionSink(),
                                         connection.getId(),
-                                        consumerData.getActorNamePrefix());
+                                        consumerData.getActorNamePrefix(),
+                                        consumerConfig.isPartitioned(),
+                                        consumerConfig.getMaxPartitions());
                         kafkaConsumerStream.whenComplete(this::handleStreamCompletion);
                         return kafkaConsumerStream;
                     }, exponentialBackOffConfig);
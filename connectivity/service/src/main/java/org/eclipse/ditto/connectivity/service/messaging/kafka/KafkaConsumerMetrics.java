@@ -14,13 +14,16 @@ package org.eclipse.ditto.connectivity.service.messaging.kafka;
 
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
+import java.util.Map;
 import java.util.function.Predicate;
 
 import org.apache.kafka.common.Metric;
 import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.TopicPartition;
 import org.eclipse.ditto.connectivity.model.ConnectionId;
 import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.internal.utils.metrics.instruments.timer.PreparedTimer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,6 +36,10 @@ public final class KafkaConsumerMetrics {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(KafkaConsumerMetrics.class);
     private static final String KAFKA_CONSUMER_METRIC_PREFIX = "kafka_consumer_";
+    private static final String CONNECTION_ID_TAG = "connectionId";
+    private static final String CONSUMER_ID_TAG = "consumerId";
+    private static final String TOPIC_TAG = "topic";
+    private static final String PARTITION_TAG = "partition";
 
     private final Consumer.Control consumerControl;
     private final ConnectionId connectionId;
@@ -90,10 +97,39 @@ public final class KafkaConsumerMetrics {
         }
     }
 
+    /**
+     * Returns the timer for the processing time of the messages of a partition, measured from the transformation of
+     * a record until its offset may be committed.
+     *
+     * @param connectionId the {@code connectionId} of the consumer.
+     * @param consumerId the unique identifier of the consumer stream.
+     * @param topicPartition the partition.
+     * @return the timer.
+     */
+    static PreparedTimer getProcessingTimer(final ConnectionId connectionId, final String consumerId,
+            final TopicPartition topicPartition) {
+
+        return DittoMetrics.timer(KAFKA_CONSUMER_METRIC_PREFIX + "processing_time")
+                .tag(CONNECTION_ID_TAG, connectionId.toString())
+                .tag(CONSUMER_ID_TAG, consumerId)
+                .tag(TOPIC_TAG, topicPartition.topic())
+                .tag(PARTITION_TAG, String.valueOf(topicPartition.partition()));
+    }
+
     private Gauge getGauge(final MetricName metricName) {
-        return DittoMetrics.gauge(KAFKA_CONSUMER_METRIC_PREFIX + metricName.name().replace("-", "_"))
-                .tag("connectionId", connectionId.toString())
-                .tag("consumerId", consumerId);
+        Gauge gauge = DittoMetrics.gauge(KAFKA_CONSUMER_METRIC_PREFIX + metricName.name().replace("-", "_"))
+                .tag(CONNECTION_ID_TAG, connectionId.toString())
+                .tag(CONSUMER_ID_TAG, consumerId);
+
+        // partition level metrics like "records-lag" are reported once per assigned partition
+        final Map<String, String> kafkaTags = metricName.tags();
+        if (kafkaTags.containsKey(TOPIC_TAG)) {
+            gauge = gauge.tag(TOPIC_TAG, kafkaTags.get(TOPIC_TAG));
+        }
+        if (kafkaTags.containsKey(PARTITION_TAG)) {
+            gauge = gauge.tag(PARTITION_TAG, kafkaTags.get(PARTITION_TAG));
+        }
+        return gauge;
     }
 
 }
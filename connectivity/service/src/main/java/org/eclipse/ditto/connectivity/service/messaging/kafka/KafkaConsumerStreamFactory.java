@@ -110,7 +110,9 @@ final class KafkaConsumerStreamFactory {
             final Sink<AcknowledgeableMessage, NotUsed> messageMappingSink,
             final Sink<DittoRuntimeException, ?> dreSink,
             final ConnectionId connectionId,
-            final String consumerId) {
+            final String consumerId,
+            final boolean partitioned,
+            final int maxPartitions) {
 
         final KafkaMessageTransformer kafkaMessageTransformer = buildKafkaMessageTransformer(inboundMonitor,
                 connectionId);
@@ -125,7 +127,9 @@ final class KafkaConsumerStreamFactory {
                 messageMappingSink,
                 dreSink,
                 connectionId,
-                consumerId);
+                consumerId,
+                partitioned,
+                maxPartitions);
     }
 
     private KafkaMessageTransformer buildKafkaMessageTransformer(final ConnectionMonitor inboundMonitor,
@@ -15,10 +15,12 @@ package org.eclipse.ditto.connectivity.service.messaging.monitoring.logs;
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
 import java.text.MessageFormat;
+import java.time.Instant;
 import java.util.Objects;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.base.model.entity.id.EntityId;
 import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.connectivity.model.ConnectivityModelFactory;
 import org.eclipse.ditto.connectivity.model.LogCategory;
@@ -109,19 +111,23 @@ abstract class AbstractConnectionLogger<
             final Object... messageArguments) {
 
         final String formattedMessage = formatMessage(message, messageArguments);
-        return addHeadersAndPayloadToMessage(infoProvider, formattedMessage);
+        return formattedMessage + getHeadersAndPayloadMessage(infoProvider);
     }
 
-    private String addHeadersAndPayloadToMessage(final ConnectionMonitor.InfoProvider infoProvider,
-            final String initialMessage) {
-
+    /**
+     * Returns the part of a log message which describes the headers and the payload of the logged message.
+     *
+     * @param infoProvider the info provider of the logged message.
+     * @return the description of headers and payload or an empty string if they are not logged.
+     */
+    protected String getHeadersAndPayloadMessage(final ConnectionMonitor.InfoProvider infoProvider) {
         if (!infoProvider.isEmpty() && logHeadersAndPayload) {
             final String headersMessage = getDebugHeaderMessage(infoProvider);
             final String payloadMessage = getDebugPayloadMessage(infoProvider);
-            return initialMessage + headersMessage + payloadMessage;
+            return headersMessage + payloadMessage;
         }
 
-        return initialMessage;
+        return "";
     }
 
     private static String getDebugHeaderMessage(final ConnectionMonitor.InfoProvider infoProvider) {
@@ -178,10 +184,16 @@ abstract class AbstractConnectionLogger<
     protected LogEntry getLogEntry(final ConnectionMonitor.InfoProvider infoProvider, final String message,
             final LogLevel logLevel) {
 
-        return ConnectivityModelFactory.newLogEntryBuilder(infoProvider.getCorrelationId(), infoProvider.getTimestamp(),
-                category, type, logLevel, message)
+        return getLogEntry(infoProvider.getCorrelationId(), infoProvider.getTimestamp(), infoProvider.getEntityId(),
+                message, logLevel);
+    }
+
+    protected LogEntry getLogEntry(final String correlationId, final Instant timestamp,
+            @Nullable final EntityId entityId, final String message, final LogLevel logLevel) {
+
+        return ConnectivityModelFactory.newLogEntryBuilder(correlationId, timestamp, category, type, logLevel, message)
                 .address(address)
-                .entityId(infoProvider.getEntityId())
+                .entityId(entityId)
                 .build();
     }
 
@@ -16,12 +16,16 @@ package org.eclipse.ditto.connectivity.service.messaging.monitoring.logs;
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
 import java.io.IOException;
+import java.time.Instant;
+import java.time.temporal.TemporalAccessor;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Objects;
+import java.util.Date;
+import java.util.List;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.base.model.entity.id.EntityId;
 import org.eclipse.ditto.connectivity.model.LogCategory;
 import org.eclipse.ditto.connectivity.model.LogEntry;
 import org.eclipse.ditto.connectivity.model.LogLevel;
@@ -35,19 +39,22 @@ import org.eclipse.ditto.internal.utils.metrics.instruments.timer.StartedTimer;
 /**
  * Implementation of {@link ConnectionLogger} that
  * has fixed capacity for its success and failure logs and will evict old logs when new logs are added.
+ * <p>
+ * Logs are stored with their message template and arguments. They are only formatted to {@link LogEntry}s when they
+ * are retrieved, because most logs are evicted without ever being retrieved.
  */
 final class EvictingConnectionLogger extends AbstractConnectionLogger<EvictingConnectionLogger.Builder, EvictingConnectionLogger> {
 
     private static final DittoLogger LOGGER = DittoLoggerFactory.getLogger(EvictingConnectionLogger.class);
 
-    private final EvictingQueue<LogEntry> successLogs;
-    private final EvictingQueue<LogEntry> failureLogs;
+    private final EvictingRingBuffer<BufferedLogEntry> successLogs;
+    private final EvictingRingBuffer<BufferedLogEntry> failureLogs;
 
     private EvictingConnectionLogger(final Builder builder) {
         super(builder);
 
-        successLogs = DefaultEvictingQueue.withCapacity(builder.successCapacity);
-        failureLogs = DefaultEvictingQueue.withCapacity(builder.failureCapacity);
+        successLogs = EvictingRingBuffer.withCapacity(builder.successCapacity);
+        failureLogs = EvictingRingBuffer.withCapacity(builder.failureCapacity);
 
         LOGGER.trace("Successfully built new EvictingConnectionLogger: {}", this);
     }
@@ -76,9 +83,8 @@ final class EvictingConnectionLogger extends AbstractConnectionLogger<EvictingCo
             final Object... messageArguments) {
 
         final var logTimer = startConnectionLogTimer();
-        final var formattedMessage = formatMessage(infoProvider, message, messageArguments);
+        final var logEntry = new BufferedLogEntry(infoProvider, message, messageArguments, LogLevel.SUCCESS);
         logTimer.startNewSegment("message_prepared");
-        final var logEntry = getLogEntry(infoProvider, formattedMessage, LogLevel.SUCCESS);
         logTraceWithCorrelationId(logEntry);
         logTimer.startNewSegment("message_internally_logged");
         successLogs.add(logEntry);
@@ -90,8 +96,9 @@ final class EvictingConnectionLogger extends AbstractConnectionLogger<EvictingCo
         return timer.start();
     }
 
-    private static void logTraceWithCorrelationId(final LogEntry logEntry) {
+    private static void logTraceWithCorrelationId(final BufferedLogEntry bufferedLogEntry) {
         if (LOGGER.isTraceEnabled()) {
+            final LogEntry logEntry = bufferedLogEntry.get();
             LOGGER.withCorrelationId(logEntry.getCorrelationId())
                     .trace("Saving {} log at <{}> for entity <{}> with message: {}",
                             logEntry.getLogLevel(),
@@ -106,12 +113,10 @@ final class EvictingConnectionLogger extends AbstractConnectionLogger<EvictingCo
             final String message,
             final Object... messageArguments) {
 
-        logFailureEntry(getLogEntry(infoProvider,
-                formatMessage(infoProvider, message, messageArguments),
-                LogLevel.FAILURE));
+        logFailureEntry(new BufferedLogEntry(infoProvider, message, messageArguments, LogLevel.FAILURE));
     }
 
-    private void logFailureEntry(final LogEntry logEntry) {
+    private void logFailureEntry(final BufferedLogEntry logEntry) {
         logTraceWithCorrelationId(logEntry);
         failureLogs.add(logEntry);
     }
@@ -121,21 +126,21 @@ final class EvictingConnectionLogger extends AbstractConnectionLogger<EvictingCo
             final String message,
             final Object... messageArguments) {
 
-        final var formattedMessage = formatMessage(infoProvider, message, messageArguments);
-        logTraceExceptionWithCorrelationId(infoProvider.getCorrelationId(), infoProvider, formattedMessage);
-        failureLogs.add(getLogEntry(infoProvider, formattedMessage, LogLevel.FAILURE));
+        final var logEntry = new BufferedLogEntry(infoProvider, message, messageArguments, LogLevel.FAILURE);
+        logTraceExceptionWithCorrelationId(infoProvider.getCorrelationId(), infoProvider, logEntry);
+        failureLogs.add(logEntry);
     }
 
     private static void logTraceExceptionWithCorrelationId(final CharSequence correlationId,
             final ConnectionMonitor.InfoProvider infoProvider,
-            final String message) {
+            final BufferedLogEntry logEntry) {
 
         if (LOGGER.isTraceEnabled()) {
             LOGGER.withCorrelationId(correlationId)
                     .trace("Saving exception log at <{}> for entity <{}> with message: {}",
                             infoProvider.getTimestamp(),
                             infoProvider.getEntityId(),
-                            message);
+                            logEntry.get().getMessage());
         }
     }
 
@@ -154,47 +159,39 @@ final class EvictingConnectionLogger extends AbstractConnectionLogger<EvictingCo
     @Override
     public void logEntry(final LogEntry logEntry) {
         checkNotNull(logEntry, "logEntry");
+        final var bufferedLogEntry = new BufferedLogEntry(logEntry);
         if (LogLevel.SUCCESS == logEntry.getLogLevel()) {
             final var logTimer = startConnectionLogTimer();
-            logTraceWithCorrelationId(logEntry);
+            logTraceWithCorrelationId(bufferedLogEntry);
             logTimer.startNewSegment("message_internally_logged");
-            successLogs.add(logEntry);
+            successLogs.add(bufferedLogEntry);
             logTimer.stop();
         } else {
-            logFailureEntry(logEntry);
+            logFailureEntry(bufferedLogEntry);
         }
     }
 
     @Override
     public Collection<LogEntry> getLogs() {
-        final Collection<LogEntry> logs = new ArrayList<>(successLogs.size() + failureLogs.size());
-        logs.addAll(successLogs);
-        logs.addAll(failureLogs);
+        final List<BufferedLogEntry> bufferedSuccessLogs = successLogs.toList();
+        final List<BufferedLogEntry> bufferedFailureLogs = failureLogs.toList();
+        final Collection<LogEntry> logs = new ArrayList<>(bufferedSuccessLogs.size() + bufferedFailureLogs.size());
+        bufferedSuccessLogs.forEach(logEntry -> logs.add(logEntry.get()));
+        bufferedFailureLogs.forEach(logEntry -> logs.add(logEntry.get()));
 
         LOGGER.trace("Returning logs: {}", logs);
         return logs;
     }
 
-    @SuppressWarnings("OverlyComplexMethod")
+    // the logged entries are the state of the logger, not its configuration, and do not take part in equality
     @Override
     public boolean equals(@Nullable final Object o) {
-        if (this == o) {
-            return true;
-        }
-        if (o == null || getClass() != o.getClass()) {
-            return false;
-        }
-        if (!super.equals(o)) {
-            return false;
-        }
-        final EvictingConnectionLogger that = (EvictingConnectionLogger) o;
-        return Objects.equals(successLogs, that.successLogs) &&
-                Objects.equals(failureLogs, that.failureLogs);
+        return super.equals(o);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), successLogs, failureLogs);
+        return super.hashCode();
     }
 
     @Override
@@ -205,6 +202,86 @@ final class EvictingConnectionLogger extends AbstractConnectionLogger<EvictingCo
                 "]";
     }
 
+    /**
+     * Log entry which is formatted on its first retrieval. It only retains what is needed for formatting, but not the
+     * info provider or message arguments which may reference whole messages or signals; the description of headers
+     * and payload is hence formatted right away.
+     */
+    private final class BufferedLogEntry {
+
+        @Nullable private final String correlationId;
+        @Nullable private final Instant timestamp;
+        @Nullable private final EntityId entityId;
+        @Nullable private final String message;
+        @Nullable private final Object[] messageArguments;
+        @Nullable private final String headersAndPayloadMessage;
+        @Nullable private final LogLevel logLevel;
+        @Nullable private volatile LogEntry logEntry;
+
+        private BufferedLogEntry(final ConnectionMonitor.InfoProvider infoProvider,
+                final String message,
+                final Object[] messageArguments,
+                final LogLevel logLevel) {
+
+            correlationId = infoProvider.getCorrelationId();
+            timestamp = infoProvider.getTimestamp();
+            entityId = infoProvider.getEntityId();
+            this.message = message;
+            this.messageArguments = retainableArguments(messageArguments);
+            headersAndPayloadMessage = getHeadersAndPayloadMessage(infoProvider);
+            this.logLevel = logLevel;
+            logEntry = null;
+        }
+
+        private BufferedLogEntry(final LogEntry logEntry) {
+            correlationId = null;
+            timestamp = null;
+            entityId = null;
+            message = null;
+            messageArguments = null;
+            headersAndPayloadMessage = null;
+            logLevel = null;
+            this.logEntry = logEntry;
+        }
+
+        @SuppressWarnings("ConstantConditions")
+        private LogEntry get() {
+            LogEntry result = logEntry;
+            if (null == result) {
+                // formatting twice on concurrent retrieval is harmless
+                result = getLogEntry(correlationId, timestamp, entityId,
+                        formatMessage(message, messageArguments) + headersAndPayloadMessage, logLevel);
+                logEntry = result;
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * Keeps arguments which are formatted specially by {@link java.text.MessageFormat} or are small and immutable;
+     * all other arguments are converted to strings, which is what {@code MessageFormat} would do with them.
+     */
+    private static Object[] retainableArguments(final Object[] messageArguments) {
+        Object[] result = messageArguments;
+        for (int i = 0; i < messageArguments.length; i++) {
+            final Object argument = messageArguments[i];
+            if (!isRetainable(argument)) {
+                if (result == messageArguments) {
+                    result = messageArguments.clone();
+                }
+                result[i] = String.valueOf(argument);
+            }
+        }
+        return result;
+    }
+
+    private static boolean isRetainable(@Nullable final Object argument) {
+        return null == argument || argument instanceof String || argument instanceof Number ||
+                argument instanceof Boolean || argument instanceof Character || argument instanceof Enum ||
+                argument instanceof Date || argument instanceof TemporalAccessor;
+    }
+
     /**
      * Builder for {@code EvictingConnectionLogger}.
      */
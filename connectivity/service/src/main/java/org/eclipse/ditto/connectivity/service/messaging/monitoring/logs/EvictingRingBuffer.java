@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.monitoring.logs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Ring buffer with a fixed capacity which overwrites its oldest element when full. All slots are allocated on
+ * creation, so adding an element does not allocate anything.
+ * <p>
+ * Like the queue it replaces, this implementation prefers speed over exactness: concurrent writers which wrap around
+ * the buffer may overwrite each other's elements, and reading while writing returns a weakly consistent snapshot.
+ *
+ * @param <E> type of elements in the buffer.
+ */
+@ThreadSafe
+final class EvictingRingBuffer<E> {
+
+    private final int capacity;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLong nextSequenceNumber;
+
+    private EvictingRingBuffer(final int capacity) {
+        this.capacity = Math.max(0, capacity);
+        slots = new AtomicReferenceArray<>(this.capacity);
+        nextSequenceNumber = new AtomicLong();
+    }
+
+    /**
+     * Create a new ring buffer.
+     *
+     * @param capacity capacity of the buffer.
+     * @param <E> type of elements in the buffer.
+     * @return the new buffer.
+     */
+    static <E> EvictingRingBuffer<E> withCapacity(final int capacity) {
+        return new EvictingRingBuffer<>(capacity);
+    }
+
+    /**
+     * Adds an element, overwriting the oldest element if the buffer is full.
+     *
+     * @param element the element.
+     */
+    void add(final E element) {
+        if (capacity > 0) {
+            final long sequenceNumber = nextSequenceNumber.getAndIncrement();
+            slots.set((int) (sequenceNumber % capacity), element);
+        }
+    }
+
+    /**
+     * Returns the elements of the buffer from the oldest to the newest.
+     *
+     * @return the elements.
+     */
+    List<E> toList() {
+        final long next = nextSequenceNumber.get();
+        final int size = (int) Math.min(next, capacity);
+        final List<E> elements = new ArrayList<>(size);
+        for (long sequenceNumber = next - size; sequenceNumber < next; sequenceNumber++) {
+            final E element = slots.get((int) (sequenceNumber % capacity));
+            if (null != element) {
+                elements.add(element);
+            }
+        }
+        return elements;
+    }
+
+    /**
+     * Removes all elements.
+     */
+    void clear() {
+        for (int i = 0; i < capacity; i++) {
+            slots.set(i, null);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "capacity=" + capacity +
+                ", nextSequenceNumber=" + nextSequenceNumber +
+                "]";
+    }
+
+}
@@ -70,6 +70,8 @@ public class DefaultKafkaConfigTest {
                 .isEqualTo(DEFAULT_POLL_INTERVAL);
         assertThat(underTest.getConsumerConfig().getAlpakkaConfig().getDuration("poll-timeout")) // from kafka-test.conf
                 .isEqualTo(DEFAULT_POLL_TIMEOUT);
+        assertThat(underTest.getConsumerConfig().isPartitioned()).isTrue();
+        assertThat(underTest.getConsumerConfig().getMaxPartitions()).isEqualTo(12);
 
         assertThat(underTest.getProducerConfig().getParallelism()) // from akka.kafka.producer
                 .isEqualTo(DEFAULT_PARALLELISM);
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.ditto.base.model.acks.AcknowledgementRequest;
+import org.eclipse.ditto.base.model.acks.DittoAcknowledgementLabel;
+import org.eclipse.ditto.base.model.auth.AuthorizationModelFactory;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.connectivity.model.ConnectivityModelFactory;
+import org.eclipse.ditto.connectivity.model.Target;
+import org.eclipse.ditto.connectivity.model.Topic;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+import org.eclipse.ditto.things.model.signals.events.ThingMerged;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+
+/**
+ * Unit test for {@link OutboundSignalCoalescer}.
+ */
+public final class OutboundSignalCoalescerTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto:coalesced");
+    private static final JsonPointer TEMPERATURE = JsonPointer.of("temperature");
+    private static final JsonPointer HUMIDITY = JsonPointer.of("humidity");
+
+    private static final Target PLAIN_TARGET = target("plain", false, false);
+    private static final Target COALESCING_TARGET = target("coalescing", true, false);
+    private static final Target MERGING_TARGET = target("merging", true, true);
+
+    private Counter coalescedCounter;
+    private List<Target> scheduledFlushes;
+    private OutboundSignalCoalescer underTest;
+
+    @Before
+    public void setUp() {
+        coalescedCounter = mock(Counter.class);
+        scheduledFlushes = new ArrayList<>();
+        underTest = new OutboundSignalCoalescer(coalescedCounter, (target, window) -> scheduledFlushes.add(target));
+    }
+
+    @Test
+    public void targetsWithoutCoalescingAreReturned() {
+        final List<Target> remainingTargets =
+                underTest.coalesce(attributeModified(TEMPERATURE, 1, 1L, DittoHeaders.empty()),
+                        List.of(PLAIN_TARGET, COALESCING_TARGET), ActorRef.noSender());
+
+        assertThat(remainingTargets).containsExactly(PLAIN_TARGET);
+        assertThat(scheduledFlushes).containsExactly(COALESCING_TARGET);
+    }
+
+    @Test
+    public void latestEventPerResourcePathIsFlushed() {
+        underTest.coalesce(attributeModified(TEMPERATURE, 1, 1L, DittoHeaders.empty()), List.of(COALESCING_TARGET),
+                ActorRef.noSender());
+        underTest.coalesce(attributeModified(HUMIDITY, 40, 2L, DittoHeaders.empty()), List.of(COALESCING_TARGET),
+                ActorRef.noSender());
+        underTest.coalesce(attributeModified(TEMPERATURE, 3, 3L, DittoHeaders.empty()), List.of(COALESCING_TARGET),
+                ActorRef.noSender());
+
+        assertThat(revisions(underTest.flush(COALESCING_TARGET))).containsExactly(2L, 3L);
+        assertThat(underTest.flush(COALESCING_TARGET)).isEmpty();
+        assertThat(scheduledFlushes).containsExactly(COALESCING_TARGET);
+        verify(coalescedCounter, times(1)).increment();
+    }
+
+    @Test
+    public void eventsRequestingAcknowledgementsAreNotReplaced() {
+        final DittoHeaders withAckRequest = DittoHeaders.newBuilder()
+                .acknowledgementRequest(AcknowledgementRequest.of(DittoAcknowledgementLabel.TWIN_PERSISTED))
+                .build();
+        underTest.coalesce(attributeModified(TEMPERATURE, 1, 1L, withAckRequest), List.of(COALESCING_TARGET),
+                ActorRef.noSender());
+        underTest.coalesce(attributeModified(TEMPERATURE, 2, 2L, DittoHeaders.empty()), List.of(COALESCING_TARGET),
+                ActorRef.noSender());
+
+        assertThat(revisions(underTest.flush(COALESCING_TARGET))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    public void mergeEventsAreOnlyCombinedIfEnabled() {
+        final ThingMerged first = thingMerged(JsonObject.newBuilder().set("a", 1).set("b", 1).build(), 1L);
+        final ThingMerged second = thingMerged(JsonObject.newBuilder().set("b", 2).build(), 2L);
+
+        underTest.coalesce(first, List.of(COALESCING_TARGET, MERGING_TARGET), ActorRef.noSender());
+        underTest.coalesce(second, List.of(COALESCING_TARGET, MERGING_TARGET), ActorRef.noSender());
+
+        assertThat(revisions(underTest.flush(COALESCING_TARGET))).containsExactly(1L, 2L);
+        final List<OutboundSignalCoalescer.PendingSignal> merged = underTest.flush(MERGING_TARGET);
+        assertThat(merged).hasSize(1);
+        assertThat(((ThingMerged) merged.get(0).signal()).getValue())
+                .isEqualTo(JsonObject.newBuilder().set("b", 2).set("a", 1).build());
+    }
+
+    private static List<Long> revisions(final List<OutboundSignalCoalescer.PendingSignal> pendingSignals) {
+        return pendingSignals.stream()
+                .map(OutboundSignalCoalescer.PendingSignal::signal)
+                .map(signal -> ((ThingEvent<?>) signal).getRevision())
+                .toList();
+    }
+
+    private static Signal<?> attributeModified(final JsonPointer attribute, final int value, final long revision,
+            final DittoHeaders dittoHeaders) {
+
+        return AttributeModified.of(THING_ID, attribute, JsonValue.of(value), revision, null, dittoHeaders, null);
+    }
+
+    private static ThingMerged thingMerged(final JsonObject value, final long revision) {
+        return ThingMerged.of(THING_ID, JsonPointer.of("attributes"), value, revision, null, DittoHeaders.empty(),
+                null);
+    }
+
+    private static Target target(final String address, final boolean coalescing, final boolean merge) {
+        return ConnectivityModelFactory.newTargetBuilder()
+                .address(address)
+                .authorizationContext(AuthorizationModelFactory.newAuthContext(
+                        DittoAuthorizationContextType.PRE_AUTHENTICATED_CONNECTION,
+                        AuthorizationModelFactory.newAuthSubject("integration:coalescing")))
+                .topics(Topic.TWIN_EVENTS)
+                .coalescing(coalescing ? ConnectivityModelFactory.newCoalescing(Duration.ofSeconds(1), merge) : null)
+                .build();
+    }
+
+}
@@ -22,10 +22,14 @@ import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable
 
 import java.nio.ByteBuffer;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.header.internals.RecordHeaders;
 import org.apache.kafka.common.record.TimestampType;
 import org.eclipse.ditto.base.model.common.ByteBufferUtils;
@@ -199,4 +203,107 @@ public final class AtLeastOnceConsumerStreamTest {
         }};
     }
 
+    @Test
+    public void processesPartitionsIndependentlyInPartitionedMode() {
+        new TestKit(actorSystem) {{
+            /*
+             * Given we have a kafka source with two partitions, emitting records that are all transformed to
+             * External messages which are never acknowledged.
+             */
+            final ConsumerRecord<String, ByteBuffer> consumerRecord =
+                    new ConsumerRecord<>("topic", 1, 1, Instant.now().toEpochMilli(), TimestampType.LOG_APPEND_TIME,
+                            -1L, NULL_SIZE, NULL_SIZE, "Key", ByteBufferUtils.fromUtf8String("Value"),
+                            new RecordHeaders());
+            final ConsumerMessage.CommittableMessage<String, ByteBuffer> committableMessage =
+                    new ConsumerMessage.CommittableMessage<>(consumerRecord, mock(
+                            ConsumerMessage.CommittableOffset.class));
+            final AtomicReference<BoundedSourceQueue<ConsumerMessage.CommittableMessage<String, ByteBuffer>>>
+                    otherPartitionQueue = new AtomicReference<>();
+            final Source<ConsumerMessage.CommittableMessage<String, ByteBuffer>, NotUsed> partitionSource =
+                    source.mapMaterializedValue(control -> NotUsed.getInstance());
+            final Source<ConsumerMessage.CommittableMessage<String, ByteBuffer>, NotUsed> otherPartitionSource =
+                    Source.<ConsumerMessage.CommittableMessage<String, ByteBuffer>>queue(1)
+                            .mapMaterializedValue(queue -> {
+                                otherPartitionQueue.set(queue);
+                                return NotUsed.getInstance();
+                            });
+            final Source<Pair<TopicPartition, Source<ConsumerMessage.CommittableMessage<String, ByteBuffer>,
+                    NotUsed>>, Consumer.Control> partitionedSource =
+                    Source.from(List.of(Pair.create(new TopicPartition("topic", 0), partitionSource),
+                                    Pair.create(new TopicPartition("topic", 1), otherPartitionSource)))
+                            .mapMaterializedValue(notUsed -> mock(Consumer.Control.class));
+            final AtLeastOnceKafkaConsumerSourceSupplier sourceSupplier =
+                    mock(AtLeastOnceKafkaConsumerSourceSupplier.class);
+            when(sourceSupplier.getPartitioned()).thenReturn(partitionedSource);
+            final KafkaMessageTransformer messageTransformer = mock(KafkaMessageTransformer.class);
+            final TransformationResult result = TransformationResult.successful(mock(ExternalMessage.class));
+
+            when(messageTransformer.transform(
+                    ArgumentMatchers.<ConsumerMessage.CommittableMessage<String, ByteBuffer>>any()))
+                    .thenReturn(CommittableTransformationResult.of(result, committableMessage.committableOffset()));
+            final ConnectionMonitor connectionMonitor = mock(ConnectionMonitor.class);
+            final ConnectionMonitor ackMonitor = mock(ConnectionMonitor.class);
+            final int maxInflight = TestConstants.KAFKA_THROTTLING_CONFIG.getMaxInFlight();
+            final Materializer materializer = Materializer.createMaterializer(actorSystem);
+            final Sink<DittoRuntimeException, TestSubscriber.Probe<DittoRuntimeException>> dreSink =
+                    TestSink.create(actorSystem);
+
+            // When starting the stream in partitioned mode
+            new AtLeastOnceConsumerStream(sourceSupplier, CommitterSettings.apply(actorSystem),
+                    TestConstants.KAFKA_THROTTLING_CONFIG,
+                    messageTransformer, false, materializer,
+                    connectionMonitor, ackMonitor, inboundMappingSink, dreSink,
+                    ConnectionId.generateRandom(), "someUniqueId", true, 2);
+
+            inboundSinkProbe.ensureSubscription();
+            // And the first partition is blocked by unacknowledged messages
+            for (int i = 0; i < maxInflight + 1; i++) {
+                assertThat(sourceQueue.get().offer(committableMessage)).isEqualTo(QueueOfferResult.enqueued());
+                inboundSinkProbe.request(1);
+                inboundSinkProbe.expectNext();
+            }
+            assertThat(sourceQueue.get().offer(committableMessage)).isEqualTo(QueueOfferResult.enqueued());
+            inboundSinkProbe.request(1);
+            inboundSinkProbe.expectNoMessage();
+
+            // Then messages of the other partition are still processed
+            assertThat(otherPartitionQueue.get().offer(committableMessage)).isEqualTo(QueueOfferResult.enqueued());
+            inboundSinkProbe.expectNext();
+        }};
+    }
+
+    @Test
+    public void failsIfMorePartitionsThanMaxPartitionsAreAssigned() throws Exception {
+        /*
+         * Given we have a kafka source with three partitions which never complete.
+         */
+        final Source<ConsumerMessage.CommittableMessage<String, ByteBuffer>, NotUsed> partitionSource =
+                Source.never();
+        final Source<Pair<TopicPartition, Source<ConsumerMessage.CommittableMessage<String, ByteBuffer>,
+                NotUsed>>, Consumer.Control> partitionedSource =
+                Source.from(List.of(Pair.create(new TopicPartition("topic", 0), partitionSource),
+                                Pair.create(new TopicPartition("topic", 1), partitionSource),
+                                Pair.create(new TopicPartition("topic", 2), partitionSource)))
+                        .mapMaterializedValue(notUsed -> mock(Consumer.Control.class));
+        final AtLeastOnceKafkaConsumerSourceSupplier sourceSupplier =
+                mock(AtLeastOnceKafkaConsumerSourceSupplier.class);
+        when(sourceSupplier.getPartitioned()).thenReturn(partitionedSource);
+        final Sink<DittoRuntimeException, TestSubscriber.Probe<DittoRuntimeException>> dreSink =
+                TestSink.create(actorSystem);
+
+        // When starting the stream in partitioned mode with at most two partitions
+        final AtLeastOnceConsumerStream underTest = new AtLeastOnceConsumerStream(sourceSupplier,
+                CommitterSettings.apply(actorSystem), TestConstants.KAFKA_THROTTLING_CONFIG,
+                mock(KafkaMessageTransformer.class), false, Materializer.createMaterializer(actorSystem),
+                mock(ConnectionMonitor.class), mock(ConnectionMonitor.class), inboundMappingSink, dreSink,
+                ConnectionId.generateRandom(), "someUniqueId", true, 2);
+
+        // Then the stream fails instead of leaving the third partition unconsumed
+        final CompletableFuture<Throwable> failure = new CompletableFuture<>();
+        underTest.whenComplete((done, error) -> failure.complete(error));
+        assertThat(failure.get(10L, TimeUnit.SECONDS))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("max-partitions");
+    }
+
 }
@@ -371,6 +371,7 @@ public final class EvictingConnectionLoggerTest {
     public void testEqualsAndHashcode() {
         EqualsVerifier.forClass(EvictingConnectionLogger.class)
                 .usingGetClass()
+                .withIgnoredFields("successLogs", "failureLogs")
                 .verify();
     }
 
@@ -397,6 +398,19 @@ public final class EvictingConnectionLoggerTest {
                 .hasMessage("success {0}");
     }
 
+    @Test
+    public void argumentsAreFormattedAsOfLogging() {
+        final var logger = builder.build();
+        final var mutableArgument = new StringBuilder("before");
+
+        logger.success(getInfoProvider(), "success {0} {1}", mutableArgument, 1000);
+        mutableArgument.replace(0, mutableArgument.length(), "after");
+
+        final var entry = getFirstAndOnlyEntry(logger);
+        LogEntryAssertions.assertThat(entry)
+                .hasMessage(MessageFormat.format("success {0} {1}", "before", 1000));
+    }
+
     @Test
     public void logNullEntryThrowsException() {
         final var underTest = builder.build();
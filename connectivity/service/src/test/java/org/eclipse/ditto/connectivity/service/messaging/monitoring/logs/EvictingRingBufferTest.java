@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.monitoring.logs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link EvictingRingBuffer}.
+ */
+public final class EvictingRingBufferTest {
+
+    private static final int CAPACITY = 6;
+
+    @Test
+    public void verifyEviction() {
+        final EvictingRingBuffer<String> buffer = EvictingRingBuffer.withCapacity(CAPACITY);
+
+        final List<String> fallingOutStrings = createRandomStrings(13);
+        final List<String> remainingStrings = createRandomStrings(CAPACITY);
+
+        fallingOutStrings.forEach(buffer::add);
+        remainingStrings.forEach(buffer::add);
+
+        assertThat(buffer.toList()).containsExactlyElementsOf(remainingStrings);
+    }
+
+    @Test
+    public void returnsElementsInInsertionOrderBeforeBeingFull() {
+        final EvictingRingBuffer<String> buffer = EvictingRingBuffer.withCapacity(CAPACITY);
+
+        buffer.add("first");
+        buffer.add("second");
+
+        assertThat(buffer.toList()).containsExactly("first", "second");
+    }
+
+    @Test
+    public void verifyEvictionUnderHighLoad() {
+        final EvictingRingBuffer<String> buffer = EvictingRingBuffer.withCapacity(CAPACITY);
+
+        IntStream.range(0, 100000).parallel().forEach(i -> buffer.add(Integer.toString(i)));
+
+        assertThat(buffer.toList()).hasSize(CAPACITY);
+    }
+
+    @Test
+    public void clearRemovesAllElements() {
+        final EvictingRingBuffer<String> buffer = EvictingRingBuffer.withCapacity(CAPACITY);
+        createRandomStrings(CAPACITY + 1).forEach(buffer::add);
+
+        buffer.clear();
+
+        assertThat(buffer.toList()).isEmpty();
+    }
+
+    @Test
+    public void bufferWithoutCapacityStaysEmpty() {
+        final EvictingRingBuffer<String> buffer = EvictingRingBuffer.withCapacity(0);
+
+        buffer.add("element");
+
+        assertThat(buffer.toList()).isEmpty();
+    }
+
+    private static List<String> createRandomStrings(final int n) {
+        return Stream.generate(() -> UUID.randomUUID().toString())
+                .limit(n)
+                .toList();
+    }
+
+}
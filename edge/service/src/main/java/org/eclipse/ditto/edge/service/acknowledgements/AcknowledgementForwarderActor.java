@@ -186,8 +186,13 @@ public final class AcknowledgementForwarderActor extends AbstractActor {
         final AcknowledgementForwarderActorStarter starter =
                 AcknowledgementForwarderActorStarter.getInstance(actorRefFactory, parent, commandForwarder, entityId,
                         signal, acknowledgementConfig, isAckLabelAllowed);
+        final Optional<String> conflictFreeCorrelationId = starter.getConflictFree();
+        if (conflictFreeCorrelationId.isEmpty() && signal.getDittoHeaders().getAcknowledgementRequests().isEmpty()) {
+            // keep the signal instance, it may be shared with other subscribers
+            return signal;
+        }
         final DittoHeadersBuilder<?, ?> dittoHeadersBuilder = signal.getDittoHeaders().toBuilder();
-        starter.getConflictFree().ifPresent(dittoHeadersBuilder::correlationId);
+        conflictFreeCorrelationId.ifPresent(dittoHeadersBuilder::correlationId);
         if (!signal.getDittoHeaders().getAcknowledgementRequests().isEmpty()) {
             dittoHeadersBuilder.acknowledgementRequests(starter.getAllowedAckRequests());
         }
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.api;
+
+import java.net.URI;
+import java.text.MessageFormat;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.base.model.common.HttpStatus;
+import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.base.model.exceptions.DittoRuntimeExceptionBuilder;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.JsonParsableException;
+import org.eclipse.ditto.json.JsonObject;
+
+/**
+ * This exception indicates that a batch request contained more commands than the API Gateway accepts per request.
+ */
+@Immutable
+@JsonParsableException(errorCode = GatewayBatchTooLargeException.ERROR_CODE)
+public final class GatewayBatchTooLargeException extends DittoRuntimeException implements GatewayException {
+
+    /**
+     * Error code of this exception.
+     */
+    public static final String ERROR_CODE = ERROR_CODE_PREFIX + "batch.toolarge";
+
+    private static final String MESSAGE_TEMPLATE =
+            "The batch request contained more than the maximum allowed <{0}> commands.";
+
+    private static final String DEFAULT_DESCRIPTION = "Split the commands into several batch requests.";
+
+    private static final long serialVersionUID = 3581201496530861217L;
+
+    private GatewayBatchTooLargeException(final DittoHeaders dittoHeaders,
+            @Nullable final String message,
+            @Nullable final String description,
+            @Nullable final Throwable cause,
+            @Nullable final URI href) {
+        super(ERROR_CODE, HttpStatus.REQUEST_ENTITY_TOO_LARGE, dittoHeaders, message, description, cause, href);
+    }
+
+    /**
+     * A mutable builder for a {@code GatewayBatchTooLargeException}.
+     *
+     * @param maxCommands the maximum number of commands per batch request.
+     * @return the builder.
+     */
+    public static Builder newBuilder(final int maxCommands) {
+        return new Builder(maxCommands);
+    }
+
+    /**
+     * Constructs a new {@code GatewayBatchTooLargeException} object with given message.
+     *
+     * @param message detail message. This message can be later retrieved by the {@link #getMessage()} method.
+     * @param dittoHeaders the headers of the command which resulted in this exception.
+     * @return the new GatewayBatchTooLargeException.
+     * @throws NullPointerException if {@code dittoHeaders} is {@code null}.
+     */
+    public static GatewayBatchTooLargeException fromMessage(@Nullable final String message,
+            final DittoHeaders dittoHeaders) {
+        return DittoRuntimeException.fromMessage(message, dittoHeaders, new Builder());
+    }
+
+    /**
+     * Constructs a new {@code GatewayBatchTooLargeException} object with the exception message extracted from the given
+     * JSON object.
+     *
+     * @param jsonObject the JSON to read the {@link org.eclipse.ditto.base.model.exceptions.DittoRuntimeException.JsonFields#MESSAGE} field from.
+     * @param dittoHeaders the headers of the command which resulted in this exception.
+     * @return the new GatewayBatchTooLargeException.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if this JsonObject did not contain an error message.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static GatewayBatchTooLargeException fromJson(final JsonObject jsonObject,
+            final DittoHeaders dittoHeaders) {
+        return DittoRuntimeException.fromJson(jsonObject, dittoHeaders, new Builder());
+    }
+
+    @Override
+    public DittoRuntimeException setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return new Builder()
+                .message(getMessage())
+                .description(getDescription().orElse(null))
+                .cause(getCause())
+                .href(getHref().orElse(null))
+                .dittoHeaders(dittoHeaders)
+                .build();
+    }
+
+    /**
+     * A mutable builder with a fluent API for a {@link GatewayBatchTooLargeException}.
+     */
+    @NotThreadSafe
+    public static final class Builder extends DittoRuntimeExceptionBuilder<GatewayBatchTooLargeException> {
+
+        private Builder() {
+            description(DEFAULT_DESCRIPTION);
+        }
+
+        private Builder(final int maxCommands) {
+            this();
+            message(MessageFormat.format(MESSAGE_TEMPLATE, maxCommands));
+        }
+
+        @Override
+        protected GatewayBatchTooLargeException doBuild(final DittoHeaders dittoHeaders,
+                @Nullable final String message,
+                @Nullable final String description,
+                @Nullable final Throwable cause,
+                @Nullable final URI href) {
+            return new GatewayBatchTooLargeException(dittoHeaders, message, description, cause, href);
+        }
+    }
+}
@@ -14,16 +14,11 @@ package org.eclipse.ditto.gateway.service.endpoints.actors;
 
 import java.nio.ByteBuffer;
 import java.time.Duration;
-import java.util.Base64;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
 import java.util.function.Supplier;
-import java.util.function.UnaryOperator;
-import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
@@ -34,7 +29,6 @@ import org.eclipse.ditto.base.model.entity.id.EntityId;
 import org.eclipse.ditto.base.model.entity.id.WithEntityId;
 import org.eclipse.ditto.base.model.exceptions.DittoJsonException;
 import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
-import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.base.model.headers.WithDittoHeaders;
 import org.eclipse.ditto.base.model.headers.contenttype.ContentType;
@@ -81,15 +75,11 @@ import akka.actor.Cancellable;
 import akka.actor.CoordinatedShutdown;
 import akka.actor.ReceiveTimeout;
 import akka.actor.Status;
-import akka.http.javadsl.model.ContentTypes;
 import akka.http.javadsl.model.HttpEntities;
-import akka.http.javadsl.model.HttpHeader;
 import akka.http.javadsl.model.HttpRequest;
 import akka.http.javadsl.model.HttpResponse;
-import akka.http.javadsl.model.StatusCodes;
 import akka.http.javadsl.model.Uri;
 import akka.http.javadsl.model.headers.Location;
-import akka.http.javadsl.model.headers.RawHeader;
 import akka.http.scaladsl.model.ContentType$;
 import akka.http.scaladsl.model.EntityStreamSizeException;
 import akka.japi.pf.ReceiveBuilder;
@@ -111,10 +101,8 @@ public abstract class AbstractHttpRequestActor extends AbstractActorWithShutdown
      */
     public static final String COMPLETE_MESSAGE = "complete";
 
-    private static final akka.http.javadsl.model.ContentType CONTENT_TYPE_JSON = ContentTypes.APPLICATION_JSON;
-
     private final ActorRef proxyActor;
-    private final HeaderTranslator headerTranslator;
+    private final HttpResponseRenderer responseRenderer;
     private final CompletableFuture<HttpResponse> httpResponseFuture;
     private final HttpRequest httpRequest;
     private final CommandConfig commandConfig;
@@ -136,7 +124,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActorWithShutdown
             final CommandConfig commandConfig) {
 
         this.proxyActor = proxyActor;
-        this.headerTranslator = headerTranslator;
+        responseRenderer = HttpResponseRenderer.of(headerTranslator);
         this.httpResponseFuture = httpResponseFuture;
         httpRequest = request;
         this.commandConfig = commandConfig;
@@ -208,10 +196,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActorWithShutdown
     }
 
     private static HttpResponse createHttpResponse(final HttpStatus httpStatus) {
-        final var statusCode = StatusCodes.lookup(httpStatus.getCode())
-                .orElse(StatusCodes.custom(httpStatus.getCode(), "custom", "custom"));
-
-        return HttpResponse.create().withStatus(statusCode);
+        return HttpResponseRenderer.createHttpResponse(httpStatus);
     }
 
     @Override
@@ -449,20 +434,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActorWithShutdown
 
     private void handleCommandResponseWithEntity(final CommandResponse<?> commandResponse) {
         rememberResponseLocationUri(commandResponse);
-
-        final var withEntity = (WithEntity<?>) commandResponse;
-
-        final var responseWithoutHeaders = createHttpResponse(commandResponse.getHttpStatus());
-        final var responseWithoutBody = enhanceResponseWithExternalDittoHeaders(responseWithoutHeaders,
-                commandResponse.getDittoHeaders());
-
-        final var contentType = getContentType(commandResponse.getDittoHeaders());
-        final var response = withEntity.getEntityPlainString()
-                .map(s -> addEntityAccordingToContentType(responseWithoutBody, s, contentType))
-                .orElseGet(() -> addEntityAccordingToContentType(responseWithoutBody,
-                        withEntity.getEntity(commandResponse.getImplementedSchemaVersion()).toString(),
-                        contentType));
-        completeWithResult(response);
+        completeWithResult(responseRenderer.forCommandResponseWithEntity(commandResponse));
     }
 
     private void handleCommandResponseWithOptionalEntity(final CommandResponse<?> commandResponse) {
@@ -549,60 +521,13 @@ public abstract class AbstractHttpRequestActor extends AbstractActorWithShutdown
         logger.withCorrelationId(exception)
                 .info("DittoRuntimeException <{}>: <{}>.", exception.getErrorCode(), exception.getMessage());
 
-        final var responseWithoutHeaders = buildResponseWithoutHeadersFromDittoRuntimeException(exception);
-        final var response =
-                enhanceResponseWithExternalDittoHeaders(responseWithoutHeaders, exception.getDittoHeaders());
-
-        completeWithResult(response);
-    }
-
-    private static HttpResponse buildResponseWithoutHeadersFromDittoRuntimeException(
-            final DittoRuntimeException exception) {
-
-        final HttpResponse result;
-        final var httpStatus = exception.getHttpStatus();
-        final var responseWithoutHeaders = createHttpResponse(httpStatus);
-        if (HttpStatus.NOT_MODIFIED.equals(httpStatus)) {
-            result = responseWithoutHeaders;
-        } else {
-            result = responseWithoutHeaders.withEntity(CONTENT_TYPE_JSON,
-                    ByteString.fromString(exception.toJsonString()));
-        }
-
-        return result;
+        completeWithResult(responseRenderer.forDittoRuntimeException(exception));
     }
 
     private HttpResponse enhanceResponseWithExternalDittoHeaders(final HttpResponse response,
             final DittoHeaders allDittoHeaders) {
 
-        final HttpResponse result;
-
-        final var externalHeaders = headerTranslator.toExternalAndRetainKnownHeaders(allDittoHeaders);
-        final var l = logger.withCorrelationId(allDittoHeaders);
-        if (externalHeaders.isEmpty()) {
-            l.debug("No external headers for enhancing the response, returning it as-is.");
-            result = response;
-        } else {
-            l.debug("Enhancing response with external headers <{}>.", externalHeaders);
-            final var externalHeadersEntries = externalHeaders.entrySet();
-
-            /*
-             * Content type is set by the entity.
-             * See response.entity().getContentType().
-             * If we set it here this will cause a WARN log.
-             */
-            final Predicate<Map.Entry<String, String>> isContentType = headerEntry -> {
-                final var headerName = headerEntry.getKey();
-                return headerName.equalsIgnoreCase(DittoHeaderDefinition.CONTENT_TYPE.getKey());
-            };
-            final List<HttpHeader> externalHttpHeaders = externalHeadersEntries.stream()
-                    .filter(Predicate.not(isContentType))
-                    .map(entry -> RawHeader.create(entry.getKey(), entry.getValue()))
-                    .collect(Collectors.toList());
-            result = response.withHeaders(externalHttpHeaders);
-        }
-
-        return result;
+        return responseRenderer.enhanceWithExternalDittoHeaders(response, allDittoHeaders);
     }
 
     private void completeWithResult(final HttpResponse response) {
@@ -633,51 +558,10 @@ public abstract class AbstractHttpRequestActor extends AbstractActorWithShutdown
         inCoordinatedShutdown = false;
     }
 
-    private static HttpResponse addEntityAccordingToContentType(final HttpResponse response, final String entityPlain,
-            final ContentType contentType) {
-        final ByteString byteString;
-
-        if (contentType.isBinary()) {
-            byteString = ByteString.fromArray(Base64.getDecoder().decode(entityPlain));
-        } else {
-            byteString = ByteString.fromString(entityPlain);
-        }
-
-        return response.withEntity(ContentTypes.parse(contentType.getValue()), byteString);
-    }
-
-    private static ContentType getContentType(final DittoHeaders dittoHeaders) {
-        return dittoHeaders.getDittoContentType().orElse(ContentType.APPLICATION_JSON);
-    }
-
     private HttpResponse createCommandResponse(final DittoHeaders dittoHeaders, final HttpStatus httpStatus,
             final WithOptionalEntity withOptionalEntity) {
 
-        final UnaryOperator<HttpResponse> addExternalDittoHeaders =
-                response -> enhanceResponseWithExternalDittoHeaders(response, dittoHeaders);
-        final UnaryOperator<HttpResponse> modifyResponseOperator = this::modifyResponse;
-        final var addHeaders = addExternalDittoHeaders.andThen(modifyResponseOperator);
-        final var addBodyIfEntityExists =
-                createBodyAddingResponseMapper(dittoHeaders, withOptionalEntity);
-
-        return addBodyIfEntityExists.apply(addHeaders.apply(createHttpResponse(httpStatus)));
-    }
-
-    private static UnaryOperator<HttpResponse> createBodyAddingResponseMapper(final DittoHeaders dittoHeaders,
-            final WithOptionalEntity withOptionalEntity) {
-
-        return response -> {
-            if (StatusCodes.NO_CONTENT.equals(response.status())) {
-                return response;
-            }
-            final var schemaVersion = dittoHeaders.getSchemaVersion()
-                    .orElse(dittoHeaders.getImplementedSchemaVersion());
-
-            return withOptionalEntity.getEntity(schemaVersion)
-                    .map(entity -> addEntityAccordingToContentType(response, entity.toString(),
-                            getContentType(dittoHeaders)))
-                    .orElse(response);
-        };
+        return responseRenderer.forOptionalEntity(dittoHeaders, httpStatus, withOptionalEntity, this::modifyResponse);
     }
 
     /**
@@ -772,7 +656,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActorWithShutdown
         completeWithResult(httpResponse);
     }
 
-    private static Duration getReceiveTimeout(final Signal<?> originatingSignal, final CommandConfig commandConfig) {
+    static Duration getReceiveTimeout(final Signal<?> originatingSignal, final CommandConfig commandConfig) {
 
         final var defaultTimeout = commandConfig.getDefaultTimeout();
         final var maxTimeout = commandConfig.getMaxTimeout();
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.actors;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.base.api.devops.signals.commands.DevOpsCommand;
+import org.eclipse.ditto.base.model.common.HttpStatus;
+import org.eclipse.ditto.base.model.exceptions.DittoJsonException;
+import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.base.model.headers.translator.HeaderTranslator;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.base.model.signals.WithOptionalEntity;
+import org.eclipse.ditto.base.model.signals.commands.Command;
+import org.eclipse.ditto.base.model.signals.commands.CommandResponse;
+import org.eclipse.ditto.base.model.signals.commands.ErrorResponse;
+import org.eclipse.ditto.base.model.signals.commands.WithEntity;
+import org.eclipse.ditto.base.model.signals.commands.exceptions.CommandTimeoutException;
+import org.eclipse.ditto.gateway.service.endpoints.routes.whoami.Whoami;
+import org.eclipse.ditto.gateway.service.util.config.endpoints.CommandConfig;
+import org.eclipse.ditto.internal.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.akka.logging.ThreadSafeDittoLogger;
+import org.eclipse.ditto.internal.utils.cluster.JsonValueSourceRef;
+import org.eclipse.ditto.json.JsonRuntimeException;
+
+import akka.Done;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.CoordinatedShutdown;
+import akka.http.javadsl.model.HttpResponse;
+import akka.pattern.AskTimeoutException;
+import akka.pattern.Patterns;
+
+/**
+ * Answers query commands of HTTP requests without creating an {@link AbstractHttpRequestActor} per request: the
+ * command is sent to the proxy actor via the ask pattern and the response future is rendered into an HTTP response
+ * in the same way as the HTTP request actor does.
+ * <p>
+ * Only commands which require a response, request no acknowledgements and target neither the live nor the smart
+ * channel are {@link #isApplicable(Command) applicable}, because for all others acknowledgement aggregation,
+ * accepting immediately or the live channel fallback of the HTTP request actor is needed.
+ * <p>
+ * Like the HTTP request actors, the handler delays the coordinated shutdown phase "service-requests-done" until all
+ * pending requests are answered.
+ */
+@ThreadSafe
+public final class ActorlessQueryCommandHandler {
+
+    private static final ThreadSafeDittoLogger LOGGER =
+            DittoLoggerFactory.getThreadSafeLogger(ActorlessQueryCommandHandler.class);
+
+    private final ActorRef proxyActor;
+    private final HttpResponseRenderer responseRenderer;
+    private final CommandConfig commandConfig;
+    private final Set<CompletableFuture<HttpResponse>> pendingResponses;
+
+    private ActorlessQueryCommandHandler(final ActorRef proxyActor,
+            final HeaderTranslator headerTranslator,
+            final CommandConfig commandConfig,
+            final ActorSystem actorSystem) {
+
+        this.proxyActor = proxyActor;
+        responseRenderer = HttpResponseRenderer.of(headerTranslator);
+        this.commandConfig = commandConfig;
+        pendingResponses = ConcurrentHashMap.newKeySet();
+
+        CoordinatedShutdown.get(actorSystem).addTask(CoordinatedShutdown.PhaseServiceRequestsDone(),
+                "service-requests-done-actorless-query-commands",
+                this::awaitPendingResponses);
+    }
+
+    /**
+     * Returns an instance of {@code ActorlessQueryCommandHandler}.
+     *
+     * @param proxyActor the proxy actor which delegates commands.
+     * @param headerTranslator translates Ditto headers to external HTTP headers.
+     * @param commandConfig the configuration settings for incoming commands (via HTTP requests) in the gateway.
+     * @param actorSystem the actor system whose coordinated shutdown waits for pending requests.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static ActorlessQueryCommandHandler of(final ActorRef proxyActor,
+            final HeaderTranslator headerTranslator,
+            final CommandConfig commandConfig,
+            final ActorSystem actorSystem) {
+
+        return new ActorlessQueryCommandHandler(checkNotNull(proxyActor, "proxyActor"),
+                checkNotNull(headerTranslator, "headerTranslator"),
+                checkNotNull(commandConfig, "commandConfig"),
+                checkNotNull(actorSystem, "actorSystem"));
+    }
+
+    /**
+     * Indicates whether the specified command can be handled without an HTTP request actor.
+     *
+     * @param command the command to check.
+     * @return {@code true} if the command is a query command which requires a response, requests no acknowledgements
+     * and targets neither the live nor the smart channel.
+     */
+    public static boolean isApplicable(final Command<?> command) {
+        final var dittoHeaders = command.getDittoHeaders();
+
+        return Command.Category.QUERY == command.getCategory() &&
+                !(command instanceof Whoami) &&
+                !(command instanceof DevOpsCommand) &&
+                dittoHeaders.isResponseRequired() &&
+                dittoHeaders.getAcknowledgementRequests().isEmpty() &&
+                dittoHeaders.getTimeout().filter(Duration::isZero).isEmpty() &&
+                !Signal.isChannelLive(command) &&
+                !Signal.isChannelSmart(command);
+    }
+
+    /**
+     * Sends the command to the proxy actor and renders its response into an HTTP response.
+     *
+     * @param command the command, it has to be {@link #isApplicable(Command) applicable}.
+     * @return a future HTTP response which never fails.
+     */
+    public CompletionStage<HttpResponse> handle(final Command<?> command) {
+        final var timeout = AbstractHttpRequestActor.getReceiveTimeout(command, commandConfig);
+        LOGGER.withCorrelationId(command).debug("Got <{}>. Asking the target actor about it.", command);
+
+        final CompletableFuture<HttpResponse> httpResponse = Patterns.ask(proxyActor, command, timeout)
+                .handle((response, error) -> null != error
+                        ? renderFailure(command, timeout, error)
+                        : renderResponse(command, response))
+                .toCompletableFuture();
+        pendingResponses.add(httpResponse);
+        httpResponse.whenComplete((response, error) -> pendingResponses.remove(httpResponse));
+
+        return httpResponse;
+    }
+
+    /**
+     * Returns a future which completes when all requests pending at the time of the call are answered.
+     *
+     * @return the future.
+     */
+    CompletionStage<Done> awaitPendingResponses() {
+        final CompletableFuture<?>[] responses = pendingResponses.toArray(CompletableFuture<?>[]::new);
+        if (responses.length > 0) {
+            LOGGER.info("Waiting for <{}> pending query commands to be answered.", responses.length);
+        }
+
+        return CompletableFuture.allOf(responses).thenApply(unused -> Done.done());
+    }
+
+    private HttpResponse renderResponse(final Command<?> command, final Object response) {
+        final HttpResponse result;
+        if (response instanceof HttpResponse httpResponse) {
+            result = httpResponse;
+        } else if (response instanceof CommandResponse<?> commandResponse &&
+                response instanceof WithEntity) {
+            result = responseRenderer.forCommandResponseWithEntity(commandResponse);
+        } else if (response instanceof CommandResponse<?> commandResponse &&
+                response instanceof WithOptionalEntity withOptionalEntity) {
+            result = responseRenderer.forOptionalEntity(commandResponse.getDittoHeaders(),
+                    commandResponse.getHttpStatus(),
+                    withOptionalEntity,
+                    httpResponse -> httpResponse);
+        } else if (response instanceof ErrorResponse<?> errorResponse) {
+            result = renderDittoRuntimeException(errorResponse.getDittoRuntimeException());
+        } else if (response instanceof JsonValueSourceRef jsonValueSourceRef) {
+            result = JsonValueSourceToHttpResponse.getInstance().apply(jsonValueSourceRef.getSource());
+        } else if (response instanceof JsonRuntimeException jsonRuntimeException) {
+            result = renderDittoRuntimeException(new DittoJsonException(jsonRuntimeException));
+        } else if (response instanceof DittoRuntimeException dittoRuntimeException) {
+            result = renderDittoRuntimeException(dittoRuntimeException);
+        } else {
+            LOGGER.withCorrelationId(command)
+                    .error("Got unknown message when a command response was expected: <{}>!", response);
+            result = HttpResponseRenderer.createHttpResponse(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+
+        return result;
+    }
+
+    private HttpResponse renderFailure(final Command<?> command, final Duration timeout, final Throwable error) {
+        final Throwable cause = unwrapCompletionException(error);
+        final HttpResponse result;
+        if (cause instanceof AskTimeoutException) {
+            LOGGER.withCorrelationId(command)
+                    .info("Got no response after <{}> before an appropriate response arrived.", timeout);
+            result = renderDittoRuntimeException(CommandTimeoutException.newBuilder(timeout)
+                    .dittoHeaders(command.getDittoHeaders().toBuilder().responseRequired(false).build())
+                    .build());
+        } else if (cause instanceof JsonRuntimeException jsonRuntimeException) {
+            result = renderDittoRuntimeException(new DittoJsonException(jsonRuntimeException));
+        } else if (cause instanceof DittoRuntimeException dittoRuntimeException) {
+            result = renderDittoRuntimeException(dittoRuntimeException);
+        } else {
+            LOGGER.withCorrelationId(command)
+                    .error("Got <{}> when a command response was expected: <{}>!",
+                            cause.getClass().getSimpleName(), cause.getMessage(), cause);
+            result = HttpResponseRenderer.createHttpResponse(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+
+        return result;
+    }
+
+    private HttpResponse renderDittoRuntimeException(final DittoRuntimeException exception) {
+        LOGGER.withCorrelationId(exception)
+                .info("DittoRuntimeException <{}>: <{}>.", exception.getErrorCode(), exception.getMessage());
+
+        return responseRenderer.forDittoRuntimeException(exception);
+    }
+
+    private static Throwable unwrapCompletionException(final Throwable error) {
+        if (error instanceof CompletionException && null != error.getCause()) {
+            return error.getCause();
+        }
+        return error;
+    }
+
+}
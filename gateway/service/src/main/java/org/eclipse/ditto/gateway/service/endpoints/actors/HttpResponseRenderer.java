@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.actors;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.common.HttpStatus;
+import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.headers.contenttype.ContentType;
+import org.eclipse.ditto.base.model.headers.translator.HeaderTranslator;
+import org.eclipse.ditto.base.model.signals.WithOptionalEntity;
+import org.eclipse.ditto.base.model.signals.commands.CommandResponse;
+import org.eclipse.ditto.base.model.signals.commands.WithEntity;
+import org.eclipse.ditto.internal.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.akka.logging.ThreadSafeDittoLogger;
+
+import akka.http.javadsl.model.ContentTypes;
+import akka.http.javadsl.model.HttpHeader;
+import akka.http.javadsl.model.HttpResponse;
+import akka.http.javadsl.model.StatusCodes;
+import akka.http.javadsl.model.headers.RawHeader;
+import akka.util.ByteString;
+
+/**
+ * Renders command responses and exceptions into HTTP responses. Used by the HTTP request actors as well as by the
+ * {@link ActorlessQueryCommandHandler}, so that both render identical responses.
+ */
+@Immutable
+final class HttpResponseRenderer {
+
+    private static final akka.http.javadsl.model.ContentType CONTENT_TYPE_JSON = ContentTypes.APPLICATION_JSON;
+
+    private static final ThreadSafeDittoLogger LOGGER =
+            DittoLoggerFactory.getThreadSafeLogger(HttpResponseRenderer.class);
+
+    private final HeaderTranslator headerTranslator;
+
+    private HttpResponseRenderer(final HeaderTranslator headerTranslator) {
+        this.headerTranslator = headerTranslator;
+    }
+
+    /**
+     * Returns an instance of {@code HttpResponseRenderer}.
+     *
+     * @param headerTranslator translates Ditto headers to external HTTP headers.
+     * @return the instance.
+     */
+    static HttpResponseRenderer of(final HeaderTranslator headerTranslator) {
+        return new HttpResponseRenderer(headerTranslator);
+    }
+
+    /**
+     * Creates an HTTP response without headers and entity.
+     *
+     * @param httpStatus the status of the response.
+     * @return the response.
+     */
+    static HttpResponse createHttpResponse(final HttpStatus httpStatus) {
+        final var statusCode = StatusCodes.lookup(httpStatus.getCode())
+                .orElse(StatusCodes.custom(httpStatus.getCode(), "custom", "custom"));
+
+        return HttpResponse.create().withStatus(statusCode);
+    }
+
+    /**
+     * Renders a {@code DittoRuntimeException} including its external headers.
+     *
+     * @param exception the exception.
+     * @return the response.
+     */
+    HttpResponse forDittoRuntimeException(final DittoRuntimeException exception) {
+        final HttpResponse responseWithoutHeaders;
+        final var httpStatus = exception.getHttpStatus();
+        if (HttpStatus.NOT_MODIFIED.equals(httpStatus)) {
+            responseWithoutHeaders = createHttpResponse(httpStatus);
+        } else {
+            responseWithoutHeaders = createHttpResponse(httpStatus)
+                    .withEntity(CONTENT_TYPE_JSON, ByteString.fromString(exception.toJsonString()));
+        }
+
+        return enhanceWithExternalDittoHeaders(responseWithoutHeaders, exception.getDittoHeaders());
+    }
+
+    /**
+     * Renders a command response implementing {@link WithEntity}.
+     *
+     * @param commandResponse the command response.
+     * @return the response.
+     */
+    HttpResponse forCommandResponseWithEntity(final CommandResponse<?> commandResponse) {
+        final var withEntity = (WithEntity<?>) commandResponse;
+
+        final var responseWithoutBody = enhanceWithExternalDittoHeaders(
+                createHttpResponse(commandResponse.getHttpStatus()), commandResponse.getDittoHeaders());
+
+        final var contentType = getContentType(commandResponse.getDittoHeaders());
+        return withEntity.getEntityPlainString()
+                .map(s -> addEntityAccordingToContentType(responseWithoutBody, s, contentType))
+                .orElseGet(() -> addEntityAccordingToContentType(responseWithoutBody,
+                        withEntity.getEntity(commandResponse.getImplementedSchemaVersion()).toString(),
+                        contentType));
+    }
+
+    /**
+     * Renders a response with an optional entity, e.g. a command response implementing {@link WithOptionalEntity}.
+     *
+     * @param dittoHeaders the headers of the response.
+     * @param httpStatus the status of the response.
+     * @param withOptionalEntity provides the optional entity.
+     * @param modifyResponse modifies the response after adding the external headers.
+     * @return the response.
+     */
+    HttpResponse forOptionalEntity(final DittoHeaders dittoHeaders,
+            final HttpStatus httpStatus,
+            final WithOptionalEntity withOptionalEntity,
+            final UnaryOperator<HttpResponse> modifyResponse) {
+
+        final var response =
+                modifyResponse.apply(enhanceWithExternalDittoHeaders(createHttpResponse(httpStatus), dittoHeaders));
+        if (StatusCodes.NO_CONTENT.equals(response.status())) {
+            return response;
+        }
+        final var schemaVersion = dittoHeaders.getSchemaVersion()
+                .orElse(dittoHeaders.getImplementedSchemaVersion());
+
+        return withOptionalEntity.getEntity(schemaVersion)
+                .map(entity -> addEntityAccordingToContentType(response, entity.toString(),
+                        getContentType(dittoHeaders)))
+                .orElse(response);
+    }
+
+    /**
+     * Adds the external representation of Ditto headers to an HTTP response. The content type is omitted as it is
+     * set by the entity of the response.
+     *
+     * @param response the response.
+     * @param allDittoHeaders the Ditto headers.
+     * @return the response with the external headers.
+     */
+    HttpResponse enhanceWithExternalDittoHeaders(final HttpResponse response, final DittoHeaders allDittoHeaders) {
+        final HttpResponse result;
+
+        final var externalHeaders = headerTranslator.toExternalAndRetainKnownHeaders(allDittoHeaders);
+        final var l = LOGGER.withCorrelationId(allDittoHeaders);
+        if (externalHeaders.isEmpty()) {
+            l.debug("No external headers for enhancing the response, returning it as-is.");
+            result = response;
+        } else {
+            l.debug("Enhancing response with external headers <{}>.", externalHeaders);
+
+            /*
+             * Content type is set by the entity.
+             * See response.entity().getContentType().
+             * If we set it here this will cause a WARN log.
+             */
+            final Predicate<Map.Entry<String, String>> isContentType = headerEntry -> {
+                final var headerName = headerEntry.getKey();
+                return headerName.equalsIgnoreCase(DittoHeaderDefinition.CONTENT_TYPE.getKey());
+            };
+            final List<HttpHeader> externalHttpHeaders = externalHeaders.entrySet().stream()
+                    .filter(Predicate.not(isContentType))
+                    .map(entry -> RawHeader.create(entry.getKey(), entry.getValue()))
+                    .collect(Collectors.toList());
+            result = response.withHeaders(externalHttpHeaders);
+        }
+
+        return result;
+    }
+
+    private static HttpResponse addEntityAccordingToContentType(final HttpResponse response, final String entityPlain,
+            final ContentType contentType) {
+        final ByteString byteString;
+
+        if (contentType.isBinary()) {
+            byteString = ByteString.fromArray(Base64.getDecoder().decode(entityPlain));
+        } else {
+            byteString = ByteString.fromString(entityPlain);
+        }
+
+        return response.withEntity(ContentTypes.parse(contentType.getValue()), byteString);
+    }
+
+    private static ContentType getContentType(final DittoHeaders dittoHeaders) {
+        return dittoHeaders.getDittoContentType().orElse(ContentType.APPLICATION_JSON);
+    }
+
+}
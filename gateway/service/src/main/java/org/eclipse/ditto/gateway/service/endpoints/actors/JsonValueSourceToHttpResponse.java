@@ -38,12 +38,12 @@ import akka.util.ByteString;
  * @see <a href="https://github.com/ndjson/ndjson-spec">NDJSON</a>
  */
 @Immutable
-final class JsonValueSourceToHttpResponse implements Function<Source<JsonValue, NotUsed>, HttpResponse> {
+public final class JsonValueSourceToHttpResponse implements Function<Source<JsonValue, NotUsed>, HttpResponse> {
 
     /**
      * The content type of the HttpResponse this function returns.
      */
-    static final ContentType CONTENT_TYPE_NDJSON = ContentTypes.parse("application/x-ndjson");
+    public static final ContentType CONTENT_TYPE_NDJSON = ContentTypes.parse("application/x-ndjson");
 
     private JsonValueSourceToHttpResponse() {
         super();
@@ -54,7 +54,7 @@ final class JsonValueSourceToHttpResponse implements Function<Source<JsonValue,
      *
      * @return the instance.
      */
-    static JsonValueSourceToHttpResponse getInstance() {
+    public static JsonValueSourceToHttpResponse getInstance() {
         return new JsonValueSourceToHttpResponse();
     }
 
@@ -20,6 +20,7 @@ import java.time.Duration;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
@@ -38,6 +39,8 @@ import org.eclipse.ditto.base.model.signals.commands.CommandNotSupportedExceptio
 import org.eclipse.ditto.base.service.config.ThrottlingConfig;
 import org.eclipse.ditto.gateway.api.GatewayTimeoutInvalidException;
 import org.eclipse.ditto.gateway.service.endpoints.actors.AbstractHttpRequestActor;
+import org.eclipse.ditto.gateway.service.endpoints.actors.ActorlessQueryCommandHandler;
+import org.eclipse.ditto.gateway.service.endpoints.actors.DefaultHttpRequestActorPropsFactory;
 import org.eclipse.ditto.gateway.service.endpoints.actors.HttpRequestActorPropsFactory;
 import org.eclipse.ditto.gateway.service.endpoints.directives.ContentTypeValidationDirective;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.CommandConfig;
@@ -94,6 +97,7 @@ public abstract class AbstractRoute extends AllDirectives {
     private final RouteBaseProperties routeBaseProperties;
 
     private final HttpRequestActorPropsFactory httpRequestActorPropsFactory;
+    @Nullable private final ActorlessQueryCommandHandler actorlessQueryCommandHandler;
     private final Attributes supervisionStrategy;
     private final Set<String> mediaTypeJsonWithFallbacks;
 
@@ -116,10 +120,35 @@ public abstract class AbstractRoute extends AllDirectives {
                 ScopedConfig.dittoExtension(routeBaseProperties.getActorSystem().settings().config());
         httpRequestActorPropsFactory =
                 HttpRequestActorPropsFactory.get(routeBaseProperties.getActorSystem(), dittoExtensionsConfig);
+        actorlessQueryCommandHandler = createActorlessQueryCommandHandler(routeBaseProperties,
+                httpRequestActorPropsFactory);
 
         supervisionStrategy = createSupervisionStrategy();
     }
 
+    /**
+     * Query commands are only handled without HTTP request actor if enabled and if the default HTTP request actor is
+     * used, as extensions may customize how responses are rendered.
+     */
+    @Nullable
+    private static ActorlessQueryCommandHandler createActorlessQueryCommandHandler(
+            final RouteBaseProperties routeBaseProperties,
+            final HttpRequestActorPropsFactory httpRequestActorPropsFactory) {
+
+        final ActorlessQueryCommandHandler result;
+        if (routeBaseProperties.getHttpConfig().isActorlessQueryCommandsEnabled() &&
+                httpRequestActorPropsFactory instanceof DefaultHttpRequestActorPropsFactory) {
+            result = ActorlessQueryCommandHandler.of(routeBaseProperties.getProxyActor(),
+                    routeBaseProperties.getHeaderTranslator(),
+                    routeBaseProperties.getCommandConfig(),
+                    routeBaseProperties.getActorSystem());
+        } else {
+            result = null;
+        }
+
+        return result;
+    }
+
     private static Attributes createSupervisionStrategy() {
         return ActorAttributes.withSupervisionStrategy(exc -> {
             if (exc instanceof DittoRuntimeException dre) {
@@ -211,7 +240,7 @@ public abstract class AbstractRoute extends AllDirectives {
 
         final CompletableFuture<HttpResponse> httpResponseFuture = new CompletableFuture<>();
 
-        runWithSupervisionStrategy(payloadSource
+        final Source<Object, ?> requestMessageSource = payloadSource
                 .fold(ByteString.emptyByteString(), ByteString::concat)
                 .map(ByteString::utf8String)
                 .map(x -> {
@@ -220,17 +249,31 @@ public abstract class AbstractRoute extends AllDirectives {
                         final Command<?> command = requestJsonToCommandFunction.apply(x);
                         final JsonSchemaVersion schemaVersion =
                                 dittoHeaders.getSchemaVersion().orElse(command.getImplementedSchemaVersion());
-                        return command.implementsSchemaVersion(schemaVersion) ? command
-                                : CommandNotSupportedException.newBuilder(schemaVersion.toInt())
-                                .dittoHeaders(dittoHeaders)
-                                .build();
+                        if (!command.implementsSchemaVersion(schemaVersion)) {
+                            return CommandNotSupportedException.newBuilder(schemaVersion.toInt())
+                                    .dittoHeaders(dittoHeaders)
+                                    .build();
+                        }
+                        return routeBaseProperties.getRateLimiter()
+                                .flatMap(rateLimiter -> rateLimiter.tryAcquire(command))
+                                .<Object>map(tooManyRequests -> tooManyRequests)
+                                .orElse(command);
                     } catch (final Exception e) {
                         return new Status.Failure(e);
                     }
-                })
-                .to(Sink.actorRef(createHttpPerRequestActor(ctx, httpResponseFuture),
-                        AbstractHttpRequestActor.COMPLETE_MESSAGE))
-        );
+                });
+
+        if (null != actorlessQueryCommandHandler) {
+            final CompletionStage<Object> requestMessageFuture =
+                    runWithSupervisionStrategy(requestMessageSource.toMat(Sink.head(), Keep.right()));
+            requestMessageFuture.whenComplete((requestMessage, error) ->
+                    handleRequestMessage(ctx, httpResponseFuture, actorlessQueryCommandHandler, requestMessage, error));
+        } else {
+            runWithSupervisionStrategy(requestMessageSource
+                    .to(Sink.actorRef(createHttpPerRequestActor(ctx, httpResponseFuture),
+                            AbstractHttpRequestActor.COMPLETE_MESSAGE))
+            );
+        }
 
         // optional step: transform the response entity:
         if (responseValueTransformFunction != null) {
@@ -266,6 +309,33 @@ public abstract class AbstractRoute extends AllDirectives {
         }
     }
 
+    /**
+     * Answers applicable query commands without HTTP request actor and hands everything else over to a newly created
+     * HTTP request actor, just like {@code Sink.actorRef} would.
+     */
+    private void handleRequestMessage(final RequestContext ctx,
+            final CompletableFuture<HttpResponse> httpResponseFuture,
+            final ActorlessQueryCommandHandler queryCommandHandler,
+            @Nullable final Object requestMessage,
+            @Nullable final Throwable error) {
+
+        if (null == error && requestMessage instanceof Command<?> command &&
+                ActorlessQueryCommandHandler.isApplicable(command)) {
+            queryCommandHandler.handle(command).thenAccept(httpResponseFuture::complete);
+        } else {
+            final var httpPerRequestActor = createHttpPerRequestActor(ctx, httpResponseFuture);
+            if (null != error) {
+                final var cause = error instanceof CompletionException && null != error.getCause()
+                        ? error.getCause()
+                        : error;
+                httpPerRequestActor.tell(new Status.Failure(cause), ActorRef.noSender());
+            } else {
+                httpPerRequestActor.tell(requestMessage, ActorRef.noSender());
+                httpPerRequestActor.tell(AbstractHttpRequestActor.COMPLETE_MESSAGE, ActorRef.noSender());
+            }
+        }
+    }
+
     /**
      * Processes the {@link HttpResponse} by consuming the CompletionStage and returning another (or the same)
      * CompletionStage. May be used to modify the HttpResponse before it is sent back to client.
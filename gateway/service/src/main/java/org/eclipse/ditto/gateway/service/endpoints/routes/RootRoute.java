@@ -39,6 +39,7 @@ import org.eclipse.ditto.gateway.service.endpoints.directives.RequestResultLoggi
 import org.eclipse.ditto.gateway.service.endpoints.directives.RequestTimeoutHandlingDirective;
 import org.eclipse.ditto.gateway.service.endpoints.directives.RequestTracingDirective;
 import org.eclipse.ditto.gateway.service.endpoints.directives.auth.GatewayAuthenticationDirective;
+import org.eclipse.ditto.gateway.service.endpoints.routes.batch.BatchRoute;
 import org.eclipse.ditto.gateway.service.endpoints.routes.cloudevents.CloudEventsRoute;
 import org.eclipse.ditto.gateway.service.endpoints.routes.connections.ConnectionsRoute;
 import org.eclipse.ditto.gateway.service.endpoints.routes.devops.DevOpsRoute;
@@ -96,6 +97,7 @@ public final class RootRoute extends AllDirectives {
     private final StatsRoute statsRoute;
     private final WhoamiRoute whoamiRoute;
     private final CloudEventsRoute cloudEventsRoute;
+    private final BatchRoute batchRoute;
 
     private final CustomApiRoutesProvider customApiRoutesProvider;
     private final RouteBaseProperties routeBaseProperties;
@@ -127,6 +129,7 @@ public final class RootRoute extends AllDirectives {
         statsRoute = builder.statsRoute;
         whoamiRoute = builder.whoamiRoute;
         cloudEventsRoute = builder.cloudEventsRoute;
+        batchRoute = builder.batchRoute;
         customApiRoutesProvider = builder.customApiRoutesProvider;
         routeBaseProperties = builder.routeBaseProperties;
         apiAuthenticationDirective = builder.httpAuthenticationDirective;
@@ -323,7 +326,9 @@ public final class RootRoute extends AllDirectives {
                 // /api/{apiVersion}/whoami
                 whoamiRoute.buildWhoamiRoute(ctx, dittoHeaders),
                 // /api/{apiVersion}/cloudevents
-                cloudEventsRoute.buildCloudEventsRoute(ctx, dittoHeaders)
+                cloudEventsRoute.buildCloudEventsRoute(ctx, dittoHeaders),
+                // /api/{apiVersion}/batch
+                batchRoute.buildBatchRoute(ctx, dittoHeaders)
         ).orElse(customApiSubRoutes);
     }
 
@@ -441,6 +446,7 @@ public final class RootRoute extends AllDirectives {
         private StatsRoute statsRoute;
         private WhoamiRoute whoamiRoute;
         private CloudEventsRoute cloudEventsRoute;
+        private BatchRoute batchRoute;
 
         private CustomApiRoutesProvider customApiRoutesProvider;
         private RouteBaseProperties routeBaseProperties;
@@ -537,6 +543,12 @@ public final class RootRoute extends AllDirectives {
             return this;
         }
 
+        @Override
+        public RootRouteBuilder batchRoute(final BatchRoute route) {
+            batchRoute = route;
+            return this;
+        }
+
         @Override
         public RootRouteBuilder customApiRoutesProvider(final CustomApiRoutesProvider provider,
                 final RouteBaseProperties routeBaseProperties) {
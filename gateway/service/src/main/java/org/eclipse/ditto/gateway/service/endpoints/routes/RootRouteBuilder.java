@@ -18,6 +18,7 @@ import org.eclipse.ditto.base.model.headers.translator.HeaderTranslator;
 import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
 import org.eclipse.ditto.edge.service.headers.DittoHeadersValidator;
 import org.eclipse.ditto.gateway.service.endpoints.directives.auth.GatewayAuthenticationDirective;
+import org.eclipse.ditto.gateway.service.endpoints.routes.batch.BatchRoute;
 import org.eclipse.ditto.gateway.service.endpoints.routes.cloudevents.CloudEventsRoute;
 import org.eclipse.ditto.gateway.service.endpoints.routes.connections.ConnectionsRoute;
 import org.eclipse.ditto.gateway.service.endpoints.routes.devops.DevOpsRoute;
@@ -148,6 +149,14 @@ public interface RootRouteBuilder {
      */
     RootRouteBuilder cloudEventsRoute(CloudEventsRoute route);
 
+    /**
+     * Sets the batch route.
+     *
+     * @param route the route to set.
+     * @return the Builder to allow method chaining.
+     */
+    RootRouteBuilder batchRoute(BatchRoute route);
+
     /**
      * Sets the http authentication directive.
      *
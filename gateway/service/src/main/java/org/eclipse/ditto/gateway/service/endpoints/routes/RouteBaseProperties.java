@@ -13,12 +13,14 @@
 package org.eclipse.ditto.gateway.service.endpoints.routes;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
 import org.eclipse.ditto.base.model.common.ConditionChecker;
 import org.eclipse.ditto.base.model.headers.translator.HeaderTranslator;
+import org.eclipse.ditto.gateway.service.endpoints.utils.ClusterRateLimiter;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.CommandConfig;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.HttpConfig;
 
@@ -36,6 +38,7 @@ public final class RouteBaseProperties {
     private final HttpConfig httpConfig;
     private final CommandConfig commandConfig;
     private final HeaderTranslator headerTranslator;
+    @Nullable private final ClusterRateLimiter rateLimiter;
 
     private RouteBaseProperties(final Builder builder) {
         proxyActor = ConditionChecker.checkNotNull(builder.proxyActor, "builder.proxyActor");
@@ -43,6 +46,7 @@ public final class RouteBaseProperties {
         httpConfig = ConditionChecker.checkNotNull(builder.httpConfig, "builder.httpConfig");
         commandConfig = ConditionChecker.checkNotNull(builder.commandConfig, "builder.commandConfig");
         headerTranslator = ConditionChecker.checkNotNull(builder.headerTranslator, "builder.headerTranslator");
+        rateLimiter = builder.rateLimiter;
     }
 
     /**
@@ -68,7 +72,8 @@ public final class RouteBaseProperties {
                 .actorSystem(routeBaseProperties.getActorSystem())
                 .httpConfig(routeBaseProperties.getHttpConfig())
                 .commandConfig(routeBaseProperties.getCommandConfig())
-                .headerTranslator(routeBaseProperties.getHeaderTranslator());
+                .headerTranslator(routeBaseProperties.getHeaderTranslator())
+                .rateLimiter(routeBaseProperties.getRateLimiter().orElse(null));
     }
 
     /**
@@ -116,6 +121,15 @@ public final class RouteBaseProperties {
         return headerTranslator;
     }
 
+    /**
+     * Returns the cluster-wide rate limiter if rate limiting is enabled.
+     *
+     * @return the rate limiter or an empty optional.
+     */
+    public Optional<ClusterRateLimiter> getRateLimiter() {
+        return Optional.ofNullable(rateLimiter);
+    }
+
     @Override
     public boolean equals(@Nullable final Object o) {
         if (this == o) {
@@ -129,7 +143,8 @@ public final class RouteBaseProperties {
                 Objects.equals(actorSystem, that.actorSystem) &&
                 Objects.equals(httpConfig, that.httpConfig) &&
                 Objects.equals(commandConfig, that.commandConfig) &&
-                Objects.equals(headerTranslator, that.headerTranslator);
+                Objects.equals(headerTranslator, that.headerTranslator) &&
+                Objects.equals(rateLimiter, that.rateLimiter);
     }
 
     @Override
@@ -138,7 +153,8 @@ public final class RouteBaseProperties {
                 actorSystem,
                 httpConfig,
                 commandConfig,
-                headerTranslator);
+                headerTranslator,
+                rateLimiter);
     }
 
     @NotThreadSafe
@@ -149,6 +165,7 @@ public final class RouteBaseProperties {
         private HttpConfig httpConfig;
         private CommandConfig commandConfig;
         private HeaderTranslator headerTranslator;
+        @Nullable private ClusterRateLimiter rateLimiter;
 
         private Builder() {
             proxyActor = null;
@@ -156,6 +173,7 @@ public final class RouteBaseProperties {
             httpConfig = null;
             commandConfig = null;
             headerTranslator = null;
+            rateLimiter = null;
         }
 
         /**
@@ -218,6 +236,17 @@ public final class RouteBaseProperties {
             return this;
         }
 
+        /**
+         * Sets the cluster-wide rate limiter. If not set, signals are not rate limited.
+         *
+         * @param rateLimiter the rate limiter or {@code null}.
+         * @return this builder to allow method chaining.
+         */
+        public Builder rateLimiter(@Nullable final ClusterRateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
         /**
          * Builds a {@code RouteBaseProperties} object with the properties set to this builder.
          *
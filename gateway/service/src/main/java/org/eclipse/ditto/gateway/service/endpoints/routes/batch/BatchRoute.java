@@ -0,0 +1,390 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.routes.batch;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.base.model.exceptions.DittoJsonException;
+import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.base.model.exceptions.TooManyRequestsException;
+import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.base.model.signals.UnsupportedSignalException;
+import org.eclipse.ditto.base.model.signals.commands.Command;
+import org.eclipse.ditto.base.model.signals.commands.CommandNotSupportedException;
+import org.eclipse.ditto.base.model.signals.commands.CommandResponse;
+import org.eclipse.ditto.base.model.signals.commands.exceptions.CommandTimeoutException;
+import org.eclipse.ditto.gateway.api.GatewayBatchTooLargeException;
+import org.eclipse.ditto.gateway.api.GatewayInternalErrorException;
+import org.eclipse.ditto.gateway.service.endpoints.actors.JsonValueSourceToHttpResponse;
+import org.eclipse.ditto.gateway.service.endpoints.routes.AbstractRoute;
+import org.eclipse.ditto.gateway.service.endpoints.routes.RouteBaseProperties;
+import org.eclipse.ditto.gateway.service.endpoints.utils.ClusterRateLimiter;
+import org.eclipse.ditto.gateway.service.util.config.endpoints.BatchConfig;
+import org.eclipse.ditto.gateway.service.util.config.endpoints.CommandConfig;
+import org.eclipse.ditto.internal.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.akka.logging.ThreadSafeDittoLogger;
+import org.eclipse.ditto.internal.utils.protocol.ProtocolAdapterProvider;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonRuntimeException;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.policies.model.PolicyException;
+import org.eclipse.ditto.policies.model.signals.commands.PolicyCommand;
+import org.eclipse.ditto.policies.model.signals.commands.PolicyErrorResponse;
+import org.eclipse.ditto.protocol.JsonifiableAdaptable;
+import org.eclipse.ditto.protocol.ProtocolFactory;
+import org.eclipse.ditto.protocol.adapter.ProtocolAdapter;
+import org.eclipse.ditto.things.model.signals.commands.ThingCommand;
+import org.eclipse.ditto.things.model.signals.commands.ThingErrorResponse;
+import org.eclipse.ditto.thingsearch.model.ThingSearchException;
+import org.eclipse.ditto.thingsearch.model.signals.commands.SearchErrorResponse;
+import org.eclipse.ditto.thingsearch.model.signals.commands.ThingSearchCommand;
+
+import akka.NotUsed;
+import akka.actor.ActorRef;
+import akka.http.javadsl.model.HttpHeader;
+import akka.http.javadsl.model.HttpResponse;
+import akka.http.javadsl.server.RequestContext;
+import akka.http.javadsl.server.Route;
+import akka.pattern.AskTimeoutException;
+import akka.pattern.Patterns;
+import akka.stream.javadsl.Keep;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.util.ByteString;
+
+/**
+ * Builder for creating Akka HTTP route for {@code /batch}.
+ * <p>
+ * The body of a batch request is either a JSON array of Ditto Protocol messages or newline delimited Ditto Protocol
+ * messages (NDJSON). The request is authenticated once, each message is converted to a command, the commands are
+ * dispatched to the proxy actor with bounded concurrency and the Ditto Protocol responses are streamed back as NDJSON
+ * in the order of the messages in the batch. Every response carries the correlation-id of its command; commands
+ * without correlation-id get the correlation-id of the batch request suffixed by their index in the batch.
+ * <p>
+ * Only twin commands, policy commands and search commands are supported. Requested acknowledgements are not
+ * aggregated for batch commands; commands which require no response are dispatched without producing a response
+ * line.
+ */
+public final class BatchRoute extends AbstractRoute {
+
+    /**
+     * Public endpoint of batch requests.
+     */
+    public static final String PATH_BATCH = "batch";
+
+    private static final ThreadSafeDittoLogger LOGGER = DittoLoggerFactory.getThreadSafeLogger(BatchRoute.class);
+
+    private static final String USER_AGENT = "user-agent";
+    private static final char JSON_ARRAY_START = '[';
+    private static final String LINE_DELIMITER = "\n";
+
+    private final ActorRef proxyActor;
+    private final CommandConfig commandConfig;
+    @Nullable private final ClusterRateLimiter rateLimiter;
+    private final BatchConfig batchConfig;
+    private final ProtocolAdapterProvider protocolAdapterProvider;
+
+    /**
+     * Constructs a {@code BatchRoute} object.
+     *
+     * @param routeBaseProperties the base properties of the route.
+     * @param batchConfig the configuration settings of batch requests.
+     * @param protocolAdapterProvider provides the protocol adapter converting the messages of a batch request.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public BatchRoute(final RouteBaseProperties routeBaseProperties,
+            final BatchConfig batchConfig,
+            final ProtocolAdapterProvider protocolAdapterProvider) {
+
+        super(routeBaseProperties);
+        proxyActor = routeBaseProperties.getProxyActor();
+        commandConfig = routeBaseProperties.getCommandConfig();
+        rateLimiter = routeBaseProperties.getRateLimiter().orElse(null);
+        this.batchConfig = checkNotNull(batchConfig, "batchConfig");
+        this.protocolAdapterProvider = checkNotNull(protocolAdapterProvider, "protocolAdapterProvider");
+    }
+
+    /**
+     * Builds the {@code /batch} route.
+     *
+     * @param ctx the request context.
+     * @param dittoHeaders the headers of the authenticated request.
+     * @return the {@code /batch} route.
+     */
+    public Route buildBatchRoute(final RequestContext ctx, final DittoHeaders dittoHeaders) {
+        return path(PATH_BATCH, () -> // /batch
+                post(() -> // POST
+                        extractDataBytes(payloadSource -> {
+                            final ProtocolAdapter protocolAdapter = getProtocolAdapter(ctx);
+                            final CompletionStage<List<String>> messagesFuture =
+                                    runWithSupervisionStrategy(payloadSource
+                                            .fold(ByteString.emptyByteString(), ByteString::concat)
+                                            .map(ByteString::utf8String)
+                                            .map(body -> splitIntoMessages(body, dittoHeaders))
+                                            .toMat(Sink.head(), Keep.right()));
+
+                            return completeWithFuture(messagesFuture.thenApply(messages ->
+                                    JsonValueSourceToHttpResponse.getInstance()
+                                            .apply(processMessages(messages, dittoHeaders, protocolAdapter))));
+                        })
+                )
+        );
+    }
+
+    /**
+     * Chooses the protocol adapter by the user agent of the request just like for WebSocket connections.
+     */
+    private ProtocolAdapter getProtocolAdapter(final RequestContext ctx) {
+        @Nullable final String userAgent = ctx.getRequest()
+                .getHeader(USER_AGENT)
+                .map(HttpHeader::value)
+                .orElse(null);
+
+        return protocolAdapterProvider.getProtocolAdapter(userAgent);
+    }
+
+    private List<String> splitIntoMessages(final String body, final DittoHeaders dittoHeaders) {
+        final String trimmedBody = body.trim();
+        final List<String> messages;
+        if (!trimmedBody.isEmpty() && JSON_ARRAY_START == trimmedBody.charAt(0)) {
+            try {
+                messages = JsonArray.of(trimmedBody).stream()
+                        .map(JsonValue::toString)
+                        .collect(Collectors.toList());
+            } catch (final JsonRuntimeException e) {
+                throw new DittoJsonException(e, dittoHeaders);
+            }
+        } else {
+            messages = Arrays.stream(trimmedBody.split(LINE_DELIMITER))
+                    .map(String::trim)
+                    .filter(line -> !line.isEmpty())
+                    .collect(Collectors.toList());
+        }
+
+        final int maxCommands = batchConfig.getMaxCommands();
+        if (messages.size() > maxCommands) {
+            throw GatewayBatchTooLargeException.newBuilder(maxCommands)
+                    .dittoHeaders(dittoHeaders)
+                    .build();
+        }
+        LOGGER.withCorrelationId(dittoHeaders).debug("Got batch request with <{}> messages.", messages.size());
+
+        return messages;
+    }
+
+    private Source<JsonValue, NotUsed> processMessages(final List<String> messages,
+            final DittoHeaders dittoHeaders,
+            final ProtocolAdapter protocolAdapter) {
+
+        final DittoHeaders batchHeaders = dittoHeaders.toBuilder()
+                .removeHeader(DittoHeaderDefinition.CONTENT_TYPE.getKey())
+                .build();
+        final String batchCorrelationId =
+                batchHeaders.getCorrelationId().orElseGet(() -> UUID.randomUUID().toString());
+
+        return Source.from(messages)
+                .zipWithIndex()
+                .map(messageWithIndex -> toCommandOrException(messageWithIndex.first(),
+                        getMessageHeaders(batchHeaders, batchCorrelationId, messageWithIndex.second()),
+                        protocolAdapter))
+                .mapAsync(batchConfig.getParallelism(), commandOrException ->
+                        dispatch(commandOrException, protocolAdapter))
+                .mapConcat(optionalResponse -> optionalResponse.map(List::of).orElseGet(List::of));
+    }
+
+    private static DittoHeaders getMessageHeaders(final DittoHeaders batchHeaders,
+            final String batchCorrelationId,
+            final long index) {
+
+        return batchHeaders.toBuilder()
+                .correlationId(batchCorrelationId + "-" + index)
+                .build();
+    }
+
+    /**
+     * Converts a Ditto Protocol message to a command. Just like for WebSocket messages, the headers of the message
+     * override the headers of the batch request except the authorization context which is always the one of the
+     * authenticated request. Just like for other HTTP requests, the schema version of the batch request has to be
+     * implemented by the command.
+     */
+    private Object toCommandOrException(final String message,
+            final DittoHeaders messageHeaders,
+            final ProtocolAdapter protocolAdapter) {
+
+        DittoHeaders errorHeaders = messageHeaders;
+        try {
+            final JsonifiableAdaptable adaptable = ProtocolFactory.jsonifiableAdaptableFromJson(JsonObject.of(message));
+            errorHeaders = adaptable.getDittoHeaders().getCorrelationId()
+                    .map(correlationId -> messageHeaders.toBuilder().correlationId(correlationId).build())
+                    .orElse(messageHeaders);
+
+            final Signal<?> signal = protocolAdapter.fromAdaptable(adaptable);
+            final DittoHeaders signalHeaders = messageHeaders.toBuilder()
+                    .putHeaders(signal.getDittoHeaders())
+                    .authorizationContext(messageHeaders.getAuthorizationContext())
+                    .acknowledgementRequests(List.of())
+                    .build();
+            errorHeaders = signalHeaders;
+
+            if (!(signal instanceof Command<?> command) || !isSupported(command)) {
+                return UnsupportedSignalException.newBuilder(signal.getType())
+                        .dittoHeaders(signalHeaders)
+                        .build();
+            }
+            final JsonSchemaVersion schemaVersion =
+                    messageHeaders.getSchemaVersion().orElse(command.getImplementedSchemaVersion());
+            if (!command.implementsSchemaVersion(schemaVersion)) {
+                return CommandNotSupportedException.newBuilder(schemaVersion.toInt())
+                        .dittoHeaders(signalHeaders)
+                        .build();
+            }
+            final Duration timeout = validateCommandTimeout(
+                    signalHeaders.getTimeout().orElseGet(commandConfig::getDefaultTimeout));
+
+            return command.setDittoHeaders(signalHeaders.toBuilder().timeout(timeout).build());
+        } catch (final JsonRuntimeException e) {
+            return new DittoJsonException(e, errorHeaders);
+        } catch (final RuntimeException e) {
+            return toDittoRuntimeException(e, errorHeaders);
+        }
+    }
+
+    private static boolean isSupported(final Command<?> command) {
+        return (command instanceof ThingCommand || command instanceof PolicyCommand ||
+                command instanceof ThingSearchCommand) &&
+                !Signal.isChannelLive(command) &&
+                !Signal.isChannelSmart(command);
+    }
+
+    private CompletionStage<Optional<JsonValue>> dispatch(final Object commandOrException,
+            final ProtocolAdapter protocolAdapter) {
+
+        if (commandOrException instanceof Command<?> command) {
+            final Optional<TooManyRequestsException> tooManyRequests =
+                    Optional.ofNullable(rateLimiter).flatMap(limiter -> limiter.tryAcquire(command));
+            if (tooManyRequests.isPresent()) {
+                return CompletableFuture.completedFuture(
+                        Optional.of(toJson(tooManyRequests.get(), protocolAdapter)));
+            }
+
+            final DittoHeaders dittoHeaders = command.getDittoHeaders();
+            final Duration timeout = dittoHeaders.getTimeout().orElseGet(commandConfig::getDefaultTimeout);
+            if (!dittoHeaders.isResponseRequired() || timeout.isZero()) {
+                proxyActor.tell(command, ActorRef.noSender());
+                return CompletableFuture.completedFuture(Optional.empty());
+            }
+
+            return Patterns.ask(proxyActor, command, timeout)
+                    .handle((response, error) -> Optional.of(null != error
+                            ? renderFailure(command, timeout, error, protocolAdapter)
+                            : renderResponse(command, response, protocolAdapter)));
+        } else {
+            final var dittoRuntimeException = (DittoRuntimeException) commandOrException;
+            return CompletableFuture.completedFuture(Optional.of(toJson(dittoRuntimeException, protocolAdapter)));
+        }
+    }
+
+    private static JsonValue renderResponse(final Command<?> command,
+            final Object response,
+            final ProtocolAdapter protocolAdapter) {
+
+        try {
+            if (response instanceof CommandResponse<?> commandResponse) {
+                return ProtocolFactory.wrapAsJsonifiableAdaptable(protocolAdapter.toAdaptable(commandResponse))
+                        .toJson();
+            } else if (response instanceof DittoRuntimeException dittoRuntimeException) {
+                return toJson(dittoRuntimeException, protocolAdapter);
+            } else {
+                LOGGER.withCorrelationId(command)
+                        .error("Got unknown message when a command response was expected: <{}>!", response);
+                return toJson(GatewayInternalErrorException.newBuilder()
+                        .dittoHeaders(command.getDittoHeaders())
+                        .build(), protocolAdapter);
+            }
+        } catch (final RuntimeException e) {
+            return toJson(toDittoRuntimeException(e, command.getDittoHeaders()), protocolAdapter);
+        }
+    }
+
+    private static JsonValue renderFailure(final Command<?> command,
+            final Duration timeout,
+            final Throwable error,
+            final ProtocolAdapter protocolAdapter) {
+
+        final Throwable cause = error instanceof CompletionException && null != error.getCause()
+                ? error.getCause()
+                : error;
+        final DittoRuntimeException dittoRuntimeException;
+        if (cause instanceof AskTimeoutException) {
+            dittoRuntimeException = CommandTimeoutException.newBuilder(timeout)
+                    .dittoHeaders(command.getDittoHeaders())
+                    .build();
+        } else {
+            dittoRuntimeException = toDittoRuntimeException(cause, command.getDittoHeaders());
+        }
+
+        return toJson(dittoRuntimeException, protocolAdapter);
+    }
+
+    private static DittoRuntimeException toDittoRuntimeException(final Throwable throwable,
+            final DittoHeaders dittoHeaders) {
+
+        final DittoRuntimeException dittoRuntimeException =
+                DittoRuntimeException.asDittoRuntimeException(throwable, cause -> {
+                    LOGGER.withCorrelationId(dittoHeaders)
+                            .error("Got <{}> while processing a batch command: <{}>!",
+                                    cause.getClass().getSimpleName(), cause.getMessage(), cause);
+                    return GatewayInternalErrorException.newBuilder()
+                            .dittoHeaders(dittoHeaders)
+                            .cause(cause)
+                            .build();
+                });
+        if (dittoRuntimeException.getDittoHeaders().getCorrelationId().isEmpty()) {
+            return dittoRuntimeException.setDittoHeaders(dittoHeaders);
+        }
+
+        return dittoRuntimeException;
+    }
+
+    private static JsonValue toJson(final DittoRuntimeException dittoRuntimeException,
+            final ProtocolAdapter protocolAdapter) {
+
+        final Signal<?> errorResponse;
+        if (dittoRuntimeException instanceof PolicyException) {
+            errorResponse = PolicyErrorResponse.of(dittoRuntimeException);
+        } else if (dittoRuntimeException instanceof ThingSearchException) {
+            errorResponse = SearchErrorResponse.of(dittoRuntimeException, dittoRuntimeException.getDittoHeaders());
+        } else {
+            errorResponse = ThingErrorResponse.of(dittoRuntimeException);
+        }
+
+        return ProtocolFactory.wrapAsJsonifiableAdaptable(protocolAdapter.toAdaptable(errorResponse)).toJson();
+    }
+
+}
@@ -18,6 +18,7 @@ import java.util.function.Supplier;
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.gateway.service.endpoints.utils.ClusterRateLimiter;
 import org.eclipse.ditto.gateway.service.endpoints.utils.GatewaySignalEnrichmentProvider;
 import org.eclipse.ditto.gateway.service.streaming.StreamingAuthorizationEnforcer;
 
@@ -77,6 +78,15 @@ public interface SseRouteBuilder {
      */
     SseRouteBuilder withProxyActor(@Nullable ActorRef proxyActor);
 
+    /**
+     * Set the cluster-wide rate limiter which admits the opening of SSE connections.
+     * If not set or set to null, SSE connections are not rate limited.
+     *
+     * @param rateLimiter the rate limiter.
+     * @return this builder.
+     */
+    SseRouteBuilder withRateLimiter(@Nullable ClusterRateLimiter rateLimiter);
+
     /**
      * Creates the Akka HTTP route for SSE.
      *
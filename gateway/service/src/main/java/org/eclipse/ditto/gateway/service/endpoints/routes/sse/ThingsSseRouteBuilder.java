@@ -45,8 +45,10 @@ import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
 import org.eclipse.ditto.base.service.UriEncoding;
 import org.eclipse.ditto.gateway.service.endpoints.routes.AbstractRoute;
 import org.eclipse.ditto.gateway.service.endpoints.routes.things.ThingsParameter;
+import org.eclipse.ditto.gateway.service.endpoints.utils.ClusterRateLimiter;
 import org.eclipse.ditto.gateway.service.endpoints.utils.GatewaySignalEnrichmentProvider;
 import org.eclipse.ditto.gateway.service.streaming.StreamingAuthorizationEnforcer;
+import org.eclipse.ditto.gateway.service.streaming.actors.OutboundEncodingCache;
 import org.eclipse.ditto.gateway.service.streaming.actors.SessionedJsonifiable;
 import org.eclipse.ditto.gateway.service.streaming.actors.StreamingSession;
 import org.eclipse.ditto.gateway.service.streaming.actors.SupervisedStream;
@@ -126,6 +128,7 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
 
     private static final Counter THINGS_SSE_COUNTER = getCounterFor(PATH_THINGS);
     private static final Counter SEARCH_SSE_COUNTER = getCounterFor(PATH_SEARCH);
+    private static final OutboundEncodingCache ENCODING_CACHE = OutboundEncodingCache.getInstance();
 
     /**
      * Timeout asking the local streaming actor.
@@ -141,6 +144,7 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
     private StreamingAuthorizationEnforcer sseAuthorizationEnforcer;
     @Nullable private GatewaySignalEnrichmentProvider signalEnrichmentProvider;
     @Nullable private ActorRef proxyActor;
+    @Nullable private ClusterRateLimiter rateLimiter;
 
     private ThingsSseRouteBuilder(final ActorSystem actorSystem,
             final ActorRef streamingActor,
@@ -216,6 +220,12 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
         return this;
     }
 
+    @Override
+    public SseRouteBuilder withRateLimiter(@Nullable final ClusterRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+        return this;
+    }
+
     /**
      * Describes {@code /things} SSE route.
      *
@@ -327,6 +337,8 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
 
         final var sseSourceStage = facadeStage.thenCompose(facade -> dittoHeadersStage.thenCompose(
                 dittoHeaders -> sseAuthorizationEnforcer.checkAuthorization(ctx, dittoHeaders).thenApply(unused -> {
+                    acquireOrThrow(targetThingIds.size() == 1 ? targetThingIds.get(0).getNamespace() : null,
+                            dittoHeaders);
                     if (filterString != null) {
                         // will throw an InvalidRqlExpressionException if the RQL expression was not valid:
                         queryFilterCriteriaFactory.filterCriteria(filterString, dittoHeaders);
@@ -399,6 +411,7 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
         final var sseSourceStage = facadeStage.thenCompose(facade -> dittoHeadersStage.thenCompose(
                 dittoHeaders ->
                         sseAuthorizationEnforcer.checkAuthorization(ctx, dittoHeaders).thenApply(unused -> {
+                            acquireOrThrow(targetThingIds.get(0).getNamespace(), dittoHeaders);
 
                             final Source<SessionedJsonifiable, SupervisedStream.WithQueue> publisherSource =
                                     SupervisedStream.sourceQueue(10);
@@ -475,6 +488,15 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
         return completeOKWithFuture(sseSourceStage, EventStreamMarshalling.toEventStream());
     }
 
+    private void acquireOrThrow(@Nullable final String namespace, final DittoHeaders dittoHeaders) {
+        if (rateLimiter != null) {
+            rateLimiter.tryAcquire(namespace, dittoHeaders.getAuthorizationContext(), dittoHeaders)
+                    .ifPresent(tooManyRequests -> {
+                        throw tooManyRequests;
+                    });
+        }
+    }
+
     private static Optional<Charset> determineCharsetFromContentType(final Optional<String> fullContentTypeString) {
         // determine charset, if one was set in the form of:
         // application/json; charset=utf-8
@@ -497,6 +519,7 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
         final CompletionStage<Source<ServerSentEvent, NotUsed>> sseSourceStage =
                 dittoHeadersStage.thenApply(dittoHeaders -> {
                     sseAuthorizationEnforcer.checkAuthorization(ctx, dittoHeaders);
+                    acquireOrThrow(null, dittoHeaders);
 
                     final var searchSourceBuilder = SearchSource.newBuilder()
                             .pubSubMediator(pubSubMediator)
@@ -553,8 +576,9 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
                     targetThingIdMatches(event, targetThingIds)) {
                 return jsonifiable.getSession()
                         .map(session -> jsonifiable.retrieveExtraFields(facade)
-                                .thenApply(extra ->
-                                        Optional.of(session.mergeThingWithExtra(event, extra))
+                                .thenApply(extra -> extra.isEmpty()
+                                        ? toSharedNonemptyValue(session, event, fieldPointer, fields)
+                                        : Optional.of(session.mergeThingWithExtra(event, extra))
                                                 .filter(thing -> session.matchesFilter(thing, event))
                                                 .map(thing -> toNonemptyValue(thing, event, fieldPointer, fields))
                                                 .orElseGet(Collections::emptyList)
@@ -631,12 +655,33 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
         return targetThingIds.isEmpty() || targetThingIds.contains(event.getEntityId());
     }
 
+    /**
+     * Converts an event without extra fields to the thing JSON to send, sharing the thing and its JSON with all other
+     * SSE sessions which receive the same event instance with the same field selection. The string representation of
+     * the shared JSON is computed only once as well, since JSON objects memoize it.
+     */
+    private static Collection<JsonValue> toSharedNonemptyValue(final StreamingSession session,
+            final ThingEvent<?> event,
+            final JsonPointer fieldPointer,
+            @Nullable final JsonFieldSelector fields) {
+
+        final var jsonSchemaVersion = getJsonSchemaVersion(event);
+        final Thing thing = ENCODING_CACHE.getOrEncode(event,
+                OutboundEncodingCache.key("sse-thing", null, jsonSchemaVersion, null),
+                () -> session.mergeThingWithExtra(event, JsonObject.empty()));
+        if (session.matchesFilter(thing, event)) {
+            return ENCODING_CACHE.getOrEncode(event,
+                    OutboundEncodingCache.key("sse-json", null, jsonSchemaVersion,
+                            Arrays.asList(fieldPointer, fields)),
+                    () -> toNonemptyValue(thing, event, fieldPointer, fields));
+        }
+        return Collections.emptyList();
+    }
+
     private static Collection<JsonValue> toNonemptyValue(final Thing thing, final ThingEvent<?> event,
             final JsonPointer fieldPointer,
             @Nullable final JsonFieldSelector fields) {
-        final var jsonSchemaVersion = event.getDittoHeaders()
-                .getSchemaVersion()
-                .orElse(event.getImplementedSchemaVersion());
+        final var jsonSchemaVersion = getJsonSchemaVersion(event);
         final JsonObject thingJson = null != fields
                 ? thing.toJson(jsonSchemaVersion, fields)
                 : thing.toJson(jsonSchemaVersion);
@@ -650,6 +695,12 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
                 Collections.singletonList(returnValue);
     }
 
+    private static JsonSchemaVersion getJsonSchemaVersion(final ThingEvent<?> event) {
+        return event.getDittoHeaders()
+                .getSchemaVersion()
+                .orElse(event.getImplementedSchemaVersion());
+    }
+
     private static List<String> getNamespaces(@Nullable final String namespacesParameter) {
         if (null != namespacesParameter) {
             return Arrays.asList(namespacesParameter.split(","));
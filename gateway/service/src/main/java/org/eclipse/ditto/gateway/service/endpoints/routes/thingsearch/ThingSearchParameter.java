@@ -35,7 +35,17 @@ public enum ThingSearchParameter {
     /**
      * Request parameter for namespaces to apply.
      */
-    NAMESPACES("namespaces");
+    NAMESPACES("namespaces"),
+
+    /**
+     * Request parameter for the fields to group things by in an aggregation.
+     */
+    GROUP_BY("groupBy"),
+
+    /**
+     * Request parameter for the aggregations (count, sum, min, max, avg) to compute for each group.
+     */
+    AGGREGATIONS("aggregations");
 
     private final String parameterValue;
 
@@ -13,6 +13,7 @@
 package org.eclipse.ditto.gateway.service.endpoints.routes.thingsearch;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Optional;
@@ -23,6 +24,7 @@ import java.util.stream.Collectors;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.gateway.service.endpoints.routes.AbstractRoute;
 import org.eclipse.ditto.gateway.service.endpoints.routes.RouteBaseProperties;
+import org.eclipse.ditto.thingsearch.model.signals.commands.query.AggregateThings;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.CountThings;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.QueryThings;
 
@@ -40,6 +42,7 @@ public final class ThingSearchRoute extends AbstractRoute {
     public static final String PATH_THINGS = "things";
 
     private static final String PATH_COUNT = "count";
+    private static final String PATH_AGGREGATE = "aggregate";
 
     /**
      * Constructs a {@code ThingSearchRoute} object.
@@ -63,6 +66,8 @@ public final class ThingSearchRoute extends AbstractRoute {
                                 concat(
                                         // /search/things/count
                                         path(PATH_COUNT, () -> countThings(ctx, dittoHeaders)),
+                                        // /search/things/aggregate
+                                        path(PATH_AGGREGATE, () -> aggregateThings(ctx, dittoHeaders)),
                                         // /search/things
                                         pathEndOrSingleSlash(() -> searchThings(ctx, dittoHeaders))
                                 )
@@ -83,6 +88,24 @@ public final class ThingSearchRoute extends AbstractRoute {
                         dittoHeaders))));
     }
 
+    /*
+     * Describes {@code /search/things/aggregate} route.
+     *
+     * @return {@code /search/things/aggregate} route.
+     */
+    private Route aggregateThings(final RequestContext ctx, final DittoHeaders dittoHeaders) {
+        // GET things/aggregate?filter=<filterString>
+        //                     &namespaces=<namespacesString>
+        //                     &groupBy=<groupByString>
+        //                     &aggregations=<aggregationsString>
+        return get(() -> thingSearchParameterOptional(params -> handlePerRequest(ctx,
+                AggregateThings.of(calculateFilter(params.get(ThingSearchParameter.FILTER)),
+                        calculateNamespaces(params.get(ThingSearchParameter.NAMESPACES)),
+                        calculateList(params.get(ThingSearchParameter.GROUP_BY)),
+                        calculateList(params.get(ThingSearchParameter.AGGREGATIONS)),
+                        dittoHeaders))));
+    }
+
     /*
      * Describes {@code /search/things} route.
      *
@@ -140,6 +163,16 @@ public final class ThingSearchRoute extends AbstractRoute {
         return namespacesString.map(splitAndRemoveEmpty).orElse(null);
     }
 
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+    private static List<String> calculateList(final Optional<String> listString) {
+        return listString
+                .map(s -> Arrays.stream(s.split(","))
+                        .map(String::trim)
+                        .filter(segment -> !segment.isEmpty())
+                        .toList())
+                .orElseGet(Collections::emptyList);
+    }
+
     @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
     public static List<String> calculateOptions(final Optional<String> optionsString) {
         return optionsString
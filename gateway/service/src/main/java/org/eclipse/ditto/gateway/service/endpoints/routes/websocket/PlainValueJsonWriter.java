@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.routes.websocket;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.protocol.Adaptable;
+import org.eclipse.ditto.protocol.Payload;
+import org.eclipse.ditto.protocol.ProtocolFactory;
+
+/**
+ * Writes Ditto Protocol messages whose value is already serialized, e.g. the plain JSON string of a Thing retrieved
+ * from the things service, without parsing the value into a JSON tree only to serialize it again.
+ */
+final class PlainValueJsonWriter {
+
+    private static final String VALUE_FIELD_NAME = Payload.JsonFields.VALUE.getPointer().toString().substring(1);
+    private static final String VALUE_FIELD_PREFIX = "," + JsonValue.of(VALUE_FIELD_NAME) + ":";
+
+    private PlainValueJsonWriter() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Serializes the adaptable without its value and appends the serialized value as last field.
+     *
+     * @param adaptable the adaptable of the message. Its value, if any, is replaced by {@code plainValue}.
+     * @param extra extra fields from signal enrichment to set in the message.
+     * @param plainValue the serialized JSON value of the message.
+     * @return the Ditto Protocol message as JSON string.
+     */
+    static String toJsonString(final Adaptable adaptable, final JsonObject extra, final String plainValue) {
+        final Adaptable enrichedAdaptable = extra.isEmpty() ? adaptable : ProtocolFactory.setExtra(adaptable, extra);
+        final String envelope = ProtocolFactory.wrapAsJsonifiableAdaptable(enrichedAdaptable)
+                .toJson()
+                .remove(VALUE_FIELD_NAME)
+                .toString();
+
+        // the envelope always contains the topic, hence the value can be appended as additional last field
+        return new StringBuilder(envelope.length() + VALUE_FIELD_PREFIX.length() + plainValue.length())
+                .append(envelope, 0, envelope.length() - 1)
+                .append(VALUE_FIELD_PREFIX)
+                .append(plainValue)
+                .append('}')
+                .toString();
+    }
+
+}
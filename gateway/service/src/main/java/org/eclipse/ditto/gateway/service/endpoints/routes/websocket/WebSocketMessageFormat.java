@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.routes.websocket;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.gateway.api.GatewayInternalErrorException;
+import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonRuntimeException;
+import org.eclipse.ditto.json.cbor.JacksonCborFactory;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import akka.NotUsed;
+import akka.http.javadsl.model.ws.BinaryMessage;
+import akka.http.javadsl.model.ws.Message;
+import akka.http.javadsl.model.ws.TextMessage;
+import akka.stream.javadsl.Source;
+import akka.util.ByteString;
+
+/**
+ * Format of the Ditto Protocol messages exchanged via a WebSocket, negotiated by the WebSocket subprotocol.
+ * <p>
+ * Stream control messages like {@code START-SEND-EVENTS} and their acknowledgements are always exchanged as text
+ * frames.
+ * <p>
+ * Outgoing Ditto Protocol messages are serialized by {@link #serialize(JsonObject)} before they pass the outgoing
+ * event sniffer as text. The CBOR format encodes the message from its JSON tree at that point and remembers the
+ * encoded message for the very text instance it returns, so that {@link #toMessage(String)} does not have to parse the
+ * text again.
+ */
+enum WebSocketMessageFormat {
+
+    /**
+     * Ditto Protocol messages as JSON in text frames. The default if the client requests no known subprotocol.
+     */
+    JSON {
+        @Override
+        Optional<String> getSubprotocol() {
+            return Optional.empty();
+        }
+
+        @Override
+        boolean isSupported(final Message message) {
+            return message.isText();
+        }
+
+        @Override
+        Source<String, NotUsed> toText(final Message message) {
+            return foldText(message.asTextMessage());
+        }
+
+        @Override
+        String serialize(final JsonObject protocolMessage) {
+            return protocolMessage.toString();
+        }
+
+        @Override
+        String serialize(final String protocolMessage) {
+            return protocolMessage;
+        }
+
+        @Override
+        Message toMessage(final String text) {
+            return TextMessage.create(text);
+        }
+    },
+
+    /**
+     * Ditto Protocol messages as CBOR in binary frames.
+     */
+    CBOR {
+        @Override
+        Optional<String> getSubprotocol() {
+            return Optional.of(CBOR_SUBPROTOCOL);
+        }
+
+        @Override
+        boolean isSupported(final Message message) {
+            return true;
+        }
+
+        @Override
+        Source<String, NotUsed> toText(final Message message) {
+            if (message.isText()) {
+                return foldText(message.asTextMessage());
+            }
+            final BinaryMessage binaryMessage = message.asBinaryMessage();
+            final Source<ByteString, NotUsed> bytes = binaryMessage.isStrict()
+                    ? Source.single(binaryMessage.getStrictData())
+                    : binaryMessage.getStreamedData().fold(ByteString.emptyByteString(), ByteString::concat)
+                    .mapMaterializedValue(any -> NotUsed.getInstance());
+            return bytes.map(byteString -> CBOR_FACTORY.readFrom(byteString.toArrayUnsafe()).toString());
+        }
+
+        @Override
+        String serialize(final JsonObject protocolMessage) {
+            final String text = protocolMessage.toString();
+            // texts shared by several sessions are the same instance, hence they are encoded only once
+            CBOR_MESSAGES.put(text, toCborMessage(protocolMessage));
+            return text;
+        }
+
+        @Override
+        String serialize(final String protocolMessage) {
+            final JsonObject jsonObject;
+            try {
+                jsonObject = JsonObject.of(protocolMessage);
+            } catch (final JsonRuntimeException e) {
+                throw cborEncodingFailed(e);
+            }
+            return serialize(jsonObject);
+        }
+
+        @Override
+        Message toMessage(final String text) {
+            @Nullable final Message cborMessage = CBOR_MESSAGES.getIfPresent(text);
+            return cborMessage != null ? cborMessage : TextMessage.create(text);
+        }
+    };
+
+    /**
+     * The WebSocket subprotocol a client requests in order to exchange Ditto Protocol messages as CBOR.
+     */
+    static final String CBOR_SUBPROTOCOL = "ditto-cbor";
+
+    private static final CborFactory CBOR_FACTORY = new JacksonCborFactory();
+
+    // weak keys are compared by identity and keep the encoded message as long as its text is on its way to the socket
+    private static final Cache<String, Message> CBOR_MESSAGES = Caffeine.newBuilder()
+            .weakKeys()
+            .build();
+
+    /**
+     * Chooses the format by the subprotocols the client requested in the WebSocket handshake.
+     *
+     * @param requestedProtocols the requested subprotocols.
+     * @return the format.
+     */
+    static WebSocketMessageFormat negotiate(final Iterable<String> requestedProtocols) {
+        for (final String requestedProtocol : requestedProtocols) {
+            if (CBOR_SUBPROTOCOL.equalsIgnoreCase(requestedProtocol.trim())) {
+                return CBOR;
+            }
+        }
+        return JSON;
+    }
+
+    /**
+     * Returns the subprotocol to confirm in the WebSocket handshake.
+     *
+     * @return the subprotocol or an empty optional if no subprotocol is to be confirmed.
+     */
+    abstract Optional<String> getSubprotocol();
+
+    /**
+     * Indicates whether an incoming message can be read in this format. Unsupported messages are dropped.
+     *
+     * @param message the incoming message.
+     * @return whether the message is supported.
+     */
+    abstract boolean isSupported(Message message);
+
+    /**
+     * Reads a supported incoming message as Ditto Protocol JSON or stream control message.
+     *
+     * @param message the message.
+     * @return source of the text of the message; fails with a {@code JsonParseException} if a binary message is
+     * no valid CBOR.
+     */
+    abstract Source<String, NotUsed> toText(Message message);
+
+    /**
+     * Serializes an outgoing Ditto Protocol message to the text passed to {@link #toMessage(String)}.
+     *
+     * @param protocolMessage the Ditto Protocol message.
+     * @return the message as JSON string.
+     * @throws GatewayInternalErrorException if the message cannot be encoded in this format.
+     */
+    abstract String serialize(JsonObject protocolMessage);
+
+    /**
+     * Serializes an outgoing Ditto Protocol message which is only available as JSON string, e.g. because its value
+     * was spliced in as plain string. The CBOR format has to parse such messages.
+     *
+     * @param protocolMessage the Ditto Protocol message as JSON string.
+     * @return the message as JSON string.
+     * @throws GatewayInternalErrorException if the message cannot be encoded in this format.
+     */
+    abstract String serialize(String protocolMessage);
+
+    /**
+     * Creates the outgoing message for a serialized Ditto Protocol message or a stream control message.
+     * Texts which were not returned by {@link #serialize(JsonObject)} of this format are sent as text frames.
+     *
+     * @param text the text to send.
+     * @return the message.
+     */
+    abstract Message toMessage(String text);
+
+    private static Message toCborMessage(final JsonObject protocolMessage) {
+        try {
+            return BinaryMessage.create(ByteString.fromArrayUnsafe(CBOR_FACTORY.toByteArray(protocolMessage)));
+        } catch (final IOException e) {
+            throw cborEncodingFailed(e);
+        }
+    }
+
+    private static GatewayInternalErrorException cborEncodingFailed(final Exception cause) {
+        return GatewayInternalErrorException.newBuilder()
+                .message("Failed to encode the message as CBOR: " + cause.getMessage())
+                .cause(cause)
+                .build();
+    }
+
+    private static Source<String, NotUsed> foldText(final TextMessage textMessage) {
+        if (textMessage.isStrict()) {
+            return Source.single(textMessage.getStrictText());
+        } else {
+            return textMessage.getStreamedText()
+                    .fold("", (str1, str2) -> str1 + str2)
+                    .mapMaterializedValue(any -> NotUsed.getInstance());
+        }
+    }
+
+}
@@ -48,14 +48,17 @@ import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
 import org.eclipse.ditto.base.model.json.Jsonifiable;
 import org.eclipse.ditto.base.model.signals.Signal;
 import org.eclipse.ditto.base.model.signals.acks.Acknowledgement;
+import org.eclipse.ditto.base.model.signals.commands.WithEntity;
 import org.eclipse.ditto.gateway.api.GatewayInternalErrorException;
 import org.eclipse.ditto.gateway.api.GatewayWebsocketSessionAbortedException;
 import org.eclipse.ditto.gateway.api.GatewayWebsocketSessionClosedException;
 import org.eclipse.ditto.gateway.api.GatewayWebsocketSessionExpiredException;
 import org.eclipse.ditto.gateway.service.endpoints.routes.AbstractRoute;
+import org.eclipse.ditto.gateway.service.endpoints.utils.ClusterRateLimiter;
 import org.eclipse.ditto.gateway.service.endpoints.utils.GatewaySignalEnrichmentProvider;
 import org.eclipse.ditto.gateway.service.security.HttpHeader;
 import org.eclipse.ditto.gateway.service.streaming.StreamingAuthorizationEnforcer;
+import org.eclipse.ditto.gateway.service.streaming.actors.OutboundEncodingCache;
 import org.eclipse.ditto.gateway.service.streaming.actors.SessionedJsonifiable;
 import org.eclipse.ditto.gateway.service.streaming.actors.StreamingActor;
 import org.eclipse.ditto.gateway.service.streaming.actors.SupervisedStream;
@@ -82,6 +85,7 @@ import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonRuntimeException;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.jwt.model.ImmutableJsonWebToken;
 import org.eclipse.ditto.jwt.model.JsonWebToken;
@@ -94,6 +98,8 @@ import org.eclipse.ditto.protocol.adapter.ProtocolAdapter;
 import org.eclipse.ditto.protocol.mappingstrategies.IllegalAdaptableException;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.things.model.signals.commands.ThingErrorResponse;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingsResponse;
 import org.eclipse.ditto.thingsearch.model.ThingSearchException;
 import org.eclipse.ditto.thingsearch.model.signals.commands.SearchErrorResponse;
 import org.slf4j.Logger;
@@ -105,7 +111,6 @@ import akka.event.Logging;
 import akka.http.javadsl.model.HttpRequest;
 import akka.http.javadsl.model.HttpResponse;
 import akka.http.javadsl.model.ws.Message;
-import akka.http.javadsl.model.ws.TextMessage;
 import akka.http.javadsl.model.ws.WebSocketUpgrade;
 import akka.http.javadsl.server.Directives;
 import akka.http.javadsl.server.RequestContext;
@@ -150,6 +155,8 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
 
     private static final ThreadSafeDittoLogger LOGGER = DittoLoggerFactory.getThreadSafeLogger(WebSocketRoute.class);
 
+    private static final OutboundEncodingCache ENCODING_CACHE = OutboundEncodingCache.getInstance();
+
     /**
      * Ask timeout for the local streaming actor.
      */
@@ -183,6 +190,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
     @Nullable private GatewaySignalEnrichmentProvider signalEnrichmentProvider;
     private HeaderTranslator headerTranslator;
     private WebSocketConfigProvider webSocketConfigProvider;
+    @Nullable private ClusterRateLimiter rateLimiter;
 
 
     private WebSocketRoute(final ActorSystem actorSystem,
@@ -202,6 +210,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         webSocketSupervisor = WebSocketSupervisor.get(actorSystem, dittoExtensionsConfig);
         webSocketConfigProvider = WebSocketConfigProvider.get(actorSystem, dittoExtensionsConfig);
         signalEnrichmentProvider = null;
+        rateLimiter = null;
         headerTranslator = HeaderTranslator.empty();
         this.materializer = materializer;
     }
@@ -268,6 +277,12 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         return this;
     }
 
+    @Override
+    public WebSocketRouteBuilder withRateLimiter(@Nullable final ClusterRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+        return this;
+    }
+
     /**
      * Builds the {@code /ws} route.
      *
@@ -308,21 +323,26 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         final AuthorizationContext authContext = dittoHeaders.getAuthorizationContext();
         final ThreadSafeDittoLogger logger = LOGGER.withMdcEntry(MDC_CONNECTION_CORRELATION_ID,
                 connectionCorrelationId);
-        logger.info("Creating WebSocket for connection authContext: <{}>", authContext);
+        final WebSocketMessageFormat format =
+                WebSocketMessageFormat.negotiate(upgradeToWebSocket.getRequestedProtocols());
+        logger.info("Creating WebSocket for connection authContext: <{}> with format <{}>", authContext, format);
 
         return signalEnrichmentFacadeStage.thenCompose(signalEnrichmentFacade -> retrieveWebsocketConfig()
                 .thenApply(overwriteWebSocketConfig(dittoHeaders))
                 .thenApply(websocketConfig -> {
                     final Pair<Connect, Flow<DittoRuntimeException, Message, NotUsed>> outgoing =
                             createOutgoing(version, connectionCorrelationId, authContext, dittoHeaders, adapter,
-                                    request, websocketConfig, signalEnrichmentFacade, logger);
+                                    request, websocketConfig, signalEnrichmentFacade, format, logger);
 
                     final Flow<Message, DittoRuntimeException, NotUsed> incoming =
                             createIncoming(version, connectionCorrelationId, authContext, dittoHeaders, adapter,
-                                    request, websocketConfig, outgoing.first(), logger);
+                                    request, websocketConfig, outgoing.first(), format, logger);
 
-                    return upgradeToWebSocket.handleMessagesWith(
-                            incoming.via(wsKillSwitch.flow()).via(outgoing.second()));
+                    final Flow<Message, Message, NotUsed> handler =
+                            incoming.via(wsKillSwitch.flow()).via(outgoing.second());
+                    return format.getSubprotocol()
+                            .map(subprotocol -> upgradeToWebSocket.handleMessagesWith(handler, subprotocol))
+                            .orElseGet(() -> upgradeToWebSocket.handleMessagesWith(handler));
                 }));
     }
 
@@ -364,12 +384,13 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
             final HttpRequest request,
             final WebsocketConfig websocketConfig,
             final Connect connect,
+            final WebSocketMessageFormat format,
             final ThreadSafeDittoLogger logger) {
 
         return Flow.fromGraph(GraphDSL.create(builder -> {
 
             final FlowShape<Message, String> strictify =
-                    builder.add(getStrictifyFlow(request, logger)
+                    builder.add(getStrictifyFlow(request, format, logger)
                             .via(AbstractRoute.throttleByConfig(websocketConfig.getThrottlingConfig())));
 
             final FanOutShape2<String, Either<StreamControlMessage, Signal<?>>, DittoRuntimeException> select =
@@ -379,6 +400,9 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
             final FanOutShape2<Either<StreamControlMessage, Signal<?>>, Either<StreamControlMessage, Signal<?>>,
                     DittoRuntimeException> rateLimiter = builder.add(getRateLimiter(websocketConfig));
 
+            final FanOutShape2<Either<StreamControlMessage, Signal<?>>, Either<StreamControlMessage, Signal<?>>,
+                    DittoRuntimeException> clusterRateLimiter = builder.add(getClusterRateLimiter());
+
             final FlowShape<DittoRuntimeException, DittoRuntimeException> droppedCounter =
                     builder.add(Flow.fromFunction(e -> {
                         DROPPED_COUNTER.increment();
@@ -389,13 +413,15 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                     builder.add(getStreamControlOrSignalSink(connect));
 
             final UniformFanInShape<DittoRuntimeException, DittoRuntimeException> exceptionMerger =
-                    builder.add(Merge.create(2, true));
+                    builder.add(Merge.create(3, true));
 
             builder.from(strictify.out()).toInlet(select.in());
             builder.from(select.out0()).toInlet(rateLimiter.in());
             builder.from(select.out1()).toFanIn(exceptionMerger);
-            builder.from(rateLimiter.out0()).to(sink);
+            builder.from(rateLimiter.out0()).toInlet(clusterRateLimiter.in());
             builder.from(rateLimiter.out1()).via(droppedCounter).toFanIn(exceptionMerger);
+            builder.from(clusterRateLimiter.out0()).to(sink);
+            builder.from(clusterRateLimiter.out1()).toFanIn(exceptionMerger);
 
             return FlowShape.of(strictify.in(), exceptionMerger.out());
         }));
@@ -426,22 +452,24 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                 }));
     }
 
-    private Flow<Message, String, NotUsed> getStrictifyFlow(final HttpRequest request, final Logger logger) {
+    private Flow<Message, String, NotUsed> getStrictifyFlow(final HttpRequest request,
+            final WebSocketMessageFormat format,
+            final Logger logger) {
+
         return Flow.<Message>create()
                 .via(Flow.fromFunction(msg -> {
                     IN_COUNTER.increment();
                     return msg;
                 }))
-                .filter(Message::isText)
-                .map(Message::asTextMessage)
-                .map(textMsg -> {
-                    if (textMsg.isStrict()) {
-                        return Source.single(textMsg.getStrictText());
-                    } else {
-                        return textMsg.getStreamedText();
-                    }
-                })
-                .flatMapConcat(textMsg -> textMsg.fold("", (str1, str2) -> str1 + str2))
+                .filter(format::isSupported)
+                .flatMapConcat(msg -> format.toText(msg)
+                        .recoverWithRetries(1, new PFBuilder<Throwable, Source<String, NotUsed>>()
+                                .match(JsonRuntimeException.class, e -> {
+                                    logger.info("Dropping incoming WebSocket message which is no valid {}: {}",
+                                            format, e.getMessage());
+                                    return Source.empty();
+                                })
+                                .build()))
                 .via(incomingMessageSniffer.toAsyncFlow(request))
                 .via(Flow.fromFunction(result -> {
                     logger.debug("Received incoming WebSocket message: {}", result);
@@ -561,6 +589,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
             final HttpRequest request,
             final WebsocketConfig websocketConfig,
             @Nullable final SignalEnrichmentFacade signalEnrichmentFacade,
+            final WebSocketMessageFormat format,
             final ThreadSafeDittoLogger logger) {
 
         final Optional<JsonWebToken> optJsonWebToken = extractJwtFromRequestIfPresent(request);
@@ -608,14 +637,15 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         final int signalEnrichmentParallelism = streamingConfig.getParallelism();
         final Flow<SessionedJsonifiable, Message, NotUsed> messageFlow =
                 Flow.<SessionedJsonifiable>create()
-                        .mapAsync(signalEnrichmentParallelism, postprocess(adapter, signalEnrichmentFacade, logger))
+                        .mapAsync(signalEnrichmentParallelism,
+                                postprocess(version, adapter, signalEnrichmentFacade, format, logger))
                         .mapConcat(x -> x)
                         .via(Flow.fromFunction(result -> {
                             logger.debug("Sending outgoing WebSocket message: {}", result);
                             return result;
                         }))
                         .via(outgoingMessageSniffer.toAsyncFlow(request))
-                        .<Message>map(TextMessage::create)
+                        .map(format::toMessage)
                         .via(Flow.fromFunction(msg -> {
                             OUT_COUNTER.increment();
                             return msg;
@@ -676,6 +706,27 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         }
     }
 
+    private <T> Graph<FanOutShape2<Either<T, Signal<?>>, Either<T, Signal<?>>, DittoRuntimeException>, NotUsed>
+    getClusterRateLimiter() {
+        final ClusterRateLimiter theRateLimiter = rateLimiter;
+        if (theRateLimiter != null) {
+            return Filter.multiplexByEither(either -> {
+                final Optional<TooManyRequestsException> tooManyRequests = either.isRight()
+                        ? theRateLimiter.tryAcquire(either.right().get())
+                        : Optional.empty();
+                final Either<DittoRuntimeException, Either<T, Signal<?>>> result;
+                if (tooManyRequests.isPresent()) {
+                    result = Left.apply(tooManyRequests.get());
+                } else {
+                    result = Right.apply(either);
+                }
+                return result;
+            });
+        } else {
+            return Filter.multiplexByEither(Right::apply);
+        }
+    }
+
     private static DittoHeaders getInitialInternalHeaders(final JsonSchemaVersion jsonSchemaVersion,
             final AuthorizationContext connectionAuthContext,
             final CharSequence connectionCorrelationId) {
@@ -750,7 +801,9 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
     }
 
     private Function<SessionedJsonifiable, CompletionStage<Collection<String>>> postprocess(
+            final JsonSchemaVersion version,
             final ProtocolAdapter adapter, @Nullable final SignalEnrichmentFacade facade,
+            final WebSocketMessageFormat format,
             final ThreadSafeDittoLogger logger) {
 
         return sessionedJsonifiable -> {
@@ -761,18 +814,37 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                 );
             }
 
-            final Adaptable adaptable = jsonifiableToAdaptable(jsonifiable, adapter);
+            final Optional<String> plainEntity = getPlainEntity(jsonifiable);
+            final boolean isShareable = jsonifiable instanceof Signal && plainEntity.isEmpty();
+            final Adaptable adaptable;
+            if (isShareable) {
+                adaptable = ENCODING_CACHE.getOrEncode(jsonifiable,
+                        OutboundEncodingCache.key("ws-adaptable", adapter, version, null),
+                        () -> jsonifiableToAdaptable(jsonifiable, adapter));
+            } else {
+                adaptable = jsonifiableToAdaptable(
+                        plainEntity.isPresent() ? withEmptyEntity(jsonifiable) : jsonifiable, adapter);
+            }
             final CompletionStage<JsonObject> extraFuture = sessionedJsonifiable.retrieveExtraFields(facade);
             return extraFuture.<Collection<String>>thenApply(extra -> {
                 if (matchesFilter(sessionedJsonifiable, extra)) {
-                    return Collections.singletonList(toJsonStringWithExtra(adaptable, extra));
+                    if (isShareable && extra.isEmpty()) {
+                        // the key contains the format because the CBOR format remembers its encoding per text
+                        return Collections.singletonList(ENCODING_CACHE.getOrEncode(jsonifiable,
+                                OutboundEncodingCache.key("ws-" + format.name(), adapter, version, null),
+                                () -> format.serialize(toJsonWithExtra(adaptable, extra))));
+                    }
+                    return Collections.singletonList(plainEntity
+                            .map(entity -> format.serialize(PlainValueJsonWriter.toJsonString(adaptable, extra,
+                                    entity)))
+                            .orElseGet(() -> format.serialize(toJsonWithExtra(adaptable, extra))));
                 }
                 issuePotentialWeakAcknowledgements(sessionedJsonifiable);
                 sessionedJsonifiable.finishSpan();
                 return Collections.emptyList();
             }).exceptionally(error -> {
                 sessionedJsonifiable.finishSpan();
-                return WebSocketRoute.reportEnrichmentError(error, adapter, adaptable, logger);
+                return WebSocketRoute.reportPostprocessingError(error, adapter, adaptable, logger);
             });
         };
     }
@@ -803,7 +875,11 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         return Acknowledgement.weak(label, entityId, dittoHeaders, payload);
     }
 
-    private static Collection<String> reportEnrichmentError(final Throwable error,
+    /**
+     * Reports a failed signal enrichment or encoding of an outgoing signal as error message in JSON, which is sent as
+     * text frame in every format.
+     */
+    private static Collection<String> reportPostprocessingError(final Throwable error,
             final ProtocolAdapter adapter,
             final Adaptable adaptable,
             final ThreadSafeDittoLogger logger) {
@@ -814,7 +890,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                         .cause(t)
                         .build());
         logger.withCorrelationId(adaptable.getDittoHeaders())
-                .error("Signal enrichment failed due to: {}", error.getMessage(), errorToReport);
+                .error("Postprocessing outgoing signal failed due to: {}", error.getMessage(), errorToReport);
 
         final JsonifiableAdaptable errorAdaptable =
                 ProtocolFactory.wrapAsJsonifiableAdaptable(adapter.toAdaptable(ThingErrorResponse.of(
@@ -825,9 +901,35 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         return Collections.singletonList(errorAdaptable.toJsonString());
     }
 
-    private static String toJsonStringWithExtra(final Adaptable adaptable, final JsonObject extra) {
+    private static JsonObject toJsonWithExtra(final Adaptable adaptable, final JsonObject extra) {
         final Adaptable enrichedAdaptable = extra.isEmpty() ? adaptable : ProtocolFactory.setExtra(adaptable, extra);
-        return ProtocolFactory.wrapAsJsonifiableAdaptable(enrichedAdaptable).toJsonString();
+        return ProtocolFactory.wrapAsJsonifiableAdaptable(enrichedAdaptable).toJson();
+    }
+
+    /**
+     * Returns the serialized entity of responses which carry their entity as plain JSON string from the things
+     * service. Those entities already have the field selector and the policy applied and are sent to the
+     * WebSocket as they are.
+     *
+     * @param jsonifiable the jsonifiable to send.
+     * @return the plain JSON string of the entity or an empty Optional if the entity has to be serialized.
+     */
+    private static Optional<String> getPlainEntity(final Jsonifiable.WithPredicate<JsonObject, JsonField> jsonifiable) {
+        if (jsonifiable instanceof RetrieveThingResponse || jsonifiable instanceof RetrieveThingsResponse) {
+            return ((WithEntity<?>) jsonifiable).getEntityPlainString().filter(entity -> !entity.isBlank());
+        }
+        return Optional.empty();
+    }
+
+    private static Jsonifiable.WithPredicate<JsonObject, JsonField> withEmptyEntity(
+            final Jsonifiable.WithPredicate<JsonObject, JsonField> jsonifiable) {
+
+        if (jsonifiable instanceof RetrieveThingResponse retrieveThingResponse) {
+            return retrieveThingResponse.setEntity(JsonObject.empty());
+        } else if (jsonifiable instanceof RetrieveThingsResponse retrieveThingsResponse) {
+            return retrieveThingsResponse.setEntity(JsonArray.empty());
+        }
+        return jsonifiable;
     }
 
     /**
@@ -18,6 +18,7 @@ import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.base.model.headers.translator.HeaderTranslator;
 import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
 import org.eclipse.ditto.gateway.service.streaming.StreamingAuthorizationEnforcer;
+import org.eclipse.ditto.gateway.service.endpoints.utils.ClusterRateLimiter;
 import org.eclipse.ditto.gateway.service.endpoints.utils.GatewaySignalEnrichmentProvider;
 import org.eclipse.ditto.protocol.adapter.ProtocolAdapter;
 
@@ -96,6 +97,15 @@ public interface WebSocketRouteBuilder {
      */
     WebSocketRouteBuilder withWebSocketConfigProvider(WebSocketConfigProvider webSocketConfigProvider);
 
+    /**
+     * Set the cluster-wide rate limiter which admits each incoming signal.
+     * If not set or set to null, incoming signals are only limited by the throttling of each WebSocket.
+     *
+     * @param rateLimiter the rate limiter.
+     * @return this builder instance to allow method chaining.
+     */
+    WebSocketRouteBuilder withRateLimiter(@Nullable ClusterRateLimiter rateLimiter);
+
     /**
      * Creates the Akka HTTP route for websocket.
      *
@@ -0,0 +1,529 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.utils;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.entity.id.NamespacedEntityId;
+import org.eclipse.ditto.base.model.entity.id.WithEntityId;
+import org.eclipse.ditto.base.model.exceptions.TooManyRequestsException;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.gateway.service.util.config.DittoGatewayConfig;
+import org.eclipse.ditto.gateway.service.util.config.endpoints.RateLimitConfig;
+import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.internal.utils.ddata.DistributedData;
+import org.eclipse.ditto.internal.utils.ddata.DistributedDataConfig;
+import org.eclipse.ditto.internal.utils.ddata.LocalDistributedDataView;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Props;
+import akka.cluster.Cluster;
+import akka.cluster.ClusterEvent;
+import akka.cluster.ddata.Key;
+import akka.cluster.ddata.PNCounterMap;
+import akka.cluster.ddata.PNCounterMapKey;
+import akka.cluster.ddata.Replicator;
+import akka.cluster.ddata.SelfUniqueAddress;
+import akka.dispatch.MessageDispatcher;
+import akka.japi.pf.ReceiveBuilder;
+
+/**
+ * Cluster-wide token buckets limiting the signals per namespace and per authorization subject across all gateway
+ * instances.
+ * <p>
+ * Each instance decides locally with its own token buckets, so that the hot path never waits for the cluster.
+ * In every reconcile interval, each instance adds its own consumption to a {@link PNCounterMap} replicated to all
+ * gateway instances and deducts the consumption of the other instances, which it reads from the local replica, from
+ * its own buckets. The cluster-wide consumption may therefore exceed the limit by what the other instances consumed
+ * within one reconcile interval plus the replication delay.
+ * <p>
+ * The counters are kept per instance, i.e. the keys of the map are prefixed by the unique ID of the cluster member
+ * that owns them. Each instance only increments and removes its own counters, so that an instance dropping an idle
+ * bucket does not discard the consumption published by the other instances. The counters of a member that left the
+ * cluster are removed by the remaining instances when they are notified of its removal.
+ */
+@ThreadSafe
+public final class ClusterRateLimiter extends DistributedData<PNCounterMap<String>> {
+
+    /**
+     * Role of cluster members to which this distributed data is replicated.
+     */
+    public static final String CLUSTER_ROLE = "rate-limit-aware";
+
+    /**
+     * Name of the replicator actor.
+     */
+    public static final String ACTOR_NAME = "rateLimitReplicator";
+
+    private static final String RATE_LIMIT_DISPATCHER = "rate-limit-dispatcher";
+
+    private static final String NAMESPACE_PREFIX = "namespace:";
+    private static final String SUBJECT_PREFIX = "subject:";
+    private static final char NODE_SEPARATOR = '|';
+
+    private static final Counter REJECTED_COUNTER = DittoMetrics.counter("gateway_rate_limit_rejected");
+
+    private final RateLimitConfig rateLimitConfig;
+    private final SelfUniqueAddress selfUniqueAddress;
+    private final String nodePrefix;
+    private final LocalDistributedDataView<PNCounterMap<String>, Map<String, Long>> localView;
+    private final Map<String, TokenBucket> buckets;
+    private final AtomicBoolean reconciling;
+
+    private ClusterRateLimiter(final DistributedDataConfig config, final ActorSystem system,
+            final RateLimitConfig rateLimitConfig) {
+
+        super(config, system, system.dispatchers().lookup(RATE_LIMIT_DISPATCHER));
+        final MessageDispatcher dispatcher = system.dispatchers().lookup(RATE_LIMIT_DISPATCHER);
+        this.rateLimitConfig = rateLimitConfig;
+        selfUniqueAddress = SelfUniqueAddress.apply(Cluster.get(system).selfUniqueAddress());
+        nodePrefix = selfUniqueAddress.uniqueAddress().longUid() + String.valueOf(NODE_SEPARATOR);
+        localView = createLocalView(this::toForeignConsumption);
+        buckets = new ConcurrentHashMap<>();
+        reconciling = new AtomicBoolean(false);
+        system.actorOf(MemberRemovedListener.props(this),
+                config.getAkkaReplicatorConfig().getName() + "MemberRemovedListener");
+        system.scheduler()
+                .scheduleWithFixedDelay(rateLimitConfig.getReconcileInterval(),
+                        rateLimitConfig.getReconcileInterval(), this::reconcile, dispatcher);
+    }
+
+    /**
+     * Get the instance of the rate limiter of an actor system if rate limiting is enabled. The provided Akka system
+     * must be a cluster member with the role {@code rate-limit-aware}.
+     *
+     * @param system the actor system where the replicator actor will be created.
+     * @param rateLimitConfig the config of the rate limiting.
+     * @return the rate limiter, or an empty optional if rate limiting is disabled.
+     */
+    public static Optional<ClusterRateLimiter> get(final ActorSystem system, final RateLimitConfig rateLimitConfig) {
+        if (rateLimitConfig.isEnabled()) {
+            return Optional.of(Provider.INSTANCE.get(system));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Create a rate limiter with its own replicator actor.
+     *
+     * @param config the config of the distributed data.
+     * @param system the actor system where the replicator actor will be created.
+     * @param rateLimitConfig the config of the rate limiting.
+     * @return the rate limiter.
+     */
+    static ClusterRateLimiter create(final DistributedDataConfig config, final ActorSystem system,
+            final RateLimitConfig rateLimitConfig) {
+
+        return new ClusterRateLimiter(config, system, rateLimitConfig);
+    }
+
+    /**
+     * Try to take one token from the buckets of the namespace of the signal's entity and of the first authorization
+     * subject of the signal.
+     *
+     * @param signal the signal to admit.
+     * @return an empty optional if the signal is admitted, or the exception to reply with if it is rejected.
+     */
+    public Optional<TooManyRequestsException> tryAcquire(final Signal<?> signal) {
+        final DittoHeaders dittoHeaders = signal.getDittoHeaders();
+        @Nullable final String namespace = WithEntityId.getEntityId(signal)
+                .filter(NamespacedEntityId.class::isInstance)
+                .map(entityId -> ((NamespacedEntityId) entityId).getNamespace())
+                .orElse(null);
+        return tryAcquire(namespace, dittoHeaders.getAuthorizationContext(), dittoHeaders);
+    }
+
+    /**
+     * Try to take one token from the buckets of a namespace and of the first subject of an authorization context.
+     * A token is only taken if both buckets have one, so that rejected signals do not count against either limit.
+     *
+     * @param namespace the namespace, or {@code null} if the signal is not addressed to a namespace.
+     * @param authorizationContext the authorization context of the signal.
+     * @param dittoHeaders the headers to set on the exception.
+     * @return an empty optional if the signal is admitted, or the exception to reply with if it is rejected.
+     */
+    public Optional<TooManyRequestsException> tryAcquire(@Nullable final String namespace,
+            final AuthorizationContext authorizationContext, final DittoHeaders dittoHeaders) {
+
+        @Nullable final TokenBucket namespaceBucket = namespace == null || rateLimitConfig.getNamespaceLimit() <= 0
+                ? null
+                : getBucket(NAMESPACE_PREFIX + namespace, rateLimitConfig.getNamespaceLimit());
+        @Nullable final TokenBucket subjectBucket = rateLimitConfig.getSubjectLimit() <= 0
+                ? null
+                : authorizationContext.getFirstAuthorizationSubject()
+                .map(AuthorizationSubject::getId)
+                .map(subjectId -> getBucket(SUBJECT_PREFIX + subjectId, rateLimitConfig.getSubjectLimit()))
+                .orElse(null);
+
+        final long now = System.nanoTime();
+        final Duration retryAfter = tryAcquire(namespaceBucket, subjectBucket, now);
+        if (retryAfter.isZero()) {
+            return Optional.empty();
+        } else {
+            REJECTED_COUNTER.increment();
+            return Optional.of(TooManyRequestsException.newBuilder()
+                    .retryAfter(retryAfter)
+                    .dittoHeaders(dittoHeaders)
+                    .build());
+        }
+    }
+
+    @Override
+    protected Key<PNCounterMap<String>> getKey(final int shardNumber) {
+        return PNCounterMapKey.create("RateLimits" + shardNumber);
+    }
+
+    @Override
+    protected PNCounterMap<String> getInitialValue() {
+        return PNCounterMap.create();
+    }
+
+    private TokenBucket getBucket(final String bucketKey, final int limit) {
+        return buckets.computeIfAbsent(bucketKey, k -> new TokenBucket(k, getShardNumber(k), limit,
+                rateLimitConfig.getInterval(), System.nanoTime()));
+    }
+
+    private int getShardNumber(final String bucketKey) {
+        return Math.abs(bucketKey.hashCode() % numberOfShards);
+    }
+
+    private static Duration tryAcquire(@Nullable final TokenBucket namespaceBucket,
+            @Nullable final TokenBucket subjectBucket, final long now) {
+
+        if (namespaceBucket == null && subjectBucket == null) {
+            return Duration.ZERO;
+        } else if (namespaceBucket == null) {
+            return subjectBucket.tryAcquire(now);
+        } else if (subjectBucket == null) {
+            return namespaceBucket.tryAcquire(now);
+        } else {
+            // lock the buckets in a fixed order to take a token from both atomically
+            final boolean namespaceFirst = namespaceBucket.key.compareTo(subjectBucket.key) < 0;
+            final TokenBucket first = namespaceFirst ? namespaceBucket : subjectBucket;
+            final TokenBucket second = namespaceFirst ? subjectBucket : namespaceBucket;
+            synchronized (first) {
+                synchronized (second) {
+                    final Duration firstRetryAfter = first.getRetryAfter(now);
+                    final Duration secondRetryAfter = second.getRetryAfter(now);
+                    if (firstRetryAfter.isZero() && secondRetryAfter.isZero()) {
+                        first.take(now);
+                        second.take(now);
+                        return Duration.ZERO;
+                    } else {
+                        return firstRetryAfter.compareTo(secondRetryAfter) >= 0 ? firstRetryAfter : secondRetryAfter;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Publish the consumption of this instance and deduct the consumption of the other instances.
+     *
+     * @return a future completing when all shards are reconciled, or immediately if a reconciliation is running.
+     */
+    CompletionStage<Void> reconcile() {
+        if (reconciling.compareAndSet(false, true)) {
+            final long now = System.nanoTime();
+            final long idleTimeoutNanos = rateLimitConfig.getIdleTimeout().toNanos();
+            final List<CompletableFuture<Void>> futures = IntStream.range(0, numberOfShards)
+                    .mapToObj(shard -> reconcileShard(shard, now, idleTimeoutNanos).toCompletableFuture())
+                    .toList();
+            return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .whenComplete((unused, error) -> reconciling.set(false));
+        } else {
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private CompletionStage<Void> reconcileShard(final int shard, final long now, final long idleTimeoutNanos) {
+        final Map<String, TokenBucket> shardBuckets = buckets.values()
+                .stream()
+                .filter(bucket -> bucket.shard == shard)
+                .collect(Collectors.toMap(bucket -> bucket.key, bucket -> bucket));
+        final Map<String, Long> consumed = new HashMap<>();
+        final List<String> idle = shardBuckets.values()
+                .stream()
+                .filter(bucket -> bucket.isIdle(now, idleTimeoutNanos))
+                .map(bucket -> bucket.key)
+                .toList();
+        idle.forEach(bucketKey -> {
+            buckets.remove(bucketKey);
+            shardBuckets.remove(bucketKey);
+        });
+        shardBuckets.values().forEach(bucket -> {
+            final long unpublished = bucket.drainUnpublished();
+            if (unpublished > 0) {
+                consumed.put(bucket.key, unpublished);
+            }
+        });
+
+        final Key<PNCounterMap<String>> key = getKey(shard);
+        if (consumed.isEmpty() && idle.isEmpty()) {
+            deductForeignConsumption(shardBuckets, localView.get(key), now);
+            return CompletableFuture.completedFuture(null);
+        } else {
+            return update(key, writeLocal(), counterMap -> {
+                PNCounterMap<String> result = counterMap;
+                for (final Map.Entry<String, Long> entry : consumed.entrySet()) {
+                    result = result.increment(selfUniqueAddress, nodePrefix + entry.getKey(), entry.getValue());
+                }
+                for (final String bucketKey : idle) {
+                    // only the own counter: the other instances may still use the bucket
+                    result = result.remove(selfUniqueAddress, nodePrefix + bucketKey);
+                }
+                return result;
+            })
+                    .whenComplete((unused, error) -> {
+                        if (error != null) {
+                            // publish the consumption again in the next reconcile interval
+                            consumed.forEach((bucketKey, count) -> shardBuckets.get(bucketKey).unpublished(count));
+                        }
+                    })
+                    .thenCompose(unused -> localView.refresh(key))
+                    .thenRun(() -> deductForeignConsumption(shardBuckets, localView.get(key), now))
+                    .exceptionally(error -> null);
+        }
+    }
+
+    /**
+     * Remove the counters of a cluster member from all shards.
+     *
+     * @param longUid the unique ID of the member.
+     * @return a future completing when the counters are removed from all shards.
+     */
+    CompletionStage<Void> removeCountersOfMember(final long longUid) {
+        final String memberPrefix = longUid + String.valueOf(NODE_SEPARATOR);
+        final List<CompletableFuture<Void>> futures = IntStream.range(0, numberOfShards)
+                .mapToObj(shard -> update(getKey(shard), writeLocal(), counterMap -> {
+                    PNCounterMap<String> result = counterMap;
+                    for (final String counterKey : counterMap.getEntries().keySet()) {
+                        if (counterKey.startsWith(memberPrefix)) {
+                            result = result.remove(selfUniqueAddress, counterKey);
+                        }
+                    }
+                    return result;
+                }).toCompletableFuture())
+                .toList();
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+    }
+
+    private static void deductForeignConsumption(final Map<String, TokenBucket> shardBuckets,
+            final Map<String, Long> foreignConsumption, final long now) {
+
+        shardBuckets.values().forEach(bucket ->
+                bucket.deductForeignConsumption(foreignConsumption.getOrDefault(bucket.key, 0L), now));
+    }
+
+    private static Replicator.WriteConsistency writeLocal() {
+        return (Replicator.WriteConsistency) Replicator.writeLocal();
+    }
+
+    /**
+     * Sum up the counters of the other instances per bucket key.
+     *
+     * @param counterMap the counters of all instances.
+     * @return the consumption of the other instances per bucket key.
+     */
+    private Map<String, Long> toForeignConsumption(final PNCounterMap<String> counterMap) {
+        return counterMap.getEntries()
+                .entrySet()
+                .stream()
+                .filter(entry -> !entry.getKey().startsWith(nodePrefix))
+                .filter(entry -> entry.getKey().indexOf(NODE_SEPARATOR) >= 0)
+                .collect(Collectors.toUnmodifiableMap(
+                        entry -> entry.getKey().substring(entry.getKey().indexOf(NODE_SEPARATOR) + 1),
+                        entry -> entry.getValue().longValue(),
+                        Long::sum));
+    }
+
+    /**
+     * Token bucket of one namespace or subject on this instance.
+     */
+    private static final class TokenBucket {
+
+        private final String key;
+        private final int shard;
+        private final int capacity;
+        private final double tokensPerNano;
+
+        @GuardedBy("this") private double tokens;
+        @GuardedBy("this") private long lastRefill;
+        @GuardedBy("this") private long lastUsed;
+        @GuardedBy("this") private long unpublished;
+        @GuardedBy("this") private long lastForeign;
+        @GuardedBy("this") private boolean reconciled;
+
+        private TokenBucket(final String key, final int shard, final int limit, final Duration interval,
+                final long now) {
+
+            this.key = key;
+            this.shard = shard;
+            capacity = limit;
+            tokensPerNano = (double) limit / interval.toNanos();
+            tokens = limit;
+            lastRefill = now;
+            lastUsed = now;
+            unpublished = 0L;
+            lastForeign = 0L;
+            reconciled = false;
+        }
+
+        private synchronized Duration tryAcquire(final long now) {
+            final Duration retryAfter = getRetryAfter(now);
+            if (retryAfter.isZero()) {
+                take(now);
+            }
+            return retryAfter;
+        }
+
+        private synchronized Duration getRetryAfter(final long now) {
+            refill(now);
+            if (tokens >= 1.0) {
+                return Duration.ZERO;
+            } else {
+                final long nanos = (long) Math.ceil((1.0 - tokens) / tokensPerNano);
+                // the retry-after header is accurate to seconds; round up so that retrying clients get a token
+                return Duration.ofSeconds(Math.max(1L, (nanos + 999_999_999L) / 1_000_000_000L));
+            }
+        }
+
+        private synchronized void take(final long now) {
+            tokens -= 1.0;
+            unpublished++;
+            lastUsed = now;
+        }
+
+        private synchronized boolean isIdle(final long now, final long idleTimeoutNanos) {
+            return unpublished == 0 && now - lastUsed > idleTimeoutNanos;
+        }
+
+        private synchronized long drainUnpublished() {
+            final long result = unpublished;
+            unpublished = 0L;
+            return result;
+        }
+
+        private synchronized void unpublished(final long count) {
+            unpublished += count;
+        }
+
+        /**
+         * Deduct what the other instances consumed since the last reconciliation from the tokens.
+         *
+         * @param foreign the consumption published by the other instances.
+         * @param now the current nano time.
+         */
+        private synchronized void deductForeignConsumption(final long foreign, final long now) {
+            final long delta = foreign - lastForeign;
+            // the first reconciliation only takes the baseline, the counter may contain consumption of the past
+            if (reconciled && delta > 0) {
+                refill(now);
+                // tokens may become negative, in which case the retry-after grows accordingly
+                tokens = Math.max(tokens - delta, -capacity);
+            }
+            // a negative delta means another instance removed its idle counter; start over from there
+            lastForeign = foreign;
+            reconciled = true;
+        }
+
+        @GuardedBy("this")
+        private void refill(final long now) {
+            if (now > lastRefill) {
+                tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+                lastRefill = now;
+            }
+        }
+    }
+
+    /**
+     * Removes the counters of cluster members when they are removed from the cluster.
+     */
+    private static final class MemberRemovedListener extends AbstractActor {
+
+        private final ClusterRateLimiter rateLimiter;
+
+        @SuppressWarnings("unused") // called by reflection
+        private MemberRemovedListener(final ClusterRateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+        }
+
+        private static Props props(final ClusterRateLimiter rateLimiter) {
+            return Props.create(MemberRemovedListener.class, rateLimiter);
+        }
+
+        @Override
+        public void preStart() {
+            Cluster.get(getContext().getSystem()).subscribe(getSelf(), ClusterEvent.MemberRemoved.class);
+        }
+
+        @Override
+        public void postStop() {
+            Cluster.get(getContext().getSystem()).unsubscribe(getSelf());
+        }
+
+        @Override
+        public Receive createReceive() {
+            return ReceiveBuilder.create()
+                    .match(ClusterEvent.MemberRemoved.class, this::memberRemoved)
+                    .match(ClusterEvent.CurrentClusterState.class, currentClusterState -> {})
+                    .build();
+        }
+
+        private void memberRemoved(final ClusterEvent.MemberRemoved memberRemoved) {
+            if (!Cluster.get(getContext().getSystem()).isTerminated()) {
+                rateLimiter.removeCountersOfMember(memberRemoved.member().uniqueAddress().longUid());
+            }
+        }
+    }
+
+    private static final class Provider
+            extends DistributedData.AbstractDDataProvider<PNCounterMap<String>, ClusterRateLimiter> {
+
+        private static final Provider INSTANCE = new Provider();
+
+        private Provider() {}
+
+        @Override
+        public ClusterRateLimiter createExtension(final ExtendedActorSystem system) {
+            final RateLimitConfig rateLimitConfig =
+                    DittoGatewayConfig.of(DefaultScopedConfig.dittoScoped(system.settings().config()))
+                            .getRateLimitConfig();
+            return new ClusterRateLimiter(DistributedData.createConfig(system, ACTOR_NAME, CLUSTER_ROLE), system,
+                    rateLimitConfig);
+        }
+    }
+
+}
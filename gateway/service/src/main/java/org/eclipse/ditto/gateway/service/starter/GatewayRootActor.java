@@ -26,6 +26,7 @@ import org.eclipse.ditto.gateway.service.endpoints.routes.CustomApiRoutesProvide
 import org.eclipse.ditto.gateway.service.endpoints.routes.HttpBindFlowProvider;
 import org.eclipse.ditto.gateway.service.endpoints.routes.RootRoute;
 import org.eclipse.ditto.gateway.service.endpoints.routes.RouteBaseProperties;
+import org.eclipse.ditto.gateway.service.endpoints.routes.batch.BatchRoute;
 import org.eclipse.ditto.gateway.service.endpoints.routes.cloudevents.CloudEventsRoute;
 import org.eclipse.ditto.gateway.service.endpoints.routes.connections.ConnectionsRoute;
 import org.eclipse.ditto.gateway.service.endpoints.routes.devops.DevOpsRoute;
@@ -39,6 +40,7 @@ import org.eclipse.ditto.gateway.service.endpoints.routes.things.ThingsRoute;
 import org.eclipse.ditto.gateway.service.endpoints.routes.thingsearch.ThingSearchRoute;
 import org.eclipse.ditto.gateway.service.endpoints.routes.websocket.WebSocketRoute;
 import org.eclipse.ditto.gateway.service.endpoints.routes.whoami.WhoamiRoute;
+import org.eclipse.ditto.gateway.service.endpoints.utils.ClusterRateLimiter;
 import org.eclipse.ditto.gateway.service.endpoints.utils.GatewaySignalEnrichmentProvider;
 import org.eclipse.ditto.gateway.service.health.DittoStatusAndHealthProviderFactory;
 import org.eclipse.ditto.gateway.service.health.GatewayHttpReadinessCheck;
@@ -232,6 +234,8 @@ public final class GatewayRootActor extends DittoRootActor {
                 GatewaySignalEnrichmentProvider.get(actorSystem, dittoExtensionConfig);
 
         final var commandConfig = gatewayConfig.getCommandConfig();
+        final var rateLimiter =
+                ClusterRateLimiter.get(actorSystem, gatewayConfig.getRateLimitConfig()).orElse(null);
 
         final var routeBaseProperties = RouteBaseProperties.newBuilder()
                 .actorSystem(actorSystem)
@@ -239,6 +243,7 @@ public final class GatewayRootActor extends DittoRootActor {
                 .httpConfig(httpConfig)
                 .commandConfig(commandConfig)
                 .headerTranslator(headerTranslator)
+                .rateLimiter(rateLimiter)
                 .build();
 
         final var customApiRoutesProvider =
@@ -258,7 +263,8 @@ public final class GatewayRootActor extends DittoRootActor {
                 .sseThingsRoute(
                         ThingsSseRouteBuilder.getInstance(actorSystem, streamingActor, streamingConfig, pubSubMediator)
                                 .withProxyActor(proxyActor)
-                                .withSignalEnrichmentProvider(signalEnrichmentProvider))
+                                .withSignalEnrichmentProvider(signalEnrichmentProvider)
+                                .withRateLimiter(rateLimiter))
                 .thingsRoute(new ThingsRoute(routeBaseProperties,
                         gatewayConfig.getMessageConfig(),
                         gatewayConfig.getClaimMessageConfig()))
@@ -266,9 +272,12 @@ public final class GatewayRootActor extends DittoRootActor {
                 .thingSearchRoute(new ThingSearchRoute(routeBaseProperties))
                 .whoamiRoute(new WhoamiRoute(routeBaseProperties))
                 .cloudEventsRoute(new CloudEventsRoute(routeBaseProperties, gatewayConfig.getCloudEventsConfig()))
+                .batchRoute(new BatchRoute(routeBaseProperties, gatewayConfig.getBatchConfig(),
+                        protocolAdapterProvider))
                 .websocketRoute(WebSocketRoute.getInstance(actorSystem, streamingActor, streamingConfig, materializer)
                         .withSignalEnrichmentProvider(signalEnrichmentProvider)
-                        .withHeaderTranslator(headerTranslator))
+                        .withHeaderTranslator(headerTranslator)
+                        .withRateLimiter(rateLimiter))
                 .supportedSchemaVersions(httpConfig.getSupportedSchemaVersions())
                 .protocolAdapterProvider(protocolAdapterProvider)
                 .headerTranslator(headerTranslator)
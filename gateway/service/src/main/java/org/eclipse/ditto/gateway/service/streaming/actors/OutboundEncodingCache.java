@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.streaming.actors;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Cache of the outbound encodings of signals which are published to many streaming sessions of this gateway.
+ * <p>
+ * Pub/sub delivers the same signal instance to all local streaming sessions. The first session encodes the signal,
+ * all further sessions with the same {@link EncodingKey} reuse the immutable result, so that the cost of broadcasting
+ * an event scales with the number of distinct encodings instead of the number of sessions.
+ * <p>
+ * Signals are held by weak references and compared by identity: the cache never keeps a signal alive and never
+ * computes the hash code of a signal.
+ */
+@ThreadSafe
+public final class OutboundEncodingCache {
+
+    private static final int MAXIMUM_SIZE = 10_000;
+
+    private static final OutboundEncodingCache INSTANCE = new OutboundEncodingCache(MAXIMUM_SIZE);
+
+    private static final Counter HITS = DittoMetrics.counter("gateway_outbound_encoding_cache")
+            .tag("result", "hit");
+    private static final Counter MISSES = DittoMetrics.counter("gateway_outbound_encoding_cache")
+            .tag("result", "miss");
+
+    private final Cache<Object, Map<EncodingKey, Object>> encodings;
+
+    private OutboundEncodingCache(final int maximumSize) {
+        encodings = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * Returns the cache shared by all streaming sessions of this gateway.
+     *
+     * @return the cache.
+     */
+    public static OutboundEncodingCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the encoding of a signal for an encoding key, computing it if no session encoded the same signal instance
+     * with the same key yet. The encoder must be a pure function of the signal and the key; per-session parts like
+     * enriched extra fields must not be encoded via this cache.
+     *
+     * @param signal the signal instance as published to the streaming sessions.
+     * @param key what determines the encoding besides the signal.
+     * @param encoder computes the encoding.
+     * @param <T> type of the encoding, determined by the variant of the key.
+     * @return the encoding.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOrEncode(final Object signal, final EncodingKey key, final Supplier<T> encoder) {
+        final Map<EncodingKey, Object> encodingsOfSignal =
+                encodings.get(signal, unused -> new ConcurrentHashMap<>());
+        final Object cached = encodingsOfSignal.get(key);
+        if (cached != null) {
+            HITS.increment();
+            return (T) cached;
+        }
+        return (T) encodingsOfSignal.computeIfAbsent(key, k -> {
+            MISSES.increment();
+            return encoder.get();
+        });
+    }
+
+    /**
+     * Creates a key for an encoding.
+     *
+     * @param variant the kind of encoding, e.g. Ditto Protocol JSON for WebSocket or Thing JSON for SSE; encodings of
+     * different variants may have different types.
+     * @param protocolAdapter the protocol adapter used for encoding or {@code null} if none is used.
+     * @param schemaVersion the schema version of the session.
+     * @param selector what selects the part of the signal to encode or {@code null} if the whole signal is encoded.
+     * @return the key.
+     */
+    public static EncodingKey key(final String variant,
+            @Nullable final Object protocolAdapter,
+            final JsonSchemaVersion schemaVersion,
+            @Nullable final Object selector) {
+
+        return new EncodingKey(variant, protocolAdapter, schemaVersion, selector);
+    }
+
+    /**
+     * Everything which determines the encoding of a signal besides the signal itself. Protocol adapters are compared
+     * by identity, since the gateway uses one instance per variant.
+     */
+    public static final class EncodingKey {
+
+        private final String variant;
+        @Nullable private final Object protocolAdapter;
+        private final JsonSchemaVersion schemaVersion;
+        @Nullable private final Object selector;
+
+        private EncodingKey(final String variant,
+                @Nullable final Object protocolAdapter,
+                final JsonSchemaVersion schemaVersion,
+                @Nullable final Object selector) {
+
+            this.variant = variant;
+            this.protocolAdapter = protocolAdapter;
+            this.schemaVersion = schemaVersion;
+            this.selector = selector;
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final EncodingKey that = (EncodingKey) o;
+            return variant.equals(that.variant) &&
+                    protocolAdapter == that.protocolAdapter &&
+                    schemaVersion == that.schemaVersion &&
+                    Objects.equals(selector, that.selector);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(variant, System.identityHashCode(protocolAdapter), schemaVersion, selector);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "variant=" + variant +
+                    ", protocolAdapter=" + protocolAdapter +
+                    ", schemaVersion=" + schemaVersion +
+                    ", selector=" + selector +
+                    "]";
+        }
+
+    }
+
+}
@@ -92,12 +92,13 @@ public interface SessionedJsonifiable {
                 )
                 .tag(SpanTagKey.SIGNAL_TYPE.getTagForValue(signal.getType()))
                 .start();
-        return new SessionedSignal(
-                signal.setDittoHeaders(DittoHeaders.of(startedSpan.propagateContext(signal.getDittoHeaders()))),
-                sessionHeaders,
-                session,
-                startedSpan
-        );
+        final var headersWithSpanContext = startedSpan.propagateContext(signal.getDittoHeaders());
+
+        // keep the signal instance as published to all sessions if possible, so that its encoding can be shared
+        final Signal<?> sessionSignal = headersWithSpanContext == signal.getDittoHeaders()
+                ? signal
+                : signal.setDittoHeaders(DittoHeaders.of(headersWithSpanContext));
+        return new SessionedSignal(sessionSignal, sessionHeaders, session, startedSpan);
     }
 
     /**
@@ -16,17 +16,21 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.base.service.config.DittoServiceConfig;
 import org.eclipse.ditto.base.service.config.limits.LimitsConfig;
+import org.eclipse.ditto.gateway.service.util.config.endpoints.BatchConfig;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.CloudEventsConfig;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.CommandConfig;
+import org.eclipse.ditto.gateway.service.util.config.endpoints.DefaultBatchConfig;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.DefaultClaimMessageConfig;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.DefaultCloudEventsConfig;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.DefaultCommandConfig;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.DefaultMessageConfig;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.DefaultPublicHealthConfig;
+import org.eclipse.ditto.gateway.service.util.config.endpoints.DefaultRateLimitConfig;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.GatewayHttpConfig;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.HttpConfig;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.MessageConfig;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.PublicHealthConfig;
+import org.eclipse.ditto.gateway.service.util.config.endpoints.RateLimitConfig;
 import org.eclipse.ditto.gateway.service.util.config.health.DefaultHealthCheckConfig;
 import org.eclipse.ditto.gateway.service.util.config.health.HealthCheckConfig;
 import org.eclipse.ditto.gateway.service.util.config.security.AuthenticationConfig;
@@ -63,6 +67,8 @@ public final class DittoGatewayConfig implements GatewayConfig, WithConfigPath {
     private final StreamingConfig streamingConfig;
     private final PublicHealthConfig publicHealthConfig;
     private final DefaultCloudEventsConfig cloudEventsConfig;
+    private final RateLimitConfig rateLimitConfig;
+    private final BatchConfig batchConfig;
 
     private DittoGatewayConfig(final ScopedConfig dittoScopedConfig) {
 
@@ -78,6 +84,8 @@ public final class DittoGatewayConfig implements GatewayConfig, WithConfigPath {
         streamingConfig = DefaultStreamingConfig.of(dittoServiceConfig);
         publicHealthConfig = DefaultPublicHealthConfig.of(dittoServiceConfig);
         cloudEventsConfig = DefaultCloudEventsConfig.of(dittoServiceConfig);
+        rateLimitConfig = DefaultRateLimitConfig.of(dittoServiceConfig);
+        batchConfig = DefaultBatchConfig.of(dittoServiceConfig);
     }
 
     /**
@@ -167,6 +175,16 @@ public final class DittoGatewayConfig implements GatewayConfig, WithConfigPath {
         return cloudEventsConfig;
     }
 
+    @Override
+    public RateLimitConfig getRateLimitConfig() {
+        return rateLimitConfig;
+    }
+
+    @Override
+    public BatchConfig getBatchConfig() {
+        return batchConfig;
+    }
+
     /**
      * @return always {@value #CONFIG_PATH}.
      */
@@ -13,11 +13,13 @@
 package org.eclipse.ditto.gateway.service.util.config;
 
 import org.eclipse.ditto.base.service.config.ServiceSpecificConfig;
+import org.eclipse.ditto.gateway.service.util.config.endpoints.BatchConfig;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.CloudEventsConfig;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.CommandConfig;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.HttpConfig;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.MessageConfig;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.PublicHealthConfig;
+import org.eclipse.ditto.gateway.service.util.config.endpoints.RateLimitConfig;
 import org.eclipse.ditto.gateway.service.util.config.health.HealthCheckConfig;
 import org.eclipse.ditto.gateway.service.util.config.security.AuthenticationConfig;
 import org.eclipse.ditto.gateway.service.util.config.security.CachesConfig;
@@ -96,4 +98,18 @@ public interface GatewayConfig extends ServiceSpecificConfig, WithProtocolConfig
      */
     CloudEventsConfig getCloudEventsConfig();
 
+    /**
+     * Returns the configuration of the cluster-wide rate limiting per namespace and subject.
+     *
+     * @return the config.
+     */
+    RateLimitConfig getRateLimitConfig();
+
+    /**
+     * Returns the configuration of the batch endpoint for many Ditto Protocol commands per HTTP request.
+     *
+     * @return the config.
+     */
+    BatchConfig getBatchConfig();
+
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.util.config.endpoints;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the batch endpoint which accepts many Ditto Protocol commands per HTTP request.
+ */
+@Immutable
+public interface BatchConfig {
+
+    /**
+     * Returns the maximum number of commands of one batch request which are dispatched concurrently.
+     *
+     * @return the parallelism.
+     */
+    int getParallelism();
+
+    /**
+     * Returns the maximum number of commands which are accepted in one batch request.
+     *
+     * @return the maximum number of commands.
+     */
+    int getMaxCommands();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code BatchConfig}.
+     */
+    enum BatchConfigValue implements KnownConfigValue {
+
+        /**
+         * The maximum number of commands of one batch request which are dispatched concurrently.
+         */
+        PARALLELISM("parallelism", 16),
+
+        /**
+         * The maximum number of commands accepted in one batch request.
+         */
+        MAX_COMMANDS("max-commands", 1000);
+
+        private final String path;
+        private final Object defaultValue;
+
+        BatchConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.util.config.endpoints;
+
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * Default implementation of {@link BatchConfig}.
+ */
+@Immutable
+public final class DefaultBatchConfig implements BatchConfig {
+
+    private static final String CONFIG_PATH = "batch";
+
+    private final int parallelism;
+    private final int maxCommands;
+
+    private DefaultBatchConfig(final ScopedConfig scopedConfig) {
+        parallelism = scopedConfig.getPositiveIntOrThrow(BatchConfigValue.PARALLELISM);
+        maxCommands = scopedConfig.getPositiveIntOrThrow(BatchConfigValue.MAX_COMMANDS);
+    }
+
+    /**
+     * Returns an instance of {@code DefaultBatchConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the batch config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultBatchConfig of(final Config config) {
+        return new DefaultBatchConfig(ConfigWithFallback.newInstance(config, CONFIG_PATH, BatchConfigValue.values()));
+    }
+
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public int getMaxCommands() {
+        return maxCommands;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultBatchConfig that = (DefaultBatchConfig) o;
+        return parallelism == that.parallelism &&
+                maxCommands == that.maxCommands;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(parallelism, maxCommands);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "parallelism=" + parallelism +
+                ", maxCommands=" + maxCommands +
+                "]";
+    }
+
+}
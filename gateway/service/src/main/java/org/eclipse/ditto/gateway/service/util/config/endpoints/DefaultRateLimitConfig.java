@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.util.config.endpoints;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * Default implementation of {@link RateLimitConfig}.
+ */
+@Immutable
+public final class DefaultRateLimitConfig implements RateLimitConfig {
+
+    private static final String CONFIG_PATH = "rate-limit";
+
+    private final boolean enabled;
+    private final Duration interval;
+    private final int namespaceLimit;
+    private final int subjectLimit;
+    private final Duration reconcileInterval;
+    private final Duration idleTimeout;
+
+    private DefaultRateLimitConfig(final ScopedConfig scopedConfig) {
+        enabled = scopedConfig.getBoolean(RateLimitConfigValue.ENABLED.getConfigPath());
+        interval = scopedConfig.getNonNegativeAndNonZeroDurationOrThrow(RateLimitConfigValue.INTERVAL);
+        namespaceLimit = scopedConfig.getNonNegativeIntOrThrow(RateLimitConfigValue.NAMESPACE_LIMIT);
+        subjectLimit = scopedConfig.getNonNegativeIntOrThrow(RateLimitConfigValue.SUBJECT_LIMIT);
+        reconcileInterval =
+                scopedConfig.getNonNegativeAndNonZeroDurationOrThrow(RateLimitConfigValue.RECONCILE_INTERVAL);
+        idleTimeout = scopedConfig.getNonNegativeAndNonZeroDurationOrThrow(RateLimitConfigValue.IDLE_TIMEOUT);
+    }
+
+    /**
+     * Returns an instance of {@code DefaultRateLimitConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the rate limit config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultRateLimitConfig of(final Config config) {
+        return new DefaultRateLimitConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, RateLimitConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public Duration getInterval() {
+        return interval;
+    }
+
+    @Override
+    public int getNamespaceLimit() {
+        return namespaceLimit;
+    }
+
+    @Override
+    public int getSubjectLimit() {
+        return subjectLimit;
+    }
+
+    @Override
+    public Duration getReconcileInterval() {
+        return reconcileInterval;
+    }
+
+    @Override
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultRateLimitConfig that = (DefaultRateLimitConfig) o;
+        return enabled == that.enabled &&
+                namespaceLimit == that.namespaceLimit &&
+                subjectLimit == that.subjectLimit &&
+                Objects.equals(interval, that.interval) &&
+                Objects.equals(reconcileInterval, that.reconcileInterval) &&
+                Objects.equals(idleTimeout, that.idleTimeout);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, interval, namespaceLimit, subjectLimit, reconcileInterval, idleTimeout);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", interval=" + interval +
+                ", namespaceLimit=" + namespaceLimit +
+                ", subjectLimit=" + subjectLimit +
+                ", reconcileInterval=" + reconcileInterval +
+                ", idleTimeout=" + idleTimeout +
+                "]";
+    }
+
+}
@@ -53,6 +53,7 @@ public final class GatewayHttpConfig implements HttpConfig {
     private final Duration requestTimeout;
     private final Set<HeaderDefinition> queryParamsAsHeaders;
     private final Set<String> additionalAcceptedMediaTypes;
+    private final boolean actorlessQueryCommandsEnabled;
     private final Duration coordinatedShutdownTimeout;
 
     private GatewayHttpConfig(final DefaultHttpConfig basicHttpConfig, final ScopedConfig scopedConfig) {
@@ -70,6 +71,8 @@ public final class GatewayHttpConfig implements HttpConfig {
         additionalAcceptedMediaTypes =
                 Set.of(scopedConfig.getString(GatewayHttpConfigValue.ADDITIONAL_ACCEPTED_MEDIA_TYPES.getConfigPath())
                         .split(","));
+        actorlessQueryCommandsEnabled =
+                scopedConfig.getBoolean(GatewayHttpConfigValue.ACTORLESS_QUERY_COMMANDS.getConfigPath());
     }
 
     private static List<String> readProtocolHeaders(final ScopedConfig scopedConfig) {
@@ -212,6 +215,11 @@ public final class GatewayHttpConfig implements HttpConfig {
         return additionalAcceptedMediaTypes;
     }
 
+    @Override
+    public boolean isActorlessQueryCommandsEnabled() {
+        return actorlessQueryCommandsEnabled;
+    }
+
     @SuppressWarnings("OverlyComplexMethod")
     @Override
     public boolean equals(final Object o) {
@@ -228,6 +236,7 @@ public final class GatewayHttpConfig implements HttpConfig {
                 forceHttps == that.forceHttps &&
                 redirectToHttps == that.redirectToHttps &&
                 enableCors == that.enableCors &&
+                actorlessQueryCommandsEnabled == that.actorlessQueryCommandsEnabled &&
                 hostname.equals(that.hostname) &&
                 schemaVersions.equals(that.schemaVersions) &&
                 redirectToHttpsBlocklistPattern.equals(that.redirectToHttpsBlocklistPattern) &&
@@ -240,7 +249,7 @@ public final class GatewayHttpConfig implements HttpConfig {
     public int hashCode() {
         return Objects.hash(hostname, port, coordinatedShutdownTimeout, schemaVersions, protocolHeaders, forceHttps,
                 redirectToHttps, redirectToHttpsBlocklistPattern, enableCors, requestTimeout,
-                queryParamsAsHeaders, additionalAcceptedMediaTypes);
+                queryParamsAsHeaders, additionalAcceptedMediaTypes, actorlessQueryCommandsEnabled);
     }
 
     @Override
@@ -258,6 +267,7 @@ public final class GatewayHttpConfig implements HttpConfig {
                 ", requestTimeout=" + requestTimeout +
                 ", queryParamsAsHeaders=" + queryParamsAsHeaders +
                 ", additionalAcceptedMediaTypes=" + additionalAcceptedMediaTypes +
+                ", actorlessQueryCommandsEnabled=" + actorlessQueryCommandsEnabled +
                 "]";
     }
 
@@ -102,6 +102,14 @@ public interface HttpConfig extends org.eclipse.ditto.base.service.config.http.H
      */
     Set<String> getAdditionalAcceptedMediaTypes();
 
+    /**
+     * Indicates whether query commands which neither request acknowledgements nor target the live channel should be
+     * answered by asking the proxy actor directly instead of creating an HTTP request actor per request.
+     *
+     * @return {@code true} if the actor-less handling of query commands is enabled, {@code false} else.
+     */
+    boolean isActorlessQueryCommandsEnabled();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code HttpConfig}.
@@ -174,7 +182,13 @@ public interface HttpConfig extends org.eclipse.ditto.base.service.config.http.H
          * @since 1.1.0
          */
         ADDITIONAL_ACCEPTED_MEDIA_TYPES("additional-accepted-media-types",
-                MediaTypes.APPLICATION_OCTET_STREAM.toString());
+                MediaTypes.APPLICATION_OCTET_STREAM.toString()),
+
+        /**
+         * Determines whether query commands which neither request acknowledgements nor target the live channel should
+         * be answered without creating an HTTP request actor per request.
+         */
+        ACTORLESS_QUERY_COMMANDS("actorless-query-commands", true);
 
         private final String path;
         private final Object defaultValue;
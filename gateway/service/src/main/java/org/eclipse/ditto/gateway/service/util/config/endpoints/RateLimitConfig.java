@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.util.config.endpoints;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the cluster-wide rate limiting of signals per namespace and per authorization
+ * subject, which applies to HTTP, WebSocket and SSE alike.
+ */
+@Immutable
+public interface RateLimitConfig {
+
+    /**
+     * Indicates whether the cluster-wide rate limiting is enabled.
+     *
+     * @return {@code true} if rate limiting is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the interval in which the limits apply.
+     *
+     * @return the interval.
+     */
+    Duration getInterval();
+
+    /**
+     * Returns the maximum number of signals per namespace and interval in the whole cluster, or 0 if signals are not
+     * limited per namespace.
+     *
+     * @return the limit per namespace.
+     */
+    int getNamespaceLimit();
+
+    /**
+     * Returns the maximum number of signals per authorization subject and interval in the whole cluster, or 0 if
+     * signals are not limited per subject.
+     *
+     * @return the limit per subject.
+     */
+    int getSubjectLimit();
+
+    /**
+     * Returns the interval in which each gateway instance publishes its consumption to the other instances and
+     * reconciles its buckets with theirs. Bounds the error of the cluster-wide limit.
+     *
+     * @return the reconcile interval.
+     */
+    Duration getReconcileInterval();
+
+    /**
+     * Returns how long a bucket may stay unused before it is removed.
+     *
+     * @return the idle timeout.
+     */
+    Duration getIdleTimeout();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code RateLimitConfig}.
+     */
+    enum RateLimitConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the cluster-wide rate limiting is enabled.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The interval in which the limits apply.
+         */
+        INTERVAL("interval", "1s"),
+
+        /**
+         * The maximum number of signals per namespace and interval, 0 for no limit.
+         */
+        NAMESPACE_LIMIT("namespace-limit", 0),
+
+        /**
+         * The maximum number of signals per authorization subject and interval, 0 for no limit.
+         */
+        SUBJECT_LIMIT("subject-limit", 0),
+
+        /**
+         * The interval in which the consumption is reconciled between gateway instances.
+         */
+        RECONCILE_INTERVAL("reconcile-interval", "1s"),
+
+        /**
+         * How long a bucket may stay unused before it is removed.
+         */
+        IDLE_TIMEOUT("idle-timeout", "5m");
+
+        private final String path;
+        private final Object defaultValue;
+
+        RateLimitConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -37,19 +37,24 @@ import org.eclipse.ditto.base.model.signals.commands.CommandResponse;
 import org.eclipse.ditto.base.service.config.http.DefaultHttpProxyConfig;
 import org.eclipse.ditto.gateway.service.endpoints.routes.RootRouteExceptionHandler;
 import org.eclipse.ditto.gateway.service.endpoints.routes.RouteBaseProperties;
+import org.eclipse.ditto.gateway.service.endpoints.utils.ClusterRateLimiter;
 import org.eclipse.ditto.gateway.service.security.authentication.jwt.JwtAuthenticationFactory;
 import org.eclipse.ditto.gateway.service.security.authentication.jwt.JwtAuthorizationSubjectsProvider;
+import org.eclipse.ditto.gateway.service.util.config.endpoints.BatchConfig;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.CloudEventsConfig;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.CommandConfig;
+import org.eclipse.ditto.gateway.service.util.config.endpoints.DefaultBatchConfig;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.DefaultClaimMessageConfig;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.DefaultCloudEventsConfig;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.DefaultCommandConfig;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.DefaultMessageConfig;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.DefaultPublicHealthConfig;
+import org.eclipse.ditto.gateway.service.util.config.endpoints.DefaultRateLimitConfig;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.GatewayHttpConfig;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.HttpConfig;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.MessageConfig;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.PublicHealthConfig;
+import org.eclipse.ditto.gateway.service.util.config.endpoints.RateLimitConfig;
 import org.eclipse.ditto.gateway.service.util.config.health.DefaultHealthCheckConfig;
 import org.eclipse.ditto.gateway.service.util.config.health.HealthCheckConfig;
 import org.eclipse.ditto.gateway.service.util.config.security.AuthenticationConfig;
@@ -114,6 +119,7 @@ public abstract class EndpointTestBase extends JUnitRouteTest {
     protected static PublicHealthConfig publicHealthConfig;
     protected static ProtocolConfig protocolConfig;
     protected static CloudEventsConfig cloudEventsConfig;
+    protected static BatchConfig batchConfig;
     protected static JwtAuthenticationFactory jwtAuthenticationFactory;
     protected static HttpClientFacade httpClientFacade;
     protected static JwtAuthorizationSubjectsProvider authorizationSubjectsProvider;
@@ -142,6 +148,7 @@ public abstract class EndpointTestBase extends JUnitRouteTest {
         publicHealthConfig = DefaultPublicHealthConfig.of(gatewayScopedConfig);
         protocolConfig = DefaultProtocolConfig.of(dittoScopedConfig);
         cloudEventsConfig = DefaultCloudEventsConfig.of(gatewayScopedConfig);
+        batchConfig = DefaultBatchConfig.of(gatewayScopedConfig);
         httpClientFacade =
                 DefaultHttpClientFacade.getInstance(actorSystem,
                         DefaultHttpProxyConfig.ofProxy(DefaultScopedConfig.empty("/")));
@@ -186,6 +193,38 @@ public abstract class EndpointTestBase extends JUnitRouteTest {
         return ConfigFactory.load("test.conf");
     }
 
+    /**
+     * Constructs a test config object in which the cluster rate limiter admits one signal per namespace and hour.
+     *
+     * @return a Config object
+     */
+    protected static Config createRateLimitTestConfig() {
+        return ConfigFactory.parseString("""
+                        akka.cluster.roles = ["rate-limit-aware"]
+                        rate-limit-dispatcher.type = Dispatcher
+                        ditto.gateway.rate-limit {
+                          enabled = true
+                          interval = 1h
+                          namespace-limit = 1
+                          subject-limit = 0
+                          reconcile-interval = 1h
+                        }
+                        """)
+                .withFallback(createTestConfig());
+    }
+
+    /**
+     * Returns the cluster rate limiter of the test actor system, which must be configured by
+     * {@link #createRateLimitTestConfig()}.
+     *
+     * @return the rate limiter.
+     */
+    protected ClusterRateLimiter getClusterRateLimiter() {
+        final RateLimitConfig rateLimitConfig =
+                DefaultRateLimitConfig.of(system().settings().config().getConfig("ditto.gateway"));
+        return ClusterRateLimiter.get(system(), rateLimitConfig).orElseThrow();
+    }
+
     /**
      * Creates a actor which creates a dummy response message as response to all received messages.
      *
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.acks.AcknowledgementRequest;
+import org.eclipse.ditto.base.model.acks.DittoAcknowledgementLabel;
+import org.eclipse.ditto.gateway.service.endpoints.routes.whoami.Whoami;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingNotAccessibleException;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttribute;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+import akka.http.javadsl.model.HttpRequest;
+import akka.http.javadsl.model.HttpResponse;
+import akka.http.javadsl.model.StatusCodes;
+
+/**
+ * Unit test for {@link ActorlessQueryCommandHandler}.
+ */
+public final class ActorlessQueryCommandHandlerTest extends AbstractHttpRequestActorTest {
+
+    @Test
+    public void queryCommandIsApplicable() {
+        final var retrieveThing = RetrieveThing.of(ThingId.generateRandom(), createAuthorizedHeaders());
+
+        assertThat(ActorlessQueryCommandHandler.isApplicable(retrieveThing)).isTrue();
+    }
+
+    @Test
+    public void modifyCommandIsNotApplicable() {
+        final var modifyAttribute = ModifyAttribute.of(ThingId.generateRandom(), JsonPointer.of("foo"),
+                JsonValue.of("bar"), createAuthorizedHeaders());
+
+        assertThat(ActorlessQueryCommandHandler.isApplicable(modifyAttribute)).isFalse();
+    }
+
+    @Test
+    public void whoamiIsNotApplicable() {
+        assertThat(ActorlessQueryCommandHandler.isApplicable(Whoami.of(createAuthorizedHeaders()))).isFalse();
+    }
+
+    @Test
+    public void queryCommandsWithSpecialHeadersAreNotApplicable() {
+        final var thingId = ThingId.generateRandom();
+        final var headers = createAuthorizedHeaders();
+
+        assertThat(ActorlessQueryCommandHandler.isApplicable(RetrieveThing.of(thingId,
+                headers.toBuilder().channel("live").build()))).isFalse();
+        assertThat(ActorlessQueryCommandHandler.isApplicable(RetrieveThing.of(thingId,
+                headers.toBuilder().liveChannelCondition("exists(attributes/foo)").build()))).isFalse();
+        assertThat(ActorlessQueryCommandHandler.isApplicable(RetrieveThing.of(thingId,
+                headers.toBuilder().responseRequired(false).build()))).isFalse();
+        assertThat(ActorlessQueryCommandHandler.isApplicable(RetrieveThing.of(thingId,
+                headers.toBuilder().timeout(Duration.ZERO).build()))).isFalse();
+        assertThat(ActorlessQueryCommandHandler.isApplicable(RetrieveThing.of(thingId,
+                headers.toBuilder()
+                        .acknowledgementRequest(AcknowledgementRequest.of(DittoAcknowledgementLabel.TWIN_PERSISTED))
+                        .build()))).isFalse();
+    }
+
+    @Test
+    public void rendersResponseLikeHttpRequestActor() throws Exception {
+        final var thingId = ThingId.generateRandom();
+        final var retrieveThing = RetrieveThing.of(thingId, createAuthorizedHeaders());
+        final var retrieveThingResponse = RetrieveThingResponse.of(thingId,
+                JsonObject.newBuilder().set("thingId", thingId.toString()).build(),
+                retrieveThing.getDittoHeaders());
+
+        final var expected = getHttpRequestActorResponse(retrieveThing, retrieveThingResponse);
+        final var actual = getActorlessResponse(retrieveThing, retrieveThingResponse);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.status()).isEqualTo(StatusCodes.OK);
+    }
+
+    @Test
+    public void rendersExceptionLikeHttpRequestActor() throws Exception {
+        final var thingId = ThingId.generateRandom();
+        final var retrieveThing = RetrieveThing.of(thingId, createAuthorizedHeaders());
+        final var thingNotAccessible = ThingNotAccessibleException.newBuilder(thingId)
+                .dittoHeaders(retrieveThing.getDittoHeaders())
+                .build();
+
+        final var expected = getHttpRequestActorResponse(retrieveThing, thingNotAccessible);
+        final var actual = getActorlessResponse(retrieveThing, thingNotAccessible);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.status()).isEqualTo(StatusCodes.NOT_FOUND);
+    }
+
+    @Test
+    public void respondsWithRequestTimeoutIfProxyActorDoesNotAnswer() throws Exception {
+        final var retrieveThing = RetrieveThing.of(ThingId.generateRandom(), createAuthorizedHeaders().toBuilder()
+                .timeout(Duration.ofMillis(200))
+                .build());
+        final var proxyActorProbe = ACTOR_SYSTEM_RESOURCE.newTestProbe();
+        final var underTest = ActorlessQueryCommandHandler.of(proxyActorProbe.ref(), HEADER_TRANSLATOR,
+                gatewayConfig.getCommandConfig(), ACTOR_SYSTEM_RESOURCE.getActorSystem());
+
+        final var responseFuture = underTest.handle(retrieveThing).toCompletableFuture();
+        proxyActorProbe.expectMsg(retrieveThing);
+
+        assertThat(responseFuture.get(10, TimeUnit.SECONDS).status()).isEqualTo(StatusCodes.REQUEST_TIMEOUT);
+    }
+
+    @Test
+    public void coordinatedShutdownWaitsForPendingResponses() throws Exception {
+        final var thingId = ThingId.generateRandom();
+        final var retrieveThing = RetrieveThing.of(thingId, createAuthorizedHeaders());
+        final var proxyActorProbe = ACTOR_SYSTEM_RESOURCE.newTestProbe();
+        final var underTest = ActorlessQueryCommandHandler.of(proxyActorProbe.ref(), HEADER_TRANSLATOR,
+                gatewayConfig.getCommandConfig(), ACTOR_SYSTEM_RESOURCE.getActorSystem());
+
+        final var responseFuture = underTest.handle(retrieveThing).toCompletableFuture();
+        proxyActorProbe.expectMsg(retrieveThing);
+        final var serviceRequestsDone = underTest.awaitPendingResponses().toCompletableFuture();
+
+        assertThat(serviceRequestsDone).isNotDone();
+        proxyActorProbe.reply(RetrieveThingResponse.of(thingId, JsonObject.empty(), retrieveThing.getDittoHeaders()));
+        serviceRequestsDone.get(10, TimeUnit.SECONDS);
+        assertThat(responseFuture).isDone();
+    }
+
+    private HttpResponse getActorlessResponse(final RetrieveThing retrieveThing, final Object proxyResponse)
+            throws Exception {
+
+        final var proxyActorProbe = ACTOR_SYSTEM_RESOURCE.newTestProbe();
+        final var underTest = ActorlessQueryCommandHandler.of(proxyActorProbe.ref(), HEADER_TRANSLATOR,
+                gatewayConfig.getCommandConfig(), ACTOR_SYSTEM_RESOURCE.getActorSystem());
+
+        final var responseFuture = underTest.handle(retrieveThing).toCompletableFuture();
+        proxyActorProbe.expectMsg(retrieveThing);
+        proxyActorProbe.reply(proxyResponse);
+
+        return responseFuture.get(10, TimeUnit.SECONDS);
+    }
+
+    private HttpResponse getHttpRequestActorResponse(final RetrieveThing retrieveThing, final Object proxyResponse)
+            throws Exception {
+
+        final var proxyActorProbe = ACTOR_SYSTEM_RESOURCE.newTestProbe();
+        final var responseFuture = new CompletableFuture<HttpResponse>();
+        final var httpRequestActor = createHttpRequestActor(proxyActorProbe.ref(),
+                HttpRequest.GET("/api/2/things/" + retrieveThing.getEntityId()), responseFuture);
+
+        httpRequestActor.tell(retrieveThing, ActorRef.noSender());
+        proxyActorProbe.expectMsg(retrieveThing);
+        proxyActorProbe.reply(proxyResponse);
+
+        return responseFuture.get(10, TimeUnit.SECONDS);
+    }
+
+}
@@ -35,6 +35,7 @@ import org.eclipse.ditto.gateway.service.endpoints.EndpointTestConstants;
 import org.eclipse.ditto.gateway.service.endpoints.directives.auth.DevopsAuthenticationDirectiveFactory;
 import org.eclipse.ditto.gateway.service.endpoints.directives.auth.DittoGatewayAuthenticationDirectiveFactory;
 import org.eclipse.ditto.gateway.service.endpoints.directives.auth.GatewayAuthenticationDirectiveFactory;
+import org.eclipse.ditto.gateway.service.endpoints.routes.batch.BatchRoute;
 import org.eclipse.ditto.gateway.service.endpoints.routes.cloudevents.CloudEventsRoute;
 import org.eclipse.ditto.gateway.service.endpoints.routes.connections.ConnectionsRoute;
 import org.eclipse.ditto.gateway.service.endpoints.routes.devops.DevOpsRoute;
@@ -164,6 +165,8 @@ public final class RootRouteTest extends EndpointTestBase {
                 .thingSearchRoute(new ThingSearchRoute(routeBaseProperties))
                 .whoamiRoute(new WhoamiRoute(routeBaseProperties))
                 .cloudEventsRoute(new CloudEventsRoute(routeBaseProperties, cloudEventsConfig))
+                .batchRoute(new BatchRoute(routeBaseProperties, batchConfig,
+                        ProtocolAdapterProvider.load(protocolConfig, routeBaseProperties.getActorSystem())))
                 .websocketRoute(WebSocketRoute.getInstance(routeBaseProperties.getActorSystem(),
                         routeBaseProperties.getProxyActor(),
                         streamingConfig,
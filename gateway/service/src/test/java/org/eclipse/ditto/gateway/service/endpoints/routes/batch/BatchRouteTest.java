@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.routes.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.base.model.common.HttpStatus;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.Jsonifiable;
+import org.eclipse.ditto.gateway.service.endpoints.EndpointTestBase;
+import org.eclipse.ditto.gateway.service.util.config.endpoints.DefaultBatchConfig;
+import org.eclipse.ditto.internal.utils.protocol.ProtocolAdapterProvider;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.http.javadsl.model.HttpRequest;
+import akka.http.javadsl.model.StatusCodes;
+import akka.http.javadsl.server.Route;
+import akka.http.javadsl.testkit.TestRoute;
+
+/**
+ * Unit test for {@link BatchRoute}.
+ */
+public final class BatchRouteTest extends EndpointTestBase {
+
+    private static final JsonPointer STATUS = JsonPointer.of("status");
+    private static final JsonPointer CORRELATION_ID = JsonPointer.of("headers/correlation-id");
+
+    private TestRoute underTest;
+
+    @Before
+    public void setUp() {
+        final DittoHeaders authorizedHeaders = dittoHeaders.toBuilder()
+                .authorizationContext(AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                        AuthorizationSubject.newInstance("test:batch-user")))
+                .build();
+        final var batchRoute = new BatchRoute(routeBaseProperties,
+                DefaultBatchConfig.of(ConfigFactory.load("batch-test")),
+                ProtocolAdapterProvider.load(protocolConfig, system()));
+        final Route route = extractRequestContext(ctx -> handleExceptions(() ->
+                batchRoute.buildBatchRoute(ctx, authorizedHeaders)));
+        underTest = testRoute(route);
+    }
+
+    @Override
+    protected Function<Jsonifiable<?>, Optional<Object>> getResponseProvider() {
+        return message -> {
+            if (message instanceof RetrieveThing retrieveThing) {
+                return Optional.of(RetrieveThingResponse.of(retrieveThing.getEntityId(),
+                        JsonObject.newBuilder().set("thingId", retrieveThing.getEntityId().toString()).build(),
+                        retrieveThing.getDittoHeaders()));
+            }
+            return Optional.empty();
+        };
+    }
+
+    @Test
+    public void answersEachNdjsonLineWithItsResponse() {
+        final String body = retrieveThing("thing-1", "c1") + "\n\n" + retrieveThing("thing-2", "c2") + "\n";
+
+        final var result = underTest.run(HttpRequest.POST("/batch").withEntity(body));
+
+        result.assertStatusCode(StatusCodes.OK);
+        final List<JsonObject> responses = parseLines(result.entityString());
+        assertThat(responses).hasSize(2);
+        assertThat(responses).allSatisfy(response ->
+                assertThat(response.getValue(STATUS).orElseThrow().asInt()).isEqualTo(HttpStatus.OK.getCode()));
+        assertThat(responses.stream().map(response -> response.getValue(CORRELATION_ID).orElseThrow().asString()))
+                .containsExactly("c1", "c2");
+    }
+
+    @Test
+    public void acceptsJsonArrayAndGeneratesMissingCorrelationIds() {
+        final String body = "[" + retrieveThing("thing-1", null) + "," + retrieveThing("thing-2", null) + "]";
+
+        final var result = underTest.run(HttpRequest.POST("/batch").withEntity(body));
+
+        result.assertStatusCode(StatusCodes.OK);
+        final String batchCorrelationId = dittoHeaders.getCorrelationId().orElseThrow();
+        assertThat(parseLines(result.entityString()).stream()
+                .map(response -> response.getValue(CORRELATION_ID).orElseThrow().asString()))
+                .containsExactly(batchCorrelationId + "-0", batchCorrelationId + "-1");
+    }
+
+    @Test
+    public void answersInvalidLinesWithErrorResponses() {
+        final String liveCommand = "{\"topic\":\"org.eclipse.ditto/thing-1/things/live/commands/retrieve\"," +
+                "\"path\":\"/\",\"headers\":{\"correlation-id\":\"live\"}}";
+        final String body = liveCommand + "\n" + "{\"no-protocol-message\":true}";
+
+        final var result = underTest.run(HttpRequest.POST("/batch").withEntity(body));
+
+        result.assertStatusCode(StatusCodes.OK);
+        final List<JsonObject> responses = parseLines(result.entityString());
+        assertThat(responses).hasSize(2);
+        assertThat(responses).allSatisfy(response -> assertThat(response.getValue(STATUS).orElseThrow().asInt())
+                .isEqualTo(HttpStatus.BAD_REQUEST.getCode()));
+    }
+
+    @Test
+    public void rejectsTooManyCommands() {
+        final String body = IntStream.range(0, 51)
+                .mapToObj(i -> retrieveThing("thing-" + i, null))
+                .collect(Collectors.joining("\n"));
+
+        final var result = underTest.run(HttpRequest.POST("/batch").withEntity(body));
+
+        result.assertStatusCode(StatusCodes.PAYLOAD_TOO_LARGE);
+    }
+
+    private static String retrieveThing(final String thingName, @Nullable final String correlationId) {
+        final String headers = null != correlationId ? "{\"correlation-id\":\"" + correlationId + "\"}" : "{}";
+        return "{\"topic\":\"org.eclipse.ditto/" + thingName + "/things/twin/commands/retrieve\"," +
+                "\"path\":\"/\",\"headers\":" + headers + "}";
+    }
+
+    private static List<JsonObject> parseLines(final String ndjson) {
+        return Arrays.stream(ndjson.split("\n"))
+                .filter(line -> !line.isBlank())
+                .map(JsonObject::of)
+                .collect(Collectors.toList());
+    }
+
+}
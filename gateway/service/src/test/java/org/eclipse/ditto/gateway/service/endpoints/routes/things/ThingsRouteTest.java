@@ -14,21 +14,30 @@ package org.eclipse.ditto.gateway.service.endpoints.routes.things;
 
 import static org.eclipse.ditto.json.assertions.DittoJsonAssertions.assertThat;
 
+import org.eclipse.ditto.base.model.exceptions.TooManyRequestsException;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.gateway.service.endpoints.EndpointTestBase;
 import org.eclipse.ditto.gateway.service.endpoints.EndpointTestConstants;
+import org.eclipse.ditto.gateway.service.endpoints.routes.RouteBaseProperties;
+import org.eclipse.ditto.gateway.service.util.config.endpoints.GatewayHttpConfig;
+import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.things.model.ThingsModelFactory;
 import org.eclipse.ditto.things.model.signals.commands.exceptions.MissingThingIdsException;
 import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingNotCreatableException;
 import org.eclipse.ditto.things.model.signals.commands.modify.MergeThing;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttribute;
 import org.eclipse.ditto.things.model.signals.commands.modify.ModifyPolicyId;
 import org.eclipse.ditto.things.model.signals.commands.modify.ModifyThingDefinition;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveAttributes;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
 import akka.http.javadsl.model.ContentTypes;
 import akka.http.javadsl.model.HttpEntities;
 import akka.http.javadsl.model.HttpRequest;
@@ -38,6 +47,8 @@ import akka.http.javadsl.model.StatusCodes;
 import akka.http.javadsl.server.Route;
 import akka.http.javadsl.testkit.TestRoute;
 import akka.http.scaladsl.model.HttpEntity;
+import akka.testkit.TestActor;
+import akka.testkit.javadsl.TestKit;
 
 /**
  * Tests {@link ThingsRoute}.
@@ -48,6 +59,11 @@ public final class ThingsRouteTest extends EndpointTestBase {
 
     private TestRoute underTest;
 
+    @Override
+    public Config additionalConfig() {
+        return createRateLimitTestConfig();
+    }
+
     @Before
     public void setUp() {
         thingsRoute = new ThingsRoute(routeBaseProperties, messageConfig, claimMessageConfig);
@@ -62,6 +78,73 @@ public final class ThingsRouteTest extends EndpointTestBase {
         result.assertStatusCode(StatusCodes.OK);
     }
 
+    @Test
+    public void secondRequestToNamespaceIsRejectedByClusterRateLimiter() {
+        final RouteBaseProperties rateLimitedProperties = RouteBaseProperties.newBuilder(routeBaseProperties)
+                .rateLimiter(getClusterRateLimiter())
+                .build();
+        final ThingsRoute rateLimitedThingsRoute = new ThingsRoute(rateLimitedProperties, messageConfig,
+                claimMessageConfig);
+        final TestRoute rateLimitedRoute = testRoute(handleExceptions(() -> extractRequestContext(ctx ->
+                rateLimitedThingsRoute.buildThingsRoute(ctx, dittoHeaders))));
+        final HttpRequest request = HttpRequest.PUT("/things/org.eclipse.ditto.limited%3Adummy")
+                .withEntity(ContentTypes.APPLICATION_JSON, "{\"attributes\": {\"foo\": \"bar\"}}");
+
+        rateLimitedRoute.run(request).assertStatusCode(StatusCodes.OK);
+
+        final var rejected = rateLimitedRoute.run(request);
+        rejected.assertStatusCode(StatusCodes.TOO_MANY_REQUESTS);
+        assertThat(JsonObject.of(rejected.entityString()))
+                .contains(JsonKey.of("error"), TooManyRequestsException.ERROR_CODE);
+    }
+
+    @Test
+    public void queryCommandIsAnsweredWithoutHttpRequestActor() {
+        final TestKit proxyActor = createEchoingProxyActor();
+        final TestRoute route = createThingsRoute(RouteBaseProperties.newBuilder(routeBaseProperties)
+                .proxyActor(proxyActor.getRef())
+                .build());
+
+        route.run(HttpRequest.GET("/things/org.eclipse.ditto%3Adummy/attributes"))
+                .assertStatusCode(EndpointTestConstants.DUMMY_COMMAND_SUCCESS);
+
+        proxyActor.expectMsgClass(RetrieveAttributes.class);
+        assertThat(proxyActor.getLastSender().path().toStringWithoutAddress()).startsWith("/temp/");
+    }
+
+    @Test
+    public void modifyCommandIsHandledByHttpRequestActor() {
+        final TestKit proxyActor = createEchoingProxyActor();
+        final TestRoute route = createThingsRoute(RouteBaseProperties.newBuilder(routeBaseProperties)
+                .proxyActor(proxyActor.getRef())
+                .build());
+
+        route.run(HttpRequest.PUT("/things/org.eclipse.ditto%3Adummy/attributes/foo")
+                        .withEntity(ContentTypes.APPLICATION_JSON, "\"bar\""))
+                .assertStatusCode(EndpointTestConstants.DUMMY_COMMAND_SUCCESS);
+
+        proxyActor.expectMsgClass(ModifyAttribute.class);
+        assertThat(proxyActor.getLastSender().path().toStringWithoutAddress()).startsWith("/user/");
+    }
+
+    @Test
+    public void queryCommandIsHandledByHttpRequestActorIfActorlessQueryCommandsAreDisabled() {
+        final TestKit proxyActor = createEchoingProxyActor();
+        final var gatewayConfig = DefaultScopedConfig.newInstance(DefaultScopedConfig.dittoScoped(
+                ConfigFactory.parseString("ditto.gateway.http.actorless-query-commands = false")
+                        .withFallback(createTestConfig())), "gateway");
+        final TestRoute route = createThingsRoute(RouteBaseProperties.newBuilder(routeBaseProperties)
+                .proxyActor(proxyActor.getRef())
+                .httpConfig(GatewayHttpConfig.of(gatewayConfig))
+                .build());
+
+        route.run(HttpRequest.GET("/things/org.eclipse.ditto%3Adummy/attributes"))
+                .assertStatusCode(EndpointTestConstants.DUMMY_COMMAND_SUCCESS);
+
+        proxyActor.expectMsgClass(RetrieveAttributes.class);
+        assertThat(proxyActor.getLastSender().path().toStringWithoutAddress()).startsWith("/user/");
+    }
+
     @Test
     public void postFeaturesReturnsMethodNotAllowed() {
         final var result = underTest.run(HttpRequest.POST("/things/org.eclipse.ditto%3Adummy/features"));
@@ -272,4 +355,26 @@ public final class ThingsRouteTest extends EndpointTestBase {
         assertThat(JsonObject.of(jsonStringResponse)).contains(JsonKey.of("type"), MergeThing.TYPE);
     }
 
+    private TestRoute createThingsRoute(final RouteBaseProperties properties) {
+        final ThingsRoute route = new ThingsRoute(properties, messageConfig, claimMessageConfig);
+        return testRoute(handleExceptions(() -> extractRequestContext(ctx ->
+                route.buildThingsRoute(ctx, dittoHeaders))));
+    }
+
+    /**
+     * Creates a proxy actor which remembers the senders of the commands it answers with a dummy response.
+     */
+    private TestKit createEchoingProxyActor() {
+        final TestKit proxyActor = new TestKit(system());
+        proxyActor.setAutoPilot(new TestActor.AutoPilot() {
+            @Override
+            public TestActor.AutoPilot run(final ActorRef sender, final Object msg) {
+                DummyThingModifyCommandResponse.echo(msg)
+                        .ifPresent(response -> sender.tell(response, proxyActor.getRef()));
+                return keepRunning();
+            }
+        });
+        return proxyActor;
+    }
+
 }
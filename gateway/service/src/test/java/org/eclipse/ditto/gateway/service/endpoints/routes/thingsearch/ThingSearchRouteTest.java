@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.routes.thingsearch;
+
+import java.util.List;
+
+import org.eclipse.ditto.gateway.service.endpoints.EndpointTestBase;
+import org.eclipse.ditto.gateway.service.endpoints.routes.RouteBaseProperties;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.thingsearch.model.signals.commands.query.AggregateThings;
+import org.eclipse.ditto.thingsearch.model.signals.commands.query.AggregateThingsResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.http.javadsl.model.HttpRequest;
+import akka.http.javadsl.model.StatusCodes;
+import akka.http.javadsl.testkit.TestRoute;
+
+/**
+ * Tests {@link ThingSearchRoute}.
+ */
+public final class ThingSearchRouteTest extends EndpointTestBase {
+
+    private static final String AGGREGATE_PATH = "/search/things/aggregate";
+
+    private TestRoute underTest;
+
+    @Before
+    public void setUp() {
+        // answers with the parameters of the received command as only group
+        final var proxyActor = startEchoActor(AggregateThings.class,
+                aggregateThings -> AggregateThingsResponse.of(JsonArray.of(JsonObject.newBuilder()
+                        .set("filter", aggregateThings.getFilter().orElse(""))
+                        .set("namespaces", aggregateThings.getNamespaces()
+                                .map(namespaces -> JsonArray.of(namespaces.stream().sorted().toList()))
+                                .orElseGet(JsonArray::empty))
+                        .set("groupBy", JsonArray.of(aggregateThings.getGroupBy()))
+                        .set("aggregations", JsonArray.of(aggregateThings.getAggregations()))
+                        .build()), aggregateThings.getDittoHeaders()));
+        final var thingSearchRoute = new ThingSearchRoute(RouteBaseProperties.newBuilder(routeBaseProperties)
+                .proxyActor(proxyActor)
+                .build());
+        underTest = testRoute(extractRequestContext(ctx -> thingSearchRoute.buildSearchRoute(ctx, dittoHeaders)));
+    }
+
+    @Test
+    public void aggregateThingsPassesAllParameters() {
+        final var result = underTest.run(HttpRequest.GET(AGGREGATE_PATH +
+                "?filter=eq(attributes/manufacturer,%22ACME%22)" +
+                "&namespaces=org.eclipse.ditto,com.acme" +
+                "&groupBy=attributes/firmware,%20features/lamp/properties/color" +
+                "&aggregations=count,avg(attributes/battery)"));
+
+        result.assertStatusCode(StatusCodes.OK);
+        result.assertEntity(JsonArray.of(JsonObject.newBuilder()
+                .set("filter", "eq(attributes/manufacturer,\"ACME\")")
+                .set("namespaces", JsonArray.of(List.of("com.acme", "org.eclipse.ditto")))
+                .set("groupBy", JsonArray.of(List.of("attributes/firmware", "features/lamp/properties/color")))
+                .set("aggregations", JsonArray.of(List.of("count", "avg(attributes/battery)")))
+                .build()).toString());
+    }
+
+    @Test
+    public void aggregateThingsWithoutParametersAggregatesNothing() {
+        final var result = underTest.run(HttpRequest.GET(AGGREGATE_PATH));
+
+        result.assertStatusCode(StatusCodes.OK);
+        result.assertEntity(JsonArray.of(JsonObject.newBuilder()
+                .set("filter", "")
+                .set("namespaces", JsonArray.empty())
+                .set("groupBy", JsonArray.empty())
+                .set("aggregations", JsonArray.empty())
+                .build()).toString());
+    }
+
+    @Test
+    public void postAggregateThingsIsRejected() {
+        final var result = underTest.run(HttpRequest.POST(AGGREGATE_PATH));
+
+        result.assertStatusCode(StatusCodes.METHOD_NOT_ALLOWED);
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.routes.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.protocol.Adaptable;
+import org.eclipse.ditto.protocol.ProtocolFactory;
+import org.eclipse.ditto.protocol.adapter.DittoProtocolAdapter;
+import org.eclipse.ditto.protocol.adapter.ProtocolAdapter;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingsResponse;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PlainValueJsonWriter}: spliced messages must equal the regular serialization.
+ */
+public final class PlainValueJsonWriterTest {
+
+    private static final ProtocolAdapter ADAPTER = DittoProtocolAdapter.newInstance();
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto:thing");
+    private static final DittoHeaders HEADERS = DittoHeaders.newBuilder()
+            .correlationId("cid-\"quoted\"-äöü")
+            .putHeader("custom", "{\"json\": \"in header\\\\\"}")
+            .build();
+    private static final JsonObject THING = JsonObject.newBuilder()
+            .set("thingId", THING_ID.toString())
+            .set("attributes", JsonObject.newBuilder()
+                    .set("quote", "\"}{,:")
+                    .set("unicode", "ä€😀")
+                    .set("control", "\n\r\t\u0001")
+                    .set("nested", JsonObject.newBuilder().set("value", JsonArray.of(1, 2.5, true)).build())
+                    .build())
+            .build();
+
+    @Test
+    public void thingWithoutExtraEqualsRegularSerialization() {
+        assertSplicedEqualsRegular(RetrieveThingResponse.of(THING_ID, THING.toString(), HEADERS),
+                RetrieveThingResponse.of(THING_ID, JsonObject.empty(), HEADERS), JsonObject.empty());
+    }
+
+    @Test
+    public void thingWithExtraEqualsRegularSerialization() {
+        final JsonObject extra = JsonObject.newBuilder()
+                .set("attributes", JsonObject.newBuilder().set("location", "Köln \"Dom\"").build())
+                .build();
+
+        assertSplicedEqualsRegular(RetrieveThingResponse.of(THING_ID, THING.toString(), HEADERS),
+                RetrieveThingResponse.of(THING_ID, JsonObject.empty(), HEADERS), extra);
+    }
+
+    @Test
+    public void emptyThingEqualsRegularSerialization() {
+        assertSplicedEqualsRegular(RetrieveThingResponse.of(THING_ID, "{}", HEADERS),
+                RetrieveThingResponse.of(THING_ID, JsonObject.empty(), HEADERS), JsonObject.empty());
+    }
+
+    @Test
+    public void thingsEqualRegularSerialization() {
+        final String things = JsonArray.of(THING, JsonObject.empty()).toString();
+
+        assertSplicedEqualsRegular(RetrieveThingsResponse.of(things, "org.eclipse.ditto", HEADERS),
+                RetrieveThingsResponse.of(JsonArray.empty(), "org.eclipse.ditto", HEADERS), JsonObject.empty());
+    }
+
+    @Test
+    public void noThingsEqualRegularSerialization() {
+        assertSplicedEqualsRegular(RetrieveThingsResponse.of(List.<String>of(), null, HEADERS),
+                RetrieveThingsResponse.of(JsonArray.empty(), null, HEADERS), JsonObject.empty());
+    }
+
+    private static void assertSplicedEqualsRegular(final RetrieveThingResponse withPlainEntity,
+            final RetrieveThingResponse withEmptyEntity, final JsonObject extra) {
+
+        assertSplicedEqualsRegular(ADAPTER.toAdaptable(withPlainEntity), ADAPTER.toAdaptable(withEmptyEntity),
+                withPlainEntity.getEntityPlainString().orElseThrow(), extra);
+    }
+
+    private static void assertSplicedEqualsRegular(final RetrieveThingsResponse withPlainEntity,
+            final RetrieveThingsResponse withEmptyEntity, final JsonObject extra) {
+
+        assertSplicedEqualsRegular(ADAPTER.toAdaptable(withPlainEntity), ADAPTER.toAdaptable(withEmptyEntity),
+                withPlainEntity.getEntityPlainString().orElseThrow(), extra);
+    }
+
+    private static void assertSplicedEqualsRegular(final Adaptable regular, final Adaptable withEmptyValue,
+            final String plainValue, final JsonObject extra) {
+
+        final Adaptable enriched = extra.isEmpty() ? regular : ProtocolFactory.setExtra(regular, extra);
+        final JsonObject expected = ProtocolFactory.wrapAsJsonifiableAdaptable(enriched).toJson();
+
+        final String spliced = PlainValueJsonWriter.toJsonString(withEmptyValue, extra, plainValue);
+
+        assertThat(JsonObject.of(spliced)).isEqualTo(expected);
+    }
+
+}
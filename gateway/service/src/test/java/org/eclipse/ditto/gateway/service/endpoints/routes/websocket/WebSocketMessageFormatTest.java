@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.routes.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+
+import org.eclipse.ditto.gateway.api.GatewayInternalErrorException;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.cbor.JacksonCborFactory;
+import org.junit.Test;
+
+import akka.http.javadsl.model.ws.Message;
+
+/**
+ * Unit test for {@link WebSocketMessageFormat}.
+ */
+public final class WebSocketMessageFormatTest {
+
+    private static final JsonObject PROTOCOL_MESSAGE = JsonFactory.newObjectBuilder()
+            .set("topic", "org.eclipse.ditto/thing/things/twin/events/modified")
+            .set("path", "/features/temperature/properties/value")
+            .set("value", 23.5)
+            .set("revision", 42)
+            .build();
+
+    @Test
+    public void negotiatesJsonByDefault() {
+        assertThat(WebSocketMessageFormat.negotiate(List.of())).isEqualTo(WebSocketMessageFormat.JSON);
+        assertThat(WebSocketMessageFormat.negotiate(List.of("mqtt"))).isEqualTo(WebSocketMessageFormat.JSON);
+        assertThat(WebSocketMessageFormat.JSON.getSubprotocol()).isEmpty();
+    }
+
+    @Test
+    public void negotiatesCborBySubprotocol() {
+        final WebSocketMessageFormat format =
+                WebSocketMessageFormat.negotiate(List.of("mqtt", WebSocketMessageFormat.CBOR_SUBPROTOCOL));
+
+        assertThat(format).isEqualTo(WebSocketMessageFormat.CBOR);
+        assertThat(format.getSubprotocol()).contains(WebSocketMessageFormat.CBOR_SUBPROTOCOL);
+    }
+
+    @Test
+    public void jsonSendsTextMessages() {
+        final Message message =
+                WebSocketMessageFormat.JSON.toMessage(WebSocketMessageFormat.JSON.serialize(PROTOCOL_MESSAGE));
+
+        assertThat(message.isText()).isTrue();
+        assertThat(message.asTextMessage().getStrictText()).isEqualTo(PROTOCOL_MESSAGE.toString());
+    }
+
+    @Test
+    public void cborSendsProtocolMessagesAsBinaryMessages() {
+        final String text = WebSocketMessageFormat.CBOR.serialize(PROTOCOL_MESSAGE);
+        assertThat(text).isEqualTo(PROTOCOL_MESSAGE.toString());
+
+        final Message message = WebSocketMessageFormat.CBOR.toMessage(text);
+
+        assertThat(message.isText()).isFalse();
+        final byte[] bytes = message.asBinaryMessage().getStrictData().toArray();
+        assertThat(bytes.length).isLessThan(PROTOCOL_MESSAGE.toString().length());
+        assertThat(new JacksonCborFactory().readFrom(bytes)).isEqualTo(PROTOCOL_MESSAGE);
+    }
+
+    @Test
+    public void cborSendsPlainProtocolMessagesAsBinaryMessages() {
+        final String text = WebSocketMessageFormat.CBOR.serialize(PROTOCOL_MESSAGE.toString());
+
+        final Message message = WebSocketMessageFormat.CBOR.toMessage(text);
+
+        assertThat(message.isText()).isFalse();
+        assertThat(new JacksonCborFactory().readFrom(message.asBinaryMessage().getStrictData().toArray()))
+                .isEqualTo(PROTOCOL_MESSAGE);
+    }
+
+    @Test
+    public void cborSendsTextsWhichWereNotSerializedAsText() {
+        // e.g. texts replaced by an outgoing event sniffer
+        final String text = new String(PROTOCOL_MESSAGE.toString());
+
+        final Message message = WebSocketMessageFormat.CBOR.toMessage(text);
+
+        assertThat(message.isText()).isTrue();
+        assertThat(message.asTextMessage().getStrictText()).isEqualTo(text);
+    }
+
+    @Test
+    public void cborReportsInvalidPlainProtocolMessages() {
+        assertThatExceptionOfType(GatewayInternalErrorException.class)
+                .isThrownBy(() -> WebSocketMessageFormat.CBOR.serialize("{\"topic\":"));
+    }
+
+    @Test
+    public void cborSendsStreamControlMessagesAsText() {
+        final String ack = ProtocolMessageType.START_SEND_EVENTS.getIdentifier() + ":ACK";
+
+        final Message message = WebSocketMessageFormat.CBOR.toMessage(ack);
+
+        assertThat(message.isText()).isTrue();
+        assertThat(message.asTextMessage().getStrictText()).isEqualTo(ack);
+    }
+
+    @Test
+    public void jsonDropsBinaryMessages() {
+        final Message binary =
+                WebSocketMessageFormat.CBOR.toMessage(WebSocketMessageFormat.CBOR.serialize(PROTOCOL_MESSAGE));
+
+        assertThat(WebSocketMessageFormat.JSON.isSupported(binary)).isFalse();
+        assertThat(WebSocketMessageFormat.CBOR.isSupported(binary)).isTrue();
+    }
+
+}
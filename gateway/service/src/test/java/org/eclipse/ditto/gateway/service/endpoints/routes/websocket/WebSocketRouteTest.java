@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.routes.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationModelFactory;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.base.model.exceptions.TooManyRequestsException;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.gateway.service.endpoints.EndpointTestBase;
+import org.eclipse.ditto.gateway.service.streaming.actors.StreamingActor;
+import org.eclipse.ditto.gateway.service.streaming.signals.Connect;
+import org.eclipse.ditto.gateway.service.streaming.signals.IncomingSignal;
+import org.eclipse.ditto.gateway.service.util.config.streaming.WebsocketConfig;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.protocol.adapter.DittoProtocolAdapter;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.http.javadsl.model.Uri;
+import akka.http.javadsl.server.Route;
+import akka.http.javadsl.testkit.TestRoute;
+import akka.http.javadsl.testkit.WSProbe;
+import akka.http.javadsl.testkit.WSTestRequestBuilding;
+import akka.japi.pf.ReceiveBuilder;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link WebSocketRoute}.
+ */
+public final class WebSocketRouteTest extends EndpointTestBase implements WSTestRequestBuilding {
+
+    private TestKit sessionActor;
+    private TestRoute underTest;
+
+    @Override
+    public Config additionalConfig() {
+        return createRateLimitTestConfig();
+    }
+
+    @Before
+    public void setUp() {
+        sessionActor = new TestKit(system());
+        final ActorRef streamingActor = system().actorOf(
+                FakeStreamingActor.props(streamingConfig.getWebsocketConfig(), sessionActor.getRef()));
+        final WebSocketRouteBuilder webSocketRoute =
+                WebSocketRoute.getInstance(system(), streamingActor, streamingConfig, materializer())
+                        .withRateLimiter(getClusterRateLimiter());
+        final DittoHeaders authorizedHeaders = DittoHeaders.newBuilder(dittoHeaders)
+                .authorizationContext(AuthorizationModelFactory.newAuthContext(
+                        DittoAuthorizationContextType.UNSPECIFIED, AuthorizationSubject.newInstance("test:subject")))
+                .build();
+        final Route route = extractRequestContext(ctx -> webSocketRoute.build(JsonSchemaVersion.V_2,
+                testNameCorrelationId.getCorrelationId(), authorizedHeaders, DittoProtocolAdapter.newInstance(),
+                ctx));
+        underTest = testRoute(route);
+    }
+
+    @Test
+    public void secondSignalToNamespaceIsRejectedByClusterRateLimiter() {
+        final WSProbe webSocketClient = WSProbe.create(system(), materializer());
+        underTest.run(WS(Uri.create("/ws/2"), webSocketClient.flow(), materializer()));
+
+        webSocketClient.sendMessage(retrieveThing("org.eclipse.ditto.limited:first"));
+        final IncomingSignal admitted = sessionActor.expectMsgClass(IncomingSignal.class);
+        assertThat(admitted.getSignal()).isInstanceOf(RetrieveThing.class);
+
+        webSocketClient.sendMessage(retrieveThing("org.eclipse.ditto.limited:second"));
+        final JsonObject rejection = JsonObject.of(webSocketClient.expectMessage().asTextMessage().getStrictText());
+        assertThat(rejection.getValue("status")).contains(JsonValue.of(429));
+        assertThat(rejection.toString()).contains(TooManyRequestsException.ERROR_CODE);
+        sessionActor.expectNoMessage();
+
+        webSocketClient.sendCompletion();
+    }
+
+    private static String retrieveThing(final String thingId) {
+        final ThingId id = ThingId.of(thingId);
+        return JsonObject.newBuilder()
+                .set("topic", id.getNamespace() + "/" + id.getName() + "/things/twin/commands/retrieve")
+                .set("path", "/")
+                .set("headers", JsonObject.newBuilder().set("correlation-id", thingId).build())
+                .build()
+                .toString();
+    }
+
+    /**
+     * Answers the requests of the WebSocket route to the streaming actor.
+     */
+    private static final class FakeStreamingActor extends AbstractActor {
+
+        private final WebsocketConfig websocketConfig;
+        private final ActorRef sessionActor;
+
+        @SuppressWarnings("unused")
+        private FakeStreamingActor(final WebsocketConfig websocketConfig, final ActorRef sessionActor) {
+            this.websocketConfig = websocketConfig;
+            this.sessionActor = sessionActor;
+        }
+
+        private static Props props(final WebsocketConfig websocketConfig, final ActorRef sessionActor) {
+            return Props.create(FakeStreamingActor.class, websocketConfig, sessionActor);
+        }
+
+        @Override
+        public Receive createReceive() {
+            return ReceiveBuilder.create()
+                    .matchEquals(StreamingActor.Control.RETRIEVE_WEBSOCKET_CONFIG,
+                            control -> getSender().tell(websocketConfig, getSelf()))
+                    .match(Connect.class, connect -> getSender().tell(sessionActor, getSelf()))
+                    .build();
+        }
+    }
+
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationModelFactory;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.base.model.exceptions.TooManyRequestsException;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.gateway.service.util.config.endpoints.DefaultRateLimitConfig;
+import org.eclipse.ditto.gateway.service.util.config.endpoints.RateLimitConfig;
+import org.eclipse.ditto.internal.utils.ddata.DistributedData;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorSystem;
+import akka.cluster.Cluster;
+import akka.cluster.ddata.Key;
+import akka.cluster.ddata.PNCounterMap;
+import akka.cluster.ddata.Replicator;
+import akka.cluster.ddata.SelfUniqueAddress;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Unit test for {@link ClusterRateLimiter}.
+ */
+public final class ClusterRateLimiterTest {
+
+    private static final String FOREIGN_NAMESPACE_COUNTER = "42|namespace:org.eclipse.ditto";
+    private static final String NAMESPACE = "org.eclipse.ditto";
+    private static final AuthorizationContext SUBJECT = AuthorizationModelFactory.newAuthContext(
+            DittoAuthorizationContextType.UNSPECIFIED, AuthorizationSubject.newInstance("test:subject"));
+
+    private ActorSystem actorSystem;
+
+    @Before
+    public void setup() {
+        actorSystem = ActorSystem.create(getClass().getSimpleName(), ConfigFactory.parseString("""
+                        akka.cluster.roles = ["rate-limit-aware"]
+                        ditto.ddata.number-of-shards = 1
+                        rate-limit-dispatcher.type = Dispatcher
+                        """)
+                .withFallback(ConfigFactory.load("test.conf")));
+    }
+
+    @After
+    public void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+            actorSystem = null;
+        }
+    }
+
+    @Test
+    public void signalIsOnlyAdmittedIfNamespaceAndSubjectHaveTokens() {
+        final ClusterRateLimiter underTest = createRateLimiter(2, 3, "30m");
+
+        assertThat(tryAcquire(underTest, NAMESPACE)).isEmpty();
+        assertThat(tryAcquire(underTest, NAMESPACE)).isEmpty();
+        final Optional<TooManyRequestsException> rejected = tryAcquire(underTest, NAMESPACE);
+        assertThat(rejected).isPresent();
+        assertThat(rejected.orElseThrow().getDittoHeaders().get("retry-after")).isNotEqualTo("0");
+
+        // the rejected signal took no token of the subject
+        assertThat(tryAcquire(underTest, "other.namespace")).isEmpty();
+        assertThat(tryAcquire(underTest, "other.namespace")).isPresent();
+    }
+
+    @Test
+    public void reconciliationPublishesOwnConsumptionWithoutDeductingIt() throws Exception {
+        final ClusterRateLimiter underTest = createRateLimiter(3, 0, "30m");
+
+        assertThat(tryAcquire(underTest, NAMESPACE)).isEmpty();
+        reconcile(underTest);
+        assertThat(tryAcquire(underTest, NAMESPACE)).isEmpty();
+        reconcile(underTest);
+
+        assertThat(getCounters(underTest)).hasSize(1).allSatisfy((counterKey, count) -> {
+            assertThat(counterKey).endsWith("|namespace:" + NAMESPACE).isNotEqualTo(FOREIGN_NAMESPACE_COUNTER);
+            assertThat(count).isEqualTo(BigInteger.TWO);
+        });
+        assertThat(tryAcquire(underTest, NAMESPACE)).isEmpty();
+        assertThat(tryAcquire(underTest, NAMESPACE)).isPresent();
+    }
+
+    @Test
+    public void consumptionOfOtherInstancesIsDeducted() throws Exception {
+        final ClusterRateLimiter underTest = createRateLimiter(10, 0, "30m");
+
+        assertThat(tryAcquire(underTest, NAMESPACE)).isEmpty();
+        reconcile(underTest);
+        incrementForeignCounter(underTest, 8);
+        assertThat(tryAcquire(underTest, NAMESPACE)).isEmpty();
+        reconcile(underTest);
+
+        assertThat(tryAcquire(underTest, NAMESPACE)).isPresent();
+    }
+
+    @Test
+    public void idleBucketOnlyRemovesOwnCounter() throws Exception {
+        final ClusterRateLimiter underTest = createRateLimiter(10, 0, "100ms");
+        incrementForeignCounter(underTest, 5);
+
+        assertThat(tryAcquire(underTest, NAMESPACE)).isEmpty();
+        reconcile(underTest);
+        assertThat(getCounters(underTest)).hasSize(2);
+
+        TimeUnit.MILLISECONDS.sleep(200L);
+        reconcile(underTest);
+
+        assertThat(getCounters(underTest)).containsOnly(Map.entry(FOREIGN_NAMESPACE_COUNTER, BigInteger.valueOf(5L)));
+    }
+
+    @Test
+    public void countersOfRemovedMemberAreRemoved() throws Exception {
+        final ClusterRateLimiter underTest = createRateLimiter(10, 0, "30m");
+        incrementForeignCounter(underTest, 5);
+        assertThat(tryAcquire(underTest, NAMESPACE)).isEmpty();
+        reconcile(underTest);
+        assertThat(getCounters(underTest)).hasSize(2);
+
+        underTest.removeCountersOfMember(42L).toCompletableFuture().get(10L, TimeUnit.SECONDS);
+
+        assertThat(getCounters(underTest)).hasSize(1)
+                .allSatisfy((counterKey, count) -> assertThat(counterKey).isNotEqualTo(FOREIGN_NAMESPACE_COUNTER));
+    }
+
+    private ClusterRateLimiter createRateLimiter(final int namespaceLimit, final int subjectLimit,
+            final String idleTimeout) {
+
+        final RateLimitConfig rateLimitConfig = DefaultRateLimitConfig.of(ConfigFactory.parseMap(Map.of(
+                "rate-limit.enabled", true,
+                "rate-limit.interval", "1h",
+                "rate-limit.namespace-limit", namespaceLimit,
+                "rate-limit.subject-limit", subjectLimit,
+                "rate-limit.reconcile-interval", "1h",
+                "rate-limit.idle-timeout", idleTimeout
+        )));
+        return ClusterRateLimiter.create(
+                DistributedData.createConfig(actorSystem, "replicator", ClusterRateLimiter.CLUSTER_ROLE),
+                actorSystem, rateLimitConfig);
+    }
+
+    private static Optional<TooManyRequestsException> tryAcquire(final ClusterRateLimiter underTest,
+            final String namespace) {
+
+        return underTest.tryAcquire(namespace, SUBJECT, DittoHeaders.empty());
+    }
+
+    private static void reconcile(final ClusterRateLimiter underTest) throws Exception {
+        underTest.reconcile().toCompletableFuture().get(10L, TimeUnit.SECONDS);
+    }
+
+    private void incrementForeignCounter(final ClusterRateLimiter underTest, final long count) throws Exception {
+        final SelfUniqueAddress selfUniqueAddress =
+                SelfUniqueAddress.apply(Cluster.get(actorSystem).selfUniqueAddress());
+        underTest.update(getKey(underTest), (Replicator.WriteConsistency) Replicator.writeLocal(),
+                        counterMap -> counterMap.increment(selfUniqueAddress, FOREIGN_NAMESPACE_COUNTER, count))
+                .toCompletableFuture()
+                .get(10L, TimeUnit.SECONDS);
+    }
+
+    private static Map<String, BigInteger> getCounters(final ClusterRateLimiter underTest) throws Exception {
+        return underTest.get(getKey(underTest), (Replicator.ReadConsistency) Replicator.readLocal())
+                .toCompletableFuture()
+                .get(10L, TimeUnit.SECONDS)
+                .map(PNCounterMap::getEntries)
+                .orElseGet(Map::of);
+    }
+
+    private static Key<PNCounterMap<String>> getKey(final ClusterRateLimiter underTest) {
+        return underTest.getKey(0);
+    }
+
+}
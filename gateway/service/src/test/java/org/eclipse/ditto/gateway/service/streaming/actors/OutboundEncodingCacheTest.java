@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.streaming.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.events.ThingDeleted;
+import org.junit.Test;
+
+/**
+ * Tests {@link OutboundEncodingCache}.
+ */
+public final class OutboundEncodingCacheTest {
+
+    private static final OutboundEncodingCache.EncodingKey KEY =
+            OutboundEncodingCache.key("test", null, JsonSchemaVersion.V_2, null);
+
+    private final OutboundEncodingCache underTest = OutboundEncodingCache.getInstance();
+
+    @Test
+    public void encodesSameSignalInstanceOnce() {
+        final ThingDeleted signal = thingDeleted();
+        final AtomicInteger encodings = new AtomicInteger();
+
+        final String first = underTest.getOrEncode(signal, KEY, () -> "encoding" + encodings.incrementAndGet());
+        final String second = underTest.getOrEncode(signal, KEY, () -> "encoding" + encodings.incrementAndGet());
+
+        assertThat(first).isSameAs(second);
+        assertThat(encodings).hasValue(1);
+    }
+
+    @Test
+    public void encodesEqualSignalInstancesSeparately() {
+        final ThingDeleted signal = thingDeleted();
+        final ThingDeleted equalSignal = thingDeleted();
+        final AtomicInteger encodings = new AtomicInteger();
+
+        underTest.getOrEncode(signal, KEY, encodings::incrementAndGet);
+        underTest.getOrEncode(equalSignal, KEY, encodings::incrementAndGet);
+
+        assertThat(equalSignal).isEqualTo(signal);
+        assertThat(encodings).hasValue(2);
+    }
+
+    @Test
+    public void encodesPerKey() {
+        final ThingDeleted signal = thingDeleted();
+        final Object adapter = new Object();
+        final OutboundEncodingCache.EncodingKey key =
+                OutboundEncodingCache.key("test", adapter, JsonSchemaVersion.V_2, "selector");
+        final OutboundEncodingCache.EncodingKey equalKey =
+                OutboundEncodingCache.key("test", adapter, JsonSchemaVersion.V_2, "selector");
+        final OutboundEncodingCache.EncodingKey otherAdapterKey =
+                OutboundEncodingCache.key("test", new Object(), JsonSchemaVersion.V_2, "selector");
+        final OutboundEncodingCache.EncodingKey otherSelectorKey =
+                OutboundEncodingCache.key("test", adapter, JsonSchemaVersion.V_2, "other");
+
+        assertThat(underTest.<String>getOrEncode(signal, key, () -> "a")).isEqualTo("a");
+        assertThat(underTest.<String>getOrEncode(signal, equalKey, () -> "b")).isEqualTo("a");
+        assertThat(underTest.<String>getOrEncode(signal, otherAdapterKey, () -> "c")).isEqualTo("c");
+        assertThat(underTest.<String>getOrEncode(signal, otherSelectorKey, () -> "d")).isEqualTo("d");
+    }
+
+    private static ThingDeleted thingDeleted() {
+        return ThingDeleted.of(ThingId.of("org.eclipse.ditto", "thing"), 1L, null, DittoHeaders.empty(), null);
+    }
+
+}
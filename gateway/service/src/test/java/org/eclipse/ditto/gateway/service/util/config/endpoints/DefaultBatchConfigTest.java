@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.util.config.endpoints;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultBatchConfig}.
+ */
+public final class DefaultBatchConfigTest {
+
+    private static Config batchTestConfig;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        batchTestConfig = ConfigFactory.load("batch-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultBatchConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultBatchConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultBatchConfig underTest = DefaultBatchConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.getParallelism())
+                .as(BatchConfig.BatchConfigValue.PARALLELISM.getConfigPath())
+                .isEqualTo(BatchConfig.BatchConfigValue.PARALLELISM.getDefaultValue());
+        softly.assertThat(underTest.getMaxCommands())
+                .as(BatchConfig.BatchConfigValue.MAX_COMMANDS.getConfigPath())
+                .isEqualTo(BatchConfig.BatchConfigValue.MAX_COMMANDS.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfBaseConfig() {
+        final DefaultBatchConfig underTest = DefaultBatchConfig.of(batchTestConfig);
+
+        softly.assertThat(underTest.getParallelism())
+                .as(BatchConfig.BatchConfigValue.PARALLELISM.getConfigPath())
+                .isEqualTo(4);
+        softly.assertThat(underTest.getMaxCommands())
+                .as(BatchConfig.BatchConfigValue.MAX_COMMANDS.getConfigPath())
+                .isEqualTo(50);
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.util.config.endpoints;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultRateLimitConfig}.
+ */
+public final class DefaultRateLimitConfigTest {
+
+    private static Config rateLimitTestConfig;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        rateLimitTestConfig = ConfigFactory.load("rate-limit-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultRateLimitConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultRateLimitConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultRateLimitConfig underTest = DefaultRateLimitConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(RateLimitConfig.RateLimitConfigValue.ENABLED.getConfigPath())
+                .isFalse();
+        softly.assertThat(underTest.getInterval())
+                .as(RateLimitConfig.RateLimitConfigValue.INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(1L));
+        softly.assertThat(underTest.getNamespaceLimit())
+                .as(RateLimitConfig.RateLimitConfigValue.NAMESPACE_LIMIT.getConfigPath())
+                .isZero();
+        softly.assertThat(underTest.getSubjectLimit())
+                .as(RateLimitConfig.RateLimitConfigValue.SUBJECT_LIMIT.getConfigPath())
+                .isZero();
+        softly.assertThat(underTest.getReconcileInterval())
+                .as(RateLimitConfig.RateLimitConfigValue.RECONCILE_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(1L));
+        softly.assertThat(underTest.getIdleTimeout())
+                .as(RateLimitConfig.RateLimitConfigValue.IDLE_TIMEOUT.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(5L));
+    }
+
+    @Test
+    public void underTestReturnsValuesOfBaseConfig() {
+        final DefaultRateLimitConfig underTest = DefaultRateLimitConfig.of(rateLimitTestConfig);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(RateLimitConfig.RateLimitConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getInterval())
+                .as(RateLimitConfig.RateLimitConfigValue.INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(10L));
+        softly.assertThat(underTest.getNamespaceLimit())
+                .as(RateLimitConfig.RateLimitConfigValue.NAMESPACE_LIMIT.getConfigPath())
+                .isEqualTo(1000);
+        softly.assertThat(underTest.getSubjectLimit())
+                .as(RateLimitConfig.RateLimitConfigValue.SUBJECT_LIMIT.getConfigPath())
+                .isEqualTo(100);
+        softly.assertThat(underTest.getReconcileInterval())
+                .as(RateLimitConfig.RateLimitConfigValue.RECONCILE_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(2L));
+        softly.assertThat(underTest.getIdleTimeout())
+                .as(RateLimitConfig.RateLimitConfigValue.IDLE_TIMEOUT.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(30L));
+    }
+
+}
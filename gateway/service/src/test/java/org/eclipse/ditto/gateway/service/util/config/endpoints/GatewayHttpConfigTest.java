@@ -175,6 +175,18 @@ public final class GatewayHttpConfigTest {
         softly.assertThat(underTest.getAdditionalAcceptedMediaTypes())
                 .as(HttpConfig.GatewayHttpConfigValue.ADDITIONAL_ACCEPTED_MEDIA_TYPES.getConfigPath())
                 .contains(MediaTypes.APPLICATION_OCTET_STREAM.toString());
+        softly.assertThat(underTest.isActorlessQueryCommandsEnabled())
+                .as(HttpConfig.GatewayHttpConfigValue.ACTORLESS_QUERY_COMMANDS.getConfigPath())
+                .isEqualTo(HttpConfig.GatewayHttpConfigValue.ACTORLESS_QUERY_COMMANDS.getDefaultValue());
+    }
+
+    @Test
+    public void getConfiguredActorlessQueryCommands() {
+        final GatewayHttpConfig underTest = GatewayHttpConfig.of(gatewayHttpTestConfig);
+
+        softly.assertThat(underTest.isActorlessQueryCommandsEnabled())
+                .as(HttpConfig.GatewayHttpConfigValue.ACTORLESS_QUERY_COMMANDS.getConfigPath())
+                .isFalse();
     }
 
     @Test
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.models.signalenrichment;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.things.model.Thing;
+
+/**
+ * The parts of a Thing known to the signal enrichment cache together with the fields they cover.
+ * A cached partial Thing answers every field selector whose pointers all lie within the covered fields.
+ */
+@Immutable
+final class CachedPartialThing {
+
+    private final JsonObject jsonObject;
+    @Nullable private final JsonFieldSelector coveredFields;
+
+    private CachedPartialThing(final JsonObject jsonObject, @Nullable final JsonFieldSelector coveredFields) {
+        this.jsonObject = checkNotNull(jsonObject, "jsonObject");
+        this.coveredFields = coveredFields;
+    }
+
+    /**
+     * Creates a new cached partial Thing.
+     *
+     * @param jsonObject the known parts of the Thing.
+     * @param coveredFields the fields of the Thing which {@code jsonObject} contains, or {@code null} if it contains
+     * the whole Thing.
+     * @return the cached partial Thing.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     */
+    static CachedPartialThing of(final JsonObject jsonObject, @Nullable final JsonFieldSelector coveredFields) {
+        return new CachedPartialThing(jsonObject, coveredFields);
+    }
+
+    /**
+     * Returns the known parts of the Thing.
+     *
+     * @return the JSON object of the known parts.
+     */
+    JsonObject getJsonObject() {
+        return jsonObject;
+    }
+
+    /**
+     * Returns the fields covered by this partial Thing.
+     *
+     * @return the covered fields or an empty Optional if the whole Thing is covered.
+     */
+    Optional<JsonFieldSelector> getCoveredFields() {
+        return Optional.ofNullable(coveredFields);
+    }
+
+    /**
+     * Returns a copy of this partial Thing with the passed JSON object covering the same fields.
+     *
+     * @param jsonObject the updated known parts of the Thing.
+     * @return the copy.
+     */
+    CachedPartialThing setJsonObject(final JsonObject jsonObject) {
+        return new CachedPartialThing(jsonObject, coveredFields);
+    }
+
+    /**
+     * Indicates whether all fields of the passed selector are contained in this partial Thing.
+     *
+     * @param fieldSelector the requested fields or {@code null} if the whole Thing is requested.
+     * @return {@code true} if the requested fields can be answered without retrieving the Thing.
+     */
+    boolean covers(@Nullable final JsonFieldSelector fieldSelector) {
+        if (null == coveredFields) {
+            return true;
+        } else if (null == fieldSelector) {
+            return false;
+        }
+        for (final JsonPointer requestedPointer : fieldSelector) {
+            if (!isCovered(requestedPointer, coveredFields)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Merges freshly retrieved parts of the Thing into this partial Thing. The parts are only merged if both are of the
+     * same revision, otherwise the retrieved parts replace this partial Thing.
+     *
+     * @param retrievedJsonObject the retrieved parts of the Thing.
+     * @param retrievedFields the fields which were retrieved or {@code null} if the whole Thing was retrieved.
+     * @return the merged partial Thing.
+     */
+    CachedPartialThing mergeWith(final JsonObject retrievedJsonObject,
+            @Nullable final JsonFieldSelector retrievedFields) {
+
+        final Optional<Long> revision = getRevision(jsonObject);
+        if (null == retrievedFields || null == coveredFields || revision.isEmpty() ||
+                !revision.equals(getRevision(retrievedJsonObject))) {
+            return new CachedPartialThing(retrievedJsonObject, retrievedFields);
+        }
+
+        return new CachedPartialThing(JsonFactory.newObject(retrievedJsonObject, jsonObject),
+                union(coveredFields, retrievedFields));
+    }
+
+    /**
+     * Updates this partial Thing with a partial Thing computed from events. The update is merged into this partial
+     * Thing like retrieved parts unless this partial Thing is of a newer revision, in which case it is kept.
+     *
+     * @param update the partial Thing computed from events.
+     * @return the updated partial Thing.
+     */
+    CachedPartialThing updateWith(final CachedPartialThing update) {
+        final Optional<Long> revision = getRevision(jsonObject);
+        final Optional<Long> updateRevision = getRevision(update.jsonObject);
+        if (revision.isPresent() && updateRevision.isPresent() && revision.get() > updateRevision.get()) {
+            return this;
+        }
+
+        return mergeWith(update.jsonObject, update.coveredFields);
+    }
+
+    private static Optional<Long> getRevision(final JsonObject jsonObject) {
+        return jsonObject.getValue(Thing.JsonFields.REVISION);
+    }
+
+    private static JsonFieldSelector union(final JsonFieldSelector coveredFields,
+            final JsonFieldSelector retrievedFields) {
+
+        final List<JsonPointer> pointers = new ArrayList<>(coveredFields.getSize() + retrievedFields.getSize());
+        retrievedFields.forEach(pointers::add);
+        for (final JsonPointer coveredPointer : coveredFields) {
+            if (!isCovered(coveredPointer, retrievedFields)) {
+                pointers.add(coveredPointer);
+            }
+        }
+
+        return JsonFactory.newFieldSelector(pointers);
+    }
+
+    private static boolean isCovered(final JsonPointer pointer, final Iterable<JsonPointer> coveringPointers) {
+        for (final JsonPointer coveringPointer : coveringPointers) {
+            if (isPrefix(coveringPointer, pointer)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // wildcards are compared literally, so a selector with wildcards is only covered by the same or a shorter pointer
+    private static boolean isPrefix(final JsonPointer prefix, final JsonPointer pointer) {
+        final int prefixLevels = prefix.getLevelCount();
+        if (prefixLevels > pointer.getLevelCount()) {
+            return false;
+        }
+        for (int level = 0; level < prefixLevels; level++) {
+            if (!prefix.get(level).equals(pointer.get(level))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns an estimation of the size of this partial Thing in bytes.
+     *
+     * @return the estimated size.
+     */
+    long estimateSizeInBytes() {
+        return jsonObject.getUpperBoundForStringSize();
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final CachedPartialThing that = (CachedPartialThing) o;
+        return Objects.equals(jsonObject, that.jsonObject) && Objects.equals(coveredFields, that.coveredFields);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(jsonObject, coveredFields);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "jsonObject=" + jsonObject +
+                ", coveredFields=" + coveredFields +
+                "]";
+    }
+
+}
@@ -30,9 +30,12 @@ import org.eclipse.ditto.base.model.signals.Signal;
 import org.eclipse.ditto.base.model.signals.WithResource;
 import org.eclipse.ditto.internal.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.akka.logging.ThreadSafeDittoLogger;
-import org.eclipse.ditto.internal.utils.cache.Cache;
 import org.eclipse.ditto.internal.utils.cache.CacheFactory;
+import org.eclipse.ditto.internal.utils.cache.CaffeineCache;
 import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.metrics.instruments.histogram.Histogram;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
@@ -51,24 +54,37 @@ import org.eclipse.ditto.things.model.signals.events.ThingMerged;
  * Retrieve additional parts of things by asking an asynchronous cache.
  * Instantiated once per cluster node so that it builds up a cache across all signal enrichments on a local cluster
  * node.
+ * <p>
+ * The cache holds one partial Thing per Thing and lookup context which accumulates all retrieved fields of the same
+ * revision. Field selectors which lie within the already cached fields are answered without retrieving the Thing.
+ * </p>
  */
 public final class DittoCachingSignalEnrichmentFacade implements CachingSignalEnrichmentFacade {
 
     private static final ThreadSafeDittoLogger LOGGER = DittoLoggerFactory
             .getThreadSafeLogger(DittoCachingSignalEnrichmentFacade.class);
     private static final String CACHE_NAME_SUFFIX = "_signal_enrichment_cache";
+    private static final String CACHE_NAME_TAG = "cache_name";
 
-    private final Cache<SignalEnrichmentCacheKey, JsonObject> extraFieldsCache;
+    private final SignalEnrichmentFacade cacheLoaderFacade;
+    private final CaffeineCache<SignalEnrichmentCacheKey, CachedPartialThing> extraFieldsCache;
+    private final Counter partialHits;
+    private final Counter partialMisses;
+    private final Histogram entryBytes;
 
     private DittoCachingSignalEnrichmentFacade(final SignalEnrichmentFacade cacheLoaderFacade,
             final CacheConfig cacheConfig,
             final Executor cacheLoaderExecutor,
             final String cacheNamePrefix) {
 
-        final var cacheLoader = SignalEnrichmentCacheLoader.of(cacheLoaderFacade);
+        this.cacheLoaderFacade = cacheLoaderFacade;
         final var cacheName = cacheNamePrefix + CACHE_NAME_SUFFIX;
 
-        extraFieldsCache = CacheFactory.createCache(cacheLoader, cacheConfig, cacheName, cacheLoaderExecutor);
+        // entries are loaded explicitly as the fields to retrieve depend on the requested and the cached fields
+        extraFieldsCache = CacheFactory.createCache(cacheConfig, cacheName, cacheLoaderExecutor);
+        partialHits = DittoMetrics.counter("cache_partial-hits").tag(CACHE_NAME_TAG, cacheName);
+        partialMisses = DittoMetrics.counter("cache_partial-misses").tag(CACHE_NAME_TAG, cacheName);
+        entryBytes = DittoMetrics.histogram("cache_entry-bytes").tag(CACHE_NAME_TAG, cacheName);
     }
 
     /**
@@ -100,7 +116,7 @@ public final class DittoCachingSignalEnrichmentFacade implements CachingSignalEn
             final var cacheKey =
                     SignalEnrichmentCacheKey.of(thingId, SignalEnrichmentContext.of(dittoHeaders, null));
             extraFieldsCache.invalidate(cacheKey);
-            return doCacheLookup(cacheKey, dittoHeaders);
+            return doCacheLookup(cacheKey, null, dittoHeaders).thenApply(CachedPartialThing::getJsonObject);
         } else {
             final var cachingParameters =
                     new CachingParameters(null, events, false, minAcceptableSeqNr);
@@ -164,15 +180,17 @@ public final class DittoCachingSignalEnrichmentFacade implements CachingSignalEn
         final var fieldSelector = cachingParameters.fieldSelector;
         final JsonFieldSelector enhancedFieldSelector = enhanceFieldSelectorWithRevision(fieldSelector);
 
+        // the field selector is not part of the key: all selected fields of a thing share one cache entry
         final var idWithResourceType =
-                SignalEnrichmentCacheKey.of(thingId, SignalEnrichmentContext.of(dittoHeaders, enhancedFieldSelector));
+                SignalEnrichmentCacheKey.of(thingId, SignalEnrichmentContext.of(dittoHeaders, null));
 
         final var cachingParametersWithEnhancedFieldSelector = new CachingParameters(enhancedFieldSelector,
                 cachingParameters.concernedEvents,
                 cachingParameters.invalidateCacheOnPolicyChange,
                 cachingParameters.minAcceptableSeqNr);
 
-        return smartUpdateCachedObject(idWithResourceType, cachingParametersWithEnhancedFieldSelector);
+        return smartUpdateCachedObject(idWithResourceType, cachingParametersWithEnhancedFieldSelector)
+                .thenApply(CachedPartialThing::getJsonObject);
     }
 
     @Nullable
@@ -192,10 +210,10 @@ public final class DittoCachingSignalEnrichmentFacade implements CachingSignalEn
         return result;
     }
 
-    private CompletableFuture<JsonObject> smartUpdateCachedObject(final SignalEnrichmentCacheKey cacheKey,
+    private CompletableFuture<CachedPartialThing> smartUpdateCachedObject(final SignalEnrichmentCacheKey cacheKey,
             final CachingParameters cachingParameters) {
 
-        final CompletableFuture<JsonObject> result;
+        final CompletableFuture<CachedPartialThing> result;
 
         final var invalidateCacheOnPolicyChange = cachingParameters.invalidateCacheOnPolicyChange;
         final var concernedSignals = cachingParameters.concernedEvents;
@@ -208,23 +226,24 @@ public final class DittoCachingSignalEnrichmentFacade implements CachingSignalEn
         // there are twin events, but their sequence numbers have gaps or do not reach the min acceptable seq nr
         if (thingEventsOptional.isEmpty()) {
             extraFieldsCache.invalidate(cacheKey);
-            result = doCacheLookup(cacheKey, dittoHeaders);
+            result = doCacheLookup(cacheKey, fieldSelector, dittoHeaders);
         } else {
             final var thingEvents = thingEventsOptional.orElseThrow();
             // there are no twin events; return the cached thing
             if (thingEvents.isEmpty()) {
-                result = doCacheLookup(cacheKey, dittoHeaders);
+                result = doCacheLookup(cacheKey, fieldSelector, dittoHeaders);
             } else if (thingEventsStartWithCreated(thingEvents)) {
                 // the twin was created; continue without revision checks.
                 final var nextExpectedThingEventsParameters =
                         new CachingParameters(fieldSelector, thingEvents, invalidateCacheOnPolicyChange,
                                 cachingParameters.minAcceptableSeqNr);
-                result = handleNextExpectedThingEvents(cacheKey, JsonObject.empty(), nextExpectedThingEventsParameters)
+                result = handleNextExpectedThingEvents(cacheKey,
+                        CachedPartialThing.of(JsonObject.empty(), fieldSelector), nextExpectedThingEventsParameters)
                         .toCompletableFuture();
             } else {
                 // there are twin events; perform smart update
-                result = doCacheLookup(cacheKey, dittoHeaders).thenCompose(
-                        cachedJsonObject -> doSmartUpdateCachedObject(cacheKey, cachedJsonObject,
+                result = doCacheLookup(cacheKey, fieldSelector, dittoHeaders).thenCompose(
+                        cachedPartialThing -> doSmartUpdateCachedObject(cacheKey, cachedPartialThing,
                                 cachingParameters, dittoHeaders));
             }
         }
@@ -277,24 +296,80 @@ public final class DittoCachingSignalEnrichmentFacade implements CachingSignalEn
         }
     }
 
-    private CompletableFuture<JsonObject> doCacheLookup(final SignalEnrichmentCacheKey cacheKey,
-            final DittoHeaders dittoHeaders) {
+    private CompletableFuture<CachedPartialThing> doCacheLookup(final SignalEnrichmentCacheKey cacheKey,
+            @Nullable final JsonFieldSelector fieldSelector, final DittoHeaders dittoHeaders) {
         LOGGER.withCorrelationId(dittoHeaders).debug("Looking up cache entry for <{}>", cacheKey);
 
-        return extraFieldsCache.get(cacheKey)
-                .thenApply(optionalJsonObject -> optionalJsonObject.orElseGet(JsonObject::empty));
+        // computations of the same key do not overlap: a miss chains its retrieval to the current entry, so that
+        // concurrent misses wait for a pending retrieval instead of retrieving the Thing again and merge one by one
+        return extraFieldsCache.compute(cacheKey, (key, cachedFuture) -> {
+            if (isCompletedAndCovers(cachedFuture, fieldSelector)) {
+                partialHits.increment();
+                return cachedFuture;
+            }
+            final CompletableFuture<CachedPartialThing> previousFuture = null != cachedFuture
+                    ? cachedFuture.exceptionally(error -> null)
+                    : CompletableFuture.completedFuture(null);
+            return previousFuture.thenCompose(previous -> {
+                if (null != previous && previous.covers(fieldSelector)) {
+                    partialHits.increment();
+                    return CompletableFuture.completedFuture(previous);
+                } else {
+                    partialMisses.increment();
+                    return retrieveAndMerge(key, fieldSelector, previous);
+                }
+            });
+        });
+    }
+
+    private static boolean isCompletedAndCovers(@Nullable final CompletableFuture<CachedPartialThing> cachedFuture,
+            @Nullable final JsonFieldSelector fieldSelector) {
+
+        return null != cachedFuture && cachedFuture.isDone() && !cachedFuture.isCompletedExceptionally() &&
+                cachedFuture.join().covers(fieldSelector);
+    }
+
+    private CompletableFuture<CachedPartialThing> retrieveAndMerge(final SignalEnrichmentCacheKey cacheKey,
+            @Nullable final JsonFieldSelector fieldSelector, @Nullable final CachedPartialThing cachedPartialThing) {
+
+        final var contextHeaders = cacheKey.getCacheLookupContext()
+                .map(SignalEnrichmentContext::getDittoHeaders)
+                .orElseGet(DittoHeaders::empty);
+
+        final var thingId = ThingId.of(cacheKey.getId());
+
+        return cacheLoaderFacade.retrievePartialThing(thingId, fieldSelector, contextHeaders, null)
+                .thenApply(retrievedJsonObject -> {
+                    final CachedPartialThing retrievedPartialThing = null != cachedPartialThing
+                            ? cachedPartialThing.mergeWith(retrievedJsonObject, fieldSelector)
+                            : CachedPartialThing.of(retrievedJsonObject, fieldSelector);
+                    entryBytes.record(retrievedPartialThing.estimateSizeInBytes());
+                    return retrievedPartialThing;
+                })
+                .toCompletableFuture();
+    }
+
+    private void putIntoCache(final SignalEnrichmentCacheKey cacheKey, final CachedPartialThing cachedPartialThing) {
+        entryBytes.record(cachedPartialThing.estimateSizeInBytes());
+        // chain to the current entry, so that neither a pending retrieval nor an entry of a newer revision is lost
+        extraFieldsCache.compute(cacheKey, (key, cachedFuture) -> null != cachedFuture
+                ? cachedFuture.exceptionally(error -> null).thenApply(cached -> null != cached
+                        ? cached.updateWith(cachedPartialThing)
+                        : cachedPartialThing)
+                : CompletableFuture.completedFuture(cachedPartialThing));
     }
 
     private static boolean thingEventsStartWithCreated(final List<ThingEvent<?>> thingEvents) {
         return thingEvents.get(0) instanceof ThingCreated;
     }
 
-    private CompletionStage<JsonObject> doSmartUpdateCachedObject(final SignalEnrichmentCacheKey cacheKey,
-            final JsonObject cachedJsonObject, final CachingParameters cachingParameters,
+    private CompletionStage<CachedPartialThing> doSmartUpdateCachedObject(final SignalEnrichmentCacheKey cacheKey,
+            final CachedPartialThing cachedPartialThing, final CachingParameters cachingParameters,
             final DittoHeaders dittoHeaders) {
 
-        final CompletionStage<JsonObject> result;
+        final CompletionStage<CachedPartialThing> result;
 
+        final JsonObject cachedJsonObject = cachedPartialThing.getJsonObject();
         final long cachedRevision = cachedJsonObject.getValue(Thing.JsonFields.REVISION).orElse(0L);
         final List<ThingEvent<?>> relevantEvents = cachingParameters.concernedEvents.stream()
                 .filter(e -> e.getRevision() > cachedRevision)
@@ -302,7 +377,7 @@ public final class DittoCachingSignalEnrichmentFacade implements CachingSignalEn
 
         if (relevantEvents.isEmpty()) {
             // the cache entry was more up-to-date
-            result = CompletableFuture.completedFuture(cachedJsonObject);
+            result = CompletableFuture.completedFuture(cachedPartialThing);
         } else if (cachedRevision + 1 == getFirst(relevantEvents).getRevision()) {
             // the cache entry was already present and the first thingEvent was the next expected revision no
             // -> we have all information necessary to calculate it without making another roundtrip
@@ -310,13 +385,13 @@ public final class DittoCachingSignalEnrichmentFacade implements CachingSignalEn
                     new CachingParameters(cachingParameters.fieldSelector, relevantEvents,
                             cachingParameters.invalidateCacheOnPolicyChange,
                             cachingParameters.minAcceptableSeqNr);
-            result = handleNextExpectedThingEvents(cacheKey, cachedJsonObject,
+            result = handleNextExpectedThingEvents(cacheKey, cachedPartialThing,
                     nextExpectedThingEventsParameters);
         } else {
             // the cache entry was already present, but we missed sth and need to invalidate the cache
             // and to another cache lookup (via roundtrip)
             extraFieldsCache.invalidate(cacheKey);
-            result = doCacheLookup(cacheKey, dittoHeaders);
+            result = doCacheLookup(cacheKey, cachingParameters.fieldSelector, dittoHeaders);
         }
 
         return result;
@@ -330,11 +405,13 @@ public final class DittoCachingSignalEnrichmentFacade implements CachingSignalEn
         return list.get(0);
     }
 
-    private CompletionStage<JsonObject> handleNextExpectedThingEvents(final SignalEnrichmentCacheKey cacheKey,
-            final JsonObject cachedJsonObject, final CachingParameters cachingParameters) {
+    private CompletionStage<CachedPartialThing> handleNextExpectedThingEvents(
+            final SignalEnrichmentCacheKey cacheKey,
+            final CachedPartialThing cachedPartialThing,
+            final CachingParameters cachingParameters) {
 
         final var concernedSignals = cachingParameters.concernedEvents;
-        final var enhancedFieldSelector = cachingParameters.fieldSelector;
+        final var cachedJsonObject = cachedPartialThing.getJsonObject();
         final Optional<String> cachedPolicyIdOpt = cachedJsonObject.getValue(Thing.JsonFields.POLICY_ID);
         JsonObject jsonObject = cachedJsonObject;
         for (final ThingEvent<?> thingEvent : concernedSignals) {
@@ -353,17 +430,19 @@ public final class DittoCachingSignalEnrichmentFacade implements CachingSignalEn
             if (cachingParameters.invalidateCacheOnPolicyChange) {
                 final var optionalCompletionStage =
                         invalidateCacheOnPolicyChange(cacheKey, jsonObject, cachedPolicyIdOpt.orElse(null),
-                                thingEvent.getDittoHeaders());
+                                cachingParameters.fieldSelector, thingEvent.getDittoHeaders());
                 if (optionalCompletionStage.isPresent()) {
                     return optionalCompletionStage.get();
                 }
             }
         }
-        final var enhancedJsonObject = enhanceJsonObject(jsonObject, concernedSignals, enhancedFieldSelector);
+        // only keep the fields covered by the cache entry, which may be more than the requested ones
+        final var enhancedPartialThing = cachedPartialThing.setJsonObject(enhanceJsonObject(jsonObject,
+                concernedSignals, cachedPartialThing.getCoveredFields().orElse(null)));
         // update local cache with enhanced object:
-        extraFieldsCache.put(cacheKey, enhancedJsonObject);
+        putIntoCache(cacheKey, enhancedPartialThing);
 
-        return CompletableFuture.completedFuture(enhancedJsonObject);
+        return CompletableFuture.completedFuture(enhancedPartialThing);
     }
 
     private static JsonObject getMergeJsonObject(final JsonValue jsonObject, final ThingEvent<?> thingEvent) {
@@ -411,8 +490,12 @@ public final class DittoCachingSignalEnrichmentFacade implements CachingSignalEn
         return jsonObjectBuilder.build();
     }
 
-    private Optional<CompletionStage<JsonObject>> invalidateCacheOnPolicyChange(final SignalEnrichmentCacheKey cacheKey,
-            final JsonObject jsonObject, @Nullable final String cachedPolicyIdOpt, final DittoHeaders dittoHeaders) {
+    private Optional<CompletionStage<CachedPartialThing>> invalidateCacheOnPolicyChange(
+            final SignalEnrichmentCacheKey cacheKey,
+            final JsonObject jsonObject,
+            @Nullable final String cachedPolicyIdOpt,
+            @Nullable final JsonFieldSelector fieldSelector,
+            final DittoHeaders dittoHeaders) {
 
         final boolean shouldInvalidate = Optional.ofNullable(cachedPolicyIdOpt).flatMap(cachedPolicyId ->
                         jsonObject.getValue(Thing.JsonFields.POLICY_ID)
@@ -422,7 +505,7 @@ public final class DittoCachingSignalEnrichmentFacade implements CachingSignalEn
             // invalidate the cache
             extraFieldsCache.invalidate(cacheKey);
             // and to another cache lookup (via roundtrip):
-            return Optional.of(doCacheLookup(cacheKey, dittoHeaders));
+            return Optional.of(doCacheLookup(cacheKey, fieldSelector, dittoHeaders));
         } else {
             return Optional.empty();
         }
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.models.signalenrichment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Tests {@link CachedPartialThing}.
+ */
+public final class CachedPartialThingTest {
+
+    private static final JsonObject ATTRIBUTES = JsonObject.of("""
+            {"_revision": 3, "attributes": {"location": "here", "x": 5}}""");
+    private static final JsonObject FEATURES = JsonObject.of("""
+            {"_revision": 3, "features": {"temp": {"properties": {"value": 21}}}}""");
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(CachedPartialThing.class,
+                areImmutable(),
+                provided(JsonObject.class, JsonFieldSelector.class).isAlsoImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(CachedPartialThing.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void coversSubtreesOfCachedFields() {
+        final CachedPartialThing underTest =
+                CachedPartialThing.of(ATTRIBUTES, JsonFieldSelector.newInstance("attributes", "_revision"));
+
+        assertThat(underTest.covers(JsonFieldSelector.newInstance("attributes/location", "_revision"))).isTrue();
+        assertThat(underTest.covers(JsonFieldSelector.newInstance("attributes/location", "features/temp")))
+                .isFalse();
+        assertThat(underTest.covers(JsonFieldSelector.newInstance("attribute"))).isFalse();
+        assertThat(underTest.covers(null)).isFalse();
+    }
+
+    @Test
+    public void wholeThingCoversEverything() {
+        final CachedPartialThing underTest = CachedPartialThing.of(ATTRIBUTES, null);
+
+        assertThat(underTest.covers(JsonFieldSelector.newInstance("features/temp"))).isTrue();
+        assertThat(underTest.covers(null)).isTrue();
+    }
+
+    @Test
+    public void retrievedFieldsOfSameRevisionAreMerged() {
+        final CachedPartialThing underTest =
+                CachedPartialThing.of(ATTRIBUTES, JsonFieldSelector.newInstance("attributes/location", "_revision"));
+
+        final CachedPartialThing merged =
+                underTest.mergeWith(FEATURES, JsonFieldSelector.newInstance("features/temp", "_revision"));
+
+        assertThat(merged.getJsonObject()).isEqualTo(JsonObject.of("""
+                {
+                  "_revision": 3,
+                  "features": {"temp": {"properties": {"value": 21}}},
+                  "attributes": {"location": "here", "x": 5}
+                }"""));
+        assertThat(merged.covers(JsonFieldSelector.newInstance("attributes/location", "features/temp/properties")))
+                .isTrue();
+    }
+
+    @Test
+    public void retrievedFieldsOfOtherRevisionReplaceCachedFields() {
+        final CachedPartialThing underTest =
+                CachedPartialThing.of(ATTRIBUTES, JsonFieldSelector.newInstance("attributes", "_revision"));
+        final JsonObject newerFeatures = FEATURES.set("_revision", 4);
+        final JsonFieldSelector retrievedFields = JsonFieldSelector.newInstance("features", "_revision");
+
+        final CachedPartialThing merged = underTest.mergeWith(newerFeatures, retrievedFields);
+
+        assertThat(merged).isEqualTo(CachedPartialThing.of(newerFeatures, retrievedFields));
+        assertThat(merged.covers(JsonFieldSelector.newInstance("attributes"))).isFalse();
+    }
+
+    @Test
+    public void updateOfOlderRevisionKeepsCachedFields() {
+        final JsonFieldSelector coveredFields = JsonFieldSelector.newInstance("attributes", "_revision");
+        final CachedPartialThing underTest = CachedPartialThing.of(ATTRIBUTES.set("_revision", 4), coveredFields);
+
+        final CachedPartialThing updated = underTest.updateWith(CachedPartialThing.of(ATTRIBUTES, coveredFields));
+
+        assertThat(updated).isSameAs(underTest);
+    }
+
+    @Test
+    public void updateOfNewerRevisionReplacesCachedFields() {
+        final JsonFieldSelector coveredFields = JsonFieldSelector.newInstance("attributes", "_revision");
+        final CachedPartialThing underTest = CachedPartialThing.of(ATTRIBUTES, coveredFields);
+        final CachedPartialThing update = CachedPartialThing.of(ATTRIBUTES.set("_revision", 4), coveredFields);
+
+        assertThat(underTest.updateWith(update)).isEqualTo(update);
+    }
+
+}
@@ -43,6 +43,7 @@ import org.junit.Test;
 
 import com.typesafe.config.ConfigFactory;
 
+import akka.actor.ActorRef;
 import akka.actor.ActorSelection;
 import akka.testkit.javadsl.TestKit;
 
@@ -392,6 +393,88 @@ public final class DittoCachingSignalEnrichmentFacadeTest extends AbstractSignal
         });
     }
 
+    @Test
+    public void fieldsRetrievedForDifferentSelectorsAreMergedIntoOneCacheEntry() {
+        DittoTestSystem.run(this, kit -> {
+            // GIVEN: SignalEnrichmentFacade.retrievePartialThing()
+            final SignalEnrichmentFacade underTest =
+                    createSignalEnrichmentFacadeUnderTest(kit, Duration.ofSeconds(10L));
+            final ThingId thingId = ThingId.generateRandom();
+            final DittoHeaders headers = DittoHeaders.newBuilder().randomCorrelationId().build();
+            final JsonFieldSelector attributesSelector = JsonFieldSelector.newInstance("attributes");
+            final JsonFieldSelector featuresSelector = JsonFieldSelector.newInstance("features");
+            final CompletionStage<JsonObject> askResult =
+                    underTest.retrievePartialThing(thingId, attributesSelector, headers, THING_EVENT);
+
+            // WHEN: Command handler receives expected RetrieveThing and responds with RetrieveThingResponse
+            final RetrieveThing retrieveThing = kit.expectMsgClass(RetrieveThing.class);
+            softly.assertThat(retrieveThing.getSelectedFields()).contains(actualSelectedFields(attributesSelector));
+            kit.reply(RetrieveThingResponse.of(thingId, getThingResponseThingJson().get(
+                    actualSelectedFields(attributesSelector)), headers));
+            askResult.toCompletableFuture().join();
+
+            // WHEN: the same revision is asked with a selector which is not cached yet
+            final CompletionStage<JsonObject> askResult2 =
+                    underTest.retrievePartialThing(thingId, featuresSelector, headers, THING_EVENT);
+
+            // THEN: only the requested fields are retrieved
+            final RetrieveThing retrieveThing2 = kit.expectMsgClass(RetrieveThing.class);
+            softly.assertThat(retrieveThing2.getSelectedFields()).contains(actualSelectedFields(featuresSelector));
+            kit.reply(RetrieveThingResponse.of(thingId, getThingResponseThingJson().get(
+                    actualSelectedFields(featuresSelector)), headers));
+            askResult2.toCompletableFuture().join();
+
+            // WHEN: a subset of both retrieved selectors is asked for an event with one revision ahead
+            final CompletionStage<JsonObject> askResultCached =
+                    underTest.retrievePartialThing(thingId,
+                            JsonFieldSelector.newInstance("attributes/x", "features/y/properties"), headers,
+                            THING_EVENT.setRevision(THING_EVENT.getRevision() + 1));
+
+            // THEN: no cache lookup should be done
+            kit.expectNoMessage(Duration.ofSeconds(1));
+            askResultCached.toCompletableFuture().join();
+            softly.assertThat(askResultCached).isCompletedWithValue(JsonObject.of("""
+                    {
+                      "attributes": {"x": 5},
+                      "features": {"y": {"properties": {"z": true}}}
+                    }"""));
+        });
+    }
+
+    @Test
+    public void concurrentLookupsWaitForPendingRetrieval() {
+        DittoTestSystem.run(this, kit -> {
+            // GIVEN: SignalEnrichmentFacade.retrievePartialThing()
+            final SignalEnrichmentFacade underTest =
+                    createSignalEnrichmentFacadeUnderTest(kit, Duration.ofSeconds(10L));
+            final ThingId thingId = ThingId.generateRandom();
+            final DittoHeaders headers = DittoHeaders.newBuilder().randomCorrelationId().build();
+            final CompletionStage<JsonObject> askResult =
+                    underTest.retrievePartialThing(thingId, SELECTOR, headers, THING_EVENT);
+            final RetrieveThing retrieveThing = kit.expectMsgClass(RetrieveThing.class);
+            final ActorRef firstSender = kit.getLastSender();
+
+            // WHEN: the same fields are asked while the first retrieval is pending
+            final CompletionStage<JsonObject> concurrentAskResult =
+                    underTest.retrievePartialThing(thingId, SELECTOR, headers, THING_EVENT);
+
+            // THEN: the thing is not retrieved again
+            kit.expectNoMessage(Duration.ofSeconds(1));
+            softly.assertThat(retrieveThing.getSelectedFields()).contains(actualSelectedFields(SELECTOR));
+
+            // WHEN: the first retrieval completes
+            firstSender.tell(RetrieveThingResponse.of(thingId, getThingResponseThingJson(), headers),
+                    ActorRef.noSender());
+
+            // THEN: both lookups are answered by it
+            askResult.toCompletableFuture().join();
+            concurrentAskResult.toCompletableFuture().join();
+            softly.assertThat(askResult).isCompletedWithValue(getExpectedThingJson());
+            softly.assertThat(concurrentAskResult).isCompletedWithValue(getExpectedThingJson());
+            kit.expectNoMessage(Duration.ofSeconds(1));
+        });
+    }
+
     @Test
     public void metadataIsUpdatedForMergedEvent() {
         DittoTestSystem.run(this, kit -> {
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.models.streaming;
+
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.entity.id.EntityId;
+import org.eclipse.ditto.base.model.entity.id.EntityIdJsonDeserializer;
+import org.eclipse.ditto.base.model.entity.type.EntityTypeJsonDeserializer;
+import org.eclipse.ditto.base.model.json.Jsonifiable;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+
+/**
+ * Checksum over the active entities of a range of entity IDs: the number of entities, the sum of their revisions and
+ * the sum of hashes of their IDs and revisions. Two persistences agree on a range if their digests of the range are equal.
+ * The range starts after its exclusive lower bound and ends before the lower bound of the next range.
+ */
+@Immutable
+public final class RangeDigest implements StreamingMessage, Jsonifiable<JsonObject> {
+
+    private final EntityId lowerBound;
+    private final long count;
+    private final long revisionSum;
+    private final long hashSum;
+
+    private RangeDigest(final EntityId lowerBound, final long count, final long revisionSum, final long hashSum) {
+        this.lowerBound = lowerBound;
+        this.count = count;
+        this.revisionSum = revisionSum;
+        this.hashSum = hashSum;
+    }
+
+    /**
+     * Create a range digest.
+     *
+     * @param lowerBound the exclusive lower bound of the range.
+     * @param count the number of entities in the range.
+     * @param revisionSum the sum of the revisions of the entities in the range.
+     * @param hashSum the sum of the hashes of the IDs and revisions of the entities in the range.
+     * @return the range digest.
+     */
+    public static RangeDigest of(final EntityId lowerBound, final long count, final long revisionSum,
+            final long hashSum) {
+        return new RangeDigest(lowerBound, count, revisionSum, hashSum);
+    }
+
+    /**
+     * Create the digest of a range without entities.
+     *
+     * @param lowerBound the exclusive lower bound of the range.
+     * @return the range digest.
+     */
+    public static RangeDigest empty(final EntityId lowerBound) {
+        return new RangeDigest(lowerBound, 0L, 0L, 0L);
+    }
+
+    /**
+     * Deserializes a {@code RangeDigest} from the specified {@link JsonObject} argument.
+     *
+     * @param jsonObject the JSON object to be deserialized.
+     * @return the deserialized {@code RangeDigest}.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if {@code jsonObject} did not contain all required
+     * fields.
+     * @throws org.eclipse.ditto.json.JsonParseException if {@code jsonObject} was not in the expected format.
+     */
+    public static RangeDigest fromJson(final JsonObject jsonObject) {
+        return new RangeDigest(deserializeLowerBound(jsonObject),
+                jsonObject.getValueOrThrow(JsonFields.COUNT),
+                jsonObject.getValueOrThrow(JsonFields.REVISION_SUM),
+                jsonObject.getValueOrThrow(JsonFields.HASH_SUM));
+    }
+
+    private static EntityId deserializeLowerBound(final JsonObject jsonObject) {
+        return EntityIdJsonDeserializer.deserializeEntityId(jsonObject,
+                JsonFields.LOWER_BOUND,
+                EntityTypeJsonDeserializer.deserializeEntityType(jsonObject, JsonFields.ENTITY_TYPE));
+    }
+
+    /**
+     * Retrieve the exclusive lower bound of the range.
+     *
+     * @return the lower bound.
+     */
+    public EntityId getLowerBound() {
+        return lowerBound;
+    }
+
+    /**
+     * Retrieve the number of entities in the range.
+     *
+     * @return the number of entities.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Retrieve the sum of the revisions of the entities in the range.
+     *
+     * @return the sum of revisions.
+     */
+    public long getRevisionSum() {
+        return revisionSum;
+    }
+
+    /**
+     * Retrieve the sum of the hashes of the IDs and revisions of the entities in the range.
+     *
+     * @return the sum of hashes.
+     */
+    public long getHashSum() {
+        return hashSum;
+    }
+
+    /**
+     * Check whether another digest has the same checksum regardless of the lower bound.
+     *
+     * @param other the other digest.
+     * @return whether both digests have the same count, revision sum and hash sum.
+     */
+    public boolean hasSameChecksumAs(final RangeDigest other) {
+        return count == other.count && revisionSum == other.revisionSum && hashSum == other.hashSum;
+    }
+
+    @Override
+    public JsonObject toJson() {
+        return JsonObject.newBuilder()
+                .set(JsonFields.ENTITY_TYPE, lowerBound.getEntityType().toString())
+                .set(JsonFields.LOWER_BOUND, lowerBound.toString())
+                .set(JsonFields.COUNT, count)
+                .set(JsonFields.REVISION_SUM, revisionSum)
+                .set(JsonFields.HASH_SUM, hashSum)
+                .build();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (other instanceof final RangeDigest that) {
+            return Objects.equals(lowerBound, that.lowerBound) && hasSameChecksumAs(that);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lowerBound, count, revisionSum, hashSum);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() +
+                "[lowerBound=" + lowerBound +
+                ",count=" + count +
+                ",revisionSum=" + revisionSum +
+                ",hashSum=" + hashSum +
+                "]";
+    }
+
+    private static final class JsonFields {
+
+        private static final JsonFieldDefinition<String> ENTITY_TYPE = JsonFactory.newStringFieldDefinition("type");
+
+        private static final JsonFieldDefinition<String> LOWER_BOUND = JsonFactory.newStringFieldDefinition("lb");
+
+        private static final JsonFieldDefinition<Long> COUNT = JsonFactory.newLongFieldDefinition("c");
+
+        private static final JsonFieldDefinition<Long> REVISION_SUM = JsonFactory.newLongFieldDefinition("r");
+
+        private static final JsonFieldDefinition<Long> HASH_SUM = JsonFactory.newLongFieldDefinition("h");
+    }
+}
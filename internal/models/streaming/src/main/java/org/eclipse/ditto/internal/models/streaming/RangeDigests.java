@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.models.streaming;
+
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.json.Jsonifiable;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * Serializable reply to {@link SudoRetrieveRangeDigests} containing one digest per requested range in the order of
+ * the requested lower bounds.
+ */
+@Immutable
+public final class RangeDigests implements StreamingMessage, Jsonifiable<JsonObject> {
+
+    private final List<RangeDigest> digests;
+
+    private RangeDigests(final List<RangeDigest> digests) {
+        this.digests = List.copyOf(digests);
+    }
+
+    /**
+     * Create the reply from the digests of the requested ranges.
+     *
+     * @param digests the digests in the order of their ranges.
+     * @return the reply.
+     */
+    public static RangeDigests of(final List<RangeDigest> digests) {
+        return new RangeDigests(digests);
+    }
+
+    /**
+     * Deserializes a {@code RangeDigests} from the specified {@link JsonObject} argument.
+     *
+     * @param jsonObject the JSON object to be deserialized.
+     * @return the deserialized {@code RangeDigests}.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if {@code jsonObject} did not contain all required
+     * fields.
+     * @throws org.eclipse.ditto.json.JsonParseException if {@code jsonObject} was not in the expected format.
+     */
+    public static RangeDigests fromJson(final JsonObject jsonObject) {
+        return new RangeDigests(jsonObject.getValueOrThrow(JsonFields.DIGESTS)
+                .stream()
+                .map(JsonValue::asObject)
+                .map(RangeDigest::fromJson)
+                .toList());
+    }
+
+    /**
+     * Retrieve the digests in the order of their ranges.
+     *
+     * @return the digests.
+     */
+    public List<RangeDigest> getDigests() {
+        return digests;
+    }
+
+    @Override
+    public JsonObject toJson() {
+        return JsonObject.newBuilder()
+                .set(JsonFields.DIGESTS, digests.stream()
+                        .map(RangeDigest::toJson)
+                        .collect(JsonCollectors.valuesToArray()))
+                .build();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (other instanceof final RangeDigests that) {
+            return Objects.equals(digests, that.digests);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(digests);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[digests=" + digests + "]";
+    }
+
+    private static final class JsonFields {
+
+        private static final JsonFieldDefinition<JsonArray> DIGESTS = JsonFactory.newJsonArrayFieldDefinition("d");
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.models.streaming;
+
+import static org.eclipse.ditto.base.model.json.FieldType.REGULAR;
+import static org.eclipse.ditto.base.model.json.JsonSchemaVersion.V_2;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.entity.id.EntityId;
+import org.eclipse.ditto.base.model.entity.type.EntityType;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.JsonParsableCommand;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.base.model.signals.commands.AbstractCommand;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault;
+
+/**
+ * Command to compute the {@link RangeDigest}s of consecutive ranges of entity IDs in the snapshot store.
+ * Range {@code i} contains the IDs greater than the {@code i}-th lower bound and not greater than the next lower
+ * bound. The last range ends at the optional inclusive upper bound. The reply is {@link RangeDigests}.
+ */
+@Immutable
+@AllValuesAreNonnullByDefault
+@JsonParsableCommand(typePrefix = StreamingMessage.TYPE_PREFIX, name = SudoRetrieveRangeDigests.NAME)
+public final class SudoRetrieveRangeDigests extends AbstractCommand<SudoRetrieveRangeDigests> {
+
+    static final String NAME = "SudoRetrieveRangeDigests";
+
+    /**
+     * Type of this command.
+     */
+    public static final String TYPE = TYPE_PREFIX + NAME;
+
+    private final EntityType entityType;
+    private final List<EntityId> lowerBounds;
+    @Nullable private final EntityId upperBound;
+
+    private SudoRetrieveRangeDigests(final EntityType entityType,
+            final List<EntityId> lowerBounds,
+            @Nullable final EntityId upperBound,
+            final DittoHeaders dittoHeaders) {
+
+        super(TYPE, dittoHeaders);
+        this.entityType = entityType;
+        this.lowerBounds = List.copyOf(lowerBounds);
+        this.upperBound = upperBound;
+    }
+
+    /**
+     * Creates a new {@code SudoRetrieveRangeDigests} command.
+     *
+     * @param entityType the entity type of the snapshots.
+     * @param lowerBounds the ascending exclusive lower bounds of the ranges.
+     * {@link LowerBound#emptyEntityId(EntityType)} as first lower bound means no lower bound.
+     * @param upperBound the inclusive upper bound of the last range, or {@code null} if it is unbounded.
+     * @param dittoHeaders the command headers of the request.
+     * @return the command.
+     * @throws IllegalArgumentException if {@code lowerBounds} is empty.
+     */
+    public static SudoRetrieveRangeDigests of(final EntityType entityType,
+            final List<? extends EntityId> lowerBounds,
+            @Nullable final EntityId upperBound,
+            final DittoHeaders dittoHeaders) {
+
+        if (lowerBounds.isEmpty()) {
+            throw new IllegalArgumentException("At least 1 lower bound is required.");
+        }
+        return new SudoRetrieveRangeDigests(entityType, List.copyOf(lowerBounds), upperBound, dittoHeaders);
+    }
+
+    /**
+     * Deserializes a {@code SudoRetrieveRangeDigests} from the specified {@link JsonObject} argument.
+     *
+     * @param jsonObject the JSON object to be deserialized.
+     * @param dittoHeaders the headers of the command.
+     * @return the deserialized {@code SudoRetrieveRangeDigests}.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if {@code jsonObject} did not contain all required
+     * fields.
+     * @throws org.eclipse.ditto.json.JsonParseException if {@code jsonObject} was not in the expected format.
+     */
+    public static SudoRetrieveRangeDigests fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+        final EntityType entityType = EntityType.of(jsonObject.getValueOrThrow(JsonFields.JSON_ENTITY_TYPE));
+        final List<EntityId> lowerBounds = jsonObject.getValueOrThrow(JsonFields.JSON_LOWER_BOUNDS)
+                .stream()
+                .map(JsonValue::asString)
+                .map(lowerBound -> EntityId.of(entityType, lowerBound))
+                .toList();
+        final EntityId upperBound = jsonObject.getValue(JsonFields.JSON_UPPER_BOUND)
+                .map(bound -> EntityId.of(entityType, bound))
+                .orElse(null);
+
+        return of(entityType, lowerBounds, upperBound, dittoHeaders);
+    }
+
+    /**
+     * Return the entity type of the snapshots.
+     *
+     * @return the entity type.
+     */
+    public EntityType getEntityType() {
+        return entityType;
+    }
+
+    /**
+     * Return the ascending exclusive lower bounds of the ranges.
+     *
+     * @return the lower bounds.
+     */
+    public List<EntityId> getLowerBounds() {
+        return lowerBounds;
+    }
+
+    /**
+     * Return the inclusive upper bound of the last range.
+     *
+     * @return the upper bound, or an empty optional if the last range is unbounded.
+     */
+    public Optional<EntityId> getUpperBound() {
+        return Optional.ofNullable(upperBound);
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder,
+            final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        jsonObjectBuilder.set(JsonFields.JSON_ENTITY_TYPE, entityType.toString(), predicate);
+        jsonObjectBuilder.set(JsonFields.JSON_LOWER_BOUNDS, lowerBounds.stream()
+                .map(EntityId::toString)
+                .map(JsonValue::of)
+                .collect(JsonCollectors.valuesToArray()), predicate);
+        if (upperBound != null) {
+            jsonObjectBuilder.set(JsonFields.JSON_UPPER_BOUND, upperBound.toString(), predicate);
+        }
+    }
+
+    @Override
+    public String getTypePrefix() {
+        return TYPE_PREFIX;
+    }
+
+    @Override
+    public Category getCategory() {
+        return Category.QUERY;
+    }
+
+    @Override
+    public SudoRetrieveRangeDigests setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return new SudoRetrieveRangeDigests(entityType, lowerBounds, upperBound, dittoHeaders);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), entityType, lowerBounds, upperBound);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object obj) {
+        if (obj instanceof final SudoRetrieveRangeDigests that) {
+            return Objects.equals(entityType, that.entityType) &&
+                    Objects.equals(lowerBounds, that.lowerBounds) &&
+                    Objects.equals(upperBound, that.upperBound) &&
+                    super.equals(that);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    protected boolean canEqual(@Nullable final Object other) {
+        return other instanceof SudoRetrieveRangeDigests;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString()
+                + ", entityType=" + entityType
+                + ", lowerBounds=" + lowerBounds
+                + ", upperBound=" + upperBound
+                + "]";
+    }
+
+    @Override
+    public JsonPointer getResourcePath() {
+        return JsonPointer.empty();
+    }
+
+    @Override
+    public String getResourceType() {
+        return TYPE;
+    }
+
+    static final class JsonFields {
+
+        private JsonFields() {
+            throw new AssertionError();
+        }
+
+        static final JsonFieldDefinition<String> JSON_ENTITY_TYPE =
+                JsonFactory.newStringFieldDefinition("payload/entityType", REGULAR, V_2);
+
+        static final JsonFieldDefinition<JsonArray> JSON_LOWER_BOUNDS =
+                JsonFactory.newJsonArrayFieldDefinition("payload/lowerBounds", REGULAR, V_2);
+
+        static final JsonFieldDefinition<String> JSON_UPPER_BOUND =
+                JsonFactory.newStringFieldDefinition("payload/upperBound", REGULAR, V_2);
+    }
+
+}
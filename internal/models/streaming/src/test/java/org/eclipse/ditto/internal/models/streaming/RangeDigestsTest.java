@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.models.streaming;
+
+import static org.eclipse.ditto.json.assertions.DittoJsonAssertions.assertThat;
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.List;
+
+import org.eclipse.ditto.base.model.entity.id.EntityId;
+import org.eclipse.ditto.base.model.entity.type.EntityType;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link RangeDigests} and {@link RangeDigest}.
+ */
+public final class RangeDigestsTest {
+
+    private static final EntityType THING_TYPE = EntityType.of("thing");
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(RangeDigest.class, areImmutable(), provided(EntityId.class).isAlsoImmutable());
+        assertInstancesOf(RangeDigests.class, areImmutable(),
+                provided(RangeDigest.class).isAlsoImmutable(),
+                assumingFields("digests").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(RangeDigest.class).verify();
+        EqualsVerifier.forClass(RangeDigests.class).verify();
+    }
+
+    @Test
+    public void testSerialization() {
+        final RangeDigests underTest = RangeDigests.of(List.of(
+                RangeDigest.empty(LowerBound.emptyEntityId(THING_TYPE)),
+                RangeDigest.of(EntityId.of(THING_TYPE, "hello:world"), 3L, 1234567890123L, 456L)));
+
+        final RangeDigests deserialized = RangeDigests.fromJson(underTest.toJson());
+
+        assertThat(deserialized).isEqualTo(underTest);
+    }
+
+    @Test
+    public void checksumIgnoresLowerBound() {
+        final RangeDigest digest1 = RangeDigest.of(EntityId.of(THING_TYPE, "hello:world"), 3L, 4L, 5L);
+        final RangeDigest digest2 = RangeDigest.of(EntityId.of(THING_TYPE, "hello:zebra"), 3L, 4L, 5L);
+
+        assertThat(digest1.hasSameChecksumAs(digest2)).isTrue();
+        assertThat(digest1.hasSameChecksumAs(RangeDigest.empty(digest1.getLowerBound()))).isFalse();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.models.streaming;
+
+import static org.eclipse.ditto.json.assertions.DittoJsonAssertions.assertThat;
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.List;
+
+import org.eclipse.ditto.base.model.entity.id.EntityId;
+import org.eclipse.ditto.base.model.entity.type.EntityType;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.FieldType;
+import org.eclipse.ditto.base.model.json.Jsonifiable;
+import org.eclipse.ditto.base.model.signals.commands.GlobalCommandRegistry;
+import org.eclipse.ditto.json.JsonObject;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link SudoRetrieveRangeDigests}.
+ */
+public final class SudoRetrieveRangeDigestsTest {
+
+    private static final EntityType THING_TYPE = EntityType.of("thing");
+    private static final List<EntityId> LOWER_BOUNDS = List.of(LowerBound.emptyEntityId(THING_TYPE),
+            EntityId.of(THING_TYPE, "hello:world"));
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(SudoRetrieveRangeDigests.class, areImmutable(),
+                provided(EntityId.class, EntityType.class).areAlsoImmutable(),
+                assumingFields("lowerBounds").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(SudoRetrieveRangeDigests.class)
+                .withRedefinedSuperclass()
+                .verify();
+    }
+
+    @Test
+    public void testSerialization() {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().randomCorrelationId().build();
+        final SudoRetrieveRangeDigests underTest = SudoRetrieveRangeDigests.of(THING_TYPE, LOWER_BOUNDS,
+                EntityId.of(THING_TYPE, "hello:zebra"), dittoHeaders);
+        final JsonObject serialized = underTest.toJson(FieldType.regularOrSpecial());
+        final SudoRetrieveRangeDigests deserialized = SudoRetrieveRangeDigests.fromJson(serialized, dittoHeaders);
+
+        assertThat(deserialized).isEqualTo(underTest);
+    }
+
+    @Test
+    public void testSerializationWithoutUpperBound() {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().randomCorrelationId().build();
+        final SudoRetrieveRangeDigests underTest =
+                SudoRetrieveRangeDigests.of(THING_TYPE, LOWER_BOUNDS, null, dittoHeaders);
+        final JsonObject serialized = underTest.toJson(FieldType.regularOrSpecial());
+        final SudoRetrieveRangeDigests deserialized = SudoRetrieveRangeDigests.fromJson(serialized, dittoHeaders);
+
+        assertThat(deserialized).isEqualTo(underTest);
+        assertThat(deserialized.getUpperBound()).isEmpty();
+    }
+
+    @Test
+    public void parseWithRegistry() {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().randomCorrelationId().build();
+        final SudoRetrieveRangeDigests underTest =
+                SudoRetrieveRangeDigests.of(THING_TYPE, LOWER_BOUNDS, null, dittoHeaders);
+        final Jsonifiable<?> parsed = GlobalCommandRegistry.getInstance().parse(underTest.toJson(), dittoHeaders);
+        assertThat(parsed).isEqualTo(underTest);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void lowerBoundsMustNotBeEmpty() {
+        SudoRetrieveRangeDigests.of(THING_TYPE, List.of(), null, DittoHeaders.empty());
+    }
+
+}
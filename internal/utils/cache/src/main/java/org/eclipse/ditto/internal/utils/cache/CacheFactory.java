@@ -24,6 +24,7 @@ import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalListener;
 
 /**
  * Creates a cache configured by a {@link org.eclipse.ditto.internal.utils.cache.config.CacheConfig}.
@@ -46,7 +47,7 @@ public final class CacheFactory {
      * @return the created cache.
      * @throws NullPointerException if any argument is {@code null}.
      */
-    public static <K, V> Cache<K, V> createCache(final CacheConfig cacheConfig, @Nullable final String cacheName,
+    public static <K, V> CaffeineCache<K, V> createCache(final CacheConfig cacheConfig, @Nullable final String cacheName,
             final Executor executor) {
 
         return CaffeineCache.of(caffeine(cacheConfig, executor), cacheName);
@@ -74,6 +75,34 @@ public final class CacheFactory {
         return CaffeineCache.of(caffeine(cacheConfig, executor), cacheLoader, cacheName);
     }
 
+    /**
+     * Creates a cache which notifies a listener about the entries it evicts.
+     *
+     * @param cacheLoader the cache loader.
+     * @param evictionListener the listener called for each entry evicted by the cache's size or expiration policy.
+     * It is called as part of the eviction, hence it must be fast. It is not called for invalidated or replaced
+     * entries.
+     * @param cacheConfig the cache's configuration.
+     * @param cacheName the name of the cache or {@code null} if metrics should be disabled. Used as metric label.
+     * @param executor the executor to use in the cache.
+     * @param <K> the type of the cache keys.
+     * @param <V> the type of the cache values.
+     * @return the created cache.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static <K, V> Cache<K, V> createCache(final AsyncCacheLoader<K, V> cacheLoader,
+            final RemovalListener<K, V> evictionListener,
+            final CacheConfig cacheConfig,
+            @Nullable final String cacheName,
+            final Executor executor) {
+
+        checkNotNull(cacheLoader, "AsyncCacheLoader");
+        checkNotNull(evictionListener, "evictionListener");
+
+        return CaffeineCache.of(caffeine(cacheConfig, executor).evictionListener(evictionListener), cacheLoader,
+                cacheName);
+    }
+
     /**
      * Creates a cache with a custom provided expiry policy.
      *
@@ -179,6 +179,25 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
         return asyncCache.get(key, mappingFunction);
     }
 
+    /**
+     * Atomically compute the future value associated with a key from the currently associated future value.
+     * Computations of the same key do not overlap, hence a computation chaining its future to the current one
+     * sees the results of all computations before it. The remapping function must not block.
+     * Only available for Caffeine caches.
+     *
+     * @param key key associated with the value in cache.
+     * @param remappingFunction function computing the new future value from the key and the current future value,
+     * which is {@code null} if no value is associated with the key.
+     * @return the new future value.
+     */
+    public CompletableFuture<V> compute(final K key,
+            final BiFunction<? super K, ? super CompletableFuture<V>, ? extends CompletableFuture<V>> remappingFunction) {
+
+        requireNonNull(key);
+
+        return asyncCache.asMap().compute(key, remappingFunction);
+    }
+
     @Override
     public CompletableFuture<Optional<V>> getIfPresent(final K key) {
         requireNonNull(key);
@@ -16,10 +16,13 @@ import static java.util.Objects.requireNonNull;
 
 import java.text.MessageFormat;
 import java.time.Duration;
+import java.util.LinkedHashSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
@@ -67,6 +70,8 @@ public abstract class DistributedData<R extends ReplicatedData> implements Exten
 
     private final DistributedDataConfig config;
 
+    private final ActorRefFactory actorRefFactory;
+
     /**
      * Create a wrapper of distributed data replicator.
      *
@@ -83,6 +88,7 @@ public abstract class DistributedData<R extends ReplicatedData> implements Exten
         writeTimeout = config.getWriteTimeout();
         numberOfShards = config.getNumberOfShards();
         this.config = config;
+        actorRefFactory = factory;
     }
 
     /**
@@ -167,6 +173,22 @@ public abstract class DistributedData<R extends ReplicatedData> implements Exten
                 .forEach(i -> replicator.tell(new Replicator.Subscribe<>(getKey(i), subscriber), ActorRef.noSender()));
     }
 
+    /**
+     * Create a view of the local replica which is updated on every change and can be read synchronously.
+     * Should be called at most once per instance.
+     *
+     * @param toView converts the replicated data of a key to its immutable representation in the view.
+     * @param <V> type of the representation.
+     * @return the view.
+     */
+    protected <V> LocalDistributedDataView<R, V> createLocalView(final Function<? super R, ? extends V> toView) {
+        final Set<Key<R>> keys = IntStream.range(0, numberOfShards)
+                .mapToObj(this::getKey)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return LocalDistributedDataView.of(replicator, keys, toView, toView.apply(getInitialValue()), readTimeout,
+                actorRefFactory, config.getAkkaReplicatorConfig().getName() + "LocalView");
+    }
+
     /**
      * @return reference to the distributed data replicator.
      */
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.ddata;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import akka.Done;
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.ActorRefFactory;
+import akka.actor.Props;
+import akka.actor.Status;
+import akka.cluster.ddata.Key;
+import akka.cluster.ddata.ReplicatedData;
+import akka.cluster.ddata.Replicator;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
+
+/**
+ * Locally materialized view of distributed data. The view subscribes to the changes of the local replica and keeps
+ * an immutable representation of each key, so that it can be read synchronously without asking the replicator.
+ * <p>
+ * Changes of other cluster members become visible with the delay of the replicator's
+ * {@code notify-subscribers-interval}. Writers may call {@link #refresh(Key)} to make their own writes visible
+ * immediately.
+ *
+ * @param <R> type of replicated data.
+ * @param <V> type of the immutable representation of the replicated data.
+ */
+@ThreadSafe
+public final class LocalDistributedDataView<R extends ReplicatedData, V> {
+
+    private final Map<Key<R>, V> views;
+    private final Function<? super R, ? extends V> toView;
+    private final V emptyView;
+    private final Duration refreshTimeout;
+    private final ActorRef viewActor;
+
+    private LocalDistributedDataView(final ActorRef replicator,
+            final Set<Key<R>> keys,
+            final Function<? super R, ? extends V> toView,
+            final V emptyView,
+            final Duration refreshTimeout,
+            final ActorRefFactory factory,
+            final String name) {
+
+        views = new ConcurrentHashMap<>();
+        this.toView = toView;
+        this.emptyView = emptyView;
+        this.refreshTimeout = refreshTimeout;
+        viewActor = factory.actorOf(ViewActor.props(this, replicator, keys), name);
+    }
+
+    static <R extends ReplicatedData, V> LocalDistributedDataView<R, V> of(final ActorRef replicator,
+            final Set<Key<R>> keys,
+            final Function<? super R, ? extends V> toView,
+            final V emptyView,
+            final Duration refreshTimeout,
+            final ActorRefFactory factory,
+            final String name) {
+
+        return new LocalDistributedDataView<>(replicator, keys, toView, emptyView, refreshTimeout, factory, name);
+    }
+
+    /**
+     * Returns the latest known representation of the local replica of a key.
+     *
+     * @param key the key.
+     * @return the representation, or the representation of the initial value if the key was not replicated yet.
+     */
+    public V get(final Key<R> key) {
+        return views.getOrDefault(key, emptyView);
+    }
+
+    /**
+     * Returns the latest known representations of the local replicas of all keys.
+     *
+     * @return the representations of all keys which were replicated already.
+     */
+    public List<V> getAll() {
+        return List.copyOf(views.values());
+    }
+
+    /**
+     * Reads the local replica of a key and updates the view with it.
+     *
+     * @param key the key.
+     * @return future that completes after the view was updated, exceptionally if the replica could not be read.
+     */
+    public CompletionStage<Void> refresh(final Key<R> key) {
+        return Patterns.ask(viewActor, new Refresh<>(key), refreshTimeout).thenApply(done -> null);
+    }
+
+    private void update(final Key<R> key, final R data) {
+        views.put(key, toView.apply(data));
+    }
+
+    private void remove(final Key<R> key) {
+        views.remove(key);
+    }
+
+    private record Refresh<R extends ReplicatedData>(Key<R> key) {}
+
+    /**
+     * Actor which updates the view. Changes and replies to refresh requests are received from the same replicator
+     * and therefore in the order of their creation; the view never goes back to an older state.
+     */
+    private static final class ViewActor<R extends ReplicatedData, V> extends AbstractActor {
+
+        private final LocalDistributedDataView<R, V> view;
+        private final ActorRef replicator;
+        private final Set<Key<R>> keys;
+
+        ViewActor(final LocalDistributedDataView<R, V> view, final ActorRef replicator,
+                final Set<Key<R>> keys) {
+
+            this.view = view;
+            this.replicator = replicator;
+            this.keys = keys;
+        }
+
+        private static <R extends ReplicatedData, V> Props props(final LocalDistributedDataView<R, V> view,
+                final ActorRef replicator, final Set<Key<R>> keys) {
+
+            return Props.create(ViewActor.class, view, replicator, keys);
+        }
+
+        @Override
+        public void preStart() {
+            keys.forEach(key -> replicator.tell(new Replicator.Subscribe<>(key, getSelf()), getSelf()));
+        }
+
+        @Override
+        public Receive createReceive() {
+            return ReceiveBuilder.create()
+                    .match(Replicator.Changed.class, this::changed)
+                    .match(Replicator.Deleted.class, this::deleted)
+                    .match(Refresh.class, this::refresh)
+                    .match(Replicator.GetSuccess.class, this::getSuccess)
+                    .match(Replicator.NotFound.class, this::notFound)
+                    .match(Replicator.GetFailure.class, this::getFailure)
+                    .build();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void changed(final Replicator.Changed<?> changed) {
+            view.update((Key<R>) changed.key(), (R) changed.dataValue());
+        }
+
+        @SuppressWarnings("unchecked")
+        private void deleted(final Replicator.Deleted<?> deleted) {
+            view.remove((Key<R>) deleted.key());
+        }
+
+        private void refresh(final Refresh<?> refresh) {
+            final Replicator.ReadConsistency readLocal = (Replicator.ReadConsistency) Replicator.readLocal();
+            replicator.tell(new Replicator.Get<>(refresh.key(), readLocal, Optional.<Object>of(getSender())),
+                    getSelf());
+        }
+
+        @SuppressWarnings("unchecked")
+        private void getSuccess(final Replicator.GetSuccess<?> getSuccess) {
+            view.update((Key<R>) getSuccess.key(), (R) getSuccess.dataValue());
+            replyToRequester(getSuccess.getRequest(), Done.getInstance());
+        }
+
+        @SuppressWarnings("unchecked")
+        private void notFound(final Replicator.NotFound<?> notFound) {
+            view.remove((Key<R>) notFound.key());
+            replyToRequester(notFound.getRequest(), Done.getInstance());
+        }
+
+        private void getFailure(final Replicator.GetFailure<?> getFailure) {
+            replyToRequester(getFailure.getRequest(), new Status.Failure(
+                    new IllegalStateException("Failed to read local replica of key " + getFailure.key())));
+        }
+
+        private void replyToRequester(final Optional<Object> request, final Object reply) {
+            request.filter(ActorRef.class::isInstance)
+                    .map(ActorRef.class::cast)
+                    .ifPresent(requester -> requester.tell(reply, getSelf()));
+        }
+
+    }
+
+}
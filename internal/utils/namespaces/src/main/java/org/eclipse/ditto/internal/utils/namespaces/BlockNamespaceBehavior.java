@@ -14,7 +14,6 @@ package org.eclipse.ditto.internal.utils.namespaces;
 
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
-import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
@@ -55,39 +54,28 @@ public final class BlockNamespaceBehavior {
      * with a {@code NamespaceBlockedException}.
      */
     public <T extends DittoHeadersSettable<?>> CompletionStage<T> block(final T signal) {
-        if (signal instanceof WithEntityId withEntityId) {
-            return isBlocked(withEntityId.getEntityId())
-                    .thenApply(containsNamespace -> {
-                        if (containsNamespace != null && containsNamespace) {
-                            throw NamespaceBlockedException.newBuilder(
-                                            NamespaceReader.fromEntityId(withEntityId.getEntityId()).orElseThrow()
-                                    )
-                                    .dittoHeaders(signal.getDittoHeaders())
-                                    .build();
-                        } else {
-                            return signal;
-                        }
-                    });
+        if (signal instanceof WithEntityId withEntityId && isBlocked(withEntityId.getEntityId())) {
+            return CompletableFuture.failedFuture(NamespaceBlockedException.newBuilder(
+                            NamespaceReader.fromEntityId(withEntityId.getEntityId()).orElseThrow()
+                    )
+                    .dittoHeaders(signal.getDittoHeaders())
+                    .build());
         }
         return CompletableFuture.completedFuture(signal);
     }
 
     /**
-     * Evaluates in the returned completionStage whether the passed {@code entityId}'s namespace is currently blocked
-     * or not.
+     * Checks whether the passed {@code entityId}'s namespace is currently blocked according to the locally
+     * replicated blocked namespaces.
      *
      * @param entityId the entityId to extract the namespace from to check if it is blocked.
-     * @return a completion stage which completes with {@code true} when the namespace of the passed {@code entityId}
-     * is currently blocked and with {@code false} if not.
+     * @return {@code true} when the namespace of the passed {@code entityId} is currently blocked and {@code false} if
+     * not.
      */
-    public CompletionStage<Boolean> isBlocked(final EntityId entityId) {
-        final Optional<String> namespaceOptional = NamespaceReader.fromEntityId(entityId);
-        if (namespaceOptional.isPresent()) {
-            final String namespace = namespaceOptional.get();
-            return blockedNamespaces.contains(namespace);
-        } else {
-            return CompletableFuture.completedFuture(false);
-        }
+    public boolean isBlocked(final EntityId entityId) {
+        return NamespaceReader.fromEntityId(entityId)
+                .map(blockedNamespaces::isBlocked)
+                .orElse(false);
     }
 
 }
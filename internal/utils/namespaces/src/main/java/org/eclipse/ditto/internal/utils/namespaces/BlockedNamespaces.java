@@ -12,10 +12,12 @@
  */
 package org.eclipse.ditto.internal.utils.namespaces;
 
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 
 import org.eclipse.ditto.internal.utils.ddata.DistributedData;
 import org.eclipse.ditto.internal.utils.ddata.DistributedDataConfig;
+import org.eclipse.ditto.internal.utils.ddata.LocalDistributedDataView;
 
 import akka.actor.ActorSystem;
 import akka.actor.ExtendedActorSystem;
@@ -49,10 +51,12 @@ public final class BlockedNamespaces extends DistributedData<ORSet<String>> {
     private static final String BLOCKED_NAMESPACES_DISPATCHER = "blocked-namespaces-dispatcher";
 
     private final SelfUniqueAddress selfUniqueAddress;
+    private final LocalDistributedDataView<ORSet<String>, Set<String>> localView;
 
     private BlockedNamespaces(final DistributedDataConfig config, final ActorSystem system) {
         super(config, system, system.dispatchers().lookup(BLOCKED_NAMESPACES_DISPATCHER));
         selfUniqueAddress = SelfUniqueAddress.apply(Cluster.get(system).selfUniqueAddress());
+        localView = createLocalView(orSet -> Set.copyOf(orSet.getElements()));
     }
 
     /**
@@ -91,26 +95,41 @@ public final class BlockedNamespaces extends DistributedData<ORSet<String>> {
                 .exceptionally(error -> false);
     }
 
+    /**
+     * Test whether a namespace is contained in the locally materialized view of the local replica. Does not ask the
+     * replicator; changes of other cluster members become visible after the replicator notified its subscribers.
+     *
+     * @param namespace the namespace.
+     * @return whether the namespace is blocked.
+     */
+    public boolean isBlocked(final String namespace) {
+        return localView.get(KEY).contains(namespace);
+    }
+
     /**
      * Write a namespace to ALL replicas with the configured WRITE timeout.
      *
      * @param namespace the namespace.
-     * @return future that completes after the update propagates to all replicas, exceptionally if there is any error.
+     * @return future that completes after the update propagates to all replicas and to the local view, exceptionally
+     * if there is any error.
      */
     public CompletionStage<Void> add(final String namespace) {
         // for blocked namespaces, only 1 shard is used:
-        return update(getKey(0), writeAll(), orSet -> orSet.add(selfUniqueAddress, namespace));
+        return update(getKey(0), writeAll(), orSet -> orSet.add(selfUniqueAddress, namespace))
+                .thenCompose(unused -> localView.refresh(KEY));
     }
 
     /**
      * Remove a namespace from ALL replicas with the configured WRITE timeout.
      *
      * @param namespace the namespace to remove.
-     * @return future that completes after the removal propagates to all replicas, exceptionally if there is any error.
+     * @return future that completes after the removal propagates to all replicas and to the local view, exceptionally
+     * if there is any error.
      */
     public CompletionStage<Void> remove(final String namespace) {
         // for blocked namespaces, only 1 shard is used:
-        return update(getKey(0), writeAll(), orSet -> orSet.remove(selfUniqueAddress, namespace));
+        return update(getKey(0), writeAll(), orSet -> orSet.remove(selfUniqueAddress, namespace))
+                .thenCompose(unused -> localView.refresh(KEY));
     }
 
     @Override
@@ -25,8 +25,11 @@ import org.junit.Test;
 import com.typesafe.config.ConfigFactory;
 
 import akka.actor.ActorSystem;
+import akka.cluster.Cluster;
 import akka.cluster.ddata.ORSet;
+import akka.cluster.ddata.ORSetKey;
 import akka.cluster.ddata.Replicator;
+import akka.cluster.ddata.SelfUniqueAddress;
 import akka.stream.Attributes;
 import akka.testkit.javadsl.TestKit;
 
@@ -130,16 +133,36 @@ public final class BlockedNamespacesTest {
 
     }
 
+    @Test
+    public void localViewReceivesChangesOfOtherWriters() {
+        new TestKit(actorSystem) {{
+            final BlockedNamespaces underTest = BlockedNamespaces.of(actorSystem);
+            final String namespace = "written.elsewhere";
+
+            // write with the replicator directly, bypassing the refresh of the local view
+            final SelfUniqueAddress self = SelfUniqueAddress.apply(Cluster.get(actorSystem).selfUniqueAddress());
+            underTest.getReplicator().tell(new Replicator.Update<>(ORSetKey.<String>create("BlockedNamespaces"),
+                    ORSet.empty(), (Replicator.WriteConsistency) Replicator.writeLocal(),
+                    orSet -> orSet.add(self, namespace)), getRef());
+            expectMsgClass(Replicator.UpdateSuccess.class);
+
+            awaitAssert(() -> assertThat(underTest.isBlocked(namespace)).isTrue());
+        }};
+    }
+
     private static void testCRUD(final BlockedNamespaces underTest, final ActorSystem actorSystem) throws Exception {
         new TestKit(actorSystem) {{
             final String namespace = "dummy.namespace";
             assertThat(underTest.contains(namespace).toCompletableFuture().get()).isFalse();
+            assertThat(underTest.isBlocked(namespace)).isFalse();
 
             underTest.add(namespace).toCompletableFuture().get();
             assertThat(underTest.contains(namespace).toCompletableFuture().get()).isTrue();
+            assertThat(underTest.isBlocked(namespace)).isTrue();
 
             underTest.remove(namespace).toCompletableFuture().get();
             assertThat(underTest.contains(namespace).toCompletableFuture().get()).isFalse();
+            assertThat(underTest.isBlocked(namespace)).isFalse();
         }};
     }
 
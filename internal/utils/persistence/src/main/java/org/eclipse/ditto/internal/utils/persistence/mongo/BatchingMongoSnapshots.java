@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.DefaultMongoDbConfig;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.DefaultRecoveryBatchingConfig;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.RecoveryBatchingConfig;
+import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
+
+import com.typesafe.config.Config;
+
+import akka.contrib.persistence.mongodb.MongoSnapshots;
+import akka.persistence.SelectedSnapshot;
+import akka.persistence.SnapshotSelectionCriteria;
+import akka.stream.SystemMaterializer;
+import scala.Option;
+import scala.compat.java8.FutureConverters;
+import scala.concurrent.Future;
+
+/**
+ * Snapshot store plugin extending the akka-persistence-mongo {@link MongoSnapshots} plugin by batching the snapshot
+ * lookups of entities recovering at the same time, e.g. after a shard rebalancing.
+ * <p>
+ * Lookups of the latest snapshot of a persistence ID are collected for at most
+ * {@link RecoveryBatchingConfig#getMaxDelay()} and answered by a single {@code $in} query over the PIDs via
+ * {@link MongoReadJournal#getNewestSnapshotsOfPids(java.util.Collection)} (see {@link SnapshotLookupBatcher}).
+ * All other lookups, and all lookups when batching is disabled in the {@code recovery-batching} section of the plugin
+ * configuration, are delegated to the original plugin.
+ * The batched queries read the snapshot collection configured for this plugin with a Mongo client owned by this
+ * plugin, which is closed when the plugin stops.
+ */
+public final class BatchingMongoSnapshots extends MongoSnapshots {
+
+    @Nullable private final DittoMongoClient mongoClient;
+    @Nullable private final SnapshotLookupBatcher batcher;
+
+    /**
+     * Constructs the snapshot store plugin. Called by Akka persistence via reflection.
+     *
+     * @param config the configuration of the snapshot store plugin.
+     */
+    @SuppressWarnings("unused")
+    public BatchingMongoSnapshots(final Config config) {
+        super(config);
+        final RecoveryBatchingConfig recoveryBatchingConfig = DefaultRecoveryBatchingConfig.of(config);
+        if (recoveryBatchingConfig.isEnabled()) {
+            mongoClient = MongoClientWrapper.newInstance(
+                    DefaultMongoDbConfig.of(DefaultScopedConfig.dittoScoped(context().system().settings().config())));
+            final MongoReadJournal readJournal =
+                    MongoReadJournal.forSnapshotStore(config, mongoClient, context().system());
+            batcher = SnapshotLookupBatcher.start(recoveryBatchingConfig, readJournal::getNewestSnapshotsOfPids,
+                    pid -> FutureConverters.toJava(super.loadAsync(pid, SnapshotSelectionCriteria.latest())),
+                    SystemMaterializer.get(context().system()).materializer());
+        } else {
+            mongoClient = null;
+            batcher = null;
+        }
+    }
+
+    @Override
+    public Future<Option<SelectedSnapshot>> loadAsync(final String persistenceId,
+            final SnapshotSelectionCriteria criteria) {
+
+        if (null != batcher && SnapshotSelectionCriteria.latest().equals(criteria)) {
+            return FutureConverters.toScala(batcher.lookUp(persistenceId));
+        } else {
+            return super.loadAsync(persistenceId, criteria);
+        }
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        if (null != batcher) {
+            batcher.stop();
+        }
+        if (null != mongoClient) {
+            mongoClient.close();
+        }
+        super.postStop();
+    }
+
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.RecoveryBatchingConfig;
+
+import akka.Done;
+import akka.NotUsed;
+import akka.contrib.persistence.mongodb.SnapshottingFieldNames$;
+import akka.persistence.SelectedSnapshot;
+import akka.persistence.SnapshotMetadata;
+import akka.stream.Materializer;
+import akka.stream.OverflowStrategy;
+import akka.stream.QueueOfferResult;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.stream.javadsl.SourceQueueWithComplete;
+import scala.Option;
+
+/**
+ * Collects lookups of the latest snapshots of persistence IDs and answers them with batched queries.
+ * Lookups which cannot be answered from a batch, i.e. lookups exceeding the buffer and snapshots not stored as BSON
+ * documents, fall back to individual lookups.
+ */
+final class SnapshotLookupBatcher {
+
+    private static final String S_PROCESSOR_ID = SnapshottingFieldNames$.MODULE$.PROCESSOR_ID();
+    private static final String S_SN = SnapshottingFieldNames$.MODULE$.SEQUENCE_NUMBER();
+    private static final String S_TIMESTAMP = SnapshottingFieldNames$.MODULE$.TIMESTAMP();
+    private static final String S_SERIALIZED_SNAPSHOT = "s2";
+
+    private final Function<Collection<String>, Source<BsonDocument, NotUsed>> batchLookup;
+    private final Function<String, CompletionStage<Option<SelectedSnapshot>>> individualLookup;
+    private final Counter batchedQueries;
+    private final Counter batchedLookups;
+    private final Counter fallbackLookups;
+    private final SourceQueueWithComplete<SnapshotLookup> lookupQueue;
+
+    private SnapshotLookupBatcher(final RecoveryBatchingConfig config,
+            final Function<Collection<String>, Source<BsonDocument, NotUsed>> batchLookup,
+            final Function<String, CompletionStage<Option<SelectedSnapshot>>> individualLookup,
+            final Materializer materializer) {
+
+        this.batchLookup = batchLookup;
+        this.individualLookup = individualLookup;
+        batchedQueries = DittoMetrics.counter("recovery_snapshot_batched_queries");
+        batchedLookups = DittoMetrics.counter("recovery_snapshot_batched_lookups");
+        fallbackLookups = DittoMetrics.counter("recovery_snapshot_fallback_lookups");
+        lookupQueue = Source.<SnapshotLookup>queue(config.getBufferSize(), OverflowStrategy.dropNew())
+                .groupedWithin(config.getMaxBatchSize(), config.getMaxDelay())
+                .mapAsyncUnordered(config.getParallelism(), lookups -> lookUpBatch(lookups, materializer))
+                .to(Sink.ignore())
+                .run(materializer);
+    }
+
+    /**
+     * Start batching snapshot lookups.
+     *
+     * @param config the recovery batching config.
+     * @param batchLookup looks up the newest snapshot documents of a collection of persistence IDs.
+     * @param individualLookup looks up the latest snapshot of one persistence ID without batching.
+     * @param materializer the materializer to run the batching stream with.
+     * @return the batcher.
+     */
+    static SnapshotLookupBatcher start(final RecoveryBatchingConfig config,
+            final Function<Collection<String>, Source<BsonDocument, NotUsed>> batchLookup,
+            final Function<String, CompletionStage<Option<SelectedSnapshot>>> individualLookup,
+            final Materializer materializer) {
+
+        return new SnapshotLookupBatcher(config, batchLookup, individualLookup, materializer);
+    }
+
+    /**
+     * Look up the latest snapshot of a persistence ID.
+     *
+     * @param persistenceId the persistence ID.
+     * @return future of the latest snapshot, or of an empty option if the persistence ID has no snapshot.
+     */
+    CompletionStage<Option<SelectedSnapshot>> lookUp(final String persistenceId) {
+        final SnapshotLookup lookup = new SnapshotLookup(persistenceId, new CompletableFuture<>());
+        lookupQueue.offer(lookup).whenComplete((offerResult, error) -> {
+            if (!QueueOfferResult.enqueued().equals(offerResult)) {
+                // buffer is full or the stream failed: look up the snapshot on its own
+                lookupIndividually(lookup);
+            }
+        });
+
+        return lookup.result();
+    }
+
+    /**
+     * Stop batching. Lookups already enqueued are still answered.
+     */
+    void stop() {
+        lookupQueue.complete();
+    }
+
+    private CompletionStage<Done> lookUpBatch(final List<SnapshotLookup> lookups, final Materializer materializer) {
+        final Map<String, List<SnapshotLookup>> lookupsByPid =
+                lookups.stream().collect(Collectors.groupingBy(SnapshotLookup::persistenceId));
+        batchedQueries.increment();
+        batchedLookups.increment(lookups.size());
+
+        return batchLookup.apply(lookupsByPid.keySet())
+                .runWith(Sink.seq(), materializer)
+                .handle((snapshotDocuments, error) -> {
+                    if (null != error) {
+                        lookups.forEach(lookup -> lookup.result().completeExceptionally(error));
+                    } else {
+                        snapshotDocuments.forEach(snapshotDocument -> {
+                            final String pid = snapshotDocument.getString(S_PROCESSOR_ID).getValue();
+                            final List<SnapshotLookup> lookupsOfPid = lookupsByPid.remove(pid);
+                            if (null != lookupsOfPid) {
+                                completeLookups(lookupsOfPid, snapshotDocument);
+                            }
+                        });
+                        // PIDs without any snapshot
+                        lookupsByPid.values().forEach(lookupsOfPid -> lookupsOfPid.forEach(lookup ->
+                                lookup.result().complete(Option.empty())));
+                    }
+
+                    return Done.getInstance();
+                });
+    }
+
+    private void completeLookups(final List<SnapshotLookup> lookups, final BsonDocument snapshotDocument) {
+        final Optional<SelectedSnapshot> selectedSnapshot = toSelectedSnapshot(snapshotDocument);
+        if (selectedSnapshot.isPresent()) {
+            lookups.forEach(lookup -> lookup.result().complete(Option.apply(selectedSnapshot.get())));
+        } else {
+            // snapshot is not serialized as BSON document; let the plugin deserialize it
+            lookups.forEach(this::lookupIndividually);
+        }
+    }
+
+    private void lookupIndividually(final SnapshotLookup lookup) {
+        fallbackLookups.increment();
+        individualLookup.apply(lookup.persistenceId()).whenComplete((snapshot, error) -> {
+            if (null != error) {
+                lookup.result().completeExceptionally(error);
+            } else {
+                lookup.result().complete(snapshot);
+            }
+        });
+    }
+
+    private static Optional<SelectedSnapshot> toSelectedSnapshot(final BsonDocument snapshotDocument) {
+        final BsonValue serializedSnapshot = snapshotDocument.get(S_SERIALIZED_SNAPSHOT);
+        if (serializedSnapshot instanceof BsonDocument) {
+            final SnapshotMetadata metadata = new SnapshotMetadata(
+                    snapshotDocument.getString(S_PROCESSOR_ID).getValue(),
+                    snapshotDocument.getNumber(S_SN).longValue(),
+                    snapshotDocument.getNumber(S_TIMESTAMP).longValue());
+            return Optional.of(SelectedSnapshot.create(metadata, serializedSnapshot));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private record SnapshotLookup(String persistenceId, CompletableFuture<Option<SelectedSnapshot>> result) {}
+
+}
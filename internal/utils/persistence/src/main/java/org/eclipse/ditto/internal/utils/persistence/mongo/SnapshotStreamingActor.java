@@ -14,6 +14,7 @@ package org.eclipse.ditto.internal.utils.persistence.mongo;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
@@ -23,7 +24,11 @@ import org.bson.Document;
 import org.eclipse.ditto.base.model.entity.id.AbstractNamespacedEntityId;
 import org.eclipse.ditto.base.model.entity.id.EntityId;
 import org.eclipse.ditto.base.model.entity.type.EntityType;
+import org.eclipse.ditto.internal.models.streaming.LowerBound;
+import org.eclipse.ditto.internal.models.streaming.RangeDigest;
+import org.eclipse.ditto.internal.models.streaming.RangeDigests;
 import org.eclipse.ditto.internal.models.streaming.StreamedSnapshot;
+import org.eclipse.ditto.internal.models.streaming.SudoRetrieveRangeDigests;
 import org.eclipse.ditto.internal.models.streaming.SudoStreamSnapshots;
 import org.eclipse.ditto.internal.utils.akka.actors.AbstractActorWithShutdownBehavior;
 import org.eclipse.ditto.internal.utils.akka.logging.DittoDiagnosticLoggingAdapter;
@@ -33,6 +38,7 @@ import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.DefaultMongoDbConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.MongoDbConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.RangeDigestAccumulators;
 import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.SnapshotFilter;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
@@ -51,6 +57,7 @@ import akka.stream.KillSwitches;
 import akka.stream.Materializer;
 import akka.stream.SharedKillSwitch;
 import akka.stream.SourceRef;
+import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
 import akka.stream.javadsl.StreamRefs;
 
@@ -147,6 +154,7 @@ public final class SnapshotStreamingActor extends AbstractActorWithShutdownBehav
 
         final var self = getSelf();
         pubSubMediator.tell(DistPubSubAccess.subscribeViaGroup(SudoStreamSnapshots.TYPE, ACTOR_NAME, self), self);
+        pubSubMediator.tell(DistPubSubAccess.subscribeViaGroup(SudoRetrieveRangeDigests.TYPE, ACTOR_NAME, self), self);
 
         final var coordinatedShutdown = CoordinatedShutdown.get(getContext().getSystem());
         final var serviceUnbindTask = "service-unbind-" + ACTOR_NAME;
@@ -172,6 +180,7 @@ public final class SnapshotStreamingActor extends AbstractActorWithShutdownBehav
     public Receive handleMessage() {
         return ReceiveBuilder.create()
                 .match(SudoStreamSnapshots.class, this::startStreaming)
+                .match(SudoRetrieveRangeDigests.class, this::retrieveRangeDigests)
                 .match(DistributedPubSubMediator.SubscribeAck.class, this::handleSubscribeAck)
                 .matchAny(message -> log.warning("Unexpected message: <{}>", message))
                 .build();
@@ -184,6 +193,9 @@ public final class SnapshotStreamingActor extends AbstractActorWithShutdownBehav
         final CompletableFuture<Done> unsubscribeTask = Patterns.ask(pubSubMediator,
                         DistPubSubAccess.unsubscribeViaGroup(SudoStreamSnapshots.TYPE, ACTOR_NAME,
                                 getSelf()), SHUTDOWN_ASK_TIMEOUT)
+                .thenCompose(ack -> Patterns.ask(pubSubMediator,
+                        DistPubSubAccess.unsubscribeViaGroup(SudoRetrieveRangeDigests.TYPE, ACTOR_NAME,
+                                getSelf()), SHUTDOWN_ASK_TIMEOUT))
                 .toCompletableFuture()
                 .thenApply(ack -> {
                     log.info("Unsubscribed successfully from pubsub for {} actor", ACTOR_NAME);
@@ -262,6 +274,36 @@ public final class SnapshotStreamingActor extends AbstractActorWithShutdownBehav
         return StreamedSnapshot.of(entityId, snapshotJson);
     }
 
+    private void retrieveRangeDigests(final SudoRetrieveRangeDigests command) {
+        log.withCorrelationId(command).info("Computing range digests for <{}>", command);
+        final List<EntityId> lowerBounds = command.getLowerBounds();
+        final EntityId emptyLowerBound = LowerBound.emptyEntityId(command.getEntityType());
+        final List<String> lowerBoundPids = lowerBounds.stream()
+                .map(lowerBound -> lowerBound.equals(emptyLowerBound) ? "" : entityId2Pid.apply(lowerBound))
+                .toList();
+        final String upperBoundPid = command.getUpperBound().map(entityId2Pid).orElse(null);
+        final int pidPrefixLength = entityId2Pid.apply(emptyLowerBound).length() - emptyLowerBound.toString().length();
+
+        final var digests = readJournal.getRangeDigests(lowerBoundPids, upperBoundPid, pidPrefixLength)
+                .via(killSwitch.flow())
+                .runWith(Sink.seq(), materializer)
+                .thenApply(documents -> {
+                    final RangeDigest[] rangeDigests = new RangeDigest[lowerBounds.size()];
+                    for (final Document document : documents) {
+                        final int index = document.getInteger(MongoReadJournal.S_ID);
+                        rangeDigests[index] = RangeDigestAccumulators.toRangeDigest(lowerBounds.get(index), document);
+                    }
+                    for (int i = 0; i < rangeDigests.length; i++) {
+                        if (rangeDigests[i] == null) {
+                            rangeDigests[i] = RangeDigest.empty(lowerBounds.get(i));
+                        }
+                    }
+                    return RangeDigests.of(List.of(rangeDigests));
+                });
+
+        Patterns.pipe(digests, getContext().getDispatcher()).to(getSender());
+    }
+
     private void startStreaming(final SudoStreamSnapshots command) {
         final Duration timeout = Duration.ofMillis(command.getTimeoutMillis());
         final SourceRef<StreamedSnapshot> sourceRef = createSource(command)
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class implements the config for batching snapshot lookups of recovering entities.
+ */
+@Immutable
+public final class DefaultRecoveryBatchingConfig implements RecoveryBatchingConfig {
+
+    private static final String CONFIG_PATH = "recovery-batching";
+
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final Duration maxDelay;
+    private final int parallelism;
+    private final int bufferSize;
+
+    private DefaultRecoveryBatchingConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(RecoveryBatchingConfigValue.ENABLED.getConfigPath());
+        maxBatchSize = config.getPositiveIntOrThrow(RecoveryBatchingConfigValue.MAX_BATCH_SIZE);
+        maxDelay = config.getNonNegativeAndNonZeroDurationOrThrow(RecoveryBatchingConfigValue.MAX_DELAY);
+        parallelism = config.getPositiveIntOrThrow(RecoveryBatchingConfigValue.PARALLELISM);
+        bufferSize = config.getPositiveIntOrThrow(RecoveryBatchingConfigValue.BUFFER_SIZE);
+    }
+
+    /**
+     * Returns an instance of the default recovery batching config based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the recovery batching config at {@value #CONFIG_PATH}.
+     * @return instance
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultRecoveryBatchingConfig of(final Config config) {
+        return new DefaultRecoveryBatchingConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, RecoveryBatchingConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    @Override
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultRecoveryBatchingConfig that = (DefaultRecoveryBatchingConfig) o;
+        return enabled == that.enabled &&
+                maxBatchSize == that.maxBatchSize &&
+                parallelism == that.parallelism &&
+                bufferSize == that.bufferSize &&
+                Objects.equals(maxDelay, that.maxDelay);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, maxBatchSize, maxDelay, parallelism, bufferSize);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", maxBatchSize=" + maxBatchSize +
+                ", maxDelay=" + maxDelay +
+                ", parallelism=" + parallelism +
+                ", bufferSize=" + bufferSize +
+                "]";
+    }
+
+}
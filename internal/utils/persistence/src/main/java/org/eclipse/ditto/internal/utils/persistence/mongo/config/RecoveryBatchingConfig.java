@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for batching the snapshot lookups of entities which recover at the same time,
+ * e.g. after a shard rebalancing.
+ */
+@Immutable
+public interface RecoveryBatchingConfig {
+
+    /**
+     * Returns whether snapshot lookups of recovering entities should be batched.
+     *
+     * @return whether recovery batching is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the maximum number of persistence IDs to look up in one query.
+     *
+     * @return the maximum batch size.
+     */
+    int getMaxBatchSize();
+
+    /**
+     * Returns the maximum duration a snapshot lookup waits for other lookups to join its batch.
+     *
+     * @return the maximum delay.
+     */
+    Duration getMaxDelay();
+
+    /**
+     * Returns how many batched queries may run against the snapshot store in parallel.
+     *
+     * @return the parallelism.
+     */
+    int getParallelism();
+
+    /**
+     * Returns how many snapshot lookups may be buffered before falling back to non-batched lookups.
+     *
+     * @return the buffer size.
+     */
+    int getBufferSize();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code RecoveryBatchingConfig}.
+     */
+    enum RecoveryBatchingConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether snapshot lookups of recovering entities should be batched.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The maximum number of persistence IDs to look up in one query.
+         */
+        MAX_BATCH_SIZE("max-batch-size", 250),
+
+        /**
+         * The maximum duration a snapshot lookup waits for other lookups to join its batch.
+         */
+        MAX_DELAY("max-delay", Duration.ofMillis(20L)),
+
+        /**
+         * How many batched queries may run against the snapshot store in parallel.
+         */
+        PARALLELISM("parallelism", 4),
+
+        /**
+         * How many snapshot lookups may be buffered before falling back to non-batched lookups.
+         */
+        BUFFER_SIZE("buffer-size", 10_000);
+
+        private final String path;
+        private final Object defaultValue;
+
+        RecoveryBatchingConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -25,6 +25,8 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.annotation.Nullable;
+
 import org.bson.BsonArray;
 import org.bson.BsonDocument;
 import org.bson.BsonInt32;
@@ -191,6 +193,28 @@ public final class MongoReadJournal {
         return new MongoReadJournal(journalCollection, snapshotCollection, mongoClient, actorSystem);
     }
 
+    /**
+     * Creates a new {@code MongoReadJournal} reading the snapshot collection of the given snapshot store plugin
+     * instead of the one of the auto-start snapshot store. The event journal collection is still resolved from the
+     * auto-start journal configuration.
+     *
+     * @param snapshotStoreConfig the configuration of the snapshot store plugin.
+     * @param mongoClient The Mongo client wrapper. It is not closed by the read journal.
+     * @param actorSystem the actor system.
+     * @return A {@code MongoReadJournal} object.
+     */
+    public static MongoReadJournal forSnapshotStore(final Config snapshotStoreConfig,
+            final DittoMongoClient mongoClient,
+            final ActorSystem actorSystem) {
+
+        final Config config = actorSystem.settings().config();
+        final String autoStartJournalKey = extractAutoStartConfigKey(config, AKKA_PERSISTENCE_JOURNAL_AUTO_START);
+        final String journalCollection =
+                getOverrideCollectionName(config.getConfig(autoStartJournalKey), JOURNAL_COLLECTION_NAME_KEY);
+        final String snapshotCollection = getOverrideCollectionName(snapshotStoreConfig, SNAPS_COLLECTION_NAME_KEY);
+        return new MongoReadJournal(journalCollection, snapshotCollection, mongoClient, actorSystem);
+    }
+
     /**
      * Ensure a compound index exists for journal PID streaming based on tags.
      *
@@ -466,6 +490,91 @@ public final class MongoReadJournal {
                 .mapConcat(pids -> pids);
     }
 
+    /**
+     * Retrieve the newest snapshot of each of the given PIDs with a single query.
+     * PIDs without any snapshot are absent from the result.
+     *
+     * @param pids the PIDs whose newest snapshots to retrieve.
+     * @return source of the complete newest snapshot documents of the PIDs in no particular order.
+     */
+    public Source<BsonDocument, NotUsed> getNewestSnapshotsOfPids(final Collection<String> pids) {
+        final String newestSnapshot = "n";
+        final List<Bson> pipeline = List.of(
+                Aggregates.match(Filters.in(S_PROCESSOR_ID, pids)),
+                Aggregates.sort(Sorts.orderBy(Sorts.ascending(S_PROCESSOR_ID), Sorts.descending(S_SN))),
+                Aggregates.group("$" + S_PROCESSOR_ID, Accumulators.first(newestSnapshot, "$$ROOT")),
+                Aggregates.replaceRoot("$" + newestSnapshot)
+        );
+
+        return getSnapshotStore()
+                .flatMapConcat(snaps -> Source.fromPublisher(snaps.withDocumentClass(BsonDocument.class)
+                        .aggregate(pipeline)
+                        .batchSize(Math.max(1, pids.size()))
+                ));
+    }
+
+    /**
+     * Compute the digests of consecutive PID ranges over the newest snapshots of all PIDs whose newest snapshot is not
+     * deleted. Range {@code i} contains the PIDs greater than the {@code i}-th lower bound and not greater than the
+     * next lower bound. Digests are computed with {@link RangeDigestAccumulators} over the entity IDs without PID
+     * prefix and the sequence numbers of the newest snapshots as revisions. Events persisted after the newest snapshot
+     * of an entity are not taken into account.
+     *
+     * @param lowerBoundPids the ascending exclusive lower bound PIDs of the ranges. An empty first lower bound means
+     * no lower bound.
+     * @param upperBoundPid the inclusive upper bound PID of the last range, or {@code null} if it is unbounded.
+     * @param pidPrefixLength the length of the prefix of PIDs before entity IDs.
+     * @return source of one digest document per non-empty range with the index of the range in its {@code _id} field,
+     * in no particular order.
+     */
+    public Source<Document, NotUsed> getRangeDigests(final List<String> lowerBoundPids,
+            @Nullable final String upperBoundPid,
+            final int pidPrefixLength) {
+
+        final List<Bson> pipeline = new ArrayList<>(5);
+
+        // optional match stage restricting the PIDs to the union of all ranges
+        final List<Bson> rangeFilters = new ArrayList<>(2);
+        if (!lowerBoundPids.get(0).isEmpty()) {
+            rangeFilters.add(Filters.gt(S_PROCESSOR_ID, lowerBoundPids.get(0)));
+        }
+        if (upperBoundPid != null) {
+            rangeFilters.add(Filters.lte(S_PROCESSOR_ID, upperBoundPid));
+        }
+        if (!rangeFilters.isEmpty()) {
+            pipeline.add(Aggregates.match(Filters.and(rangeFilters)));
+        }
+
+        // sort and group stage: newest snapshot per PID. PID is from now on in field _id (S_ID)
+        pipeline.add(Aggregates.sort(Sorts.orderBy(Sorts.ascending(S_PROCESSOR_ID), Sorts.descending(S_SN))));
+        pipeline.add(Aggregates.group("$" + S_PROCESSOR_ID, asFirstSnapshotBsonFields()));
+        pipeline.add(Aggregates.match(Filters.ne(LIFECYCLE, "DELETED")));
+
+        // group stage 2: by range
+        final Document entityId = new Document("$substrCP",
+                List.of("$" + S_ID, pidPrefixLength, new Document("$strLenCP", "$" + S_ID)));
+        pipeline.add(Aggregates.group(toRangeIndex(lowerBoundPids),
+                RangeDigestAccumulators.of(entityId, "$" + S_SN)));
+
+        return getSnapshotStore()
+                .flatMapConcat(snaps -> Source.fromPublisher(snaps.aggregate(pipeline).allowDiskUse(true)));
+    }
+
+    private static Object toRangeIndex(final List<String> lowerBoundPids) {
+        if (lowerBoundPids.size() == 1) {
+            return 0;
+        }
+        final List<Document> branches = new ArrayList<>(lowerBoundPids.size() - 1);
+        for (int i = lowerBoundPids.size() - 1; i > 0; i--) {
+            branches.add(new Document()
+                    .append("case", new Document("$gt", List.of("$" + S_ID, lowerBoundPids.get(i))))
+                    .append("then", i));
+        }
+        return new Document("$switch", new Document()
+                .append("branches", branches)
+                .append("default", 0));
+    }
+
     /**
      * Find the smallest event sequence number of a PID.
      *
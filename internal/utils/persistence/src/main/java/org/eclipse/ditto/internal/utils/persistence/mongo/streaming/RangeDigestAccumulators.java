@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo.streaming;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.eclipse.ditto.base.model.entity.id.EntityId;
+import org.eclipse.ditto.internal.models.streaming.RangeDigest;
+
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.BsonField;
+
+/**
+ * Accumulators of aggregation pipelines computing {@link RangeDigest}s inside MongoDB. Services comparing their
+ * persistences by range digests must use the same accumulators so that equal ranges have equal digests.
+ * <p>
+ * The hash of an entity combines its ID and its revision, so that changed revisions of different entities do not
+ * cancel each other out in the sum of hashes. The hash of the ID is a polynomial rolling hash over all its characters,
+ * each mapped to its position in an alphabet of the characters allowed in entity IDs. All hashes are below
+ * {@value #MODULUS}, hence neither their computation nor the sum of the hashes of a range overflows a 64-bit integer.
+ */
+public final class RangeDigestAccumulators {
+
+    /**
+     * Field of the number of entities in a range.
+     */
+    public static final String COUNT = "c";
+
+    /**
+     * Field of the sum of the revisions of the entities in a range.
+     */
+    public static final String REVISION_SUM = "r";
+
+    /**
+     * Field of the sum of the hashes of ID and revision of the entities in a range.
+     */
+    public static final String HASH_SUM = "h";
+
+    /**
+     * The prime 2^31 - 1.
+     */
+    static final long MODULUS = 2147483647L;
+
+    private static final String ALPHABET =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz-_.:~!$&'()*+,;=@%";
+    private static final long RADIX = 128L;
+
+    private RangeDigestAccumulators() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Create the accumulators of a $group or $bucketAuto stage computing the digest of each group.
+     *
+     * @param idExpression expression evaluating to the entity ID without any prefix.
+     * @param revisionExpression expression evaluating to the revision of the entity.
+     * @return the accumulators.
+     */
+    public static List<BsonField> of(final Object idExpression, final Object revisionExpression) {
+        return List.of(
+                Accumulators.sum(COUNT, 1),
+                Accumulators.sum(REVISION_SUM, revisionExpression),
+                Accumulators.sum(HASH_SUM, hashExpression(idExpression, revisionExpression))
+        );
+    }
+
+    /**
+     * Read the digest computed by the accumulators of {@link #of(Object, Object)}.
+     *
+     * @param lowerBound the exclusive lower bound of the range.
+     * @param document the output document of the group.
+     * @return the digest.
+     */
+    public static RangeDigest toRangeDigest(final EntityId lowerBound, final Document document) {
+        return RangeDigest.of(lowerBound, getLong(document, COUNT), getLong(document, REVISION_SUM),
+                getLong(document, HASH_SUM));
+    }
+
+    /**
+     * Compute the hash of an entity in the same way as the accumulators of {@link #of(Object, Object)}.
+     *
+     * @param id the entity ID without any prefix.
+     * @param revision the revision of the entity.
+     * @return the hash.
+     */
+    public static long hash(final String id, final long revision) {
+        final long idHash = id.codePoints()
+                .mapToLong(codePoint -> ALPHABET.indexOf(codePoint) + 1L)
+                .reduce(0L, (hash, digit) -> (hash * RADIX + digit) % MODULUS);
+
+        return (idHash + 1L) * (revision % MODULUS + 1L) % MODULUS;
+    }
+
+    private static Document hashExpression(final Object idExpression, final Object revisionExpression) {
+        final Document character = new Document("$substrCP", List.of(idExpression, "$$this", 1));
+        final Document digit =
+                new Document("$add", List.of(new Document("$indexOfCP", List.of(ALPHABET, character)), 1L));
+        final Document idHash = new Document("$reduce", new Document()
+                .append("input", new Document("$range", List.of(0, new Document("$strLenCP", idExpression))))
+                .append("initialValue", 0L)
+                .append("in", new Document("$mod", List.of(
+                        new Document("$add", List.of(new Document("$multiply", List.of("$$value", RADIX)), digit)),
+                        MODULUS))));
+        final Document revisionFactor = new Document("$add", List.of(
+                new Document("$mod", List.of(revisionExpression, MODULUS)),
+                1L));
+
+        return new Document("$mod", List.of(
+                new Document("$multiply", List.of(new Document("$add", List.of(idHash, 1L)), revisionFactor)),
+                MODULUS));
+    }
+
+    private static long getLong(final Document document, final String field) {
+        final Object value = document.get(field);
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import org.bson.BsonBinary;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.DefaultRecoveryBatchingConfig;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.RecoveryBatchingConfig;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.NotUsed;
+import akka.actor.ActorSystem;
+import akka.persistence.SelectedSnapshot;
+import akka.persistence.SnapshotMetadata;
+import akka.stream.Materializer;
+import akka.stream.SystemMaterializer;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+import scala.Option;
+
+/**
+ * Tests {@link SnapshotLookupBatcher}.
+ */
+public final class SnapshotLookupBatcherTest {
+
+    private static final RecoveryBatchingConfig CONFIG = DefaultRecoveryBatchingConfig.of(ConfigFactory.parseString(
+            "recovery-batching { enabled = true, max-batch-size = 10, max-delay = 200ms, parallelism = 1, " +
+                    "buffer-size = 100 }"));
+
+    private final List<Collection<String>> batches = new CopyOnWriteArrayList<>();
+    private final List<String> individualLookups = new CopyOnWriteArrayList<>();
+
+    private ActorSystem actorSystem;
+    private Materializer materializer;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create();
+        materializer = SystemMaterializer.get(actorSystem).materializer();
+    }
+
+    @After
+    public void tearDown() {
+        if (null != actorSystem) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void concurrentLookupsAreAnsweredByOneBatch() {
+        final SnapshotLookupBatcher underTest = start(pids -> Source.from(List.of(
+                snapshot("pid1", 3L, new BsonDocument("attributes", new BsonString("x"))),
+                snapshot("pid2", 5L, new BsonDocument()))));
+
+        final CompletionStage<Option<SelectedSnapshot>> pid1 = underTest.lookUp("pid1");
+        final CompletionStage<Option<SelectedSnapshot>> pid2 = underTest.lookUp("pid2");
+        final CompletionStage<Option<SelectedSnapshot>> pid1Again = underTest.lookUp("pid1");
+        final CompletionStage<Option<SelectedSnapshot>> pid3 = underTest.lookUp("pid3");
+
+        assertThat(join(pid1).get().metadata()).isEqualTo(new SnapshotMetadata("pid1", 3L, 1000L));
+        assertThat(join(pid1).get().snapshot())
+                .isEqualTo(new BsonDocument("attributes", new BsonString("x")));
+        assertThat(join(pid1Again).get().metadata()).isEqualTo(new SnapshotMetadata("pid1", 3L, 1000L));
+        assertThat(join(pid2).get().metadata()).isEqualTo(new SnapshotMetadata("pid2", 5L, 1000L));
+        assertThat(join(pid3).isEmpty()).isTrue();
+        assertThat(batches).containsExactly(Set.of("pid1", "pid2", "pid3"));
+        assertThat(individualLookups).isEmpty();
+    }
+
+    @Test
+    public void snapshotsNotStoredAsBsonDocumentsAreLookedUpIndividually() {
+        final SnapshotLookupBatcher underTest = start(pids -> Source.single(
+                snapshot("pid1", 3L, new BsonBinary(new byte[]{1, 2, 3}))));
+
+        final Option<SelectedSnapshot> result = join(underTest.lookUp("pid1"));
+
+        assertThat(result.get().metadata().persistenceId()).isEqualTo("pid1");
+        assertThat(result.get().snapshot()).isEqualTo("individual");
+        assertThat(individualLookups).containsExactly("pid1");
+    }
+
+    @Test
+    public void failedBatchQueryFailsAllLookupsOfTheBatch() {
+        final IllegalStateException error = new IllegalStateException("expected");
+        final SnapshotLookupBatcher underTest = start(pids -> Source.failed(error));
+
+        final CompletionStage<Option<SelectedSnapshot>> pid1 = underTest.lookUp("pid1");
+        final CompletionStage<Option<SelectedSnapshot>> pid2 = underTest.lookUp("pid2");
+
+        assertThatExceptionOfType(CompletionException.class).isThrownBy(() -> join(pid1)).withCause(error);
+        assertThatExceptionOfType(CompletionException.class).isThrownBy(() -> join(pid2)).withCause(error);
+        assertThat(individualLookups).isEmpty();
+    }
+
+    @Test
+    public void lookupsAfterStopAreLookedUpIndividually() {
+        final SnapshotLookupBatcher underTest = start(pids -> Source.empty());
+        underTest.stop();
+
+        final Option<SelectedSnapshot> result = join(underTest.lookUp("pid1"));
+
+        assertThat(result.get().snapshot()).isEqualTo("individual");
+        assertThat(batches).isEmpty();
+        assertThat(individualLookups).containsExactly("pid1");
+    }
+
+    private SnapshotLookupBatcher start(final Function<Collection<String>, Source<BsonDocument, NotUsed>> batchLookup) {
+        return SnapshotLookupBatcher.start(CONFIG,
+                pids -> {
+                    batches.add(Set.copyOf(pids));
+                    return batchLookup.apply(pids);
+                },
+                pid -> {
+                    individualLookups.add(pid);
+                    return CompletableFuture.completedFuture(Option.apply(
+                            SelectedSnapshot.create(new SnapshotMetadata(pid, 1L, 0L), "individual")));
+                },
+                materializer);
+    }
+
+    private static BsonDocument snapshot(final String pid, final long sn, final BsonValue serializedSnapshot) {
+        return new BsonDocument()
+                .append("pid", new BsonString(pid))
+                .append("sn", new BsonInt64(sn))
+                .append("ts", new BsonInt64(1000L))
+                .append("s2", serializedSnapshot);
+    }
+
+    private static Option<SelectedSnapshot> join(final CompletionStage<Option<SelectedSnapshot>> future) {
+        return future.toCompletableFuture().join();
+    }
+
+}
@@ -23,7 +23,11 @@ import org.bson.Document;
 import org.eclipse.ditto.base.model.entity.id.EntityId;
 import org.eclipse.ditto.base.model.entity.type.EntityType;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.internal.models.streaming.LowerBound;
+import org.eclipse.ditto.internal.models.streaming.RangeDigest;
+import org.eclipse.ditto.internal.models.streaming.RangeDigests;
 import org.eclipse.ditto.internal.models.streaming.StreamedSnapshot;
+import org.eclipse.ditto.internal.models.streaming.SudoRetrieveRangeDigests;
 import org.eclipse.ditto.internal.models.streaming.SudoStreamSnapshots;
 import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
 import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.SnapshotFilter;
@@ -123,12 +127,16 @@ public final class SnapshotStreamingActorTest {
         new TestKit(actorSystem) {{
             final ActorRef underTest = createSnapshotStreamingActor();
             pubSubMediatorTestProbe.expectMsgClass(DistributedPubSubMediator.Subscribe.class);
+            pubSubMediatorTestProbe.expectMsgClass(DistributedPubSubMediator.Subscribe.class);
 
             underTest.tell(SnapshotStreamingActor.Control.SERVICE_UNBIND, getRef());
 
             final var unsub1 =
                     pubSubMediatorTestProbe.expectMsgClass(DistributedPubSubMediator.Unsubscribe.class);
             pubSubMediatorTestProbe.reply(new DistributedPubSubMediator.UnsubscribeAck(unsub1));
+            final var unsub2 =
+                    pubSubMediatorTestProbe.expectMsgClass(DistributedPubSubMediator.Unsubscribe.class);
+            pubSubMediatorTestProbe.reply(new DistributedPubSubMediator.UnsubscribeAck(unsub2));
             expectMsg(Done.getInstance());
 
             underTest.tell(SnapshotStreamingActor.Control.SERVICE_REQUESTS_DONE, getRef());
@@ -137,6 +145,33 @@ public final class SnapshotStreamingActorTest {
         }};
     }
 
+    @Test
+    public void retrieveRangeDigests() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = createSnapshotStreamingActor();
+            final EntityId emptyLowerBound = LowerBound.emptyEntityId(THING_TYPE);
+            final EntityId lowerBound1 = EntityId.of(THING_TYPE, "snap:1");
+            final EntityId lowerBound2 = EntityId.of(THING_TYPE, "snap:2");
+
+            // WHEN: only the first and last of 3 ranges contain snapshots
+            Mockito.when(mockReadJournal.getRangeDigests(List.of("", "thing:snap:1", "thing:snap:2"),
+                            "thing:snap:3", "thing:".length()))
+                    .thenReturn(Source.from(List.of(
+                            new Document().append("_id", 2).append("c", 1).append("r", 3L).append("h", 4),
+                            new Document().append("_id", 0).append("c", 2).append("r", 5).append("h", 6L)
+                    )));
+            underTest.tell(SudoRetrieveRangeDigests.of(THING_TYPE, List.of(emptyLowerBound, lowerBound1, lowerBound2),
+                    EntityId.of(THING_TYPE, "snap:3"), DittoHeaders.empty()), getRef());
+
+            // THEN: the digests are in the order of the ranges and the empty range has an empty digest
+            expectMsg(RangeDigests.of(List.of(
+                    RangeDigest.of(emptyLowerBound, 2L, 5L, 6L),
+                    RangeDigest.empty(lowerBound1),
+                    RangeDigest.of(lowerBound2, 1L, 3L, 4L)
+            )));
+        }};
+    }
+
     private void streamNonemptySnapshotCollection(final SudoStreamSnapshots sudoStreamSnapshots,
             final SnapshotFilter expectedFilter) {
         new TestKit(actorSystem) {{
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultRecoveryBatchingConfig}.
+ */
+public final class DefaultRecoveryBatchingConfigTest {
+
+    private static Config recoveryBatchingTestConf;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        recoveryBatchingTestConf = ConfigFactory.load("recovery-batching-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultRecoveryBatchingConfig.class,
+                areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultRecoveryBatchingConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultRecoveryBatchingConfig underTest = DefaultRecoveryBatchingConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(RecoveryBatchingConfig.RecoveryBatchingConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(RecoveryBatchingConfig.RecoveryBatchingConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getMaxBatchSize())
+                .as(RecoveryBatchingConfig.RecoveryBatchingConfigValue.MAX_BATCH_SIZE.getConfigPath())
+                .isEqualTo(RecoveryBatchingConfig.RecoveryBatchingConfigValue.MAX_BATCH_SIZE.getDefaultValue());
+        softly.assertThat(underTest.getMaxDelay())
+                .as(RecoveryBatchingConfig.RecoveryBatchingConfigValue.MAX_DELAY.getConfigPath())
+                .isEqualTo(RecoveryBatchingConfig.RecoveryBatchingConfigValue.MAX_DELAY.getDefaultValue());
+        softly.assertThat(underTest.getParallelism())
+                .as(RecoveryBatchingConfig.RecoveryBatchingConfigValue.PARALLELISM.getConfigPath())
+                .isEqualTo(RecoveryBatchingConfig.RecoveryBatchingConfigValue.PARALLELISM.getDefaultValue());
+        softly.assertThat(underTest.getBufferSize())
+                .as(RecoveryBatchingConfig.RecoveryBatchingConfigValue.BUFFER_SIZE.getConfigPath())
+                .isEqualTo(RecoveryBatchingConfig.RecoveryBatchingConfigValue.BUFFER_SIZE.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultRecoveryBatchingConfig underTest = DefaultRecoveryBatchingConfig.of(recoveryBatchingTestConf);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(RecoveryBatchingConfig.RecoveryBatchingConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getMaxBatchSize())
+                .as(RecoveryBatchingConfig.RecoveryBatchingConfigValue.MAX_BATCH_SIZE.getConfigPath())
+                .isEqualTo(42);
+        softly.assertThat(underTest.getMaxDelay())
+                .as(RecoveryBatchingConfig.RecoveryBatchingConfigValue.MAX_DELAY.getConfigPath())
+                .isEqualTo(Duration.ofMillis(5L));
+        softly.assertThat(underTest.getParallelism())
+                .as(RecoveryBatchingConfig.RecoveryBatchingConfigValue.PARALLELISM.getConfigPath())
+                .isEqualTo(2);
+        softly.assertThat(underTest.getBufferSize())
+                .as(RecoveryBatchingConfig.RecoveryBatchingConfigValue.BUFFER_SIZE.getConfigPath())
+                .isEqualTo(100);
+    }
+
+}
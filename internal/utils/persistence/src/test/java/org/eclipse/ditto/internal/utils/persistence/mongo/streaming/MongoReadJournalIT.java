@@ -13,6 +13,7 @@
 package org.eclipse.ditto.internal.utils.persistence.mongo.streaming;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -616,6 +617,25 @@ public final class MongoReadJournalIT {
         assertThat(lowestSeqNrs).containsExactly(1L, 1L, 0L);
     }
 
+    @Test
+    public void getNewestSnapshotsOfPids() {
+        insert("test_snaps", snapshot("pid1", 1L, false));
+        insert("test_snaps", snapshot("pid1", 2L, false));
+        insert("test_snaps", snapshot("pid2", 1L, true));
+        insert("test_snaps", snapshot("pid3", 3L, false));
+
+        final List<BsonDocument> snapshots = readJournal.getNewestSnapshotsOfPids(List.of("pid1", "pid2", "pid4"))
+                .runWith(Sink.seq(), materializer)
+                .toCompletableFuture()
+                .join();
+
+        // deleted snapshots are returned so that recovering entities see their deletion
+        assertThat(snapshots)
+                .extracting(snapshot -> snapshot.getString("pid").getValue(),
+                        snapshot -> snapshot.getNumber("sn").longValue())
+                .containsExactlyInAnyOrder(tuple("pid1", 2L), tuple("pid2", 1L));
+    }
+
     @Test
     public void extractJournalPidsAboveALowerBoundWithSpecificTag() {
         final Set<String> tagged = Set.of("always-live");
@@ -634,6 +654,37 @@ public final class MongoReadJournalIT {
         assertThat(pids).containsExactly("pid3", "pid4", "pid6");
     }
 
+    @Test
+    public void getRangeDigestsOfNewestSnapshots() {
+        insert("test_snaps", snapshot("thing:org.eclipse.ditto:a", 1L, false));
+        insert("test_snaps", snapshot("thing:org.eclipse.ditto:a", 3L, false));
+        insert("test_snaps", snapshot("thing:org.eclipse.ditto:b", 5L, false));
+        insert("test_snaps", snapshot("thing:org.eclipse.ditto:c", 2L, false));
+        insert("test_snaps", snapshot("thing:org.eclipse.ditto:c", 4L, true));
+        insert("test_snaps", snapshot("thing:org.eclipse.ditto:d", 7L, false));
+
+        final List<Document> digests =
+                readJournal.getRangeDigests(List.of("", "thing:org.eclipse.ditto:b"), null, "thing:".length())
+                        .runWith(Sink.seq(), materializer)
+                        .toCompletableFuture()
+                        .join();
+
+        // the same digests are expected from the search index in MongoThingsSearchPersistence
+        assertThat(digests)
+                .extracting(digest -> digest.getInteger("_id"),
+                        digest -> getLong(digest, RangeDigestAccumulators.COUNT),
+                        digest -> getLong(digest, RangeDigestAccumulators.REVISION_SUM),
+                        digest -> getLong(digest, RangeDigestAccumulators.HASH_SUM))
+                .containsExactlyInAnyOrder(
+                        tuple(0, 2L, 8L, RangeDigestAccumulators.hash("org.eclipse.ditto:a", 3L) +
+                                RangeDigestAccumulators.hash("org.eclipse.ditto:b", 5L)),
+                        tuple(1, 1L, 7L, RangeDigestAccumulators.hash("org.eclipse.ditto:d", 7L)));
+    }
+
+    private static long getLong(final Document document, final String field) {
+        return document.get(field, Number.class).longValue();
+    }
+
     private void insert(final CharSequence collection, final Document... documents) {
         Source.fromPublisher(mongoClient.getCollection(collection).insertMany(Arrays.asList(documents)))
                 .runWith(Sink.ignore(), materializer)
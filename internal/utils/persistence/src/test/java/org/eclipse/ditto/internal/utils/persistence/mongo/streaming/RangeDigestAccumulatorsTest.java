@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link RangeDigestAccumulators}. {@code MongoReadJournalIT} checks that MongoDB computes the same
+ * hashes.
+ */
+public final class RangeDigestAccumulatorsTest {
+
+    @Test
+    public void hashDependsOnAllCharactersOfId() {
+        assertThat(RangeDigestAccumulators.hash("org.eclipse.ditto:thing-1", 1L))
+                .isNotEqualTo(RangeDigestAccumulators.hash("org.eclipse.dutto:thing-1", 1L));
+    }
+
+    @Test
+    public void changedRevisionsOfDifferentEntitiesDoNotCancelOut() {
+        final long before = RangeDigestAccumulators.hash("org.eclipse.ditto:a", 3L) +
+                RangeDigestAccumulators.hash("org.eclipse.ditto:b", 5L);
+        final long after = RangeDigestAccumulators.hash("org.eclipse.ditto:a", 4L) +
+                RangeDigestAccumulators.hash("org.eclipse.ditto:b", 4L);
+
+        assertThat(after).isNotEqualTo(before);
+    }
+
+    @Test
+    public void hashIsBelowModulus() {
+        assertThat(RangeDigestAccumulators.hash("~".repeat(256), Long.MAX_VALUE))
+                .isNotNegative()
+                .isLessThan(RangeDigestAccumulators.MODULUS);
+    }
+
+}
@@ -42,6 +42,7 @@ import org.eclipse.ditto.internal.utils.persistentactors.events.EventStrategy;
 import org.eclipse.ditto.internal.utils.persistentactors.results.Result;
 import org.eclipse.ditto.internal.utils.persistentactors.results.ResultFactory;
 import org.eclipse.ditto.internal.utils.persistentactors.results.ResultVisitor;
+import org.eclipse.ditto.internal.utils.persistentactors.warmup.HotEntities;
 import org.eclipse.ditto.internal.utils.tracing.DittoTracing;
 import org.eclipse.ditto.internal.utils.tracing.span.SpanOperationName;
 import org.eclipse.ditto.internal.utils.tracing.span.SpanTagKey;
@@ -99,6 +100,7 @@ public abstract class AbstractPersistenceActor<
 
     private long accessCounter = 0L;
     private final BlockedNamespaces blockedNamespaces;
+    private final HotEntities hotEntities;
 
     /**
      * Instantiate the actor.
@@ -125,6 +127,7 @@ public abstract class AbstractPersistenceActor<
 
         handleCleanups = super.createReceive();
         blockedNamespaces = BlockedNamespaces.of(actorSystem);
+        hotEntities = HotEntities.get(actorSystem);
     }
 
     /**
@@ -479,6 +482,7 @@ public abstract class AbstractPersistenceActor<
                 command.setDittoHeaders(DittoHeaders.of(startedSpan.propagateContext(command.getDittoHeaders())));
 
         accessCounter++;
+        hotEntities.recordAccess(persistenceId());
         Result<E> result;
         try {
             result = strategy.apply(getStrategyContext(), entity, getNextRevisionNumber(), (T) tracedCommand);
@@ -579,14 +583,12 @@ public abstract class AbstractPersistenceActor<
 
         if (entityId instanceof NamespacedEntityId namespacedEntityId) {
             final String namespace = namespacedEntityId.getNamespace();
-            blockedNamespaces.contains(namespace).thenAccept(namespaceIsBlocked -> {
-                if (namespaceIsBlocked) {
-                    log.debug("Not taking snapshot for entity <{}> even if {}, because namespace is blocked.",
-                            entityId, reason);
-                } else {
-                    doTakeSnapshot(reason);
-                }
-            });
+            if (blockedNamespaces.isBlocked(namespace)) {
+                log.debug("Not taking snapshot for entity <{}> even if {}, because namespace is blocked.",
+                        entityId, reason);
+            } else {
+                doTakeSnapshot(reason);
+            }
         } else {
             doTakeSnapshot(reason);
         }
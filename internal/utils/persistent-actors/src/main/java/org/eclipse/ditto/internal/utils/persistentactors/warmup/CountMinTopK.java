@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.warmup;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Count-min sketch estimating access counts of arbitrarily many keys in constant memory, combined with a bounded
+ * list of the keys with the highest estimated counts.
+ */
+@NotThreadSafe
+final class CountMinTopK {
+
+    private static final Comparator<Map.Entry<String, Long>> BY_COUNT_THEN_KEY =
+            Map.Entry.<String, Long>comparingByValue().thenComparing(Map.Entry.comparingByKey());
+
+    private final long[][] counters;
+    private final int width;
+    private final int maxTopEntries;
+    private final Map<String, Long> topCounts;
+    private final TreeSet<Map.Entry<String, Long>> topEntries;
+
+    private CountMinTopK(final int depth, final int width, final int maxTopEntries) {
+        counters = new long[depth][width];
+        this.width = width;
+        this.maxTopEntries = maxTopEntries;
+        topCounts = new HashMap<>();
+        topEntries = new TreeSet<>(BY_COUNT_THEN_KEY);
+    }
+
+    /**
+     * Create a sketch.
+     *
+     * @param depth number of hash functions.
+     * @param width number of counters per hash function.
+     * @param maxTopEntries maximum number of keys with the highest counts to track.
+     * @return the sketch.
+     */
+    static CountMinTopK of(final int depth, final int width, final int maxTopEntries) {
+        if (depth <= 0 || width <= 0 || maxTopEntries < 0) {
+            throw new IllegalArgumentException("depth and width must be positive and maxTopEntries non-negative.");
+        }
+        return new CountMinTopK(depth, width, maxTopEntries);
+    }
+
+    /**
+     * Add to the count of a key.
+     *
+     * @param key the key.
+     * @param increment the amount to add.
+     */
+    void add(final String key, final long increment) {
+        final int hash1 = key.hashCode();
+        final int hash2 = mix(hash1);
+        long estimate = Long.MAX_VALUE;
+        for (int i = 0; i < counters.length; ++i) {
+            final int index = Math.floorMod(hash1 + i * hash2, width);
+            counters[i][index] += increment;
+            estimate = Math.min(estimate, counters[i][index]);
+        }
+        updateTopEntries(key, estimate);
+    }
+
+    /**
+     * Return the tracked keys with the highest counts in descending order of their counts.
+     *
+     * @param limit the maximum number of keys to return.
+     * @return the keys.
+     */
+    List<String> getTopKeys(final int limit) {
+        return topEntries.descendingSet().stream().limit(limit).map(Map.Entry::getKey).toList();
+    }
+
+    /**
+     * Return the tracked keys with the highest counts together with their estimated counts in descending order of the
+     * counts.
+     *
+     * @param limit the maximum number of entries to return.
+     * @return the entries.
+     */
+    List<Map.Entry<String, Long>> getTopEntries(final int limit) {
+        return topEntries.descendingSet().stream().limit(limit).toList();
+    }
+
+    /**
+     * Halve all counts so that old accesses lose weight against recent ones.
+     */
+    void decay() {
+        for (final long[] row : counters) {
+            for (int i = 0; i < row.length; ++i) {
+                row[i] >>= 1;
+            }
+        }
+        topEntries.clear();
+        topCounts.replaceAll((key, count) -> count >> 1);
+        topCounts.entrySet().removeIf(entry -> entry.getValue() <= 0L);
+        topCounts.forEach((key, count) -> topEntries.add(Map.entry(key, count)));
+    }
+
+    private void updateTopEntries(final String key, final long estimate) {
+        final Long previousCount = topCounts.get(key);
+        if (null != previousCount) {
+            topEntries.remove(Map.entry(key, previousCount));
+            putTopEntry(key, estimate);
+        } else if (topCounts.size() < maxTopEntries) {
+            putTopEntry(key, estimate);
+        } else if (!topEntries.isEmpty() && topEntries.first().getValue() < estimate) {
+            final Map.Entry<String, Long> evicted = topEntries.pollFirst();
+            topCounts.remove(evicted.getKey());
+            putTopEntry(key, estimate);
+        }
+    }
+
+    private void putTopEntry(final String key, final long count) {
+        topCounts.put(key, count);
+        topEntries.add(Map.entry(key, count));
+    }
+
+    private static int mix(final int hash) {
+        int h = hash * 0x9E3779B9;
+        h ^= h >>> 16;
+        return h | 1;
+    }
+
+}
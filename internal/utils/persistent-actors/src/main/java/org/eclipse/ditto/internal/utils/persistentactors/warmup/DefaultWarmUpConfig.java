@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.warmup;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+@Immutable
+final class DefaultWarmUpConfig implements WarmUpConfig {
+
+    static final String CONFIG_PATH = "warm-up";
+
+    private final boolean enabled;
+    private final String collection;
+    private final Duration initialDelay;
+    private final Duration recordInterval;
+    private final int maxEntities;
+    private final int entitiesPerBatch;
+    private final Duration batchInterval;
+
+    DefaultWarmUpConfig(final ScopedConfig conf) {
+        this.enabled = conf.getBoolean(ConfigValue.ENABLED.getConfigPath());
+        this.collection = conf.getString(ConfigValue.COLLECTION.getConfigPath());
+        this.initialDelay = conf.getNonNegativeDurationOrThrow(ConfigValue.INITIAL_DELAY);
+        this.recordInterval = conf.getNonNegativeAndNonZeroDurationOrThrow(ConfigValue.RECORD_INTERVAL);
+        this.maxEntities = conf.getNonNegativeIntOrThrow(ConfigValue.MAX_ENTITIES);
+        this.entitiesPerBatch = conf.getPositiveIntOrThrow(ConfigValue.ENTITIES_PER_BATCH);
+        this.batchInterval = conf.getNonNegativeAndNonZeroDurationOrThrow(ConfigValue.BATCH_INTERVAL);
+    }
+
+    @Override
+    public Config render() {
+        final Map<String, Object> configMap = Map.of(
+                ConfigValue.ENABLED.getConfigPath(), enabled,
+                ConfigValue.COLLECTION.getConfigPath(), collection,
+                ConfigValue.INITIAL_DELAY.getConfigPath(), initialDelay,
+                ConfigValue.RECORD_INTERVAL.getConfigPath(), recordInterval,
+                ConfigValue.MAX_ENTITIES.getConfigPath(), maxEntities,
+                ConfigValue.ENTITIES_PER_BATCH.getConfigPath(), entitiesPerBatch,
+                ConfigValue.BATCH_INTERVAL.getConfigPath(), batchInterval
+        );
+        return ConfigFactory.parseMap(configMap);
+    }
+
+    @Override
+    public WarmUpConfig setAll(final Config config) {
+        return WarmUpConfig.of(config.withFallback(render()).atKey(CONFIG_PATH));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public String getCollection() {
+        return collection;
+    }
+
+    @Override
+    public Duration getInitialDelay() {
+        return initialDelay;
+    }
+
+    @Override
+    public Duration getRecordInterval() {
+        return recordInterval;
+    }
+
+    @Override
+    public int getMaxEntities() {
+        return maxEntities;
+    }
+
+    @Override
+    public int getEntitiesPerBatch() {
+        return entitiesPerBatch;
+    }
+
+    @Override
+    public Duration getBatchInterval() {
+        return batchInterval;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o instanceof DefaultWarmUpConfig) {
+            final DefaultWarmUpConfig that = (DefaultWarmUpConfig) o;
+            return enabled == that.enabled &&
+                    Objects.equals(collection, that.collection) &&
+                    Objects.equals(initialDelay, that.initialDelay) &&
+                    Objects.equals(recordInterval, that.recordInterval) &&
+                    maxEntities == that.maxEntities &&
+                    entitiesPerBatch == that.entitiesPerBatch &&
+                    Objects.equals(batchInterval, that.batchInterval);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, collection, initialDelay, recordInterval, maxEntities, entitiesPerBatch,
+                batchInterval);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() +
+                "[enabled=" + enabled +
+                ",collection=" + collection +
+                ",initialDelay=" + initialDelay +
+                ",recordInterval=" + recordInterval +
+                ",maxEntities=" + maxEntities +
+                ",entitiesPerBatch=" + entitiesPerBatch +
+                ",batchInterval=" + batchInterval +
+                "]";
+    }
+
+}
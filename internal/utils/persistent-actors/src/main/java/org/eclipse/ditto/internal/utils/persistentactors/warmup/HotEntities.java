@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.warmup;
+
+import java.util.List;
+
+import akka.actor.AbstractExtensionId;
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Extension;
+
+/**
+ * Node-local access statistics of persistence actors, used to determine the entities to warm up after a restart.
+ * Persistence actors record each access; the statistics keep an approximate count per persistence ID in constant memory
+ * and track the persistence IDs with the highest counts. The counts are halved each time they are reported, so that
+ * they age at the rate at which they are reported.
+ */
+public final class HotEntities implements Extension {
+
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 1 << 15;
+    private static final int MAX_TOP_ENTRIES = 10_000;
+
+    private final CountMinTopK sketch;
+
+    private HotEntities() {
+        sketch = CountMinTopK.of(SKETCH_DEPTH, SKETCH_WIDTH, MAX_TOP_ENTRIES);
+    }
+
+    /**
+     * Get the hot entities extension of an actor system.
+     *
+     * @param system the actor system.
+     * @return the extension.
+     */
+    public static HotEntities get(final ActorSystem system) {
+        return ExtensionId.INSTANCE.get(system);
+    }
+
+    /**
+     * Record an access to an entity.
+     *
+     * @param persistenceId the persistence ID of the entity.
+     */
+    public void recordAccess(final String persistenceId) {
+        recordAccesses(persistenceId, 1L);
+    }
+
+    /**
+     * Record accesses to an entity.
+     *
+     * @param persistenceId the persistence ID of the entity.
+     * @param accesses number of accesses.
+     */
+    public void recordAccesses(final String persistenceId, final long accesses) {
+        if (accesses > 0) {
+            synchronized (sketch) {
+                sketch.add(persistenceId, accesses);
+            }
+        }
+    }
+
+    /**
+     * Return the most accessed entities with their estimated number of accesses and halve the collected statistics.
+     *
+     * @param limit the maximum number of entities to return.
+     * @return the entities in descending order of accesses.
+     */
+    public List<HotEntity> getHottestAndDecay(final int limit) {
+        synchronized (sketch) {
+            final List<HotEntity> result = sketch.getTopEntries(limit)
+                    .stream()
+                    .map(entry -> new HotEntity(entry.getKey(), entry.getValue()))
+                    .toList();
+            sketch.decay();
+            return result;
+        }
+    }
+
+    static final class ExtensionId extends AbstractExtensionId<HotEntities> {
+
+        static final ExtensionId INSTANCE = new ExtensionId();
+
+        private ExtensionId() {}
+
+        @Override
+        public HotEntities createExtension(final ExtendedActorSystem system) {
+            return new HotEntities();
+        }
+    }
+
+}
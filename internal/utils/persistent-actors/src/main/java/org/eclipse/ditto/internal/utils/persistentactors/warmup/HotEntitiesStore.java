@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.warmup;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import akka.Done;
+import akka.NotUsed;
+import akka.stream.javadsl.Source;
+
+/**
+ * Storage of the hot entities recorded by the instances of a cluster role, keyed by a key which is stable across
+ * restarts of the instances. Each instance keeps its own recording under the key.
+ */
+interface HotEntitiesStore {
+
+    /**
+     * Load the recordings of all instances under a key.
+     *
+     * @param key the key of the hot entities.
+     * @return source of the recordings, or an empty source if none were recorded.
+     */
+    Source<Recording, NotUsed> load(String key);
+
+    /**
+     * Record the hot entities of an instance, replacing its previous recording under the same key.
+     *
+     * @param key the key of the hot entities.
+     * @param recording the recording of the instance.
+     * @return source completing after the recording is persisted.
+     */
+    Source<Done, NotUsed> record(String key, Recording recording);
+
+    /**
+     * Delete the recordings of instances under a key.
+     *
+     * @param key the key of the hot entities.
+     * @param instances the instances whose recordings to delete.
+     * @return source completing after the recordings are deleted.
+     */
+    Source<Done, NotUsed> delete(String key, Collection<String> instances);
+
+    /**
+     * The hot entities of an instance.
+     *
+     * @param instance the identifier of the instance.
+     * @param timestamp when the hot entities were recorded.
+     * @param hotEntities the hot entities in descending order of accesses.
+     */
+    record Recording(String instance, Instant timestamp, List<HotEntity> hotEntities) {}
+
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.warmup;
+
+/**
+ * An entity with its number of accesses as estimated by {@link HotEntities}.
+ *
+ * @param persistenceId the persistence ID of the entity.
+ * @param accesses the estimated number of accesses.
+ */
+public record HotEntity(String persistenceId, long accesses) {}
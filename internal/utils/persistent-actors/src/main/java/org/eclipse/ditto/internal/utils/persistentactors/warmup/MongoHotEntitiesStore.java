@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.warmup;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import org.bson.Document;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.reactivestreams.client.MongoCollection;
+
+import akka.Done;
+import akka.NotUsed;
+import akka.stream.javadsl.Source;
+
+/**
+ * MongoDB implementation of {@link HotEntitiesStore} keeping one document per key and instance.
+ */
+final class MongoHotEntitiesStore implements HotEntitiesStore {
+
+    private static final String FIELD_ID = "_id";
+    private static final String FIELD_KEY = "key";
+    private static final String FIELD_INSTANCE = "instance";
+    private static final String FIELD_TIMESTAMP = "ts";
+    private static final String FIELD_ENTITIES = "entities";
+    private static final String FIELD_PID = "p";
+    private static final String FIELD_ACCESSES = "n";
+
+    private final MongoCollection<Document> collection;
+
+    MongoHotEntitiesStore(final MongoCollection<Document> collection) {
+        this.collection = collection;
+    }
+
+    @Override
+    public Source<Recording, NotUsed> load(final String key) {
+        return Source.fromPublisher(collection.find(Filters.eq(FIELD_KEY, key)))
+                .map(MongoHotEntitiesStore::toRecording);
+    }
+
+    @Override
+    public Source<Done, NotUsed> record(final String key, final Recording recording) {
+        final List<Document> entities = recording.hotEntities()
+                .stream()
+                .map(hotEntity -> new Document()
+                        .append(FIELD_PID, hotEntity.persistenceId())
+                        .append(FIELD_ACCESSES, hotEntity.accesses()))
+                .toList();
+        final Document document = new Document()
+                .append(FIELD_ID, toId(key, recording.instance()))
+                .append(FIELD_KEY, key)
+                .append(FIELD_INSTANCE, recording.instance())
+                .append(FIELD_TIMESTAMP, Date.from(recording.timestamp()))
+                .append(FIELD_ENTITIES, entities);
+
+        return Source.fromPublisher(collection.replaceOne(Filters.eq(FIELD_ID, document.get(FIELD_ID)), document,
+                        new ReplaceOptions().upsert(true)))
+                .map(result -> Done.getInstance());
+    }
+
+    @Override
+    public Source<Done, NotUsed> delete(final String key, final Collection<String> instances) {
+        final List<String> ids = instances.stream().map(instance -> toId(key, instance)).toList();
+        return Source.fromPublisher(collection.deleteMany(Filters.in(FIELD_ID, ids)))
+                .map(result -> Done.getInstance());
+    }
+
+    private static String toId(final String key, final String instance) {
+        return key + "|" + instance;
+    }
+
+    private static Recording toRecording(final Document document) {
+        final List<HotEntity> hotEntities =
+                Optional.ofNullable(document.getList(FIELD_ENTITIES, Document.class)).orElse(List.of())
+                        .stream()
+                        .map(entity -> new HotEntity(entity.getString(FIELD_PID),
+                                entity.get(FIELD_ACCESSES, Number.class).longValue()))
+                        .toList();
+        return new Recording(document.getString(FIELD_INSTANCE), document.getDate(FIELD_TIMESTAMP).toInstant(),
+                hotEntities);
+    }
+
+}
@@ -0,0 +1,383 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.warmup;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.base.api.common.ModifyConfig;
+import org.eclipse.ditto.base.api.common.RetrieveConfig;
+import org.eclipse.ditto.base.model.entity.id.EntityId;
+import org.eclipse.ditto.base.model.entity.type.EntityType;
+import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.internal.utils.akka.PingCommand;
+import org.eclipse.ditto.internal.utils.akka.PingCommandResponse;
+import org.eclipse.ditto.internal.utils.akka.actors.ModifyConfigBehavior;
+import org.eclipse.ditto.internal.utils.akka.actors.RetrieveConfigBehavior;
+import org.eclipse.ditto.internal.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
+import org.eclipse.ditto.internal.utils.config.InstanceIdentifierSupplier;
+import org.eclipse.ditto.internal.utils.health.RetrieveHealth;
+import org.eclipse.ditto.internal.utils.health.RetrieveHealthResponse;
+import org.eclipse.ditto.internal.utils.health.StatusDetailMessage;
+import org.eclipse.ditto.internal.utils.health.StatusInfo;
+import org.eclipse.ditto.internal.utils.persistence.mongo.DittoMongoClient;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+
+import com.typesafe.config.Config;
+
+import akka.Done;
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.ActorRef;
+import akka.actor.CoordinatedShutdown;
+import akka.actor.Props;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
+import akka.stream.KillSwitches;
+import akka.stream.Materializer;
+import akka.stream.UniqueKillSwitch;
+import akka.stream.javadsl.Keep;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+
+/**
+ * Actor warming up the most accessed entities of this instance after a restart.
+ * <p>
+ * Periodically and on shutdown, it persists the most accessed entities of this instance together with their access
+ * counts as recorded by {@link HotEntities}, which halves the counts each record interval. Each instance keeps its own
+ * recording under a key of cluster role and shard region, because instance identifiers may change on restart and the
+ * entities of a restarted instance are distributed over the cluster anyway.
+ * After startup, it reads the recordings of all instances under the key and merges their access counts, halving them
+ * for each record interval a recording is older than the newest one. Recordings so old that their counts no longer
+ * matter are deleted. The entities with the highest merged counts are started by pinging them in their shard region
+ * at the configured rate. Progress is reported via {@code RetrieveHealth}, the
+ * rate can be changed via {@code ModifyConfig}.
+ */
+public final class PersistenceWarmUpActor extends AbstractActorWithTimers
+        implements RetrieveConfigBehavior, ModifyConfigBehavior {
+
+    /**
+     * Name of this actor.
+     */
+    public static final String ACTOR_NAME = "persistenceWarmUp";
+
+    private static final String CORRELATION_ID_PREFIX = "persistence-warm-up-actor-triggered:";
+
+    /**
+     * Ask-timeout in shutdown tasks. Its duration should be long enough but ultimately does not
+     * matter because each shutdown phase has its own timeout.
+     */
+    private static final Duration SHUTDOWN_ASK_TIMEOUT = Duration.ofMinutes(2L);
+
+    /**
+     * Number of record intervals after which the access counts of a recording are negligible compared to those of
+     * the newest recording.
+     */
+    private static final int STALE_AFTER_RECORD_INTERVALS = 64;
+
+    private final ThreadSafeDittoLoggingAdapter logger = DittoLoggerFactory.getThreadSafeDittoLoggingAdapter(this);
+    private final Materializer materializer = Materializer.createMaterializer(getContext());
+    private final ActorRef shardRegion;
+    private final HotEntitiesStore store;
+    private final HotEntities hotEntities;
+    private final String key;
+    private final String instance;
+
+    private WarmUpConfig config;
+    private State state = State.WAITING;
+    private List<String> persistenceIdsToWarmUp = List.of();
+    private int startedEntities = 0;
+    @Nullable private UniqueKillSwitch killSwitch = null;
+
+    @SuppressWarnings("unused") // called by reflection
+    private PersistenceWarmUpActor(final ActorRef shardRegion, final WarmUpConfig config,
+            final HotEntitiesStore store, final String clusterRole, final String instance) {
+
+        this.shardRegion = shardRegion;
+        this.config = config;
+        this.store = store;
+        this.instance = instance;
+        hotEntities = HotEntities.get(getContext().getSystem());
+        key = clusterRole + ":" + shardRegion.path().name();
+    }
+
+    /**
+     * Create the Props object for this actor.
+     *
+     * @param shardRegion the shard region of the persistence actors to warm up.
+     * @param config the warm-up config.
+     * @param mongoClient the Mongo client to persist the hot entities with.
+     * @param clusterRole the cluster role of the shard region.
+     * @return the Props object.
+     */
+    public static Props props(final ActorRef shardRegion, final WarmUpConfig config,
+            final DittoMongoClient mongoClient, final String clusterRole) {
+
+        return props(shardRegion, config, new MongoHotEntitiesStore(mongoClient.getCollection(config.getCollection())),
+                clusterRole, InstanceIdentifierSupplier.getInstance().get());
+    }
+
+    static Props props(final ActorRef shardRegion, final WarmUpConfig config, final HotEntitiesStore store,
+            final String clusterRole, final String instance) {
+
+        return Props.create(PersistenceWarmUpActor.class, shardRegion, config, store, clusterRole, instance);
+    }
+
+    @Override
+    public void preStart() throws Exception {
+        super.preStart();
+
+        final var coordinatedShutdown = CoordinatedShutdown.get(getContext().getSystem());
+        final var serviceRequestsDoneTask = "service-requests-done-" + ACTOR_NAME;
+        coordinatedShutdown.addTask(CoordinatedShutdown.PhaseServiceRequestsDone(), serviceRequestsDoneTask,
+                () -> Patterns.ask(getSelf(), Control.SERVICE_REQUESTS_DONE, SHUTDOWN_ASK_TIMEOUT)
+                        .thenApply(reply -> Done.done())
+        );
+
+        if (config.isEnabled()) {
+            timers().startTimerAtFixedRate(Control.RECORD, Control.RECORD, config.getRecordInterval());
+            timers().startSingleTimer(Control.LOAD, Control.LOAD, config.getInitialDelay());
+        }
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .matchEquals(Control.LOAD, this::load)
+                .match(LoadedRecordings.class, this::loadedRecordings)
+                .matchEquals(Control.ENTITY_STARTED, entityStarted -> startedEntities++)
+                .match(StreamTerminated.class, this::streamTerminated)
+                .matchEquals(Control.RECORD, record -> record())
+                .matchEquals(Control.SERVICE_REQUESTS_DONE, this::serviceRequestsDone)
+                .match(RetrieveHealth.class, this::retrieveHealth)
+                .match(RetrieveConfig.class, retrieveConfig -> retrieveConfigBehavior().onMessage().apply(retrieveConfig))
+                .match(ModifyConfig.class, modifyConfig -> modifyConfigBehavior().onMessage().apply(modifyConfig))
+                .match(PingCommandResponse.class, response ->
+                        logger.debug("Received PingCommandResponse with correlation-id <{}>",
+                                response.getCorrelationId()))
+                .match(DittoRuntimeException.class, exception ->
+                        logger.debug("Received <{}> for correlation-id <{}>: {}",
+                                exception.getClass().getSimpleName(),
+                                exception.getDittoHeaders().getCorrelationId().orElse("unknown"),
+                                exception.getMessage()))
+                .matchAny(message -> logger.warning("Got unhandled message <{}> when state=<{}>", message, state))
+                .build();
+    }
+
+    @Override
+    public Config getConfig() {
+        return config.render();
+    }
+
+    @Override
+    public Config setConfig(final Config config) {
+        final var previousConfig = this.config;
+        this.config = this.config.setAll(config);
+        if (killSwitch != null && (previousConfig.getEntitiesPerBatch() != this.config.getEntitiesPerBatch() ||
+                !previousConfig.getBatchInterval().equals(this.config.getBatchInterval()))) {
+            logger.info("Restarting warm-up at <{}/{}> with new rate", startedEntities,
+                    persistenceIdsToWarmUp.size());
+            killSwitch.shutdown();
+            killSwitch = null;
+            startStream();
+        }
+
+        return this.config.render();
+    }
+
+    private void load(final Control load) {
+        state = State.LOADING;
+        logger.info("Loading hot entities of <{}>", key);
+        store.load(key)
+                .runWith(Sink.seq(), materializer)
+                .handle((recordings, error) -> {
+                    if (error != null) {
+                        logger.error(error, "Failed to load hot entities");
+                        return new LoadedRecordings(List.of());
+                    } else {
+                        return new LoadedRecordings(recordings);
+                    }
+                })
+                .thenAccept(loadedRecordings -> getSelf().tell(loadedRecordings, ActorRef.noSender()));
+    }
+
+    private void loadedRecordings(final LoadedRecordings loadedRecordings) {
+        final List<HotEntitiesStore.Recording> recordings = loadedRecordings.recordings();
+        final Instant newest = recordings.stream()
+                .map(HotEntitiesStore.Recording::timestamp)
+                .max(Comparator.naturalOrder())
+                .orElse(Instant.EPOCH);
+        final Duration halfLife = config.getRecordInterval();
+        final Instant staleBefore = newest.minus(halfLife.multipliedBy(STALE_AFTER_RECORD_INTERVALS));
+        final Map<String, Double> weightedAccesses = new HashMap<>();
+        final List<String> staleInstances = recordings.stream()
+                .filter(recording -> recording.timestamp().isBefore(staleBefore))
+                .map(HotEntitiesStore.Recording::instance)
+                .toList();
+        recordings.stream()
+                .filter(recording -> !recording.timestamp().isBefore(staleBefore))
+                .forEach(recording -> {
+                    final double age = Duration.between(recording.timestamp(), newest).toMillis();
+                    final double weight = Math.pow(0.5, age / Math.max(1L, halfLife.toMillis()));
+                    recording.hotEntities().forEach(hotEntity -> weightedAccesses.merge(hotEntity.persistenceId(),
+                            weight * hotEntity.accesses(), Double::sum));
+                });
+        if (!staleInstances.isEmpty()) {
+            logger.info("Deleting stale hot entities of instances <{}>", staleInstances);
+            store.delete(key, staleInstances)
+                    .runWith(Sink.ignore(), materializer)
+                    .exceptionally(error -> {
+                        logger.error(error, "Failed to delete stale hot entities");
+                        return Done.getInstance();
+                    });
+        }
+
+        persistenceIdsToWarmUp = weightedAccesses.entrySet()
+                .stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(config.getMaxEntities())
+                .map(Map.Entry::getKey)
+                .toList();
+        startedEntities = 0;
+        logger.info("Warming up <{}> hot entities", persistenceIdsToWarmUp.size());
+        startStream();
+    }
+
+    private void startStream() {
+        state = State.RUNNING;
+        final var materializedValues = Source.from(persistenceIdsToWarmUp)
+                .drop(startedEntities)
+                .throttle(config.getEntitiesPerBatch(), config.getBatchInterval())
+                .viaMat(KillSwitches.single(), Keep.right())
+                .toMat(Sink.foreach(this::warmUp), Keep.both())
+                .run(materializer);
+        final var streamKillSwitch = materializedValues.first();
+        killSwitch = streamKillSwitch;
+        materializedValues.second().whenComplete((done, error) -> {
+            if (error == null) {
+                getSelf().tell(new StreamTerminated(streamKillSwitch, Control.STREAM_COMPLETE), ActorRef.noSender());
+            } else {
+                logger.error(error, "Warm-up stream failed");
+                getSelf().tell(new StreamTerminated(streamKillSwitch, Control.STREAM_FAILED), ActorRef.noSender());
+            }
+        });
+    }
+
+    private void warmUp(final String persistenceId) {
+        toEntityId(persistenceId).ifPresent(entityId -> {
+            final PingCommand ping = PingCommand.of(entityId, CORRELATION_ID_PREFIX + entityId, JsonValue.nullLiteral());
+            shardRegion.tell(ping, getSelf());
+            getSelf().tell(Control.ENTITY_STARTED, ActorRef.noSender());
+        });
+    }
+
+    private void streamTerminated(final StreamTerminated streamTerminated) {
+        if (streamTerminated.killSwitch() == killSwitch) {
+            if (streamTerminated.result() == Control.STREAM_COMPLETE) {
+                logger.info("Warm-up complete: <{}/{}>", startedEntities, persistenceIdsToWarmUp.size());
+            }
+            state = State.DONE;
+            killSwitch = null;
+        }
+    }
+
+    private CompletionStage<Done> record() {
+        final List<HotEntity> hottest = hotEntities.getHottestAndDecay(config.getMaxEntities());
+        if (hottest.isEmpty()) {
+            // keep the recorded hot entities while this instance has not yet collected any statistics
+            return Source.single(Done.getInstance()).runWith(Sink.head(), materializer);
+        }
+        logger.debug("Recording <{}> hot entities of <{}> for instance <{}>", hottest.size(), key, instance);
+
+        return store.record(key, new HotEntitiesStore.Recording(instance, Instant.now(), hottest))
+                .runWith(Sink.ignore(), materializer)
+                .exceptionally(error -> {
+                    logger.error(error, "Failed to record hot entities");
+                    return Done.getInstance();
+                });
+    }
+
+    private void serviceRequestsDone(final Control serviceRequestsDone) {
+        if (killSwitch != null) {
+            killSwitch.shutdown();
+            killSwitch = null;
+        }
+        final ActorRef sender = getSender();
+        if (config.isEnabled()) {
+            record().thenAccept(done -> sender.tell(done, ActorRef.noSender()));
+        } else {
+            sender.tell(Done.getInstance(), getSelf());
+        }
+    }
+
+    private void retrieveHealth(final RetrieveHealth retrieveHealth) {
+        final var response = RetrieveHealthResponse.of(
+                StatusInfo.fromDetail(StatusDetailMessage.of(StatusDetailMessage.Level.INFO, JsonObject.newBuilder()
+                        .set("state", state.name())
+                        .set("total", persistenceIdsToWarmUp.size())
+                        .set("started", startedEntities)
+                        .set("entitiesPerBatch", config.getEntitiesPerBatch())
+                        .set("batchInterval", config.getBatchInterval().toString())
+                        .build())
+                ),
+                DittoHeaders.empty()
+        );
+        getSender().tell(response, getSelf());
+    }
+
+    private Optional<EntityId> toEntityId(final String persistenceId) {
+        final int indexOfSeparator = persistenceId.indexOf(':');
+        if (indexOfSeparator < 0) {
+            logger.warning("Persistence ID <{}> wasn't prefixed with an entity type.", persistenceId);
+            return Optional.empty();
+        }
+        final String id = persistenceId.substring(indexOfSeparator + 1);
+        final EntityType type = EntityType.of(persistenceId.substring(0, indexOfSeparator));
+        return Optional.of(EntityId.of(type, id));
+    }
+
+    private record LoadedRecordings(List<HotEntitiesStore.Recording> recordings) {}
+
+    private record StreamTerminated(UniqueKillSwitch killSwitch, Control result) {}
+
+    private enum Control {
+        LOAD,
+        RECORD,
+        ENTITY_STARTED,
+        STREAM_COMPLETE,
+        STREAM_FAILED,
+        SERVICE_REQUESTS_DONE
+    }
+
+    /**
+     * State of the warm-up.
+     */
+    private enum State {
+        WAITING,
+        LOADING,
+        RUNNING,
+        DONE
+    }
+
+}
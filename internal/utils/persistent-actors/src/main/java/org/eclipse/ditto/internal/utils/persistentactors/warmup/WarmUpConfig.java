@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.warmup;
+
+import java.time.Duration;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+import com.typesafe.config.Config;
+
+/**
+ * Config for warming up the most accessed entities after a restart.
+ */
+public interface WarmUpConfig {
+
+    /**
+     * Create an instance of warm-up config from HOCON.
+     *
+     * @param config the HOCON object.
+     * @return the warm-up config.
+     */
+    static WarmUpConfig of(final Config config) {
+        return new DefaultWarmUpConfig(ConfigWithFallback.newInstance(config, DefaultWarmUpConfig.CONFIG_PATH,
+                ConfigValue.values()));
+    }
+
+    /**
+     * Set values defined in the config with the config values of this object as fallback.
+     *
+     * @param config the config values to set.
+     * @return the new warm-up config object.
+     */
+    WarmUpConfig setAll(final Config config);
+
+    /**
+     * Return whether recording of hot entities and warming them up is enabled.
+     *
+     * @return whether warm-up is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the name of the collection storing the hot entities.
+     *
+     * @return the collection name.
+     */
+    String getCollection();
+
+    /**
+     * Returns the delay after startup before warming up starts.
+     *
+     * @return the initial delay.
+     */
+    Duration getInitialDelay();
+
+    /**
+     * Returns how often the hot entities of this instance are persisted.
+     *
+     * @return the record interval.
+     */
+    Duration getRecordInterval();
+
+    /**
+     * Returns the maximum number of hot entities to persist and to warm up.
+     *
+     * @return the maximum number of entities.
+     */
+    int getMaxEntities();
+
+    /**
+     * Returns how many entities are started per {@link #getBatchInterval()}.
+     *
+     * @return the number of entities per batch.
+     */
+    int getEntitiesPerBatch();
+
+    /**
+     * Returns the interval between batches of started entities.
+     *
+     * @return the batch interval.
+     */
+    Duration getBatchInterval();
+
+    /**
+     * Render this object as config.
+     *
+     * @return this object as config.
+     */
+    Config render();
+
+    /**
+     * Enumeration of known config keys and default values for {@code WarmUpConfig}
+     */
+    enum ConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether warm-up is enabled.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * Collection storing the hot entities.
+         */
+        COLLECTION("collection", "hot_entities"),
+
+        /**
+         * Delay after startup before warming up.
+         */
+        INITIAL_DELAY("initial-delay", Duration.ofSeconds(30L)),
+
+        /**
+         * How often to persist the hot entities.
+         */
+        RECORD_INTERVAL("record-interval", Duration.ofMinutes(5L)),
+
+        /**
+         * Maximum number of hot entities.
+         */
+        MAX_ENTITIES("max-entities", 10_000),
+
+        /**
+         * Number of entities to start per batch.
+         */
+        ENTITIES_PER_BATCH("entities-per-batch", 50),
+
+        /**
+         * Interval between batches.
+         */
+        BATCH_INTERVAL("batch-interval", Duration.ofSeconds(1L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        ConfigValue(final String path, final Object defaultValue) {
+            this.path = path;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+    }
+}
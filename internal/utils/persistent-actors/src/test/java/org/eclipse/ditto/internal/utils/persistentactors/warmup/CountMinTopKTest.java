@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.warmup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link CountMinTopK}.
+ */
+public final class CountMinTopKTest {
+
+    @Test
+    public void returnsKeysInDescendingOrderOfCounts() {
+        final var underTest = CountMinTopK.of(4, 1024, 10);
+        underTest.add("thing:a", 1);
+        underTest.add("thing:b", 5);
+        underTest.add("thing:c", 3);
+        underTest.add("thing:a", 1);
+
+        assertThat(underTest.getTopKeys(10)).containsExactly("thing:b", "thing:c", "thing:a");
+        assertThat(underTest.getTopKeys(2)).containsExactly("thing:b", "thing:c");
+    }
+
+    @Test
+    public void evictsKeysWithLowestCounts() {
+        final var underTest = CountMinTopK.of(4, 1024, 2);
+        underTest.add("thing:a", 1);
+        underTest.add("thing:b", 2);
+        underTest.add("thing:c", 3);
+        underTest.add("thing:d", 1);
+
+        assertThat(underTest.getTopKeys(10)).containsExactly("thing:c", "thing:b");
+    }
+
+    @Test
+    public void keyReturnsAfterEnoughAccesses() {
+        final var underTest = CountMinTopK.of(4, 1024, 1);
+        underTest.add("thing:a", 3);
+        underTest.add("thing:b", 2);
+        assertThat(underTest.getTopKeys(10)).containsExactly("thing:a");
+
+        underTest.add("thing:b", 2);
+        assertThat(underTest.getTopKeys(10)).containsExactly("thing:b");
+    }
+
+    @Test
+    public void decayHalvesCountsAndDropsRarelyAccessedKeys() {
+        final var underTest = CountMinTopK.of(4, 1024, 10);
+        underTest.add("thing:a", 1);
+        underTest.add("thing:b", 8);
+
+        underTest.decay();
+        assertThat(underTest.getTopKeys(10)).containsExactly("thing:b");
+
+        underTest.add("thing:a", 5);
+        assertThat(underTest.getTopKeys(10)).containsExactly("thing:a", "thing:b");
+    }
+
+}
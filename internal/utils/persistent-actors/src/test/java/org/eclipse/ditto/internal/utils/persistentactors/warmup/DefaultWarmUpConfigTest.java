@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.warmup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Tests {@link DefaultWarmUpConfig}.
+ */
+public final class DefaultWarmUpConfigTest {
+
+    private static final Config CONFIG = ConfigFactory.load("warm-up-test");
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultWarmUpConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultWarmUpConfig.class).verify();
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final var underTest = WarmUpConfig.of(CONFIG);
+
+        assertThat(underTest.isEnabled())
+                .describedAs(WarmUpConfig.ConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+
+        assertThat(underTest.getCollection())
+                .describedAs(WarmUpConfig.ConfigValue.COLLECTION.getConfigPath())
+                .isEqualTo("test_hot_entities");
+
+        assertThat(underTest.getInitialDelay())
+                .describedAs(WarmUpConfig.ConfigValue.INITIAL_DELAY.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(1));
+
+        assertThat(underTest.getRecordInterval())
+                .describedAs(WarmUpConfig.ConfigValue.RECORD_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(2));
+
+        assertThat(underTest.getMaxEntities())
+                .describedAs(WarmUpConfig.ConfigValue.MAX_ENTITIES.getConfigPath())
+                .isEqualTo(3);
+
+        assertThat(underTest.getEntitiesPerBatch())
+                .describedAs(WarmUpConfig.ConfigValue.ENTITIES_PER_BATCH.getConfigPath())
+                .isEqualTo(4);
+
+        assertThat(underTest.getBatchInterval())
+                .describedAs(WarmUpConfig.ConfigValue.BATCH_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void setAllKeepsUnchangedValues() {
+        final var underTest = WarmUpConfig.of(CONFIG)
+                .setAll(ConfigFactory.parseString("entities-per-batch = 100"));
+
+        assertThat(underTest.getEntitiesPerBatch()).isEqualTo(100);
+        assertThat(underTest.getBatchInterval()).isEqualTo(Duration.ofSeconds(5));
+        assertThat(underTest.getCollection()).isEqualTo("test_hot_entities");
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.warmup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.internal.utils.akka.PingCommand;
+import org.eclipse.ditto.internal.utils.health.RetrieveHealth;
+import org.eclipse.ditto.internal.utils.health.RetrieveHealthResponse;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.ThingId;
+import org.junit.After;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.Done;
+import akka.NotUsed;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link PersistenceWarmUpActor}.
+ */
+public final class PersistenceWarmUpActorTest {
+
+    private static final String CLUSTER_ROLE = "things";
+    private static final String INSTANCE = "instance-1";
+
+    private final ActorSystem actorSystem = ActorSystem.create("test", ConfigFactory.load("test.conf"));
+    private final InMemoryStore store = new InMemoryStore();
+
+    @After
+    public void shutdown() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Test
+    public void warmUpEntitiesWithHighestAccessCountsOfAllInstances() {
+        new TestKit(actorSystem) {{
+            final TestKit shardRegion = new TestKit(actorSystem);
+            final String key = CLUSTER_ROLE + ":" + shardRegion.getRef().path().name();
+            final Instant newest = Instant.now();
+            store.recorded.put(key, List.of(
+                    new HotEntitiesStore.Recording("a", newest,
+                            List.of(new HotEntity("thing:x:1", 10L), new HotEntity("no-entity-type", 5L))),
+                    // counts of a recording one record interval older than the newest one are halved
+                    new HotEntitiesStore.Recording("b", newest.minus(Duration.ofHours(1L)),
+                            List.of(new HotEntity("thing:x:2", 16L), new HotEntity("thing:x:3", 2L))),
+                    new HotEntitiesStore.Recording("stale", newest.minus(Duration.ofDays(7L)),
+                            List.of(new HotEntity("thing:x:4", 1000L)))
+            ));
+
+            final ActorRef underTest = actorSystem.actorOf(
+                    PersistenceWarmUpActor.props(shardRegion.getRef(), config(Duration.ofHours(1L)), store,
+                            CLUSTER_ROLE, INSTANCE));
+
+            assertThat(shardRegion.expectMsgClass(PingCommand.class).getEntityId())
+                    .isEqualTo(ThingId.of("x:1"));
+            assertThat(shardRegion.expectMsgClass(PingCommand.class).getEntityId())
+                    .isEqualTo(ThingId.of("x:2"));
+            shardRegion.expectNoMessage();
+            assertThat(store.deletions).containsExactly(new Deletion(key, List.of("stale")));
+
+            awaitAssert(() -> {
+                underTest.tell(RetrieveHealth.newInstance(), getRef());
+                final JsonObject status = expectMsgClass(RetrieveHealthResponse.class).getStatusInfo()
+                        .getDetails().get(0).getMessage().asObject();
+                assertThat(status.getValue("state")).contains(JsonValue.of("DONE"));
+                assertThat(status.getValue("total")).contains(JsonValue.of(3));
+                assertThat(status.getValue("started")).contains(JsonValue.of(2));
+                return null;
+            });
+        }};
+    }
+
+    @Test
+    public void recordHottestEntitiesOfInstanceUnderKeyOfClusterRoleAndShardRegion() throws InterruptedException {
+        new TestKit(actorSystem) {{
+            HotEntities.get(actorSystem).recordAccesses("thing:x:hot", 100L);
+            HotEntities.get(actorSystem).recordAccess("thing:x:cold");
+
+            final ActorRef shardRegion = getRef();
+            actorSystem.actorOf(PersistenceWarmUpActor.props(shardRegion, config(Duration.ofMillis(100L)), store,
+                    CLUSTER_ROLE, INSTANCE));
+
+            final Recording recording = store.recordings.poll(10L, TimeUnit.SECONDS);
+            assertThat(recording).isNotNull();
+            assertThat(recording.key()).isEqualTo(CLUSTER_ROLE + ":" + shardRegion.path().name());
+            assertThat(recording.recording().instance()).isEqualTo(INSTANCE);
+            assertThat(recording.recording().hotEntities())
+                    .containsExactly(new HotEntity("thing:x:hot", 100L), new HotEntity("thing:x:cold", 1L));
+
+            // the statistics are halved after each recording
+            final Recording nextRecording = store.recordings.poll(10L, TimeUnit.SECONDS);
+            assertThat(nextRecording).isNotNull();
+            assertThat(nextRecording.recording().hotEntities()).containsExactly(new HotEntity("thing:x:hot", 50L));
+        }};
+    }
+
+    private static WarmUpConfig config(final Duration recordInterval) {
+        return WarmUpConfig.of(ConfigFactory.parseMap(Map.of(
+                "warm-up.enabled", true,
+                "warm-up.collection", "test_hot_entities",
+                "warm-up.initial-delay", "0s",
+                "warm-up.record-interval", recordInterval,
+                "warm-up.max-entities", 3,
+                "warm-up.entities-per-batch", 10,
+                "warm-up.batch-interval", "100ms"
+        )));
+    }
+
+    private record Recording(String key, HotEntitiesStore.Recording recording) {}
+
+    private record Deletion(String key, List<String> instances) {}
+
+    private static final class InMemoryStore implements HotEntitiesStore {
+
+        private final Map<String, List<HotEntitiesStore.Recording>> recorded = new ConcurrentHashMap<>();
+        private final BlockingQueue<Recording> recordings = new LinkedBlockingQueue<>();
+        private final BlockingQueue<Deletion> deletions = new LinkedBlockingQueue<>();
+
+        @Override
+        public Source<HotEntitiesStore.Recording, NotUsed> load(final String key) {
+            return Source.from(recorded.getOrDefault(key, List.of()));
+        }
+
+        @Override
+        public Source<Done, NotUsed> record(final String key, final HotEntitiesStore.Recording recording) {
+            recordings.add(new Recording(key, recording));
+            return Source.single(Done.getInstance());
+        }
+
+        @Override
+        public Source<Done, NotUsed> delete(final String key, final Collection<String> instances) {
+            deletions.add(new Deletion(key, List.copyOf(instances)));
+            return Source.single(Done.getInstance());
+        }
+    }
+
+}
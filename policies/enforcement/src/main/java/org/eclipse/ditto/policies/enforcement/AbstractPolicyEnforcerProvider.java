@@ -12,10 +12,22 @@
  */
 package org.eclipse.ditto.policies.enforcement;
 
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.internal.utils.cache.Cache;
+import org.eclipse.ditto.internal.utils.cache.CacheFactory;
+import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
+import org.eclipse.ditto.internal.utils.config.DittoConfigError;
+import org.eclipse.ditto.policies.model.Policy;
 import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+import org.eclipse.ditto.policies.model.enforcers.PolicyEnforcers;
 
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.typesafe.config.Config;
 
 import akka.actor.ActorSystem;
 import akka.dispatch.MessageDispatcher;
@@ -25,6 +37,9 @@ import akka.dispatch.MessageDispatcher;
  */
 abstract class AbstractPolicyEnforcerProvider implements PolicyEnforcerProvider {
 
+    private static final String DEFAULT_EVALUATOR = "default";
+    private static final String BITSET_EVALUATOR = "bitset";
+
     protected AbstractPolicyEnforcerProvider() {
         // no-op
     }
@@ -32,8 +47,51 @@ abstract class AbstractPolicyEnforcerProvider implements PolicyEnforcerProvider
     protected static AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> policyEnforcerCacheLoader(
             final ActorSystem actorSystem) {
 
+        return policyEnforcerCacheLoader(actorSystem, null);
+    }
+
+    protected static AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> policyEnforcerCacheLoader(
+            final ActorSystem actorSystem, @Nullable final Cache<PolicyId, Entry<Policy>> importedPolicyCache) {
+
         final PolicyCacheLoader policyCacheLoader = PolicyCacheLoader.getSingletonInstance(actorSystem);
-        return new PolicyEnforcerCacheLoader(policyCacheLoader);
+        final Config enforcerCacheConfig =
+                actorSystem.settings().config().getConfig(PolicyEnforcerProvider.ENFORCER_CACHE_CONFIG_KEY);
+        return new PolicyEnforcerCacheLoader(policyCacheLoader, evaluator(enforcerCacheConfig), importedPolicyCache);
+    }
+
+    /**
+     * Determines the evaluator creating the enforcers of loaded policies. Deduplication of enforcer structures is only
+     * supported by the bitset evaluator, which hence must be chosen explicitly to enable it.
+     *
+     * @param enforcerCacheConfig the config of the policy enforcer cache.
+     * @return the evaluator.
+     * @throws DittoConfigError if the evaluator is unknown or deduplication is enabled for the default evaluator.
+     */
+    static Function<Policy, Enforcer> evaluator(final Config enforcerCacheConfig) {
+        final String evaluator = enforcerCacheConfig.getString("evaluator");
+        final boolean deduplicateEnforcers = enforcerCacheConfig.getBoolean("deduplicate-enforcers");
+        switch (evaluator) {
+            case DEFAULT_EVALUATOR:
+                if (deduplicateEnforcers) {
+                    throw new DittoConfigError("Deduplication of policy enforcers requires evaluator <" +
+                            BITSET_EVALUATOR + ">, but it is <" + evaluator + ">.");
+                }
+                return PolicyEnforcers::defaultEvaluator;
+            case BITSET_EVALUATOR:
+                return deduplicateEnforcers
+                        ? PolicyEnforcerStructurePool.getInstance()::bitSetEvaluator
+                        : PolicyEnforcers::bitSetEvaluator;
+            default:
+                throw new DittoConfigError("Unknown policy enforcer evaluator <" + evaluator + ">, expected <" +
+                        DEFAULT_EVALUATOR + "> or <" + BITSET_EVALUATOR + ">.");
+        }
+    }
+
+    protected static Cache<PolicyId, Entry<Policy>> importedPolicyCache(final ActorSystem actorSystem,
+            final CacheConfig cacheConfig) {
+
+        return CacheFactory.createCache(PolicyCacheLoader.getSingletonInstance(actorSystem), cacheConfig,
+                "policy_import_cache", enforcementCacheDispatcher(actorSystem));
     }
 
     protected static MessageDispatcher enforcementCacheDispatcher(final ActorSystem actorSystem) {
@@ -21,17 +21,17 @@ import javax.annotation.Nullable;
 
 import org.eclipse.ditto.internal.utils.akka.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.internal.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.cache.Cache;
 import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
 import org.eclipse.ditto.internal.utils.cache.config.DefaultCacheConfig;
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
 import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.internal.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.policies.api.PolicyTag;
+import org.eclipse.ditto.policies.model.Policy;
 import org.eclipse.ditto.policies.model.PolicyId;
 import org.slf4j.Logger;
 
-import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
-
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
@@ -40,7 +40,6 @@ import akka.cluster.ddata.ORSet;
 import akka.cluster.ddata.Replicator;
 import akka.cluster.pubsub.DistributedPubSub;
 import akka.cluster.pubsub.DistributedPubSubMediator;
-import akka.dispatch.MessageDispatcher;
 import akka.japi.pf.ReceiveBuilder;
 import akka.pattern.Patterns;
 
@@ -51,21 +50,27 @@ final class CachingPolicyEnforcerProvider extends AbstractPolicyEnforcerProvider
 
     private static final Logger LOGGER = DittoLoggerFactory.getThreadSafeLogger(CachingPolicyEnforcerProvider.class);
     private static final Duration LOCAL_POLICY_RETRIEVAL_TIMEOUT = Duration.ofSeconds(60);
+    private static final String IMPORTED_POLICIES_CACHE_CONFIG_PATH = "imported-policies";
 
     private final ActorRef cachingPolicyEnforcerProviderActor;
 
     CachingPolicyEnforcerProvider(final ActorSystem actorSystem) {
-        this(actorSystem, policyEnforcerCacheLoader(actorSystem), enforcementCacheDispatcher(actorSystem),
-                DefaultCacheConfig.of(actorSystem.settings().config(),
-                        PolicyEnforcerProvider.ENFORCER_CACHE_CONFIG_KEY));
+        this(actorSystem, DefaultCacheConfig.of(actorSystem.settings().config(),
+                PolicyEnforcerProvider.ENFORCER_CACHE_CONFIG_KEY));
+    }
+
+    private CachingPolicyEnforcerProvider(final ActorSystem actorSystem, final CacheConfig cacheConfig) {
+        this(actorSystem, importedPolicyCache(actorSystem, DefaultCacheConfig.of(actorSystem.settings().config(),
+                PolicyEnforcerProvider.ENFORCER_CACHE_CONFIG_KEY + "." + IMPORTED_POLICIES_CACHE_CONFIG_PATH)),
+                cacheConfig);
     }
 
     private CachingPolicyEnforcerProvider(final ActorSystem actorSystem,
-            final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> policyEnforcerCacheLoader,
-            final MessageDispatcher cacheDispatcher,
+            final Cache<PolicyId, Entry<Policy>> importedPolicyCache,
             final CacheConfig cacheConfig) {
 
-        this(actorSystem, new PolicyEnforcerCache(policyEnforcerCacheLoader, cacheDispatcher, cacheConfig),
+        this(actorSystem, new PolicyEnforcerCache(policyEnforcerCacheLoader(actorSystem, importedPolicyCache),
+                        enforcementCacheDispatcher(actorSystem), cacheConfig, importedPolicyCache),
                 BlockedNamespaces.of(actorSystem),
                 DistributedPubSub.get(actorSystem).mediator()
         );
@@ -54,6 +54,21 @@ public final class PolicyEnforcer {
                 });
     }
 
+    /**
+     * Create a policy enforcer from policy with an enforcer created by the passed evaluator.
+     *
+     * @param policy the policy
+     * @param policyResolver resolves the imported policies
+     * @param evaluator creates the enforcer of the policy with resolved imports
+     * @return the pair
+     */
+    public static CompletionStage<PolicyEnforcer> withResolvedImports(final Policy policy,
+            final Function<PolicyId, CompletionStage<Optional<Policy>>> policyResolver,
+            final Function<Policy, Enforcer> evaluator) {
+        return policy.withResolvedImports(policyResolver)
+                .thenApply(resolvedPolicy -> new PolicyEnforcer(resolvedPolicy, evaluator.apply(resolvedPolicy)));
+    }
+
     /**
      * Create a policy together with its enforcer.
      *
@@ -12,20 +12,20 @@
  */
 package org.eclipse.ditto.policies.enforcement;
 
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.Map;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
 
 import org.eclipse.ditto.internal.utils.cache.Cache;
 import org.eclipse.ditto.internal.utils.cache.CacheFactory;
 import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.histogram.Histogram;
 import org.eclipse.ditto.policies.model.Policy;
 import org.eclipse.ditto.policies.model.PolicyId;
 import org.eclipse.ditto.policies.model.PolicyImport;
@@ -34,37 +34,81 @@ import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 
 import scala.concurrent.ExecutionContextExecutor;
 
+/**
+ * Cache of policy enforcers which tracks the imports of the cached policies. A change of a policy invalidates the
+ * policy and exactly the cached policies importing it; the policies imported by the reloaded enforcers are shared
+ * in a separate cache, so that unchanged imports are not retrieved again for each importing policy.
+ * The imports of a policy are tracked as long as its enforcer is cached.
+ */
 final class PolicyEnforcerCache implements Cache<PolicyId, Entry<PolicyEnforcer>> {
 
     private final Cache<PolicyId, Entry<PolicyEnforcer>> delegate;
-    private final Map<PolicyId, Set<PolicyId>> policyIdToImportingMap;
+    @Nullable private final Cache<PolicyId, Entry<Policy>> importedPolicyCache;
+    private final PolicyImportGraph importGraph;
+    private final Histogram dependentInvalidations;
 
     PolicyEnforcerCache(final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> policyEnforcerCacheLoader,
             final ExecutionContextExecutor cacheDispatcher,
             final CacheConfig cacheConfig) {
-        policyIdToImportingMap = new ConcurrentHashMap<>();
-        this.delegate = CacheFactory.createCache(
+
+        this(policyEnforcerCacheLoader, cacheDispatcher, cacheConfig, null);
+    }
+
+    /**
+     * Creates a policy enforcer cache.
+     *
+     * @param policyEnforcerCacheLoader the loader of the enforcers.
+     * @param cacheDispatcher the dispatcher of the cache.
+     * @param cacheConfig the config of the cache.
+     * @param importedPolicyCache the cache of the imported policies used by {@code policyEnforcerCacheLoader} which
+     * must be invalidated together with the enforcers, or {@code null} if imported policies are not cached.
+     */
+    PolicyEnforcerCache(final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> policyEnforcerCacheLoader,
+            final ExecutionContextExecutor cacheDispatcher,
+            final CacheConfig cacheConfig,
+            @Nullable final Cache<PolicyId, Entry<Policy>> importedPolicyCache) {
+
+        this.importedPolicyCache = importedPolicyCache;
+        importGraph = new PolicyImportGraph();
+        dependentInvalidations = DittoMetrics.histogram("policy_enforcer_cache_dependent_invalidations");
+        delegate = CacheFactory.createCache(
                 (policyId, executor) -> policyEnforcerCacheLoader.asyncLoad(policyId, executor)
-                        .whenComplete(((policyEnforcerEntry, throwable) -> policyEnforcerEntry.get()
-                                .flatMap(PolicyEnforcer::getPolicy)
-                                .map(Policy::getPolicyImports)
-                                .filter(imports -> !imports.isEmpty())
-                                .ifPresent(imports -> imports.stream()
-                                        .map(PolicyImport::getImportedPolicyId)
-                                        .forEach(importedPolicyId -> policyIdToImportingMap.compute(
-                                                importedPolicyId, (importedPolicyId1, importingPolicyIds) -> {
-                                                    final Set<PolicyId> newImportingPolicyIds =
-                                                            importingPolicyIds == null ? new HashSet<>() :
-                                                                    importingPolicyIds;
-                                                    newImportingPolicyIds.add(policyId);
-                                                    return newImportingPolicyIds;
-                                                }))))),
+                        .whenComplete((policyEnforcerEntry, throwable) -> {
+                            if (null != policyEnforcerEntry) {
+                                importGraph.setImports(policyId, getImportedPolicyIds(policyEnforcerEntry));
+                            }
+                        }),
+                // evicted enforcers are reloaded with their current imports on next access
+                (policyId, policyEnforcerEntry, cause) -> {
+                    if (null != policyId) {
+                        importGraph.removeImports(policyId);
+                    }
+                },
                 cacheConfig,
                 "policy_enforcer_cache",
                 cacheDispatcher
         );
     }
 
+    private static List<PolicyId> getImportedPolicyIds(final Entry<PolicyEnforcer> policyEnforcerEntry) {
+        return policyEnforcerEntry.get()
+                .flatMap(PolicyEnforcer::getPolicy)
+                .map(policy -> policy.getPolicyImports().stream()
+                        .map(PolicyImport::getImportedPolicyId)
+                        .toList())
+                .orElseGet(List::of);
+    }
+
+    /**
+     * Returns the IDs of the cached policies whose imports are tracked as importing the passed policy.
+     *
+     * @param importedPolicyId the ID of the imported policy.
+     * @return the IDs of the importing policies.
+     */
+    Set<PolicyId> getImportingPolicyIds(final PolicyId importedPolicyId) {
+        return importGraph.getImportingPolicyIds(importedPolicyId);
+    }
+
     @Override
     public CompletableFuture<Optional<Entry<PolicyEnforcer>>> get(final PolicyId key) {
         return delegate.get(key);
@@ -82,18 +126,24 @@ final class PolicyEnforcerCache implements Cache<PolicyId, Entry<PolicyEnforcer>
 
     @Override
     public boolean invalidate(final PolicyId policyId) {
-        // Invalidate the changed policy
+        // Invalidate the changed policy, also in its role as import of other policies
+        if (null != importedPolicyCache) {
+            importedPolicyCache.invalidate(policyId);
+        }
         final boolean directlyCached = delegate.invalidate(policyId);
-
-        // Invalidate all policies that import the changed policy
-        final boolean indirectlyCachedViaImport = Optional.ofNullable(policyIdToImportingMap.remove(policyId))
-                .stream()
-                .flatMap(Collection::stream)
-                .map(delegate::invalidate)
-                .reduce((previous, next) -> previous || next)
-                .orElse(false);
-
-        return directlyCached || indirectlyCachedViaImport;
+        importGraph.removeImports(policyId);
+
+        // Invalidate all policies that import the changed policy; their edges are added again when they are reloaded
+        long invalidatedImportingPolicies = 0L;
+        for (final PolicyId importingPolicyId : importGraph.getImportingPolicyIds(policyId)) {
+            importGraph.removeImports(importingPolicyId);
+            if (delegate.invalidate(importingPolicyId)) {
+                invalidatedImportingPolicies++;
+            }
+        }
+        dependentInvalidations.record(invalidatedImportingPolicies);
+
+        return directlyCached || invalidatedImportingPolicies > 0L;
     }
 
     @Override
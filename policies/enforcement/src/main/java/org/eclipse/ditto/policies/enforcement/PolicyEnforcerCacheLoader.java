@@ -18,11 +18,14 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.internal.utils.cache.Cache;
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
 import org.eclipse.ditto.policies.model.Policy;
 import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
 
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 
@@ -35,6 +38,8 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<PolicyI
     public static final String ENFORCEMENT_CACHE_DISPATCHER = "enforcement-cache-dispatcher";
 
     private final PolicyCacheLoader delegate;
+    @Nullable private final Function<Policy, Enforcer> evaluator;
+    @Nullable private final Cache<PolicyId, Entry<Policy>> importedPolicyCache;
 
     /**
      * Constructor.
@@ -42,15 +47,36 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<PolicyI
      * @param policyCacheLoader used to load the policies which should be transformed to a {@link PolicyEnforcer}.
      */
     public PolicyEnforcerCacheLoader(final PolicyCacheLoader policyCacheLoader) {
+        this(policyCacheLoader, null, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param policyCacheLoader used to load the policies which should be transformed to a {@link PolicyEnforcer}.
+     * @param evaluator creates the enforcers of the loaded policies or {@code null} to create the default enforcers.
+     * @param importedPolicyCache the cache to resolve imported policies from or {@code null} to load each imported
+     * policy with {@code policyCacheLoader}.
+     */
+    public PolicyEnforcerCacheLoader(final PolicyCacheLoader policyCacheLoader,
+            @Nullable final Function<Policy, Enforcer> evaluator,
+            @Nullable final Cache<PolicyId, Entry<Policy>> importedPolicyCache) {
 
         delegate = policyCacheLoader;
+        this.evaluator = evaluator;
+        this.importedPolicyCache = importedPolicyCache;
     }
 
     @Override
     public CompletableFuture<Entry<PolicyEnforcer>> asyncLoad(final PolicyId policyId, final Executor executor) {
 
-        final Function<PolicyId, CompletionStage<Optional<Policy>>> policyResolver =
-                policyIdToResolve -> delegate.asyncLoad(policyIdToResolve, executor).thenApply(Entry::get);
+        final Function<PolicyId, CompletionStage<Optional<Policy>>> policyResolver;
+        if (null != importedPolicyCache) {
+            policyResolver = policyIdToResolve -> importedPolicyCache.get(policyIdToResolve)
+                    .thenApply(entry -> entry.flatMap(Entry::get));
+        } else {
+            policyResolver = policyIdToResolve -> delegate.asyncLoad(policyIdToResolve, executor).thenApply(Entry::get);
+        }
 
         return delegate.asyncLoad(policyId, executor)
                 .thenCompose(policyEntry -> evaluatePolicy(policyEntry, policyResolver));
@@ -61,7 +87,10 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<PolicyI
         if (entry.exists()) {
             final var revision = entry.getRevision();
             final var policy = entry.getValueOrThrow();
-            return PolicyEnforcer.withResolvedImports(policy, policyResolver)
+            final CompletionStage<PolicyEnforcer> policyEnforcer = null != evaluator
+                    ? PolicyEnforcer.withResolvedImports(policy, policyResolver, evaluator)
+                    : PolicyEnforcer.withResolvedImports(policy, policyResolver);
+            return policyEnforcer
                     .thenApply(enforcer -> Entry.of(revision, enforcer));
         } else {
             return CompletableFuture.completedStage(Entry.nonexistent());
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.enforcement;
+
+import java.lang.ref.Cleaner;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.policies.model.PolicyEntry;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+import org.eclipse.ditto.policies.model.enforcers.EnforcerStructurePool;
+import org.eclipse.ditto.policies.model.enforcers.PolicyEnforcers;
+
+import com.github.benmanes.caffeine.cache.Interner;
+
+/**
+ * Content-addressed pool of the structures of all bitset-based policy enforcers of a JVM. Structures are only
+ * referenced weakly, so that they are garbage collected as soon as no enforcer uses them anymore.
+ * <p>
+ * Reports how many of the pooled structures were deduplicated and the estimated number of bytes currently saved by
+ * that. The saved bytes of an enforcer are subtracted again once the enforcer is garbage collected.
+ */
+@ThreadSafe
+final class PolicyEnforcerStructurePool {
+
+    private static final PolicyEnforcerStructurePool INSTANCE = new PolicyEnforcerStructurePool();
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final Interner<Object> interner;
+    private final LongAdder internedCount;
+    private final LongAdder deduplicatedCount;
+    private final LongAdder savedBytes;
+    private final Counter deduplicatedCounter;
+    private final Gauge savedBytesGauge;
+    private final Gauge dedupRatioGauge;
+
+    PolicyEnforcerStructurePool() {
+        interner = Interner.newWeakInterner();
+        internedCount = new LongAdder();
+        deduplicatedCount = new LongAdder();
+        savedBytes = new LongAdder();
+        deduplicatedCounter = DittoMetrics.counter("policy_enforcer_structures_deduplicated");
+        savedBytesGauge = DittoMetrics.gauge("policy_enforcer_structures_saved_bytes");
+        dedupRatioGauge = DittoMetrics.gauge("policy_enforcer_structures_dedup_ratio");
+    }
+
+    /**
+     * Returns the pool shared by all enforcers of this JVM.
+     *
+     * @return the pool.
+     */
+    static PolicyEnforcerStructurePool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Creates a bitset-based enforcer whose structures are shared with all enforcers created by this pool.
+     *
+     * @param policyEntries the Policy entries to initialize the enforcer with.
+     * @return the enforcer.
+     */
+    Enforcer bitSetEvaluator(final Iterable<PolicyEntry> policyEntries) {
+        final EnforcerStructures enforcerStructures = new EnforcerStructures();
+        final Enforcer enforcer = PolicyEnforcers.bitSetEvaluator(policyEntries, enforcerStructures);
+        final long enforcerSavedBytes = enforcerStructures.savedBytesOfEnforcer;
+        if (enforcerSavedBytes > 0L) {
+            addSavedBytes(enforcerSavedBytes);
+            CLEANER.register(enforcer, () -> addSavedBytes(-enforcerSavedBytes));
+        }
+        return enforcer;
+    }
+
+    /**
+     * Returns the share of structures which were replaced by an equal pooled structure.
+     *
+     * @return the ratio between 0 and 1.
+     */
+    double getDeduplicationRatio() {
+        final long interned = internedCount.sum();
+        return interned == 0L ? 0.0 : (double) deduplicatedCount.sum() / interned;
+    }
+
+    /**
+     * Returns the estimated number of bytes saved by the structures shared by enforcers which are not garbage
+     * collected yet.
+     *
+     * @return the saved bytes.
+     */
+    long getSavedBytes() {
+        return savedBytes.sum();
+    }
+
+    private void addSavedBytes(final long bytes) {
+        savedBytes.add(bytes);
+        savedBytesGauge.set(savedBytes.sum());
+    }
+
+    /**
+     * View of the pool for the construction of one enforcer which sums up the bytes saved for that enforcer.
+     * Enforcers are constructed by one thread, hence it needs no synchronization.
+     */
+    private final class EnforcerStructures implements EnforcerStructurePool {
+
+        private long savedBytesOfEnforcer = 0L;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T intern(final T structure, final long estimatedSizeInBytes) {
+            final T pooled = (T) interner.intern(structure);
+            internedCount.increment();
+            if (pooled != structure) {
+                deduplicatedCount.increment();
+                deduplicatedCounter.increment();
+                savedBytesOfEnforcer += estimatedSizeInBytes;
+            }
+            dedupRatioGauge.set(getDeduplicationRatio());
+            return pooled;
+        }
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.enforcement;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.policies.model.PolicyId;
+
+/**
+ * Tracks which cached policies import which other policies, so that a change of an imported policy invalidates
+ * exactly the policies importing it.
+ * <p>
+ * Both directions are kept: the imports of each importing policy are needed to remove its edges again when it is
+ * reloaded with different imports or invalidated.
+ */
+@ThreadSafe
+final class PolicyImportGraph {
+
+    private final Map<PolicyId, Set<PolicyId>> importedToImporting;
+    private final Map<PolicyId, Set<PolicyId>> importingToImported;
+
+    PolicyImportGraph() {
+        importedToImporting = new HashMap<>();
+        importingToImported = new HashMap<>();
+    }
+
+    /**
+     * Replaces the imports of a policy.
+     *
+     * @param importingPolicyId the ID of the importing policy.
+     * @param importedPolicyIds the IDs of all policies imported by it.
+     */
+    synchronized void setImports(final PolicyId importingPolicyId, final Collection<PolicyId> importedPolicyIds) {
+        removeImports(importingPolicyId);
+        if (!importedPolicyIds.isEmpty()) {
+            importingToImported.put(importingPolicyId, new HashSet<>(importedPolicyIds));
+            for (final PolicyId importedPolicyId : importedPolicyIds) {
+                importedToImporting.computeIfAbsent(importedPolicyId, id -> new HashSet<>()).add(importingPolicyId);
+            }
+        }
+    }
+
+    /**
+     * Removes the imports of a policy.
+     *
+     * @param importingPolicyId the ID of the importing policy.
+     */
+    synchronized void removeImports(final PolicyId importingPolicyId) {
+        final Set<PolicyId> importedPolicyIds = importingToImported.remove(importingPolicyId);
+        if (null != importedPolicyIds) {
+            for (final PolicyId importedPolicyId : importedPolicyIds) {
+                final Set<PolicyId> importingPolicyIds = importedToImporting.get(importedPolicyId);
+                if (null != importingPolicyIds) {
+                    importingPolicyIds.remove(importingPolicyId);
+                    if (importingPolicyIds.isEmpty()) {
+                        importedToImporting.remove(importedPolicyId);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the IDs of the policies importing the passed policy.
+     *
+     * @param importedPolicyId the ID of the imported policy.
+     * @return the IDs of the importing policies.
+     */
+    synchronized Set<PolicyId> getImportingPolicyIds(final PolicyId importedPolicyId) {
+        final Set<PolicyId> importingPolicyIds = importedToImporting.get(importedPolicyId);
+        return null != importingPolicyIds ? Set.copyOf(importingPolicyIds) : Set.of();
+    }
+
+}
@@ -22,8 +22,10 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 
+import org.eclipse.ditto.internal.utils.cache.Cache;
 import org.eclipse.ditto.internal.utils.cache.config.DefaultCacheConfig;
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
 import org.eclipse.ditto.policies.model.PoliciesModelFactory;
@@ -34,6 +36,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.typesafe.config.ConfigFactory;
 
 import akka.actor.ActorSystem;
 import akka.testkit.javadsl.TestKit;
@@ -125,6 +128,76 @@ public final class PolicyEnforcerCacheTest {
 
     }
 
+    @Test
+    public void policyTagDoesNotInvalidatePolicyWhichNoLongerImportsThePolicy() throws Exception {
+        final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> cacheLoader = mock(AsyncCacheLoader.class);
+        final Cache<PolicyId, Entry<Policy>> importedPolicyCache = mock(Cache.class);
+        final ExecutionContextExecutor executor = actorSystem.dispatcher();
+        final var underTest = new PolicyEnforcerCache(
+                cacheLoader,
+                executor,
+                DefaultCacheConfig.of(actorSystem.settings().config(), "ditto.policies-enforcer-cache"),
+                importedPolicyCache
+        );
+
+        final var importingPolicyId = PolicyId.generateRandom();
+        final var formerlyImportedPolicyId = PolicyId.generateRandom();
+
+        new TestKit(actorSystem) {{
+            final Policy importingPolicy = Policy.newBuilder(importingPolicyId)
+                    .setPolicyImport(PoliciesModelFactory.newPolicyImport(formerlyImportedPolicyId))
+                    .build();
+            final Policy importingPolicyWithoutImport = Policy.newBuilder(importingPolicyId)
+                    .build();
+
+            verifyLoadedFromCacheLoader(importingPolicy, underTest, cacheLoader);
+            reset(cacheLoader);
+
+            underTest.invalidate(importingPolicyId);
+            verifyLoadedFromCacheLoader(importingPolicyWithoutImport, underTest, cacheLoader);
+            reset(cacheLoader);
+
+            assertThat(underTest.invalidate(formerlyImportedPolicyId)).isFalse();
+            verify(importedPolicyCache).invalidate(formerlyImportedPolicyId);
+            verifyLoadedFromCache(importingPolicyWithoutImport, underTest, cacheLoader);
+        }};
+
+    }
+
+    @Test
+    public void importsOfEvictedPoliciesAreNoLongerTracked() throws Exception {
+        final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> cacheLoader = mock(AsyncCacheLoader.class);
+        final ExecutionContextExecutor executor = actorSystem.dispatcher();
+        final var underTest = new PolicyEnforcerCache(
+                cacheLoader,
+                executor,
+                DefaultCacheConfig.of(ConfigFactory.parseString("cache.expire-after-write = 500ms"), "cache")
+        );
+
+        final var importedPolicyId = PolicyId.generateRandom();
+        final var importingPolicyId = PolicyId.generateRandom();
+
+        new TestKit(actorSystem) {{
+            final Policy importingPolicy = Policy.newBuilder(importingPolicyId)
+                    .setPolicyImport(PoliciesModelFactory.newPolicyImport(importedPolicyId))
+                    .build();
+
+            verifyLoadedFromCacheLoader(importingPolicy, underTest, cacheLoader);
+            assertThat(underTest.getImportingPolicyIds(importedPolicyId)).containsExactly(importingPolicyId);
+
+            // loading further policies triggers the cache maintenance which evicts the expired importing policy
+            final CompletableFuture nonexistentEntry = CompletableFuture.completedFuture(Entry.nonexistent());
+            when(cacheLoader.asyncLoad(any(), any())).thenReturn(nonexistentEntry);
+            awaitAssert(Duration.ofSeconds(10L), () -> {
+                underTest.get(PolicyId.generateRandom()).join();
+                assertThat(underTest.getIfPresent(importingPolicyId).join()).isEmpty();
+                assertThat(underTest.getImportingPolicyIds(importedPolicyId)).isEmpty();
+                return null;
+            });
+        }};
+
+    }
+
     private void verifyLoadedFromCacheLoader(final Policy policy,
             final PolicyEnforcerCache cache,
             final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> cacheLoader) throws Exception {
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.enforcement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Map;
+
+import org.eclipse.ditto.internal.utils.config.DittoConfigError;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link PolicyEnforcerStructurePool} and the choice of the evaluator in {@link AbstractPolicyEnforcerProvider}.
+ */
+public final class PolicyEnforcerStructurePoolTest {
+
+    private static final Permissions READ = Permissions.newInstance("READ");
+    private static final Permissions READ_WRITE = Permissions.newInstance("READ", "WRITE");
+
+    @Test
+    public void savedBytesAreReleasedWithTheEnforcers() throws InterruptedException {
+        final PolicyEnforcerStructurePool underTest = new PolicyEnforcerStructurePool();
+        Enforcer first = underTest.bitSetEvaluator(templatePolicy("device-1"));
+        Enforcer second = underTest.bitSetEvaluator(templatePolicy("device-2"));
+
+        assertThat(underTest.getSavedBytes()).isPositive();
+        assertThat(underTest.getDeduplicationRatio()).isPositive();
+        assertThat(first).isNotSameAs(second);
+
+        first = null;
+        second = null;
+        final long deadline = System.currentTimeMillis() + 10_000L;
+        while (underTest.getSavedBytes() > 0L && System.currentTimeMillis() < deadline) {
+            System.gc();
+            Thread.sleep(50L);
+        }
+
+        assertThat(underTest.getSavedBytes()).isZero();
+    }
+
+    @Test
+    public void deduplicationRequiresBitSetEvaluator() {
+        assertThatExceptionOfType(DittoConfigError.class).isThrownBy(() ->
+                AbstractPolicyEnforcerProvider.evaluator(enforcerCacheConfig("default", true)));
+    }
+
+    @Test
+    public void unknownEvaluatorIsRejected() {
+        assertThatExceptionOfType(DittoConfigError.class).isThrownBy(() ->
+                AbstractPolicyEnforcerProvider.evaluator(enforcerCacheConfig("unknown", false)));
+    }
+
+    @Test
+    public void evaluatorsCreateEnforcersOfSameSemantics() {
+        final Policy policy = templatePolicy("device-1");
+        final Enforcer defaultEnforcer =
+                AbstractPolicyEnforcerProvider.evaluator(enforcerCacheConfig("default", false)).apply(policy);
+        final Enforcer bitSetEnforcer =
+                AbstractPolicyEnforcerProvider.evaluator(enforcerCacheConfig("bitset", true)).apply(policy);
+
+        assertThat(bitSetEnforcer.getSubjectsWithUnrestrictedPermission(
+                PoliciesResourceType.thingResource("/attributes"), READ))
+                .isEqualTo(defaultEnforcer.getSubjectsWithUnrestrictedPermission(
+                        PoliciesResourceType.thingResource("/attributes"), READ));
+    }
+
+    private static Config enforcerCacheConfig(final String evaluator, final boolean deduplicateEnforcers) {
+        return ConfigFactory.parseMap(Map.of("evaluator", evaluator, "deduplicate-enforcers", deduplicateEnforcers));
+    }
+
+    private static Policy templatePolicy(final String device) {
+        return Policy.newBuilder(PolicyId.of("namespace", device))
+                .forLabel("admin")
+                .setSubject("integration:admin", SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/"), READ)
+                .setGrantedPermissions(PoliciesResourceType.policyResource("/"), READ_WRITE)
+                .forLabel("device")
+                .setSubject("integration:" + device, SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/"), READ_WRITE)
+                .setRevokedPermissions(PoliciesResourceType.thingResource("/attributes/owner"), READ_WRITE)
+                .build();
+    }
+
+}
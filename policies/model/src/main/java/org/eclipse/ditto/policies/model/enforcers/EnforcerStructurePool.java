@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers;
+
+/**
+ * Pool of immutable internal structures of {@link Enforcer}s which allows enforcers of different policies to share
+ * equal structures instead of each holding its own copy.
+ * <p>
+ * Policies created from the same template usually only differ in their ID and some subject IDs. Enforcers which
+ * store their subjects by index instead of by ID then consist of equal structures which are only stored once if
+ * the enforcers were created with the same pool.
+ */
+public interface EnforcerStructurePool {
+
+    /**
+     * Returns a pooled structure equal to the passed one if there is any, otherwise adds the passed structure to the
+     * pool and returns it.
+     *
+     * @param structure the immutable structure with value-based {@code equals} and {@code hashCode}.
+     * @param estimatedSizeInBytes the estimated size of the structure without the structures it references.
+     * @param <T> the type of the structure.
+     * @return the pooled structure.
+     */
+    <T> T intern(T structure, long estimatedSizeInBytes);
+
+    /**
+     * Returns a pool which does not pool anything.
+     *
+     * @return the pool.
+     */
+    static EnforcerStructurePool unpooled() {
+        return UnpooledEnforcerStructures.INSTANCE;
+    }
+
+}
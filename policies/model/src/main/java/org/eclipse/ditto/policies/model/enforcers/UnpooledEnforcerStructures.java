@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers;
+
+/**
+ * Pool which returns each structure as it is.
+ */
+enum UnpooledEnforcerStructures implements EnforcerStructurePool {
+
+    INSTANCE;
+
+    @Override
+    public <T> T intern(final T structure, final long estimatedSizeInBytes) {
+        return structure;
+    }
+
+}
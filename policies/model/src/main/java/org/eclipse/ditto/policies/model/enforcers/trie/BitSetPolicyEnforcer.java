@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PolicyEntry;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.enforcers.DefaultEffectedSubjects;
+import org.eclipse.ditto.policies.model.enforcers.EffectedSubjects;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+import org.eclipse.ditto.policies.model.enforcers.EnforcerStructurePool;
+
+/**
+ * Variant of {@link TrieBasedPolicyEnforcer} with the same semantics which stores its tries in a compact form.
+ * <p>
+ * The subject IDs and permissions of the policy are interned into dense indices. Each trie node stores its granted and
+ * revoked subjects per permission as bitset together with the weights of the subjects. Equal grant and revoke sets are
+ * shared between all nodes of the tries. Permission checks translate the authorization context into a bitset once and
+ * then only combine bitsets instead of intersecting maps of subject IDs.
+ * <p>
+ * Only the index of subject IDs and permissions is specific to a policy. The tries can be shared with the enforcers
+ * of other policies by creating them with the same {@link EnforcerStructurePool}.
+ */
+@Immutable
+public final class BitSetPolicyEnforcer implements Enforcer {
+
+    private final SubjectPermissionIndex index;
+    private final BitSetPolicyTrie inheritedTrie;
+    private final BitSetPolicyTrie bottomUpGrantTrie;
+    private final BitSetPolicyTrie bottomUpRevokeTrie;
+
+    private BitSetPolicyEnforcer(final Iterable<PolicyEntry> policyEntries, final EnforcerStructurePool pool) {
+        final PolicyTrie inherited = PolicyTrie.fromPolicy(policyEntries).getTransitiveClosure();
+        final PolicyTrie bottomUpGrant = inherited.getBottomUpGrantTrie();
+        final PolicyTrie bottomUpRevoke = inherited.getBottomUpRevokeTrie();
+
+        index = SubjectPermissionIndex.of(policyEntries, inherited, bottomUpGrant, bottomUpRevoke);
+        final Map<WeightedSubjectBits, WeightedSubjectBits> internedRelations = new HashMap<>();
+        inheritedTrie = BitSetPolicyTrie.of(inherited, index, internedRelations, pool);
+        bottomUpGrantTrie = BitSetPolicyTrie.of(bottomUpGrant, index, internedRelations, pool);
+        bottomUpRevokeTrie = BitSetPolicyTrie.of(bottomUpRevoke, index, internedRelations, pool);
+    }
+
+    /**
+     * Constructs a bitset-based policy enforcer from a policy.
+     *
+     * @param policyEntries The policy entries to interpret.
+     * @return The policy enforcer.
+     * @throws NullPointerException if {@code policyEntries} is {@code null}.
+     */
+    public static BitSetPolicyEnforcer newInstance(final Iterable<PolicyEntry> policyEntries) {
+        return newInstance(policyEntries, EnforcerStructurePool.unpooled());
+    }
+
+    /**
+     * Constructs a bitset-based policy enforcer from a policy which shares its tries with the other enforcers created
+     * with the same pool.
+     *
+     * @param policyEntries The policy entries to interpret.
+     * @param pool The pool of tries to share.
+     * @return The policy enforcer.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static BitSetPolicyEnforcer newInstance(final Iterable<PolicyEntry> policyEntries,
+            final EnforcerStructurePool pool) {
+
+        return new BitSetPolicyEnforcer(checkNotNull(policyEntries, "policy entries to interpret"),
+                checkNotNull(pool, "pool"));
+    }
+
+    @Override
+    public boolean hasUnrestrictedPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        final BitSetPolicyTrie policyTrie = seekWithFallback(resourceKey, bottomUpRevokeTrie, inheritedTrie);
+
+        return policyTrie.hasPermissions(index.toSubjectMask(authorizationContext.getAuthorizationSubjectIds()),
+                index.toPermissionIndices(permissions));
+    }
+
+    @Override
+    public boolean hasPartialPermissions(final ResourceKey resourceKey, final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        final BitSetPolicyTrie policyTrie = seekWithFallback(resourceKey, bottomUpGrantTrie, inheritedTrie);
+
+        return policyTrie.hasPermissions(index.toSubjectMask(authorizationContext.getAuthorizationSubjectIds()),
+                index.toPermissionIndices(permissions));
+    }
+
+    @Override
+    public EffectedSubjects getSubjectsWithPermission(final ResourceKey resourceKey, final Permissions permissions) {
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        final BitSetPolicyTrie policyTrie =
+                inheritedTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey));
+        final int[] permissionIndices = index.toPermissionIndices(permissions);
+
+        return DefaultEffectedSubjects.of(
+                index.toAuthorizationSubjects(policyTrie.getGranted().getSubjectIntersect(permissionIndices)),
+                index.toAuthorizationSubjects(policyTrie.getRevoked().getSubjectUnion(permissionIndices)));
+    }
+
+    @Override
+    public Set<AuthorizationSubject> getSubjectsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        final BitSetPolicyTrie policyTrie = seekWithFallback(resourceKey, bottomUpGrantTrie, inheritedTrie);
+
+        return index.toAuthorizationSubjects(
+                policyTrie.getGranted().getSubjectIntersect(index.toPermissionIndices(permissions)));
+    }
+
+    @Override
+    public Set<AuthorizationSubject> getSubjectsWithUnrestrictedPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        final BitSetPolicyTrie policyTrie = seekWithFallback(resourceKey, bottomUpRevokeTrie, inheritedTrie);
+        final int[] permissionIndices = index.toPermissionIndices(permissions);
+        final long[] grantedSubjects = policyTrie.getGranted().getSubjectIntersect(permissionIndices);
+        final long[] revokedSubjects = policyTrie.getRevoked().getSubjectUnion(permissionIndices);
+        for (int word = 0; word < grantedSubjects.length; word++) {
+            grantedSubjects[word] &= ~revokedSubjects[word];
+        }
+
+        return index.toAuthorizationSubjects(grantedSubjects);
+    }
+
+    @Override
+    public JsonObject buildJsonView(final ResourceKey resourceKey,
+            final Iterable<JsonField> jsonFields,
+            final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkNotNull(jsonFields, "JSON fields");
+        checkPermissions(permissions);
+
+        final JsonKey typeKey = JsonKey.of(resourceKey.getResourceType());
+
+        if (inheritedTrie.hasChild(typeKey)) {
+            final BitSetPolicyTrie start =
+                    inheritedTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey));
+            return start.buildJsonView(jsonFields,
+                    index.toSubjectMask(authorizationContext.getAuthorizationSubjectIds()),
+                    index.toPermissionIndices(permissions));
+        } else {
+            return JsonFactory.newObject();
+        }
+    }
+
+    private static void checkResourceKey(final ResourceKey resourceKey) {
+        checkNotNull(resourceKey, "resource key");
+    }
+
+    private static void checkPermissions(final Permissions permissions) {
+        checkNotNull(permissions, "permissions to check");
+    }
+
+    private static BitSetPolicyTrie seekWithFallback(final ResourceKey resourceKey, final BitSetPolicyTrie firstTry,
+            final BitSetPolicyTrie fallback) {
+
+        final BitSetPolicyTrie exactNode = firstTry.seekToExactNode(PolicyTrie.getJsonKeyIterator(resourceKey));
+        return null != exactNode
+                ? exactNode
+                : fallback.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey));
+    }
+
+}
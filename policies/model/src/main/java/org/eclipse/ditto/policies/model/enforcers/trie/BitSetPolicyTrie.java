@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.JsonValueContainer;
+import org.eclipse.ditto.policies.model.enforcers.EnforcerStructurePool;
+
+/**
+ * Immutable form of a {@link PolicyTrie} whose grant-revoke-indices are stored as {@link WeightedSubjectBits}.
+ * Equal grant and revoke relations of different nodes are shared. Equal nodes and relations of different policies are
+ * shared through an {@link EnforcerStructurePool}.
+ */
+@Immutable
+final class BitSetPolicyTrie {
+
+    private static final long NODE_SIZE_IN_BYTES = 48L;
+    private static final long CHILD_SIZE_IN_BYTES = 24L;
+
+    private final WeightedSubjectBits granted;
+    private final WeightedSubjectBits revoked;
+    private final Map<JsonKey, BitSetPolicyTrie> children;
+    private final int hashCode;
+
+    private BitSetPolicyTrie(final WeightedSubjectBits granted, final WeightedSubjectBits revoked,
+            final Map<JsonKey, BitSetPolicyTrie> children) {
+
+        this.granted = granted;
+        this.revoked = revoked;
+        this.children = children;
+        // children are hashed once on construction; the tries are too deep to recompute it on every lookup
+        hashCode = Objects.hash(granted, revoked, children);
+    }
+
+    /**
+     * Converts a policy trie.
+     *
+     * @param policyTrie the policy trie to convert.
+     * @param index the index of all permissions and subject IDs of the policy.
+     * @param internedRelations the already converted relations to share between nodes and tries.
+     * @param pool the pool of relations and nodes to share between policies.
+     * @return the converted trie.
+     */
+    static BitSetPolicyTrie of(final PolicyTrie policyTrie, final SubjectPermissionIndex index,
+            final Map<WeightedSubjectBits, WeightedSubjectBits> internedRelations, final EnforcerStructurePool pool) {
+
+        final GrantRevokeIndex grantRevokeIndex = policyTrie.getGrantRevokeIndex();
+        final WeightedSubjectBits granted =
+                intern(WeightedSubjectBits.of(grantRevokeIndex.getGranted(), index), internedRelations, pool);
+        final WeightedSubjectBits revoked =
+                intern(WeightedSubjectBits.of(grantRevokeIndex.getRevoked(), index), internedRelations, pool);
+        final Map<JsonKey, BitSetPolicyTrie> children = new HashMap<>(policyTrie.getChildren().size());
+        policyTrie.getChildren()
+                .forEach((key, child) -> children.put(key, of(child, index, internedRelations, pool)));
+
+        // children are pooled before their parent, so that equal subtries are identical when comparing parents
+        final BitSetPolicyTrie node = new BitSetPolicyTrie(granted, revoked, Collections.unmodifiableMap(children));
+        return pool.intern(node, NODE_SIZE_IN_BYTES + CHILD_SIZE_IN_BYTES * children.size());
+    }
+
+    private static WeightedSubjectBits intern(final WeightedSubjectBits relation,
+            final Map<WeightedSubjectBits, WeightedSubjectBits> internedRelations, final EnforcerStructurePool pool) {
+
+        return internedRelations.computeIfAbsent(relation, r -> pool.intern(r, r.estimateSizeInBytes()));
+    }
+
+    WeightedSubjectBits getGranted() {
+        return granted;
+    }
+
+    WeightedSubjectBits getRevoked() {
+        return revoked;
+    }
+
+    /**
+     * Check whether each of the given permissions is granted to some of the given subjects such that none of the
+     * permissions is revoked from any of the subjects with the same or a greater weight.
+     *
+     * @param subjectMask the bitset of the subjects to check.
+     * @param permissions the indices of the permissions to check, negative for unknown permissions.
+     * @return whether the permissions are granted.
+     * @see GrantRevokeIndex#hasPermissions(java.util.Collection, java.util.Collection)
+     */
+    boolean hasPermissions(final long[] subjectMask, final int[] permissions) {
+        if (permissions.length == 0) {
+            return false;
+        }
+        int grantWeight = WeightedSubjectBits.NO_WEIGHT;
+        for (final int permission : permissions) {
+            if (permission < 0) {
+                return false;
+            }
+            final int weight = granted.getMaxWeight(permission, subjectMask);
+            if (weight == WeightedSubjectBits.NO_WEIGHT) {
+                return false;
+            }
+            grantWeight = Math.max(grantWeight, weight);
+        }
+        for (final int permission : permissions) {
+            if (revoked.getMaxWeight(permission, subjectMask) >= grantWeight) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    boolean hasChild(final JsonKey childKey) {
+        return children.containsKey(childKey);
+    }
+
+    /**
+     * Seek to a trie node whose path from root matches {@code path} as much as possible.
+     *
+     * @param path the path key to match.
+     * @return the best matched node.
+     */
+    BitSetPolicyTrie seekToLeastAncestor(final Iterator<JsonKey> path) {
+        BitSetPolicyTrie node = this;
+        while (path.hasNext()) {
+            final BitSetPolicyTrie child = node.children.get(path.next());
+            if (null == child) {
+                return node;
+            }
+            node = child;
+        }
+        return node;
+    }
+
+    /**
+     * Seek to the trie node whose path from root matches {@code path} exactly.
+     *
+     * @param path the resource path to match.
+     * @return the exactly matched trie node, or {@code null} if no trie node matches {@code path} exactly.
+     */
+    @Nullable
+    BitSetPolicyTrie seekToExactNode(final Iterator<JsonKey> path) {
+        BitSetPolicyTrie node = this;
+        while (null != node && path.hasNext()) {
+            node = node.children.get(path.next());
+        }
+        return node;
+    }
+
+    JsonObject buildJsonView(final Iterable<JsonField> jsonFields, final long[] subjectMask,
+            final int[] permissions) {
+
+        if (jsonFields instanceof JsonObject && ((JsonObject) jsonFields).isNull()) {
+            return (JsonObject) jsonFields;
+        }
+
+        final JsonObjectBuilder outputObjectBuilder = JsonFactory.newObjectBuilder();
+        for (final JsonField field : jsonFields) {
+            final BitSetPolicyTrie relevantTrie = children.get(field.getKey());
+            final JsonValue jsonView = null != relevantTrie
+                    ? relevantTrie.getViewForJsonValueOrNull(field.getValue(), subjectMask, permissions)
+                    : getDefaultViewForJsonValueOrNull(field.getValue(), subjectMask, permissions);
+            if (null != jsonView) {
+                outputObjectBuilder.set(field.getKey(), jsonView);
+            }
+        }
+
+        return outputObjectBuilder.build();
+    }
+
+    @Nullable
+    private JsonValue getViewForJsonValueOrNull(final JsonValue jsonValue, final long[] subjectMask,
+            final int[] permissions) {
+
+        final JsonValue result;
+        if (jsonValue.isObject()) {
+            result = filterCandidate(buildJsonView(jsonValue.asObject(), subjectMask, permissions), subjectMask,
+                    permissions);
+        } else if (jsonValue.isArray()) {
+            result = getViewForJsonArrayOrNull(jsonValue.asArray(), subjectMask, permissions);
+        } else if (hasPermissions(subjectMask, permissions)) {
+            result = jsonValue;
+        } else {
+            result = null;
+        }
+
+        return result;
+    }
+
+    // without a child for the key, all parts of the value share the grants and revokes of this node
+    @Nullable
+    private JsonValue getDefaultViewForJsonValueOrNull(final JsonValue jsonValue, final long[] subjectMask,
+            final int[] permissions) {
+
+        return hasPermissions(subjectMask, permissions) ? jsonValue : null;
+    }
+
+    @Nullable
+    private <T extends JsonValue & JsonValueContainer> T filterCandidate(final T candidate,
+            final long[] subjectMask, final int[] permissions) {
+
+        if (!candidate.isEmpty() || hasPermissions(subjectMask, permissions)) {
+            return candidate;
+        }
+        return null;
+    }
+
+    @Nullable
+    private JsonValue getViewForJsonArrayOrNull(final JsonValueContainer<JsonValue> jsonArray,
+            final long[] subjectMask, final int[] permissions) {
+
+        final JsonArray candidate = jsonArray.stream()
+                .map(value -> getViewForJsonValueOrNull(value, subjectMask, permissions))
+                .filter(Objects::nonNull)
+                .collect(JsonCollectors.valuesToArray());
+
+        return filterCandidate(candidate, subjectMask, permissions);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final BitSetPolicyTrie that = (BitSetPolicyTrie) o;
+        return hashCode == that.hashCode &&
+                granted.equals(that.granted) &&
+                revoked.equals(that.revoked) &&
+                children.equals(that.children);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+}
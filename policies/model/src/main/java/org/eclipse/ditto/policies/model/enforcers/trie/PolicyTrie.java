@@ -151,6 +151,15 @@ final class PolicyTrie {
         return grantRevokeIndex;
     }
 
+    /**
+     * Returns the children of this node.
+     *
+     * @return The children by their JSON key.
+     */
+    Map<JsonKey, PolicyTrie> getChildren() {
+        return Collections.unmodifiableMap(children);
+    }
+
     /**
      * Returns a copy of this trie such that each trie node inherits all grants and revokes from its ancestors except
      * those that are overridden by more specific policy entries.
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.policies.model.PolicyEntry;
+
+/**
+ * Interns the subject IDs and permissions of one policy into dense indices, so that sets of subjects can be
+ * represented as bitsets of {@code long} words.
+ */
+@Immutable
+final class SubjectPermissionIndex {
+
+    private final Map<String, Integer> subjectIndices;
+    private final AuthorizationSubject[] subjects;
+    private final Map<String, Integer> permissionIndices;
+    private final int subjectWords;
+
+    private SubjectPermissionIndex(final Collection<String> subjectIds, final Collection<String> permissions) {
+        subjectIndices = toIndices(subjectIds);
+        subjects = subjectIds.stream().map(AuthorizationSubject::newInstance).toArray(AuthorizationSubject[]::new);
+        permissionIndices = toIndices(permissions);
+        subjectWords = wordsFor(subjects.length);
+    }
+
+    /**
+     * Creates an index of all subject IDs and permissions which occur in the passed policy tries.
+     * <p>
+     * The indices do not depend on the hash codes of the subject IDs: subjects are numbered in the order of their
+     * first occurrence in the policy entries and permissions in their natural order. Policies which only differ in
+     * the IDs of their subjects thus get equal indices for the subjects at the same positions.
+     *
+     * @param policyEntries the policy entries the tries were created from.
+     * @param policyTries the policy tries.
+     * @return the index.
+     */
+    static SubjectPermissionIndex of(final Iterable<PolicyEntry> policyEntries, final PolicyTrie... policyTries) {
+        final Set<String> subjectIds = new LinkedHashSet<>();
+        final Set<String> permissions = new TreeSet<>();
+        for (final PolicyEntry policyEntry : policyEntries) {
+            if (!policyEntry.getResources().isEmpty()) {
+                policyEntry.getSubjects().forEach(subject -> subjectIds.add(subject.getId().toString()));
+            }
+        }
+        for (final PolicyTrie policyTrie : policyTries) {
+            collect(policyTrie, subjectIds, permissions);
+        }
+        return new SubjectPermissionIndex(subjectIds, permissions);
+    }
+
+    private static void collect(final PolicyTrie policyTrie, final Set<String> subjectIds,
+            final Set<String> permissions) {
+
+        final GrantRevokeIndex grantRevokeIndex = policyTrie.getGrantRevokeIndex();
+        collect(grantRevokeIndex.getGranted(), subjectIds, permissions);
+        collect(grantRevokeIndex.getRevoked(), subjectIds, permissions);
+        policyTrie.getChildren().values().forEach(child -> collect(child, subjectIds, permissions));
+    }
+
+    private static void collect(final PermissionSubjectsMap relation, final Set<String> subjectIds,
+            final Set<String> permissions) {
+
+        relation.forEach((permission, subjectWeights) -> {
+            permissions.add(permission);
+            subjectIds.addAll(subjectWeights.keySet());
+        });
+    }
+
+    private static Map<String, Integer> toIndices(final Collection<String> values) {
+        final Map<String, Integer> indices = new HashMap<>(values.size() * 2);
+        for (final String value : values) {
+            indices.put(value, indices.size());
+        }
+        return indices;
+    }
+
+    /**
+     * Returns the number of {@code long} words needed for a bitset of the passed size.
+     *
+     * @param bits the number of bits.
+     * @return the number of words.
+     */
+    static int wordsFor(final int bits) {
+        return (bits + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    int getSubjectCount() {
+        return subjects.length;
+    }
+
+    int getSubjectWords() {
+        return subjectWords;
+    }
+
+    int getPermissionCount() {
+        return permissionIndices.size();
+    }
+
+    int getSubjectIndex(final String subjectId) {
+        return subjectIndices.get(subjectId);
+    }
+
+    int getPermissionIndex(final String permission) {
+        return permissionIndices.get(permission);
+    }
+
+    /**
+     * Converts subject IDs into a bitset. Subject IDs which do not occur in the policy are ignored.
+     *
+     * @param subjectIds the subject IDs.
+     * @return the bitset of the known subject IDs.
+     */
+    long[] toSubjectMask(final Collection<String> subjectIds) {
+        final long[] mask = new long[subjectWords];
+        for (final String subjectId : subjectIds) {
+            final Integer subject = subjectIndices.get(subjectId);
+            if (null != subject) {
+                mask[subject / Long.SIZE] |= 1L << subject;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Converts permissions into their indices.
+     *
+     * @param permissions the permissions.
+     * @return the indices of the permissions, {@code -1} for permissions which do not occur in the policy.
+     */
+    int[] toPermissionIndices(final Collection<String> permissions) {
+        final int[] result = new int[permissions.size()];
+        int i = 0;
+        for (final String permission : permissions) {
+            result[i++] = permissionIndices.getOrDefault(permission, -1);
+        }
+        return result;
+    }
+
+    /**
+     * Converts a bitset of subjects into authorization subjects.
+     *
+     * @param subjectMask the bitset.
+     * @return the authorization subjects.
+     */
+    Set<AuthorizationSubject> toAuthorizationSubjects(final long[] subjectMask) {
+        final Set<AuthorizationSubject> result = new LinkedHashSet<>();
+        for (int word = 0; word < subjectMask.length; word++) {
+            long bits = subjectMask[word];
+            while (bits != 0L) {
+                result.add(subjects[word * Long.SIZE + Long.numberOfTrailingZeros(bits)]);
+                bits &= bits - 1;
+            }
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable and compact form of a {@link PermissionSubjectsMap} whose permissions and subject IDs were interned by a
+ * {@link SubjectPermissionIndex}. For each permission, the related subjects are stored as bitset and their weights
+ * in an array indexed by the subject index.
+ */
+@Immutable
+final class WeightedSubjectBits {
+
+    /**
+     * Weight returned if no subject is related to a permission.
+     */
+    static final int NO_WEIGHT = Integer.MIN_VALUE;
+
+    private static final long OBJECT_SIZE_IN_BYTES = 40L;
+    private static final long ARRAY_HEADER_SIZE_IN_BYTES = 16L;
+
+    private static final long[] NO_BITS = new long[0];
+    private static final int[] NO_WEIGHTS = new int[0];
+
+    private final long[] permissionBits;
+    private final long[] subjectBits;
+    private final int[] weights;
+    private final int words;
+    private final int subjectCount;
+
+    private WeightedSubjectBits(final long[] permissionBits, final long[] subjectBits, final int[] weights,
+            final int words, final int subjectCount) {
+
+        this.permissionBits = permissionBits;
+        this.subjectBits = subjectBits;
+        this.weights = weights;
+        this.words = words;
+        this.subjectCount = subjectCount;
+    }
+
+    /**
+     * Interns the passed relation between permissions and subjects.
+     *
+     * @param relation the relation to intern.
+     * @param index the index of all permissions and subject IDs of the policy.
+     * @return the compact relation.
+     */
+    static WeightedSubjectBits of(final PermissionSubjectsMap relation, final SubjectPermissionIndex index) {
+        final int words = index.getSubjectWords();
+        final int subjectCount = index.getSubjectCount();
+        final int permissionCount = index.getPermissionCount();
+        final long[] permissionBits = new long[SubjectPermissionIndex.wordsFor(permissionCount)];
+        long[] subjectBits = NO_BITS;
+        int[] weights = NO_WEIGHTS;
+
+        for (final Map.Entry<String, Map<String, Integer>> entry : relation.entrySet()) {
+            final int permission = index.getPermissionIndex(entry.getKey());
+            setBit(permissionBits, permission);
+            for (final Map.Entry<String, Integer> subjectWeight : entry.getValue().entrySet()) {
+                if (subjectBits == NO_BITS) {
+                    subjectBits = new long[permissionCount * words];
+                    weights = new int[permissionCount * subjectCount];
+                }
+                final int subject = index.getSubjectIndex(subjectWeight.getKey());
+                setBit(subjectBits, permission * words * Long.SIZE + subject);
+                weights[permission * subjectCount + subject] = subjectWeight.getValue();
+            }
+        }
+
+        return new WeightedSubjectBits(permissionBits, subjectBits, weights, words, subjectCount);
+    }
+
+    private static void setBit(final long[] bits, final int bit) {
+        bits[bit / Long.SIZE] |= 1L << bit;
+    }
+
+    /**
+     * Returns the maximum weight of the subjects in {@code subjectMask} which are related to the permission.
+     *
+     * @param permission the index of the permission.
+     * @param subjectMask the bitset of the subjects to check.
+     * @return the maximum weight or {@link #NO_WEIGHT} if none of the subjects is related to the permission.
+     */
+    int getMaxWeight(final int permission, final long[] subjectMask) {
+        int maxWeight = NO_WEIGHT;
+        if (subjectBits.length > 0) {
+            final int offset = permission * words;
+            for (int word = 0; word < words; word++) {
+                long matches = subjectBits[offset + word] & subjectMask[word];
+                while (matches != 0L) {
+                    final int subject = word * Long.SIZE + Long.numberOfTrailingZeros(matches);
+                    maxWeight = Math.max(maxWeight, weights[permission * subjectCount + subject]);
+                    matches &= matches - 1;
+                }
+            }
+        }
+        return maxWeight;
+    }
+
+    /**
+     * Returns the subjects related to <em>all</em> passed permissions which are contained in this relation.
+     * Permissions not contained in this relation are ignored.
+     *
+     * @param permissions the indices of the permissions, negative for unknown permissions.
+     * @return the bitset of the subjects.
+     */
+    long[] getSubjectIntersect(final int[] permissions) {
+        final long[] result = new long[words];
+        boolean first = true;
+        for (final int permission : permissions) {
+            if (containsPermission(permission)) {
+                for (int word = 0; word < words; word++) {
+                    final long bits = getSubjectWord(permission, word);
+                    result[word] = first ? bits : result[word] & bits;
+                }
+                first = false;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the subjects related to <em>some</em> of the passed permissions.
+     *
+     * @param permissions the indices of the permissions, negative for unknown permissions.
+     * @return the bitset of the subjects.
+     */
+    long[] getSubjectUnion(final int[] permissions) {
+        final long[] result = new long[words];
+        for (final int permission : permissions) {
+            if (containsPermission(permission)) {
+                for (int word = 0; word < words; word++) {
+                    result[word] |= getSubjectWord(permission, word);
+                }
+            }
+        }
+        return result;
+    }
+
+    private boolean containsPermission(final int permission) {
+        return permission >= 0 && (permissionBits[permission / Long.SIZE] & (1L << permission)) != 0L;
+    }
+
+    private long getSubjectWord(final int permission, final int word) {
+        return subjectBits.length == 0 ? 0L : subjectBits[permission * words + word];
+    }
+
+    /**
+     * Estimates the retained size of this relation on the heap.
+     *
+     * @return the estimated size in bytes.
+     */
+    long estimateSizeInBytes() {
+        return OBJECT_SIZE_IN_BYTES + estimateArraySizeInBytes(permissionBits.length, Long.BYTES) +
+                (subjectBits == NO_BITS ? 0L : estimateArraySizeInBytes(subjectBits.length, Long.BYTES)) +
+                (weights == NO_WEIGHTS ? 0L : estimateArraySizeInBytes(weights.length, Integer.BYTES));
+    }
+
+    private static long estimateArraySizeInBytes(final int length, final int elementSize) {
+        return ARRAY_HEADER_SIZE_IN_BYTES + (long) length * elementSize;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final WeightedSubjectBits that = (WeightedSubjectBits) o;
+        return words == that.words &&
+                subjectCount == that.subjectCount &&
+                Arrays.equals(permissionBits, that.permissionBits) &&
+                Arrays.equals(subjectBits, that.subjectBits) &&
+                Arrays.equals(weights, that.weights);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 31 * words + subjectCount;
+        result = 31 * result + Arrays.hashCode(permissionBits);
+        result = 31 * result + Arrays.hashCode(subjectBits);
+        result = 31 * result + Arrays.hashCode(weights);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "permissionBits=" + Arrays.toString(permissionBits) +
+                ", subjectBits=" + Arrays.toString(subjectBits) +
+                ", weights=" + Arrays.toString(weights) +
+                "]";
+    }
+
+}
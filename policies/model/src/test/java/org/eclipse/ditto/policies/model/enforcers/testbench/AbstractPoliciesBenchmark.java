@@ -131,6 +131,20 @@ public abstract class AbstractPoliciesBenchmark {
     protected abstract PolicyAlgorithm getPolicyAlgorithm(final Policy policy);
 
 
+    /**
+     * Measures the construction of the algorithm for the policy with multiple subjects. Run with {@code -prof gc} to
+     * compare the memory footprint of the algorithms by the bytes allocated per construction
+     * ({@code gc.alloc.rate.norm}).
+     *
+     * @return the constructed algorithm.
+     */
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public PolicyAlgorithm benchmark_createPolicyAlgorithm() {
+        return getPolicyAlgorithm(Scenario4MultipleSubjects.POLICY);
+    }
+
     @Benchmark
     @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
     @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
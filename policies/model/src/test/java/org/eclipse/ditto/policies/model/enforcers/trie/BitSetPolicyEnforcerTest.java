@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyBuilder;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.eclipse.ditto.policies.model.enforcers.EnforcerStructurePool;
+import org.junit.Test;
+
+public final class BitSetPolicyEnforcerTest {
+
+    private static final Permissions READ = Permissions.newInstance("READ");
+    private static final Permissions READ_WRITE = Permissions.newInstance("READ", "WRITE");
+    private static final int SUBJECT_COUNT = 130;
+
+    @Test
+    public void behavesLikeTrieBasedPolicyEnforcerForManySubjects() {
+        final Policy policy = policyWithManySubjects();
+        final BitSetPolicyEnforcer underTest = BitSetPolicyEnforcer.newInstance(policy);
+        final TrieBasedPolicyEnforcer reference = TrieBasedPolicyEnforcer.newInstance(policy);
+        final JsonObject thing = JsonObject.of("{\"attributes\": {\"public\": 1, \"secret\": 2}, " +
+                "\"features\": {\"lamp\": {\"properties\": {\"on\": true}}}}");
+
+        for (final String path : new String[]{"/", "/attributes", "/attributes/secret", "/features/lamp/x"}) {
+            final ResourceKey resourceKey = ResourceKey.newInstance("thing", path);
+            for (int i = 0; i < SUBJECT_COUNT; i += 7) {
+                final AuthorizationContext context = context(subjectId(i), "unknown:subject");
+                for (final Permissions permissions : new Permissions[]{READ, READ_WRITE, Permissions.none()}) {
+                    assertThat(underTest.hasUnrestrictedPermissions(resourceKey, context, permissions))
+                            .isEqualTo(reference.hasUnrestrictedPermissions(resourceKey, context, permissions));
+                    assertThat(underTest.hasPartialPermissions(resourceKey, context, permissions))
+                            .isEqualTo(reference.hasPartialPermissions(resourceKey, context, permissions));
+                    assertThat(underTest.buildJsonView(resourceKey, thing, context, permissions))
+                            .isEqualTo(reference.buildJsonView(resourceKey, thing, context, permissions));
+                }
+            }
+            for (final Permissions permissions : new Permissions[]{READ, READ_WRITE}) {
+                assertThat(underTest.getSubjectsWithPermission(resourceKey, permissions))
+                        .isEqualTo(reference.getSubjectsWithPermission(resourceKey, permissions));
+                assertThat(underTest.getSubjectsWithPartialPermission(resourceKey, permissions))
+                        .isEqualTo(reference.getSubjectsWithPartialPermission(resourceKey, permissions));
+                assertThat(underTest.getSubjectsWithUnrestrictedPermission(resourceKey, permissions))
+                        .isEqualTo(reference.getSubjectsWithUnrestrictedPermission(resourceKey, permissions));
+            }
+        }
+    }
+
+    @Test
+    public void revokedSubjectHasNoUnrestrictedPermission() {
+        final Policy policy = policyWithManySubjects();
+        final BitSetPolicyEnforcer underTest = BitSetPolicyEnforcer.newInstance(policy);
+        final ResourceKey root = ResourceKey.newInstance("thing", "/");
+        final AuthorizationContext revokedSubject = context(subjectId(SUBJECT_COUNT - 1));
+
+        assertThat(underTest.hasPartialPermissions(root, revokedSubject, READ)).isTrue();
+        assertThat(underTest.hasUnrestrictedPermissions(root, revokedSubject, READ)).isFalse();
+        assertThat(underTest.getSubjectsWithUnrestrictedPermission(root, READ))
+                .hasSize(SUBJECT_COUNT - 1)
+                .doesNotContain(AuthorizationSubject.newInstance(subjectId(SUBJECT_COUNT - 1)));
+    }
+
+    @Test
+    public void enforcersOfPoliciesFromSameTemplateShareTheirTries() {
+        final CountingPool pool = new CountingPool();
+        final BitSetPolicyEnforcer first = BitSetPolicyEnforcer.newInstance(templatePolicy("device-1"), pool);
+        final int pooledAfterFirstPolicy = pool.pooled.size();
+        final BitSetPolicyEnforcer second = BitSetPolicyEnforcer.newInstance(templatePolicy("device-2"), pool);
+        final ResourceKey root = ResourceKey.newInstance("thing", "/");
+
+        assertThat(pool.pooled).hasSize(pooledAfterFirstPolicy);
+        assertThat(pool.deduplicated).isPositive();
+        assertThat(first.hasUnrestrictedPermissions(root, context("integration:device-1"), READ_WRITE)).isTrue();
+        assertThat(second.hasUnrestrictedPermissions(root, context("integration:device-2"), READ_WRITE)).isTrue();
+        assertThat(second.hasUnrestrictedPermissions(root, context("integration:device-1"), READ)).isFalse();
+        assertThat(second.getSubjectsWithPermission(root, READ).getGranted())
+                .containsExactlyInAnyOrder(AuthorizationSubject.newInstance("integration:device-2"),
+                        AuthorizationSubject.newInstance("integration:admin"));
+    }
+
+    private static Policy templatePolicy(final String device) {
+        return Policy.newBuilder(PolicyId.of("namespace", device))
+                .forLabel("admin")
+                .setSubject("integration:admin", SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/"), READ)
+                .setGrantedPermissions(PoliciesResourceType.policyResource("/"), READ_WRITE)
+                .forLabel("device")
+                .setSubject("integration:" + device, SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/"), READ_WRITE)
+                .setRevokedPermissions(PoliciesResourceType.thingResource("/attributes/owner"), READ_WRITE)
+                .build();
+    }
+
+    private static Policy policyWithManySubjects() {
+        PolicyBuilder.LabelScoped builder = Policy.newBuilder(PolicyId.of("namespace", "many-subjects"))
+                .forLabel("readers");
+        for (int i = 0; i < SUBJECT_COUNT; i++) {
+            builder = builder.setSubject(subjectId(i), SubjectType.GENERATED);
+        }
+        return builder.setGrantedPermissions(PoliciesResourceType.thingResource("/"), READ)
+                .forLabel("writer")
+                .setSubject(subjectId(7), SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/features"), READ_WRITE)
+                .forLabel("revoked")
+                .setSubject(subjectId(SUBJECT_COUNT - 1), SubjectType.GENERATED)
+                .setRevokedPermissions(PoliciesResourceType.thingResource("/attributes/secret"), READ)
+                .build();
+    }
+
+    private static String subjectId(final int i) {
+        return "integration:subject-" + i;
+    }
+
+    private static AuthorizationContext context(final String subjectId, final String... furtherSubjectIds) {
+        final AuthorizationSubject[] furtherSubjects = new AuthorizationSubject[furtherSubjectIds.length];
+        for (int i = 0; i < furtherSubjectIds.length; i++) {
+            furtherSubjects[i] = AuthorizationSubject.newInstance(furtherSubjectIds[i]);
+        }
+        return AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                AuthorizationSubject.newInstance(subjectId), furtherSubjects);
+    }
+
+    private static final class CountingPool implements EnforcerStructurePool {
+
+        private final Map<Object, Object> pooled = new HashMap<>();
+        private int deduplicated = 0;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T intern(final T structure, final long estimatedSizeInBytes) {
+            final Object existing = pooled.putIfAbsent(structure, structure);
+            if (null != existing) {
+                deduplicated++;
+                return (T) existing;
+            }
+            return structure;
+        }
+
+    }
+
+}
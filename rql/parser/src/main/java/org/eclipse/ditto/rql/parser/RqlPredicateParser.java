@@ -14,15 +14,24 @@ package org.eclipse.ditto.rql.parser;
 
 import org.eclipse.ditto.rql.model.predicates.PredicateParser;
 import org.eclipse.ditto.rql.model.predicates.ast.RootNode;
-import org.eclipse.ditto.rql.parser.internal.RqlPredicateParser$;
+import org.eclipse.ditto.rql.parser.internal.ParseResultCache;
+import org.eclipse.ditto.rql.parser.internal.RecursiveDescentPredicateParser;
 
 /**
  * RQL Parser parsing predicates in the RQL "standard" according to https://github.com/persvr/rql.
+ * <p>
+ * The ASTs of recently parsed inputs are cached. An AST returned by {@link #parse(String)} may therefore be shared
+ * with other callers parsing the same input and must not be modified.
  */
 public class RqlPredicateParser implements PredicateParser {
 
+    private static final int MAX_CACHED_INPUTS = 1024;
+    private static final int MAX_CACHED_INPUT_LENGTH = 4096;
+
     private static final RqlPredicateParser INSTANCE = new RqlPredicateParser();
-    private static final PredicateParser PARSER = RqlPredicateParser$.MODULE$;
+    private static final PredicateParser PARSER = RecursiveDescentPredicateParser.getInstance();
+    private static final ParseResultCache<RootNode> CACHE =
+            ParseResultCache.of(MAX_CACHED_INPUTS, MAX_CACHED_INPUT_LENGTH);
 
     private RqlPredicateParser() {
         // private
@@ -39,6 +48,6 @@ public class RqlPredicateParser implements PredicateParser {
 
     @Override
     public RootNode parse(final String input) {
-        return PARSER.parse(input);
+        return CACHE.getOrParse(input, PARSER::parse);
     }
 }
@@ -0,0 +1,454 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.parser.internal;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.rql.model.ParsedPlaceholder;
+import org.eclipse.ditto.rql.model.ParserException;
+
+/**
+ * Base of the hand-written recursive descent RQL parsers. Implements the literals shared by predicates and options
+ * with the exact semantics of the parboiled grammar in {@code RqlParserBase}: alternatives are tried in order, a
+ * failed alternative resets the cursor to where it started and whitespace is only skipped where the grammar skips it.
+ * <p>
+ * Rule methods either succeed and advance the cursor or fail, restore the cursor and return {@code false} resp.
+ * {@code null}. Failures are recorded at the furthest input position reached in order to report what was expected
+ * there.
+ * <p>
+ * An instance parses exactly one input.
+ */
+@NotThreadSafe
+public abstract class AbstractRecursiveDescentParser {
+
+    /**
+     * Value of the {@code null} literal, to be distinguished from a failed literal.
+     */
+    protected static final Object NULL_LITERAL = new Object();
+
+    private static final String TIME_PLACEHOLDER_PREFIX = "time:";
+
+    /**
+     * The input to parse.
+     */
+    protected final String input;
+
+    /**
+     * Index of the next character to parse.
+     */
+    protected int cursor;
+
+    private final int length;
+    private final StringBuilder sb;
+    private final Set<String> expectations;
+    private int errorIndex;
+
+    /**
+     * Constructs a new parser.
+     *
+     * @param input the input to parse.
+     * @throws NullPointerException if {@code input} is {@code null}.
+     */
+    protected AbstractRecursiveDescentParser(final String input) {
+        this.input = input;
+        length = input.length();
+        cursor = 0;
+        sb = new StringBuilder();
+        expectations = new LinkedHashSet<>();
+        errorIndex = -1;
+    }
+
+    /**
+     * Creates the exception for an input which does not match the grammar, describing what was expected at the
+     * furthest position the parser reached.
+     *
+     * @return the exception.
+     */
+    protected ParserException parseError() {
+        final int index = Math.max(errorIndex, 0);
+        final int lineStart = input.lastIndexOf('\n', index - 1) + 1;
+        final int lineEnd = input.indexOf('\n', index) < 0 ? length : input.indexOf('\n', index);
+        int line = 1;
+        for (int i = 0; i < lineStart; i++) {
+            if (input.charAt(i) == '\n') {
+                line++;
+            }
+        }
+        final int column = index - lineStart + 1;
+
+        final StringBuilder message = new StringBuilder();
+        if (index < length) {
+            message.append("Invalid input '").append(input.charAt(index)).append("'");
+        } else {
+            message.append("Unexpected end of input");
+        }
+        message.append(", expected ");
+        int i = 0;
+        for (final String expectation : expectations) {
+            if (i > 0) {
+                message.append(i == expectations.size() - 1 ? " or " : ", ");
+            }
+            message.append(expectation);
+            i++;
+        }
+        message.append(" (line ").append(line).append(", column ").append(column).append("):\n")
+                .append(input, lineStart, lineEnd).append('\n');
+        for (int j = 1; j < column; j++) {
+            message.append(' ');
+        }
+        return new ParserException(message.append('^').toString());
+    }
+
+    /**
+     * Creates the exception for an input whose literals matched the grammar but could not be converted, e.g. an
+     * integer exceeding the range of {@code long}.
+     *
+     * @param subject what was parsed, e.g. "predicate".
+     * @param cause the reason for the failed conversion.
+     * @return the exception.
+     */
+    protected static ParserException unknownError(final String subject, final RuntimeException cause) {
+        return new ParserException("Unknown error during parsing " + subject + ": " + cause.getMessage(), cause);
+    }
+
+    /**
+     * Indicates whether the whole input was consumed.
+     *
+     * @return whether the cursor is at the end of the input; records the expectation otherwise.
+     */
+    protected boolean endOfInput() {
+        if (cursor == length) {
+            return true;
+        }
+        return expected("end of input");
+    }
+
+    /**
+     * Consumes a character.
+     *
+     * @param c the character.
+     * @return whether the next character was {@code c}.
+     */
+    protected boolean matchChar(final char c) {
+        if (cursor < length && input.charAt(cursor) == c) {
+            cursor++;
+            return true;
+        }
+        return expected("'" + c + "'");
+    }
+
+    /**
+     * Consumes a character and the whitespace following it.
+     *
+     * @param c the character.
+     * @return whether the next character was {@code c}.
+     */
+    protected boolean matchCharWs(final char c) {
+        if (matchChar(c)) {
+            whiteSpace();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Consumes a string.
+     *
+     * @param s the string.
+     * @return whether the input continued with {@code s}.
+     */
+    protected boolean matchString(final String s) {
+        if (input.startsWith(s, cursor)) {
+            cursor += s.length();
+            return true;
+        }
+        final int start = cursor;
+        int i = 0;
+        while (cursor + i < length && i < s.length() && input.charAt(cursor + i) == s.charAt(i)) {
+            i++;
+        }
+        cursor = start + i;
+        expected('"' + s + '"');
+        cursor = start;
+        return false;
+    }
+
+    /**
+     * Skips whitespace.
+     */
+    protected void whiteSpace() {
+        while (cursor < length && isWhiteSpace(input.charAt(cursor))) {
+            cursor++;
+        }
+    }
+
+    /**
+     * Records what was expected at the current position.
+     *
+     * @param expectation description of the expected input.
+     * @return always {@code false}.
+     */
+    protected boolean expected(final String expectation) {
+        if (cursor > errorIndex) {
+            errorIndex = cursor;
+            expectations.clear();
+            expectations.add(expectation);
+        } else if (cursor == errorIndex) {
+            expectations.add(expectation);
+        }
+        return false;
+    }
+
+    /**
+     * Literal = DoubleLiteral | LongLiteral | StringLiteral | StringSingleQuoteLiteral | PlaceholderLiteral | "true" |
+     * "false" | "null"
+     *
+     * @return the value of the literal, {@link #NULL_LITERAL} for {@code null} or {@code null} if the input does not
+     * continue with a literal.
+     * @throws NumberFormatException if an integer literal exceeds the range of {@code long}.
+     * @throws IllegalArgumentException if a placeholder is invalid.
+     */
+    @Nullable
+    protected Object literal() {
+        Object result = doubleLiteral();
+        if (result == null) {
+            result = longLiteral();
+        }
+        if (result == null) {
+            result = stringLiteral('"');
+        }
+        if (result == null) {
+            result = stringLiteral('\'');
+        }
+        if (result == null) {
+            result = placeholderLiteral();
+        }
+        if (result == null) {
+            result = keywordLiteral();
+        }
+        if (result != null) {
+            whiteSpace();
+        }
+        return result;
+    }
+
+    /**
+     * LongLiteral = Integer, which must not start with "-0"
+     *
+     * @return the value or {@code null} if the input does not continue with an integer.
+     * @throws NumberFormatException if the integer exceeds the range of {@code long}.
+     */
+    @Nullable
+    protected Long longLiteral() {
+        if (input.startsWith("-0", cursor)) {
+            return null;
+        }
+        final int start = cursor;
+        if (integer()) {
+            final Long result = Long.valueOf(input.substring(start, cursor));
+            whiteSpace();
+            return result;
+        }
+        return null;
+    }
+
+    /**
+     * PropertyLiteral = { NormalChar | '\', EscapedChar }, which may be empty.
+     *
+     * @return the unescaped property.
+     */
+    protected String propertyLiteral() {
+        sb.setLength(0);
+        characters(sb);
+        return sb.toString();
+    }
+
+    /**
+     * Digits = Digit, { Digit }
+     *
+     * @return whether at least one digit was consumed.
+     */
+    protected boolean digits() {
+        if (cursor < length && isDigit(input.charAt(cursor))) {
+            do {
+                cursor++;
+            } while (cursor < length && isDigit(input.charAt(cursor)));
+            return true;
+        }
+        return expected("Digit");
+    }
+
+    @Nullable
+    private Double doubleLiteral() {
+        final int start = cursor;
+        if (integer() && matchChar('.') && digits()) {
+            final Double result = Double.valueOf(input.substring(start, cursor));
+            whiteSpace();
+            return result;
+        }
+        cursor = start;
+        return null;
+    }
+
+    private boolean integer() {
+        final int start = cursor;
+        if (cursor < length && (input.charAt(cursor) == '+' || input.charAt(cursor) == '-')) {
+            cursor++;
+        }
+        if (cursor < length && isDigit(input.charAt(cursor))) {
+            // Digit19 ~ Digits | Digit: a leading zero is a number on its own
+            if (input.charAt(cursor++) != '0') {
+                while (cursor < length && isDigit(input.charAt(cursor))) {
+                    cursor++;
+                }
+            }
+            return true;
+        }
+        expected("Digit");
+        cursor = start;
+        return false;
+    }
+
+    @Nullable
+    private String stringLiteral(final char quote) {
+        final int start = cursor;
+        if (!matchChar(quote)) {
+            return null;
+        }
+        sb.setLength(0);
+        while (cursor < length) {
+            final char c = input.charAt(cursor);
+            if (c != quote && c != '\\') {
+                sb.append(c);
+                cursor++;
+            } else if (c != '\\' || !escapedChar(quote, sb)) {
+                break;
+            }
+        }
+        if (matchCharWs(quote)) {
+            return sb.toString();
+        }
+        cursor = start;
+        return null;
+    }
+
+    @Nullable
+    private ParsedPlaceholder placeholderLiteral() {
+        final int start = cursor;
+        if (!matchString(TIME_PLACEHOLDER_PREFIX)) {
+            return null;
+        }
+        characters(null);
+        final ParsedPlaceholder result = ParsedPlaceholder.of(input.substring(start, cursor));
+        whiteSpace();
+        return result;
+    }
+
+    @Nullable
+    private Object keywordLiteral() {
+        if (matchString("true")) {
+            whiteSpace();
+            return Boolean.TRUE;
+        } else if (matchString("false")) {
+            whiteSpace();
+            return Boolean.FALSE;
+        } else if (matchString("null")) {
+            whiteSpace();
+            return NULL_LITERAL;
+        }
+        return null;
+    }
+
+    private void characters(@Nullable final StringBuilder target) {
+        while (cursor < length) {
+            final char c = input.charAt(cursor);
+            if (c == '\\') {
+                if (!escapedChar('"', target)) {
+                    break;
+                }
+            } else if (c == ',' || c == ')' || c == '"') {
+                break;
+            } else {
+                if (target != null) {
+                    target.append(c);
+                }
+                cursor++;
+            }
+        }
+        expected("NormalChar");
+    }
+
+    /**
+     * Consumes the escape sequence at the cursor, which points to a backslash.
+     */
+    private boolean escapedChar(final char quote, @Nullable final StringBuilder target) {
+        if (cursor + 1 >= length) {
+            cursor++;
+            expected("EscapedChar");
+            cursor--;
+            return false;
+        }
+        final char c = input.charAt(cursor + 1);
+        final char unescaped;
+        int consumed = 2;
+        if (c == quote || c == '\\' || c == '/') {
+            unescaped = c;
+        } else if (c == 'b') {
+            unescaped = '\b';
+        } else if (c == 'f') {
+            unescaped = '\f';
+        } else if (c == 'n') {
+            unescaped = '\n';
+        } else if (c == 'r') {
+            unescaped = '\r';
+        } else if (c == 't') {
+            unescaped = '\t';
+        } else if (c == 'u' && cursor + 6 <= length && isHexDigits(cursor + 2, cursor + 6)) {
+            unescaped = (char) Integer.parseInt(input.substring(cursor + 2, cursor + 6), 16);
+            consumed = 6;
+        } else {
+            cursor++;
+            expected("EscapedChar");
+            cursor--;
+            return false;
+        }
+        if (target != null) {
+            target.append(unescaped);
+        }
+        cursor += consumed;
+        return true;
+    }
+
+    private boolean isHexDigits(final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            final char c = input.charAt(i);
+            if (!isDigit(c) && (c < 'a' || c > 'f') && (c < 'A' || c > 'F')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isWhiteSpace(final char c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == '\f';
+    }
+
+}
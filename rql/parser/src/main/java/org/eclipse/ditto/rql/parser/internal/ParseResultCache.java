@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.parser.internal;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Bounded cache of parse results keyed by their input, so that identical filters and options sent again and again,
+ * e.g. by polling clients, are parsed only once.
+ * <p>
+ * Only successful results of inputs up to a maximum length are cached; the results must not be modified by callers.
+ * Hits do not lock. Concurrent misses for the same input wait for a single parsing. When the cache is full, the
+ * oldest result which was not used since it was last passed by the eviction is evicted ("second chance" eviction,
+ * an approximation of least-recently-used eviction).
+ *
+ * @param <T> type of the parse results.
+ */
+@ThreadSafe
+public final class ParseResultCache<T> {
+
+    private final int maximumSize;
+    private final int maximumInputLength;
+    private final Map<String, Entry<T>> results;
+    private final Queue<Entry<T>> evictionQueue;
+
+    private ParseResultCache(final int maximumSize, final int maximumInputLength) {
+        this.maximumSize = maximumSize;
+        this.maximumInputLength = maximumInputLength;
+        results = new ConcurrentHashMap<>();
+        evictionQueue = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maximumSize the maximum number of cached results.
+     * @param maximumInputLength the maximum length of inputs whose results are cached.
+     * @param <T> type of the parse results.
+     * @return the cache.
+     * @throws IllegalArgumentException if {@code maximumSize} is not positive.
+     */
+    public static <T> ParseResultCache<T> of(final int maximumSize, final int maximumInputLength) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("The maximum size must be positive but was <" + maximumSize + ">!");
+        }
+        return new ParseResultCache<>(maximumSize, maximumInputLength);
+    }
+
+    /**
+     * Returns the cached result of an input or parses it.
+     *
+     * @param input the input.
+     * @param parser parses the input; exceptions are propagated and not cached.
+     * @return the result.
+     */
+    public T getOrParse(final String input, final Function<String, T> parser) {
+        if (input.length() > maximumInputLength) {
+            return parser.apply(input);
+        }
+        @Nullable final Entry<T> cached = results.get(input);
+        if (cached != null) {
+            return cached.get();
+        }
+        final Entry<T> entry = new Entry<>(input);
+        @Nullable final Entry<T> concurrentlyAdded = results.putIfAbsent(input, entry);
+        if (concurrentlyAdded != null) {
+            return concurrentlyAdded.get();
+        }
+        final T result;
+        try {
+            result = parser.apply(input);
+        } catch (final RuntimeException | Error e) {
+            results.remove(input, entry);
+            entry.result.completeExceptionally(e);
+            throw e;
+        }
+        entry.result.complete(result);
+        evictionQueue.add(entry);
+        evictIfFull();
+        return result;
+    }
+
+    /**
+     * Returns the number of cached results.
+     *
+     * @return the number of cached results.
+     */
+    public int size() {
+        return results.size();
+    }
+
+    private void evictIfFull() {
+        // only inserting threads evict; the lock keeps them from evicting more entries than necessary
+        synchronized (evictionQueue) {
+            while (results.size() > maximumSize) {
+                @Nullable final Entry<T> eldest = evictionQueue.poll();
+                if (eldest == null) {
+                    return;
+                }
+                if (eldest.used) {
+                    eldest.used = false;
+                    evictionQueue.add(eldest);
+                } else {
+                    results.remove(eldest.input, eldest);
+                }
+            }
+        }
+    }
+
+    private static final class Entry<T> {
+
+        private final String input;
+        private final CompletableFuture<T> result;
+        private volatile boolean used;
+
+        private Entry(final String input) {
+            this.input = input;
+            result = new CompletableFuture<>();
+            used = false;
+        }
+
+        private T get() {
+            // avoid writing the shared flag on every hit
+            if (!used) {
+                used = true;
+            }
+            try {
+                return result.join();
+            } catch (final CompletionException e) {
+                // rethrow the failure of the concurrent parsing as it is
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                } else if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.parser.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.rql.model.predicates.PredicateParser;
+import org.eclipse.ditto.rql.model.predicates.ast.ExistsNode;
+import org.eclipse.ditto.rql.model.predicates.ast.LogicalNode;
+import org.eclipse.ditto.rql.model.predicates.ast.MultiComparisonNode;
+import org.eclipse.ditto.rql.model.predicates.ast.Node;
+import org.eclipse.ditto.rql.model.predicates.ast.RootNode;
+import org.eclipse.ditto.rql.model.predicates.ast.SingleComparisonNode;
+
+/**
+ * Hand-written recursive descent parser for RQL predicates. Accepts exactly the language of the parboiled based
+ * {@code RqlPredicateParser} and produces equal ASTs, but without the allocations of the parboiled value stack and
+ * rule objects:
+ * <pre>
+ * PredicateRoot              = WhiteSpace, Query, EOI
+ * Query                      = SingleComparisonOp | MultiComparisonOp | MultiLogicalOp | SingleLogicalOp | ExistsOp
+ * SingleComparisonOp         = SingleComparisonName, '(', ComparisonProperty, ',', ComparisonValue, ')'
+ * SingleComparisonName       = "eq" | "ne" | "gt" | "ge" | "lt" | "le" | "like"
+ * MultiComparisonOp          = MultiComparisonName, '(', ComparisonProperty, ',', ComparisonValue, { ',', ComparisonValue }, ')'
+ * MultiComparisonName        = "in"
+ * MultiLogicalOp             = MultiLogicalName, '(', Query, { ',', WhiteSpace, Query }, ')'
+ * MultiLogicalName           = "and" | "or"
+ * SingleLogicalOp            = SingleLogicalName, '(', Query, ')'
+ * SingleLogicalName          = "not"
+ * ExistsOp                   = "exists" '(', ComparisonProperty, ')'
+ *
+ * ComparisonProperty         = PropertyLiteral
+ * ComparisonValue            = Literal
+ * </pre>
+ */
+@NotThreadSafe
+public final class RecursiveDescentPredicateParser extends AbstractRecursiveDescentParser {
+
+    private static final PredicateParser INSTANCE = RecursiveDescentPredicateParser::parsePredicate;
+
+    private RecursiveDescentPredicateParser(final String input) {
+        super(input);
+    }
+
+    /**
+     * Returns a thread-safe predicate parser which parses each input with a new instance of this class.
+     *
+     * @return the parser.
+     */
+    public static PredicateParser getInstance() {
+        return INSTANCE;
+    }
+
+    private static RootNode parsePredicate(final String input) {
+        final RecursiveDescentPredicateParser parser = new RecursiveDescentPredicateParser(input);
+        final Node node;
+        try {
+            node = parser.predicateRoot();
+        } catch (final RuntimeException e) {
+            // e.g. number overflows and invalid placeholders, like parboiled failing in an action
+            throw unknownError("predicate", e);
+        }
+        if (node == null) {
+            throw parser.parseError();
+        }
+        final RootNode rootNode = new RootNode();
+        rootNode.getChildren().add(node);
+        return rootNode;
+    }
+
+    @Nullable
+    private Node predicateRoot() {
+        whiteSpace();
+        final Node query = query();
+        if (query != null && endOfInput()) {
+            return query;
+        }
+        return null;
+    }
+
+    @Nullable
+    private Node query() {
+        Node result = singleComparisonOp();
+        if (result == null) {
+            result = multiComparisonOp();
+        }
+        if (result == null) {
+            result = multiLogicalOp();
+        }
+        if (result == null) {
+            result = singleLogicalOp();
+        }
+        if (result == null) {
+            result = existsOp();
+        }
+        return result;
+    }
+
+    @Nullable
+    private Node singleComparisonOp() {
+        final int start = cursor;
+        final SingleComparisonNode.Type type = singleComparisonName();
+        if (type != null && matchChar('(')) {
+            final String property = propertyLiteral();
+            if (matchChar(',')) {
+                final Object value = literal();
+                if (value != null && matchChar(')')) {
+                    return new SingleComparisonNode(type, property, value == NULL_LITERAL ? null : value);
+                }
+            }
+        }
+        cursor = start;
+        return null;
+    }
+
+    @Nullable
+    private SingleComparisonNode.Type singleComparisonName() {
+        if (matchString("eq")) {
+            return SingleComparisonNode.Type.EQ;
+        } else if (matchString("ne")) {
+            return SingleComparisonNode.Type.NE;
+        } else if (matchString("gt")) {
+            return SingleComparisonNode.Type.GT;
+        } else if (matchString("ge")) {
+            return SingleComparisonNode.Type.GE;
+        } else if (matchString("lt")) {
+            return SingleComparisonNode.Type.LT;
+        } else if (matchString("le")) {
+            return SingleComparisonNode.Type.LE;
+        } else if (matchString("like")) {
+            return SingleComparisonNode.Type.LIKE;
+        }
+        return null;
+    }
+
+    @Nullable
+    private Node multiComparisonOp() {
+        final int start = cursor;
+        if (matchString("in") && matchChar('(')) {
+            final String property = propertyLiteral();
+            final List<Object> values = new ArrayList<>();
+            while (true) {
+                final int valueStart = cursor;
+                final Object value = matchChar(',') ? literal() : null;
+                if (value == null) {
+                    cursor = valueStart;
+                    break;
+                }
+                values.add(value == NULL_LITERAL ? null : value);
+            }
+            if (!values.isEmpty() && matchChar(')')) {
+                // unmodifiable like the values of the parboiled parser, as parsed ASTs may be cached
+                return new MultiComparisonNode(MultiComparisonNode.Type.IN, property,
+                        Collections.unmodifiableList(values));
+            }
+        }
+        cursor = start;
+        return null;
+    }
+
+    @Nullable
+    private Node multiLogicalOp() {
+        final int start = cursor;
+        final LogicalNode.Type type;
+        if (matchString("and")) {
+            type = LogicalNode.Type.AND;
+        } else if (matchString("or")) {
+            type = LogicalNode.Type.OR;
+        } else {
+            return null;
+        }
+        if (matchChar('(')) {
+            final Node first = query();
+            if (first != null) {
+                final List<Node> subQueries = new ArrayList<>();
+                subQueries.add(first);
+                while (true) {
+                    final int separatorStart = cursor;
+                    final Node subQuery = matchCharWs(',') ? query() : null;
+                    if (subQuery == null) {
+                        cursor = separatorStart;
+                        break;
+                    }
+                    subQueries.add(subQuery);
+                }
+                if (matchChar(')')) {
+                    return new LogicalNode(type, subQueries);
+                }
+            }
+        }
+        cursor = start;
+        return null;
+    }
+
+    @Nullable
+    private Node singleLogicalOp() {
+        final int start = cursor;
+        if (matchString("not") && matchChar('(')) {
+            final Node subQuery = query();
+            if (subQuery != null && matchChar(')')) {
+                return new LogicalNode(LogicalNode.Type.NOT, subQuery);
+            }
+        }
+        cursor = start;
+        return null;
+    }
+
+    @Nullable
+    private Node existsOp() {
+        final int start = cursor;
+        if (matchString("exists") && matchChar('(')) {
+            final String property = propertyLiteral();
+            if (matchChar(')')) {
+                return new ExistsNode(property);
+            }
+        }
+        cursor = start;
+        return null;
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.parser.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.eclipse.ditto.rql.model.ParserException;
+import org.junit.Test;
+
+/**
+ * Tests {@link ParseResultCache}.
+ */
+public final class ParseResultCacheTest {
+
+    private final AtomicInteger parsings = new AtomicInteger();
+    private final Function<String, Object> parser = input -> {
+        parsings.incrementAndGet();
+        if (input.startsWith("invalid")) {
+            throw new ParserException(input);
+        }
+        return new Object();
+    };
+
+    @Test
+    public void parsesSameInputOnce() {
+        final ParseResultCache<Object> underTest = ParseResultCache.of(2, 100);
+
+        final Object first = underTest.getOrParse("eq(a,1)", parser);
+        final Object second = underTest.getOrParse("eq(a,1)", parser);
+
+        assertThat(second).isSameAs(first);
+        assertThat(parsings).hasValue(1);
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedInput() {
+        final ParseResultCache<Object> underTest = ParseResultCache.of(2, 100);
+
+        final Object a = underTest.getOrParse("a", parser);
+        underTest.getOrParse("b", parser);
+        underTest.getOrParse("a", parser);
+        underTest.getOrParse("c", parser);
+
+        assertThat(underTest.size()).isEqualTo(2);
+        assertThat(underTest.getOrParse("a", parser)).isSameAs(a);
+        assertThat(parsings).hasValue(3);
+        underTest.getOrParse("b", parser);
+        assertThat(parsings).hasValue(4);
+    }
+
+    @Test
+    public void concurrentMissesParseOnce() throws Exception {
+        final ParseResultCache<Object> underTest = ParseResultCache.of(2, 100);
+        final CountDownLatch parsingStarted = new CountDownLatch(1);
+        final CountDownLatch parsingMayFinish = new CountDownLatch(1);
+        final Function<String, Object> blockingParser = input -> {
+            parsingStarted.countDown();
+            try {
+                assertThat(parsingMayFinish.await(10L, TimeUnit.SECONDS)).isTrue();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return parser.apply(input);
+        };
+
+        final CompletableFuture<Object> first =
+                CompletableFuture.supplyAsync(() -> underTest.getOrParse("eq(a,1)", blockingParser));
+        assertThat(parsingStarted.await(10L, TimeUnit.SECONDS)).isTrue();
+        final CompletableFuture<Object> second =
+                CompletableFuture.supplyAsync(() -> underTest.getOrParse("eq(a,1)", blockingParser));
+        parsingMayFinish.countDown();
+
+        assertThat(second.get(10L, TimeUnit.SECONDS)).isSameAs(first.get(10L, TimeUnit.SECONDS));
+        assertThat(parsings).hasValue(1);
+    }
+
+    @Test
+    public void doesNotCacheLongInputs() {
+        final ParseResultCache<Object> underTest = ParseResultCache.of(2, 3);
+
+        underTest.getOrParse("abcd", parser);
+        underTest.getOrParse("abcd", parser);
+
+        assertThat(underTest.size()).isZero();
+        assertThat(parsings).hasValue(2);
+    }
+
+    @Test
+    public void doesNotCacheFailures() {
+        final ParseResultCache<Object> underTest = ParseResultCache.of(2, 100);
+
+        assertThatExceptionOfType(ParserException.class).isThrownBy(() -> underTest.getOrParse("invalid", parser));
+        assertThatExceptionOfType(ParserException.class).isThrownBy(() -> underTest.getOrParse("invalid", parser));
+
+        assertThat(underTest.size()).isZero();
+        assertThat(parsings).hasValue(2);
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.parser.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.eclipse.ditto.rql.model.ParserException;
+import org.eclipse.ditto.rql.model.predicates.PredicateParser;
+import org.eclipse.ditto.rql.model.predicates.ast.RootNode;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+/**
+ * Differential test of {@link RecursiveDescentPredicateParser} against the parboiled based
+ * {@code RqlPredicateParser}: both must produce equal ASTs for valid inputs and reject the same invalid inputs.
+ */
+@RunWith(Parameterized.class)
+public final class RecursiveDescentPredicateParserTest {
+
+    private static final PredicateParser REFERENCE = RqlPredicateParser$.MODULE$;
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> getParameters() {
+        return Arrays.asList(new Object[][]{
+                // single comparisons
+                {"eq(username,123)"},
+                {"ne(username,123)"},
+                {"gt(username,123)"},
+                {"ge(username,123)"},
+                {"lt(username,123)"},
+                {"le(username,123)"},
+                {"like(username,\"*abc?\")"},
+                {"eq(attributes/a/b,\"x\")"},
+                {"eq(features/f/properties/p,'single')"},
+                {"eq(username,true)"},
+                {"eq(username,false)"},
+                {"eq(username,null)"},
+                {"eq(username,null )"},
+                {"eq(username,0)"},
+                {"eq(username,-1)"},
+                {"eq(username,+1)"},
+                {"eq(username,1.5)"},
+                {"eq(username,-0.5)"},
+                {"eq(username,+0.25)"},
+                {"eq(username,10.0)"},
+                {"eq(username,9223372036854775807)"},
+                {"eq(username,-9223372036854775808)"},
+                {"eq(username,\"te\\\"st\")"},
+                {"eq(username,'te\\'st')"},
+                {"eq(username,\"abc\\nyz\")"},
+                {"eq(username,\"\\b\\f\\n\\r\\t\\/\\\\\")"},
+                {"eq(username,\"\\u0041\\u00e4\")"},
+                {"eq(username,'\"')"},
+                {"eq(username,\"'\")"},
+                {"eq(username,\"\")"},
+                {"eq(username,'')"},
+                {"eq(username,\"a,b)c\")"},
+                {"eq(user\\\"name,1)"},
+                {"eq(user\\\\name,1)"},
+                {"eq(user\\u0041name,1)"},
+                {"eq(user name,1)"},
+                {"eq(,1)"},
+                {"eq(_modified,time:now)"},
+                {"gt(_created,time:now_-1h)"},
+                {"eq(username,123  )"},
+                {"  eq(username,123)"},
+                {"\n\teq(username,123)"},
+                // multi comparisons
+                {"in(username,1)"},
+                {"in(username,1,2,3)"},
+                {"in(username,\"a\",'b',1.5,true,null,time:now)"},
+                {"in(username,1 ,2 ,3 )"},
+                // logical
+                {"and(eq(a,1),eq(b,2))"},
+                {"and(eq(a,1), eq(b,2),  eq(c,3))"},
+                {"or(eq(a,1),\n\tne(b,2))"},
+                {"and(eq(a,1))"},
+                {"not(eq(a,1))"},
+                {"not(and(exists(a),or(eq(b,1),in(c,1,2)),not(like(d,\"x*\"))))"},
+                {"exists(attributes/a)"},
+                {"exists()"},
+                // invalid
+                {""},
+                {" "},
+                {"eq"},
+                {"eq("},
+                {"eq(username)"},
+                {"eq(username,)"},
+                {"eq(username, 123)"},
+                {"eq(username,123) "},
+                {"eq(username,123))"},
+                {"EQ(username,123)"},
+                {"eq (username,123)"},
+                {"eq(username,01)"},
+                {"eq(username,-0)"},
+                {"eq(username,1.)"},
+                {"eq(username,.5)"},
+                {"eq(username,1e5)"},
+                {"eq(username,tru)"},
+                {"eq(username,truex)"},
+                {"eq(username,abc)"},
+                {"eq(username,\"abc)"},
+                {"eq(username,'abc\")"},
+                {"eq(username,\"a\\xb\")"},
+                {"eq(username,\"\\u12\")"},
+                {"eq(user\\xname,1)"},
+                {"eq(user\"name,1)"},
+                {"in(username)"},
+                {"in(username,)"},
+                {"in(username,1,)"},
+                {"and()"},
+                {"and(eq(a,1),)"},
+                {"and(eq(a,1) ,eq(b,2))"},
+                {"and(eq(a,1),eq(b,2)"},
+                {"or(eq(a,1);eq(b,2))"},
+                {"not()"},
+                {"not(eq(a,1),eq(b,2))"},
+                {"exists(a"},
+                {"foo(a,1)"},
+                {"eq(a,1),eq(b,2)"},
+                // actions failing on matched input
+                {"eq(username,9223372036854775808)"},
+                {"in(username,1,-9223372036854775809)"},
+        });
+    }
+
+    private final String input;
+
+    public RecursiveDescentPredicateParserTest(final String input) {
+        this.input = input;
+    }
+
+    @Test
+    public void parsesLikeReferenceParser() {
+        final RootNode expected;
+        try {
+            expected = REFERENCE.parse(input);
+        } catch (final ParserException e) {
+            final String message = e.getMessage();
+            if (message.startsWith("Unknown error")) {
+                assertThatExceptionOfType(ParserException.class)
+                        .isThrownBy(() -> RecursiveDescentPredicateParser.getInstance().parse(input))
+                        .withMessage(message);
+            } else {
+                assertThatExceptionOfType(ParserException.class)
+                        .isThrownBy(() -> RecursiveDescentPredicateParser.getInstance().parse(input));
+            }
+            return;
+        }
+
+        final RootNode actual = RecursiveDescentPredicateParser.getInstance().parse(input);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.toString()).isEqualTo(expected.toString());
+    }
+
+}
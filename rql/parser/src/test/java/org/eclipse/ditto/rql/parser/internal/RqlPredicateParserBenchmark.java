@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.parser.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.rql.model.predicates.PredicateParser;
+import org.eclipse.ditto.rql.model.predicates.ast.RootNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the parboiled based predicate parser with the hand-written {@link RecursiveDescentPredicateParser} and
+ * with the cached parser used by {@code RqlPredicateParser}. Run with {@code -prof gc} to compare the bytes allocated
+ * per parsed predicate ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+public class RqlPredicateParserBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final PredicateParser PARBOILED = RqlPredicateParser$.MODULE$;
+    private static final PredicateParser RECURSIVE_DESCENT = RecursiveDescentPredicateParser.getInstance();
+    private static final PredicateParser CACHED = org.eclipse.ditto.rql.parser.RqlPredicateParser.getInstance();
+
+    @Param({
+            "eq(attributes/manufacturer,\"ACME\")",
+            "and(eq(attributes/location,\"kitchen\"),gt(features/temperature/properties/value,23.5)," +
+                    "in(attributes/type,\"sensor\",\"actor\",'gateway'),not(exists(attributes/deleted)))",
+            "or(like(thingId,\"org.eclipse.ditto:*\"),and(ge(_modified,\"2026-01-01T00:00:00Z\")," +
+                    "lt(_revision,100),eq(attributes/a\\u0041b,null)))"
+    })
+    public String filter;
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public RootNode benchmark_parboiled() {
+        return PARBOILED.parse(filter);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public RootNode benchmark_recursiveDescent() {
+        return RECURSIVE_DESCENT.parse(filter);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public RootNode benchmark_cached() {
+        return CACHED.parse(filter);
+    }
+
+}
@@ -12,14 +12,18 @@
  */
 package org.eclipse.ditto.rql.parser.thingsearch;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.eclipse.ditto.rql.parser.thingsearch.internal.RqlOptionParser$;
+import org.eclipse.ditto.rql.parser.internal.ParseResultCache;
+import org.eclipse.ditto.rql.parser.thingsearch.internal.RecursiveDescentOptionParser;
 import org.eclipse.ditto.thingsearch.model.Option;
 
 /**
  * RQL Parser parsing options in the RQL "standard" according to https://github.com/persvr/rql.
+ * <p>
+ * The options of recently parsed inputs are cached; the returned lists are unmodifiable.
  */
 public final class RqlOptionParser implements OptionParser {
 
@@ -28,7 +32,12 @@ public final class RqlOptionParser implements OptionParser {
      */
     private static final String DELIMITER = ",";
 
-    private static final OptionParser PARSER = RqlOptionParser$.MODULE$;
+    private static final int MAX_CACHED_INPUTS = 1024;
+    private static final int MAX_CACHED_INPUT_LENGTH = 4096;
+
+    private static final OptionParser PARSER = RecursiveDescentOptionParser.getInstance();
+    private static final ParseResultCache<List<Option>> CACHE =
+            ParseResultCache.of(MAX_CACHED_INPUTS, MAX_CACHED_INPUT_LENGTH);
 
     @Override
     public List<Option> parse(final String input) {
@@ -42,7 +51,7 @@ public final class RqlOptionParser implements OptionParser {
      * @return the list of options.
      */
     public static List<Option> parseOptions(final String input) {
-        return PARSER.parse(input);
+        return CACHE.getOrParse(input, rqlInput -> Collections.unmodifiableList(PARSER.parse(rqlInput)));
     }
 
     /**
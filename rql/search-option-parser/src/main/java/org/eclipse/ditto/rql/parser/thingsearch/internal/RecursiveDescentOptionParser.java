@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.parser.thingsearch.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.rql.parser.internal.AbstractRecursiveDescentParser;
+import org.eclipse.ditto.rql.parser.thingsearch.OptionParser;
+import org.eclipse.ditto.thingsearch.model.Option;
+import org.eclipse.ditto.thingsearch.model.SearchModelFactory;
+import org.eclipse.ditto.thingsearch.model.SortOptionEntry;
+
+/**
+ * Hand-written recursive descent parser for RQL options. Accepts exactly the language of the parboiled based
+ * {@code RqlOptionParser} and produces equal options:
+ * <pre>
+ * OptionsRoot                = WhiteSpace, Options, EOI
+ * Options                    = Option, { ',', Option }
+ * Option                     = Sort | Limit | Cursor | Size
+ * Sort                       = "sort", '(', SortProperty, { ',', SortProperty }, ')'
+ * SortProperty               = SortOrder, PropertyLiteral
+ * SortOrder                  = '+' | '-'
+ * Limit                      = "limit", '(', LongLiteral, ',', LongLiteral, ')'
+ * Cursor                     = "cursor", '(', PropertyLiteral, ')'
+ * Size                       = "size", '(', Digits, ')'
+ * </pre>
+ */
+@NotThreadSafe
+public final class RecursiveDescentOptionParser extends AbstractRecursiveDescentParser {
+
+    private static final OptionParser INSTANCE = RecursiveDescentOptionParser::parseOptions;
+
+    private RecursiveDescentOptionParser(final String input) {
+        super(input);
+    }
+
+    /**
+     * Returns a thread-safe option parser which parses each input with a new instance of this class.
+     *
+     * @return the parser.
+     */
+    public static OptionParser getInstance() {
+        return INSTANCE;
+    }
+
+    private static List<Option> parseOptions(final String input) {
+        final RecursiveDescentOptionParser parser = new RecursiveDescentOptionParser(input);
+        final List<Option> options;
+        try {
+            options = parser.optionsRoot();
+        } catch (final RuntimeException e) {
+            // e.g. number overflows and invalid sort properties, like parboiled failing in an action
+            throw unknownError("options", e);
+        }
+        if (options == null) {
+            throw parser.parseError();
+        }
+        return options;
+    }
+
+    @Nullable
+    private List<Option> optionsRoot() {
+        whiteSpace();
+        final Option first = option();
+        if (first == null) {
+            return null;
+        }
+        final List<Option> options = new ArrayList<>();
+        options.add(first);
+        while (true) {
+            final int separatorStart = cursor;
+            final Option option = matchChar(',') ? option() : null;
+            if (option == null) {
+                cursor = separatorStart;
+                break;
+            }
+            options.add(option);
+        }
+        return endOfInput() ? options : null;
+    }
+
+    @Nullable
+    private Option option() {
+        Option result = sort();
+        if (result == null) {
+            result = limit();
+        }
+        if (result == null) {
+            result = cursorOption();
+        }
+        if (result == null) {
+            result = size();
+        }
+        return result;
+    }
+
+    @Nullable
+    private Option sort() {
+        final int start = cursor;
+        if (matchString("sort") && matchChar('(')) {
+            final SortOptionEntry first = sortProperty();
+            if (first != null) {
+                final List<SortOptionEntry> entries = new ArrayList<>();
+                entries.add(first);
+                while (true) {
+                    final int separatorStart = cursor;
+                    final SortOptionEntry entry = matchChar(',') ? sortProperty() : null;
+                    if (entry == null) {
+                        cursor = separatorStart;
+                        break;
+                    }
+                    entries.add(entry);
+                }
+                if (matchChar(')')) {
+                    return SearchModelFactory.newSortOption(entries);
+                }
+            }
+        }
+        cursor = start;
+        return null;
+    }
+
+    @Nullable
+    private SortOptionEntry sortProperty() {
+        final SortOptionEntry.SortOrder order;
+        if (matchChar('+')) {
+            order = SortOptionEntry.SortOrder.ASC;
+        } else if (matchChar('-')) {
+            order = SortOptionEntry.SortOrder.DESC;
+        } else {
+            return null;
+        }
+        return SearchModelFactory.newSortOptionEntry(propertyLiteral(), order);
+    }
+
+    @Nullable
+    private Option limit() {
+        final int start = cursor;
+        if (matchString("limit") && matchChar('(')) {
+            final Long offset = longLiteral();
+            if (offset != null && matchChar(',')) {
+                final Long count = longLiteral();
+                if (count != null && matchChar(')')) {
+                    return SearchModelFactory.newLimitOption(offset.intValue(), count.intValue());
+                }
+            }
+        }
+        cursor = start;
+        return null;
+    }
+
+    @Nullable
+    private Option cursorOption() {
+        final int start = cursor;
+        if (matchString("cursor") && matchChar('(')) {
+            final String cursorString = propertyLiteral();
+            if (matchChar(')')) {
+                return SearchModelFactory.newCursorOption(cursorString);
+            }
+        }
+        cursor = start;
+        return null;
+    }
+
+    @Nullable
+    private Option size() {
+        final int start = cursor;
+        if (matchString("size") && matchChar('(')) {
+            final int digitsStart = cursor;
+            if (digits()) {
+                final String digits = input.substring(digitsStart, cursor);
+                if (matchChar(')')) {
+                    return SearchModelFactory.newSizeOption(Integer.valueOf(digits));
+                }
+            }
+        }
+        cursor = start;
+        return null;
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.parser.thingsearch.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.ditto.rql.model.ParserException;
+import org.eclipse.ditto.rql.parser.thingsearch.OptionParser;
+import org.eclipse.ditto.thingsearch.model.Option;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+/**
+ * Differential test of {@link RecursiveDescentOptionParser} against the parboiled based {@code RqlOptionParser}:
+ * both must produce equal options for valid inputs and reject the same invalid inputs.
+ */
+@RunWith(Parameterized.class)
+public final class RecursiveDescentOptionParserTest {
+
+    private static final OptionParser REFERENCE = RqlOptionParser$.MODULE$;
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> getParameters() {
+        return Arrays.asList(new Object[][]{
+                {"sort(+username)"},
+                {"sort(-attributes/username)"},
+                {"sort(+thingId,-attributes/a/b,+_modified)"},
+                {"sort(+attributes/a\\u0041b)"},
+                {"limit(0,1)"},
+                {"limit(10,200)"},
+                {"limit(+1,+2)"},
+                {"limit(-1,-2)"},
+                {"limit(1 ,2 )"},
+                {"cursor(LOREMIPSUM)"},
+                {"cursor(abc-def_123=)"},
+                {"size(0)"},
+                {"size(25)"},
+                {"size(007)"},
+                {"sort(+thingId),limit(0,10)"},
+                {"size(10),cursor(abc),sort(-thingId)"},
+                {"  sort(+thingId)"},
+                // invalid
+                {""},
+                {" "},
+                {"sort"},
+                {"sort()"},
+                {"sort(thingId)"},
+                {"sort(+thingId,)"},
+                {"sort(+thingId,thingId)"},
+                {"sort(+thingId"},
+                {"sort(+thingId) "},
+                {"sort(+thingId), limit(0,1)"},
+                {"sort(+thingId),"},
+                {"limit(0)"},
+                {"limit(0, 1)"},
+                {"limit(-0,1)"},
+                {"limit(a,b)"},
+                {"limit(1.5,2)"},
+                {"cursor(a,b)"},
+                {"size()"},
+                {"size(-1)"},
+                {"size(1 )"},
+                {"foo(1)"},
+                // actions failing on matched input
+                {"limit(9223372036854775808,1)"},
+                {"size(2147483648)"},
+        });
+    }
+
+    private final String input;
+
+    public RecursiveDescentOptionParserTest(final String input) {
+        this.input = input;
+    }
+
+    @Test
+    public void parsesLikeReferenceParser() {
+        final List<Option> expected;
+        try {
+            expected = REFERENCE.parse(input);
+        } catch (final ParserException e) {
+            final String message = e.getMessage();
+            if (message.startsWith("Unknown error")) {
+                assertThatExceptionOfType(ParserException.class)
+                        .isThrownBy(() -> RecursiveDescentOptionParser.getInstance().parse(input))
+                        .withMessage(message);
+            } else {
+                assertThatExceptionOfType(ParserException.class)
+                        .isThrownBy(() -> RecursiveDescentOptionParser.getInstance().parse(input));
+            }
+            return;
+        }
+
+        final List<Option> actual = RecursiveDescentOptionParser.getInstance().parse(input);
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+}
@@ -26,6 +26,7 @@ import org.eclipse.ditto.internal.utils.persistence.mongo.config.DefaultActivity
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.DefaultSnapshotConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.internal.utils.persistentactors.cleanup.CleanupConfig;
+import org.eclipse.ditto.internal.utils.persistentactors.warmup.WarmUpConfig;
 
 import com.typesafe.config.Config;
 
@@ -42,6 +43,7 @@ public final class DefaultThingConfig implements ThingConfig {
     private final ActivityCheckConfig activityCheckConfig;
     private final SnapshotConfig snapshotConfig;
     private final CleanupConfig cleanupConfig;
+    private final WarmUpConfig warmUpConfig;
 
     private DefaultThingConfig(final ScopedConfig scopedConfig) {
         shutdownTimeout = scopedConfig.getDuration(ConfigValue.SHUTDOWN_TIMEOUT.getConfigPath());
@@ -49,6 +51,7 @@ public final class DefaultThingConfig implements ThingConfig {
         activityCheckConfig = DefaultActivityCheckConfig.of(scopedConfig);
         snapshotConfig = DefaultSnapshotConfig.of(scopedConfig);
         cleanupConfig = CleanupConfig.of(scopedConfig);
+        warmUpConfig = WarmUpConfig.of(scopedConfig);
     }
 
     /**
@@ -82,6 +85,11 @@ public final class DefaultThingConfig implements ThingConfig {
         return cleanupConfig;
     }
 
+    @Override
+    public WarmUpConfig getWarmUpConfig() {
+        return warmUpConfig;
+    }
+
     @Override
     public Duration getShutdownTimeout() {
         return shutdownTimeout;
@@ -100,12 +108,14 @@ public final class DefaultThingConfig implements ThingConfig {
                 Objects.equals(activityCheckConfig, that.activityCheckConfig) &&
                 Objects.equals(snapshotConfig, that.snapshotConfig) &&
                 Objects.equals(cleanupConfig, that.cleanupConfig) &&
+                Objects.equals(warmUpConfig, that.warmUpConfig) &&
                 Objects.equals(shutdownTimeout, that.shutdownTimeout);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(supervisorConfig, activityCheckConfig, snapshotConfig, cleanupConfig, shutdownTimeout);
+        return Objects.hash(supervisorConfig, activityCheckConfig, snapshotConfig, cleanupConfig, warmUpConfig,
+                shutdownTimeout);
     }
 
     @Override
@@ -115,6 +125,7 @@ public final class DefaultThingConfig implements ThingConfig {
                 ", activityCheckConfig=" + activityCheckConfig +
                 ", snapshotConfig=" + snapshotConfig +
                 ", cleanupConfig=" + cleanupConfig +
+                ", warmUpConfig=" + warmUpConfig +
                 ", shutdownTimeout=" + shutdownTimeout +
                 "]";
     }
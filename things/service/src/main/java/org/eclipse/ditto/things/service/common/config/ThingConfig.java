@@ -21,13 +21,14 @@ import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.WithActivityCheckConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.WithSnapshotConfig;
 import org.eclipse.ditto.internal.utils.persistentactors.cleanup.WithCleanupConfig;
+import org.eclipse.ditto.internal.utils.persistentactors.warmup.WithWarmUpConfig;
 
 /**
  * Provides configuration settings for thing entities.
  */
 @Immutable
 public interface ThingConfig extends WithSupervisorConfig, WithActivityCheckConfig, WithSnapshotConfig,
-        WithCleanupConfig {
+        WithCleanupConfig, WithWarmUpConfig {
 
     /**
      * Get the timeout waiting for responses and acknowledgements during coordinated shutdown.
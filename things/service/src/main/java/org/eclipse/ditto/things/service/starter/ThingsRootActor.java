@@ -29,9 +29,9 @@ import org.eclipse.ditto.internal.utils.health.HealthCheckingActorOptions;
 import org.eclipse.ditto.internal.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.internal.utils.persistence.mongo.MongoClientWrapper;
 import org.eclipse.ditto.internal.utils.persistence.mongo.MongoHealthChecker;
-import org.eclipse.ditto.internal.utils.persistence.mongo.config.MongoDbConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
 import org.eclipse.ditto.internal.utils.persistentactors.cleanup.PersistenceCleanupActor;
+import org.eclipse.ditto.internal.utils.persistentactors.warmup.PersistenceWarmUpActor;
 import org.eclipse.ditto.internal.utils.pubsub.DistributedAcks;
 import org.eclipse.ditto.internal.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.internal.utils.pubsubthings.LiveSignalPub;
@@ -50,7 +50,6 @@ import org.eclipse.ditto.things.service.persistence.actors.ThingSupervisorActor;
 import org.eclipse.ditto.things.service.persistence.actors.ThingsPersistenceStreamingActorCreator;
 
 import akka.actor.ActorRef;
-import akka.actor.ActorSystem;
 import akka.actor.Props;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.japi.pf.ReceiveBuilder;
@@ -131,10 +130,16 @@ public final class ThingsRootActor extends DittoRootActor {
                 ThingsPersistenceStreamingActorCreator.startSnapshotStreamingActor(this::startChildActor);
 
         final var cleanupConfig = thingsConfig.getThingConfig().getCleanupConfig();
-        final var mongoReadJournal = newMongoReadJournal(thingsConfig.getMongoDbConfig(), actorSystem);
+        final var mongoClient = MongoClientWrapper.newInstance(thingsConfig.getMongoDbConfig());
+        final var mongoReadJournal =
+                MongoReadJournal.newInstance(actorSystem.settings().config(), mongoClient, actorSystem);
         final Props cleanupActorProps = PersistenceCleanupActor.props(cleanupConfig, mongoReadJournal, CLUSTER_ROLE);
         startChildActor(PersistenceCleanupActor.ACTOR_NAME, cleanupActorProps);
 
+        final var warmUpConfig = thingsConfig.getThingConfig().getWarmUpConfig();
+        startChildActor(PersistenceWarmUpActor.ACTOR_NAME,
+                PersistenceWarmUpActor.props(thingsShardRegion, warmUpConfig, mongoClient, CLUSTER_ROLE));
+
         pubSubMediator.tell(DistPubSubAccess.put(getSelf()), getSelf());
 
         bindHttpStatusRoute(thingsConfig.getHttpConfig(), healthCheckingActor);
@@ -179,12 +184,4 @@ public final class ThingsRootActor extends DittoRootActor {
                 liveSignalPub, propsFactory, blockedNamespaces, policyEnforcerProvider);
     }
 
-    private static MongoReadJournal newMongoReadJournal(final MongoDbConfig mongoDbConfig,
-            final ActorSystem actorSystem) {
-        final var config = actorSystem.settings().config();
-        final var mongoClient = MongoClientWrapper.newInstance(mongoDbConfig);
-
-        return MongoReadJournal.newInstance(config, mongoClient, actorSystem);
-    }
-
 }
@@ -19,6 +19,7 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.base.model.json.Jsonifiable;
 import org.eclipse.ditto.base.model.signals.JsonParsable;
+import org.eclipse.ditto.internal.models.streaming.RangeDigests;
 import org.eclipse.ditto.internal.models.streaming.StreamedSnapshot;
 import org.eclipse.ditto.internal.utils.cluster.GlobalMappingStrategies;
 import org.eclipse.ditto.internal.utils.cluster.MappingStrategies;
@@ -68,6 +69,8 @@ public final class ThingSearchMappingStrategies extends MappingStrategies {
                 .add(PolicyReferenceTag.class, PolicyReferenceTag::fromJson) // for inter-search instance communication
                 .add(StreamedSnapshot.class.getSimpleName(),
                         (jsonObject, dittoHeaders) -> StreamedSnapshot.fromJson(jsonObject))
+                .add(RangeDigests.class.getSimpleName(),
+                        (jsonObject, dittoHeaders) -> RangeDigests.fromJson(jsonObject))
                 .putAll(GlobalMappingStrategies.getInstance())
                 .build();
     }
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.api.commands.sudo;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.FieldType;
+import org.eclipse.ditto.base.model.json.JsonParsableCommand;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.base.model.signals.commands.AbstractCommand;
+import org.eclipse.ditto.base.model.signals.commands.CommandJsonDeserializer;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault;
+
+/**
+ * Command which retrieves the things whose changes have been waiting longest to be persisted in the search index by
+ * one search updater instance. Intended to be sent as piggyback command to the things updater actor.
+ */
+@Immutable
+@AllValuesAreNonnullByDefault
+@JsonParsableCommand(typePrefix = ThingSearchSudoCommand.TYPE_PREFIX, name = SudoRetrieveConsistencyLag.NAME)
+public final class SudoRetrieveConsistencyLag extends AbstractCommand<SudoRetrieveConsistencyLag>
+        implements ThingSearchSudoCommand<SudoRetrieveConsistencyLag> {
+
+    /**
+     * Name of the command.
+     */
+    public static final String NAME = "sudoRetrieveConsistencyLag";
+
+    /**
+     * Type of this command.
+     */
+    public static final String TYPE = TYPE_PREFIX + NAME;
+
+    /**
+     * Number of things retrieved if no limit is given.
+     */
+    public static final int DEFAULT_LIMIT = 10;
+
+    static final JsonFieldDefinition<Integer> JSON_LIMIT =
+            JsonFactory.newIntFieldDefinition("limit", FieldType.REGULAR, JsonSchemaVersion.V_2);
+
+    private final int limit;
+
+    private SudoRetrieveConsistencyLag(final int limit, final DittoHeaders dittoHeaders) {
+        super(TYPE, dittoHeaders);
+        this.limit = limit;
+    }
+
+    /**
+     * Creates a new {@code SudoRetrieveConsistencyLag}.
+     *
+     * @param limit the maximum number of things to retrieve.
+     * @param dittoHeaders the command headers of the request.
+     * @return the command.
+     * @throws NullPointerException if {@code dittoHeaders} is {@code null}.
+     * @throws IllegalArgumentException if {@code limit} is not positive.
+     */
+    public static SudoRetrieveConsistencyLag of(final int limit, final DittoHeaders dittoHeaders) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("The limit must be positive but was <" + limit + ">!");
+        }
+        return new SudoRetrieveConsistencyLag(limit, dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code SudoRetrieveConsistencyLag} from a JSON string.
+     *
+     * @param jsonString the JSON string of which the command is to be created.
+     * @param dittoHeaders the headers of the command.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonString} was not in the expected
+     * format.
+     */
+    public static SudoRetrieveConsistencyLag fromJson(final String jsonString,
+            final DittoHeaders dittoHeaders) {
+
+        return fromJson(JsonFactory.newObject(jsonString), dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code SudoRetrieveConsistencyLag} from a JSON object.
+     *
+     * @param jsonObject the JSON object of which the command is to be created.
+     * @param dittoHeaders the headers of the command.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static SudoRetrieveConsistencyLag fromJson(final JsonObject jsonObject,
+            final DittoHeaders dittoHeaders) {
+
+        return new CommandJsonDeserializer<SudoRetrieveConsistencyLag>(TYPE, jsonObject)
+                .deserialize(() -> of(jsonObject.getValue(JSON_LIMIT).orElse(DEFAULT_LIMIT), dittoHeaders));
+    }
+
+    /**
+     * Returns the maximum number of things to retrieve.
+     *
+     * @return the limit.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        jsonObjectBuilder.set(JSON_LIMIT, limit, predicate);
+    }
+
+    @Override
+    public Category getCategory() {
+        return Category.QUERY;
+    }
+
+    @Override
+    public SudoRetrieveConsistencyLag setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return new SudoRetrieveConsistencyLag(limit, dittoHeaders);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final SudoRetrieveConsistencyLag that = (SudoRetrieveConsistencyLag) o;
+        return that.canEqual(this) && limit == that.limit && super.equals(that);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), limit);
+    }
+
+    @Override
+    protected boolean canEqual(@Nullable final Object other) {
+        return other instanceof SudoRetrieveConsistencyLag;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString() + ", limit=" + limit + "]";
+    }
+
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.api.commands.sudo;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.common.HttpStatus;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.JsonParsableCommandResponse;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.base.model.signals.commands.AbstractCommandResponse;
+import org.eclipse.ditto.base.model.signals.commands.CommandResponseHttpStatusValidator;
+import org.eclipse.ditto.base.model.signals.commands.CommandResponseJsonDeserializer;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * Response to a {@link SudoRetrieveConsistencyLag} containing one JSON object per lagging thing.
+ */
+@Immutable
+@JsonParsableCommandResponse(type = SudoRetrieveConsistencyLagResponse.TYPE)
+public final class SudoRetrieveConsistencyLagResponse
+        extends AbstractCommandResponse<SudoRetrieveConsistencyLagResponse>
+        implements ThingSearchSudoCommandResponse<SudoRetrieveConsistencyLagResponse> {
+
+    /**
+     * Type of this response.
+     */
+    public static final String TYPE = TYPE_PREFIX + SudoRetrieveConsistencyLag.NAME;
+
+    private static final HttpStatus HTTP_STATUS = HttpStatus.OK;
+
+    private static final CommandResponseJsonDeserializer<SudoRetrieveConsistencyLagResponse>
+            JSON_DESERIALIZER = CommandResponseJsonDeserializer.newInstance(TYPE,
+            context -> {
+                final var jsonObject = context.getJsonObject();
+                final var payload = jsonObject.getValueOrThrow(JsonFields.PAYLOAD);
+                if (!payload.isArray()) {
+                    throw new JsonParseException(
+                            MessageFormat.format("Payload JSON value <{0}> is not an array!", payload));
+                }
+                return new SudoRetrieveConsistencyLagResponse(payload.asArray(),
+                        context.getDeserializedHttpStatus(),
+                        context.getDittoHeaders());
+            });
+
+    private final JsonArray laggingThings;
+
+    private SudoRetrieveConsistencyLagResponse(final JsonArray laggingThings,
+            final HttpStatus httpStatus,
+            final DittoHeaders dittoHeaders) {
+
+        super(TYPE,
+                CommandResponseHttpStatusValidator.validateHttpStatus(httpStatus,
+                        Collections.singleton(HTTP_STATUS),
+                        SudoRetrieveConsistencyLagResponse.class),
+                dittoHeaders);
+        this.laggingThings = checkNotNull(laggingThings, "laggingThings");
+    }
+
+    /**
+     * Returns a new instance of {@code SudoRetrieveConsistencyLagResponse}.
+     *
+     * @param laggingThings a JSON object per lagging thing, the most lagging first.
+     * @param dittoHeaders the headers of the command which caused this response.
+     * @return the response.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static SudoRetrieveConsistencyLagResponse of(final JsonArray laggingThings,
+            final DittoHeaders dittoHeaders) {
+
+        return new SudoRetrieveConsistencyLagResponse(laggingThings, HTTP_STATUS, dittoHeaders);
+    }
+
+    /**
+     * Creates a response to a {@code SudoRetrieveConsistencyLag} command from a JSON string.
+     *
+     * @param jsonString the JSON string of which the response is to be created.
+     * @param dittoHeaders the headers of the command which caused this response.
+     * @return the response.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonString} was not in the expected
+     * format.
+     */
+    public static SudoRetrieveConsistencyLagResponse fromJson(final String jsonString,
+            final DittoHeaders dittoHeaders) {
+
+        return fromJson(JsonObject.of(jsonString), dittoHeaders);
+    }
+
+    /**
+     * Creates a response to a {@code SudoRetrieveConsistencyLag} command from a JSON object.
+     *
+     * @param jsonObject the JSON object of which the response is to be created.
+     * @param dittoHeaders the headers of the command which caused this response.
+     * @return the response.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static SudoRetrieveConsistencyLagResponse fromJson(final JsonObject jsonObject,
+            final DittoHeaders dittoHeaders) {
+
+        return JSON_DESERIALIZER.deserialize(jsonObject, dittoHeaders);
+    }
+
+    /**
+     * Returns the lagging things.
+     *
+     * @return a JSON object per lagging thing, the most lagging first.
+     */
+    public JsonArray getLaggingThings() {
+        return laggingThings;
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder,
+            final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+
+        final var predicate = schemaVersion.and(thePredicate);
+        jsonObjectBuilder.set(JsonFields.PAYLOAD, laggingThings, predicate);
+    }
+
+    @Override
+    public JsonValue getEntity(final JsonSchemaVersion schemaVersion) {
+        return laggingThings;
+    }
+
+    @Override
+    public SudoRetrieveConsistencyLagResponse setEntity(final JsonValue entity) {
+        checkNotNull(entity, "entity");
+        return of(entity.asArray(), getDittoHeaders());
+    }
+
+    @Override
+    public SudoRetrieveConsistencyLagResponse setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return of(laggingThings, dittoHeaders);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), laggingThings);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final var that = (SudoRetrieveConsistencyLagResponse) o;
+        return that.canEqual(this) &&
+                Objects.equals(laggingThings, that.laggingThings) &&
+                super.equals(that);
+    }
+
+    @Override
+    protected boolean canEqual(final Object other) {
+        return other instanceof SudoRetrieveConsistencyLagResponse;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [laggingThings=" + laggingThings + "]";
+    }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.api.commands.sudo;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.FieldType;
+import org.eclipse.ditto.base.model.json.JsonParsableCommand;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.base.model.signals.commands.AbstractCommand;
+import org.eclipse.ditto.base.model.signals.commands.CommandJsonDeserializer;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault;
+
+/**
+ * Command which retrieves the search query shapes with the highest mean execution time together with their query
+ * plans and the indexes recommended for them. Intended to be sent as piggyback command to the search actor.
+ */
+@Immutable
+@AllValuesAreNonnullByDefault
+@JsonParsableCommand(typePrefix = ThingSearchSudoCommand.TYPE_PREFIX, name = SudoRetrieveIndexRecommendations.NAME)
+public final class SudoRetrieveIndexRecommendations extends AbstractCommand<SudoRetrieveIndexRecommendations>
+        implements ThingSearchSudoCommand<SudoRetrieveIndexRecommendations> {
+
+    /**
+     * Name of the command.
+     */
+    public static final String NAME = "sudoRetrieveIndexRecommendations";
+
+    /**
+     * Type of this command.
+     */
+    public static final String TYPE = TYPE_PREFIX + NAME;
+
+    /**
+     * Number of query shapes retrieved if no limit is given.
+     */
+    public static final int DEFAULT_LIMIT = 10;
+
+    static final JsonFieldDefinition<Integer> JSON_LIMIT =
+            JsonFactory.newIntFieldDefinition("limit", FieldType.REGULAR, JsonSchemaVersion.V_2);
+
+    private final int limit;
+
+    private SudoRetrieveIndexRecommendations(final int limit, final DittoHeaders dittoHeaders) {
+        super(TYPE, dittoHeaders);
+        this.limit = limit;
+    }
+
+    /**
+     * Creates a new {@code SudoRetrieveIndexRecommendations}.
+     *
+     * @param limit the maximum number of query shapes to retrieve.
+     * @param dittoHeaders the command headers of the request.
+     * @return the command.
+     * @throws NullPointerException if {@code dittoHeaders} is {@code null}.
+     * @throws IllegalArgumentException if {@code limit} is not positive.
+     */
+    public static SudoRetrieveIndexRecommendations of(final int limit, final DittoHeaders dittoHeaders) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("The limit must be positive but was <" + limit + ">!");
+        }
+        return new SudoRetrieveIndexRecommendations(limit, dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code SudoRetrieveIndexRecommendations} from a JSON string.
+     *
+     * @param jsonString the JSON string of which the command is to be created.
+     * @param dittoHeaders the headers of the command.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonString} was not in the expected
+     * format.
+     */
+    public static SudoRetrieveIndexRecommendations fromJson(final String jsonString,
+            final DittoHeaders dittoHeaders) {
+
+        return fromJson(JsonFactory.newObject(jsonString), dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code SudoRetrieveIndexRecommendations} from a JSON object.
+     *
+     * @param jsonObject the JSON object of which the command is to be created.
+     * @param dittoHeaders the headers of the command.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static SudoRetrieveIndexRecommendations fromJson(final JsonObject jsonObject,
+            final DittoHeaders dittoHeaders) {
+
+        return new CommandJsonDeserializer<SudoRetrieveIndexRecommendations>(TYPE, jsonObject)
+                .deserialize(() -> of(jsonObject.getValue(JSON_LIMIT).orElse(DEFAULT_LIMIT), dittoHeaders));
+    }
+
+    /**
+     * Returns the maximum number of query shapes to retrieve.
+     *
+     * @return the limit.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        jsonObjectBuilder.set(JSON_LIMIT, limit, predicate);
+    }
+
+    @Override
+    public Category getCategory() {
+        return Category.QUERY;
+    }
+
+    @Override
+    public SudoRetrieveIndexRecommendations setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return new SudoRetrieveIndexRecommendations(limit, dittoHeaders);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final SudoRetrieveIndexRecommendations that = (SudoRetrieveIndexRecommendations) o;
+        return that.canEqual(this) && limit == that.limit && super.equals(that);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), limit);
+    }
+
+    @Override
+    protected boolean canEqual(@Nullable final Object other) {
+        return other instanceof SudoRetrieveIndexRecommendations;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString() + ", limit=" + limit + "]";
+    }
+
+}
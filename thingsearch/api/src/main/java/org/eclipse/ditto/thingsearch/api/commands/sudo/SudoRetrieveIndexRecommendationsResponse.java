@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.api.commands.sudo;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.common.HttpStatus;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.JsonParsableCommandResponse;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.base.model.signals.commands.AbstractCommandResponse;
+import org.eclipse.ditto.base.model.signals.commands.CommandResponseHttpStatusValidator;
+import org.eclipse.ditto.base.model.signals.commands.CommandResponseJsonDeserializer;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * Response to a {@link SudoRetrieveIndexRecommendations} containing one JSON object per query shape.
+ */
+@Immutable
+@JsonParsableCommandResponse(type = SudoRetrieveIndexRecommendationsResponse.TYPE)
+public final class SudoRetrieveIndexRecommendationsResponse
+        extends AbstractCommandResponse<SudoRetrieveIndexRecommendationsResponse>
+        implements ThingSearchSudoCommandResponse<SudoRetrieveIndexRecommendationsResponse> {
+
+    /**
+     * Type of this response.
+     */
+    public static final String TYPE = TYPE_PREFIX + SudoRetrieveIndexRecommendations.NAME;
+
+    private static final HttpStatus HTTP_STATUS = HttpStatus.OK;
+
+    private static final CommandResponseJsonDeserializer<SudoRetrieveIndexRecommendationsResponse>
+            JSON_DESERIALIZER = CommandResponseJsonDeserializer.newInstance(TYPE,
+            context -> {
+                final var jsonObject = context.getJsonObject();
+                final var payload = jsonObject.getValueOrThrow(JsonFields.PAYLOAD);
+                if (!payload.isArray()) {
+                    throw new JsonParseException(
+                            MessageFormat.format("Payload JSON value <{0}> is not an array!", payload));
+                }
+                return new SudoRetrieveIndexRecommendationsResponse(payload.asArray(),
+                        context.getDeserializedHttpStatus(),
+                        context.getDittoHeaders());
+            });
+
+    private final JsonArray recommendations;
+
+    private SudoRetrieveIndexRecommendationsResponse(final JsonArray recommendations,
+            final HttpStatus httpStatus,
+            final DittoHeaders dittoHeaders) {
+
+        super(TYPE,
+                CommandResponseHttpStatusValidator.validateHttpStatus(httpStatus,
+                        Collections.singleton(HTTP_STATUS),
+                        SudoRetrieveIndexRecommendationsResponse.class),
+                dittoHeaders);
+        this.recommendations = checkNotNull(recommendations, "recommendations");
+    }
+
+    /**
+     * Returns a new instance of {@code SudoRetrieveIndexRecommendationsResponse}.
+     *
+     * @param recommendations a JSON object per query shape.
+     * @param dittoHeaders the headers of the command which caused this response.
+     * @return the response.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static SudoRetrieveIndexRecommendationsResponse of(final JsonArray recommendations,
+            final DittoHeaders dittoHeaders) {
+
+        return new SudoRetrieveIndexRecommendationsResponse(recommendations, HTTP_STATUS, dittoHeaders);
+    }
+
+    /**
+     * Creates a response to a {@code SudoRetrieveIndexRecommendations} command from a JSON string.
+     *
+     * @param jsonString the JSON string of which the response is to be created.
+     * @param dittoHeaders the headers of the command which caused this response.
+     * @return the response.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonString} was not in the expected
+     * format.
+     */
+    public static SudoRetrieveIndexRecommendationsResponse fromJson(final String jsonString,
+            final DittoHeaders dittoHeaders) {
+
+        return fromJson(JsonObject.of(jsonString), dittoHeaders);
+    }
+
+    /**
+     * Creates a response to a {@code SudoRetrieveIndexRecommendations} command from a JSON object.
+     *
+     * @param jsonObject the JSON object of which the response is to be created.
+     * @param dittoHeaders the headers of the command which caused this response.
+     * @return the response.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static SudoRetrieveIndexRecommendationsResponse fromJson(final JsonObject jsonObject,
+            final DittoHeaders dittoHeaders) {
+
+        return JSON_DESERIALIZER.deserialize(jsonObject, dittoHeaders);
+    }
+
+    /**
+     * Returns the recommendations.
+     *
+     * @return a JSON object per query shape.
+     */
+    public JsonArray getRecommendations() {
+        return recommendations;
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder,
+            final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+
+        final var predicate = schemaVersion.and(thePredicate);
+        jsonObjectBuilder.set(JsonFields.PAYLOAD, recommendations, predicate);
+    }
+
+    @Override
+    public JsonValue getEntity(final JsonSchemaVersion schemaVersion) {
+        return recommendations;
+    }
+
+    @Override
+    public SudoRetrieveIndexRecommendationsResponse setEntity(final JsonValue entity) {
+        checkNotNull(entity, "entity");
+        return of(entity.asArray(), getDittoHeaders());
+    }
+
+    @Override
+    public SudoRetrieveIndexRecommendationsResponse setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return of(recommendations, dittoHeaders);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), recommendations);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final var that = (SudoRetrieveIndexRecommendationsResponse) o;
+        return that.canEqual(this) &&
+                Objects.equals(recommendations, that.recommendations) &&
+                super.equals(that);
+    }
+
+    @Override
+    protected boolean canEqual(final Object other) {
+        return other instanceof SudoRetrieveIndexRecommendationsResponse;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [recommendations=" + recommendations + "]";
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.api.commands.sudo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.FieldType;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.thingsearch.model.signals.commands.ThingSearchCommand;
+import org.junit.Test;
+import org.mutabilitydetector.unittesting.MutabilityMatchers;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Tests the {@link SudoRetrieveConsistencyLag}.
+ */
+public final class SudoRetrieveConsistencyLagTest {
+
+    private static final int KNOWN_LIMIT = 5;
+
+    private static final String JSON_V2 = JsonFactory.newObjectBuilder()
+            .set(ThingSearchCommand.JsonFields.TYPE, SudoRetrieveConsistencyLag.TYPE)
+            .set(SudoRetrieveConsistencyLag.JSON_LIMIT, KNOWN_LIMIT)
+            .build().toString();
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(SudoRetrieveConsistencyLag.class,
+                MutabilityMatchers.areImmutable(),
+                provided(AuthorizationContext.class, JsonFieldSelector.class).isAlsoImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(SudoRetrieveConsistencyLag.class)
+                .usingGetClass()
+                .withRedefinedSuperclass()
+                .verify();
+    }
+
+    @Test
+    public void toJsonWithSchemaVersion2ReturnsExpected() {
+        final SudoRetrieveConsistencyLag underTest =
+                SudoRetrieveConsistencyLag.of(KNOWN_LIMIT, DittoHeaders.empty());
+        final JsonValue jsonValue = underTest.toJson(JsonSchemaVersion.V_2, FieldType.regularOrSpecial());
+
+        assertThat(jsonValue.toString()).hasToString(JSON_V2);
+    }
+
+    @Test
+    public void fromJsonReturnsExpected() {
+        final SudoRetrieveConsistencyLag underTest =
+                SudoRetrieveConsistencyLag.fromJson(JSON_V2, DittoHeaders.empty());
+
+        assertThat(underTest).isEqualTo(SudoRetrieveConsistencyLag.of(KNOWN_LIMIT, DittoHeaders.empty()));
+    }
+
+    @Test
+    public void fromJsonWithoutLimitUsesDefaultLimit() {
+        final SudoRetrieveConsistencyLag underTest =
+                SudoRetrieveConsistencyLag.fromJson(JsonFactory.newObjectBuilder()
+                        .set(ThingSearchCommand.JsonFields.TYPE, SudoRetrieveConsistencyLag.TYPE)
+                        .build(), DittoHeaders.empty());
+
+        assertThat(underTest.getLimit()).isEqualTo(SudoRetrieveConsistencyLag.DEFAULT_LIMIT);
+    }
+
+    @Test
+    public void createWithNonPositiveLimitFails() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> SudoRetrieveConsistencyLag.of(0, DittoHeaders.empty()));
+    }
+
+}
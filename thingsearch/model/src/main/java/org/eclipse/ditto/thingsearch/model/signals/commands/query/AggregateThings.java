@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.model.signals.commands.query;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.FieldType;
+import org.eclipse.ditto.base.model.json.JsonParsableCommand;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.base.model.signals.commands.AbstractCommand;
+import org.eclipse.ditto.base.model.signals.commands.CommandJsonDeserializer;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.thingsearch.model.signals.commands.ThingSearchCommand;
+
+/**
+ * Command for aggregating the things matching a filter in the search index.
+ * <p>
+ * The matching things are grouped by the values of the {@code groupBy} fields, e.g. {@code attributes/firmware}.
+ * For each group, the {@code aggregations} are computed, each being one of {@code count},
+ * {@code sum(<field>)}, {@code min(<field>)}, {@code max(<field>)} or {@code avg(<field>)}.
+ * Only scalar values are aggregated: objects and arrays are treated as {@code null}.
+ */
+@Immutable
+@JsonParsableCommand(typePrefix = ThingSearchCommand.TYPE_PREFIX, name = AggregateThings.NAME)
+public final class AggregateThings extends AbstractCommand<AggregateThings>
+        implements ThingSearchQueryCommand<AggregateThings> {
+
+    /**
+     * Name of the command.
+     */
+    public static final String NAME = "aggregateThings";
+
+    /**
+     * Type of this command.
+     */
+    public static final String TYPE = TYPE_PREFIX + NAME;
+
+    static final JsonFieldDefinition<String> JSON_FILTER =
+            JsonFactory.newStringFieldDefinition("filter", FieldType.REGULAR,
+                    JsonSchemaVersion.V_2);
+
+    static final JsonFieldDefinition<JsonArray> JSON_NAMESPACES =
+            JsonFactory.newJsonArrayFieldDefinition("namespaces", FieldType.REGULAR,
+                    JsonSchemaVersion.V_2);
+
+    static final JsonFieldDefinition<JsonArray> JSON_GROUP_BY =
+            JsonFactory.newJsonArrayFieldDefinition("groupBy", FieldType.REGULAR,
+                    JsonSchemaVersion.V_2);
+
+    static final JsonFieldDefinition<JsonArray> JSON_AGGREGATIONS =
+            JsonFactory.newJsonArrayFieldDefinition("aggregations", FieldType.REGULAR,
+                    JsonSchemaVersion.V_2);
+
+    @Nullable private final String filter;
+    @Nullable private final Set<String> namespaces;
+    private final List<String> groupBy;
+    private final List<String> aggregations;
+
+    private AggregateThings(final DittoHeaders dittoHeaders,
+            @Nullable final String filter,
+            @Nullable final Collection<String> namespaces,
+            final List<String> groupBy,
+            final List<String> aggregations) {
+
+        super(TYPE, dittoHeaders);
+        this.filter = filter;
+        if (namespaces != null) {
+            this.namespaces = Collections.unmodifiableSet(new HashSet<>(namespaces));
+        } else {
+            this.namespaces = null;
+        }
+        this.groupBy = Collections.unmodifiableList(new ArrayList<>(checkNotNull(groupBy, "groupBy")));
+        this.aggregations =
+                Collections.unmodifiableList(new ArrayList<>(checkNotNull(aggregations, "aggregations")));
+    }
+
+    /**
+     * Returns a new instance of {@code AggregateThings}.
+     *
+     * @param filter the optional filter string.
+     * @param namespaces the optional namespaces to restrict the aggregation to.
+     * @param groupBy the fields to group the matching things by.
+     * @param aggregations the aggregations to compute for each group.
+     * @param dittoHeaders the headers of the command.
+     * @return a new command for aggregating Things.
+     * @throws NullPointerException if {@code groupBy}, {@code aggregations} or {@code dittoHeaders} is {@code null}.
+     */
+    public static AggregateThings of(@Nullable final String filter,
+            @Nullable final Set<String> namespaces,
+            final List<String> groupBy,
+            final List<String> aggregations,
+            final DittoHeaders dittoHeaders) {
+
+        return new AggregateThings(dittoHeaders, filter, namespaces, groupBy, aggregations);
+    }
+
+    /**
+     * Creates a new {@code AggregateThings} from a JSON string.
+     *
+     * @param jsonString the JSON string of which the command is to be created.
+     * @param dittoHeaders the headers of the command.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonString} was not in the expected
+     * format.
+     */
+    public static AggregateThings fromJson(final String jsonString, final DittoHeaders dittoHeaders) {
+        return fromJson(JsonFactory.newObject(jsonString), dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code AggregateThings} from a JSON object.
+     *
+     * @param jsonObject the JSON object of which the command is to be created.
+     * @param dittoHeaders the headers of the command.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static AggregateThings fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+        return new CommandJsonDeserializer<AggregateThings>(TYPE, jsonObject).deserialize(() -> {
+            final String extractedFilter = jsonObject.getValue(JSON_FILTER).orElse(null);
+
+            final Set<String> extractedNamespaces = jsonObject.getValue(JSON_NAMESPACES)
+                    .map(jsonValues -> jsonValues.stream()
+                            .filter(JsonValue::isString)
+                            .map(JsonValue::asString)
+                            .collect(Collectors.toSet()))
+                    .orElse(null);
+
+            return new AggregateThings(dittoHeaders, extractedFilter, extractedNamespaces,
+                    getStrings(jsonObject, JSON_GROUP_BY), getStrings(jsonObject, JSON_AGGREGATIONS));
+        });
+    }
+
+    private static List<String> getStrings(final JsonObject jsonObject,
+            final JsonFieldDefinition<JsonArray> fieldDefinition) {
+
+        return jsonObject.getValue(fieldDefinition)
+                .map(jsonValues -> jsonValues.stream()
+                        .filter(JsonValue::isString)
+                        .map(JsonValue::asString)
+                        .collect(Collectors.toList()))
+                .orElse(Collections.emptyList());
+    }
+
+    @Override
+    public Optional<String> getFilter() {
+        return Optional.ofNullable(filter);
+    }
+
+    @Override
+    public Optional<Set<String>> getNamespaces() {
+        return Optional.ofNullable(namespaces);
+    }
+
+    /**
+     * Returns the fields to group the matching things by.
+     *
+     * @return the fields, empty to aggregate all matching things in one group.
+     */
+    public List<String> getGroupBy() {
+        return groupBy;
+    }
+
+    /**
+     * Returns the aggregations to compute for each group.
+     *
+     * @return the aggregations, e.g. {@code count} or {@code avg(attributes/battery)}.
+     */
+    public List<String> getAggregations() {
+        return aggregations;
+    }
+
+    @Override
+    public AggregateThings setNamespaces(@Nullable final Collection<String> namespaces) {
+        return new AggregateThings(getDittoHeaders(), filter, namespaces, groupBy, aggregations);
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+
+        if (filter != null) {
+            jsonObjectBuilder.set(JSON_FILTER, filter, predicate);
+        }
+        getNamespaces().ifPresent(presentOptions -> jsonObjectBuilder.set(JSON_NAMESPACES, presentOptions.stream()
+                .map(JsonValue::of)
+                .collect(JsonCollectors.valuesToArray()), predicate));
+        jsonObjectBuilder.set(JSON_GROUP_BY, groupBy.stream()
+                .map(JsonValue::of)
+                .collect(JsonCollectors.valuesToArray()), predicate);
+        jsonObjectBuilder.set(JSON_AGGREGATIONS, aggregations.stream()
+                .map(JsonValue::of)
+                .collect(JsonCollectors.valuesToArray()), predicate);
+    }
+
+    @Override
+    public AggregateThings setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return new AggregateThings(dittoHeaders, filter, namespaces, groupBy, aggregations);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof AggregateThings)) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+        final AggregateThings that = (AggregateThings) o;
+        return Objects.equals(filter, that.filter) &&
+                Objects.equals(namespaces, that.namespaces) &&
+                Objects.equals(groupBy, that.groupBy) &&
+                Objects.equals(aggregations, that.aggregations);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), filter, namespaces, groupBy, aggregations);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" +
+                "filter='" + filter + "'" +
+                ", namespaces='" + namespaces + "'" +
+                ", groupBy=" + groupBy +
+                ", aggregations=" + aggregations +
+                "]";
+    }
+
+}
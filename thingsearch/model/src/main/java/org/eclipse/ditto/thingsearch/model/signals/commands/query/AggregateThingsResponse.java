@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.model.signals.commands.query;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.common.HttpStatus;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.JsonParsableCommandResponse;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.base.model.signals.commands.AbstractCommandResponse;
+import org.eclipse.ditto.base.model.signals.commands.CommandResponseHttpStatusValidator;
+import org.eclipse.ditto.base.model.signals.commands.CommandResponseJsonDeserializer;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * Response to an {@link AggregateThings} command. Its entity is an array containing one JSON object per group with
+ * the values of the {@code groupBy} fields of the group and the computed aggregations.
+ */
+@Immutable
+@JsonParsableCommandResponse(type = AggregateThingsResponse.TYPE)
+public final class AggregateThingsResponse extends AbstractCommandResponse<AggregateThingsResponse>
+        implements ThingSearchQueryCommandResponse<AggregateThingsResponse> {
+
+    /**
+     * Type of this response.
+     */
+    public static final String TYPE = TYPE_PREFIX + AggregateThings.NAME;
+
+    private static final HttpStatus HTTP_STATUS = HttpStatus.OK;
+
+    private static final CommandResponseJsonDeserializer<AggregateThingsResponse> JSON_DESERIALIZER =
+            CommandResponseJsonDeserializer.newInstance(TYPE,
+                    context -> {
+                        final JsonObject jsonObject = context.getJsonObject();
+                        final JsonValue jsonValue = jsonObject.getValueOrThrow(JsonFields.PAYLOAD);
+                        if (jsonValue.isArray()) {
+                            return new AggregateThingsResponse(jsonValue.asArray(),
+                                    context.getDeserializedHttpStatus(),
+                                    context.getDittoHeaders());
+                        } else {
+                            throw new JsonParseException(MessageFormat.format(
+                                    "Payload JSON value <{0}> is not an aggregation result representation!",
+                                    jsonValue
+                            ));
+                        }
+                    });
+
+    private final JsonArray groups;
+
+    private AggregateThingsResponse(final JsonArray groups, final HttpStatus httpStatus,
+            final DittoHeaders dittoHeaders) {
+
+        super(TYPE,
+                CommandResponseHttpStatusValidator.validateHttpStatus(httpStatus,
+                        Collections.singleton(HTTP_STATUS),
+                        AggregateThingsResponse.class),
+                dittoHeaders);
+        this.groups = checkNotNull(groups, "groups");
+    }
+
+    /**
+     * Returns a new {@code AggregateThingsResponse} instance for the issued aggregation.
+     *
+     * @param groups the aggregated groups as computed by the Search service.
+     * @param dittoHeaders the headers of the command which caused this response.
+     * @return a new response for the "Aggregate Things" command.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static AggregateThingsResponse of(final JsonArray groups, final DittoHeaders dittoHeaders) {
+        return new AggregateThingsResponse(groups, HTTP_STATUS, dittoHeaders);
+    }
+
+    /**
+     * Creates a response to an AggregateThings command from a JSON string.
+     *
+     * @param jsonString the JSON string of which the response is to be created.
+     * @param dittoHeaders the headers of the command which caused this response.
+     * @return the response.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonString} was not in the expected
+     * format.
+     */
+    public static AggregateThingsResponse fromJson(final String jsonString, final DittoHeaders dittoHeaders) {
+        return fromJson(JsonObject.of(jsonString), dittoHeaders);
+    }
+
+    /**
+     * Creates a response to an AggregateThings command from a JSON object.
+     *
+     * @param jsonObject the JSON object of which the response is to be created.
+     * @param dittoHeaders the headers of the command which caused this response.
+     * @return the response.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static AggregateThingsResponse fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+        return JSON_DESERIALIZER.deserialize(jsonObject, dittoHeaders);
+    }
+
+    /**
+     * Returns the aggregated groups.
+     *
+     * @return the groups.
+     */
+    public JsonArray getGroups() {
+        return groups;
+    }
+
+    @Override
+    public JsonValue getEntity(final JsonSchemaVersion schemaVersion) {
+        return groups;
+    }
+
+    @Override
+    public AggregateThingsResponse setEntity(final JsonValue entity) {
+        checkNotNull(entity, "entity");
+        return of(entity.asArray(), getDittoHeaders());
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder,
+            final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        jsonObjectBuilder.set(JsonFields.PAYLOAD, groups, predicate);
+    }
+
+    @Override
+    public AggregateThingsResponse setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return of(groups, dittoHeaders);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), groups);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+        final AggregateThingsResponse that = (AggregateThingsResponse) o;
+        return that.canEqual(this) && Objects.equals(groups, that.groups) && super.equals(that);
+    }
+
+    @Override
+    protected boolean canEqual(@Nullable final Object other) {
+        return other instanceof AggregateThingsResponse;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString() + ", groups=" + groups + "]";
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.model.signals.commands.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.thingsearch.model.signals.commands.ThingSearchCommand;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Tests {@link AggregateThings}.
+ */
+public final class AggregateThingsTest {
+
+    private static final List<String> KNOWN_GROUP_BY = Collections.singletonList("attributes/firmware");
+    private static final List<String> KNOWN_AGGREGATIONS = Arrays.asList("count", "avg(attributes/battery)");
+
+    private static final String JSON_ALL_FIELDS_V2 = JsonFactory.newObjectBuilder()
+            .set(ThingSearchCommand.JsonFields.TYPE, AggregateThings.TYPE)
+            .set(AggregateThings.JSON_FILTER, TestConstants.KNOWN_FILTER_STR)
+            .set(AggregateThings.JSON_NAMESPACES, JsonFactory.newArrayBuilder()
+                    .add(TestConstants.KNOWN_NAMESPACE)
+                    .build())
+            .set(AggregateThings.JSON_GROUP_BY, toJsonArray(KNOWN_GROUP_BY))
+            .set(AggregateThings.JSON_AGGREGATIONS, toJsonArray(KNOWN_AGGREGATIONS))
+            .build().toString();
+
+    private static final String JSON_MINIMAL_V2 = JsonFactory.newObjectBuilder()
+            .set(ThingSearchCommand.JsonFields.TYPE, AggregateThings.TYPE)
+            .set(AggregateThings.JSON_GROUP_BY, JsonArray.empty())
+            .set(AggregateThings.JSON_AGGREGATIONS, JsonArray.empty())
+            .build().toString();
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(AggregateThings.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(AggregateThings.class)
+                .withRedefinedSuperclass()
+                .verify();
+    }
+
+    @Test
+    public void toJsonWithAllFieldsSetV2() {
+        final AggregateThings command = AggregateThings.of(TestConstants.KNOWN_FILTER_STR,
+                TestConstants.KNOWN_NAMESPACES_SET, KNOWN_GROUP_BY, KNOWN_AGGREGATIONS, DittoHeaders.empty());
+
+        assertThat(command.toJsonString()).isEqualTo(JSON_ALL_FIELDS_V2);
+    }
+
+    @Test
+    public void toJsonWithOnlyRequiredFieldsSetV2() {
+        final AggregateThings command = AggregateThings.of(null, null, Collections.emptyList(),
+                Collections.emptyList(), DittoHeaders.empty());
+
+        assertThat(command.toJsonString()).isEqualTo(JSON_MINIMAL_V2);
+    }
+
+    @Test
+    public void fromJsonWithAllFieldsSetV2() {
+        final AggregateThings command = AggregateThings.fromJson(JSON_ALL_FIELDS_V2, DittoHeaders.empty());
+
+        assertThat(command.getFilter()).contains(TestConstants.KNOWN_FILTER_STR);
+        assertThat(command.getNamespaces()).contains(TestConstants.KNOWN_NAMESPACES_SET);
+        assertThat(command.getGroupBy()).isEqualTo(KNOWN_GROUP_BY);
+        assertThat(command.getAggregations()).isEqualTo(KNOWN_AGGREGATIONS);
+    }
+
+    @Test
+    public void fromJsonWithOnlyTypeSetV2() {
+        final AggregateThings command = AggregateThings.fromJson(JsonFactory.newObjectBuilder()
+                .set(ThingSearchCommand.JsonFields.TYPE, AggregateThings.TYPE)
+                .build(), DittoHeaders.empty());
+
+        assertThat(command.getFilter()).isEmpty();
+        assertThat(command.getNamespaces()).isEmpty();
+        assertThat(command.getGroupBy()).isEmpty();
+        assertThat(command.getAggregations()).isEmpty();
+    }
+
+    private static JsonArray toJsonArray(final List<String> strings) {
+        return strings.stream().map(JsonValue::of).collect(JsonCollectors.valuesToArray());
+    }
+
+}
@@ -105,6 +105,31 @@ public interface BackgroundSyncConfig extends BackgroundStreamingConfig {
      */
     Duration getRecovery();
 
+    /**
+     * Whether to locate inconsistencies by comparing digests of ranges of thing IDs instead of comparing all things.
+     * The digests of the things persistence use the revisions of the latest snapshots, which trail the search index
+     * for things modified since their last snapshot. Ranges containing such things differ and are compared entry by
+     * entry, hence the mode only pays off if most things are idle.
+     *
+     * @return whether the range digest mode is enabled.
+     */
+    boolean isRangeDigestEnabled();
+
+    /**
+     * How many ranges to split a range into when the digests of the things persistence and the search index differ.
+     *
+     * @return the number of buckets per range.
+     */
+    int getRangeDigestBuckets();
+
+    /**
+     * Up to how many search index entries a range with different digests has to be compared entry by entry instead of
+     * being split further.
+     *
+     * @return the leaf size.
+     */
+    int getRangeDigestLeafSize();
+
     /**
      * Enumeration of known config keys and default values for {@code PersistenceCleanupConfig}
      */
@@ -169,7 +194,22 @@ public interface BackgroundSyncConfig extends BackgroundStreamingConfig {
         /**
          * Assume upstream healthy if no error happened for this long.
          */
-        RECOVERY("recovery", Duration.ofMinutes(4L));
+        RECOVERY("recovery", Duration.ofMinutes(4L)),
+
+        /**
+         * Whether to compare digests of ranges of thing IDs instead of all things.
+         */
+        RANGE_DIGEST_ENABLED("range-digest.enabled", false),
+
+        /**
+         * Number of buckets to split a range into.
+         */
+        RANGE_DIGEST_BUCKETS("range-digest.buckets", 16),
+
+        /**
+         * Maximum number of search index entries of a range to compare entry by entry.
+         */
+        RANGE_DIGEST_LEAF_SIZE("range-digest.leaf-size", 1000);
 
         private final String path;
         private final Object defaultValue;
@@ -39,6 +39,9 @@ public final class DefaultBackgroundSyncConfig implements BackgroundSyncConfig {
     private final Duration maxBackoff;
     private final int maxRestarts;
     private final Duration recovery;
+    private final boolean rangeDigestEnabled;
+    private final int rangeDigestBuckets;
+    private final int rangeDigestLeafSize;
 
     private DefaultBackgroundSyncConfig(final Config config) {
         this.config = config;
@@ -54,6 +57,9 @@ public final class DefaultBackgroundSyncConfig implements BackgroundSyncConfig {
         this.maxBackoff = config.getDuration(ConfigValue.MAX_BACKOFF.getConfigPath());
         this.maxRestarts = config.getInt(ConfigValue.MAX_RESTARTS.getConfigPath());
         this.recovery = config.getDuration(ConfigValue.RECOVERY.getConfigPath());
+        rangeDigestEnabled = config.getBoolean(ConfigValue.RANGE_DIGEST_ENABLED.getConfigPath());
+        rangeDigestBuckets = config.getInt(ConfigValue.RANGE_DIGEST_BUCKETS.getConfigPath());
+        rangeDigestLeafSize = config.getInt(ConfigValue.RANGE_DIGEST_LEAF_SIZE.getConfigPath());
     }
 
     /**
@@ -156,6 +162,21 @@ public final class DefaultBackgroundSyncConfig implements BackgroundSyncConfig {
         return recovery;
     }
 
+    @Override
+    public boolean isRangeDigestEnabled() {
+        return rangeDigestEnabled;
+    }
+
+    @Override
+    public int getRangeDigestBuckets() {
+        return rangeDigestBuckets;
+    }
+
+    @Override
+    public int getRangeDigestLeafSize() {
+        return rangeDigestLeafSize;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (o instanceof DefaultBackgroundSyncConfig) {
@@ -172,6 +193,9 @@ public final class DefaultBackgroundSyncConfig implements BackgroundSyncConfig {
                     Objects.equals(maxBackoff, that.maxBackoff) &&
                     maxRestarts == that.maxRestarts &&
                     Objects.equals(recovery, that.recovery) &&
+                    rangeDigestEnabled == that.rangeDigestEnabled &&
+                    rangeDigestBuckets == that.rangeDigestBuckets &&
+                    rangeDigestLeafSize == that.rangeDigestLeafSize &&
                     Objects.equals(config, that.config);
         } else {
             return false;
@@ -181,7 +205,8 @@ public final class DefaultBackgroundSyncConfig implements BackgroundSyncConfig {
     @Override
     public int hashCode() {
         return Objects.hash(enabled, quietPeriod, idleTimeout, keptEvents, toleranceWindow, policyAskTimeout,
-                throttleThroughput, throttlePeriod, minBackoff, maxBackoff, maxRestarts, recovery, config);
+                throttleThroughput, throttlePeriod, minBackoff, maxBackoff, maxRestarts, recovery,
+                rangeDigestEnabled, rangeDigestBuckets, rangeDigestLeafSize, config);
     }
 
     @Override
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.internal.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link QueryPlanAdvisorConfig}.
+ */
+@Immutable
+public final class DefaultQueryPlanAdvisorConfig implements QueryPlanAdvisorConfig {
+
+    private static final String CONFIG_PATH = "plan-advisor";
+    private static final String SHAPE_CACHE_CONFIG_PATH = "shape-cache";
+
+    private final boolean enabled;
+    private final Duration slowQueryThreshold;
+    private final Duration explainInterval;
+    private final int hintTrialExecutions;
+    private final CacheConfig shapeCacheConfig;
+
+    private DefaultQueryPlanAdvisorConfig(final ConfigWithFallback config) {
+        enabled = config.getBoolean(ConfigValue.ENABLED.getConfigPath());
+        slowQueryThreshold = config.getNonNegativeDurationOrThrow(ConfigValue.SLOW_QUERY_THRESHOLD);
+        explainInterval = config.getNonNegativeDurationOrThrow(ConfigValue.EXPLAIN_INTERVAL);
+        hintTrialExecutions = config.getPositiveIntOrThrow(ConfigValue.HINT_TRIAL_EXECUTIONS);
+        shapeCacheConfig = DefaultCacheConfig.of(config, SHAPE_CACHE_CONFIG_PATH);
+    }
+
+    /**
+     * Returns an instance of DefaultQueryPlanAdvisorConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the query plan advisor config at {@value CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultQueryPlanAdvisorConfig of(final Config config) {
+        return new DefaultQueryPlanAdvisorConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public Duration getSlowQueryThreshold() {
+        return slowQueryThreshold;
+    }
+
+    @Override
+    public Duration getExplainInterval() {
+        return explainInterval;
+    }
+
+    @Override
+    public int getHintTrialExecutions() {
+        return hintTrialExecutions;
+    }
+
+    @Override
+    public CacheConfig getShapeCacheConfig() {
+        return shapeCacheConfig;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultQueryPlanAdvisorConfig that = (DefaultQueryPlanAdvisorConfig) o;
+        return enabled == that.enabled &&
+                Objects.equals(slowQueryThreshold, that.slowQueryThreshold) &&
+                Objects.equals(explainInterval, that.explainInterval) &&
+                hintTrialExecutions == that.hintTrialExecutions &&
+                Objects.equals(shapeCacheConfig, that.shapeCacheConfig);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, slowQueryThreshold, explainInterval, hintTrialExecutions, shapeCacheConfig);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", slowQueryThreshold=" + slowQueryThreshold +
+                ", explainInterval=" + explainInterval +
+                ", hintTrialExecutions=" + hintTrialExecutions +
+                ", shapeCacheConfig=" + shapeCacheConfig +
+                "]";
+    }
+
+}
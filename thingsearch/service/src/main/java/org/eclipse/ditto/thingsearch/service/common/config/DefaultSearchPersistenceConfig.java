@@ -35,6 +35,8 @@ public final class DefaultSearchPersistenceConfig implements SearchPersistenceCo
 
     private final ReadPreference readPreference;
     private final ReadConcern readConcern;
+    private final int maxAggregationGroups;
+    private final QueryPlanAdvisorConfig queryPlanAdvisorConfig;
 
 
     private DefaultSearchPersistenceConfig(final ConfigWithFallback config) {
@@ -56,6 +58,8 @@ public final class DefaultSearchPersistenceConfig implements SearchPersistenceCo
                                     readConcernString);
                     return new DittoConfigError(msg);
                 });
+        maxAggregationGroups = config.getPositiveIntOrThrow(ConfigValue.MAX_AGGREGATION_GROUPS);
+        queryPlanAdvisorConfig = DefaultQueryPlanAdvisorConfig.of(config);
     }
 
     /**
@@ -80,6 +84,16 @@ public final class DefaultSearchPersistenceConfig implements SearchPersistenceCo
         return readConcern;
     }
 
+    @Override
+    public int maxAggregationGroups() {
+        return maxAggregationGroups;
+    }
+
+    @Override
+    public QueryPlanAdvisorConfig getQueryPlanAdvisorConfig() {
+        return queryPlanAdvisorConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -89,12 +103,14 @@ public final class DefaultSearchPersistenceConfig implements SearchPersistenceCo
             return false;
         }
         final DefaultSearchPersistenceConfig that = (DefaultSearchPersistenceConfig) o;
-        return readPreference == that.readPreference && readConcern == that.readConcern;
+        return readPreference == that.readPreference && readConcern == that.readConcern &&
+                maxAggregationGroups == that.maxAggregationGroups &&
+                Objects.equals(queryPlanAdvisorConfig, that.queryPlanAdvisorConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(readPreference, readConcern);
+        return Objects.hash(readPreference, readConcern, maxAggregationGroups, queryPlanAdvisorConfig);
     }
 
     @Override
@@ -102,6 +118,8 @@ public final class DefaultSearchPersistenceConfig implements SearchPersistenceCo
         return getClass().getSimpleName() + " [" +
                 "readPreference=" + readPreference +
                 ", readConcern=" + readConcern +
+                ", maxAggregationGroups=" + maxAggregationGroups +
+                ", queryPlanAdvisorConfig=" + queryPlanAdvisorConfig +
                 "]";
     }
 }
@@ -39,6 +39,10 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
     private final boolean forceUpdateAfterStartEnabled;
     private final Duration forceUpdateAfterStartTimeout;
     private final double forceUpdateAfterStartRandomFactor;
+    private final boolean partitionedIngestionEnabled;
+    private final int partitionedIngestionMaxBulkSize;
+    private final boolean consistencyLagPerNamespaceEnabled;
+    private final int consistencyLagMaxTrackedThings;
     private final BackgroundSyncConfig backgroundSyncConfig;
     private final StreamConfig streamConfig;
     private final SearchPersistenceConfig updaterPersistenceConfig;
@@ -57,6 +61,14 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
                 UpdaterConfigValue.FORCE_UPDATE_AFTER_START_TIMEOUT);
         forceUpdateAfterStartRandomFactor = updaterScopedConfig.getDouble(
                 UpdaterConfigValue.FORCE_UPDATE_AFTER_START_RANDOM_FACTOR.getConfigPath());
+        partitionedIngestionEnabled =
+                updaterScopedConfig.getBoolean(UpdaterConfigValue.PARTITIONED_INGESTION_ENABLED.getConfigPath());
+        partitionedIngestionMaxBulkSize =
+                updaterScopedConfig.getPositiveIntOrThrow(UpdaterConfigValue.PARTITIONED_INGESTION_MAX_BULK_SIZE);
+        consistencyLagPerNamespaceEnabled = updaterScopedConfig.getBoolean(
+                UpdaterConfigValue.CONSISTENCY_LAG_PER_NAMESPACE_ENABLED.getConfigPath());
+        consistencyLagMaxTrackedThings =
+                updaterScopedConfig.getPositiveIntOrThrow(UpdaterConfigValue.CONSISTENCY_LAG_MAX_TRACKED_THINGS);
         backgroundSyncConfig = DefaultBackgroundSyncConfig.fromUpdaterConfig(updaterScopedConfig);
         streamConfig = DefaultStreamConfig.of(updaterScopedConfig);
         updaterPersistenceConfig = DefaultSearchPersistenceConfig.of(updaterScopedConfig);
@@ -109,6 +121,26 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
         return forceUpdateAfterStartRandomFactor;
     }
 
+    @Override
+    public boolean isPartitionedIngestionEnabled() {
+        return partitionedIngestionEnabled;
+    }
+
+    @Override
+    public int getPartitionedIngestionMaxBulkSize() {
+        return partitionedIngestionMaxBulkSize;
+    }
+
+    @Override
+    public boolean isConsistencyLagPerNamespaceEnabled() {
+        return consistencyLagPerNamespaceEnabled;
+    }
+
+    @Override
+    public int getConsistencyLagMaxTrackedThings() {
+        return consistencyLagMaxTrackedThings;
+    }
+
     @Override
     public BackgroundSyncConfig getBackgroundSyncConfig() {
         return backgroundSyncConfig;
@@ -140,6 +172,10 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
                 forceUpdateAfterStartEnabled == that.forceUpdateAfterStartEnabled &&
                 Objects.equals(forceUpdateAfterStartTimeout, that.forceUpdateAfterStartTimeout) &&
                 Double.compare(forceUpdateAfterStartRandomFactor, that.forceUpdateAfterStartRandomFactor) == 0 &&
+                partitionedIngestionEnabled == that.partitionedIngestionEnabled &&
+                partitionedIngestionMaxBulkSize == that.partitionedIngestionMaxBulkSize &&
+                consistencyLagPerNamespaceEnabled == that.consistencyLagPerNamespaceEnabled &&
+                consistencyLagMaxTrackedThings == that.consistencyLagMaxTrackedThings &&
                 Objects.equals(backgroundSyncConfig, that.backgroundSyncConfig) &&
                 Objects.equals(streamConfig, that.streamConfig) &&
                 Objects.equals(updaterPersistenceConfig, that.updaterPersistenceConfig);
@@ -149,7 +185,8 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
     public int hashCode() {
         return Objects.hash(maxIdleTime, shardingStatePollInterval, eventProcessingActive, forceUpdateProbability,
                 forceUpdateAfterStartEnabled, forceUpdateAfterStartTimeout, forceUpdateAfterStartRandomFactor,
-                backgroundSyncConfig, streamConfig, updaterPersistenceConfig);
+                partitionedIngestionEnabled, partitionedIngestionMaxBulkSize, consistencyLagPerNamespaceEnabled,
+                consistencyLagMaxTrackedThings, backgroundSyncConfig, streamConfig, updaterPersistenceConfig);
     }
 
     @Override
@@ -162,6 +199,10 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
                 ", forceUpdateAfterStartEnabled=" + forceUpdateAfterStartEnabled +
                 ", forceUpdateAfterStartTimeout=" + forceUpdateAfterStartTimeout +
                 ", forceUpdateAfterStartRandomFactor=" + forceUpdateAfterStartRandomFactor +
+                ", partitionedIngestionEnabled=" + partitionedIngestionEnabled +
+                ", partitionedIngestionMaxBulkSize=" + partitionedIngestionMaxBulkSize +
+                ", consistencyLagPerNamespaceEnabled=" + consistencyLagPerNamespaceEnabled +
+                ", consistencyLagMaxTrackedThings=" + consistencyLagMaxTrackedThings +
                 ", backgroundSyncConfig=" + backgroundSyncConfig +
                 ", streamConfig=" + streamConfig +
                 ", updaterPersistenceConfig=" + updaterPersistenceConfig +
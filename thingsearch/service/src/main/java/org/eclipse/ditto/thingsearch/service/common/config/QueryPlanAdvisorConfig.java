@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings of the query plan advisor which records the execution of search queries per query
+ * shape, pins an alternative index for slow shapes as hint if it proves faster and recommends indexes.
+ */
+@Immutable
+public interface QueryPlanAdvisorConfig {
+
+    /**
+     * Indicates whether the query plan advisor is enabled.
+     *
+     * @return whether the query plan advisor is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the execution time above which a query is considered slow and the plan of its shape is explained.
+     *
+     * @return the slow query threshold.
+     */
+    Duration getSlowQueryThreshold();
+
+    /**
+     * Returns the minimum interval between two explanations of the plan of the same query shape.
+     *
+     * @return the explain interval.
+     */
+    Duration getExplainInterval();
+
+    /**
+     * Returns the number of queries of a slow shape executed with an alternative index as hint before the hint is
+     * either pinned, if those queries were faster than the queries without hint, or discarded.
+     *
+     * @return the number of hint trial executions.
+     */
+    int getHintTrialExecutions();
+
+    /**
+     * Returns the config of the cache holding the statistics per query shape.
+     *
+     * @return the shape cache config.
+     */
+    CacheConfig getShapeCacheConfig();
+
+    /**
+     * An enumeration of known config path expressions and their associated default values for
+     * {@code QueryPlanAdvisorConfig}.
+     */
+    enum ConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the query plan advisor is enabled.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The execution time above which a query is considered slow.
+         */
+        SLOW_QUERY_THRESHOLD("slow-query-threshold", Duration.ofSeconds(1L)),
+
+        /**
+         * The minimum interval between two explanations of the plan of the same query shape.
+         */
+        EXPLAIN_INTERVAL("explain-interval", Duration.ofMinutes(10L)),
+
+        /**
+         * The number of queries executed with an alternative index as hint before the hint is pinned or discarded.
+         */
+        HINT_TRIAL_EXECUTIONS("hint-trial-executions", 10);
+
+        private final String configPath;
+        private final Object defaultValue;
+
+        ConfigValue(final String configPath, final Object defaultValue) {
+            this.configPath = configPath;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return configPath;
+        }
+
+    }
+
+}
@@ -38,6 +38,21 @@ public interface SearchPersistenceConfig {
      */
     ReadConcern readConcern();
 
+    /**
+     * Returns the maximum number of groups returned by an aggregation of things. Aggregations yielding more groups
+     * fail.
+     *
+     * @return the maximum number of groups.
+     */
+    int maxAggregationGroups();
+
+    /**
+     * Returns the config of the query plan advisor.
+     *
+     * @return the query plan advisor config.
+     */
+    QueryPlanAdvisorConfig getQueryPlanAdvisorConfig();
+
     /**
      * An enumeration of known config path expressions and their associated default values for {@code SearchPersistenceConfig}.
      */
@@ -51,7 +66,12 @@ public interface SearchPersistenceConfig {
         /**
          * Determines the read concern used for MongoDB connections. See {@link ReadConcern} for available options.
          */
-        READ_CONCERN("readConcern", "default");
+        READ_CONCERN("readConcern", "default"),
+
+        /**
+         * The maximum number of groups returned by an aggregation of things.
+         */
+        MAX_AGGREGATION_GROUPS("max-aggregation-groups", 1000);
 
         private final String configPath;
         private final Object defaultValue;
@@ -81,6 +81,36 @@ public interface UpdaterConfig {
      */
     double getForceUpdateAfterStartRandomFactor();
 
+    /**
+     * Indicates whether events are ingested by one long-lived partition per shard of the search updater shard region,
+     * which persists its dirty things with bulk writes, instead of by one ThingUpdater per thing.
+     *
+     * @return whether partitioned ingestion is enabled.
+     */
+    boolean isPartitionedIngestionEnabled();
+
+    /**
+     * Returns the maximum number of things a partition persists with one bulk write in partitioned ingestion mode.
+     *
+     * @return the maximum bulk size.
+     */
+    int getPartitionedIngestionMaxBulkSize();
+
+    /**
+     * Returns whether the consistency lag metrics of the search updater are tagged with the namespace of the things.
+     *
+     * @return whether consistency lag metrics are reported per namespace.
+     */
+    boolean isConsistencyLagPerNamespaceEnabled();
+
+    /**
+     * Returns the maximum number of things with pending search index updates whose consistency lag is tracked by
+     * one search updater instance.
+     *
+     * @return the maximum number of tracked things.
+     */
+    int getConsistencyLagMaxTrackedThings();
+
     /**
      * Returns configuration for the background sync actor.
      *
@@ -142,7 +172,27 @@ public interface UpdaterConfig {
         /**
          * Random factor added to "force-update-after-start-timeout" to avoid database load spikes.
          */
-        FORCE_UPDATE_AFTER_START_RANDOM_FACTOR("force-update-after-start-random-factor", 1.0);
+        FORCE_UPDATE_AFTER_START_RANDOM_FACTOR("force-update-after-start-random-factor", 1.0),
+
+        /**
+         * Whether events are ingested by one partition per shard instead of by one ThingUpdater per thing.
+         */
+        PARTITIONED_INGESTION_ENABLED("partitioned-ingestion.enabled", false),
+
+        /**
+         * The maximum number of things a partition persists with one bulk write.
+         */
+        PARTITIONED_INGESTION_MAX_BULK_SIZE("partitioned-ingestion.max-bulk-size", 250),
+
+        /**
+         * Whether consistency lag metrics are tagged with the namespace of the things.
+         */
+        CONSISTENCY_LAG_PER_NAMESPACE_ENABLED("consistency-lag.per-namespace-enabled", true),
+
+        /**
+         * The maximum number of things with pending updates whose consistency lag is tracked.
+         */
+        CONSISTENCY_LAG_MAX_TRACKED_THINGS("consistency-lag.max-tracked-things", 10_000);
 
         private final String path;
         private final Object defaultValue;
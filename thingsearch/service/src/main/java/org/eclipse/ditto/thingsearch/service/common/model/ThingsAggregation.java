@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.model;
+
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.rql.query.Query;
+import org.eclipse.ditto.rql.query.expression.SortFieldExpression;
+
+/**
+ * Parsed aggregation of things: the things matching the query are grouped by the values of the group fields and the
+ * accumulators are computed for each group.
+ *
+ * @param query the query selecting the things to aggregate.
+ * @param groupBy the fields to group the things by.
+ * @param accumulators the accumulators to compute for each group.
+ */
+public record ThingsAggregation(Query query, List<GroupField> groupBy, List<Accumulator> accumulators) {
+
+    /**
+     * A field to group things by.
+     *
+     * @param name the name of the field as requested, e.g. {@code attributes/firmware}.
+     * @param expression the expression of the field.
+     */
+    public record GroupField(String name, SortFieldExpression expression) {}
+
+    /**
+     * A value computed for each group.
+     *
+     * @param name the name of the accumulator as requested, e.g. {@code avg(attributes/battery)}.
+     * @param operator the operator.
+     * @param expression the expression of the field to accumulate, or {@code null} for {@link Operator#COUNT}.
+     */
+    public record Accumulator(String name, Operator operator, @Nullable SortFieldExpression expression) {}
+
+    /**
+     * Operators of accumulators.
+     */
+    public enum Operator {
+        COUNT, SUM, MIN, MAX, AVG
+    }
+
+}
@@ -12,10 +12,15 @@
  */
 package org.eclipse.ditto.thingsearch.service.persistence.query;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+import org.eclipse.ditto.base.model.exceptions.InvalidRqlExpressionException;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.rql.model.ParserException;
 import org.eclipse.ditto.rql.model.predicates.PredicateParser;
@@ -26,14 +31,17 @@ import org.eclipse.ditto.rql.query.QueryBuilder;
 import org.eclipse.ditto.rql.query.QueryBuilderFactory;
 import org.eclipse.ditto.rql.query.criteria.Criteria;
 import org.eclipse.ditto.rql.query.criteria.CriteriaFactory;
+import org.eclipse.ditto.rql.query.expression.SortFieldExpression;
 import org.eclipse.ditto.rql.query.expression.ThingsFieldExpressionFactory;
 import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
 import org.eclipse.ditto.thingsearch.api.commands.sudo.StreamThings;
 import org.eclipse.ditto.thingsearch.api.commands.sudo.SudoCountThings;
 import org.eclipse.ditto.thingsearch.api.query.filter.ParameterOptionVisitor;
 import org.eclipse.ditto.thingsearch.model.signals.commands.exceptions.InvalidOptionException;
+import org.eclipse.ditto.thingsearch.model.signals.commands.query.AggregateThings;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.QueryThings;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.ThingSearchQueryCommand;
+import org.eclipse.ditto.thingsearch.service.common.model.ThingsAggregation;
 import org.eclipse.ditto.thingsearch.service.persistence.query.validation.QueryCriteriaValidator;
 
 /**
@@ -41,6 +49,9 @@ import org.eclipse.ditto.thingsearch.service.persistence.query.validation.QueryC
  */
 public final class QueryParser {
 
+    private static final Pattern AGGREGATION_PATTERN =
+            Pattern.compile("(?<operator>count|sum|min|max|avg)(\\((?<field>[^()]*)\\))?");
+
     private final QueryFilterCriteriaFactory queryFilterCriteriaFactory;
     private final ThingsFieldExpressionFactory fieldExpressionFactory;
     private final QueryBuilderFactory queryBuilderFactory;
@@ -100,6 +111,99 @@ public final class QueryParser {
         return queryCriteriaValidator.validateQuery(command, query);
     }
 
+    /**
+     * Parses an AggregateThings command into an aggregation. Things which do not contain a field to group by or to
+     * accumulate, or which do not grant read access on it, are not aggregated. Object and array values of those fields
+     * are aggregated as {@code null}, as they may contain fields without read access.
+     *
+     * @param command the command.
+     * @return the aggregation.
+     * @throws InvalidRqlExpressionException if a field or an aggregation of the command is invalid.
+     */
+    public CompletionStage<ThingsAggregation> parseAggregation(final AggregateThings command) {
+        final DittoHeaders headers = command.getDittoHeaders();
+        final List<ThingsAggregation.GroupField> groupBy = command.getGroupBy()
+                .stream()
+                .map(field -> new ThingsAggregation.GroupField(field, parseAggregatedField(field, headers)))
+                .toList();
+        final List<String> aggregatedFields = new ArrayList<>(command.getGroupBy());
+        final List<ThingsAggregation.Accumulator> accumulators = new ArrayList<>();
+        for (final String aggregation : command.getAggregations()) {
+            final Matcher matcher = AGGREGATION_PATTERN.matcher(aggregation);
+            final ThingsAggregation.Accumulator accumulator = parseAccumulator(aggregation, matcher, headers);
+            if (null != accumulator.expression()) {
+                aggregatedFields.add(matcher.group("field"));
+            }
+            accumulators.add(accumulator);
+        }
+
+        // restrict the aggregation to things which grant read access on all aggregated fields
+        final CriteriaFactory criteriaFactory = getCriteriaFactory();
+        final List<Criteria> criteria = new ArrayList<>();
+        criteria.add(parseCriteria(command));
+        aggregatedFields.forEach(field -> criteria.add(existsCriteria(criteriaFactory, field, headers)));
+
+        final Query query = queryBuilderFactory.newUnlimitedBuilder(criteriaFactory.and(criteria)).build();
+        return queryCriteriaValidator.validateQuery(command, query)
+                .thenApply(validatedQuery -> new ThingsAggregation(validatedQuery, groupBy, accumulators));
+    }
+
+    private ThingsAggregation.Accumulator parseAccumulator(final String aggregation, final Matcher matcher,
+            final DittoHeaders headers) {
+
+        if (!matcher.matches()) {
+            throw invalidAggregation(aggregation, headers);
+        }
+        final ThingsAggregation.Operator operator =
+                ThingsAggregation.Operator.valueOf(matcher.group("operator").toUpperCase());
+        final String field = matcher.group("field");
+        if (operator == ThingsAggregation.Operator.COUNT) {
+            if (null != field && !field.isEmpty()) {
+                throw invalidAggregation(aggregation, headers);
+            }
+            return new ThingsAggregation.Accumulator(aggregation, operator, null);
+        } else if (null == field || field.isEmpty()) {
+            throw invalidAggregation(aggregation, headers);
+        } else {
+            return new ThingsAggregation.Accumulator(aggregation, operator, parseAggregatedField(field, headers));
+        }
+    }
+
+    private SortFieldExpression parseAggregatedField(final String field, final DittoHeaders headers) {
+        try {
+            return fieldExpressionFactory.sortBy(field);
+        } catch (final IllegalArgumentException e) {
+            throw invalidAggregatedField(field, e, headers);
+        }
+    }
+
+    private Criteria existsCriteria(final CriteriaFactory criteriaFactory, final String field,
+            final DittoHeaders headers) {
+        try {
+            return criteriaFactory.existsCriteria(fieldExpressionFactory.existsBy(field));
+        } catch (final IllegalArgumentException e) {
+            throw invalidAggregatedField(field, e, headers);
+        }
+    }
+
+    private static InvalidRqlExpressionException invalidAggregatedField(final String field,
+            final IllegalArgumentException cause, final DittoHeaders headers) {
+        return InvalidRqlExpressionException.newBuilder()
+                .message("The field <" + field + "> can not be aggregated.")
+                .cause(cause)
+                .dittoHeaders(headers)
+                .build();
+    }
+
+    private static InvalidRqlExpressionException invalidAggregation(final String aggregation,
+            final DittoHeaders headers) {
+        return InvalidRqlExpressionException.newBuilder()
+                .message("The aggregation <" + aggregation + "> is invalid.")
+                .description("Use one of 'count', 'sum(<field>)', 'min(<field>)', 'max(<field>)' or 'avg(<field>)'.")
+                .dittoHeaders(headers)
+                .build();
+    }
+
     private Criteria parseCriteria(final ThingSearchQueryCommand<?> command) {
 
         final DittoHeaders headers = command.getDittoHeaders();
@@ -0,0 +1,485 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.internal.utils.cache.Cache;
+import org.eclipse.ditto.internal.utils.cache.CacheFactory;
+import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJson;
+import org.eclipse.ditto.internal.utils.persistence.mongo.indices.Index;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.thingsearch.service.common.config.QueryPlanAdvisorConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.Indices;
+
+import com.mongodb.ExplainVerbosity;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.mongodb.reactivestreams.client.MongoCollection;
+
+import akka.NotUsed;
+import akka.actor.ActorSystem;
+import akka.event.LoggingAdapter;
+import akka.stream.Materializer;
+import akka.stream.SystemMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+
+/**
+ * Records the execution time of search queries per {@link QueryShape}.
+ * The plan of a shape is explained when one of its queries is slow. The plans MongoDB considered besides the chosen one
+ * are compared by their trial execution, and the index of the most efficient alternative is tried as hint for the
+ * next queries of the shape. The hint is pinned only if those queries were faster on average than the queries without
+ * hint, otherwise it is discarded. The slowest shapes are reported together with a recommended index.
+ * <p>
+ * Statistics expire according to the shape cache config, which re-evaluates pinned and discarded hints periodically.
+ */
+final class MongoQueryPlanAdvisor {
+
+    private static final String STAGE = "stage";
+    private static final String INDEX_NAME = "indexName";
+    private static final String COLLSCAN = "COLLSCAN";
+    private static final String IXSCAN = "IXSCAN";
+
+    private final MongoCollection<Document> collection;
+    private final QueryPlanAdvisorConfig config;
+    private final Duration maxQueryTime;
+    private final Cache<QueryShape, ShapeStatistics> statistics;
+    private final Materializer materializer;
+    private final LoggingAdapter log;
+
+    private MongoQueryPlanAdvisor(final MongoCollection<Document> collection,
+            final QueryPlanAdvisorConfig config,
+            final Duration maxQueryTime,
+            final ActorSystem actorSystem,
+            final LoggingAdapter log) {
+
+        this.collection = collection;
+        this.config = config;
+        this.maxQueryTime = maxQueryTime;
+        statistics = CacheFactory.createCache(config.getShapeCacheConfig(), "ditto_search_query_shape_cache",
+                actorSystem.dispatcher());
+        materializer = SystemMaterializer.get(actorSystem).materializer();
+        this.log = log;
+    }
+
+    /**
+     * Create a query plan advisor for the search collection.
+     *
+     * @param collection the search collection.
+     * @param config the query plan advisor config.
+     * @param maxQueryTime the maximum execution time of queries to explain.
+     * @param actorSystem the actor system.
+     * @param log the logger.
+     * @return the query plan advisor.
+     */
+    static MongoQueryPlanAdvisor of(final MongoCollection<Document> collection,
+            final QueryPlanAdvisorConfig config,
+            final Duration maxQueryTime,
+            final ActorSystem actorSystem,
+            final LoggingAdapter log) {
+
+        return new MongoQueryPlanAdvisor(collection, config, maxQueryTime, actorSystem, log);
+    }
+
+    /**
+     * Get the hint pinned or tried for a query shape.
+     *
+     * @param shape the query shape.
+     * @return the hint if any.
+     */
+    Optional<Bson> getHint(final QueryShape shape) {
+        if (!config.isEnabled()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(statistics.asMap().get(shape))
+                .flatMap(ShapeStatistics::getHintIndex)
+                .map(Index::getKeys);
+    }
+
+    /**
+     * Record the execution of a query and explain the plan of its shape if the query was slow.
+     *
+     * @param shape the shape of the query.
+     * @param hint the hint the query was executed with, or null if it was executed without hint.
+     * @param filter the filter of the query.
+     * @param sort the sort of the query, or null if the query is not sorted.
+     * @param limit the limit of the query, or null if the query is not limited.
+     * @param duration the execution time of the query.
+     */
+    void recordExecution(final QueryShape shape, @Nullable final Bson hint, final BsonDocument filter,
+            @Nullable final Bson sort, @Nullable final Integer limit, final Duration duration) {
+
+        if (!config.isEnabled()) {
+            return;
+        }
+        final ShapeStatistics shapeStatistics =
+                statistics.asMap().computeIfAbsent(shape, s -> new ShapeStatistics());
+        shapeStatistics.record(hint, duration, config.getHintTrialExecutions())
+                .ifPresent(trialResult -> log.info("Hint <{}> for query shape <{}> sorted by <{}> was {}.",
+                        trialResult.index().getName(), shape.filter(), shape.sort(),
+                        trialResult.pinned() ? "faster and is pinned" : "not faster and is discarded"));
+        // only queries without hint are explained: the plans MongoDB considers on its own are of interest
+        if (hint == null && duration.compareTo(config.getSlowQueryThreshold()) >= 0 &&
+                shapeStatistics.tryStartExplain(config.getExplainInterval())) {
+            explain(shape, shapeStatistics, filter, sort, limit);
+        }
+    }
+
+    /**
+     * Report the slowest query shapes by mean execution time.
+     *
+     * @param limit the maximum number of shapes to report.
+     * @return a JSON object for each shape with its statistics, its plan if it was explained, its pinned or tried
+     * hint and the recommended index.
+     */
+    Source<JsonObject, NotUsed> recommendIndexes(final int limit) {
+        final List<JsonObject> recommendations = statistics.asMap()
+                .entrySet()
+                .stream()
+                .sorted(Comparator.comparingDouble(
+                        (Map.Entry<QueryShape, ShapeStatistics> entry) -> entry.getValue().getMeanMillis())
+                        .reversed())
+                .limit(limit)
+                .map(entry -> toRecommendation(entry.getKey(), entry.getValue()))
+                .toList();
+        return Source.from(recommendations);
+    }
+
+    private void explain(final QueryShape shape, final ShapeStatistics shapeStatistics, final BsonDocument filter,
+            @Nullable final Bson sort, @Nullable final Integer limit) {
+
+        FindPublisher<Document> findPublisher = collection.find(filter)
+                .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS);
+        if (sort != null) {
+            findPublisher = findPublisher.sort(sort);
+        }
+        if (limit != null) {
+            findPublisher = findPublisher.limit(limit);
+        }
+        Source.fromPublisher(findPublisher.explain(BsonDocument.class, ExplainVerbosity.ALL_PLANS_EXECUTIONS))
+                .map(Plan::fromExplanation)
+                .runWith(Sink.headOption(), materializer)
+                .whenComplete((plan, error) -> {
+                    if (error != null) {
+                        log.warning("Failed to explain query shape <{}>: {}", shape.filter(), error);
+                        shapeStatistics.setPlan(null);
+                    } else {
+                        final Plan explainedPlan = plan.orElse(null);
+                        log.info("Explained slow query shape <{}> sorted by <{}>: {}", shape.filter(), shape.sort(),
+                                explainedPlan);
+                        shapeStatistics.setPlan(explainedPlan);
+                    }
+                });
+    }
+
+    private static JsonObject toRecommendation(final QueryShape shape, final ShapeStatistics shapeStatistics) {
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder()
+                .set("filter", shape.filter())
+                .set("sort", shape.sort())
+                .set("executions", shapeStatistics.getExecutions())
+                .set("meanMillis", shapeStatistics.getMeanMillis())
+                .set("maxMillis", shapeStatistics.getMaxMillis());
+        shapeStatistics.getPlan().ifPresent(plan -> builder.set("plan", plan.toJson()));
+        shapeStatistics.getPinnedIndex().ifPresent(index -> builder.set("hint", index.getName()));
+        shapeStatistics.getTrialIndex().ifPresent(index -> builder.set("trialHint", index.getName()));
+        shape.recommendIndex()
+                .ifPresent(keys -> builder.set("recommendedIndex", DittoBsonJson.getInstance().serialize(keys)));
+        return builder.build();
+    }
+
+    /**
+     * Statistics of the executions of one query shape.
+     */
+    private static final class ShapeStatistics {
+
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+        private final Durations withoutHint = new Durations();
+        private final Set<String> discardedIndexNames = ConcurrentHashMap.newKeySet();
+        private final AtomicBoolean explaining = new AtomicBoolean(false);
+        private final AtomicLong lastExplainedMillis = new AtomicLong(0L);
+        private final AtomicReference<HintTrial> trial = new AtomicReference<>();
+        @Nullable private volatile Plan plan;
+        @Nullable private volatile Index pinnedIndex;
+
+        private Optional<TrialResult> record(@Nullable final Bson hint, final Duration duration,
+                final int trialExecutions) {
+
+            final long nanos = duration.toNanos();
+            executions.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            if (hint == null) {
+                withoutHint.add(nanos);
+                return Optional.empty();
+            }
+            final HintTrial currentTrial = trial.get();
+            if (currentTrial == null || !currentTrial.index().getKeys().equals(hint)) {
+                // executed with the pinned hint, a configured hint or a finished trial
+                return Optional.empty();
+            }
+            currentTrial.durations().add(nanos);
+            if (currentTrial.durations().getCount() < trialExecutions || !trial.compareAndSet(currentTrial, null)) {
+                return Optional.empty();
+            }
+            final boolean faster = currentTrial.durations().getMeanNanos() < currentTrial.meanNanosWithoutHint();
+            if (faster) {
+                pinnedIndex = currentTrial.index();
+            } else {
+                discardedIndexNames.add(currentTrial.index().getName());
+            }
+            return Optional.of(new TrialResult(currentTrial.index(), faster));
+        }
+
+        private boolean tryStartExplain(final Duration explainInterval) {
+            final long now = Instant.now().toEpochMilli();
+            if (now - lastExplainedMillis.get() >= explainInterval.toMillis() &&
+                    explaining.compareAndSet(false, true)) {
+                lastExplainedMillis.set(now);
+                return true;
+            }
+            return false;
+        }
+
+        private void setPlan(@Nullable final Plan plan) {
+            if (plan != null) {
+                this.plan = plan;
+                if (pinnedIndex == null) {
+                    plan.getAlternativeIndex(discardedIndexNames).ifPresent(index ->
+                            trial.compareAndSet(null, new HintTrial(index, withoutHint.getMeanNanos(),
+                                    new Durations())));
+                }
+            }
+            explaining.set(false);
+        }
+
+        private Optional<Plan> getPlan() {
+            return Optional.ofNullable(plan);
+        }
+
+        private Optional<Index> getPinnedIndex() {
+            return Optional.ofNullable(pinnedIndex);
+        }
+
+        private Optional<Index> getTrialIndex() {
+            return Optional.ofNullable(trial.get()).map(HintTrial::index);
+        }
+
+        private Optional<Index> getHintIndex() {
+            return getPinnedIndex().or(this::getTrialIndex);
+        }
+
+        private long getExecutions() {
+            return executions.sum();
+        }
+
+        private double getMeanMillis() {
+            final long count = executions.sum();
+            return count == 0 ? 0.0 : totalNanos.sum() / (count * 1_000_000.0);
+        }
+
+        private double getMaxMillis() {
+            return maxNanos.get() / 1_000_000.0;
+        }
+
+    }
+
+    /**
+     * Execution times of queries.
+     */
+    private static final class Durations {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+
+        private void add(final long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+        }
+
+        private long getCount() {
+            return count.sum();
+        }
+
+        private double getMeanNanos() {
+            final long theCount = count.sum();
+            return theCount == 0 ? 0.0 : totalNanos.sum() / (double) theCount;
+        }
+
+    }
+
+    /**
+     * Queries of a shape executed with an alternative index as hint.
+     *
+     * @param index the alternative index.
+     * @param meanNanosWithoutHint the mean execution time of the queries of the shape without hint.
+     * @param durations the execution times of the queries with the alternative index as hint.
+     */
+    private record HintTrial(Index index, double meanNanosWithoutHint, Durations durations) {}
+
+    private record TrialResult(Index index, boolean pinned) {}
+
+    /**
+     * Summary of the explanation of a query plan.
+     *
+     * @param stage the access stage of the winning plan, e.g. IXSCAN or COLLSCAN.
+     * @param indexName the name of the index scanned by the winning plan, if any.
+     * @param docsExamined the number of examined documents.
+     * @param keysExamined the number of examined index keys.
+     * @param returned the number of returned documents.
+     * @param candidates the trial executions of all plans MongoDB considered, including the winning plan.
+     */
+    private record Plan(String stage, @Nullable String indexName, long docsExamined, long keysExamined,
+                        long returned, List<Candidate> candidates) {
+
+        private static Plan fromExplanation(final BsonDocument explanation) {
+            final BsonDocument queryPlanner = explanation.getDocument("queryPlanner", new BsonDocument());
+            final BsonDocument winningPlan = queryPlanner.getDocument("winningPlan", new BsonDocument());
+            final BsonDocument executionStats = explanation.getDocument("executionStats", new BsonDocument());
+            final Optional<BsonDocument> indexScan = findStage(winningPlan, IXSCAN);
+            final String stage = findStage(winningPlan, COLLSCAN).isPresent() || indexScan.isEmpty()
+                    ? COLLSCAN
+                    : IXSCAN;
+            final List<Candidate> candidates = executionStats.getArray("allPlansExecution", new BsonArray())
+                    .stream()
+                    .filter(BsonValue::isDocument)
+                    .map(candidate -> Candidate.fromExecution(candidate.asDocument()))
+                    .toList();
+            return new Plan(stage, getIndexName(indexScan),
+                    getLong(executionStats, "totalDocsExamined"),
+                    getLong(executionStats, "totalKeysExamined"),
+                    getLong(executionStats, "nReturned"),
+                    candidates);
+        }
+
+        /**
+         * Returns the search index of the most efficient plan besides the winning plan. MongoDB only compares the
+         * plans for a short trial period, so the returned index has to prove itself as hint.
+         */
+        private Optional<Index> getAlternativeIndex(final Set<String> discardedIndexNames) {
+            return candidates.stream()
+                    .filter(candidate -> candidate.indexName() != null &&
+                            !candidate.indexName().equals(indexName) &&
+                            !discardedIndexNames.contains(candidate.indexName()))
+                    .sorted(Comparator.comparingDouble(Candidate::getExaminedPerReturned))
+                    .flatMap(candidate -> getSearchIndex(candidate.indexName()).stream())
+                    .findFirst();
+        }
+
+        private JsonObject toJson() {
+            final JsonObjectBuilder builder = JsonFactory.newObjectBuilder().set(STAGE, stage);
+            if (indexName != null) {
+                builder.set("index", indexName);
+            }
+            return builder.set("docsExamined", docsExamined)
+                    .set("keysExamined", keysExamined)
+                    .set("returned", returned)
+                    .set("candidates", candidates.stream()
+                            .map(Candidate::toJson)
+                            .collect(JsonCollectors.valuesToArray()))
+                    .build();
+        }
+
+        private static Optional<Index> getSearchIndex(final String indexName) {
+            return Indices.all().stream().filter(index -> Objects.equals(indexName, index.getName())).findAny();
+        }
+
+        @Nullable
+        private static String getIndexName(final Optional<BsonDocument> indexScan) {
+            return indexScan.filter(scan -> scan.isString(INDEX_NAME))
+                    .map(scan -> scan.getString(INDEX_NAME).getValue())
+                    .orElse(null);
+        }
+
+        // the structure of winning plans differs between MongoDB versions and deployments; search all nested stages
+        private static Optional<BsonDocument> findStage(final BsonDocument plan, final String stage) {
+            if (plan.isString(STAGE) && stage.equals(plan.getString(STAGE).getValue())) {
+                return Optional.of(plan);
+            }
+            return plan.values()
+                    .stream()
+                    .flatMap(value -> value.isArray() ? value.asArray().stream() : Stream.of(value))
+                    .filter(BsonValue::isDocument)
+                    .map(value -> findStage(value.asDocument(), stage))
+                    .flatMap(Optional::stream)
+                    .findFirst();
+        }
+
+        private static long getLong(final BsonDocument document, final String key) {
+            return document.isNumber(key) ? document.getNumber(key).longValue() : 0L;
+        }
+
+    }
+
+    /**
+     * Summary of the trial execution of one plan MongoDB considered.
+     *
+     * @param indexName the name of the index scanned by the plan, if any.
+     * @param docsExamined the number of documents examined during the trial.
+     * @param keysExamined the number of index keys examined during the trial.
+     * @param returned the number of documents returned during the trial.
+     */
+    private record Candidate(@Nullable String indexName, long docsExamined, long keysExamined, long returned) {
+
+        private static Candidate fromExecution(final BsonDocument execution) {
+            final BsonDocument executionStages = execution.getDocument("executionStages", new BsonDocument());
+            return new Candidate(Plan.getIndexName(Plan.findStage(executionStages, IXSCAN)),
+                    Plan.getLong(execution, "totalDocsExamined"),
+                    Plan.getLong(execution, "totalKeysExamined"),
+                    Plan.getLong(execution, "nReturned"));
+        }
+
+        private double getExaminedPerReturned() {
+            return (docsExamined + keysExamined + 1.0) / (returned + 1.0);
+        }
+
+        private JsonObject toJson() {
+            final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+            if (indexName != null) {
+                builder.set("index", indexName);
+            }
+            return builder.set("docsExamined", docsExamined)
+                    .set("keysExamined", keysExamined)
+                    .set("returned", returned)
+                    .build();
+        }
+
+    }
+
+}
@@ -17,6 +17,7 @@ import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -32,22 +33,32 @@ import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.base.model.entity.id.EntityId;
 import org.eclipse.ditto.internal.models.streaming.LowerBound;
+import org.eclipse.ditto.internal.models.streaming.RangeDigest;
 import org.eclipse.ditto.internal.utils.persistence.mongo.BsonUtil;
 import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJson;
 import org.eclipse.ditto.internal.utils.persistence.mongo.DittoMongoClient;
 import org.eclipse.ditto.internal.utils.persistence.mongo.indices.IndexInitializer;
+import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.RangeDigestAccumulators;
 import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.policies.api.PolicyTag;
 import org.eclipse.ditto.policies.model.PolicyId;
 import org.eclipse.ditto.rql.query.Query;
 import org.eclipse.ditto.rql.query.SortOption;
+import org.eclipse.ditto.rql.query.expression.SortFieldExpression;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.thingsearch.api.QueryTimeExceededException;
 import org.eclipse.ditto.thingsearch.api.SearchNamespaceReportResult;
 import org.eclipse.ditto.thingsearch.api.SearchNamespaceResultEntry;
+import org.eclipse.ditto.thingsearch.model.signals.commands.exceptions.InvalidOptionException;
 import org.eclipse.ditto.thingsearch.service.common.config.SearchPersistenceConfig;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultList;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultListImpl;
+import org.eclipse.ditto.thingsearch.service.common.model.ThingsAggregation;
 import org.eclipse.ditto.thingsearch.service.common.model.TimestampedThingId;
 import org.eclipse.ditto.thingsearch.service.persistence.Indices;
 import org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants;
@@ -62,6 +73,10 @@ import org.mongodb.scala.MongoClient;
 import org.reactivestreams.Publisher;
 
 import com.mongodb.MongoExecutionTimeoutException;
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.BsonField;
+import com.mongodb.client.model.BucketAutoOptions;
 import com.mongodb.client.model.CountOptions;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.Projections;
@@ -76,6 +91,8 @@ import akka.actor.ActorSystem;
 import akka.event.Logging;
 import akka.event.LoggingAdapter;
 import akka.japi.pf.PFBuilder;
+import akka.stream.OverflowStrategy;
+import akka.stream.StreamLimitReachedException;
 import akka.stream.SystemMaterializer;
 import akka.stream.javadsl.Source;
 import scala.PartialFunction;
@@ -85,12 +102,20 @@ import scala.PartialFunction;
  */
 public final class MongoThingsSearchPersistence implements ThingsSearchPersistence {
 
+    private static final String GROUP_FIELD_PREFIX = "g";
+    private static final String ACCUMULATOR_FIELD_PREFIX = "a";
+    private static final String AGGREGATION_GROUP_BY = "groupBy";
+    private static final String AGGREGATION_AGGREGATIONS = "aggregations";
+    private static final List<String> NON_SCALAR_BSON_TYPES = List.of("object", "array");
+
     private final MongoCollection<Document> collection;
     private final LoggingAdapter log;
 
     private final IndexInitializer indexInitializer;
     private final Duration maxQueryTime;
     private final MongoHints hints;
+    private final int maxAggregationGroups;
+    private final MongoQueryPlanAdvisor planAdvisor;
 
     /**
      * Initializes the things search persistence with a passed in {@code persistence}.
@@ -110,6 +135,9 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
         indexInitializer = IndexInitializer.of(database, SystemMaterializer.get(actorSystem).materializer());
         maxQueryTime = mongoClient.getDittoSettings().getMaxQueryTime();
         hints = MongoHints.empty();
+        maxAggregationGroups = persistenceConfig.maxAggregationGroups();
+        planAdvisor = MongoQueryPlanAdvisor.of(collection, persistenceConfig.getQueryPlanAdvisorConfig(),
+                maxQueryTime, actorSystem, log);
         log.info("Query readConcern=<{}> readPreference=<{}>", readConcern, readPreference);
     }
 
@@ -118,13 +146,17 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
             final LoggingAdapter log,
             final IndexInitializer indexInitializer,
             final Duration maxQueryTime,
-            final MongoHints hints) {
+            final MongoHints hints,
+            final int maxAggregationGroups,
+            final MongoQueryPlanAdvisor planAdvisor) {
 
         this.collection = collection;
         this.log = log;
         this.indexInitializer = indexInitializer;
         this.maxQueryTime = maxQueryTime;
         this.hints = hints;
+        this.maxAggregationGroups = maxAggregationGroups;
+        this.planAdvisor = planAdvisor;
     }
 
     /**
@@ -135,7 +167,8 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
      */
     public MongoThingsSearchPersistence withHintsByNamespace(final String jsonString) {
         final MongoHints theHints = MongoHints.byNamespace(jsonString);
-        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, theHints);
+        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, theHints,
+                maxAggregationGroups, planAdvisor);
     }
 
     @Override
@@ -182,12 +215,16 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
         final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds);
         log.debug("count with query filter <{}>.", queryFilter);
 
+        final QueryShape shape = QueryShape.of(queryFilter, null);
+        final Bson hint = planAdvisor.getHint(shape).orElse(null);
         final CountOptions countOptions = new CountOptions()
+                .hint(hint)
                 .skip(query.getSkip())
                 .limit(query.getLimit())
                 .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS);
 
-        return Source.fromPublisher(collection.countDocuments(queryFilter, countOptions))
+        return recordExecution(Source.fromPublisher(collection.countDocuments(queryFilter, countOptions)), 1, shape,
+                hint, queryFilter, null, null)
                 .mapError(handleMongoExecutionTimeExceededException())
                 .log("count");
     }
@@ -197,6 +234,33 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
         return count(query, null);
     }
 
+    @Override
+    public Source<JsonObject, NotUsed> aggregate(final ThingsAggregation aggregation,
+            final List<String> authorizationSubjectIds) {
+
+        checkNotNull(aggregation, "aggregation");
+
+        final BsonDocument queryFilter = getMongoFilter(aggregation.query(), authorizationSubjectIds);
+        log.debug("aggregate with query filter <{}>.", queryFilter);
+
+        // read one group more than allowed to detect aggregations with too many groups
+        final List<Bson> pipeline = List.of(
+                Aggregates.match(queryFilter),
+                Aggregates.group(getGroupId(aggregation.groupBy()), getAccumulators(aggregation.accumulators())),
+                Aggregates.sort(Sorts.ascending(PersistenceConstants.FIELD_ID)),
+                Aggregates.limit(maxAggregationGroups + 1)
+        );
+
+        return Source.fromPublisher(collection.aggregate(pipeline)
+                        .allowDiskUse(true)
+                        .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS))
+                .limit(maxAggregationGroups)
+                .map(document -> toAggregationResult(document, aggregation))
+                .mapError(handleMongoExecutionTimeExceededException())
+                .mapError(handleTooManyAggregationGroups())
+                .log("aggregate");
+    }
+
     @Override
     public Source<ResultList<TimestampedThingId>, NotUsed> findAll(final Query query,
             @Nullable final List<String> authorizationSubjectIds,
@@ -255,12 +319,14 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
         }
 
         final Bson sortOptions = getMongoSort(query);
+        final QueryShape shape = QueryShape.of(queryFilter, sortOptions);
 
         final int skip = query.getSkip();
         final Bson projection = GetSortBsonVisitor.projections(query.getSortOptions());
+        final Bson hint = hints.getHint(namespaces).or(() -> planAdvisor.getHint(shape)).orElse(null);
         final FindPublisher<Document> findPublisher =
                 collection.find(queryFilter, Document.class)
-                        .hint(hints.getHint(namespaces).orElse(null))
+                        .hint(hint)
                         .sort(sortOptions)
                         .skip(skip)
                         .projection(projection);
@@ -273,11 +339,36 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
         } else {
             findPublisherWithLimit = findPublisher;
         }
-        final FindPublisher<Document> findPublisherWithMaxQueryTime = maxQueryTime != null
-                ? findPublisherWithLimit.maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS)
-                : findPublisherWithLimit;
+        if (maxQueryTime != null && limit != null) {
+            // only limited queries are recorded: the duration of unlimited streams depends on their consumers
+            return recordExecution(Source.fromPublisher(
+                            findPublisherWithLimit.maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS)),
+                    limit, shape, hint, queryFilter, sortOptions, limit);
+        } else {
+            return Source.fromPublisher(findPublisherWithLimit);
+        }
+    }
 
-        return Source.fromPublisher(findPublisherWithMaxQueryTime);
+    @Override
+    public Source<JsonObject, NotUsed> retrieveIndexRecommendations(final int limit) {
+        return planAdvisor.recommendIndexes(limit);
+    }
+
+    /**
+     * Records the execution time of the query of the source. All results of the query are buffered so that the
+     * recorded time only covers the MongoDB cursor and not how fast the results are consumed.
+     */
+    private <T> Source<T, NotUsed> recordExecution(final Source<T, NotUsed> source, final int maxResults,
+            final QueryShape shape, @Nullable final Bson hint, final BsonDocument queryFilter,
+            @Nullable final Bson sort, @Nullable final Integer limit) {
+
+        return source.watchTermination((notUsed, done) -> {
+                    final long startNanos = System.nanoTime();
+                    done.whenComplete((result, error) -> planAdvisor.recordExecution(shape, hint, queryFilter, sort,
+                            limit, Duration.ofNanos(System.nanoTime() - startNanos)));
+                    return notUsed;
+                })
+                .buffer(maxResults, OverflowStrategy.backpressure());
     }
 
     @Override
@@ -297,6 +388,46 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
         return Source.fromPublisher(publisher).map(MongoThingsSearchPersistence::readAsMetadata);
     }
 
+    @Override
+    public Source<List<RangeDigest>, NotUsed> sudoRetrieveRangeDigests(final ThingId lowerBound,
+            @Nullable final ThingId upperBound, final int buckets) {
+
+        final List<Bson> filters = new ArrayList<>(3);
+        filters.add(Filters.exists(PersistenceConstants.FIELD_DELETE_AT, false));
+        if (!LowerBound.emptyEntityId(lowerBound.getEntityType()).equals(lowerBound)) {
+            filters.add(Filters.gt(PersistenceConstants.FIELD_ID, lowerBound.toString()));
+        }
+        if (upperBound != null) {
+            filters.add(Filters.lte(PersistenceConstants.FIELD_ID, upperBound.toString()));
+        }
+        final String lastId = "l";
+        final List<BsonField> output = new ArrayList<>(RangeDigestAccumulators.of(
+                "$" + PersistenceConstants.FIELD_ID, "$" + PersistenceConstants.FIELD_REVISION));
+        output.add(Accumulators.max(lastId, "$" + PersistenceConstants.FIELD_ID));
+        final List<Bson> pipeline = List.of(
+                Aggregates.match(Filters.and(filters)),
+                Aggregates.bucketAuto("$" + PersistenceConstants.FIELD_ID, buckets,
+                        new BucketAutoOptions().output(output))
+        );
+
+        return Source.fromPublisher(collection.aggregate(pipeline).allowDiskUse(true))
+                .grouped(buckets)
+                .orElse(Source.single(List.<Document>of()))
+                .map(documents -> {
+                    if (documents.isEmpty()) {
+                        return List.of(RangeDigest.empty(lowerBound));
+                    }
+                    // buckets are ordered; each bucket starts after the last ID of the previous bucket
+                    final List<RangeDigest> digests = new ArrayList<>(documents.size());
+                    EntityId bucketLowerBound = lowerBound;
+                    for (final Document document : documents) {
+                        digests.add(RangeDigestAccumulators.toRangeDigest(bucketLowerBound, document));
+                        bucketLowerBound = ThingId.of(document.getString(lastId));
+                    }
+                    return digests;
+                });
+    }
+
     private ResultList<TimestampedThingId> toResultList(final List<Document> resultsPlus0ne, final int skip,
             final int limit,
             final List<SortOption> sortOptions) {
@@ -357,6 +488,76 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
         }
     }
 
+    @Nullable
+    private static Document getGroupId(final List<ThingsAggregation.GroupField> groupBy) {
+        if (groupBy.isEmpty()) {
+            // aggregate all matching things in one group
+            return null;
+        }
+        final Document groupId = new Document();
+        for (int i = 0; i < groupBy.size(); ++i) {
+            groupId.append(GROUP_FIELD_PREFIX + i, scalarValueOf(groupBy.get(i).expression()));
+        }
+        return groupId;
+    }
+
+    private static List<BsonField> getAccumulators(final List<ThingsAggregation.Accumulator> accumulators) {
+        final List<BsonField> bsonFields = new ArrayList<>(accumulators.size());
+        for (int i = 0; i < accumulators.size(); ++i) {
+            final ThingsAggregation.Accumulator accumulator = accumulators.get(i);
+            final String fieldName = ACCUMULATOR_FIELD_PREFIX + i;
+            final Document expression =
+                    accumulator.expression() == null ? null : scalarValueOf(accumulator.expression());
+            bsonFields.add(switch (accumulator.operator()) {
+                case COUNT -> Accumulators.sum(fieldName, 1);
+                case SUM -> Accumulators.sum(fieldName, expression);
+                case MIN -> Accumulators.min(fieldName, expression);
+                case MAX -> Accumulators.max(fieldName, expression);
+                case AVG -> Accumulators.avg(fieldName, expression);
+            });
+        }
+        return bsonFields;
+    }
+
+    /**
+     * The authorization filter only checks the aggregated field and its ancestors, not fields nested in its value.
+     * Object and array values are therefore aggregated as {@code null} so that no revoked nested field is revealed.
+     */
+    private static Document scalarValueOf(final SortFieldExpression expression) {
+        final String field = "$" + GetSortBsonVisitor.path(expression);
+        final Document isObjectOrArray =
+                new Document("$in", List.of(new Document("$type", field), NON_SCALAR_BSON_TYPES));
+        return new Document("$cond", Arrays.asList(isObjectOrArray, null, field));
+    }
+
+    private static JsonObject toAggregationResult(final Document document, final ThingsAggregation aggregation) {
+        final JsonObject result = DittoBsonJson.getInstance()
+                .serialize(document.toBsonDocument(Document.class, MongoClient.DEFAULT_CODEC_REGISTRY()));
+
+        final JsonObjectBuilder groupBuilder = JsonFactory.newObjectBuilder();
+        final JsonObject groupId = result.getValue(PersistenceConstants.FIELD_ID)
+                .filter(JsonValue::isObject)
+                .map(JsonValue::asObject)
+                .orElseGet(JsonObject::empty);
+        final List<ThingsAggregation.GroupField> groupBy = aggregation.groupBy();
+        for (int i = 0; i < groupBy.size(); ++i) {
+            groupBuilder.set(groupBy.get(i).name(),
+                    groupId.getValue(GROUP_FIELD_PREFIX + i).orElseGet(JsonValue::nullLiteral));
+        }
+
+        final JsonObjectBuilder aggregationsBuilder = JsonFactory.newObjectBuilder();
+        final List<ThingsAggregation.Accumulator> accumulators = aggregation.accumulators();
+        for (int i = 0; i < accumulators.size(); ++i) {
+            final JsonValue value = result.getValue(ACCUMULATOR_FIELD_PREFIX + i).orElseGet(JsonValue::nullLiteral);
+            aggregationsBuilder.set(JsonFactory.newField(JsonKey.of(accumulators.get(i).name()), value));
+        }
+
+        return JsonFactory.newObjectBuilder()
+                .set(AGGREGATION_GROUP_BY, groupBuilder.build())
+                .set(AGGREGATION_AGGREGATIONS, aggregationsBuilder.build())
+                .build();
+    }
+
     private static Bson getMongoSort(final Query query) {
         final MongoQuery mongoQuery = (MongoQuery) query;
         return mongoQuery.getSortOptionsAsBson();
@@ -372,6 +573,15 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
                 .build();
     }
 
+    private PartialFunction<Throwable, Throwable> handleTooManyAggregationGroups() {
+        return new PFBuilder<Throwable, Throwable>()
+                .match(StreamLimitReachedException.class, error -> InvalidOptionException.newBuilder()
+                        .message("The aggregation yields more than <" + maxAggregationGroups + "> groups.")
+                        .description("Narrow the filter or group by fewer fields.")
+                        .build())
+                .build();
+    }
+
     private static Metadata readAsMetadata(final Document document) {
         final ThingId thingId = ThingId.of(document.getString(PersistenceConstants.FIELD_ID));
         final long thingRevision =
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants;
+
+import com.mongodb.MongoClientSettings;
+
+/**
+ * Shape of a search query: its MongoDB filter and sort with all values replaced by a placeholder.
+ * Queries of the same shape differ only in their values, e.g. in the authorization subjects, and are usually executed
+ * with the same plan.
+ *
+ * @param filter the normalized filter.
+ * @param sort the normalized sort.
+ * @param equalityFields the indexable fields compared by equality in the top-level conjunction of the filter.
+ * @param rangeFields the indexable fields compared otherwise in the top-level conjunction of the filter.
+ * @param sortFields the indexable fields to sort by and their directions.
+ */
+record QueryShape(String filter, String sort, List<String> equalityFields, List<String> rangeFields,
+                  Map<String, Integer> sortFields) {
+
+    private static final BsonString PLACEHOLDER = new BsonString("?");
+    private static final String AND = "$and";
+    private static final String ELEM_MATCH = "$elemMatch";
+    private static final Set<String> EQUALITY_OPERATORS = Set.of("$eq", "$in");
+
+    /**
+     * Determine the shape of a query.
+     *
+     * @param filter the MongoDB filter of the query.
+     * @param sort the MongoDB sort of the query, or null if the query is not sorted.
+     * @return the shape.
+     */
+    static QueryShape of(final BsonDocument filter, @Nullable final Bson sort) {
+        final BsonDocument sortDocument = sort == null
+                ? new BsonDocument()
+                : sort.toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry());
+
+        final Set<String> equalityFields = new LinkedHashSet<>();
+        final Set<String> rangeFields = new LinkedHashSet<>();
+        collectFields("", filter, equalityFields, rangeFields);
+        rangeFields.removeAll(equalityFields);
+
+        final Map<String, Integer> sortFields = new LinkedHashMap<>();
+        sortDocument.forEach((key, value) -> {
+            if (isIndexable(key) && value.isNumber()) {
+                sortFields.put(key, value.asNumber().intValue() < 0 ? -1 : 1);
+            }
+        });
+
+        return new QueryShape(normalize(filter).asDocument().toJson(), sortDocument.toJson(),
+                List.copyOf(equalityFields), List.copyOf(rangeFields), Collections.unmodifiableMap(sortFields));
+    }
+
+    /**
+     * Recommend an index for this shape following the equality-sort-range rule: fields compared by equality first,
+     * then the fields to sort by, then the fields compared by range.
+     *
+     * @return the keys of the recommended index, or an empty optional if the shape has no indexable field.
+     */
+    Optional<BsonDocument> recommendIndex() {
+        final BsonDocument keys = new BsonDocument();
+        equalityFields.forEach(field -> keys.append(field, new BsonInt32(1)));
+        sortFields.forEach((field, direction) -> {
+            if (!keys.containsKey(field)) {
+                keys.append(field, new BsonInt32(direction));
+            }
+        });
+        rangeFields.forEach(field -> {
+            if (!keys.containsKey(field)) {
+                keys.append(field, new BsonInt32(1));
+            }
+        });
+        return keys.isEmpty() ? Optional.empty() : Optional.of(keys);
+    }
+
+    private static BsonValue normalize(final BsonValue value) {
+        if (value.isDocument()) {
+            final BsonDocument normalized = new BsonDocument();
+            value.asDocument().forEach((key, child) -> normalized.append(key, normalize(child)));
+            return normalized;
+        } else if (value.isArray() && isArrayOfDocuments(value.asArray())) {
+            // clauses of $and, $or, $nor
+            final List<BsonValue> normalized = new ArrayList<>(value.asArray().size());
+            value.asArray().forEach(element -> normalized.add(normalize(element)));
+            return new BsonArray(normalized);
+        } else {
+            return PLACEHOLDER;
+        }
+    }
+
+    private static boolean isArrayOfDocuments(final BsonArray array) {
+        return !array.isEmpty() && array.stream().allMatch(BsonValue::isDocument);
+    }
+
+    // fields constrained within disjunctions or negations can not be used as prefix of an index and are skipped
+    private static void collectFields(final String prefix, final BsonDocument filter,
+            final Set<String> equalityFields, final Set<String> rangeFields) {
+
+        filter.forEach((key, value) -> {
+            if (AND.equals(key) && value.isArray()) {
+                value.asArray().stream()
+                        .filter(BsonValue::isDocument)
+                        .forEach(clause -> collectFields(prefix, clause.asDocument(), equalityFields, rangeFields));
+            } else if (!key.startsWith("$")) {
+                final String field = prefix + key;
+                if (isOperatorDocument(value)) {
+                    value.asDocument().forEach((operator, operand) -> {
+                        if (ELEM_MATCH.equals(operator) && operand.isDocument()) {
+                            collectFields(field + ".", operand.asDocument(), equalityFields, rangeFields);
+                        } else if (isIndexable(field)) {
+                            (EQUALITY_OPERATORS.contains(operator) ? equalityFields : rangeFields).add(field);
+                        }
+                    });
+                } else if (isIndexable(field)) {
+                    equalityFields.add(field);
+                }
+            }
+        });
+    }
+
+    private static boolean isOperatorDocument(final BsonValue value) {
+        return value.isDocument() && !value.asDocument().isEmpty() &&
+                value.asDocument().getFirstKey().startsWith("$");
+    }
+
+    // authorization fields are excluded: they are always queried with the subjects and are not selective
+    private static boolean isIndexable(final String field) {
+        return field.startsWith(PersistenceConstants.FIELD_THING + PersistenceConstants.DOT) ||
+                (field.startsWith(PersistenceConstants.FIELD_F_ARRAY + PersistenceConstants.DOT) &&
+                        !field.equals(PersistenceConstants.FIELD_FEATURE_POLICY) &&
+                        !field.startsWith(PersistenceConstants.FIELD_FEATURE_POLICY + PersistenceConstants.DOT)) ||
+                field.equals(PersistenceConstants.FIELD_ID) ||
+                field.equals(PersistenceConstants.FIELD_NAMESPACE);
+    }
+
+}
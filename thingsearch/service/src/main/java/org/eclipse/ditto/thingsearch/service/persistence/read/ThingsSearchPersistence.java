@@ -19,11 +19,14 @@ import java.util.concurrent.CompletionStage;
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.base.model.entity.id.EntityId;
+import org.eclipse.ditto.internal.models.streaming.RangeDigest;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.rql.query.Query;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.thingsearch.api.SearchNamespaceReportResult;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultList;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultListImpl;
+import org.eclipse.ditto.thingsearch.service.common.model.ThingsAggregation;
 import org.eclipse.ditto.thingsearch.service.common.model.TimestampedThingId;
 import org.eclipse.ditto.thingsearch.service.persistence.write.model.Metadata;
 
@@ -70,6 +73,28 @@ public interface ThingsSearchPersistence {
      */
     Source<Long, NotUsed> sudoCount(Query query);
 
+    /**
+     * Aggregates the documents found by the query of the given {@code aggregation}.
+     *
+     * @param aggregation the aggregation.
+     * @param authorizationSubjectIds authorization subject IDs.
+     * @return a {@link Source} which emits one JSON object per group with the values of the group fields under
+     * {@code groupBy} and the values of the accumulators under {@code aggregations}. The source fails with an
+     * {@link org.eclipse.ditto.thingsearch.model.signals.commands.exceptions.InvalidOptionException} if the aggregation
+     * yields more groups than allowed by the configuration.
+     * @throws NullPointerException if {@code aggregation} is {@code null}.
+     */
+    Source<JsonObject, NotUsed> aggregate(ThingsAggregation aggregation, List<String> authorizationSubjectIds);
+
+    /**
+     * Retrieves the query shapes with the highest mean execution time together with their query plans and the
+     * indexes recommended for them.
+     *
+     * @param limit the maximum number of query shapes to retrieve.
+     * @return a {@link Source} which emits one JSON object per query shape.
+     */
+    Source<JsonObject, NotUsed> retrieveIndexRecommendations(int limit);
+
     /**
      * Returns the IDs for all found documents.
      *
@@ -105,6 +130,20 @@ public interface ThingsSearchPersistence {
      */
     Source<Metadata, NotUsed> sudoStreamMetadata(final EntityId lowerBound);
 
+    /**
+     * Split a range of search index entries not marked for deletion into buckets of about equal size and compute the
+     * digest of each bucket. Do not consider authorization.
+     *
+     * @param lowerBound the exclusive lower bound of the range. The entire search index is considered if the lower
+     * bound is a dummy entity ID and the upper bound is {@code null}.
+     * @param upperBound the inclusive upper bound of the range, or {@code null} if the range is unbounded.
+     * @param buckets the maximum number of buckets.
+     * @return source of the digests of the buckets in ascending order of their lower bounds. The first lower bound
+     * is that of the range. If the range is empty, it is the single digest of an empty range.
+     */
+    Source<List<RangeDigest>, NotUsed> sudoRetrieveRangeDigests(ThingId lowerBound, @Nullable ThingId upperBound,
+            int buckets);
+
     /**
      * Returns the IDs for all found documents.
      *
@@ -18,6 +18,7 @@ import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConst
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -84,12 +85,66 @@ final class BsonArrayDiff {
         );
     }
 
+    /**
+     * Compute the diff of the features array when only the given features changed. Elements of the other features are
+     * taken over from the starting array by their feature IDs without being compared.
+     *
+     * @param minuend the features array of the target document.
+     * @param subtrahend the features array of the starting document.
+     * @param changedFeatureIds IDs of the features which possibly changed.
+     * @return the diff.
+     */
+    static BsonDiff diffChangedFeatures(final BsonArray minuend, final BsonArray subtrahend,
+            final Set<String> changedFeatureIds) {
+
+        final JsonPointer internalArrayKey = JsonPointer.of(FIELD_F_ARRAY);
+        final BsonString subtrahendExpr = getPathExpr(internalArrayKey);
+        final Map<BsonValue, Integer> subtrahendIndexMap = IntStream.range(0, subtrahend.size())
+                .boxed()
+                .collect(Collectors.toMap(
+                        i -> subtrahend.get(i).asDocument().get(FIELD_FEATURE_ID),
+                        Function.identity(),
+                        (x, y) -> x
+                ));
+        final BsonSizeVisitor bsonSizeVisitor = new BsonSizeVisitor();
+        final List<Element> elements = new ArrayList<>(minuend.size());
+        boolean changed = minuend.size() != subtrahend.size();
+        int replacementSize = 0;
+        for (int i = 0; i < minuend.size(); ++i) {
+            final BsonDocument element = minuend.get(i).asDocument();
+            final BsonValue featureId = element.get(FIELD_FEATURE_ID);
+            final Integer j = subtrahendIndexMap.get(featureId);
+            if (j == null || (changedFeatureIds.contains(featureId.asString().getValue()) &&
+                    !element.equals(subtrahend.get(j)))) {
+                elements.add(new Replace(element));
+                replacementSize += bsonSizeVisitor.eval(element);
+                changed = true;
+            } else {
+                elements.add(new Pointer(subtrahendExpr, j));
+                changed |= j != i;
+            }
+        }
+        if (!changed) {
+            return BsonDiff.empty(replacementSize);
+        }
+        final BsonValue difference = toBsonValue(elements);
+        return new BsonDiff(
+                replacementSize,
+                bsonSizeVisitor.eval(difference),
+                Stream.of(Pair.create(internalArrayKey, difference)),
+                Stream.empty()
+        );
+    }
+
     private static BsonValue diff(final JsonPointer key,
             final BsonArray minuend,
             final BsonArray subtrahend,
             final int maxWireVersion,
             final BiFunction<BsonDocument, Integer, Integer> mostSimilarIndex) {
-        final List<Element> elements = diffAsElementList(key, minuend, subtrahend, maxWireVersion, mostSimilarIndex);
+        return toBsonValue(diffAsElementList(key, minuend, subtrahend, maxWireVersion, mostSimilarIndex));
+    }
+
+    private static BsonValue toBsonValue(final List<Element> elements) {
         final List<ElementGroup> aggregatedElements = aggregate(elements);
         if (elements.size() - aggregatedElements.size() > 1 && aggregatedElements.size() > 1) {
             // aggregated element groups are suitable for array concatenation syntax.
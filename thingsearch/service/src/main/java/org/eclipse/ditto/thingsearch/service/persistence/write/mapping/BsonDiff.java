@@ -12,18 +12,28 @@
  */
 package org.eclipse.ditto.thingsearch.service.persistence.write.mapping;
 
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_FEATURES;
 import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_F_ARRAY;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_THING;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import javax.annotation.Nullable;
+
 import org.bson.BsonArray;
 import org.bson.BsonDocument;
 import org.bson.BsonString;
 import org.bson.BsonValue;
+import org.eclipse.ditto.internal.utils.persistence.mongo.KeyNameReviser;
 import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonPointer;
 
@@ -44,6 +54,10 @@ public final class BsonDiff {
      */
     private static final String UNSET = "$unset";
 
+    private static final String LITERAL = "$literal";
+    private static final JsonPointer METADATA = JsonPointer.of("_metadata");
+    private static final KeyNameReviser KEY_NAME_REVISER = KeyNameReviser.escapeProblematicPlainChars();
+
     final int replacementSize;
     final int diffSize;
     final Stream<Pair<JsonPointer, BsonValue>> setPointers;
@@ -100,14 +114,60 @@ public final class BsonDiff {
         final var subtrahendFeatures = subtrahend.getArray(FIELD_F_ARRAY);
         final var diffFeatures = BsonArrayDiff.diffFeaturesArray(minuendFeatures, subtrahendFeatures, maxWireVersion);
         // compute the rest of the diff without the internal array
-        final var minuendWithoutInternal = minuend.clone();
-        final var subtrahendWithoutInternal = subtrahend.clone();
-        minuendWithoutInternal.remove(FIELD_F_ARRAY);
-        subtrahendWithoutInternal.remove(FIELD_F_ARRAY);
+        final var minuendWithoutInternal = withoutFields(minuend, Set.of(FIELD_F_ARRAY));
+        final var subtrahendWithoutInternal = withoutFields(subtrahend, Set.of(FIELD_F_ARRAY));
         final var diffWithoutInternal = minus(minuendWithoutInternal, subtrahendWithoutInternal, true, maxWireVersion);
         return diffWithoutInternal.concat(diffFeatures);
     }
 
+    /**
+     * Compute the difference between 2 Thing index documents knowing the paths of the Thing which changed between
+     * them, e.g. the resource paths of the events in between. Only the changed subtrees of the Thing and the elements
+     * of changed features are compared; all other parts of the Thing are assumed to be equal. Fields outside the
+     * Thing, including the policy fields, are always compared.
+     * The size of a replacement is not computed; the diff is never larger than the changed subtrees.
+     *
+     * @param minuend the minuend document.
+     * @param subtrahend the subtrahend document.
+     * @param changedPaths the changed paths relative to the Thing.
+     * @param maxWireVersion the max wire version of the MongoDB server.
+     * @return the difference, or an empty optional if the changed paths do not permit an incremental diff, e.g. if
+     * the whole Thing or the set of its features changed.
+     */
+    public static Optional<BsonDiff> minusThingDocs(final BsonDocument minuend, final BsonDocument subtrahend,
+            final Collection<JsonPointer> changedPaths, final int maxWireVersion) {
+
+        if (changedPaths.isEmpty() || changedPaths.stream().anyMatch(BsonDiff::requiresFullDiff)) {
+            return Optional.empty();
+        }
+        final BsonValue minuendThing = minuend.get(FIELD_THING);
+        final BsonValue subtrahendThing = subtrahend.get(FIELD_THING);
+        final BsonValue minuendFeatures = minuend.get(FIELD_F_ARRAY);
+        final BsonValue subtrahendFeatures = subtrahend.get(FIELD_F_ARRAY);
+        if (minuendThing == null || !minuendThing.isDocument() ||
+                subtrahendThing == null || !subtrahendThing.isDocument() ||
+                minuendFeatures == null || !minuendFeatures.isArray() ||
+                subtrahendFeatures == null || !subtrahendFeatures.isArray()) {
+            return Optional.empty();
+        }
+
+        final Set<String> thingFields = Set.of(FIELD_THING, FIELD_F_ARRAY);
+        final var diffWithoutThing = minus(withoutFields(minuend, thingFields),
+                withoutFields(subtrahend, thingFields), true, maxWireVersion);
+        final var diffThing = minusChangedPaths(minuendThing.asDocument(), subtrahendThing.asDocument(),
+                toBsonPaths(changedPaths), maxWireVersion);
+        final Set<String> changedFeatureIds = changedPaths.stream()
+                .filter(path -> path.getLevelCount() > 1 && isFeaturesPath(path))
+                .map(path -> path.get(1).orElseThrow().toString())
+                .collect(Collectors.toSet());
+        final var diffFeatures = changedFeatureIds.isEmpty()
+                ? empty(0)
+                : BsonArrayDiff.diffChangedFeatures(minuendFeatures.asArray(), subtrahendFeatures.asArray(),
+                changedFeatureIds);
+
+        return Optional.of(diffWithoutThing.concat(diffThing).concat(diffFeatures));
+    }
+
     /**
      * Concatenate 2 diffs.
      *
@@ -162,6 +222,111 @@ public final class BsonDiff {
         return unsetArray;
     }
 
+    private static boolean requiresFullDiff(final JsonPointer changedPath) {
+        return changedPath.isEmpty() || changedPath.getLevelCount() == 1 && isFeaturesPath(changedPath);
+    }
+
+    private static boolean isFeaturesPath(final JsonPointer path) {
+        return path.getRoot().filter(root -> FIELD_FEATURES.equals(root.toString())).isPresent();
+    }
+
+    private static BsonDocument withoutFields(final BsonDocument document, final Set<String> fields) {
+        final var result = new BsonDocument();
+        document.forEach((key, value) -> {
+            if (!fields.contains(key)) {
+                result.append(key, value);
+            }
+        });
+        return result;
+    }
+
+    // translate the changed paths into paths of BSON keys and add the paths of their metadata
+    private static List<JsonPointer> toBsonPaths(final Collection<JsonPointer> changedPaths) {
+        final Set<JsonPointer> bsonPaths = new HashSet<>();
+        for (final JsonPointer changedPath : changedPaths) {
+            JsonPointer bsonPath = JsonPointer.empty();
+            for (final JsonKey key : changedPath) {
+                bsonPath = bsonPath.addLeaf(JsonKey.of(KEY_NAME_REVISER.apply(key.toString())));
+            }
+            bsonPaths.add(bsonPath);
+            bsonPaths.add(METADATA.append(bsonPath));
+        }
+        // subtrees of other changed paths are compared together with them
+        return bsonPaths.stream()
+                .filter(path -> bsonPaths.stream().noneMatch(other -> isStrictPrefix(other, path)))
+                .toList();
+    }
+
+    private static boolean isStrictPrefix(final JsonPointer prefix, final JsonPointer path) {
+        return prefix.getLevelCount() < path.getLevelCount() &&
+                path.getPrefixPointer(prefix.getLevelCount() - 1).filter(prefix::equals).isPresent();
+    }
+
+    private static BsonDiff minusChangedPaths(final BsonDocument minuend, final BsonDocument subtrahend,
+            final List<JsonPointer> changedPaths, final int maxWireVersion) {
+
+        final var visitor = new BsonDiffVisitor(true, maxWireVersion);
+        final var thingKey = JsonPointer.of(FIELD_THING);
+        final Set<String> changedFields = changedPaths.stream()
+                .map(path -> path.getRoot().orElseThrow().toString())
+                .collect(Collectors.toSet());
+
+        // unchanged fields which are no objects are cheap to compare, e.g. the revision and the modified timestamp
+        BsonDiff result = empty(0);
+        final Set<String> fields = new LinkedHashSet<>(minuend.keySet());
+        fields.addAll(subtrahend.keySet());
+        for (final String field : fields) {
+            final BsonValue minuendValue = minuend.get(field);
+            final BsonValue subtrahendValue = subtrahend.get(field);
+            final boolean bothDocuments = minuendValue != null && minuendValue.isDocument() &&
+                    subtrahendValue != null && subtrahendValue.isDocument();
+            if (!changedFields.contains(field) && !bothDocuments) {
+                result = result.concat(minusAt(visitor, thingKey.addLeaf(JsonKey.of(field)), minuendValue,
+                        subtrahendValue));
+            }
+        }
+
+        for (final JsonPointer changedPath : changedPaths) {
+            // descend as long as both documents have an object at the changed path
+            JsonPointer key = thingKey;
+            BsonDocument minuendParent = minuend;
+            BsonDocument subtrahendParent = subtrahend;
+            for (final JsonKey field : changedPath) {
+                key = key.addLeaf(field);
+                final BsonValue minuendValue = minuendParent.get(field.toString());
+                final BsonValue subtrahendValue = subtrahendParent.get(field.toString());
+                if (key.getLevelCount() == changedPath.getLevelCount() + 1 ||
+                        minuendValue == null || !minuendValue.isDocument() ||
+                        subtrahendValue == null || !subtrahendValue.isDocument()) {
+                    result = result.concat(minusAt(visitor, key, minuendValue, subtrahendValue));
+                    break;
+                }
+                minuendParent = minuendValue.asDocument();
+                subtrahendParent = subtrahendValue.asDocument();
+            }
+        }
+        return result;
+    }
+
+    private static BsonDiff minusAt(final BsonDiffVisitor visitor, final JsonPointer key,
+            @Nullable final BsonValue minuend, @Nullable final BsonValue subtrahend) {
+
+        if (minuend == null && subtrahend == null) {
+            return empty(0);
+        } else if (minuend == null) {
+            return new BsonDiff(0, key.length(), Stream.empty(), Stream.of(key));
+        } else if (subtrahend == null) {
+            return set(0, key, new BsonDocument().append(LITERAL, minuend));
+        } else {
+            final BsonDiff diff = visitor.eval(key, minuend).apply(subtrahend);
+            if (diff.diffSize <= diff.replacementSize + key.length()) {
+                return diff;
+            } else {
+                return set(diff.replacementSize, key, new BsonDocument().append(LITERAL, minuend));
+            }
+        }
+    }
+
     private static String getPathString(final Iterable<JsonKey> jsonPointer) {
         return StreamSupport.stream(jsonPointer.spliterator(), false).collect(Collectors.joining("."));
     }
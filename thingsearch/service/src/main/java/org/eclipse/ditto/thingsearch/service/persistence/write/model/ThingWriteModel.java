@@ -22,6 +22,7 @@ import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConst
 import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_REVISION;
 import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_THING;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -39,6 +40,9 @@ import org.eclipse.ditto.internal.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.akka.logging.ThreadSafeDittoLogger;
 import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
 import org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants;
 import org.eclipse.ditto.thingsearch.service.persistence.write.mapping.BsonDiff;
 import org.eclipse.ditto.thingsearch.service.updater.actors.MongoWriteModel;
@@ -62,6 +66,9 @@ public final class ThingWriteModel extends AbstractWriteModel {
     private static final Counter PATCH_UPDATE_COUNT = DittoMetrics.counter("wildcard_search_patch_updates");
     private static final Counter PATCH_SKIP_COUNT = DittoMetrics.counter("wildcard_search_patch_skips");
     private static final Counter FULL_UPDATE_COUNT = DittoMetrics.counter("wildcard_search_full_updates");
+    private static final Counter EVENT_DIFF_COUNT = DittoMetrics.counter("wildcard_search_event_diffs");
+
+    private static final JsonPointer POLICY_ID_PATH = Thing.JsonFields.POLICY_ID.getPointer();
 
     private final BsonDocument thingDocument;
     private final boolean isPatchUpdate;
@@ -211,8 +218,11 @@ public final class ThingWriteModel extends AbstractWriteModel {
             PATCH_SKIP_COUNT.increment();
             return Optional.empty();
         }
-        final var diff = tryComputeDiff(getThingDocument(), lastWriteModel.getThingDocument(), maxWireVersion);
-        if (diff.isPresent() && diff.get().isDiffSmaller()) {
+        final var incrementalDiff = tryComputeIncrementalDiff(lastWriteModel, maxWireVersion);
+        final var diff = incrementalDiff.isPresent()
+                ? incrementalDiff
+                : tryComputeDiff(getThingDocument(), lastWriteModel.getThingDocument(), maxWireVersion);
+        if (diff.isPresent() && (incrementalDiff.isPresent() || diff.get().isDiffSmaller())) {
             final var aggregationPipeline = diff.get().consumeAndExport();
             if (aggregationPipeline.isEmpty()) {
                 LOGGER.debug("Skipping update due to {} <{}>", "empty diff",
@@ -227,6 +237,9 @@ public final class ThingWriteModel extends AbstractWriteModel {
             LOGGER.debug("Using incremental update <{}>", mongoWriteModel.getClass().getSimpleName());
             LOGGER.trace("Using incremental update <{}>", mongoWriteModel);
             PATCH_UPDATE_COUNT.increment();
+            if (incrementalDiff.isPresent()) {
+                EVENT_DIFF_COUNT.increment();
+            }
             isPatchUpdate1 = true;
         } else {
             thingWriteModel = this;
@@ -243,6 +256,45 @@ public final class ThingWriteModel extends AbstractWriteModel {
         return Optional.of(MongoWriteModel.of(thingWriteModel, mongoWriteModel, isPatchUpdate1));
     }
 
+    /**
+     * Compute the diff from the resource paths of the events between the last write model and this one without
+     * comparing the unchanged parts of the documents. Not possible if any event is missing, e.g. after a background
+     * sync, or if the policy changed.
+     */
+    private Optional<BsonDiff> tryComputeIncrementalDiff(final ThingWriteModel lastWriteModel,
+            final int maxWireVersion) {
+
+        final var lastMetadata = lastWriteModel.getMetadata();
+        final var metadata = getMetadata();
+        if (!metadata.getThingPolicyTag().equals(lastMetadata.getThingPolicyTag()) ||
+                !metadata.getAllReferencedPolicyTags().equals(lastMetadata.getAllReferencedPolicyTags())) {
+            return Optional.empty();
+        }
+        final long lastRevision = lastMetadata.getThingRevision();
+        final List<ThingEvent<?>> events = metadata.getEvents()
+                .stream()
+                .filter(event -> event.getRevision() > lastRevision)
+                .toList();
+        final long distinctRevisions = events.stream().mapToLong(ThingEvent::getRevision).distinct().count();
+        if (events.isEmpty() || lastRevision <= 0 ||
+                distinctRevisions != metadata.getThingRevision() - lastRevision ||
+                events.stream().anyMatch(event -> event.getRevision() > metadata.getThingRevision())) {
+            return Optional.empty();
+        }
+        final List<JsonPointer> changedPaths = events.stream().map(ThingEvent::getResourcePath).toList();
+        if (changedPaths.contains(POLICY_ID_PATH)) {
+            return Optional.empty();
+        }
+        try {
+            return BsonDiff.minusThingDocs(getThingDocument(), lastWriteModel.getThingDocument(), changedPaths,
+                    maxWireVersion);
+        } catch (final BsonInvalidOperationException e) {
+            LOGGER.error("Failed to compute BSON diff of paths <{}> between <{}> and <{}>", changedPaths,
+                    getThingDocument(), lastWriteModel.getThingDocument(), e);
+            return Optional.empty();
+        }
+    }
+
     private Optional<BsonDiff> tryComputeDiff(final BsonDocument minuend, final BsonDocument subtrahend,
             final int maxWireVersion) {
         try {
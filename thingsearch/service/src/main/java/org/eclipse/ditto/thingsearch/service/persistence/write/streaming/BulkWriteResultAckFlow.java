@@ -89,6 +89,35 @@ public final class BulkWriteResultAckFlow {
         }
     }
 
+    /**
+     * Get the indices of the write models of a bulk write which have to be retried, given the status reported by
+     * {@link #checkBulkWriteResult(WriteResultAndErrors)}. Patch updates of a bulk write with an incorrect patch are
+     * all retried, because it is not possible to identify which patches were not applied.
+     *
+     * @param status The status of the bulk write.
+     * @param writeResultAndErrors The result of the bulk write.
+     * @return The indices of the write models to retry.
+     */
+    public static BitSet getIndicesToRetry(final Status status, final WriteResultAndErrors writeResultAndErrors) {
+        final List<MongoWriteModel> writeModels = writeResultAndErrors.getWriteModels();
+        final BitSet indicesToRetry = new BitSet(writeModels.size());
+        switch (status) {
+            case UNACKNOWLEDGED, CONSISTENCY_ERROR -> indicesToRetry.set(0, writeModels.size());
+            default -> {
+                writeResultAndErrors.getBulkWriteErrors().forEach(error -> indicesToRetry.set(error.getIndex()));
+                if (status == Status.INCORRECT_PATCH) {
+                    for (int i = 0; i < writeModels.size(); ++i) {
+                        if (writeModels.get(i).isPatchUpdate()) {
+                            indicesToRetry.set(i);
+                        }
+                    }
+                }
+            }
+        }
+
+        return indicesToRetry;
+    }
+
     private static List<String> getConsistencyOKResult(final WriteResultAndErrors writeResultAndErrors,
             final boolean containsIncorrectPatch) {
         return acknowledgeSuccessesAndFailures(writeResultAndErrors, containsIncorrectPatch);
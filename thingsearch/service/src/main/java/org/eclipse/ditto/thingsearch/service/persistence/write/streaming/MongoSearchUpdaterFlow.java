@@ -93,6 +93,21 @@ final class MongoSearchUpdaterFlow {
                         .map(resultOrErrors -> new ThingUpdater.Result(writeModel, resultOrErrors)));
     }
 
+    /**
+     * Create a flow that performs the database operations described by a list of MongoWriteModels with one bulk write.
+     * All results of a bulk write share its WriteResultAndErrors.
+     *
+     * @return The flow.
+     */
+    public Flow<List<MongoWriteModel>, List<ThingUpdater.Result>, NotUsed> createBulk() {
+        return Flow.<List<MongoWriteModel>>create()
+                .flatMapConcat(writeModels -> executeBulkWrite(writeModels)
+                        .map(resultAndErrors -> writeModels.stream()
+                                .map(writeModel -> new ThingUpdater.Result(writeModel, resultAndErrors))
+                                .toList())
+                        .orElse(Source.single(List.of())));
+    }
+
     private Source<WriteResultAndErrors, NotUsed> executeBulkWrite(final Collection<MongoWriteModel> writeModels) {
         final String bulkWriteCorrelationId = UUID.randomUUID().toString();
         if (writeModels.isEmpty()) {
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.streaming;
+
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.internal.models.streaming.RangeDigest;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.Metadata;
+
+import akka.NotUsed;
+import akka.stream.javadsl.Source;
+
+/**
+ * Stream locating inconsistencies between the things persistence and the search index by comparing
+ * {@link RangeDigest}s of ranges of thing IDs: ranges with equal digests are skipped, ranges with different digests
+ * are split recursively until they contain few enough search index entries to be compared entry by entry.
+ * A consistent search index thus costs only the digests of the top-level ranges.
+ */
+public final class RangeDigestSyncStream {
+
+    private final RangeSource<List<RangeDigest>> indexedDigests;
+    private final PersistedDigests persistedDigests;
+    private final RangeSource<Metadata> leafComparison;
+    private final int leafSize;
+
+    private RangeDigestSyncStream(final RangeSource<List<RangeDigest>> indexedDigests,
+            final PersistedDigests persistedDigests,
+            final RangeSource<Metadata> leafComparison,
+            final int leafSize) {
+
+        this.indexedDigests = indexedDigests;
+        this.persistedDigests = persistedDigests;
+        this.leafComparison = leafComparison;
+        this.leafSize = leafSize;
+    }
+
+    /**
+     * Create a range digest sync stream.
+     *
+     * @param indexedDigests splits a range of the search index into buckets and computes their digests.
+     * @param persistedDigests computes the digests of the same buckets in the things persistence.
+     * @param leafComparison compares a range entry by entry and emits the metadata of inconsistent things.
+     * @param leafSize the maximum number of search index entries of a range to compare entry by entry.
+     * @return the stream.
+     */
+    public static RangeDigestSyncStream of(final RangeSource<List<RangeDigest>> indexedDigests,
+            final PersistedDigests persistedDigests,
+            final RangeSource<Metadata> leafComparison,
+            final int leafSize) {
+
+        return new RangeDigestSyncStream(indexedDigests, persistedDigests, leafComparison, leafSize);
+    }
+
+    /**
+     * Find the things of a range whose search index entries are inconsistent with the things persistence.
+     *
+     * @param lowerBound the exclusive lower bound of the range.
+     * @param upperBound the inclusive upper bound of the range, or {@code null} if the range is unbounded.
+     * @return source of the metadata of inconsistent things as emitted by the leaf comparison.
+     */
+    public Source<Metadata, NotUsed> findInconsistencies(final ThingId lowerBound,
+            @Nullable final ThingId upperBound) {
+
+        return indexedDigests.apply(lowerBound, upperBound)
+                .flatMapConcat(indexed -> persistedDigests.apply(getLowerBounds(indexed), upperBound)
+                        .flatMapConcat(persisted -> compareBuckets(indexed, persisted, upperBound)));
+    }
+
+    private Source<Metadata, NotUsed> compareBuckets(final List<RangeDigest> indexed,
+            final List<RangeDigest> persisted,
+            @Nullable final ThingId upperBound) {
+
+        if (indexed.size() != persisted.size()) {
+            return Source.failed(new IllegalStateException(
+                    String.format("Got <%d> persisted digests for <%d> ranges", persisted.size(), indexed.size())));
+        }
+        return Source.range(0, indexed.size() - 1).flatMapConcat(i -> {
+            final RangeDigest indexedDigest = indexed.get(i);
+            final ThingId bucketLowerBound = ThingId.of(indexedDigest.getLowerBound());
+            final ThingId bucketUpperBound =
+                    i + 1 < indexed.size() ? ThingId.of(indexed.get(i + 1).getLowerBound()) : upperBound;
+            if (indexedDigest.hasSameChecksumAs(persisted.get(i))) {
+                return Source.<Metadata>empty();
+            } else if (indexed.size() == 1 || indexedDigest.getCount() <= leafSize) {
+                // the range cannot be split further or is small enough to compare entry by entry
+                return leafComparison.apply(bucketLowerBound, bucketUpperBound);
+            } else {
+                return findInconsistencies(bucketLowerBound, bucketUpperBound);
+            }
+        });
+    }
+
+    private static List<ThingId> getLowerBounds(final List<RangeDigest> digests) {
+        return digests.stream().map(digest -> ThingId.of(digest.getLowerBound())).toList();
+    }
+
+    /**
+     * Function of a range of thing IDs.
+     *
+     * @param <T> type of the elements of the result.
+     */
+    @FunctionalInterface
+    public interface RangeSource<T> {
+
+        /**
+         * Apply the function to a range.
+         *
+         * @param lowerBound the exclusive lower bound of the range.
+         * @param upperBound the inclusive upper bound of the range, or {@code null} if the range is unbounded.
+         * @return the result.
+         */
+        Source<T, NotUsed> apply(ThingId lowerBound, @Nullable ThingId upperBound);
+    }
+
+    /**
+     * Computes the digests of consecutive ranges in the things persistence.
+     */
+    @FunctionalInterface
+    public interface PersistedDigests {
+
+        /**
+         * Compute the digests of consecutive ranges.
+         *
+         * @param lowerBounds the exclusive lower bounds of the ranges.
+         * @param upperBound the inclusive upper bound of the last range, or {@code null} if it is unbounded.
+         * @return source of the list of digests in the order of the lower bounds.
+         */
+        Source<List<RangeDigest>, NotUsed> apply(List<ThingId> lowerBounds, @Nullable ThingId upperBound);
+    }
+
+}
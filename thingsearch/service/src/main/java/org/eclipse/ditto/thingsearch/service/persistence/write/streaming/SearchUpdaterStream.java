@@ -12,13 +12,13 @@
  */
 package org.eclipse.ditto.thingsearch.service.persistence.write.streaming;
 
-import java.util.Optional;
-import java.util.concurrent.CompletionStage;
-import java.util.function.Function;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.eclipse.ditto.base.model.namespaces.NamespaceBlockedException;
 import org.eclipse.ditto.internal.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.thingsearch.service.common.config.UpdaterConfig;
+import org.eclipse.ditto.thingsearch.service.updater.actors.MongoWriteModel;
 import org.eclipse.ditto.thingsearch.service.updater.actors.ThingUpdater;
 
 import com.mongodb.reactivestreams.client.MongoDatabase;
@@ -26,6 +26,7 @@ import com.mongodb.reactivestreams.client.MongoDatabase;
 import akka.NotUsed;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
+import akka.japi.pf.PFBuilder;
 import akka.stream.javadsl.Flow;
 import akka.stream.javadsl.Source;
 
@@ -86,34 +87,62 @@ public final class SearchUpdaterStream {
      * @return The flow.
      */
     public Flow<ThingUpdater.Data, ThingUpdater.Result, NotUsed> flow() {
-        final Flow<ThingUpdater.Data, ThingUpdater.Data, NotUsed> blockNamespace =
-                blockNamespaceFlow(data -> data.metadata().getThingId().getNamespace());
-
-        return Flow.<ThingUpdater.Data>create().flatMapConcat(data -> Source.single(data)
-                .via(blockNamespace)
-                .map(Optional::of)
-                .orElse(Source.single(Optional.empty()))
-                .flatMapConcat(optional -> {
-                    if (optional.isPresent()) {
-                        return Source.single(optional.get())
-                                .via(enforcementFlow.create(searchUpdateMapper))
-                                .via(mongoSearchUpdaterFlow.create());
-                    } else {
-                        return Source.single(asNamespaceBlockedException(data));
-                    }
-                }));
+        return Flow.<ThingUpdater.Data>create().flatMapConcat(data -> {
+            if (blockedNamespaces.isBlocked(data.metadata().getThingId().getNamespace())) {
+                return Source.single(asNamespaceBlockedException(data));
+            } else {
+                return Source.single(data)
+                        .via(enforcementFlow.create(searchUpdateMapper))
+                        .via(mongoSearchUpdaterFlow.create());
+            }
+        });
     }
 
-    private <T> Flow<T, T, NotUsed> blockNamespaceFlow(final Function<T, String> namespaceExtractor) {
-        return Flow.<T>create()
-                .flatMapConcat(element -> {
-                    final String namespace = namespaceExtractor.apply(element);
-                    final CompletionStage<Boolean> shouldUpdate = blockedNamespaces.contains(namespace)
-                            .handle((result, error) -> result == null || !result);
-                    return Source.completionStage(shouldUpdate)
-                            .filter(Boolean::valueOf)
-                            .map(bool -> element);
-                });
+    /**
+     * Create a flow for a partition of thing-updaters. Each element is a batch of thing-updater data with at most one
+     * element per thing. Write models are computed for up to {@code parallelism} things at a time and persisted with
+     * one bulk write per batch. Things whose update was skipped have no result; all results of the bulk write share
+     * its WriteResultAndErrors.
+     *
+     * @param parallelism how many write models to compute in parallel.
+     * @return The flow.
+     */
+    public Flow<List<ThingUpdater.Data>, List<ThingUpdater.Result>, NotUsed> batchFlow(final int parallelism) {
+        final var writeModelFlow = enforcementFlow.create(searchUpdateMapper);
+
+        return Flow.<List<ThingUpdater.Data>>create().flatMapConcat(batch -> {
+            final List<ThingUpdater.Result> failures = new ArrayList<>();
+            final List<ThingUpdater.Data> dataToPersist = new ArrayList<>(batch.size());
+            for (final ThingUpdater.Data data : batch) {
+                if (blockedNamespaces.isBlocked(data.metadata().getThingId().getNamespace())) {
+                    failures.add(asNamespaceBlockedException(data));
+                } else {
+                    dataToPersist.add(data);
+                }
+            }
+
+            return Source.from(dataToPersist)
+                    .flatMapMerge(parallelism, data -> Source.single(data)
+                            .via(writeModelFlow)
+                            .<Object>map(writeModel -> writeModel)
+                            .recover(new PFBuilder<Throwable, Object>()
+                                    .matchAny(error -> ThingUpdater.Result.fromError(data.metadata(), error))
+                                    .build()))
+                    .<List<MongoWriteModel>>fold(new ArrayList<>(), (writeModels, element) -> {
+                        if (element instanceof MongoWriteModel writeModel) {
+                            writeModels.add(writeModel);
+                        } else {
+                            failures.add((ThingUpdater.Result) element);
+                        }
+                        return writeModels;
+                    })
+                    .via(mongoSearchUpdaterFlow.createBulk())
+                    .map(results -> {
+                        final List<ThingUpdater.Result> allResults = new ArrayList<>(failures);
+                        allResults.addAll(results);
+                        return allResults;
+                    });
+        });
     }
 
     private static ThingUpdater.Result asNamespaceBlockedException(final ThingUpdater.Data data) {
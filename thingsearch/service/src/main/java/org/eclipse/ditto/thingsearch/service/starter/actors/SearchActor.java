@@ -42,6 +42,7 @@ import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.internal.utils.metrics.instruments.timer.StartedTimer;
 import org.eclipse.ditto.internal.utils.tracing.DittoTracing;
 import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
 import org.eclipse.ditto.json.JsonCollectors;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
@@ -54,10 +55,14 @@ import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.thingsearch.api.ThingsSearchConstants;
 import org.eclipse.ditto.thingsearch.api.commands.sudo.StreamThings;
 import org.eclipse.ditto.thingsearch.api.commands.sudo.SudoCountThings;
+import org.eclipse.ditto.thingsearch.api.commands.sudo.SudoRetrieveIndexRecommendations;
+import org.eclipse.ditto.thingsearch.api.commands.sudo.SudoRetrieveIndexRecommendationsResponse;
 import org.eclipse.ditto.thingsearch.api.commands.sudo.SudoRetrieveNamespaceReport;
 import org.eclipse.ditto.thingsearch.model.SearchModelFactory;
 import org.eclipse.ditto.thingsearch.model.signals.commands.ThingSearchCommand;
 import org.eclipse.ditto.thingsearch.model.signals.commands.exceptions.SubscriptionAbortedException;
+import org.eclipse.ditto.thingsearch.model.signals.commands.query.AggregateThings;
+import org.eclipse.ditto.thingsearch.model.signals.commands.query.AggregateThingsResponse;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.CountThings;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.CountThingsResponse;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.QueryThings;
@@ -92,8 +97,8 @@ import akka.stream.javadsl.Source;
 import akka.stream.javadsl.StreamRefs;
 
 /**
- * Actor handling all supported {@link ThingSearchCommand}s. Currently, those are {@link CountThings} and {@link
- * QueryThings}.
+ * Actor handling all supported {@link ThingSearchCommand}s. Currently, those are {@link CountThings}, {@link
+ * QueryThings} and {@link AggregateThings}.
  * <p>
  * Passes the commands to the appropriate query actor which is determined by the API version of each received command
  * (see {@link DittoHeaders#getSchemaVersion()}).
@@ -176,7 +181,9 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
                 .match(CountThings.class, this::count)
                 .match(SudoCountThings.class, this::sudoCount)
                 .match(QueryThings.class, this::query)
+                .match(AggregateThings.class, this::aggregate)
                 .match(SudoRetrieveNamespaceReport.class, this::namespaceReport)
+                .match(SudoRetrieveIndexRecommendations.class, this::indexRecommendations)
                 .match(StreamThings.class, this::stream)
                 .match(DistributedPubSubMediator.SubscribeAck.class, ack -> log.info("Got <{}>", ack))
                 .matchAny(any -> log.warning("Got unknown message '{}'", any))
@@ -251,6 +258,19 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
                 .to(getSender());
     }
 
+    private void indexRecommendations(final SudoRetrieveIndexRecommendations command) {
+        final var dittoHeaders = command.getDittoHeaders();
+        log.withCorrelationId(dittoHeaders)
+                .info("Processing SudoRetrieveIndexRecommendations command: {}", command);
+
+        // exclude index recommendations from query counting so that they do not delay shutdown
+        final var response = searchPersistence.retrieveIndexRecommendations(command.getLimit())
+                .fold(JsonArray.newBuilder(), (builder, recommendation) -> builder.add(recommendation))
+                .map(builder -> SudoRetrieveIndexRecommendationsResponse.of(builder.build(), dittoHeaders))
+                .runWith(Sink.head(), SystemMaterializer.get(getSystem()).materializer());
+        Patterns.pipe(response, getContext().dispatcher()).to(getSender());
+    }
+
     private void count(final CountThings countThings) {
         final var sender = getSender();
         performLogging(countThings);
@@ -290,6 +310,62 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
                 .thenCompose(stream -> performStream((StreamThings) stream, sender, l));
     }
 
+    private void aggregate(final AggregateThings aggregateThings) {
+        final var sender = getSender();
+        performLogging(aggregateThings);
+
+        final ThreadSafeDittoLoggingAdapter l = log.withCorrelationId(aggregateThings);
+        l.info("Processing AggregateThings command with namespaces <{}>, filter <{}>, groupBy <{}> and " +
+                        "aggregations <{}>", aggregateThings.getNamespaces(), aggregateThings.getFilter(),
+                aggregateThings.getGroupBy(), aggregateThings.getAggregations());
+
+        withRequestCounting(
+                applySignalTransformation(aggregateThings, sender)
+                        .thenCompose(preEnforcer::apply)
+                        .thenCompose(signal -> performAggregation((AggregateThings) signal, sender))
+        );
+    }
+
+    private CompletionStage<Object> performAggregation(final AggregateThings aggregateThings,
+            final ActorRef sender) {
+
+        final var dittoHeaders = aggregateThings.getDittoHeaders();
+        final var queryType = "aggregate";
+        final StartedTimer aggregationTimer =
+                startNewTimer(aggregateThings.getImplementedSchemaVersion(), queryType, aggregateThings);
+        final StartedTimer queryParsingTimer = aggregationTimer.startNewSegment(QUERY_PARSING_SEGMENT_NAME);
+
+        final Source<AggregateThingsResponse, ?> aggregateThingsResponseSource =
+                createQuerySource(queryParser::parseAggregation, aggregateThings)
+                        .flatMapConcat(aggregation -> {
+                            stopTimer(queryParsingTimer);
+                            final StartedTimer databaseAccessTimer =
+                                    aggregationTimer.startNewSegment(DATABASE_ACCESS_SEGMENT_NAME);
+
+                            final List<String> subjectIds =
+                                    dittoHeaders.getAuthorizationContext().getAuthorizationSubjectIds();
+                            final Source<JsonArray, NotUsed> groupsSource =
+                                    searchPersistence.aggregate(aggregation, subjectIds)
+                                            .fold(JsonArray.newBuilder(), (builder, group) -> builder.add(group))
+                                            .map(JsonArrayBuilder::build);
+
+                            return processSearchPersistenceResult(groupsSource, dittoHeaders)
+                                    .via(Flow.fromFunction(result -> {
+                                        stopTimer(databaseAccessTimer);
+                                        return result;
+                                    }))
+                                    .map(groups -> AggregateThingsResponse.of(groups, dittoHeaders));
+                        });
+
+        final Source<Object, ?> replySourceWithErrorHandling =
+                aggregateThingsResponseSource.via(stopTimerAndHandleError(aggregationTimer, aggregateThings));
+
+        final var replyFuture =
+                replySourceWithErrorHandling.runWith(Sink.head(), SystemMaterializer.get(getSystem()).materializer());
+
+        return Patterns.pipe(replyFuture, getContext().dispatcher()).to(sender).future();
+    }
+
     private <T extends Command<?>> CompletionStage<Object> executeCount(final T countCommand,
             final Function<T, CompletionStage<Query>> queryParseFunction,
             final boolean isSudo,
@@ -535,11 +611,11 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
         });
     }
 
-    private static <T> Source<Query, NotUsed> createQuerySource(final Function<T, CompletionStage<Query>> parser,
+    private static <T, R> Source<R, NotUsed> createQuerySource(final Function<T, CompletionStage<R>> parser,
             final T command) {
         try {
             return Source.completionStage(parser.apply(command))
-                    .recoverWithRetries(1, new PFBuilder<Throwable, Source<Query, NotUsed>>()
+                    .recoverWithRetries(1, new PFBuilder<Throwable, Source<R, NotUsed>>()
                             .match(CompletionException.class, e -> Source.failed(e.getCause()))
                             .build());
         } catch (final Throwable e) {
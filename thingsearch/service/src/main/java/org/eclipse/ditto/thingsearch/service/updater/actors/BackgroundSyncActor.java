@@ -12,15 +12,19 @@
  */
 package org.eclipse.ditto.thingsearch.service.updater.actors;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.base.api.common.Shutdown;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.internal.models.streaming.LowerBound;
+import org.eclipse.ditto.internal.models.streaming.RangeDigest;
 import org.eclipse.ditto.internal.utils.akka.controlflow.ResumeSource;
 import org.eclipse.ditto.internal.utils.akka.streaming.TimestampPersistence;
 import org.eclipse.ditto.internal.utils.health.AbstractBackgroundStreamingActorWithConfigWithStatusReport;
@@ -39,6 +43,7 @@ import org.eclipse.ditto.thingsearch.service.common.config.DefaultBackgroundSync
 import org.eclipse.ditto.thingsearch.service.persistence.read.ThingsSearchPersistence;
 import org.eclipse.ditto.thingsearch.service.persistence.write.model.Metadata;
 import org.eclipse.ditto.thingsearch.service.persistence.write.streaming.BackgroundSyncStream;
+import org.eclipse.ditto.thingsearch.service.persistence.write.streaming.RangeDigestSyncStream;
 
 import com.typesafe.config.Config;
 
@@ -80,6 +85,12 @@ public final class BackgroundSyncActor
     private ThingId progressPersisted = EMPTY_THING_ID;
     private ThingId progressIndexed = EMPTY_THING_ID;
 
+    private boolean rangeDigestMode = false;
+    @Nullable private Instant syncStart = null;
+    private long bytesRead = 0L;
+    @Nullable private Duration lastSyncDuration = null;
+    private long lastSyncBytesRead = 0L;
+
     private boolean forceUpdateThings = false;
     private boolean forceInvalidateThing = false;
     private boolean forceInvalidatePolicy = false;
@@ -153,6 +164,15 @@ public final class BackgroundSyncActor
     protected void postEnhanceStatusReport(final JsonObjectBuilder statusReportBuilder) {
         statusReportBuilder.set("progressPersisted", progressPersisted.toString());
         statusReportBuilder.set("progressIndexed", progressIndexed.toString());
+        statusReportBuilder.set("mode", rangeDigestMode ? "range-digest" : "full");
+        if (syncStart != null) {
+            statusReportBuilder.set("syncStart", syncStart.toString());
+        }
+        statusReportBuilder.set("bytesRead", bytesRead);
+        if (lastSyncDuration != null) {
+            statusReportBuilder.set("lastSyncDuration", lastSyncDuration.toString());
+            statusReportBuilder.set("lastSyncBytesRead", lastSyncBytesRead);
+        }
     }
 
     @Override
@@ -163,7 +183,15 @@ public final class BackgroundSyncActor
     @Override
     protected void streamTerminated(final Event streamTerminated) {
         super.streamTerminated(streamTerminated);
+        if (syncStart != null) {
+            lastSyncDuration = Duration.between(syncStart, Instant.now());
+            lastSyncBytesRead = bytesRead;
+            log.info("Background sync in <{}> mode took <{}> and read about <{}> bytes.",
+                    rangeDigestMode ? "range-digest" : "full", lastSyncDuration, lastSyncBytesRead);
+        }
         // reset progress for the next round
+        syncStart = null;
+        bytesRead = 0L;
         progressPersisted = EMPTY_THING_ID;
         progressIndexed = EMPTY_THING_ID;
         forceUpdateThings = false;
@@ -209,6 +237,16 @@ public final class BackgroundSyncActor
 
     @Override
     protected Source<?, ?> getSource() {
+        syncStart = Instant.now();
+        bytesRead = 0L;
+        // force updates need the metadata of all things and therefore the full sync
+        rangeDigestMode = config.isRangeDigestEnabled() && !forceUpdateThings;
+        if (rangeDigestMode) {
+            final var rangeDigestSyncStream = RangeDigestSyncStream.of(this::getIndexedDigests,
+                    this::getPersistedDigests, this::compareRange, config.getRangeDigestLeafSize());
+            return rangeDigestSyncStream.findInconsistencies(EMPTY_THING_ID, null)
+                    .wireTap(handleInconsistency(false, forceInvalidateThing, forceInvalidatePolicy));
+        }
         return getLowerBoundSource()
                 .flatMapConcat(lowerBound -> streamMetadataFromLowerBound(lowerBound, namespacesFilter))
                 .wireTap(handleInconsistency(forceUpdateThings, forceInvalidateThing, forceInvalidatePolicy));
@@ -248,7 +286,44 @@ public final class BackgroundSyncActor
 
     }
 
+    private Source<List<RangeDigest>, NotUsed> getIndexedDigests(final ThingId lowerBound,
+            @Nullable final ThingId upperBound) {
+
+        return thingsSearchPersistence.sudoRetrieveRangeDigests(lowerBound, upperBound,
+                        config.getRangeDigestBuckets())
+                .wireTap(digests -> reportDigests(lowerBound, false, digests));
+    }
+
+    private Source<List<RangeDigest>, NotUsed> getPersistedDigests(final List<ThingId> lowerBounds,
+            @Nullable final ThingId upperBound) {
+
+        return thingsMetadataSource.retrieveRangeDigests(lowerBounds, upperBound)
+                .wireTap(digests -> reportDigests(lowerBounds.get(0), true, digests));
+    }
+
+    private void reportDigests(final ThingId lowerBound, final boolean persisted, final List<RangeDigest> digests) {
+        final long bytes = digests.stream().mapToLong(digest -> digest.toJson().toString().length()).sum();
+        getSelf().tell(new ProgressReport(lowerBound, persisted, bytes), ActorRef.noSender());
+    }
+
+    private Source<Metadata, NotUsed> compareRange(final ThingId lowerBound, @Nullable final ThingId upperBound) {
+        final Source<Metadata, NotUsed> persistedMetadata =
+                getPersistedMetadataSourceWithProgressReporting(lowerBound, List.of())
+                        .takeWhile(metadata -> isAtMost(metadata, upperBound))
+                        .wireTap(x -> streamedSnapshots.increment());
+        final Source<Metadata, NotUsed> indexedMetadata = getIndexedMetadataSource(lowerBound)
+                .takeWhile(metadata -> isAtMost(metadata, upperBound))
+                .wireTap(x -> scannedIndexDocs.increment());
+
+        return backgroundSyncStream.filterForInconsistencies(persistedMetadata, indexedMetadata);
+    }
+
+    private static boolean isAtMost(final Metadata metadata, @Nullable final ThingId upperBound) {
+        return upperBound == null || metadata.getThingId().compareTo(upperBound) <= 0;
+    }
+
     private void setProgress(final ProgressReport progress) {
+        bytesRead += progress.bytes();
         if (progress.persisted) {
             progressPersisted = progress.thingId;
         } else {
@@ -261,7 +336,8 @@ public final class BackgroundSyncActor
         final ThingId thingIdToBookmark = BackgroundSyncStream.compareThingIds(progressIndexed, progressPersisted) <= 0
                 ? progressIndexed
                 : progressPersisted;
-        if (!thingIdToBookmark.equals(EMPTY_THING_ID)) {
+        // range digest syncs always start from the top-level ranges and leave the bookmark to full syncs
+        if (!rangeDigestMode && !thingIdToBookmark.equals(EMPTY_THING_ID)) {
             doBookmarkThingId(thingIdToBookmark.toString());
         }
     }
@@ -310,14 +386,16 @@ public final class BackgroundSyncActor
     private Source<Metadata, NotUsed> getPersistedMetadataSourceWithProgressReporting(final ThingId lowerBound,
             final List<String> namespacesFilter) {
         return wrapAsResumeSource(lowerBound, lb -> thingsMetadataSource.createSource(lb, namespacesFilter))
-                .wireTap(persisted -> getSelf().tell(new ProgressReport(persisted.getThingId(), true),
+                .wireTap(persisted -> getSelf().tell(
+                        new ProgressReport(persisted.getThingId(), true, estimateSize(persisted)),
                         ActorRef.noSender()));
     }
 
     private Source<Metadata, NotUsed> getIndexedMetadataSource(final ThingId lowerBound) {
         return wrapAsResumeSource(lowerBound, thingsSearchPersistence::sudoStreamMetadata)
-                .wireTap(indexed ->
-                        getSelf().tell(new ProgressReport(indexed.getThingId(), false), ActorRef.noSender()));
+                .wireTap(indexed -> getSelf().tell(
+                        new ProgressReport(indexed.getThingId(), false, estimateSize(indexed)),
+                        ActorRef.noSender()));
     }
 
     private Source<Metadata, NotUsed> wrapAsResumeSource(final ThingId lowerBound,
@@ -342,7 +420,16 @@ public final class BackgroundSyncActor
         }
     }
 
-    private record ProgressReport(ThingId thingId, boolean persisted) {}
+    /**
+     * Estimate the bytes read for the metadata of a thing: its thing ID, its policy ID and the 64-bit values of its
+     * revision, policy revision and modified timestamp.
+     */
+    private static long estimateSize(final Metadata metadata) {
+        return metadata.getThingId().toString().length() + metadata.getPolicyIdInPersistence().length() +
+                3L * Long.BYTES;
+    }
+
+    private record ProgressReport(ThingId thingId, boolean persisted, long bytes) {}
 
     private enum Control {
         BOOKMARK_THING_ID
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.updater.actors;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.timer.PreparedTimer;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+import org.eclipse.ditto.thingsearch.service.common.config.DefaultUpdaterConfig;
+import org.eclipse.ditto.thingsearch.service.common.config.UpdaterConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.Metadata;
+import org.eclipse.ditto.thingsearch.service.persistence.write.streaming.ConsistencyLag;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.AbstractExtensionId;
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Extension;
+
+/**
+ * Actor system extension measuring how far the search index trails the things service on this search updater
+ * instance:
+ * <ul>
+ * <li>the consistency lag timer and its per-stage segments are tagged with the namespace of the thing,</li>
+ * <li>the lag between the timestamp of a thing event and its receipt resp. its persistence in the search index is
+ * recorded as histogram per namespace,</li>
+ * <li>the things with pending updates are tracked with the timestamp of their oldest pending event so that the most
+ * lagging things can be retrieved.</li>
+ * </ul>
+ */
+final class ConsistencyLagTracker implements Extension {
+
+    /**
+     * Name of the histogram of the lag between the timestamp of a thing event and a stage of the search updater.
+     */
+    static final String EVENT_LAG_HISTOGRAM_NAME = "things_wildcard_search_updater_event_lag_ms";
+
+    /**
+     * Tag of the stage of the search updater.
+     */
+    static final String TAG_STAGE = "stage";
+
+    /**
+     * Stage where a thing event is received by the search updater.
+     */
+    static final String STAGE_RECEIVED = "received";
+
+    /**
+     * Stage where the update caused by a thing event is persisted in the search index.
+     */
+    static final String STAGE_PERSISTED = "persisted";
+
+    /**
+     * Tag of the namespace.
+     */
+    static final String TAG_NAMESPACE = "namespace";
+
+    private static final String ALL_NAMESPACES = "_all";
+    private static final Id EXTENSION_ID = new Id();
+
+    private final boolean perNamespace;
+    private final int maxTrackedThings;
+    private final Map<ThingId, PendingUpdate> pendingUpdates;
+
+    private ConsistencyLagTracker(final boolean perNamespace, final int maxTrackedThings) {
+        this.perNamespace = perNamespace;
+        this.maxTrackedThings = maxTrackedThings;
+        pendingUpdates = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Create a tracker independent of any actor system.
+     *
+     * @param updaterConfig the updater config.
+     * @return the tracker.
+     */
+    static ConsistencyLagTracker of(final UpdaterConfig updaterConfig) {
+        return new ConsistencyLagTracker(updaterConfig.isConsistencyLagPerNamespaceEnabled(),
+                updaterConfig.getConsistencyLagMaxTrackedThings());
+    }
+
+    /**
+     * Get the extension.
+     *
+     * @param system the actor system.
+     * @return this extension.
+     */
+    static ConsistencyLagTracker get(final ActorSystem system) {
+        return EXTENSION_ID.get(system);
+    }
+
+    /**
+     * Prepare the consistency lag timer for an update of a thing.
+     *
+     * @param thingId the thing ID.
+     * @return the prepared timer tagged with the namespace of the thing.
+     */
+    PreparedTimer prepareTimer(final ThingId thingId) {
+        return DittoMetrics.timer(ConsistencyLag.TIMER_NAME).tag(TAG_NAMESPACE, getNamespaceTag(thingId));
+    }
+
+    /**
+     * Record the receipt of a thing event which is applied to the search index.
+     *
+     * @param thingEvent the thing event.
+     */
+    void eventReceived(final ThingEvent<?> thingEvent) {
+        final var thingId = thingEvent.getEntityId();
+        final var now = Instant.now();
+        final Optional<Instant> timestamp = thingEvent.getTimestamp();
+        timestamp.ifPresent(eventTimestamp -> recordEventLag(thingId, STAGE_RECEIVED, eventTimestamp, now));
+
+        final var pendingUpdate = new PendingUpdate(thingEvent.getRevision(), timestamp.orElse(now));
+        if (pendingUpdates.size() < maxTrackedThings || pendingUpdates.containsKey(thingId)) {
+            pendingUpdates.merge(thingId, pendingUpdate, PendingUpdate::merge);
+        }
+    }
+
+    /**
+     * Record that the search index is consistent with the given metadata, either because it was persisted or because
+     * the update was unnecessary.
+     *
+     * @param metadata the metadata of the persisted update.
+     */
+    void persisted(final Metadata metadata) {
+        final var thingId = metadata.getThingId();
+        metadata.getEvents()
+                .stream()
+                .flatMap(event -> event.getTimestamp().stream())
+                .min(Comparator.naturalOrder())
+                .ifPresent(oldestTimestamp -> recordEventLag(thingId, STAGE_PERSISTED, oldestTimestamp, Instant.now()));
+        pendingUpdates.computeIfPresent(thingId, (id, pendingUpdate) ->
+                pendingUpdate.revision() <= metadata.getThingRevision() ? null : pendingUpdate);
+    }
+
+    /**
+     * Stop tracking a thing, e.g. because its updater stopped.
+     *
+     * @param thingId the thing ID.
+     */
+    void untrack(final ThingId thingId) {
+        pendingUpdates.remove(thingId);
+    }
+
+    /**
+     * Retrieve the things whose oldest pending update waits longest.
+     *
+     * @param limit the maximum number of things to retrieve.
+     * @return a JSON object per thing, the most lagging first.
+     */
+    JsonArray getMostLaggingThings(final int limit) {
+        final var now = Instant.now();
+        return pendingUpdates.entrySet()
+                .stream()
+                .sorted(Map.Entry.comparingByValue(Comparator.comparing(PendingUpdate::since)))
+                .limit(limit)
+                .map(entry -> JsonObject.newBuilder()
+                        .set("thingId", entry.getKey().toString())
+                        .set("revision", entry.getValue().revision())
+                        .set("since", entry.getValue().since().toString())
+                        .set("lagMillis", Duration.between(entry.getValue().since(), now).toMillis())
+                        .build())
+                .collect(JsonCollectors.valuesToArray());
+    }
+
+    private String getNamespaceTag(final ThingId thingId) {
+        return perNamespace ? thingId.getNamespace() : ALL_NAMESPACES;
+    }
+
+    private void recordEventLag(final ThingId thingId, final String stage, final Instant eventTimestamp,
+            final Instant now) {
+
+        DittoMetrics.histogram(EVENT_LAG_HISTOGRAM_NAME)
+                .tag(TAG_STAGE, stage)
+                .tag(TAG_NAMESPACE, getNamespaceTag(thingId))
+                .record(Math.max(0L, Duration.between(eventTimestamp, now).toMillis()));
+    }
+
+    /**
+     * The pending update of a thing.
+     *
+     * @param revision the latest revision to persist.
+     * @param since timestamp of the oldest event not yet persisted.
+     */
+    private record PendingUpdate(long revision, Instant since) {
+
+        private PendingUpdate merge(final PendingUpdate newer) {
+            return new PendingUpdate(Math.max(revision, newer.revision),
+                    since.isBefore(newer.since) ? since : newer.since);
+        }
+    }
+
+    private static final class Id extends AbstractExtensionId<ConsistencyLagTracker> {
+
+        @Override
+        public ConsistencyLagTracker createExtension(final ExtendedActorSystem system) {
+            final var config = system.settings().config();
+            final UpdaterConfig updaterConfig = config.hasPath("ditto.search")
+                    ? DefaultUpdaterConfig.of(DefaultScopedConfig.newInstance(
+                            DefaultScopedConfig.dittoScoped(config), "search"))
+                    : DefaultUpdaterConfig.of(ConfigFactory.empty());
+            return of(updaterConfig);
+        }
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.updater.actors;
+
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.internal.utils.cluster.ShardRegionExtractor;
+
+import akka.cluster.sharding.ShardRegion;
+
+/**
+ * Message extractor of the search updater shard region in partitioned ingestion mode: messages are assigned to the
+ * same shards as by {@link ShardRegionExtractor}, so that shard region proxies of other services need not know the
+ * mode, but all messages of a shard are delivered to one {@link ThingUpdaterPartition} whose entity ID is the shard
+ * ID.
+ */
+final class PartitionedShardRegionExtractor implements ShardRegion.MessageExtractor {
+
+    private final ShardRegionExtractor delegate;
+
+    private PartitionedShardRegionExtractor(final ShardRegionExtractor delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Create a partitioned extractor from the extractor assigning thing IDs to shards.
+     *
+     * @param delegate the extractor assigning thing IDs to shards.
+     * @return the partitioned extractor.
+     */
+    static PartitionedShardRegionExtractor of(final ShardRegionExtractor delegate) {
+        return new PartitionedShardRegionExtractor(delegate);
+    }
+
+    @Nullable
+    @Override
+    public String entityId(final Object message) {
+        return shardId(message);
+    }
+
+    @Nullable
+    @Override
+    public Object entityMessage(final Object message) {
+        return delegate.entityMessage(message);
+    }
+
+    @Nullable
+    @Override
+    public String shardId(final Object message) {
+        if (message instanceof ShardRegion.StartEntity startEntity) {
+            // entity IDs of partitions are shard IDs
+            return startEntity.entityId();
+        } else {
+            return delegate.shardId(message);
+        }
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final var that = (PartitionedShardRegionExtractor) o;
+        return Objects.equals(delegate, that.delegate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(delegate);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + "delegate=" + delegate + "]";
+    }
+
+}
@@ -126,7 +126,6 @@ final class PolicyModificationForwarder extends AbstractActor {
     public Receive createReceive() {
         return ReceiveBuilder.create()
                 .match(PolicyTag.class, this::policyTag)
-                .match(LocalWrappedPolicyTag.class, this::updatePolicyRevision)
                 .match(PolicyReferenceTag.class, this::forwardToThingsUpdater)
                 .matchEquals(Control.DUMP_POLICY_REVISIONS, this::dumpPolicyRevisions)
                 .matchEquals(Control.STREAM_COMPLETED, this::streamTerminated)
@@ -141,17 +140,12 @@ final class PolicyModificationForwarder extends AbstractActor {
      * @param policyTag incoming policy tag
      */
     private void policyTag(final PolicyTag policyTag) {
-        final ActorRef self = getSelf();
-        blockNamespaceBehavior.isBlocked(policyTag.getEntityId())
-                .whenComplete((isBlocked, error) -> {
-                    if (null == error && !isBlocked) {
-                        self.tell(new LocalWrappedPolicyTag(policyTag), self);
-                    }
-                });
+        if (!blockNamespaceBehavior.isBlocked(policyTag.getEntityId())) {
+            updatePolicyRevision(policyTag);
+        }
     }
 
-    private void updatePolicyRevision(final LocalWrappedPolicyTag wrappedPolicyTag) {
-        final PolicyTag policyTag = wrappedPolicyTag.delegate();
+    private void updatePolicyRevision(final PolicyTag policyTag) {
         final PolicyId policyId = policyTag.getEntityId();
         final long revision = policyTag.getRevision();
         policyRevisions.merge(policyId, revision, Long::max);
@@ -242,6 +236,4 @@ final class PolicyModificationForwarder extends AbstractActor {
         STREAM_COMPLETED
     }
 
-    private record LocalWrappedPolicyTag(PolicyTag delegate) {}
-
 }
@@ -96,11 +96,21 @@ public final class SearchUpdaterRootActor extends AbstractActor {
                         dittoMongoClient.getDefaultDatabase(), blockedNamespaces,
                         searchUpdateMapper);
 
-        final var thingUpdaterProps =
-                ThingUpdater.props(searchUpdaterStream.flow(), thingsSearchPersistence::recoverLastWriteModel,
-                        searchConfig, pubSubMediator);
-        final ActorRef updaterShard =
-                shardRegionFactory.getSearchUpdaterShardRegion(numberOfShards, thingUpdaterProps, CLUSTER_ROLE);
+        final ActorRef updaterShard;
+        if (updaterConfig.isPartitionedIngestionEnabled()) {
+            log.info("Partitioned ingestion is enabled.");
+            final var parallelism = updaterConfig.getStreamConfig().getRetrievalConfig().getParallelism();
+            final var partitionProps = ThingUpdaterPartition.props(searchUpdaterStream.batchFlow(parallelism),
+                    thingsSearchPersistence::recoverLastWriteModel, searchConfig, pubSubMediator);
+            updaterShard = shardRegionFactory.getPartitionedSearchUpdaterShardRegion(numberOfShards, partitionProps,
+                    CLUSTER_ROLE);
+        } else {
+            final var thingUpdaterProps =
+                    ThingUpdater.props(searchUpdaterStream.flow(), thingsSearchPersistence::recoverLastWriteModel,
+                            searchConfig, pubSubMediator);
+            updaterShard =
+                    shardRegionFactory.getSearchUpdaterShardRegion(numberOfShards, thingUpdaterProps, CLUSTER_ROLE);
+        }
 
         final var searchUpdaterPersistence =
                 MongoThingsSearchUpdaterPersistence.of(dittoMongoClient.getDefaultDatabase(),
@@ -104,6 +104,27 @@ public final class ShardRegionFactory {
         return createShardRegion(numberOfShards, thingUpdaterProps, UPDATER_SHARD_REGION, clusterRole);
     }
 
+    /**
+     * Returns a new Sharding Region for the Search Updater in partitioned ingestion mode, where all messages of a shard
+     * are delivered to one partition.
+     *
+     * @param numberOfShards the number of shards to use.
+     * @param partitionProps the Props of the ThingUpdaterPartition actor.
+     * @param clusterRole cluster role where the shard region starts.
+     * @return the Sharding Region.
+     * @throws NullPointerException if {@code partitionProps} is {@code null}.
+     */
+    @Nonnull
+    public ActorRef getPartitionedSearchUpdaterShardRegion(final int numberOfShards,
+            @Nonnull final Props partitionProps, final String clusterRole) {
+
+        checkNotNull(partitionProps, "partitionProps");
+        final var extractor =
+                PartitionedShardRegionExtractor.of(ShardRegionExtractor.of(numberOfShards, actorSystem));
+
+        return ShardRegionCreator.start(actorSystem, UPDATER_SHARD_REGION, partitionProps, extractor, clusterRole);
+    }
+
     /**
      * Create a new shard region.
      *
@@ -62,6 +62,7 @@ import com.mongodb.client.model.DeleteOneModel;
 import akka.Done;
 import akka.NotUsed;
 import akka.actor.AbstractFSMWithStash;
+import akka.actor.ActorContext;
 import akka.actor.ActorRef;
 import akka.actor.ActorSelection;
 import akka.actor.FSM;
@@ -83,11 +84,11 @@ import akka.stream.javadsl.Source;
  */
 public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State, ThingUpdater.Data> {
 
-    private static final Counter INCORRECT_PATCH_UPDATE_COUNT =
+    static final Counter INCORRECT_PATCH_UPDATE_COUNT =
             DittoMetrics.counter("wildcard_search_incorrect_patch_updates");
-    private static final Counter UPDATE_FAILURE_COUNT = DittoMetrics.counter("wildcard_search_update_failures");
+    static final Counter UPDATE_FAILURE_COUNT = DittoMetrics.counter("wildcard_search_update_failures");
 
-    private static final Duration BLOCK_NAMESPACE_SHUTDOWN_DELAY = Duration.ofMinutes(2);
+    static final Duration BLOCK_NAMESPACE_SHUTDOWN_DELAY = Duration.ofMinutes(2);
 
     // alias Ditto Shutdown class because FSM shadows it
     private static final Class<org.eclipse.ditto.base.api.common.Shutdown> SHUTDOWN_CLASS =
@@ -96,10 +97,10 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
     // logger for "trace" statements
     private static final DittoLogger LOGGER = DittoLoggerFactory.getLogger(ThingUpdater.class);
 
-    private static final AcknowledgementRequest SEARCH_PERSISTED_REQUEST =
+    static final AcknowledgementRequest SEARCH_PERSISTED_REQUEST =
             AcknowledgementRequest.of(DittoAcknowledgementLabel.SEARCH_PERSISTED);
 
-    private static final String FORCE_UPDATE = "force-update";
+    static final String FORCE_UPDATE = "force-update";
 
     private final DittoDiagnosticLoggingAdapter log;
     private final ThingId thingId;
@@ -108,6 +109,7 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
     private final Duration writeInterval;
     private final Duration thingDeletionTimeout;
     private final Duration maxIdleTime;
+    private final ConsistencyLagTracker consistencyLagTracker;
     private ExponentialBackOff backOff;
     private boolean shuttingDown = false;
     @Nullable private UniqueKillSwitch killSwitch;
@@ -168,6 +170,7 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
                 config.getUpdaterConfig().getStreamConfig().getPersistenceConfig().getExponentialBackOffConfig());
         thingDeletionTimeout = config.getUpdaterConfig().getStreamConfig().getThingDeletionTimeout();
         maxIdleTime = config.getUpdaterConfig().getMaxIdleTime();
+        consistencyLagTracker = ConsistencyLagTracker.get(getContext().getSystem());
 
         startWith(State.RECOVERING, getInitialData(thingId));
         when(State.RECOVERING, recovering());
@@ -208,6 +211,7 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
         if (killSwitch != null) {
             killSwitch.shutdown();
         }
+        consistencyLagTracker.untrack(thingId);
         switch (stateName()) {
             case PERSISTING, RETRYING -> log.warning("Shut down during <{}>", stateName());
         }
@@ -335,6 +339,7 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
                 yield goTo(State.RETRYING).using(new Data(metadata, ThingDeleteModel.of(Metadata.ofDeleted(thingId))));
             }
             case OK -> {
+                consistencyLagTracker.persisted(data.metadata());
                 final var writeModel = result.mongoWriteModel().getDitto();
                 final var nextMetadata = writeModel.getMetadata().export();
                 yield goTo(State.READY).using(new Data(nextMetadata, writeModel));
@@ -346,6 +351,7 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
         killSwitch = null;
         final var nextMetadata = data.metadata().export();
         log.debug("Update skipped: <{}>", nextMetadata);
+        consistencyLagTracker.persisted(data.metadata());
 
         // initial update was skipped, stop updater to avoid endless skipped updates
         if (data.metadata().getThingRevision() <= 0 && data.lastWriteModel().getMetadata().getThingRevision() <= 0) {
@@ -401,7 +407,7 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
         }
     }
 
-    private boolean shouldPersist(final Metadata metadata, final Metadata lastMetadata) {
+    static boolean shouldPersist(final Metadata metadata, final Metadata lastMetadata) {
         return !metadata.equals(lastMetadata.export()) || lastMetadata.getThingRevision() <= 0;
     }
 
@@ -429,12 +435,7 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
 
     private FSM.State<State, Data> onPolicyReferenceTag(final PolicyReferenceTag policyReferenceTag, final Data data) {
         final var thingRevision = data.metadata().getThingRevision();
-        @Nullable final var affectedOldPolicyTag = data.metadata()
-                .getAllReferencedPolicyTags()
-                .stream()
-                .filter(policyTag -> policyTag.getEntityId().equals(policyReferenceTag.getPolicyTag().getEntityId()))
-                .findAny()
-                .orElse(null);
+        @Nullable final var affectedOldPolicyTag = findAffectedPolicyTag(data.metadata(), policyReferenceTag);
         if (log.isDebugEnabled()) {
             log.debug("Received new Policy-Reference-Tag for thing <{}> with revision <{}>,  thing-policy-tag <{}>:" +
                             " <{}>.",
@@ -447,32 +448,61 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
 
         final var policyTag = policyReferenceTag.getPolicyTag();
         if (affectedOldPolicyTag == null || affectedOldPolicyTag.getRevision() < policyTag.getRevision()) {
-            final PolicyTag thingPolicyTag = Optional.ofNullable(affectedOldPolicyTag)
-                    .flatMap(theRelevantPolicyTag -> data.metadata().getThingPolicyTag()
-                            .map(oldThingPolicyTag -> {
-                                if (oldThingPolicyTag.getEntityId().equals(policyTag.getEntityId())) {
-                                    return policyTag;
-                                } else {
-                                    return oldThingPolicyTag;
-                                }
-                            }))
-                    .or(data.metadata()::getThingPolicyTag)
-                    .orElse(null);
-
-            final Set<PolicyTag> allReferencedPolicyTags = buildNewAllReferencedPolicyTags(data.metadata()
-                    .getAllReferencedPolicyTags(), policyTag);
-
-            final var newMetadata = Metadata.of(thingId, thingRevision, thingPolicyTag, allReferencedPolicyTags, null)
-                    .withUpdateReason(UpdateReason.POLICY_UPDATE)
-                    .invalidateCaches(false, true);
-
-            return enqueue(newMetadata, data);
+            return enqueue(getPolicyUpdateMetadata(data.metadata(), affectedOldPolicyTag, policyTag), data);
         } else {
             log.debug("Dropping <{}> because <{}> did not change.", policyReferenceTag, affectedOldPolicyTag);
             return stay();
         }
     }
 
+    /**
+     * Find the policy tag referenced by the metadata of a thing which is affected by a policy reference tag.
+     *
+     * @param metadata the metadata of the thing.
+     * @param policyReferenceTag the policy reference tag.
+     * @return the affected policy tag or {@code null} if the thing does not reference the policy.
+     */
+    @Nullable
+    static PolicyTag findAffectedPolicyTag(final Metadata metadata, final PolicyReferenceTag policyReferenceTag) {
+        return metadata.getAllReferencedPolicyTags()
+                .stream()
+                .filter(policyTag -> policyTag.getEntityId().equals(policyReferenceTag.getPolicyTag().getEntityId()))
+                .findAny()
+                .orElse(null);
+    }
+
+    /**
+     * Compute the metadata to enqueue for a thing whose referenced policy changed.
+     *
+     * @param metadata the metadata of the thing.
+     * @param affectedOldPolicyTag the previously known tag of the changed policy, if any.
+     * @param policyTag the new tag of the changed policy.
+     * @return the metadata of the policy update.
+     */
+    static Metadata getPolicyUpdateMetadata(final Metadata metadata, @Nullable final PolicyTag affectedOldPolicyTag,
+            final PolicyTag policyTag) {
+
+        final PolicyTag thingPolicyTag = Optional.ofNullable(affectedOldPolicyTag)
+                .flatMap(theRelevantPolicyTag -> metadata.getThingPolicyTag()
+                        .map(oldThingPolicyTag -> {
+                            if (oldThingPolicyTag.getEntityId().equals(policyTag.getEntityId())) {
+                                return policyTag;
+                            } else {
+                                return oldThingPolicyTag;
+                            }
+                        }))
+                .or(metadata::getThingPolicyTag)
+                .orElse(null);
+
+        final Set<PolicyTag> allReferencedPolicyTags =
+                buildNewAllReferencedPolicyTags(metadata.getAllReferencedPolicyTags(), policyTag);
+
+        return Metadata.of(metadata.getThingId(), metadata.getThingRevision(), thingPolicyTag,
+                        allReferencedPolicyTags, null)
+                .withUpdateReason(UpdateReason.POLICY_UPDATE)
+                .invalidateCaches(false, true);
+    }
+
     private static Set<PolicyTag> buildNewAllReferencedPolicyTags(final Set<PolicyTag> oldAllReferencedPolicyTags,
             final PolicyTag policyTag) {
 
@@ -541,15 +571,15 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
             tickNow();
         }
 
-        final var startedTimer = DittoMetrics.timer(ConsistencyLag.TIMER_NAME)
+        consistencyLagTracker.eventReceived(thingEvent);
+        final var startedTimer = consistencyLagTracker.prepareTimer(thingId)
                 .tag(ConsistencyLag.TAG_SHOULD_ACK, Boolean.toString(shouldAcknowledge))
                 .onExpiration(t -> l.warning("Timer measuring consistency lag timed out for event <{}>", thingEvent))
                 .start();
         DittoTracing.newStartedSpanByTimer(thingEvent.getDittoHeaders(), startedTimer);
         ConsistencyLag.startS1InUpdater(startedTimer);
-        final var metadata = exportMetadataWithSender(shouldAcknowledge, thingEvent, getAckRecipient(
-                thingEvent.getDittoHeaders()), startedTimer, data)
-                .withUpdateReason(UpdateReason.THING_UPDATE);
+        final var metadata = getEventMetadata(thingEvent, data.metadata(), startedTimer,
+                shouldAcknowledge ? getAckRecipient(thingEvent.getDittoHeaders()) : null);
 
         return Optional.of(metadata);
     }
@@ -602,25 +632,23 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
         getSelf().tell(Control.TICK, ActorRef.noSender());
     }
 
-    private Metadata exportMetadataWithSender(final boolean shouldAcknowledge,
-            final ThingEvent<?> event,
-            final ActorSelection ackRecipient,
+    /**
+     * Compute the metadata to enqueue for a thing event which is newer than the known metadata.
+     *
+     * @param event the thing event.
+     * @param metadata the known metadata of the thing.
+     * @param consistencyLagTimer the timer measuring the consistency lag of the event.
+     * @param ackRecipient the recipient of the search-persisted acknowledgement or {@code null} if none is requested.
+     * @return the metadata of the event.
+     */
+    static Metadata getEventMetadata(final ThingEvent<?> event,
+            final Metadata metadata,
             @Nullable final StartedTimer consistencyLagTimer,
-            final Data data) {
-        final long thingRevision = event.getRevision();
-        if (shouldAcknowledge) {
-            return Metadata.of(thingId, thingRevision, data.metadata().getThingPolicyTag().orElse(null),
-                    data.metadata().getAllReferencedPolicyTags(), List.of(event), consistencyLagTimer,
-                    ackRecipient);
-        } else {
-            return exportMetadata(event, thingRevision, consistencyLagTimer, data);
-        }
-    }
+            @Nullable final ActorSelection ackRecipient) {
 
-    private Metadata exportMetadata(@Nullable final ThingEvent<?> event, final long thingRevision,
-            @Nullable final StartedTimer timer, final Data data) {
-        return Metadata.of(thingId, thingRevision, data.metadata().getThingPolicyTag().orElse(null),
-                data.metadata().getAllReferencedPolicyTags(), event == null ? List.of() : List.of(event), timer, null);
+        return Metadata.of(metadata.getThingId(), event.getRevision(), metadata.getThingPolicyTag().orElse(null),
+                        metadata.getAllReferencedPolicyTags(), List.of(event), consistencyLagTimer, ackRecipient)
+                .withUpdateReason(UpdateReason.THING_UPDATE);
     }
 
     private void refreshIdleShutdownTimer() {
@@ -638,12 +666,12 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
         }
     }
 
-    private static Data getInitialData(final ThingId thingId) {
+    static Data getInitialData(final ThingId thingId) {
         final var deletedMetadata = Metadata.ofDeleted(thingId);
         return new Data(deletedMetadata, ThingDeleteModel.of(deletedMetadata));
     }
 
-    private static JsonValue getDescription(final org.eclipse.ditto.base.api.common.Shutdown shutdown) {
+    static JsonValue getDescription(final org.eclipse.ditto.base.api.common.Shutdown shutdown) {
         final var type = shutdown.getReason().getType();
         if (type instanceof ShutdownReasonType.Known knownType) {
             return JsonValue.of(switch (knownType) {
@@ -656,9 +684,24 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
     }
 
     private ActorSelection getAckRecipient(final DittoHeaders dittoHeaders) {
+        return getAckRecipient(dittoHeaders, getContext(), getSender(), log);
+    }
+
+    /**
+     * Get the recipient of acknowledgements requested by a signal.
+     *
+     * @param dittoHeaders the headers of the signal.
+     * @param context the context of the actor which received the signal.
+     * @param sender the sender of the signal.
+     * @param log the logger of the actor which received the signal.
+     * @return the acknowledgement aggregator, the sender as fallback or the dead letters if nothing was requested.
+     */
+    static ActorSelection getAckRecipient(final DittoHeaders dittoHeaders, final ActorContext context,
+            final ActorRef sender, final DittoDiagnosticLoggingAdapter log) {
+
         final String ackregatorAddress = dittoHeaders.get(DittoHeaderDefinition.DITTO_ACKREGATOR_ADDRESS.getKey());
         if (null != ackregatorAddress) {
-            return getContext().actorSelection(ackregatorAddress);
+            return context.actorSelection(ackregatorAddress);
         } else if (dittoHeaders.getAcknowledgementRequests().stream()
                 .anyMatch(ackRequest ->
                         ackRequest.getLabel().equals(DittoAcknowledgementLabel.SEARCH_PERSISTED))) {
@@ -666,10 +709,10 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
                     .error("Processed Event did not contain header of acknowledgement aggregator address: {}",
                             dittoHeaders);
             // fallback to sender:
-            return getContext().actorSelection(getSender().path());
+            return context.actorSelection(sender.path());
         } else {
             // ignore
-            return getContext().actorSelection(getContext().getSystem().deadLetters().path());
+            return context.actorSelection(context.system().deadLetters().path());
         }
     }
 
@@ -0,0 +1,562 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.updater.actors;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.base.api.common.Shutdown;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.service.config.supervision.ExponentialBackOff;
+import org.eclipse.ditto.base.service.config.supervision.ExponentialBackOffConfig;
+import org.eclipse.ditto.internal.utils.akka.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.internal.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.internal.utils.cluster.StopShardedActor;
+import org.eclipse.ditto.internal.utils.tracing.DittoTracing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.events.ThingDeleted;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+import org.eclipse.ditto.thingsearch.api.PolicyReferenceTag;
+import org.eclipse.ditto.thingsearch.api.commands.sudo.SudoUpdateThing;
+import org.eclipse.ditto.thingsearch.service.common.config.SearchConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.Metadata;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.ThingDeleteModel;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.WriteResultAndErrors;
+import org.eclipse.ditto.thingsearch.service.persistence.write.streaming.BulkWriteResultAckFlow;
+import org.eclipse.ditto.thingsearch.service.persistence.write.streaming.ConsistencyLag;
+
+import akka.NotUsed;
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.ActorRef;
+import akka.actor.ActorSelection;
+import akka.actor.Props;
+import akka.cluster.pubsub.DistributedPubSubMediator;
+import akka.japi.Pair;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
+import akka.stream.KillSwitches;
+import akka.stream.Materializer;
+import akka.stream.UniqueKillSwitch;
+import akka.stream.javadsl.Flow;
+import akka.stream.javadsl.Keep;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+
+/**
+ * Alternative to {@link ThingUpdater} for the partitioned ingestion mode: one long-lived partition initiates the
+ * persistence updates of all things of one shard of the search updater shard region. Instead of an actor with timers
+ * and stash per thing, the partition keeps a compact entry per thing and persists the dirty things of the shard with
+ * one bulk write per write interval.
+ * <p>
+ * The consistency guarantees are those of {@link ThingUpdater}: the last write model of a thing is recovered before
+ * its first update, outdated events are dropped, each thing has at most one persistence operation in flight and
+ * messages arriving meanwhile are applied after it, failed updates are retried as full updates with exponential
+ * back-off and acknowledgements are sent after the bulk write.
+ */
+final class ThingUpdaterPartition extends AbstractActorWithTimers {
+
+    private static final Duration EVICTION_INTERVAL = Duration.ofMinutes(1L);
+
+    private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+    private final Flow<List<ThingUpdater.Data>, List<ThingUpdater.Result>, NotUsed> batchFlow;
+    private final Function<ThingId, Source<AbstractWriteModel, NotUsed>> recoveryFunction;
+    private final Materializer materializer;
+    private final ExponentialBackOffConfig backOffConfig;
+    private final Duration thingDeletionTimeout;
+    private final Duration maxIdleTime;
+    private final int maxBulkSize;
+    private final ConsistencyLagTracker consistencyLagTracker;
+    private final Map<ThingId, Entry> entries = new HashMap<>();
+    private final Set<ThingId> dirtyThings = new LinkedHashSet<>();
+    private boolean flushRequested = false;
+    private boolean shuttingDown = false;
+    @Nullable private UniqueKillSwitch killSwitch;
+
+    enum Control {
+        FLUSH,
+        EVICT
+    }
+
+    private enum Phase {
+        RECOVERING,
+        READY,
+        PERSISTING,
+        NAMESPACE_BLOCKED
+    }
+
+    @SuppressWarnings("unused")
+    private ThingUpdaterPartition(final Flow<List<ThingUpdater.Data>, List<ThingUpdater.Result>, NotUsed> batchFlow,
+            final Function<ThingId, Source<AbstractWriteModel, NotUsed>> recoveryFunction,
+            final SearchConfig config,
+            final ActorRef pubSubMediator) {
+
+        this.batchFlow = batchFlow;
+        this.recoveryFunction = recoveryFunction;
+        materializer = Materializer.createMaterializer(getContext());
+        final var updaterConfig = config.getUpdaterConfig();
+        final var streamConfig = updaterConfig.getStreamConfig();
+        backOffConfig = streamConfig.getPersistenceConfig().getExponentialBackOffConfig();
+        thingDeletionTimeout = streamConfig.getThingDeletionTimeout();
+        maxIdleTime = updaterConfig.getMaxIdleTime();
+        maxBulkSize = updaterConfig.getPartitionedIngestionMaxBulkSize();
+        consistencyLagTracker = ConsistencyLagTracker.get(getContext().getSystem());
+
+        getTimers().startTimerWithFixedDelay(Control.FLUSH, Control.FLUSH, streamConfig.getWriteInterval());
+        getTimers().startTimerWithFixedDelay(Control.EVICT, Control.EVICT, EVICTION_INTERVAL);
+
+        // subscribe for Shutdown commands
+        pubSubMediator.tell(DistPubSubAccess.subscribe(Shutdown.TYPE, getSelf()), getSelf());
+    }
+
+    /**
+     * Create props of this actor.
+     *
+     * @param batchFlow Flow to perform persistence operations of batches.
+     * @param recoveryFunction The function to recover the previous write model of a thing.
+     * @param config Configuration of search service.
+     * @param pubSubMediator The pubsub mediator.
+     * @return The Props object.
+     */
+    static Props props(final Flow<List<ThingUpdater.Data>, List<ThingUpdater.Result>, NotUsed> batchFlow,
+            final Function<ThingId, Source<AbstractWriteModel, NotUsed>> recoveryFunction,
+            final SearchConfig config,
+            final ActorRef pubSubMediator) {
+
+        return Props.create(ThingUpdaterPartition.class, batchFlow, recoveryFunction, config, pubSubMediator);
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        if (killSwitch != null) {
+            log.warning("Shut down during persistence operation");
+            killSwitch.shutdown();
+        }
+        entries.keySet().forEach(consistencyLagTracker::untrack);
+        super.postStop();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(ThingEvent.class, thingEvent -> onThingMessage(thingEvent.getEntityId(), thingEvent))
+                .match(PolicyReferenceTag.class, tag -> onThingMessage(tag.getThingId(), tag))
+                .match(SudoUpdateThing.class, sudoUpdateThing ->
+                        onThingMessage(sudoUpdateThing.getEntityId(), sudoUpdateThing))
+                .match(Recovered.class, this::recovered)
+                .match(Persisted.class, this::persisted)
+                .matchEquals(Control.FLUSH, this::flush)
+                .matchEquals(Control.EVICT, this::evict)
+                .match(StopShardedActor.class, this::shutdown)
+                .match(Shutdown.class, this::shutdownThings)
+                .match(DistributedPubSubMediator.SubscribeAck.class, subscribeAck ->
+                        log.debug("Received <{}>", subscribeAck))
+                .matchAny(message -> log.warning("Unknown message: <{}>", message))
+                .build();
+    }
+
+    private void onThingMessage(final ThingId thingId, final Object message) {
+        final var entry = entries.get(thingId);
+        if (entry == null) {
+            startRecovery(thingId).pend(message, getSender());
+        } else {
+            switch (entry.phase) {
+                case RECOVERING, PERSISTING -> entry.pend(message, getSender());
+                case READY -> apply(thingId, entry, message, getSender());
+                case NAMESPACE_BLOCKED -> log.debug("Dropping <{}> because namespace is blocked", message);
+            }
+        }
+    }
+
+    private void apply(final ThingId thingId, final Entry entry, final Object message, final ActorRef sender) {
+        if (message instanceof ThingEvent<?> thingEvent) {
+            onThingEvent(thingId, entry, thingEvent, sender);
+        } else if (message instanceof PolicyReferenceTag policyReferenceTag) {
+            onPolicyReferenceTag(thingId, entry, policyReferenceTag);
+        } else if (message instanceof SudoUpdateThing sudoUpdateThing) {
+            updateThing(thingId, entry, sudoUpdateThing, sender);
+        }
+    }
+
+    private void onThingEvent(final ThingId thingId, final Entry entry, final ThingEvent<?> thingEvent,
+            final ActorRef sender) {
+
+        entry.lastEventNanos = System.nanoTime();
+        final DittoDiagnosticLoggingAdapter l = log.withCorrelationId(thingEvent);
+        final var dittoHeaders = thingEvent.getDittoHeaders();
+        final boolean shouldAcknowledge =
+                dittoHeaders.getAcknowledgementRequests().contains(ThingUpdater.SEARCH_PERSISTED_REQUEST);
+
+        // check if the revision is valid (thingEvent.revision = 1 + sequenceNumber)
+        if (thingEvent.getRevision() <= entry.metadata.getThingRevision()) {
+            l.debug("Dropped thing event for thing id <{}> with revision <{}> because it was older than or "
+                            + "equal to the current sequence number <{}> of the partition.", thingId,
+                    thingEvent.getRevision(), entry.metadata.getThingRevision());
+            if (shouldAcknowledge) {
+                // add sender to pending acknowledgements
+                enqueue(thingId, entry,
+                        entry.metadata.export().withAckRecipient(getAckRecipient(dittoHeaders, sender)));
+            }
+            return;
+        }
+
+        l.debug("Applying thing event <{}>.", thingEvent);
+        entry.deleted = thingEvent instanceof ThingDeleted;
+        consistencyLagTracker.eventReceived(thingEvent);
+        final var startedTimer = consistencyLagTracker.prepareTimer(thingId)
+                .tag(ConsistencyLag.TAG_SHOULD_ACK, Boolean.toString(shouldAcknowledge))
+                .onExpiration(t -> l.warning("Timer measuring consistency lag timed out for event <{}>", thingEvent))
+                .start();
+        DittoTracing.newStartedSpanByTimer(dittoHeaders, startedTimer);
+        ConsistencyLag.startS1InUpdater(startedTimer);
+        enqueue(thingId, entry, ThingUpdater.getEventMetadata(thingEvent, entry.metadata, startedTimer,
+                shouldAcknowledge ? getAckRecipient(dittoHeaders, sender) : null));
+        if (shouldAcknowledge) {
+            entry.retrying = false;
+            requestFlush();
+        }
+    }
+
+    private void onPolicyReferenceTag(final ThingId thingId, final Entry entry,
+            final PolicyReferenceTag policyReferenceTag) {
+
+        @Nullable final var affectedOldPolicyTag = ThingUpdater.findAffectedPolicyTag(entry.metadata,
+                policyReferenceTag);
+        final var policyTag = policyReferenceTag.getPolicyTag();
+        if (affectedOldPolicyTag == null || affectedOldPolicyTag.getRevision() < policyTag.getRevision()) {
+            log.debug("Got policy update <{}> for thing <{}>. Previous known policy is <{}>.", policyTag, thingId,
+                    affectedOldPolicyTag);
+            enqueue(thingId, entry,
+                    ThingUpdater.getPolicyUpdateMetadata(entry.metadata, affectedOldPolicyTag, policyTag));
+        } else {
+            log.debug("Dropping <{}> because <{}> did not change.", policyReferenceTag, affectedOldPolicyTag);
+        }
+    }
+
+    private void updateThing(final ThingId thingId, final Entry entry, final SudoUpdateThing sudoUpdateThing,
+            final ActorRef sender) {
+
+        log.withCorrelationId(sudoUpdateThing)
+                .info("Requested to update search index <{}> by <{}>", sudoUpdateThing, sender);
+        final var dittoHeaders = sudoUpdateThing.getDittoHeaders();
+        if (dittoHeaders.containsKey(ThingUpdater.FORCE_UPDATE)) {
+            entry.lastWriteModel = ThingDeleteModel.of(entry.metadata);
+        }
+
+        final Metadata metadata = entry.metadata
+                .invalidateCaches(sudoUpdateThing.shouldInvalidateThing(), sudoUpdateThing.shouldInvalidatePolicy())
+                .withUpdateReason(sudoUpdateThing.getUpdateReason());
+        final Metadata nextMetadata =
+                dittoHeaders.getAcknowledgementRequests().contains(ThingUpdater.SEARCH_PERSISTED_REQUEST)
+                        ? metadata.withAckRecipient(getAckRecipient(dittoHeaders, sender))
+                        : metadata;
+        enqueue(thingId, entry, nextMetadata);
+    }
+
+    private void enqueue(final ThingId thingId, final Entry entry, final Metadata newMetadata) {
+        entry.metadata = entry.metadata.append(newMetadata);
+        dirtyThings.add(thingId);
+    }
+
+    private Entry startRecovery(final ThingId thingId) {
+        final var entry = new Entry(ThingUpdater.getInitialData(thingId));
+        entries.put(thingId, entry);
+        final var recovered = recoveryFunction.apply(thingId)
+                .runWith(Sink.head(), materializer)
+                .handle((lastWriteModel, error) -> new Recovered(thingId, lastWriteModel, error));
+        Patterns.pipe(recovered, getContext().getDispatcher()).to(getSelf());
+
+        return entry;
+    }
+
+    private void recovered(final Recovered recovered) {
+        final var thingId = recovered.thingId();
+        final var entry = entries.get(thingId);
+        if (entry == null || entry.phase != Phase.RECOVERING) {
+            log.debug("Dropping recovery result of <{}> which is no longer tracked", thingId);
+        } else if (recovered.error() != null) {
+            log.error(recovered.error(), "Recovery of <{}> failed", thingId);
+            entries.remove(thingId);
+            consistencyLagTracker.untrack(thingId);
+        } else {
+            final var lastWriteModel = recovered.lastWriteModel();
+            entry.metadata = lastWriteModel.getMetadata();
+            entry.lastWriteModel = lastWriteModel;
+            becomeReady(thingId, entry);
+        }
+    }
+
+    private void becomeReady(final ThingId thingId, final Entry entry) {
+        entry.phase = Phase.READY;
+        final var pendingMessages = entry.pendingMessages;
+        entry.pendingMessages = null;
+        if (pendingMessages != null) {
+            pendingMessages.forEach(pair -> apply(thingId, entry, pair.first(), pair.second()));
+        }
+    }
+
+    private void requestFlush() {
+        if (!flushRequested) {
+            flushRequested = true;
+            getSelf().tell(Control.FLUSH, ActorRef.noSender());
+        }
+    }
+
+    private void flush(final Control flush) {
+        flushRequested = false;
+        if (killSwitch != null) {
+            // a bulk write is in flight; the dirty things are persisted after it completed
+            return;
+        }
+        final long now = System.nanoTime();
+        final List<ThingUpdater.Data> batch = new ArrayList<>();
+        final var iterator = dirtyThings.iterator();
+        while (iterator.hasNext() && batch.size() < maxBulkSize) {
+            final var thingId = iterator.next();
+            final var entry = entries.get(thingId);
+            if (entry == null) {
+                iterator.remove();
+            } else if (entry.phase == Phase.READY &&
+                    (shuttingDown || !entry.retrying || now - entry.retryAfterNanos >= 0)) {
+                iterator.remove();
+                if (ThingUpdater.shouldPersist(entry.metadata, entry.lastWriteModel.getMetadata())) {
+                    ConsistencyLag.startS2WaitForDemand(entry.metadata);
+                    entry.phase = Phase.PERSISTING;
+                    batch.add(new ThingUpdater.Data(entry.metadata, entry.lastWriteModel));
+                }
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            log.debug("Persisting <{}> things", batch.size());
+            persist(batch);
+        } else if (shuttingDown) {
+            log.info("Shutting down without pending updates");
+            getContext().stop(getSelf());
+        }
+    }
+
+    private void persist(final List<ThingUpdater.Data> batch) {
+        final var pair = Source.single(batch)
+                .viaMat(KillSwitches.single(), Keep.right())
+                .via(batchFlow)
+                .orElse(Source.single(List.of()))
+                .toMat(Sink.head(), Keep.both())
+                .run(materializer);
+        killSwitch = pair.first();
+
+        final var persisted = pair.second().handle((results, error) -> new Persisted(batch, results, error));
+        Patterns.pipe(persisted, getContext().getDispatcher()).to(getSelf());
+    }
+
+    private void persisted(final Persisted persisted) {
+        killSwitch = null;
+        final Map<WriteResultAndErrors, BulkWriteResultAckFlow.Status> statuses = new IdentityHashMap<>();
+        final Map<MongoWriteModel, Boolean> retries = new IdentityHashMap<>();
+        final Map<ThingId, ThingUpdater.Result> results = new HashMap<>();
+        for (final var result : getResults(persisted)) {
+            statuses.computeIfAbsent(result.resultAndErrors(), resultAndErrors -> {
+                final var pair = BulkWriteResultAckFlow.checkBulkWriteResult(resultAndErrors);
+                pair.second().forEach(log::debug);
+                final var indicesToRetry = BulkWriteResultAckFlow.getIndicesToRetry(pair.first(), resultAndErrors);
+                final var writeModels = resultAndErrors.getWriteModels();
+                for (int i = 0; i < writeModels.size(); ++i) {
+                    retries.put(writeModels.get(i), indicesToRetry.get(i));
+                }
+                return pair.first();
+            });
+            results.put(result.mongoWriteModel().getDitto().getMetadata().getThingId(), result);
+        }
+
+        for (final var data : persisted.batch()) {
+            final var thingId = data.metadata().getThingId();
+            final var entry = entries.get(thingId);
+            @Nullable final var result = results.get(thingId);
+            if (entry == null || entry.phase != Phase.PERSISTING) {
+                log.debug("Dropping persistence result of <{}> which is no longer tracked", thingId);
+            } else if (result == null) {
+                onSkipped(thingId, entry, data);
+            } else if (result.resultAndErrors().isNamespaceBlockedException()) {
+                log.info("Disabling updates of <{}> because namespace is blocked", thingId);
+                entry.phase = Phase.NAMESPACE_BLOCKED;
+                entry.lastEventNanos = System.nanoTime();
+                entry.pendingMessages = null;
+            } else {
+                final var status = statuses.get(result.resultAndErrors());
+                switch (status) {
+                    case INCORRECT_PATCH -> ThingUpdater.INCORRECT_PATCH_UPDATE_COUNT.increment();
+                    case UNACKNOWLEDGED, CONSISTENCY_ERROR, WRITE_ERROR ->
+                            ThingUpdater.UPDATE_FAILURE_COUNT.increment();
+                }
+                if (retries.getOrDefault(result.mongoWriteModel(), status != BulkWriteResultAckFlow.Status.OK)) {
+                    onFailed(thingId, entry, data);
+                } else {
+                    onSucceeded(thingId, entry, data, result);
+                }
+            }
+        }
+
+        if (shuttingDown || persisted.batch().size() >= maxBulkSize) {
+            // continue with the remaining dirty things without waiting for the write interval
+            requestFlush();
+        }
+    }
+
+    private List<ThingUpdater.Result> getResults(final Persisted persisted) {
+        if (persisted.error() == null && persisted.results() != null) {
+            return persisted.results();
+        } else {
+            final var error = persisted.error() != null
+                    ? persisted.error()
+                    : new IllegalStateException("Got no persistence result");
+            return persisted.batch()
+                    .stream()
+                    .map(data -> ThingUpdater.Result.fromError(data.metadata(), error))
+                    .toList();
+        }
+    }
+
+    private void onSkipped(final ThingId thingId, final Entry entry, final ThingUpdater.Data data) {
+        log.debug("Update skipped: <{}>", thingId);
+        consistencyLagTracker.persisted(data.metadata());
+        // initial update was skipped, stop tracking the thing to avoid endless skipped updates
+        if (data.metadata().getThingRevision() <= 0 && data.lastWriteModel().getMetadata().getThingRevision() <= 0) {
+            log.info("Initial update was skipped - no longer tracking <{}>.", thingId);
+            entries.remove(thingId);
+        } else {
+            entry.metadata = data.metadata().export();
+            becomeReady(thingId, entry);
+        }
+    }
+
+    private void onFailed(final ThingId thingId, final Entry entry, final ThingUpdater.Data data) {
+        final var backOff = entry.backOff != null ? entry.backOff : ExponentialBackOff.initial(backOffConfig);
+        entry.backOff = backOff.calculateNextBackOff();
+        entry.retrying = true;
+        entry.retryAfterNanos = System.nanoTime() + entry.backOff.getRestartDelay().toNanos();
+        entry.metadata = data.metadata().export();
+        entry.lastWriteModel = ThingDeleteModel.of(Metadata.ofDeleted(thingId));
+        dirtyThings.add(thingId);
+        becomeReady(thingId, entry);
+    }
+
+    private void onSucceeded(final ThingId thingId, final Entry entry, final ThingUpdater.Data data,
+            final ThingUpdater.Result result) {
+
+        consistencyLagTracker.persisted(data.metadata());
+        final var writeModel = result.mongoWriteModel().getDitto();
+        entry.retrying = false;
+        entry.metadata = writeModel.getMetadata().export();
+        entry.lastWriteModel = writeModel;
+        becomeReady(thingId, entry);
+    }
+
+    private void evict(final Control evict) {
+        final long now = System.nanoTime();
+        final int sizeBefore = entries.size();
+        entries.entrySet().removeIf(thingEntry -> {
+            if (isEvictable(thingEntry.getKey(), thingEntry.getValue(), now)) {
+                consistencyLagTracker.untrack(thingEntry.getKey());
+                return true;
+            } else {
+                return false;
+            }
+        });
+        log.debug("Evicted <{}> of <{}> things", sizeBefore - entries.size(), sizeBefore);
+    }
+
+    private boolean isEvictable(final ThingId thingId, final Entry entry, final long now) {
+        final long idleNanos = now - entry.lastEventNanos;
+        return switch (entry.phase) {
+            case READY -> !dirtyThings.contains(thingId) && (idleNanos >= maxIdleTime.toNanos() ||
+                    entry.deleted && idleNanos >= thingDeletionTimeout.toNanos());
+            case NAMESPACE_BLOCKED -> idleNanos >= ThingUpdater.BLOCK_NAMESPACE_SHUTDOWN_DELAY.toNanos();
+            default -> false;
+        };
+    }
+
+    private void shutdown(final StopShardedActor trigger) {
+        log.info("Shutting down due to <{}> with <{}> dirty things", trigger, dirtyThings.size());
+        shuttingDown = true;
+        requestFlush();
+    }
+
+    private void shutdownThings(final Shutdown shutdown) {
+        final var shutdownReason = shutdown.getReason();
+        final var description = ThingUpdater.getDescription(shutdown);
+        final int sizeBefore = entries.size();
+        entries.entrySet().removeIf(thingEntry -> {
+            final var thingId = thingEntry.getKey();
+            if (shutdownReason.isRelevantFor(thingId.getNamespace()) || shutdownReason.isRelevantFor(thingId)) {
+                thingEntry.getValue().metadata.sendWeakAck(description);
+                dirtyThings.remove(thingId);
+                consistencyLagTracker.untrack(thingId);
+                return true;
+            } else {
+                return false;
+            }
+        });
+        if (entries.size() < sizeBefore) {
+            log.info("Stopped tracking <{}> things due to <{}>", sizeBefore - entries.size(), shutdown);
+        }
+    }
+
+    private ActorSelection getAckRecipient(final DittoHeaders dittoHeaders, final ActorRef sender) {
+        return ThingUpdater.getAckRecipient(dittoHeaders, getContext(), sender, log);
+    }
+
+    /**
+     * The state of one thing of the partition.
+     */
+    private static final class Entry {
+
+        private Metadata metadata;
+        private AbstractWriteModel lastWriteModel;
+        private Phase phase = Phase.RECOVERING;
+        @Nullable private List<Pair<Object, ActorRef>> pendingMessages;
+        @Nullable private ExponentialBackOff backOff;
+        private boolean retrying = false;
+        private long retryAfterNanos;
+        private boolean deleted = false;
+        private long lastEventNanos = System.nanoTime();
+
+        private Entry(final ThingUpdater.Data initialData) {
+            metadata = initialData.metadata();
+            lastWriteModel = initialData.lastWriteModel();
+        }
+
+        private void pend(final Object message, final ActorRef sender) {
+            if (pendingMessages == null) {
+                pendingMessages = new ArrayList<>(1);
+            }
+            pendingMessages.add(Pair.create(message, sender));
+        }
+    }
+
+    private record Recovered(ThingId thingId, @Nullable AbstractWriteModel lastWriteModel,
+                             @Nullable Throwable error) {}
+
+    private record Persisted(List<ThingUpdater.Data> batch, @Nullable List<ThingUpdater.Result> results,
+                             @Nullable Throwable error) {}
+
+}
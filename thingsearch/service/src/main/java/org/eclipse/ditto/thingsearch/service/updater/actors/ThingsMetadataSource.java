@@ -18,9 +18,14 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.internal.models.streaming.LowerBound;
+import org.eclipse.ditto.internal.models.streaming.RangeDigest;
+import org.eclipse.ditto.internal.models.streaming.RangeDigests;
 import org.eclipse.ditto.internal.models.streaming.StreamedSnapshot;
+import org.eclipse.ditto.internal.models.streaming.SudoRetrieveRangeDigests;
 import org.eclipse.ditto.internal.models.streaming.SudoStreamSnapshots;
 import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.json.JsonObject;
@@ -79,6 +84,30 @@ final class ThingsMetadataSource {
                 .map(Optional::get);
     }
 
+    /**
+     * Retrieve the digests of consecutive ranges of thing IDs from Things persistence.
+     *
+     * @param lowerBounds the exclusive lower bounds of the ranges.
+     * @param upperBound the inclusive upper bound of the last range, or {@code null} if it is unbounded.
+     * @return source of the digests in the order of the lower bounds.
+     */
+    Source<List<RangeDigest>, NotUsed> retrieveRangeDigests(final List<ThingId> lowerBounds,
+            @Nullable final ThingId upperBound) {
+
+        final var command = SudoRetrieveRangeDigests.of(ThingConstants.ENTITY_TYPE, lowerBounds, upperBound,
+                DittoHeaders.empty());
+
+        return Source.completionStage(Patterns.ask(pubSubMediator,
+                        DistPubSubAccess.publishViaGroup(SudoRetrieveRangeDigests.TYPE, command), idleTimeout))
+                .map(response -> {
+                    if (response instanceof RangeDigests rangeDigests) {
+                        return rangeDigests.getDigests();
+                    } else {
+                        throw new ClassCastException("Not RangeDigests: " + response);
+                    }
+                });
+    }
+
     private Object getStartStreamCommand(final ThingId lowerBound, final List<String> namespacesFilter) {
         final SudoStreamSnapshots commandWithoutLowerBound =
                 SudoStreamSnapshots.of(burst, idleTimeout.toMillis(), SNAPSHOT_FIELDS, DittoHeaders.empty(),
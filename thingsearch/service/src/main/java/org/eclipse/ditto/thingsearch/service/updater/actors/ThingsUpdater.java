@@ -34,6 +34,8 @@ import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.things.model.signals.events.ThingEvent;
 import org.eclipse.ditto.thingsearch.api.PolicyReferenceTag;
 import org.eclipse.ditto.thingsearch.api.UpdateReason;
+import org.eclipse.ditto.thingsearch.api.commands.sudo.SudoRetrieveConsistencyLag;
+import org.eclipse.ditto.thingsearch.api.commands.sudo.SudoRetrieveConsistencyLagResponse;
 import org.eclipse.ditto.thingsearch.api.commands.sudo.SudoUpdateThing;
 import org.eclipse.ditto.thingsearch.api.events.ThingsOutOfSync;
 import org.eclipse.ditto.thingsearch.service.common.config.UpdaterConfig;
@@ -62,6 +64,7 @@ final class ThingsUpdater extends AbstractActorWithTimers {
     private final ActorRef shardRegion;
     private final BlockNamespaceBehavior namespaceBlockingBehavior;
     private final RetrieveStatisticsDetailsResponseSupplier retrieveStatisticsDetailsResponseSupplier;
+    private final ConsistencyLagTracker consistencyLagTracker;
 
     @SuppressWarnings("unused")
     private ThingsUpdater(
@@ -77,6 +80,8 @@ final class ThingsUpdater extends AbstractActorWithTimers {
         retrieveStatisticsDetailsResponseSupplier =
                 RetrieveStatisticsDetailsResponseSupplier.of(shardRegion, ShardRegionFactory.UPDATER_SHARD_REGION, log);
 
+        consistencyLagTracker = ConsistencyLagTracker.get(getContext().getSystem());
+
         pubSubMediator.tell(DistPubSubAccess.subscribeViaGroup(ThingsOutOfSync.TYPE, ACTOR_NAME, getSelf()), getSelf());
     }
 
@@ -106,6 +111,7 @@ final class ThingsUpdater extends AbstractActorWithTimers {
                 .matchEquals(ShardRegion.getShardRegionStateInstance(), getShardRegionState ->
                         shardRegion.forward(getShardRegionState, getContext()))
                 .match(RetrieveStatisticsDetails.class, this::handleRetrieveStatisticsDetails)
+                .match(SudoRetrieveConsistencyLag.class, this::retrieveConsistencyLag)
                 .match(ThingsOutOfSync.class, this::updateThings)
                 .match(SudoUpdateThing.class, this::updateThing)
                 .match(DistributedPubSubMediator.SubscribeAck.class, subscribeAck ->
@@ -122,6 +128,12 @@ final class ThingsUpdater extends AbstractActorWithTimers {
                 .apply(command.getDittoHeaders()), getContext().dispatcher()).to(getSender());
     }
 
+    private void retrieveConsistencyLag(final SudoRetrieveConsistencyLag command) {
+        log.withCorrelationId(command).info("Sending the most lagging things as requested..");
+        final var laggingThings = consistencyLagTracker.getMostLaggingThings(command.getLimit());
+        getSender().tell(SudoRetrieveConsistencyLagResponse.of(laggingThings, command.getDittoHeaders()), getSelf());
+    }
+
     private void updateThings(final ThingsOutOfSync updateThings) {
         // log all thing IDs because getting this command implies out-of-sync things.
         log.withCorrelationId(updateThings)
@@ -194,19 +206,17 @@ final class ThingsUpdater extends AbstractActorWithTimers {
         final ActorRef sender = getSender();
         final ActorRef deadLetters = getContext().getSystem().deadLetters();
 
-        namespaceBlockingBehavior.block(messageEnvelope)
-                .thenAccept(m -> shardRegion.tell(m, sender))
-                .exceptionally(throwable -> {
-                    if (!Objects.equals(sender, deadLetters)) {
-                        // Only acknowledge IdentifiableStreamingMessage. No other messages should be acknowledged.
-                        if (message instanceof IdentifiableStreamingMessage identifiableStreamingMessage) {
-                            final StreamAck streamAck =
-                                    StreamAck.success(identifiableStreamingMessage.asIdentifierString());
-                            sender.tell(streamAck, getSelf());
-                        }
-                    }
-                    return null;
-                });
+        if (namespaceBlockingBehavior.isBlocked(id)) {
+            if (!Objects.equals(sender, deadLetters)) {
+                // Only acknowledge IdentifiableStreamingMessage. No other messages should be acknowledged.
+                if (message instanceof IdentifiableStreamingMessage identifiableStreamingMessage) {
+                    final StreamAck streamAck = StreamAck.success(identifiableStreamingMessage.asIdentifierString());
+                    sender.tell(streamAck, getSelf());
+                }
+            }
+        } else {
+            shardRegion.tell(messageEnvelope, sender);
+        }
     }
 
 }
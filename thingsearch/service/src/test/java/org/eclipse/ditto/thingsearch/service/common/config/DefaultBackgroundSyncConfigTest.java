@@ -95,5 +95,14 @@ public final class DefaultBackgroundSyncConfigTest {
         softly.assertThat(underTest.getPolicyAskTimeout())
                 .as(BackgroundSyncConfig.ConfigValue.POLICY_ASK_TIMEOUT.getConfigPath())
                 .isEqualTo(Duration.ofHours(11L));
+        softly.assertThat(underTest.isRangeDigestEnabled())
+                .as(BackgroundSyncConfig.ConfigValue.RANGE_DIGEST_ENABLED.getConfigPath())
+                .isEqualTo(true);
+        softly.assertThat(underTest.getRangeDigestBuckets())
+                .as(BackgroundSyncConfig.ConfigValue.RANGE_DIGEST_BUCKETS.getConfigPath())
+                .isEqualTo(12);
+        softly.assertThat(underTest.getRangeDigestLeafSize())
+                .as(BackgroundSyncConfig.ConfigValue.RANGE_DIGEST_LEAF_SIZE.getConfigPath())
+                .isEqualTo(13);
     }
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit tests for {@link DefaultQueryPlanAdvisorConfig}.
+ */
+public final class DefaultQueryPlanAdvisorConfigTest {
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultQueryPlanAdvisorConfig.class,
+                areImmutable(),
+                provided(CacheConfig.class).isAlsoImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultQueryPlanAdvisorConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final QueryPlanAdvisorConfig underTest = DefaultQueryPlanAdvisorConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(QueryPlanAdvisorConfig.ConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(QueryPlanAdvisorConfig.ConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getSlowQueryThreshold())
+                .as(QueryPlanAdvisorConfig.ConfigValue.SLOW_QUERY_THRESHOLD.getConfigPath())
+                .isEqualTo(QueryPlanAdvisorConfig.ConfigValue.SLOW_QUERY_THRESHOLD.getDefaultValue());
+        softly.assertThat(underTest.getExplainInterval())
+                .as(QueryPlanAdvisorConfig.ConfigValue.EXPLAIN_INTERVAL.getConfigPath())
+                .isEqualTo(QueryPlanAdvisorConfig.ConfigValue.EXPLAIN_INTERVAL.getDefaultValue());
+        softly.assertThat(underTest.getHintTrialExecutions())
+                .as(QueryPlanAdvisorConfig.ConfigValue.HINT_TRIAL_EXECUTIONS.getConfigPath())
+                .isEqualTo(QueryPlanAdvisorConfig.ConfigValue.HINT_TRIAL_EXECUTIONS.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final QueryPlanAdvisorConfig underTest =
+                DefaultQueryPlanAdvisorConfig.of(ConfigFactory.load("updater-persistence-test").getConfig("persistence"));
+
+        softly.assertThat(underTest.isEnabled())
+                .as(QueryPlanAdvisorConfig.ConfigValue.ENABLED.getConfigPath())
+                .isFalse();
+        softly.assertThat(underTest.getSlowQueryThreshold())
+                .as(QueryPlanAdvisorConfig.ConfigValue.SLOW_QUERY_THRESHOLD.getConfigPath())
+                .isEqualTo(Duration.ofMillis(250L));
+        softly.assertThat(underTest.getExplainInterval())
+                .as(QueryPlanAdvisorConfig.ConfigValue.EXPLAIN_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(1L));
+        softly.assertThat(underTest.getHintTrialExecutions())
+                .as(QueryPlanAdvisorConfig.ConfigValue.HINT_TRIAL_EXECUTIONS.getConfigPath())
+                .isEqualTo(3);
+        softly.assertThat(underTest.getShapeCacheConfig().getMaximumSize())
+                .as("shape-cache.maximum-size")
+                .isEqualTo(7L);
+    }
+
+}
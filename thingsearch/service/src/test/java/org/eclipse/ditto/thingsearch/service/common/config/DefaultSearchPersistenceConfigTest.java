@@ -48,7 +48,7 @@ public final class DefaultSearchPersistenceConfigTest {
     public void assertImmutability() {
         assertInstancesOf(DefaultSearchPersistenceConfig.class,
                 areImmutable(),
-                provided(ReadPreference.class).isAlsoImmutable());
+                provided(ReadPreference.class, QueryPlanAdvisorConfig.class).isAlsoImmutable());
     }
 
     @Test
@@ -73,6 +73,10 @@ public final class DefaultSearchPersistenceConfigTest {
                 .isEqualTo(ReadPreference.ofReadPreference(
                         (String) SearchPersistenceConfig.ConfigValue.READ_PREFERENCE.getDefaultValue())
                         .orElseThrow());
+
+        softly.assertThat(underTest.maxAggregationGroups())
+                .as(SearchPersistenceConfig.ConfigValue.MAX_AGGREGATION_GROUPS.getConfigPath())
+                .isEqualTo(SearchPersistenceConfig.ConfigValue.MAX_AGGREGATION_GROUPS.getDefaultValue());
     }
 
     @Test
@@ -86,6 +90,10 @@ public final class DefaultSearchPersistenceConfigTest {
         softly.assertThat(underTest.readPreference())
                 .as(SearchPersistenceConfig.ConfigValue.READ_PREFERENCE.getConfigPath())
                 .isEqualTo(ReadPreference.SECONDARY_PREFERRED);
+
+        softly.assertThat(underTest.maxAggregationGroups())
+                .as(SearchPersistenceConfig.ConfigValue.MAX_AGGREGATION_GROUPS.getConfigPath())
+                .isEqualTo(42);
     }
 
 }
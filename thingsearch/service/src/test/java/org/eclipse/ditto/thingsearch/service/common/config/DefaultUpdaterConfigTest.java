@@ -75,6 +75,22 @@ public final class DefaultUpdaterConfigTest {
         softly.assertThat(underTest.isForceUpdateAfterStartEnabled())
                 .as(UpdaterConfigValue.FORCE_UPDATE_AFTER_START_ENABLED.getConfigPath())
                 .isEqualTo(UpdaterConfigValue.FORCE_UPDATE_AFTER_START_ENABLED.getDefaultValue());
+
+        softly.assertThat(underTest.isPartitionedIngestionEnabled())
+                .as(UpdaterConfigValue.PARTITIONED_INGESTION_ENABLED.getConfigPath())
+                .isEqualTo(UpdaterConfigValue.PARTITIONED_INGESTION_ENABLED.getDefaultValue());
+
+        softly.assertThat(underTest.getPartitionedIngestionMaxBulkSize())
+                .as(UpdaterConfigValue.PARTITIONED_INGESTION_MAX_BULK_SIZE.getConfigPath())
+                .isEqualTo(UpdaterConfigValue.PARTITIONED_INGESTION_MAX_BULK_SIZE.getDefaultValue());
+
+        softly.assertThat(underTest.isConsistencyLagPerNamespaceEnabled())
+                .as(UpdaterConfigValue.CONSISTENCY_LAG_PER_NAMESPACE_ENABLED.getConfigPath())
+                .isEqualTo(UpdaterConfigValue.CONSISTENCY_LAG_PER_NAMESPACE_ENABLED.getDefaultValue());
+
+        softly.assertThat(underTest.getConsistencyLagMaxTrackedThings())
+                .as(UpdaterConfigValue.CONSISTENCY_LAG_MAX_TRACKED_THINGS.getConfigPath())
+                .isEqualTo(UpdaterConfigValue.CONSISTENCY_LAG_MAX_TRACKED_THINGS.getDefaultValue());
     }
 
     @Test
@@ -102,6 +118,22 @@ public final class DefaultUpdaterConfigTest {
         softly.assertThat(underTest.isForceUpdateAfterStartEnabled())
                 .as(UpdaterConfigValue.FORCE_UPDATE_AFTER_START_ENABLED.getConfigPath())
                 .isEqualTo(false);
+
+        softly.assertThat(underTest.isPartitionedIngestionEnabled())
+                .as(UpdaterConfigValue.PARTITIONED_INGESTION_ENABLED.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(underTest.getPartitionedIngestionMaxBulkSize())
+                .as(UpdaterConfigValue.PARTITIONED_INGESTION_MAX_BULK_SIZE.getConfigPath())
+                .isEqualTo(42);
+
+        softly.assertThat(underTest.isConsistencyLagPerNamespaceEnabled())
+                .as(UpdaterConfigValue.CONSISTENCY_LAG_PER_NAMESPACE_ENABLED.getConfigPath())
+                .isFalse();
+
+        softly.assertThat(underTest.getConsistencyLagMaxTrackedThings())
+                .as(UpdaterConfigValue.CONSISTENCY_LAG_MAX_TRACKED_THINGS.getConfigPath())
+                .isEqualTo(77);
     }
 
 }
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.eclipse.ditto.policies.model.PoliciesResourceType.THING;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.policies.api.Permission;
+import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.eclipse.ditto.rql.query.Query;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.thingsearch.model.signals.commands.exceptions.InvalidOptionException;
+import org.eclipse.ditto.thingsearch.service.common.config.DefaultSearchPersistenceConfig;
+import org.eclipse.ditto.thingsearch.service.common.model.ThingsAggregation;
+import org.eclipse.ditto.thingsearch.service.persistence.TestConstants;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests for aggregations on the persistence.
+ */
+public final class AggregationIT extends AbstractReadPersistenceITBase {
+
+    private static final String NAMESPACE = "thingsearch";
+    private static final String FIRMWARE = "firmware";
+    private static final String BATTERY = "battery";
+    private static final String LOCATION = "location";
+    private static final String REVOKED_SECRET = "revoked secret";
+
+    private static final ThingsAggregation.GroupField GROUP_BY_FIRMWARE =
+            new ThingsAggregation.GroupField("attributes/" + FIRMWARE, fef.sortByAttribute(FIRMWARE));
+    private static final ThingsAggregation.Accumulator COUNT =
+            new ThingsAggregation.Accumulator("count", ThingsAggregation.Operator.COUNT, null);
+    private static final ThingsAggregation.Accumulator AVG_BATTERY =
+            new ThingsAggregation.Accumulator("avg(attributes/" + BATTERY + ")", ThingsAggregation.Operator.AVG,
+                    fef.sortByAttribute(BATTERY));
+    private static final ThingsAggregation.Accumulator MAX_BATTERY =
+            new ThingsAggregation.Accumulator("max(attributes/" + BATTERY + ")", ThingsAggregation.Operator.MAX,
+                    fef.sortByAttribute(BATTERY));
+
+    @Test
+    public void aggregateGroupsByFieldValue() {
+        insertThing("thing1", "1.0", 20);
+        insertThing("thing2", "1.0", 40);
+        insertThing("thing3", "2.0", 90);
+
+        final List<JsonObject> groups = aggregate(anyQuery(), List.of(GROUP_BY_FIRMWARE),
+                List.of(COUNT, AVG_BATTERY, MAX_BATTERY), KNOWN_SUBJECTS);
+
+        assertThat(groups).containsExactly(
+                group("1.0", 2, 30.0, 40),
+                group("2.0", 1, 90.0, 90));
+    }
+
+    @Test
+    public void aggregateFailsIfItYieldsMoreGroupsThanAllowed() {
+        insertThing("thing1", "1.0", 20);
+        insertThing("thing2", "2.0", 40);
+        final MongoThingsSearchPersistence persistenceAllowingOneGroup = new MongoThingsSearchPersistence(mongoClient,
+                actorSystem, DefaultSearchPersistenceConfig.of(
+                        ConfigFactory.parseString("persistence.max-aggregation-groups = 1")));
+        final ThingsAggregation aggregation =
+                new ThingsAggregation(anyQuery(), List.of(GROUP_BY_FIRMWARE), List.of(COUNT));
+
+        assertThatExceptionOfType(CompletionException.class)
+                .isThrownBy(() -> waitFor(persistenceAllowingOneGroup.aggregate(aggregation, KNOWN_SUBJECTS)))
+                .withCauseInstanceOf(InvalidOptionException.class);
+    }
+
+    @Test
+    public void aggregateWithoutGroupByComputesOneGroup() {
+        insertThing("thing1", "1.0", 20);
+        insertThing("thing2", "2.0", 40);
+
+        final List<JsonObject> groups =
+                aggregate(anyQuery(), Collections.emptyList(), List.of(COUNT), KNOWN_SUBJECTS);
+
+        assertThat(groups).containsExactly(JsonFactory.newObjectBuilder()
+                .set("groupBy", JsonObject.empty())
+                .set("aggregations", JsonObject.newBuilder().set("count", 2).build())
+                .build());
+    }
+
+    @Test
+    public void aggregateWithoutAuthorizationFindsNoGroups() {
+        insertThing("thing1", "1.0", 20);
+
+        final List<JsonObject> groups =
+                aggregate(anyQuery(), List.of(GROUP_BY_FIRMWARE), List.of(COUNT), Collections.emptyList());
+
+        assertThat(groups).isEmpty();
+    }
+
+    @Test
+    public void aggregateDoesNotRevealRevokedFieldsNestedInObjectValues() {
+        insertThingWithLocation("thing1", JsonObject.newBuilder()
+                .set("city", "Berlin")
+                .set("secret", REVOKED_SECRET)
+                .build());
+        insertThingWithLocation("thing2", JsonObject.newBuilder()
+                .set("city", "Berlin")
+                .set("secret", JsonObject.newBuilder().set("value", REVOKED_SECRET).build())
+                .build());
+        final ThingsAggregation.GroupField groupByLocation =
+                new ThingsAggregation.GroupField("attributes/" + LOCATION, fef.sortByAttribute(LOCATION));
+        final ThingsAggregation.Accumulator maxLocation =
+                new ThingsAggregation.Accumulator("max(attributes/" + LOCATION + ")", ThingsAggregation.Operator.MAX,
+                        fef.sortByAttribute(LOCATION));
+        final Query locationExists = qbf.newUnlimitedBuilder(cf.existsCriteria(fef.existsByAttribute(LOCATION)))
+                .build();
+
+        final List<JsonObject> groups =
+                aggregate(locationExists, List.of(groupByLocation), List.of(COUNT, maxLocation), KNOWN_SUBJECTS);
+
+        assertThat(groups).containsExactly(JsonFactory.newObjectBuilder()
+                .set("groupBy", JsonObject.newBuilder()
+                        .set(groupByLocation.name(), JsonValue.nullLiteral())
+                        .build())
+                .set("aggregations", JsonObject.newBuilder()
+                        .set(JsonFactory.newField(JsonKey.of(COUNT.name()), JsonValue.of(2)))
+                        .set(JsonFactory.newField(JsonKey.of(maxLocation.name()), JsonValue.nullLiteral()))
+                        .build())
+                .build());
+        assertThat(groups.toString()).doesNotContain(REVOKED_SECRET);
+    }
+
+    /**
+     * Grants read access on the whole thing except for the secret nested in the location attribute.
+     */
+    @Override
+    Policy getPolicy(final ThingId thingId) {
+        return PoliciesModelFactory.newPolicyBuilder(POLICY_ID)
+                .forLabel("viewer")
+                .setSubject(KNOWN_SUBJECTS.get(0), SubjectType.GENERATED)
+                .setGrantedPermissions(THING, "/", Permission.READ)
+                .setRevokedPermissions(THING, "/attributes/" + LOCATION + "/secret", Permission.READ)
+                .setRevision(1L)
+                .build();
+    }
+
+    private List<JsonObject> aggregate(final Query query, final List<ThingsAggregation.GroupField> groupBy,
+            final List<ThingsAggregation.Accumulator> accumulators, final List<String> subjectIds) {
+
+        return waitFor(readPersistence.aggregate(new ThingsAggregation(query, groupBy, accumulators), subjectIds));
+    }
+
+    private void insertThing(final String name, final String firmware, final int battery) {
+        persistThing(createThingV2(TestConstants.thingId(NAMESPACE, name))
+                .setAttribute(FIRMWARE, firmware)
+                .setAttribute(BATTERY, battery));
+    }
+
+    private void insertThingWithLocation(final String name, final JsonObject location) {
+        persistThing(createThingV2(TestConstants.thingId(NAMESPACE, name))
+                .setAttribute(LOCATION, location));
+    }
+
+    private static Query anyQuery() {
+        return qbf.newUnlimitedBuilder(cf.any()).build();
+    }
+
+    private static JsonObject group(final String firmware, final int count, final double avg, final int max) {
+        return JsonFactory.newObjectBuilder()
+                .set("groupBy", JsonObject.newBuilder().set("attributes/" + FIRMWARE, firmware).build())
+                .set("aggregations", JsonObject.newBuilder()
+                        .set(JsonFactory.newField(JsonKey.of(COUNT.name()), JsonValue.of(count)))
+                        .set(JsonFactory.newField(JsonKey.of(AVG_BATTERY.name()), JsonValue.of(avg)))
+                        .set(JsonFactory.newField(JsonKey.of(MAX_BATTERY.name()), JsonValue.of(max)))
+                        .build())
+                .build();
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.internal.utils.persistence.mongo.BsonUtil;
+import org.junit.Test;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Sorts;
+
+/**
+ * Unit tests for {@link QueryShape}.
+ */
+public final class QueryShapeTest {
+
+    @Test
+    public void queriesDifferingOnlyInValuesHaveTheSameShape() {
+        final QueryShape shape1 = QueryShape.of(filter("1.0", List.of("subject1")), Sorts.ascending("_id"));
+        final QueryShape shape2 =
+                QueryShape.of(filter("2.0", List.of("subject2", "subject3")), Sorts.ascending("_id"));
+
+        assertThat(shape1).isEqualTo(shape2);
+        assertThat(shape1.filter()).doesNotContain("1.0", "subject1");
+    }
+
+    @Test
+    public void queriesWithDifferentSortHaveDifferentShapes() {
+        final QueryShape shape1 = QueryShape.of(filter("1.0", List.of("subject1")), Sorts.ascending("_id"));
+        final QueryShape shape2 = QueryShape.of(filter("1.0", List.of("subject1")), Sorts.descending("_id"));
+
+        assertThat(shape1).isNotEqualTo(shape2);
+    }
+
+    @Test
+    public void authorizationFieldsAreNotIndexable() {
+        final QueryShape shape = QueryShape.of(filter("1.0", List.of("subject1")), null);
+
+        assertThat(shape.equalityFields()).containsExactly("t.attributes.firmware");
+        assertThat(shape.rangeFields()).isEmpty();
+    }
+
+    @Test
+    public void recommendIndexFollowsEqualitySortRange() {
+        final BsonDocument filter = toDocument(Filters.and(
+                Filters.gt("t.attributes.battery", 20),
+                Filters.eq("t.attributes.firmware", "1.0"),
+                Filters.or(Filters.eq("t.attributes.location", "a"), Filters.eq("t.attributes.location", "b"))));
+        final QueryShape shape = QueryShape.of(filter, Sorts.descending("t.attributes.serial"));
+
+        assertThat(shape.recommendIndex()).contains(BsonDocument.parse(
+                "{\"t.attributes.firmware\": 1, \"t.attributes.serial\": -1, \"t.attributes.battery\": 1}"));
+    }
+
+    @Test
+    public void recommendNoIndexWithoutIndexableFields() {
+        final QueryShape shape = QueryShape.of(toDocument(Filters.in("gr", List.of("subject1"))), null);
+
+        assertThat(shape.recommendIndex()).isEmpty();
+    }
+
+    private static BsonDocument filter(final String firmware, final List<String> subjects) {
+        return toDocument(Filters.and(
+                Filters.eq("t.attributes.firmware", firmware),
+                Filters.in("p.attributes.firmware.·g", subjects),
+                Filters.in("gr", subjects)));
+    }
+
+    private static BsonDocument toDocument(final Bson bson) {
+        return BsonUtil.toBsonDocument(bson);
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.eclipse.ditto.internal.models.streaming.LowerBound;
+import org.eclipse.ditto.internal.models.streaming.RangeDigest;
+import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.RangeDigestAccumulators;
+import org.eclipse.ditto.things.model.ThingConstants;
+import org.eclipse.ditto.things.model.ThingId;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link MongoThingsSearchPersistence#sudoRetrieveRangeDigests(ThingId, ThingId, int)} with the same entities
+ * as {@code MongoReadJournalIT} computes range digests of snapshots for, so that both persistences agree on equal
+ * ranges.
+ */
+public final class RangeDigestIT extends AbstractReadPersistenceITBase {
+
+    private static final ThingId EMPTY_LOWER_BOUND = ThingId.of(LowerBound.emptyEntityId(ThingConstants.ENTITY_TYPE));
+    private static final ThingId THING_A = ThingId.of("org.eclipse.ditto:a");
+    private static final ThingId THING_B = ThingId.of("org.eclipse.ditto:b");
+    private static final ThingId THING_C = ThingId.of("org.eclipse.ditto:c");
+    private static final ThingId THING_D = ThingId.of("org.eclipse.ditto:d");
+
+    @Before
+    public void createTestData() {
+        persistThing(createThing(THING_A).toBuilder().setRevision(3L).build());
+        persistThing(createThing(THING_B).toBuilder().setRevision(5L).build());
+        persistThing(createThing(THING_C).toBuilder().setRevision(2L).build());
+        deleteThing(THING_C, 4L, POLICY_ID, 1L);
+        persistThing(createThing(THING_D).toBuilder().setRevision(7L).build());
+    }
+
+    @Test
+    public void digestsEqualThoseOfSnapshots() {
+        assertThat(waitFor(readPersistence.sudoRetrieveRangeDigests(EMPTY_LOWER_BOUND, THING_B, 1)))
+                .containsExactly(List.of(RangeDigest.of(EMPTY_LOWER_BOUND, 2L, 8L,
+                        RangeDigestAccumulators.hash(THING_A.toString(), 3L) +
+                                RangeDigestAccumulators.hash(THING_B.toString(), 5L))));
+
+        assertThat(waitFor(readPersistence.sudoRetrieveRangeDigests(THING_B, null, 1)))
+                .containsExactly(List.of(RangeDigest.of(THING_B, 1L, 7L,
+                        RangeDigestAccumulators.hash(THING_D.toString(), 7L))));
+    }
+
+}
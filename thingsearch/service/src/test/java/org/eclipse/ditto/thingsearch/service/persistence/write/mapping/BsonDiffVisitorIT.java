@@ -27,6 +27,7 @@ import org.eclipse.ditto.internal.utils.persistence.mongo.MongoClientWrapper;
 import org.eclipse.ditto.internal.utils.test.mongo.MongoDbResource;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.policies.api.Permission;
 import org.eclipse.ditto.policies.api.PolicyTag;
 import org.eclipse.ditto.policies.model.PoliciesModelFactory;
@@ -313,6 +314,90 @@ abstract class BsonDiffVisitorIT {
                 .isEqualTo(nextThingDoc);
     }
 
+    @Test
+    public void testDiffOfChangedPaths() {
+        final var collection = client.getCollection("test");
+
+        final Metadata metadata =
+                Metadata.of(ThingId.of("solar.system:pluto"), 23L,
+                        PolicyTag.of(PolicyId.of("solar.system:pluto"), 45L), Set.of(), null, null);
+
+        final JsonObject prevThing = getThing1();
+        final JsonObject nextThing = getThing2(); // Thing1 with some fields updated
+
+        final BsonDocument prevThingDoc =
+                EnforcedThingMapper.toBsonDocument(prevThing, policy, metadata);
+
+        final BsonDocument nextThingDoc =
+                EnforcedThingMapper.toBsonDocument(nextThing, policy, metadata);
+
+        final List<JsonPointer> changedPaths = List.of(JsonPointer.of("/a"), JsonPointer.of("/d/e/f"),
+                JsonPointer.of("/d/l"), JsonPointer.of("/d/m"));
+        final BsonDiff diff =
+                BsonDiff.minusThingDocs(nextThingDoc, prevThingDoc, changedPaths, client.getMaxWireVersion())
+                        .orElseThrow();
+
+        final List<BsonDocument> updateDoc = diff.consumeAndExport();
+
+        run(collection.insertOne(toDocument(prevThingDoc)));
+        run(collection.updateOne(new Document(), updateDoc));
+
+        final BsonDocument incrementalUpdateResult = toBsonDocument(run(collection.find()).get(0));
+
+        assertThat(incrementalUpdateResult)
+                .describedAs("Incremental update result")
+                .isEqualTo(nextThingDoc);
+    }
+
+    @Test
+    public void testDiffOfChangedFeatureProperty() {
+        final var collection = client.getCollection("test");
+
+        final Metadata metadata =
+                Metadata.of(ThingId.of("solar.system:pluto"), 23L,
+                        PolicyTag.of(PolicyId.of("solar.system:pluto"), 45L), Set.of(), null, null);
+
+        final JsonObject prevThing = getThingWithFeatures("lorem ipsum");
+        final JsonObject nextThing = getThingWithFeatures("dolor sit amet");
+
+        final BsonDocument prevThingDoc =
+                EnforcedThingMapper.toBsonDocument(prevThing, policy, metadata);
+
+        final BsonDocument nextThingDoc =
+                EnforcedThingMapper.toBsonDocument(nextThing, policy, metadata);
+
+        final BsonDiff diff = BsonDiff.minusThingDocs(nextThingDoc, prevThingDoc,
+                List.of(JsonPointer.of("/features/f1/properties/x")), client.getMaxWireVersion()).orElseThrow();
+
+        final List<BsonDocument> updateDoc = diff.consumeAndExport();
+
+        assertThat(updateDoc.toString())
+                .describedAs("Unchanged features should not be part of the update")
+                .doesNotContain("ABCDEFGHIJKLMNOPQRSTUVWXYZ");
+
+        run(collection.insertOne(toDocument(prevThingDoc)));
+        run(collection.updateOne(new Document(), updateDoc));
+
+        final BsonDocument incrementalUpdateResult = toBsonDocument(run(collection.find()).get(0));
+
+        assertThat(incrementalUpdateResult)
+                .describedAs("Incremental update result")
+                .isEqualTo(nextThingDoc);
+    }
+
+    @Test
+    public void testNoDiffOfChangedPathsForChangedFeatureSet() {
+        final Metadata metadata =
+                Metadata.of(ThingId.of("solar.system:pluto"), 23L,
+                        PolicyTag.of(PolicyId.of("solar.system:pluto"), 45L), Set.of(), null, null);
+
+        final BsonDocument thingDoc =
+                EnforcedThingMapper.toBsonDocument(getThingWithFeatures("lorem ipsum"), policy, metadata);
+
+        assertThat(BsonDiff.minusThingDocs(thingDoc, thingDoc, List.of(JsonPointer.of("/features")), 13)).isEmpty();
+        assertThat(BsonDiff.minusThingDocs(thingDoc, thingDoc, List.of(JsonPointer.empty()), 13)).isEmpty();
+    }
+
     private <T> List<T> run(final Publisher<T> publisher) {
         return Source.fromPublisher(publisher).runWith(Sink.seq(), system).toCompletableFuture().join();
     }
@@ -427,6 +512,18 @@ abstract class BsonDiffVisitorIT {
                 }""");
     }
 
+    private static JsonObject getThingWithFeatures(final String x) {
+        return JsonFactory.newObject("""
+                {
+                  "thingId":"solar.system:pluto",
+                  "_namespace":"solar.system",
+                  "features": {
+                    "f1": { "properties": { "x": "%s" } },
+                    "f2": { "properties": { "y": "ABCDEFGHIJKLMNOPQRSTUVWXYZABCDEFGHIJKLMNOPQRSTUVWXYZ" } }
+                  }
+                }""".formatted(x));
+    }
+
     private static JsonObject getThing6() {
         return JsonFactory.newObject("""
                 {
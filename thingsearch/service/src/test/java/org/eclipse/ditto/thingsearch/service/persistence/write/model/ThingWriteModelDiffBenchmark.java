@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.model;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.policies.api.Permission;
+import org.eclipse.ditto.policies.api.PolicyTag;
+import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyModified;
+import org.eclipse.ditto.thingsearch.service.persistence.write.mapping.EnforcedThingMapper;
+import org.eclipse.ditto.thingsearch.service.updater.actors.MongoWriteModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the CPU time of the search updater to compute the incremental update of a large Thing after one feature
+ * property changed: once with the full diff of both documents and once with the diff derived from the event.
+ */
+@State(Scope.Benchmark)
+public class ThingWriteModelDiffBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final int FEATURES = 100;
+    private static final int PROPERTIES = 20;
+    private static final int MAX_WIRE_VERSION = 13;
+
+    private static final ThingId THING_ID = ThingId.of("benchmark:thing");
+    private static final PolicyId POLICY_ID = PolicyId.of("benchmark:thing");
+    private static final PolicyTag POLICY_TAG = PolicyTag.of(POLICY_ID, 1L);
+
+    private final ThingWriteModel lastWriteModel;
+    private final ThingWriteModel nextWriteModel;
+    private final ThingWriteModel nextWriteModelWithEvent;
+
+    public ThingWriteModelDiffBenchmark() {
+        final Policy policy = PoliciesModelFactory.newPolicyBuilder(POLICY_ID)
+                .forLabel("owner")
+                .setSubject("integration:owner", SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.THING, "/", Permission.READ)
+                .forLabel("observer")
+                .setSubject("integration:observer", SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.THING, "/features/feature0", Permission.READ)
+                .build();
+
+        final long lastRevision = 41L;
+        final long nextRevision = lastRevision + 1;
+        final var lastMetadata = Metadata.of(THING_ID, lastRevision, POLICY_TAG, Set.of(POLICY_TAG), null);
+        lastWriteModel = EnforcedThingMapper.toWriteModel(getThing(lastRevision, 0), policy, Set.of(POLICY_TAG), 1L,
+                lastMetadata, -1);
+
+        final var event = FeaturePropertyModified.of(THING_ID, "feature7", JsonPointer.of("property3"),
+                JsonValue.of(1), nextRevision, null, DittoHeaders.empty(), null);
+        final var nextMetadata = Metadata.of(THING_ID, nextRevision, POLICY_TAG, Set.of(POLICY_TAG), null);
+        final var nextMetadataWithEvent = Metadata.of(THING_ID, nextRevision, POLICY_TAG, Set.of(POLICY_TAG),
+                List.of(event), null, null);
+        final JsonObject nextThing = getThing(nextRevision, 1);
+        nextWriteModel = EnforcedThingMapper.toWriteModel(nextThing, policy, Set.of(POLICY_TAG), 1L, nextMetadata, -1);
+        nextWriteModelWithEvent = EnforcedThingMapper.toWriteModel(nextThing, policy, Set.of(POLICY_TAG), 1L,
+                nextMetadataWithEvent, -1);
+    }
+
+    /**
+     * Measures the diff of the complete documents as done when the events are unknown, e.g. after a background sync.
+     *
+     * @return the incremental update.
+     */
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Optional<MongoWriteModel> benchmark_fullDiff() {
+        return nextWriteModel.toIncrementalMongo(lastWriteModel, MAX_WIRE_VERSION);
+    }
+
+    /**
+     * Measures the diff of the subtrees changed by the known event.
+     *
+     * @return the incremental update.
+     */
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Optional<MongoWriteModel> benchmark_eventDiff() {
+        return nextWriteModelWithEvent.toIncrementalMongo(lastWriteModel, MAX_WIRE_VERSION);
+    }
+
+    private static JsonObject getThing(final long revision, final int changedValue) {
+        final JsonObjectBuilder features = JsonFactory.newObjectBuilder();
+        for (int i = 0; i < FEATURES; ++i) {
+            final JsonObjectBuilder properties = JsonFactory.newObjectBuilder();
+            for (int j = 0; j < PROPERTIES; ++j) {
+                final boolean changed = i == 7 && j == 3;
+                properties.set("property" + j, changed ? changedValue : i * PROPERTIES + j);
+            }
+            features.set("feature" + i, JsonFactory.newObjectBuilder().set("properties", properties.build()).build());
+        }
+        return JsonFactory.newObjectBuilder()
+                .set("thingId", THING_ID.toString())
+                .set("policyId", POLICY_ID.toString())
+                .set("_revision", revision)
+                .set("attributes", JsonFactory.newObjectBuilder()
+                        .set("manufacturer", "ACME")
+                        .set("serial", "0123456789")
+                        .build())
+                .set("features", features.build())
+                .build();
+    }
+
+}
@@ -143,6 +143,29 @@ public final class BulkWriteResultAckFlowTest {
         assertThat(report.get(0).first()).isEqualTo(BulkWriteResultAckFlow.Status.CONSISTENCY_ERROR);
     }
 
+    @Test
+    public void indicesToRetry() {
+        final List<MongoWriteModel> writeModels = generate5WriteModels();
+        final BulkWriteResult result = BulkWriteResult.acknowledged(1, 2, 1, 2, List.of(), List.of());
+        final List<BulkWriteError> updateFailure = List.of(
+                new BulkWriteError(50, "E50 operation timed out", new BsonDocument(), 4)
+        );
+        final WriteResultAndErrors partialFailure = WriteResultAndErrors.failure(writeModels,
+                new MongoBulkWriteException(result, updateFailure, null, new ServerAddress(), Set.of()), "correlation");
+        final WriteResultAndErrors unexpectedError = WriteResultAndErrors.unexpectedError(writeModels,
+                new IllegalStateException("expected"), "correlation");
+
+        // WHEN: the indices to retry are computed for a partial failure and for an unexpected error
+        final var partialFailureStatus = runBulkWriteResultAckFlow(partialFailure).get(0).first();
+        final var unexpectedErrorStatus = runBulkWriteResultAckFlow(unexpectedError).get(0).first();
+
+        // THEN: only the failed write model is retried after a partial failure and all after an unexpected error
+        assertThat(BulkWriteResultAckFlow.getIndicesToRetry(partialFailureStatus, partialFailure).stream())
+                .containsExactly(4);
+        assertThat(BulkWriteResultAckFlow.getIndicesToRetry(unexpectedErrorStatus, unexpectedError).cardinality())
+                .isEqualTo(5);
+    }
+
     @Test
     public void acknowledgements() {
         final List<TestProbe> probes =
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.internal.models.streaming.LowerBound;
+import org.eclipse.ditto.internal.models.streaming.RangeDigest;
+import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.RangeDigestAccumulators;
+import org.eclipse.ditto.things.model.ThingConstants;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.Metadata;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import akka.NotUsed;
+import akka.actor.ActorSystem;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link RangeDigestSyncStream}.
+ */
+public final class RangeDigestSyncStreamTest {
+
+    private static final ThingId EMPTY_THING_ID = ThingId.of(LowerBound.emptyEntityId(ThingConstants.ENTITY_TYPE));
+    private static final int BUCKETS = 4;
+    private static final int LEAF_SIZE = 10;
+
+    private static ActorSystem actorSystem;
+
+    private final List<String> leafRanges = new ArrayList<>();
+
+    @BeforeClass
+    public static void init() {
+        actorSystem = ActorSystem.create();
+    }
+
+    @AfterClass
+    public static void shutdown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void consistentPersistencesNeedNoLeafComparison() {
+        final TreeMap<String, Long> things = getThings(1000);
+
+        assertThat(findInconsistencies(things, new TreeMap<>(things))).isEmpty();
+        assertThat(leafRanges).isEmpty();
+    }
+
+    @Test
+    public void onlyRangesWithDifferentDigestsAreComparedEntryByEntry() {
+        final TreeMap<String, Long> persisted = getThings(1000);
+        final TreeMap<String, Long> indexed = new TreeMap<>(persisted);
+        indexed.put("x:0123", 2L);
+        indexed.remove("x:0456");
+        persisted.remove("x:0789");
+
+        assertThat(findInconsistencies(persisted, indexed)).containsExactlyInAnyOrder("x:0123", "x:0456", "x:0789");
+        assertThat(leafRanges).hasSize(3);
+    }
+
+    @Test
+    public void emptySearchIndexIsComparedEntryByEntry() {
+        final TreeMap<String, Long> persisted = getThings(20);
+
+        assertThat(findInconsistencies(persisted, new TreeMap<>())).hasSize(20);
+        assertThat(leafRanges).containsExactly(EMPTY_THING_ID + "..null");
+    }
+
+    private List<String> findInconsistencies(final TreeMap<String, Long> persisted,
+            final TreeMap<String, Long> indexed) {
+
+        final RangeDigestSyncStream underTest = RangeDigestSyncStream.of(
+                (lowerBound, upperBound) -> Source.single(splitIntoBuckets(indexed, lowerBound, upperBound)),
+                (lowerBounds, upperBound) -> Source.single(IntStream.range(0, lowerBounds.size())
+                        .mapToObj(i -> getDigest(persisted, lowerBounds.get(i),
+                                i + 1 < lowerBounds.size() ? lowerBounds.get(i + 1) : upperBound))
+                        .toList()),
+                (lowerBound, upperBound) -> {
+                    leafRanges.add(lowerBound + ".." + upperBound);
+                    return compareEntries(getRange(persisted, lowerBound, upperBound),
+                            getRange(indexed, lowerBound, upperBound));
+                },
+                LEAF_SIZE);
+
+        return underTest.findInconsistencies(EMPTY_THING_ID, null)
+                .map(metadata -> metadata.getThingId().toString())
+                .runWith(Sink.seq(), actorSystem)
+                .toCompletableFuture()
+                .join();
+    }
+
+    private static List<RangeDigest> splitIntoBuckets(final TreeMap<String, Long> things, final ThingId lowerBound,
+            @Nullable final ThingId upperBound) {
+
+        final List<String> ids = new ArrayList<>(getRange(things, lowerBound, upperBound).keySet());
+        if (ids.isEmpty()) {
+            return List.of(RangeDigest.empty(lowerBound));
+        }
+        final int bucketSize = (ids.size() + BUCKETS - 1) / BUCKETS;
+        final List<RangeDigest> digests = new ArrayList<>();
+        ThingId bucketLowerBound = lowerBound;
+        for (int start = 0; start < ids.size(); start += bucketSize) {
+            final ThingId last = ThingId.of(ids.get(Math.min(ids.size(), start + bucketSize) - 1));
+            digests.add(getDigest(things, bucketLowerBound, last));
+            bucketLowerBound = last;
+        }
+        return digests;
+    }
+
+    private static RangeDigest getDigest(final TreeMap<String, Long> things, final ThingId lowerBound,
+            @Nullable final ThingId upperBound) {
+
+        final SortedMap<String, Long> range = getRange(things, lowerBound, upperBound);
+        return RangeDigest.of(lowerBound, range.size(),
+                range.values().stream().mapToLong(Long::longValue).sum(),
+                range.entrySet().stream()
+                        .mapToLong(entry -> RangeDigestAccumulators.hash(entry.getKey(), entry.getValue()))
+                        .sum());
+    }
+
+    private static SortedMap<String, Long> getRange(final TreeMap<String, Long> things, final ThingId lowerBound,
+            @Nullable final ThingId upperBound) {
+
+        final SortedMap<String, Long> aboveLowerBound = lowerBound.equals(EMPTY_THING_ID)
+                ? things
+                : things.tailMap(lowerBound.toString(), false);
+        return upperBound == null
+                ? aboveLowerBound
+                : new TreeMap<>(aboveLowerBound).headMap(upperBound.toString(), true);
+    }
+
+    private static Source<Metadata, NotUsed> compareEntries(final Map<String, Long> persisted,
+            final Map<String, Long> indexed) {
+
+        final Set<String> ids = new TreeSet<>(persisted.keySet());
+        ids.addAll(indexed.keySet());
+        return Source.from(ids.stream()
+                .filter(id -> !Objects.equals(persisted.get(id), indexed.get(id)))
+                .map(id -> Metadata.of(ThingId.of(id), Objects.requireNonNullElse(persisted.get(id), 0L), null,
+                        Set.of(), null))
+                .toList());
+    }
+
+    private static TreeMap<String, Long> getThings(final int count) {
+        final TreeMap<String, Long> things = new TreeMap<>();
+        for (int i = 0; i < count; i++) {
+            things.put(String.format("x:%04d", i), 1L);
+        }
+        return things;
+    }
+
+}
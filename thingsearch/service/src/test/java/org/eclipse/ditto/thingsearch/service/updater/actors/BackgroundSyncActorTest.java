@@ -39,6 +39,7 @@ import org.eclipse.ditto.base.model.entity.id.EntityId;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.base.model.json.FieldType;
 import org.eclipse.ditto.base.model.signals.acks.Acknowledgement;
+import org.eclipse.ditto.internal.models.streaming.RangeDigest;
 import org.eclipse.ditto.internal.models.streaming.StreamedSnapshot;
 import org.eclipse.ditto.internal.models.streaming.SudoStreamSnapshots;
 import org.eclipse.ditto.internal.utils.akka.streaming.TimestampPersistence;
@@ -62,6 +63,7 @@ import org.eclipse.ditto.thingsearch.api.commands.sudo.SudoUpdateThing;
 import org.eclipse.ditto.thingsearch.service.common.config.BackgroundSyncConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.DefaultBackgroundSyncConfig;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultList;
+import org.eclipse.ditto.thingsearch.service.common.model.ThingsAggregation;
 import org.eclipse.ditto.thingsearch.service.common.model.TimestampedThingId;
 import org.eclipse.ditto.thingsearch.service.persistence.read.ThingsSearchPersistence;
 import org.eclipse.ditto.thingsearch.service.persistence.write.model.Metadata;
@@ -477,6 +479,17 @@ public final class BackgroundSyncActorTest {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public Source<JsonObject, NotUsed> aggregate(final ThingsAggregation aggregation,
+                final List<String> authorizationSubjectIds) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Source<JsonObject, NotUsed> retrieveIndexRecommendations(final int limit) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public Source<ResultList<TimestampedThingId>, NotUsed> findAll(final Query query,
                 final List<String> authorizationSubjectIds,
@@ -497,6 +510,12 @@ public final class BackgroundSyncActorTest {
             return Source.from(this.metadata);
         }
 
+        @Override
+        public Source<List<RangeDigest>, NotUsed> sudoRetrieveRangeDigests(final ThingId lowerBound,
+                @Nullable final ThingId upperBound, final int buckets) {
+            throw new UnsupportedOperationException();
+        }
+
     }
 
     private static class MockTimestampPersistence implements TimestampPersistence {
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.updater.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.eclipse.ditto.thingsearch.service.common.config.DefaultUpdaterConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.Metadata;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link ConsistencyLagTracker}.
+ */
+public final class ConsistencyLagTrackerTest {
+
+    private static final ThingId THING_ID_1 = ThingId.of("thing:1");
+    private static final ThingId THING_ID_2 = ThingId.of("thing:2");
+    private static final Instant NOW = Instant.now();
+
+    private final ConsistencyLagTracker underTest =
+            ConsistencyLagTracker.of(DefaultUpdaterConfig.of(ConfigFactory.empty()));
+
+    @Test
+    public void mostLaggingThingsComeFirst() {
+        underTest.eventReceived(getEvent(THING_ID_1, 1L, NOW.minus(1L, ChronoUnit.MINUTES)));
+        underTest.eventReceived(getEvent(THING_ID_2, 1L, NOW.minus(1L, ChronoUnit.HOURS)));
+
+        assertThat(getThingIds(underTest.getMostLaggingThings(10))).containsExactly(THING_ID_2, THING_ID_1);
+        assertThat(getThingIds(underTest.getMostLaggingThings(1))).containsExactly(THING_ID_2);
+        assertThat(getFirst(underTest.getMostLaggingThings(1)).getValue("lagMillis"))
+                .map(JsonValue::asLong)
+                .hasValueSatisfying(lagMillis -> assertThat(lagMillis).isGreaterThanOrEqualTo(3_600_000L));
+    }
+
+    @Test
+    public void pendingUpdateKeepsOldestEventAndLatestRevision() {
+        final var oldest = NOW.minus(1L, ChronoUnit.HOURS);
+        underTest.eventReceived(getEvent(THING_ID_1, 1L, oldest));
+        underTest.eventReceived(getEvent(THING_ID_1, 2L, NOW));
+
+        final var laggingThing = getFirst(underTest.getMostLaggingThings(10));
+        assertThat(laggingThing.getValue("since")).contains(JsonValue.of(oldest.toString()));
+        assertThat(laggingThing.getValue("revision")).contains(JsonValue.of(2L));
+
+        // persisting an older revision keeps the thing tracked
+        underTest.persisted(getMetadata(THING_ID_1, 1L));
+        assertThat(getThingIds(underTest.getMostLaggingThings(10))).containsExactly(THING_ID_1);
+
+        underTest.persisted(getMetadata(THING_ID_1, 2L));
+        assertThat(underTest.getMostLaggingThings(10)).isEmpty();
+    }
+
+    @Test
+    public void untrackRemovesThing() {
+        underTest.eventReceived(getEvent(THING_ID_1, 1L, NOW));
+        underTest.untrack(THING_ID_1);
+
+        assertThat(underTest.getMostLaggingThings(10)).isEmpty();
+    }
+
+    @Test
+    public void numberOfTrackedThingsIsBounded() {
+        final var tracker = ConsistencyLagTracker.of(DefaultUpdaterConfig.of(ConfigFactory.parseString(
+                "updater.consistency-lag.max-tracked-things = 1")));
+        tracker.eventReceived(getEvent(THING_ID_1, 1L, NOW));
+        tracker.eventReceived(getEvent(THING_ID_2, 1L, NOW.minus(1L, ChronoUnit.HOURS)));
+        tracker.eventReceived(getEvent(THING_ID_1, 2L, NOW));
+
+        final var laggingThings = tracker.getMostLaggingThings(10);
+        assertThat(getThingIds(laggingThings)).containsExactly(THING_ID_1);
+        assertThat(getFirst(laggingThings).getValue("revision")).contains(JsonValue.of(2L));
+    }
+
+    private static JsonObject getFirst(final JsonArray laggingThings) {
+        return laggingThings.get(0).orElseThrow().asObject();
+    }
+
+    private static List<ThingId> getThingIds(final JsonArray laggingThings) {
+        final List<ThingId> thingIds = new ArrayList<>();
+        laggingThings.forEach(laggingThing ->
+                thingIds.add(ThingId.of(laggingThing.asObject().getValue("thingId").orElseThrow().asString())));
+        return thingIds;
+    }
+
+    private static AttributeModified getEvent(final ThingId thingId, final long revision, final Instant timestamp) {
+        return AttributeModified.of(thingId, JsonPointer.of("x"), JsonValue.of(revision), revision, timestamp,
+                DittoHeaders.empty(), null);
+    }
+
+    private static Metadata getMetadata(final ThingId thingId, final long revision) {
+        return Metadata.of(thingId, revision, null, Set.of(), null);
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.updater.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.internal.utils.cluster.GlobalMappingStrategies;
+import org.eclipse.ditto.internal.utils.cluster.ShardRegionExtractor;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.thingsearch.api.UpdateReason;
+import org.eclipse.ditto.thingsearch.api.commands.sudo.SudoUpdateThing;
+import org.junit.Test;
+
+import akka.cluster.sharding.ShardRegion;
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Tests {@link PartitionedShardRegionExtractor}.
+ */
+public final class PartitionedShardRegionExtractorTest {
+
+    private static final int NUMBER_OF_SHARDS = 10;
+
+    private final ShardRegionExtractor delegate =
+            ShardRegionExtractor.of(NUMBER_OF_SHARDS, GlobalMappingStrategies.getInstance());
+    private final PartitionedShardRegionExtractor underTest = PartitionedShardRegionExtractor.of(delegate);
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(PartitionedShardRegionExtractor.class).verify();
+    }
+
+    @Test
+    public void messagesOfAShardAreDeliveredToOnePartition() {
+        for (int i = 0; i < 100; ++i) {
+            final var message =
+                    SudoUpdateThing.of(ThingId.of("thing", String.valueOf(i)), UpdateReason.UNKNOWN,
+                            DittoHeaders.empty());
+
+            assertThat(underTest.shardId(message)).isEqualTo(delegate.shardId(message));
+            assertThat(underTest.entityId(message)).isEqualTo(delegate.shardId(message));
+            assertThat(underTest.entityMessage(message)).isEqualTo(message);
+        }
+    }
+
+    @Test
+    public void startEntityIsDeliveredToPartitionOfItsShard() {
+        final var startEntity = new ShardRegion.StartEntity("7");
+
+        assertThat(underTest.shardId(startEntity)).isEqualTo("7");
+        assertThat(underTest.entityId(startEntity)).isEqualTo("7");
+    }
+
+    @Test
+    public void shardIdForNull() {
+        assertThat(underTest.shardId(null)).isNull();
+        assertThat(underTest.entityId(null)).isNull();
+    }
+
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.updater.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.internal.utils.akka.ActorSystemResource;
+import org.eclipse.ditto.internal.utils.cluster.StopShardedActor;
+import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.internal.utils.tracing.DittoTracingInitResource;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.eclipse.ditto.thingsearch.service.common.config.DittoSearchConfig;
+import org.eclipse.ditto.thingsearch.service.common.config.SearchConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.Metadata;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.ThingDeleteModel;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.ThingWriteModel;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.WriteResultAndErrors;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.UpdateOneModel;
+import com.typesafe.config.ConfigFactory;
+
+import akka.NotUsed;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.stream.javadsl.Flow;
+import akka.stream.javadsl.Keep;
+import akka.stream.javadsl.Sink;
+import akka.stream.scaladsl.BroadcastHub;
+import akka.stream.testkit.TestPublisher;
+import akka.stream.testkit.javadsl.TestSource;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link ThingUpdaterPartition}.
+ */
+public final class ThingUpdaterPartitionTest {
+
+    @ClassRule
+    public static final DittoTracingInitResource DITTO_TRACING_INIT_RESOURCE =
+            DittoTracingInitResource.disableDittoTracing();
+
+    private static final SearchConfig SEARCH_CONFIG =
+            DittoSearchConfig.of(DefaultScopedConfig.dittoScoped(ConfigFactory.parseString("""
+                      ditto {
+                        search {
+                            updater.stream.write-interval = 200ms
+                            updater.partitioned-ingestion.max-bulk-size = 10
+                        }
+                        mongodb.uri = "mongodb://localhost:27017/test"
+                      }
+                    """)));
+
+    private static final ThingId THING_ID_1 = ThingId.of("thing:1");
+    private static final ThingId THING_ID_2 = ThingId.of("thing:2");
+    private static final long REVISION = 1234L;
+
+    @Rule
+    public final ActorSystemResource actorSystemResource = ActorSystemResource.newInstance();
+    private ActorSystem system;
+    private TestProbe inputProbe;
+    private TestPublisher.Probe<List<ThingUpdater.Result>> outletProbe;
+    private Props props;
+
+    @Before
+    public void init() {
+        system = actorSystemResource.getActorSystem();
+        inputProbe = TestProbe.apply(system);
+
+        final var outletPair = TestSource.<List<ThingUpdater.Result>>probe(system)
+                .toMat(BroadcastHub.sink(), Keep.both())
+                .run(system);
+        final Flow<List<ThingUpdater.Data>, List<ThingUpdater.Result>, NotUsed> batchFlow = Flow.fromSinkAndSource(
+                Sink.foreach(batch -> inputProbe.ref().tell(batch, ActorRef.noSender())),
+                outletPair.second());
+        outletProbe = outletPair.first();
+
+        props = ThingUpdaterPartition.props(batchFlow, id -> akka.stream.javadsl.Source.single(
+                getThingWriteModel(id, REVISION)), SEARCH_CONFIG, TestProbe.apply(system).ref());
+    }
+
+    @Test
+    public void persistUpdatesOfSeveralThingsInOneBatch() {
+        new TestKit(system) {{
+            // GIVEN: the partition tracks no thing
+            final ActorRef underTest = childActorOf(props, "0");
+
+            // WHEN: events of the next revisions of 2 things arrive
+            underTest.tell(getEvent(THING_ID_1, REVISION + 1), ActorRef.noSender());
+            underTest.tell(getEvent(THING_ID_2, REVISION + 1), ActorRef.noSender());
+
+            // THEN: both things are persisted with one batch
+            final List<ThingUpdater.Data> batch = expectBatch();
+            assertThat(batch).hasSize(2);
+            assertThat(batch).extracting(ThingUpdater.Data::metadata)
+                    .extracting(Metadata::export)
+                    .containsExactlyInAnyOrder(Metadata.of(THING_ID_1, REVISION + 1, null, Set.of(), null),
+                            Metadata.of(THING_ID_2, REVISION + 1, null, Set.of(), null));
+            assertThat(batch).extracting(ThingUpdater.Data::lastWriteModel)
+                    .containsExactlyInAnyOrder(getThingWriteModel(THING_ID_1, REVISION),
+                            getThingWriteModel(THING_ID_2, REVISION));
+        }};
+    }
+
+    @Test
+    public void applyEventsArrivingDuringPersistenceAfterwards() {
+        new TestKit(system) {{
+            // GIVEN: an update of a thing is being persisted
+            final ActorRef underTest = childActorOf(props, "0");
+            underTest.tell(getEvent(THING_ID_1, REVISION + 1), ActorRef.noSender());
+            assertThat(expectBatch()).hasSize(1);
+
+            // WHEN: an event of the next revision arrives
+            underTest.tell(getEvent(THING_ID_1, REVISION + 2), ActorRef.noSender());
+
+            // THEN: it is persisted only after the previous update succeeded, incrementally to the written model
+            inputProbe.expectNoMessage(scala.concurrent.duration.Duration.create(1, "s"));
+            outletProbe.sendNext(List.of(getOKResult(THING_ID_1, REVISION + 1)));
+            final List<ThingUpdater.Data> batch = expectBatch();
+            assertThat(batch).hasSize(1);
+            assertThat(batch.get(0).metadata().export())
+                    .isEqualTo(Metadata.of(THING_ID_1, REVISION + 2, null, Set.of(), null));
+            assertThat(batch.get(0).lastWriteModel()).isEqualTo(getThingWriteModel(THING_ID_1, REVISION + 1));
+        }};
+    }
+
+    @Test
+    public void retryFailedUpdateAsFullUpdate() {
+        new TestKit(system) {{
+            // GIVEN: an update of a thing is being persisted
+            final ActorRef underTest = childActorOf(props, "0");
+            underTest.tell(getEvent(THING_ID_1, REVISION + 1), ActorRef.noSender());
+            final List<ThingUpdater.Data> batch = expectBatch();
+
+            // WHEN: the persistence operation fails
+            outletProbe.sendNext(List.of(ThingUpdater.Result.fromError(batch.get(0).metadata(),
+                    new IllegalStateException("expected"))));
+
+            // THEN: the update is retried against a deleted write model, which forces a full update
+            final List<ThingUpdater.Data> retry = expectBatch();
+            assertThat(retry).hasSize(1);
+            assertThat(retry.get(0).metadata().export())
+                    .isEqualTo(Metadata.of(THING_ID_1, REVISION + 1, null, Set.of(), null));
+            assertThat(retry.get(0).lastWriteModel()).isInstanceOf(ThingDeleteModel.class);
+        }};
+    }
+
+    @Test
+    public void stopAfterPersistingPendingUpdates() {
+        new TestKit(system) {{
+            // GIVEN: an update of a thing is being persisted
+            final ActorRef underTest = watch(childActorOf(props, "0"));
+            underTest.tell(getEvent(THING_ID_1, REVISION + 1), ActorRef.noSender());
+            expectBatch();
+
+            // WHEN: the partition is asked to stop
+            underTest.tell(new StopShardedActor(), ActorRef.noSender());
+
+            // THEN: it stops after the persistence operation completed
+            expectNoMessage(Duration.ofSeconds(1));
+            outletProbe.sendNext(List.of(getOKResult(THING_ID_1, REVISION + 1)));
+            expectTerminated(Duration.ofSeconds(10), underTest);
+        }};
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ThingUpdater.Data> expectBatch() {
+        return inputProbe.expectMsgClass(scala.concurrent.duration.Duration.create(10, "s"), List.class);
+    }
+
+    private static AttributeModified getEvent(final ThingId thingId, final long revision) {
+        return AttributeModified.of(thingId, JsonPointer.of("x"), JsonValue.of(6), revision, null,
+                DittoHeaders.empty(), null);
+    }
+
+    private static ThingUpdater.Result getOKResult(final ThingId thingId, final long revision) {
+        final var mongoWriteModel =
+                MongoWriteModel.of(getThingWriteModel(thingId, revision),
+                        new UpdateOneModel<>(new BsonDocument(), new BsonDocument()), true);
+        return new ThingUpdater.Result(mongoWriteModel,
+                WriteResultAndErrors.success(List.of(mongoWriteModel),
+                        BulkWriteResult.acknowledged(0, 1, 0, 1, List.of(), List.of()), String.valueOf(revision))
+        );
+    }
+
+    private static ThingWriteModel getThingWriteModel(final ThingId thingId, final long revision) {
+        final var document = new BsonDocument()
+                .append("_revision", new BsonInt64(revision))
+                .append("f", new BsonArray());
+        return ThingWriteModel.of(Metadata.of(thingId, revision, null, Set.of(), null), document);
+    }
+
+}
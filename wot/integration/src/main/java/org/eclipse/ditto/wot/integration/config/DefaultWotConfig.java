@@ -37,12 +37,14 @@ public final class DefaultWotConfig implements WotConfig {
 
     private final HttpProxyConfig httpProxyConfig;
     private final CacheConfig cacheConfig;
+    private final CacheConfig thingDescriptionCacheConfig;
     private final ToThingDescriptionConfig toThingDescriptionConfig;
     private final DefaultTmBasedCreationConfig tmBasedCreationConfig;
 
     private DefaultWotConfig(final ScopedConfig scopedConfig) {
         httpProxyConfig = DefaultHttpProxyConfig.ofHttpProxy(scopedConfig);
         cacheConfig = DefaultCacheConfig.of(scopedConfig, "cache");
+        thingDescriptionCacheConfig = DefaultCacheConfig.of(scopedConfig, "thing-description-cache");
         toThingDescriptionConfig = DefaultToThingDescriptionConfig.of(scopedConfig);
         tmBasedCreationConfig = DefaultTmBasedCreationConfig.of(scopedConfig);
     }
@@ -68,6 +70,11 @@ public final class DefaultWotConfig implements WotConfig {
         return cacheConfig;
     }
 
+    @Override
+    public CacheConfig getThingDescriptionCacheConfig() {
+        return thingDescriptionCacheConfig;
+    }
+
     @Override
     public ToThingDescriptionConfig getToThingDescriptionConfig() {
         return toThingDescriptionConfig;
@@ -89,13 +96,15 @@ public final class DefaultWotConfig implements WotConfig {
         final DefaultWotConfig that = (DefaultWotConfig) o;
         return Objects.equals(httpProxyConfig, that.httpProxyConfig) &&
                 Objects.equals(cacheConfig, that.cacheConfig) &&
+                Objects.equals(thingDescriptionCacheConfig, that.thingDescriptionCacheConfig) &&
                 Objects.equals(toThingDescriptionConfig, that.toThingDescriptionConfig) &&
                 Objects.equals(tmBasedCreationConfig, that.tmBasedCreationConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(httpProxyConfig, cacheConfig, toThingDescriptionConfig, tmBasedCreationConfig);
+        return Objects.hash(httpProxyConfig, cacheConfig, thingDescriptionCacheConfig, toThingDescriptionConfig,
+                tmBasedCreationConfig);
     }
 
     @Override
@@ -103,6 +112,7 @@ public final class DefaultWotConfig implements WotConfig {
         return getClass().getSimpleName() + " [" +
                 "httpProxyConfig=" + httpProxyConfig +
                 ", cacheConfig=" + cacheConfig +
+                ", thingDescriptionCacheConfig=" + thingDescriptionCacheConfig +
                 ", toThingDescriptionConfig=" + toThingDescriptionConfig +
                 ", tmBasedCreationConfig=" + tmBasedCreationConfig +
                 "]";
@@ -39,6 +39,13 @@ public interface WotConfig {
      */
     CacheConfig getCacheConfig();
 
+    /**
+     * Returns the cache configuration to apply for caching Thing Descriptions generated from WoT Thing Models.
+     *
+     * @return the cache configuration to apply.
+     */
+    CacheConfig getThingDescriptionCacheConfig();
+
     /**
      * Returns configuration settings for WoT (Web of Things) integration regarding the Thing Description transformation
      * from Thing Models.
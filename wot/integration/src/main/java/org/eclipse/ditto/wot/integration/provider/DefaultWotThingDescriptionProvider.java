@@ -15,6 +15,7 @@ package org.eclipse.ditto.wot.integration.provider;
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
 import java.net.URL;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.concurrent.CompletionException;
 
@@ -27,6 +28,7 @@ import org.eclipse.ditto.base.model.signals.FeatureToggle;
 import org.eclipse.ditto.internal.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.akka.logging.ThreadSafeDittoLogger;
 import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.things.model.DefinitionIdentifier;
 import org.eclipse.ditto.things.model.Feature;
@@ -35,11 +37,13 @@ import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingDefinition;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.wot.integration.config.DefaultWotConfig;
+import org.eclipse.ditto.wot.integration.config.ToThingDescriptionConfig;
 import org.eclipse.ditto.wot.integration.config.WotConfig;
 import org.eclipse.ditto.wot.integration.generator.WotThingDescriptionGenerator;
 import org.eclipse.ditto.wot.integration.generator.WotThingSkeletonGenerator;
 import org.eclipse.ditto.wot.model.ThingDefinitionInvalidException;
 import org.eclipse.ditto.wot.model.ThingDescription;
+import org.eclipse.ditto.wot.model.ThingModel;
 import org.eclipse.ditto.wot.model.WotInternalErrorException;
 
 import akka.actor.AbstractExtensionId;
@@ -57,15 +61,20 @@ final class DefaultWotThingDescriptionProvider implements WotThingDescriptionPro
 
     public static final String MODEL_PLACEHOLDERS_KEY = "model-placeholders";
 
+    private final ActorSystem actorSystem;
     private final WotConfig wotConfig;
     private final WotThingModelFetcher thingModelFetcher;
-    private final WotThingDescriptionGenerator thingDescriptionGenerator;
     private final WotThingSkeletonGenerator thingSkeletonGenerator;
+    private final ThingDescriptionCache thingDescriptionCache;
 
     private DefaultWotThingDescriptionProvider(final ActorSystem actorSystem, final WotConfig wotConfig) {
+        this.actorSystem = actorSystem;
         this.wotConfig = checkNotNull(wotConfig, "wotConfig");
-        thingModelFetcher = new DefaultWotThingModelFetcher(actorSystem, wotConfig);
-        thingDescriptionGenerator = WotThingDescriptionGenerator.of(actorSystem, wotConfig, thingModelFetcher);
+        thingDescriptionCache = new ThingDescriptionCache(wotConfig.getThingDescriptionCacheConfig(),
+                "ditto_wot_thing_description_cache",
+                actorSystem.dispatchers().lookup("wot-dispatcher"));
+        thingModelFetcher = new DefaultWotThingModelFetcher(actorSystem, wotConfig,
+                thingDescriptionCache::invalidateThingDescriptionsOf);
         thingSkeletonGenerator = WotThingSkeletonGenerator.of(actorSystem, thingModelFetcher);
     }
 
@@ -194,19 +203,18 @@ final class DefaultWotThingDescriptionProvider implements WotThingDescriptionPro
             final URL url = urlOpt.get();
             try {
                 return thingModelFetcher.fetchThingModel(url, dittoHeaders)
-                        .thenApply(thingModel -> thingDescriptionGenerator
-                                .generateThingDescription(thingId,
-                                        thing,
-                                        Optional.ofNullable(thing)
-                                                .flatMap(Thing::getAttributes)
-                                                .flatMap(a -> a.getValue(MODEL_PLACEHOLDERS_KEY))
-                                                .filter(JsonValue::isObject)
-                                                .map(JsonValue::asObject)
-                                                .orElse(null),
-                                        null,
-                                        thingModel,
-                                        url,
-                                        dittoHeaders)
+                        .thenApply(thingModel -> getCachedThingDescription(thingId,
+                                thing,
+                                Optional.ofNullable(thing)
+                                        .flatMap(Thing::getAttributes)
+                                        .flatMap(a -> a.getValue(MODEL_PLACEHOLDERS_KEY))
+                                        .filter(JsonValue::isObject)
+                                        .map(JsonValue::asObject)
+                                        .orElse(null),
+                                null,
+                                thingModel,
+                                url,
+                                dittoHeaders)
                         )
                         .toCompletableFuture()
                         .join();
@@ -240,18 +248,17 @@ final class DefaultWotThingDescriptionProvider implements WotThingDescriptionPro
             final URL url = urlOpt.get();
             try {
                 return thingModelFetcher.fetchThingModel(url, dittoHeaders)
-                        .thenApply(thingModel -> thingDescriptionGenerator
-                                .generateThingDescription(thingId,
-                                        thing,
-                                        feature.getProperties()
-                                                .flatMap(p -> p.getValue(MODEL_PLACEHOLDERS_KEY))
-                                                .filter(JsonValue::isObject)
-                                                .map(JsonValue::asObject)
-                                                .orElse(null),
-                                        feature.getId(),
-                                        thingModel,
-                                        url,
-                                        dittoHeaders)
+                        .thenApply(thingModel -> getCachedThingDescription(thingId,
+                                thing,
+                                feature.getProperties()
+                                        .flatMap(p -> p.getValue(MODEL_PLACEHOLDERS_KEY))
+                                        .filter(JsonValue::isObject)
+                                        .map(JsonValue::asObject)
+                                        .orElse(null),
+                                feature.getId(),
+                                thingModel,
+                                url,
+                                dittoHeaders)
                         )
                         .toCompletableFuture()
                         .join();
@@ -270,6 +277,45 @@ final class DefaultWotThingDescriptionProvider implements WotThingDescriptionPro
         }
     }
 
+    /**
+     * Returns the TD generated for the given parameters from the cache or generates and caches it. Cached TDs do not
+     * contain any Thing specific metadata, which is added on each invocation instead.
+     */
+    private ThingDescription getCachedThingDescription(final ThingId thingId,
+            @Nullable final Thing thing,
+            @Nullable final JsonObject placeholderLookupObject,
+            @Nullable final String featureId,
+            final ThingModel thingModel,
+            final URL thingModelUrl,
+            final DittoHeaders dittoHeaders) {
+
+        final ThingDescriptionCache.Key cacheKey =
+                new ThingDescriptionCache.Key(thingModelUrl.toString(), thingId, featureId, placeholderLookupObject);
+        // the generator records the ThingModels the TD is generated from with the fetcher passed by the cache
+        final ThingDescription thingDescription = thingDescriptionCache.get(cacheKey, thingModelFetcher,
+                        fetcher -> WotThingDescriptionGenerator.of(actorSystem, wotConfig, fetcher)
+                                .generateThingDescription(thingId, null, placeholderLookupObject, featureId,
+                                        thingModel, thingModelUrl, dittoHeaders));
+        return addThingMetadata(thingDescription, thing);
+    }
+
+    private ThingDescription addThingMetadata(final ThingDescription thingDescription, @Nullable final Thing thing) {
+        final ToThingDescriptionConfig toThingDescriptionConfig = wotConfig.getToThingDescriptionConfig();
+        final Optional<Instant> created = Optional.ofNullable(thing)
+                .filter(t -> toThingDescriptionConfig.addCreated())
+                .flatMap(Thing::getCreated);
+        final Optional<Instant> modified = Optional.ofNullable(thing)
+                .filter(t -> toThingDescriptionConfig.addModified())
+                .flatMap(Thing::getModified);
+        if (created.isEmpty() && modified.isEmpty()) {
+            return thingDescription;
+        }
+        final ThingDescription.Builder tdBuilder = thingDescription.toBuilder();
+        created.ifPresent(tdBuilder::setCreated);
+        modified.ifPresent(tdBuilder::setModified);
+        return tdBuilder.build();
+    }
+
     static final class ExtensionId extends AbstractExtensionId<WotThingDescriptionProvider> {
 
         private static final String WOT_PARENT_CONFIG_PATH = "things";
@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
 
@@ -71,8 +72,19 @@ final class DefaultWotThingModelFetcher implements WotThingModelFetcher {
     private final HttpClientFacade httpClient;
     private final Materializer materializer;
     private final Cache<URL, ThingModel> thingModelCache;
-
-    DefaultWotThingModelFetcher(final ActorSystem actorSystem, final WotConfig wotConfig) {
+    private final Consumer<URL> thingModelLoadedListener;
+
+    /**
+     * Creates a fetcher which notifies a listener whenever a ThingModel was (re)loaded into its cache, e.g. in order
+     * to invalidate data derived from previously loaded ThingModels.
+     *
+     * @param actorSystem the actor system to use.
+     * @param wotConfig the WoT config to use.
+     * @param thingModelLoadedListener the listener receiving the URL of each ThingModel loaded into the cache.
+     */
+    DefaultWotThingModelFetcher(final ActorSystem actorSystem, final WotConfig wotConfig,
+            final Consumer<URL> thingModelLoadedListener) {
+        this.thingModelLoadedListener = thingModelLoadedListener;
         this.httpClient = DefaultHttpClientFacade.getInstance(actorSystem, wotConfig.getHttpProxyConfig());
         materializer = SystemMaterializer.get(actorSystem).materializer();
         final AsyncCacheLoader<URL, ThingModel> loader = this::loadThingModelViaHttp;
@@ -120,7 +132,10 @@ final class DefaultWotThingModelFetcher implements WotThingModelFetcher {
         final CompletionStage<HttpResponse> responseFuture = getThingModelFromUrl(url);
         final CompletionStage<ThingModel> thingModelFuture = responseFuture.thenCompose(
                 response -> mapResponseToThingModel(response, url));
-        return thingModelFuture.toCompletableFuture();
+        return thingModelFuture.thenApply(thingModel -> {
+            thingModelLoadedListener.accept(url);
+            return thingModel;
+        }).toCompletableFuture();
     }
 
     private CompletionStage<HttpResponse> getThingModelFromUrl(final URL url) {
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.wot.integration.provider;
+
+import java.net.URL;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.internal.utils.cache.CacheFactory;
+import org.eclipse.ditto.internal.utils.cache.CaffeineCache;
+import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.wot.model.IRI;
+import org.eclipse.ditto.wot.model.ThingDescription;
+import org.eclipse.ditto.wot.model.ThingModel;
+
+/**
+ * Cache of generated Thing Descriptions. Each cached TD remembers the URLs of all ThingModels it was generated from,
+ * i.e. its own ThingModel and all extended or referenced ones, so that a (re)loaded ThingModel only invalidates the
+ * TDs derived from it.
+ * <p>
+ * TDs are generated on the calling thread and cached as completed values. The generation blocks on fetching
+ * ThingModels, which complete on the executor of the cache, so it must not run on that executor itself.
+ */
+@ThreadSafe
+final class ThingDescriptionCache {
+
+    private final CaffeineCache<Key, CachedThingDescription> cache;
+
+    /**
+     * Creates a Thing Description cache.
+     *
+     * @param cacheConfig the config of the cache.
+     * @param cacheName the name of the cache used as metric label or {@code null} if metrics should be disabled.
+     * @param executor the executor of the cache maintenance.
+     */
+    ThingDescriptionCache(final CacheConfig cacheConfig, @Nullable final String cacheName, final Executor executor) {
+        cache = CacheFactory.createCache(cacheConfig, cacheName, executor);
+    }
+
+    /**
+     * Returns the cached TD of the passed key or generates it on the calling thread and caches it.
+     *
+     * @param key the key of the TD.
+     * @param thingModelFetcher the fetcher of the ThingModels the TD is generated from.
+     * @param generation generates the TD with the ThingModel fetcher passed to it.
+     * @return the TD.
+     */
+    ThingDescription get(final Key key,
+            final WotThingModelFetcher thingModelFetcher,
+            final Function<WotThingModelFetcher, ThingDescription> generation) {
+
+        // only completed futures are cached, hence joining does not block
+        return cache.getIfPresent(key)
+                .join()
+                .orElseGet(() -> {
+                    final RecordingThingModelFetcher recordingFetcher =
+                            new RecordingThingModelFetcher(thingModelFetcher);
+                    recordingFetcher.thingModelUrls.add(key.thingModelUrl());
+                    final ThingDescription thingDescription = generation.apply(recordingFetcher);
+                    final CachedThingDescription cachedThingDescription =
+                            new CachedThingDescription(thingDescription, Set.copyOf(recordingFetcher.thingModelUrls));
+                    cache.put(key, cachedThingDescription);
+                    return cachedThingDescription;
+                })
+                .thingDescription();
+    }
+
+    /**
+     * Invalidates all TDs generated from the ThingModel at the passed URL.
+     *
+     * @param thingModelUrl the URL of the (re)loaded ThingModel.
+     */
+    void invalidateThingDescriptionsOf(final URL thingModelUrl) {
+        final String url = thingModelUrl.toString();
+        cache.asMap().forEach((key, cachedThingDescription) -> {
+            if (cachedThingDescription.thingModelUrls().contains(url)) {
+                cache.invalidate(key);
+            }
+        });
+    }
+
+    /**
+     * Identifies a generated TD. The WoT config is not part of the key as it does not change for a provider.
+     * The ThingModel URL is kept as string because {@link URL#equals(Object)} resolves host names.
+     */
+    record Key(String thingModelUrl,
+               ThingId thingId,
+               @Nullable String featureId,
+               @Nullable JsonObject placeholderLookupObject) {}
+
+    private record CachedThingDescription(ThingDescription thingDescription, Set<String> thingModelUrls) {}
+
+    /**
+     * Records the URLs of all ThingModels fetched during the generation of one TD.
+     */
+    private static final class RecordingThingModelFetcher implements WotThingModelFetcher {
+
+        private final WotThingModelFetcher delegate;
+        private final Set<String> thingModelUrls;
+
+        private RecordingThingModelFetcher(final WotThingModelFetcher delegate) {
+            this.delegate = delegate;
+            thingModelUrls = ConcurrentHashMap.newKeySet();
+        }
+
+        @Override
+        public CompletionStage<ThingModel> fetchThingModel(final IRI iri, final DittoHeaders dittoHeaders) {
+            thingModelUrls.add(iri.toString());
+            return delegate.fetchThingModel(iri, dittoHeaders);
+        }
+
+        @Override
+        public CompletionStage<ThingModel> fetchThingModel(final URL url, final DittoHeaders dittoHeaders) {
+            thingModelUrls.add(url.toString());
+            return delegate.fetchThingModel(url, dittoHeaders);
+        }
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.wot.integration.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.internal.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.wot.model.ThingDescription;
+import org.eclipse.ditto.wot.model.ThingModel;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link ThingDescriptionCache}.
+ */
+public final class ThingDescriptionCacheTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto:thing");
+
+    private final Map<String, AtomicInteger> generations = new ConcurrentHashMap<>();
+    private WotThingModelFetcher thingModelFetcher;
+    private ThingDescriptionCache underTest;
+
+    @Before
+    public void setUp() {
+        thingModelFetcher = mock(WotThingModelFetcher.class);
+        when(thingModelFetcher.fetchThingModel(any(URL.class), any()))
+                .thenReturn(CompletableFuture.completedFuture(ThingModel.fromJson(JsonObject.empty())));
+        underTest = new ThingDescriptionCache(
+                DefaultCacheConfig.of(ConfigFactory.parseString("cache.maximum-size = 10"), "cache"), null,
+                ForkJoinPool.commonPool());
+    }
+
+    @Test
+    public void cachedThingDescriptionIsGeneratedOnce() throws Exception {
+        final ThingDescriptionCache.Key key = key("https://models/lamp.tm.jsonld");
+
+        final ThingDescription first = get(key, fetcher -> generate(key));
+        final ThingDescription second = get(key, fetcher -> generate(key));
+
+        assertThat(second).isEqualTo(first);
+        assertThat(generations.get(key.thingModelUrl())).hasValue(1);
+    }
+
+    @Test
+    public void thingDescriptionIsGeneratedOnCallingThread() throws Exception {
+        final ThingDescriptionCache.Key key = key("https://models/lamp.tm.jsonld");
+        final AtomicReference<Thread> generatingThread = new AtomicReference<>();
+
+        get(key, fetcher -> {
+            generatingThread.set(Thread.currentThread());
+            return generate(key);
+        });
+
+        assertThat(generatingThread).hasValue(Thread.currentThread());
+    }
+
+    @Test
+    public void reloadedThingModelOnlyInvalidatesThingDescriptionsGeneratedFromIt() throws Exception {
+        final URL baseModelUrl = new URL("https://models/base.tm.jsonld");
+        final ThingDescriptionCache.Key extendingKey = key("https://models/lamp.tm.jsonld");
+        final ThingDescriptionCache.Key otherKey = key("https://models/sensor.tm.jsonld");
+        final Function<WotThingModelFetcher, ThingDescription> extendingGeneration = fetcher -> {
+            fetcher.fetchThingModel(baseModelUrl, DittoHeaders.empty()).toCompletableFuture().join();
+            return generate(extendingKey);
+        };
+        get(extendingKey, extendingGeneration);
+        get(otherKey, fetcher -> generate(otherKey));
+
+        underTest.invalidateThingDescriptionsOf(baseModelUrl);
+        get(extendingKey, extendingGeneration);
+        get(otherKey, fetcher -> generate(otherKey));
+
+        assertThat(generations.get(extendingKey.thingModelUrl())).hasValue(2);
+        assertThat(generations.get(otherKey.thingModelUrl())).hasValue(1);
+
+        underTest.invalidateThingDescriptionsOf(new URL(otherKey.thingModelUrl()));
+        get(extendingKey, extendingGeneration);
+        get(otherKey, fetcher -> generate(otherKey));
+
+        assertThat(generations.get(extendingKey.thingModelUrl())).hasValue(2);
+        assertThat(generations.get(otherKey.thingModelUrl())).hasValue(2);
+    }
+
+    private ThingDescription get(final ThingDescriptionCache.Key key,
+            final Function<WotThingModelFetcher, ThingDescription> generation) {
+
+        return underTest.get(key, thingModelFetcher, generation);
+    }
+
+    private ThingDescription generate(final ThingDescriptionCache.Key key) {
+        generations.computeIfAbsent(key.thingModelUrl(), url -> new AtomicInteger()).incrementAndGet();
+        return ThingDescription.fromJson(JsonObject.newBuilder().set("title", key.thingModelUrl()).build());
+    }
+
+    private static ThingDescriptionCache.Key key(final String thingModelUrl) throws MalformedURLException {
+        return new ThingDescriptionCache.Key(new URL(thingModelUrl).toString(), THING_ID, null, null);
+    }
+
+}